@@ -0,0 +1,33 @@
+package featureSelection.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry of significance calculation benchmarks, running with {@link GCProfiler} so that the
+ * allocation rate(<code>gc.alloc.rate.norm</code>) is reported along with the throughput.
+ * <p>
+ * JMH command line options are supported, e.g. to run REC benchmarks on 1k rows only:
+ * <pre>
+ * java -cp target/benchmarks.jar featureSelection.benchmark.BenchmarkRunner RoughEquivalenceClass -p rows=1000
+ * </pre>
+ *
+ * @author Benjamin_L
+ */
+public class BenchmarkRunner {
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(commandLineOptions).addProfiler(GCProfiler.class);
+		// Run all benchmarks in this package if none is specified.
+		if (commandLineOptions.getIncludes().isEmpty())
+			builder.include(BenchmarkRunner.class.getPackage().getName()+".*");
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,114 @@
+package featureSelection.benchmark;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionSequentialAlgorithm;
+import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicSequential;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.classic.CCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.classic.LCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.classic.SCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.positiveRegion.classic.PositiveRegionCalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.positiveRegion.classic.PositiveRegionCalculation4ClassicSequential;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Classic reduction: Hash Map based and Sequential.
+ *
+ * @see ClassicAttributeReductionHashMapAlgorithm
+ * @see ClassicAttributeReductionSequentialAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class ClassicBenchmark extends DecisionTableState {
+	private Map<Integer, Collection<Instance>> hashDecEClasses;
+	private Collection<List<Instance>> sequentialDecEClasses;
+
+	@Setup(Level.Trial)
+	public void decisionEquivalenceClasses() {
+		hashDecEClasses = ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+		sequentialDecEClasses = ClassicAttributeReductionSequentialAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+	}
+
+	@Benchmark
+	public void hashPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4ClassicHashMap()
+				.calculate(instances, evaluated(), hashDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void hashDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4ClassicHashMap()
+				.calculate(instances, evaluated(), hashDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void hashShannonConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new SCECalculation4ClassicHashMap()
+				.calculate(instances, evaluated(), hashDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void hashLiangConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new LCECalculation4ClassicHashMap()
+				.calculate(instances, evaluated(), hashDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void hashCombinationConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new CCECalculation4ClassicHashMap()
+				.calculate(instances, evaluated(), hashDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void sequentialPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4ClassicSequential()
+				.calculate(instances, evaluated(), sequentialDecEClasses)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void sequentialDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4ClassicSequential()
+				.calculate(instances, evaluated(), sequentialDecEClasses)
+				.getResult()
+		);
+	}
+}
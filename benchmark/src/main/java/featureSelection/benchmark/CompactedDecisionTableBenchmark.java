@@ -0,0 +1,77 @@
+package featureSelection.benchmark;
+
+import featureSelection.repository.algorithm.alg.compactedDecisionTable.original.CompactedDecisionTableHashAlgorithm;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.compactedTable.InstanceBasedCompactedTableRecord;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.decisionNumber.HashMapDecisionNumber;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.equivalenceClass.EquivalenceClassCompactedTableRecord;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.compactedDecisionTableAlgorithm.CCECalculation4CTOriginalHash;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.compactedDecisionTableAlgorithm.LCECalculation4CTOriginalHash;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.compactedDecisionTableAlgorithm.SCECalculation4CTOriginalHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Compacted Decision Table(CT). Every evaluation
+ * includes partitioning the compacted table by the evaluated attributes.
+ *
+ * @see CompactedDecisionTableHashAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class CompactedDecisionTableBenchmark extends DecisionTableState {
+	private Collection<InstanceBasedCompactedTableRecord<HashMapDecisionNumber>> records;
+
+	@Setup(Level.Trial)
+	public void compactedTable() throws InstantiationException, IllegalAccessException {
+		records = CompactedDecisionTableHashAlgorithm.Basic.instance2CompactedTable(
+					HashMapDecisionNumber.class, instances, conditionalAttributes
+				);
+	}
+
+	private Collection<EquivalenceClassCompactedTableRecord<HashMapDecisionNumber>> equivalenceClasses() {
+		return CompactedDecisionTableHashAlgorithm.Basic.equivalenceClassOfCompactedTable(records, evaluated());
+	}
+
+	@Benchmark
+	public void shannonConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new SCECalculation4CTOriginalHash()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void liangConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new LCECalculation4CTOriginalHash()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void combinationConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new CCECalculation4CTOriginalHash()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+}
@@ -0,0 +1,85 @@
+package featureSelection.benchmark;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Base {@link State} of significance calculation benchmarks: a {@link SyntheticDecisionTable}
+ * configured by JMH {@link Param}s and the attribute subset to be evaluated.
+ * <p>
+ * Benchmark classes extend this class, the table is generated once per trial before their own
+ * {@link Setup}s, so that only the significance calculations are measured.
+ *
+ * @author Benjamin_L
+ */
+@State(Scope.Benchmark)
+public abstract class DecisionTableState {
+	public static final long SEED = 1L;
+
+	@Param({"10000", "100000"})
+	public int rows;
+	@Param({"20"})
+	public int attributes;
+	@Param({"5"})
+	public int cardinality;
+	@Param({"3"})
+	public int decisionValues;
+	@Param({"0.05"})
+	public double inconsistency;
+	/**
+	 * The ratio of leading conditional attributes to be evaluated: |B|/|C|.
+	 */
+	@Param({"0.5"})
+	public double subsetRatio;
+
+	protected List<Instance> instances;
+	protected int insSize;
+	/**
+	 * All conditional attributes: C.
+	 */
+	protected int[] conditionalAttributes;
+	/**
+	 * The attribute subset to be evaluated: B ⊆ C.
+	 */
+	protected int[] evaluatedAttributes;
+
+	@Setup(Level.Trial)
+	public void generateDecisionTable() {
+		SyntheticDecisionTable table =
+				new SyntheticDecisionTable(rows, attributes, cardinality, decisionValues, inconsistency, SEED);
+		instances = table.generate();
+		insSize = instances.size();
+		conditionalAttributes = table.conditionalAttributes();
+		evaluatedAttributes = Arrays.copyOf(
+				conditionalAttributes,
+				Math.max(1, (int) Math.ceil(conditionalAttributes.length * subsetRatio))
+		);
+	}
+
+	/**
+	 * Get a new {@link IntegerArrayIterator} of {@link #evaluatedAttributes}. Iterators are
+	 * stateful, a new one is used for every invocation.
+	 *
+	 * @return {@link IntegerArrayIterator}.
+	 */
+	protected IntegerArrayIterator evaluated() {
+		return new IntegerArrayIterator(evaluatedAttributes);
+	}
+
+	/**
+	 * Get a new {@link IntegerArrayIterator} of {@link #conditionalAttributes}.
+	 *
+	 * @return {@link IntegerArrayIterator}.
+	 */
+	protected IntegerArrayIterator conditional() {
+		return new IntegerArrayIterator(conditionalAttributes);
+	}
+}
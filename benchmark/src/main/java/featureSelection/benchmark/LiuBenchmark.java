@@ -0,0 +1,72 @@
+package featureSelection.benchmark;
+
+import featureSelection.repository.algorithm.alg.quickHash.LiuQuickHashAlgorithm;
+import featureSelection.repository.entity.alg.liuQuickHash.EquivalenceClass;
+import featureSelection.repository.support.calculation.dependency.liuRoughSet.DependencyCalculation4LiuRoughSet;
+import featureSelection.repository.support.calculation.positiveRegion.liuQuickHash.PositiveRegionCalculation4LiuQuickHash;
+import featureSelection.repository.support.calculation.positiveRegion.liuRoughSet.PositiveRegionCalculation4LiuRoughSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Liu's Rough Set reduction and Liu's Quick Hash
+ * reduction.
+ *
+ * @see LiuQuickHashAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class LiuBenchmark extends DecisionTableState {
+	/**
+	 * Equivalence classes of Quick Hash induced by all conditional attributes: U/C.
+	 */
+	private Collection<EquivalenceClass> quickHashEquClasses;
+
+	@Setup(Level.Trial)
+	public void equivalenceClasses() {
+		quickHashEquClasses = LiuQuickHashAlgorithm.equivalenceClass(instances, conditional());
+	}
+
+	@Benchmark
+	public void liuPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4LiuRoughSet()
+				.calculate(instances, evaluated())
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void liuDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4LiuRoughSet()
+				.calculate(instances, evaluated(), insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void quickHashPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4LiuQuickHash()
+				.calculate(quickHashEquClasses, evaluated())
+				.getResult()
+		);
+	}
+}
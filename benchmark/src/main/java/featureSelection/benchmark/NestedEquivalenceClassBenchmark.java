@@ -0,0 +1,91 @@
+package featureSelection.benchmark;
+
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.support.calculation.dependency.roughEquivalentClassBased.DependencyCalculation4RSCNEC;
+import featureSelection.repository.support.calculation.knowledgeGranularity.roughEquivalenceClassBased.KnowledgeGranularityCalculation4NEC;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPNEC;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4RSCNEC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Nested Equivalence Class based reductions(NEC):
+ * Real-time Simple Counting(RSC-NEC), Incremental Partition(IP-NEC) and Knowledge Granularity.
+ *
+ * @see NestedEquivalenceClassBasedAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class NestedEquivalenceClassBenchmark extends DecisionTableState {
+	/**
+	 * Equivalence classes induced by all conditional attributes: U/C.
+	 */
+	private Collection<EquivalenceClass> equClasses;
+
+	@Setup(Level.Trial)
+	public void equivalenceClasses() {
+		equClasses = RoughEquivalenceClassBasedAlgorithm.Basic.equivalenceClass(instances, conditional());
+	}
+
+	@Benchmark
+	public void rscPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4RSCNEC()
+				.calculate(equClasses, evaluated())
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void rscDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4RSCNEC()
+				.calculate(equClasses, evaluated(), insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void ipPositiveRegion(Blackhole blackhole) throws Exception {
+		blackhole.consume(
+			new PositiveRegionCalculation4IPNEC()
+				.calculate(evaluated(), equClasses)
+				.getResult()
+		);
+	}
+
+	/**
+	 * Knowledge granularity of the evaluated attributes, including partitioning <i>U</i> by them.
+	 *
+	 * @param blackhole
+	 * 		{@link Blackhole} to consume the result.
+	 */
+	@Benchmark
+	public void knowledgeGranularity(Blackhole blackhole) {
+		blackhole.consume(
+			new KnowledgeGranularityCalculation4NEC()
+				.calculate4ConditionalAttributes(
+					RoughEquivalenceClassBasedAlgorithm.Basic.equivalenceClass(instances, evaluated()),
+					insSize
+				).getResult()
+		);
+	}
+}
@@ -0,0 +1,66 @@
+package featureSelection.benchmark;
+
+import featureSelection.repository.algorithm.alg.positiveApproximationAccelerator.PositiveApproximationAcceleratorOriginalAlgorithm;
+import featureSelection.repository.entity.alg.positiveApproximationAccelerator.EquivalenceClass;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.positiveApproximationAccelerator.CCECalculation4ACCOriginal;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.positiveApproximationAccelerator.LCECalculation4ACCOriginal;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.positiveApproximationAccelerator.SCECalculation4ACCOriginal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Positive Approximation Accelerator(ACC). Every
+ * evaluation includes partitioning <i>U</i> by the evaluated attributes, as ACC does for every
+ * candidate.
+ *
+ * @see PositiveApproximationAcceleratorOriginalAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class PositiveApproximationAcceleratorBenchmark extends DecisionTableState {
+
+	private Collection<EquivalenceClass> equivalenceClasses() {
+		return PositiveApproximationAcceleratorOriginalAlgorithm.Basic.equivalenceClass(instances, evaluated());
+	}
+
+	@Benchmark
+	public void shannonConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new SCECalculation4ACCOriginal()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void liangConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new LCECalculation4ACCOriginal()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void combinationConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new CCECalculation4ACCOriginal()
+				.calculate(equivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+}
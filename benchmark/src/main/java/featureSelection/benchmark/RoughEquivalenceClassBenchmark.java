@@ -0,0 +1,133 @@
+package featureSelection.benchmark;
+
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedExtensionAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.EquivalenceClassDecMapXtension;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.RoughEquivalenceClassDecMapXtension;
+import featureSelection.repository.support.calculation.dependency.roughEquivalentClassBased.DependencyCalculation4IPREC;
+import featureSelection.repository.support.calculation.dependency.roughEquivalentClassBased.DependencyCalculation4RSCREC;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.roughEquivalentClassBased.extension.IncrementalDecision.CCECalculation4IDREC;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.roughEquivalentClassBased.extension.IncrementalDecision.LCECalculation4IDREC;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.roughEquivalentClassBased.extension.IncrementalDecision.SCECalculation4IDREC;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPREC;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4RSCREC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Significance calculation benchmarks of Rough Equivalence Class based reductions(REC):
+ * Real-time Simple Counting(RSC-REC), Incremental Partition(IP-REC) and Incremental Decision
+ * (ID-REC, entropies).
+ *
+ * @see RoughEquivalenceClassBasedAlgorithm
+ * @see RoughEquivalenceClassBasedExtensionAlgorithm
+ *
+ * @author Benjamin_L
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3)
+@Measurement(iterations=5)
+@Fork(1)
+public class RoughEquivalenceClassBenchmark extends DecisionTableState {
+	/**
+	 * Equivalence classes induced by all conditional attributes: U/C.
+	 */
+	private Collection<EquivalenceClass> equClasses;
+	/**
+	 * Equivalence classes with decision info. induced by all conditional attributes: U/C.
+	 */
+	private Collection<EquivalenceClassDecMapXtension<Double>> decMapEquClasses;
+
+	@Setup(Level.Trial)
+	public void equivalenceClasses() {
+		equClasses = RoughEquivalenceClassBasedAlgorithm.Basic.equivalenceClass(instances, conditional());
+		decMapEquClasses =
+				RoughEquivalenceClassBasedExtensionAlgorithm
+					.IncrementalDecision
+					.Basic
+					.<Double>equivalenceClass(instances, conditional());
+	}
+
+	private Collection<RoughEquivalenceClassDecMapXtension<Double>> decMapRoughEquivalenceClasses() {
+		return RoughEquivalenceClassBasedExtensionAlgorithm
+				.IncrementalDecision
+				.Basic
+				.roughEquivalenceClass(decMapEquClasses, evaluated());
+	}
+
+	@Benchmark
+	public void rscPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4RSCREC()
+				.calculate(equClasses, evaluated())
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void rscDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4RSCREC()
+				.calculate(equClasses, evaluated(), insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void ipPositiveRegion(Blackhole blackhole) {
+		blackhole.consume(
+			new PositiveRegionCalculation4IPREC()
+				.calculate(equClasses, evaluated())
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void ipDependency(Blackhole blackhole) {
+		blackhole.consume(
+			new DependencyCalculation4IPREC()
+				.calculate(equClasses, evaluated(), insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void idShannonConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new SCECalculation4IDREC()
+				.calculate(decMapRoughEquivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void idLiangConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new LCECalculation4IDREC()
+				.calculate(decMapRoughEquivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+
+	@Benchmark
+	public void idCombinationConditionalEntropy(Blackhole blackhole) {
+		blackhole.consume(
+			new CCECalculation4IDREC()
+				.calculate(decMapRoughEquivalenceClasses(), evaluatedAttributes.length, insSize)
+				.getResult()
+		);
+	}
+}
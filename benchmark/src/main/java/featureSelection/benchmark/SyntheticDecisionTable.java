@@ -0,0 +1,118 @@
+package featureSelection.benchmark;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator of synthetic (seeded) decision tables for benchmarks.
+ * <p>
+ * Conditional attribute values are drawn uniformly from [1, <code>cardinality</code>], decision
+ * values are derived from the leading conditional attributes so that the table is consistent
+ * except for the rows made in-consistent on purpose: a <code>inconsistency</code> ratio of rows
+ * copy the conditional values of an earlier row with a different decision value.
+ *
+ * @author Benjamin_L
+ */
+public class SyntheticDecisionTable {
+	/**
+	 * Number of leading conditional attributes the decision values are derived from.
+	 */
+	public static final int DECISION_SOURCE_ATTRIBUTES = 3;
+
+	@Getter private final int rows;
+	@Getter private final int attributes;
+	@Getter private final int cardinality;
+	@Getter private final int decisionValues;
+	@Getter private final double inconsistency;
+	@Getter private final long seed;
+
+	/**
+	 * Construct a generator.
+	 *
+	 * @param rows
+	 * 		The number of {@link Instance}s: |U|.
+	 * @param attributes
+	 * 		The number of conditional attributes: |C|.
+	 * @param cardinality
+	 * 		The number of distinct values of a conditional attribute.
+	 * @param decisionValues
+	 * 		The number of distinct decision values.
+	 * @param inconsistency
+	 * 		The ratio of in-consistent rows, in [0, 1).
+	 * @param seed
+	 * 		The seed of {@link Random}.
+	 */
+	public SyntheticDecisionTable(
+			int rows, int attributes, int cardinality, int decisionValues, double inconsistency,
+			long seed
+	) {
+		if (rows<=0)			throw new IllegalArgumentException("Illegal rows: "+rows);
+		if (attributes<=0)		throw new IllegalArgumentException("Illegal attributes: "+attributes);
+		if (cardinality<=0)		throw new IllegalArgumentException("Illegal cardinality: "+cardinality);
+		if (decisionValues<2)	throw new IllegalArgumentException("Illegal decision values: "+decisionValues);
+		if (inconsistency<0 || inconsistency>=1)
+			throw new IllegalArgumentException("Illegal inconsistency: "+inconsistency);
+		this.rows = rows;
+		this.attributes = attributes;
+		this.cardinality = cardinality;
+		this.decisionValues = decisionValues;
+		this.inconsistency = inconsistency;
+		this.seed = seed;
+	}
+
+	/**
+	 * Generate {@link Instance}s, whose values are in the format of [decision, a1, a2, ..., an].
+	 * The same seed always generates the same values.
+	 *
+	 * @return {@link Instance} {@link List}.
+	 */
+	public List<Instance> generate() {
+		Random random = new Random(seed);
+		int[][] values = new int[rows][];
+		for (int r=0; r<rows; r++) {
+			values[r] = new int[attributes+1];
+			if (r>0 && random.nextDouble()<inconsistency) {
+				// Copy conditional values of an earlier row with a different decision value.
+				int[] copied = values[random.nextInt(r)];
+				System.arraycopy(copied, 1, values[r], 1, attributes);
+				values[r][0] = copied[0] % decisionValues + 1;
+			}else {
+				for (int a=1; a<=attributes; a++)	values[r][a] = random.nextInt(cardinality) + 1;
+				values[r][0] = decisionOf(values[r]);
+			}
+		}
+
+		Instance.resetID();
+		List<Instance> instances = new ArrayList<>(rows);
+		for (int[] value: values)	instances.add(new Instance(value));
+		return instances;
+	}
+
+	/**
+	 * Get all conditional attributes: [1, 2, ..., |C|].
+	 *
+	 * @return int array of attributes.
+	 */
+	public int[] conditionalAttributes() {
+		int[] attributes = new int[this.attributes];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+		return attributes;
+	}
+
+	private int decisionOf(int[] value) {
+		int sum = 0;
+		for (int a=1; a<=Math.min(DECISION_SOURCE_ATTRIBUTES, attributes); a++)	sum += value[a];
+		return sum % decisionValues + 1;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(rows=%d, attributes=%d, cardinality=%d, decisions=%d, inconsistency=%.2f, seed=%d)",
+				getClass().getSimpleName(), rows, attributes, cardinality, decisionValues, inconsistency, seed
+		);
+	}
+}
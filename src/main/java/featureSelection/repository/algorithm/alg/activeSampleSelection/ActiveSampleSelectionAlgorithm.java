@@ -7,6 +7,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.alg.activeSampleSelection.AttrDiscernibilityResult;
 import featureSelection.repository.entity.alg.activeSampleSelection.DiscernIntersectionResult;
+import featureSelection.repository.entity.alg.activeSampleSelection.DiscernibilityBitMatrix;
 import featureSelection.repository.entity.alg.activeSampleSelection.EquivalenceClass;
 import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.SamplePair;
 import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.SamplePairAttributeInfo;
@@ -540,16 +541,8 @@ public class ActiveSampleSelectionAlgorithm {
 		 * "Sample Pair Selection for Attribute Reduction with Rough Set"</a> 
 		 * by Degang Chen, Suyun Zhao, Lei Zhang, Yongping Yang, Xiao Zhang.
 		 * <p>
-		 * First, discernibility matrix is calculated using {@link #attributeDiscernibility(Map,
-		 * int, int[])} to get <code>DIS({a})</code> for every attributes and <code>DIS({A})
-		 * </code> with all sample pairs.
-		 * <p>
-		 * Second, sample pairs are sorted in <code>DIS({A})</code> in an ascending order based on
-		 * the frequency of the sample pairs. {@link SamplePairs#countFrequency(Collection[], int)}
-		 * is called to count the frequency of each sample pairs.
-		 * <p>
-		 * Finally, loop over to select sample pairs and the correspondent discerned attributes as 
-		 * selected sample pair(<code>SELECTION</code>) and minimal elements(<code>M*(A, U)</code>).
+		 * Discernibility matrix is calculated as a {@link DiscernibilityBitMatrix} and searched
+		 * by {@link #aSamplePairSelection(DiscernibilityBitMatrix)}.
 		 * 
 		 * @param instances
 		 * 		{@link Instance} array: <strong>U</strong>
@@ -565,56 +558,7 @@ public class ActiveSampleSelectionAlgorithm {
 				int[] attributes
 		) {
 			// DIS({a}), DIS(A)= discernibility(DT, H)
-			AttrDiscernibilityResult attrDiscernibilityResult = 
-					attributeDiscernibility(equClasses, instances.length, attributes);
-			List<SamplePair> allAttrDiscernibility = 
-					new ArrayList<>(
-						SamplePairs.distinct(
-							attrDiscernibilityResult.getDiscernibilities(), 
-							attrDiscernibilityResult.getSamplePairNumber()
-						)
-					);
-			// Sort (i,j) in DIS(A) in an ascending order.
-			Map<SamplePair, Integer> samplePairSequency = 
-					Collections.unmodifiableMap(
-						SamplePairs.countFrequency(
-							attrDiscernibilityResult.getDiscernibilities(), 
-							attrDiscernibilityResult.getSamplePairNumber()
-						)
-					);
-			Collections.sort(allAttrDiscernibility, (d1, d2) -> {
-				int cmp;
-				cmp = Integer.compare(samplePairSequency.get(d1), samplePairSequency.get(d2));
-				if (cmp!=0)	return cmp;
-				cmp = Integer.compare(d1.getPair()[0].getNum(), d2.getPair()[0].getNum());
-				if (cmp!=0)	return cmp;
-				return Integer.compare(d1.getPair()[1].getNum(), d2.getPair()[1].getNum());
-			});
-			
-			// SELECTION = null, M*(A, U)=null
-			Collection<SamplePair> selection = new LinkedList<>();
-			Collection<Collection<Integer>> attributesOfSelection = new LinkedList<>();
-			// Loop until DIS(A) is null
-			DiscernIntersectionResult discernIntersectionResult;
-			while(!allAttrDiscernibility.isEmpty()) {
-				// get (i[0], j[0]) in DIS(A)
-				// Pair, C(i,j) =  intersection(DIS({a}), (i[0], j[0]))
-				discernIntersectionResult = 
-						Mathematicals.intersectionOfAllDiscernsContainsSamplePair(
-							attrDiscernibilityResult.getDiscernibilityMatrix(),
-							attrDiscernibilityResult.getDiscernibilities(),
-							allAttrDiscernibility.get(0),
-							attributes
-						);
-				// SELECTION.add((i[0], j[0]))
-				selection.add(allAttrDiscernibility.get(0));
-				// M*(A, U) = M*.add(C(i, j))
-				attributesOfSelection.add(discernIntersectionResult.getSelectionAttributes());
-				// DIS(A) = DIS(A)-pair.
-				if (discernIntersectionResult.getIntersection()!=null)
-					allAttrDiscernibility.removeAll(discernIntersectionResult.getIntersection());
-			}
-			return new SamplePairSelectionResult(selection, attributesOfSelection);
+			return aSamplePairSelection(DiscernibilityBitMatrix.of(equClasses, attributes));
 		}
 		/**
 		 * Implementation of finding a sample pair selection by Heuristic search.
@@ -624,21 +568,11 @@ public class ActiveSampleSelectionAlgorithm {
 		 * "Sample Pair Selection for Attribute Reduction with Rough Set"</a> 
 		 * by Degang Chen, Suyun Zhao, Lei Zhang, Yongping Yang, Xiao Zhang.
 		 * <p>
-		 * First, discernibility matrix is calculated using {@link #attributeDiscernibility(Map,
-		 * int, int[])} to get <code>DIS({a})</code> for every attributes and <code>DIS({A})</code>
-		 * with all sample pairs.
-		 * <p>
-		 * Second, sample pairs are sorted in <code>DIS({A})</code> in an ascending order based on
-		 * the frequency of the sample pairs. {@link SamplePairs#countFrequency(Collection[], int)}
-		 * is called to count the frequency of each sample pairs.
-		 * <p>
-		 * Finally, loop over to select sample pairs and the correspondent discerned attributes as 
-		 * selected sample pair(<code>SELECTION</code>) and minimal elements(<code>M*(A, U)</code>).
+		 * Discernibility matrix is calculated as a {@link DiscernibilityBitMatrix} and searched
+		 * by {@link #aSamplePairSelection(DiscernibilityBitMatrix)}.
 		 * 
 		 * @param instances
-		 * 		{@link Instance} {@link List}. <strong>{@link ArrayList}</strong> is recommended
-		 * 		for the using of index in this method which should cost least time in 
-		 * 		{@link #attributeDiscernibility(Map, int, int[])}: <strong>U</strong>
+		 * 		{@link Instance} {@link List}: <strong>U</strong>
 		 * @param equClasses
 		 * 		{@link EquivalenceClass} {@link Map} with equivalence values in {@link IntArrayKey}
 		 * 		as keys: <strong>U/C</strong>
@@ -651,57 +585,59 @@ public class ActiveSampleSelectionAlgorithm {
 				int[] attributes
 		) {
 			// DIS({a}), DIS(A)= discernibility(DT, H)
-			AttrDiscernibilityResult attrDiscernibilityResult = 
-					attributeDiscernibility(equClasses, instances.size(), attributes);
-			List<SamplePair> allAttrDiscernibility = 
-					new ArrayList<>(
-						SamplePairs.distinct(
-							attrDiscernibilityResult.getDiscernibilities(), 
-							attrDiscernibilityResult.getSamplePairNumber()
-						)
-					);
+			return aSamplePairSelection(DiscernibilityBitMatrix.of(equClasses, attributes));
+		}
+		/**
+		 * Implementation of finding a sample pair selection by Heuristic search over a
+		 * {@link DiscernibilityBitMatrix}.
+		 * <p>
+		 * Implementation of <i>Algorithm 2</i> in the paper 
+		 * <a href="https://ieeexplore.ieee.org/document/6308684/">
+		 * "Sample Pair Selection for Attribute Reduction with Rough Set"</a> 
+		 * by Degang Chen, Suyun Zhao, Lei Zhang, Yongping Yang, Xiao Zhang.
+		 * <p>
+		 * First, class pairs are sorted in an ascending order based on the frequency of their
+		 * sample pairs (i.e. the bit count of their masks) and the representative sample pairs.
+		 * All sample pairs of a class pair share the same frequency and are removed from
+		 * <code>DIS(A)</code> together, so the representative one is the only one which can be
+		 * the first of <code>DIS(A)</code>.
+		 * <p>
+		 * Then, loop over to select sample pairs and the correspondent discerned attributes as 
+		 * selected sample pair(<code>SELECTION</code>) and minimal elements(<code>M*(A, U)</code>).
+		 * The intersection of <code>DIS({a})</code> for a in C(i, j) contains exactly the class
+		 * pairs whose masks contain the mask of (i, j), which are removed from <code>DIS(A)</code>
+		 * by a mask test instead of materialising any {@link SamplePair}.
+		 * 
+		 * @param matrix
+		 * 		{@link DiscernibilityBitMatrix} of <strong>U/C</strong>.
+		 * @return {@link SamplePairSelectionResult}.
+		 */
+		public static SamplePairSelectionResult aSamplePairSelection(DiscernibilityBitMatrix matrix) {
 			// Sort (i,j) in DIS(A) in an ascending order.
-			Map<SamplePair, Integer> samplePairFrequency = 
-					Collections.unmodifiableMap(
-						SamplePairs.countFrequency(
-							attrDiscernibilityResult.getDiscernibilities(), 
-							attrDiscernibilityResult.getSamplePairNumber()
-						)
-					);
-			Collections.sort(allAttrDiscernibility, (d1, d2) -> {
-				// Sort base on frequency
-				int cmp;
-				cmp = Integer.compare(samplePairFrequency.get(d1), samplePairFrequency.get(d2));
-				// Sort base on Instance 1 ID.
-				if (cmp!=0)	return cmp;
-				cmp = Integer.compare(d1.getPair()[0].getNum(), d2.getPair()[0].getNum());
-				// Sort base on Instance 2 ID.
-				if (cmp!=0)	return cmp;
-				return Integer.compare(d1.getPair()[1].getNum(), d2.getPair()[1].getNum());
-			});
+			Integer[] sortedPairs = matrix.sortedPairs();
+			boolean[] removed = new boolean[sortedPairs.length];
 			
 			// SELECTION = null, M*(A, U)=null
 			Collection<SamplePair> selection = new LinkedList<>();
 			Collection<Collection<Integer>> attributesOfSelection = new LinkedList<>();
 			// Loop until DIS(A) is null
-			DiscernIntersectionResult discernIntersectionResult;
-			while(!allAttrDiscernibility.isEmpty()) {
+			long[] mask;
+			int[] selectionAttributes;
+			for (int i=0; i<sortedPairs.length; i++) {
+				if (removed[i])	continue;
 				// get (i[0], j[0]) in DIS(A)
-				// Pair, C(i,j) = intersection(DIS({a}), (i[0], j[0]))
-				discernIntersectionResult = 
-						Mathematicals.intersectionOfAllDiscernsContainsSamplePair(
-							attrDiscernibilityResult.getDiscernibilityMatrix(),
-							attrDiscernibilityResult.getDiscernibilities(),
-							allAttrDiscernibility.get(0),
-							attributes
-						);
 				// SELECTION.add((i[0], j[0]))
-				selection.add(allAttrDiscernibility.get(0));
+				selection.add(matrix.representativeOf(sortedPairs[i]));
 				// M*(A, U) = M*.add(C(i, j))
-				attributesOfSelection.add(discernIntersectionResult.getSelectionAttributes());
-				// DIS(A) = DIS(A)-pair.
-				if (discernIntersectionResult.getIntersection()!=null)
-					allAttrDiscernibility.removeAll(discernIntersectionResult.getIntersection());
+				selectionAttributes = matrix.attributesOf(sortedPairs[i]);
+				Collection<Integer> attributeCollection = new ArrayList<>(selectionAttributes.length);
+				for (int attr: selectionAttributes)	attributeCollection.add(attr);
+				attributesOfSelection.add(attributeCollection);
+				// DIS(A) = DIS(A)-pair, pair = intersection(DIS({a}), (i[0], j[0]))
+				mask = matrix.maskOf(sortedPairs[i]);
+				for (int j=i; j<sortedPairs.length; j++) {
+					if (!removed[j] && matrix.containsAll(sortedPairs[j], mask))	removed[j] = true;
+				}
 			}
 			return new SamplePairSelectionResult(selection, attributesOfSelection);
 		}
@@ -724,30 +660,21 @@ public class ActiveSampleSelectionAlgorithm {
 			int[] attributes, Collection<IntArrayKey> minimalElements
 		) {
 			// DIS({a})
-			AttrDiscernibilityResult attrDiscernibilityResult = 
-					attributeDiscernibility(equClasses, instances.size(), attributes);
-			// Get sample pair discern attributes
-			Map<SamplePair, SamplePairAttributeInfo> samplePairAttrInfo = 
-					SamplePairs.collectAttributes(
-							attrDiscernibilityResult.getDiscernibilities(),
-							16,
-							attributes
-					);
+			DiscernibilityBitMatrix matrix = DiscernibilityBitMatrix.of(equClasses, attributes);
 			// Collect family.
 			Map<IntArrayKey, Collection<SamplePair>> family = new HashMap<>();
-			samplePairAttrInfo.entrySet().stream().forEach(entry->{
+			IntArrayKey key;
+			Collection<SamplePair> samplePairs;
+			for (int pair=0; pair<matrix.getPairSize(); pair++) {
 				// key: minimal element
-				IntArrayKey key = new IntArrayKey(
-						entry.getValue().getAttributeIndexes().stream().sorted()
-							.mapToInt(index->attributes[index]).toArray()
-				);
+				key = new IntArrayKey(matrix.attributesOf(pair));
 				// fill correspondent sample pairs
 				if (minimalElements.contains(key)) {
-					Collection<SamplePair> samplePairs = family.get(key);
+					samplePairs = family.get(key);
 					if (samplePairs==null)	family.put(key, samplePairs=new LinkedList<>());
-					samplePairs.add(entry.getKey());
+					samplePairs.addAll(matrix.samplePairsOf(pair));
 				}
-			});
+			}
 			return new SamplePairFamily(family);
 		}
 		
@@ -1006,9 +933,9 @@ public class ActiveSampleSelectionAlgorithm {
 					 * @param attributes
 					 * 		Attributes of {@link Instance}. (Starts from 1): <strong>C</strong>
 					 * @return A Sample Pair Family mark as "<strong>M</strong>" in
-					 * 		<i>algorithm 2</i> in the paper.
+					 * 		<i>algorithm 2</i> in the paper, grouped by discerning attributes.
 					 */
-					private static Map<SamplePair, Collection<Integer>> 
+					private static Map<IntArrayKey, Collection<SamplePair>> 
 						updateFamily4ChangedEquivalentClass(
 							Map<IntArrayKey, Collection<SamplePair>> originalFamily,
 							Instance newInstance, EquivalenceClass equClass,
@@ -1034,12 +961,13 @@ public class ActiveSampleSelectionAlgorithm {
 							}
 						}
 						// Initiate M
-						Map<SamplePair, Collection<Integer>> m = new HashMap<>();
+						Map<IntArrayKey, Collection<SamplePair>> m = new HashMap<>();
 						// Loop over h in equClasses(U/C)
 						//	compute c(x, x[i]) = {a in C, a(x)!=a(x[i])}
 						//	where x[i] in POS<sub>U ∪ {x}</sub>(C, D)
 						IntArrayKey newInstanceKey = 
 							new IntArrayKey(newInstance.getConditionAttributeValues());
+						int words = DiscernibilityBitMatrix.wordsFor(maxOf(attributes)+1);
 						for (EquivalenceClass h: equClasses.values()) {
 							// Skip the Equivalent Class that contains {x}, for its consistency is changed
 							//	into in-consistent in case 3.
@@ -1052,22 +980,9 @@ public class ActiveSampleSelectionAlgorithm {
 							
 							// If h.dec != '/': POS<sub>U ∪ {x}</sub>(C, D)
 							if (h.getDecision()!=null) {
-								// Loop over a in C
-								attributes.reset();
-								for (int i=0; i<attributes.size(); i++) {
-									int attr = attributes.next();
-									// if a(x)!=a(h)
-									if (newInstance.getAttributeValue(attr)!=h.getAttributeValue(attr)) {
-										// Loop x[j] in h
-										for (Instance universe: h.getUniverses()) {
-											// add the sample pair (x, x[j]) and the correspondent attribute a into M.
-											SamplePair samplePair = new SamplePair(newInstance, universe);
-											Collection<Integer> discernAttributes = m.get(samplePair);
-											if (discernAttributes==null)	m.put(samplePair, discernAttributes=new HashSet<>(attributes.size()-i));
-											discernAttributes.add(attr);
-										}
-									}
-								}
+								// add the sample pairs (x, x[j]) for x[j] in h and the correspondent
+								//	attributes into M.
+								addDiscernibleSamplePairs(m, newInstance, h, attributes, words);
 							}
 						}
 						return m;
@@ -1089,38 +1004,78 @@ public class ActiveSampleSelectionAlgorithm {
 					 * @param attributes
 					 * 		Attributes of {@link Instance}. (Starts from 1): <strong>C</strong>
 					 * @return A Sample Pair Family mark as "<strong>M</strong>" in <i>algorithm
-					 * 		4.2</i> in the paper.
+					 * 		4.2</i> in the paper, grouped by discerning attributes.
 					 */
-					private static Map<SamplePair, Collection<Integer>> 
+					private static Map<IntArrayKey, Collection<SamplePair>> 
 						updateFamily4NewlyEquivalentClass(
 							Instance newInstance, Map<IntArrayKey, EquivalenceClass> equClasses,
 							IntegerIterator attributes
 					){
 						// Initiate M
-						Map<SamplePair, Collection<Integer>> m = new HashMap<>();
+						Map<IntArrayKey, Collection<SamplePair>> m = new HashMap<>();
 						// Create an h and add into U/C.
-						// calculate w2.
-						Collection<Instance> w2 =
-							Incremental
-								.w2(newInstance, equClasses);
-						// Loop over x[i] in w2
-						for (Instance ins: w2) {
-							// Loop over a in C
-							attributes.reset();
-							for (int i=0; i<attributes.size(); i++) {
-								int attr = attributes.next();
-								// if a(x[i]) != a(x)
-								if (ins.getAttributeValue(attr)!=newInstance.getAttributeValue(attr)) {
-									// M = M U c(|U|+1, i)=a
-									SamplePair samplePair = new SamplePair(ins, newInstance);
-									Collection<Integer> discernAttributes = m.get(samplePair);
-									if (discernAttributes==null)	m.put(samplePair, discernAttributes = new HashSet<>(attributes.size()-i));
-									discernAttributes.add(attr); 
-								}
+						int words = DiscernibilityBitMatrix.wordsFor(maxOf(attributes)+1);
+						// Loop over h in U/C with x[i] in w2, i.e. Incremental.w2(x, U/C).
+						for (EquivalenceClass h: equClasses.values()) {
+							// if h.dec=='/' or h.dec!='/' && D(x) != h.dec
+							if (h.getDecision()==null || 
+								h.getDecision()!=newInstance.getAttributeValue(0)
+							) {
+								// M = M U c(|U|+1, i) for x[i] in h
+								addDiscernibleSamplePairs(m, newInstance, h, attributes, words);
 							}
 						}
 						return m;
 					}
+					
+					/**
+					 * Add sample pairs (x, x[j]) for all x[j] in <code>h</code> into <code>m</code>
+					 * with c(x, x[j]) = {a in C, a(x)!=a(x[j])} as key.
+					 * <p>
+					 * All {@link Instance}s in <code>h</code> share the same condition attribute
+					 * values, so c(x, x[j]) is calculated only once for <code>h</code> as a bitmask
+					 * of attributes instead of a set of attributes for every sample pair.
+					 * 
+					 * @param m
+					 * 		A Sample Pair Family grouped by discerning attributes: <strong>M</strong>
+					 * @param newInstance
+					 * 		The new {@link Instance} added: <strong>x</strong>
+					 * @param h
+					 * 		An {@link EquivalenceClass} in <strong>U/C</strong>.
+					 * @param attributes
+					 * 		Attributes of {@link Instance}. (Starts from 1): <strong>C</strong>
+					 * @param words
+					 * 		The number of <code>long</code>s of an attribute mask.
+					 */
+					private static void addDiscernibleSamplePairs(
+							Map<IntArrayKey, Collection<SamplePair>> m,
+							Instance newInstance, EquivalenceClass h, IntegerIterator attributes,
+							int words
+					) {
+						long[] mask = new long[words];
+						// Loop over a in C
+						attributes.reset();
+						for (int i=0; i<attributes.size(); i++) {
+							int attr = attributes.next();
+							// if a(x)!=a(h)
+							if (newInstance.getAttributeValue(attr)!=h.getAttributeValue(attr))
+								mask[attr >>> 6] |= 1L << attr;
+						}
+						if (DiscernibilityBitMatrix.cardinality(mask)==0)	return;
+						// key: sorted c(x, x[j])
+						IntArrayKey key = new IntArrayKey(DiscernibilityBitMatrix.bitsOf(mask));
+						Collection<SamplePair> samplePairs = m.get(key);
+						if (samplePairs==null)	m.put(key, samplePairs=new LinkedList<>());
+						for (Instance universe: h.getUniverses())
+							samplePairs.add(new SamplePair(newInstance, universe));
+					}
+					
+					private static int maxOf(IntegerIterator attributes) {
+						int max = 0;
+						attributes.reset();
+						for (int i=0; i<attributes.size(); i++)	max = Math.max(max, attributes.next());
+						return max;
+					}
 				}
 				
 				/**
@@ -1132,67 +1087,72 @@ public class ActiveSampleSelectionAlgorithm {
 				 * 	<li>3. Update <i>M**</i> and <i>KP**</i>, delete elements in <code>m</code>
 				 * 			(<i>M</i>)</li>
 				 * </ul>
+				 * Elements are visited in an ascending order of |c(x, x[i])| and containment is
+				 * tested on attribute bitmasks.
 				 * 
 				 * @param m
-				 * 		A Sample Pair Family in {@link Map}: <strong>M</strong>
+				 * 		A Sample Pair Family grouped by discerning attributes in {@link Map}:
+				 * 		<strong>M</strong>
 				 * @return A Sample Pair Family marked as "<strong>M**</strong>" & "<strong>KP**
 				 * 		</strong>"in the paper.
 				 */
 				private static Map<IntArrayKey, Collection<SamplePair>> 
 					transformMinimalElementsFromPreviousToNew(
-							Map<SamplePair, Collection<Integer>> m
+							Map<IntArrayKey, Collection<SamplePair>> m
 				) {
-					Map<IntArrayKey, Collection<SamplePair>> mTransformed = new HashMap<>();
-					m.entrySet().forEach(entry->{
-						IntArrayKey key = new IntArrayKey(
-								entry.getValue().stream().sorted().mapToInt(v->v).toArray()
-						);
-						Collection<SamplePair> samplePairs = mTransformed.get(key);
-						if (samplePairs==null)	mTransformed.put(key, samplePairs=new LinkedList<>());
-						samplePairs.add(entry.getKey());
-					});
+					@SuppressWarnings("unchecked")
+					Entry<IntArrayKey, Collection<SamplePair>>[] entries =
+							m.entrySet().toArray(new Entry[m.size()]);
+					Arrays.sort(entries, (entry1, entry2)->entry1.getKey().getKey().length-entry2.getKey().getKey().length);
+					long[][] masks = masksOf(entries);
+					boolean[] removed = new boolean[entries.length];
 					// M**=null, KP**=null
 					Map<IntArrayKey, Collection<SamplePair>> familyPlusPlus = new HashMap<>();
 					// while(M!=null)
-					Collection<SamplePair> samplePairs;
-					while (!mTransformed.isEmpty()) {
+					for (int i=0; i<entries.length; i++) {
+						if (removed[i])	continue;
 						// c(x, x[i[0]]) = min{|c(x, x[i])|: c(x, x[i]) in M}
-						Entry<IntArrayKey, Collection<SamplePair>> minEntry =
-								mTransformed.entrySet().stream()
-											.min((entry1, entry2)->entry1.getKey().getKey().length-entry2.getKey().getKey().length)
-											.get();
 						// M** = M** U c(x, x[i[0]]), p** = (x, x[i[0]])
-						samplePairs = familyPlusPlus.get(minEntry.getKey());
-						if (samplePairs==null)	familyPlusPlus.put(minEntry.getKey(), samplePairs=new LinkedList<>());
+						//	p** = p** U {(x, x[i])} if c(x, x[i[0]]) == c(x, x[i])
+						familyPlusPlus.put(entries[i].getKey(), new LinkedList<>(entries[i].getValue()));
 						// Loop over c(x, x[i]) in M
-						Entry<IntArrayKey, Collection<SamplePair>> mEntry;
-						Iterator<Entry<IntArrayKey, Collection<SamplePair>>> mEntryIterator = mTransformed.entrySet().iterator();
-						while (mEntryIterator.hasNext()) {
-							mEntry = mEntryIterator.next();
+						for (int j=i; j<entries.length; j++) {
 							// if c(x, x[i[0]]) all in c(x, x[i])
-							boolean fit = mEntry==minEntry;
-							if (!fit) {
-								final Collection<Integer> mEntryKeySet = 
-										Arrays.stream(mEntry.getKey().getKey())
-												.boxed()
-												.collect(Collectors.toSet());
-								fit = Arrays.stream(minEntry.getKey().key())
-											.allMatch(c->mEntryKeySet.contains(c));
-							}
-							if (fit) {
-								// if c(x, x[i[0]]) == c(x, x[i])
-								if (minEntry==mEntry) {
-									// p** = p** U {(x, x[i])}
-									samplePairs.addAll(mEntry.getValue());
-								}
-								// c(x, x[i]) = null
-								mEntryIterator.remove();
-							}
+							//	c(x, x[i]) = null
+							if (!removed[j] && DiscernibilityBitMatrix.containsAll(masks[j], masks[i]))
+								removed[j] = true;
 						}
 					}
 					return familyPlusPlus;
 				}
 				
+				/**
+				 * Transform minimal elements of the given entries into attribute bitmasks with the
+				 * same length.
+				 * 
+				 * @param entries
+				 * 		Entries of Sample Pair Families.
+				 * @return attribute masks.
+				 */
+				@SafeVarargs
+				private static long[][] masksOf(Entry<IntArrayKey, Collection<SamplePair>>[]...entries) {
+					int max = 0;
+					for (Entry<IntArrayKey, Collection<SamplePair>>[] array: entries) {
+						for (Entry<IntArrayKey, Collection<SamplePair>> entry: array) {
+							for (int attr: entry.getKey().getKey())	max = Math.max(max, attr);
+						}
+					}
+					int words = DiscernibilityBitMatrix.wordsFor(max+1), size = 0;
+					for (Entry<IntArrayKey, Collection<SamplePair>>[] array: entries)	size += array.length;
+					long[][] masks = new long[size][];
+					int i = 0;
+					for (Entry<IntArrayKey, Collection<SamplePair>>[] array: entries) {
+						for (Entry<IntArrayKey, Collection<SamplePair>> entry: array)
+							masks[i++] = DiscernibilityBitMatrix.maskOf(entry.getKey().getKey(), words);
+					}
+					return masks;
+				}
+				
 				private static Map<IntArrayKey, Collection<SamplePair>>
 					finalizeUpdatedMinimalElements(
 						Map<IntArrayKey, Collection<SamplePair>> originalFaimly,		// M*
@@ -1203,28 +1163,31 @@ public class ActiveSampleSelectionAlgorithm {
 					Map<IntArrayKey, Collection<SamplePair>> updatedFamily = 
 						Incremental
 							.combineSamplePairFamilies(originalFaimly, family4NewInstance);
+					@SuppressWarnings("unchecked")
+					Entry<IntArrayKey, Collection<SamplePair>>[]
+						entriesPlusPlus = family4NewInstance.entrySet().toArray(new Entry[family4NewInstance.size()]),
+						entries = originalFaimly.entrySet().toArray(new Entry[originalFaimly.size()]);
+					long[][] masks = masksOf(entriesPlusPlus, entries);
+					long[] mePlusPlus, me;
+					int mePlusPlusSize, meSize;
 					// Loop over c[i]** in M**
-					for (IntArrayKey minimalElePlusPlus: family4NewInstance.keySet()) {
-						Collection<Integer> mePlusPlus = 
-								Arrays.stream(minimalElePlusPlus.getKey())
-										.boxed()
-										.collect(Collectors.toSet());
+					for (int i=0; i<entriesPlusPlus.length; i++) {
+						mePlusPlus = masks[i];
+						mePlusPlusSize = entriesPlusPlus[i].getKey().getKey().length;
 						//	Loop over c[j] in M*
-						for (IntArrayKey minimalEle: originalFaimly.keySet()) {
-							Collection<Integer> me = 
-								Arrays.stream(minimalEle.getKey())
-										.boxed()
-										.collect(Collectors.toSet());
+						for (int j=0; j<entries.length; j++) {
+							me = masks[entriesPlusPlus.length+j];
+							meSize = entries[j].getKey().getKey().length;
 							// if c[i]** all in c[j]
-							if (me.size()>mePlusPlus.size() && me.containsAll(mePlusPlus)) {
+							if (meSize>mePlusPlusSize && DiscernibilityBitMatrix.containsAll(me, mePlusPlus)) {
 								// ME' = ME' - c[j] and KP' = KP' - p[j].
-								updatedFamily.remove(minimalEle);
+								updatedFamily.remove(entries[j].getKey());
 								continue;
 							}
 							// if c[j] all in c[i]**
-							if (mePlusPlus.size()>me.size() && mePlusPlus.containsAll(me)) {
+							if (mePlusPlusSize>meSize && DiscernibilityBitMatrix.containsAll(mePlusPlus, me)) {
 								// ME' = ME' - c[i]** and KP' = KP' - p[i]**.
-								updatedFamily.remove(minimalElePlusPlus);
+								updatedFamily.remove(entriesPlusPlus[i].getKey());
 								continue;
 							}
 							// if c[j] == c[i]**
@@ -1269,7 +1232,7 @@ public class ActiveSampleSelectionAlgorithm {
 						SamplePairs
 							.copySamplePairFamilyMap(samplePairFamily);//*/
 					// Load M
-					Map<SamplePair, Collection<Integer>> m = null;
+					Map<IntArrayKey, Collection<SamplePair>> m = null;
 					//	Search [x]c-{x'} in U/C
 					IntArrayKey equClassKey = new IntArrayKey(
 							newInstance.getConditionAttributeValues()
@@ -9,6 +9,9 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.alg.ClassicStrategy;
 import featureSelection.basic.support.searchStrategy.HashSearchStrategy;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.entity.universe.RefinablePartition;
+import featureSelection.repository.entity.universe.RowPartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
 
 import java.util.Collection;
@@ -65,6 +68,36 @@ public class ClassicAttributeReductionHashMapAlgorithm
 			return equivalenceClasses;
 		}
 
+		/**
+		 * Calculate the Equivalence Classes by the given attributes over a columnar
+		 * {@link DecisionTable}: U/B
+		 * <p>
+		 * Rows are partitioned directly from columns, no {@link Instance} or key is created
+		 * per row. An {@link IntArrayKey} is created only once per equivalence class.
+		 *
+		 * @param table
+		 * 		A {@link DecisionTable}.
+		 * @param attributes
+		 * 		Attributes of rows. (starts from 1, 0 as the decision attribute)
+		 * @return A {@link Map} of Equivalence Classes with row indexes in <code>int[]</code>.
+		 */
+		public static Map<IntArrayKey, int[]> equivalenceClass(
+				DecisionTable table, IntegerIterator attributes
+		){
+			int[] attributeArray = DecisionTable.toArray(attributes);
+			RowPartition partition = table.partition(attributeArray);
+			int[][] blocks = partition.blocks();
+			int[] representatives = partition.getRepresentatives();
+			Map<IntArrayKey, int[]> equivalenceClasses = new HashMap<>(partition.getClassSize());
+			for (int i=0; i<blocks.length; i++) {
+				equivalenceClasses.put(
+						new IntArrayKey(table.valuesOf(representatives[i], attributeArray)),
+						blocks[i]
+				);
+			}
+			return equivalenceClasses;
+		}
+
 
 		/**
 		 * Calculate the Equivalence Classes induced by Decision Attribute: U/D
@@ -96,6 +129,25 @@ public class ClassicAttributeReductionHashMapAlgorithm
 			return equivalenceClass;
 		}
 
+		/**
+		 * Calculate the Equivalence Classes induced by Decision Attribute over a columnar
+		 * {@link DecisionTable}: U/D
+		 *
+		 * @param table
+		 * 		A {@link DecisionTable}.
+		 * @return A {@link Map} of Equivalence Classes with row indexes in <code>int[]</code>.
+		 */
+		public static Map<Integer, int[]> equivalenceClassOfDecisionAttribute(DecisionTable table){
+			RowPartition partition = table.partition(0);
+			int[][] blocks = partition.blocks();
+			int[] representatives = partition.getRepresentatives();
+			Map<Integer, int[]> equivalenceClass = new HashMap<>(partition.getClassSize());
+			for (int i=0; i<blocks.length; i++) {
+				equivalenceClass.put(table.getDecisionValue(representatives[i]), blocks[i]);
+			}
+			return equivalenceClass;
+		}
+
 
 		/**
 		 * Check if all {@link Instance}s are in the same decision equivalent class.
@@ -120,6 +172,57 @@ public class ClassicAttributeReductionHashMapAlgorithm
 		}
 
 
+		/**
+		 * Get the size of the positive region: |POS<sub>B</sub>(D)|, abandoned as soon as it can
+		 * no longer reach the given <code>bound</code>.
+		 * <p>
+		 * {@link Instance}s are hashed into equivalence classes in one pass with the decision value
+		 * of each class tracked. Once a class is found with a second decision value, all its
+		 * {@link Instance}s(and the following ones) are counted as boundary, and the calculation
+		 * stops once <code>|U| - boundary &lt; bound</code>.
+		 *
+		 * @param instances
+		 * 		A {@link Collection} of {@link Instance}.
+		 * @param attributes
+		 * 		Attributes of {@link Instance}. (starts from 1, 0 as the decision attribute)
+		 * @param bound
+		 * 		The lower bound of |POS<sub>B</sub>(D)| to be reached, e.g. the best so far.
+		 * @return |POS<sub>B</sub>(D)| if it reaches <code>bound</code>, otherwise
+		 * 		<code>-(upper+1)</code>(always negative) where <code>upper &lt; bound</code> is the
+		 * 		upper bound of |POS<sub>B</sub>(D)| when abandoned.
+		 */
+		public static int positiveRegion(
+				Collection<Instance> instances, IntegerIterator attributes, int bound
+		) {
+			int rowSize = instances.size(), boundary = 0, decision;
+			if (attributes.size()==0)	return bound<=0? 0: -1;
+			if (rowSize<bound)			return -(rowSize+1);
+			// key -> {decision value, size}, size as -1 if inconsistent.
+			Map<IntArrayKey, int[]> equivalenceClasses = new HashMap<>(rowSize);
+			int[] equivalenceClass;
+			IntArrayKey key;
+			for (Instance ins: instances) {
+				key = new IntArrayKey(Instance.attributeValuesOf(ins, attributes));
+				decision = ins.getAttributeValue(0);
+				equivalenceClass = equivalenceClasses.get(key);
+				if (equivalenceClass==null) {
+					equivalenceClasses.put(key, new int[] {decision, 1});
+					continue;
+				}else if (equivalenceClass[1]==-1) {
+					boundary++;
+				}else if (equivalenceClass[0]!=decision) {
+					boundary += equivalenceClass[1]+1;
+					equivalenceClass[1] = -1;
+				}else {
+					equivalenceClass[1]++;
+					continue;
+				}
+				if (rowSize-boundary<bound)	return -(rowSize-boundary+1);
+			}
+			return rowSize-boundary;
+		}
+
+
 		/**
 		 * Get the intersection of two {@link Instance} {@link Collection}s.
 		 *
@@ -258,6 +361,10 @@ public class ClassicAttributeReductionHashMapAlgorithm
 
 	/**
 	 * Get the most significant attribute.
+	 * <p>
+	 * Once a candidate is found, the rest are calculated by
+	 * {@link ClassicHashMapCalculation#calculateBounded(Collection, IntegerIterator, Map, Number)}
+	 * with the max significance so far as the bound, and skipped if abandoned below it.
 	 *
 	 * @param <Sig>
 	 * 		{@link Number} implemented type as the value of Significance.
@@ -290,8 +397,72 @@ public class ClassicAttributeReductionHashMapAlgorithm
 		for (int attr : attributes) {
 			if (!red.contains(attr)) {
 				attribute[attribute.length-1] = attr;
-				subSig = calculation.calculate(instances, new IntegerArrayIterator(attribute), decClasses)
-									.getResult();
+				// Candidates can not be better than max if below it: early-abandon.
+				if (sigAttr==-1) {
+					subSig = calculation.calculate(instances, new IntegerArrayIterator(attribute), decClasses)
+										.getResult();
+				}else {
+					subSig = calculation.calculateBounded(instances, new IntegerArrayIterator(attribute), decClasses, max)
+										.getResult();
+					if (calculation.isBelowBound())	continue;
+				}
+				if (calculation.value1IsBetter(subSig, max, sigDeviation) || sigAttr==-1) {
+					max = subSig;
+					sigAttr = attr;
+				}
+			}
+		}
+		return sigAttr;
+	}
+
+	/**
+	 * Get the most significant attribute based on U/red in a {@link RefinablePartition}.
+	 * <p>
+	 * Significance of red ∪ {a} is calculated on U/(red ∪ {a}) refined from
+	 * <code>redPartition</code> by {@link RefinablePartition#refine(int)}, instead of
+	 * partitioning U on all attributes of red ∪ {a}.
+	 * <p>
+	 * Once a candidate is found, the rest are calculated by
+	 * {@link ClassicHashMapCalculation#calculateBounded(RefinablePartition, Map, Number)}
+	 * with the max significance so far as the bound, and skipped if abandoned below it.
+	 *
+	 * @param <Sig>
+	 * 		{@link Number} implemented type as the value of Significance.
+	 * @param calculation
+	 * 		Implemented {@link ClassicHashMapCalculation} instance.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct attributes: <strong>U/red</strong>
+	 * @param decClasses
+	 * 		A {@link Collection} of {@link Instance} {@link List} as decision attribute equivalent
+	 * 		classes.
+	 * @param red
+	 * 		Reduct attributes.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1)
+	 * @return A <code>int</code> value as the most significant attribute's index.
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			ClassicHashMapCalculation<Sig> calculation, Sig sigDeviation,
+			RefinablePartition redPartition, Map<Integer, Collection<Instance>> decClasses,
+			Collection<Integer> red, int[] attributes
+	){
+		int sigAttr = -1;
+		Sig subSig, max = null;
+		// Loop over potential attributes
+		for (int attr : attributes) {
+			if (!red.contains(attr)) {
+				// Candidates can not be better than max if below it: early-abandon.
+				if (sigAttr==-1) {
+					subSig = calculation.calculate(redPartition.refine(attr), decClasses)
+										.getResult();
+				}else {
+					subSig = calculation.calculateBounded(redPartition.refine(attr), decClasses, max)
+										.getResult();
+					if (calculation.isBelowBound())	continue;
+				}
 				if (calculation.value1IsBetter(subSig, max, sigDeviation) || sigAttr==-1) {
 					max = subSig;
 					sigAttr = attr;
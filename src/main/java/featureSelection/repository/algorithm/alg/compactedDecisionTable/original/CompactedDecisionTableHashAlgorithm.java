@@ -1,5 +1,6 @@
 package featureSelection.repository.algorithm.alg.compactedDecisionTable.original;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -15,8 +16,10 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.MostSignificantAttributeResult;
 import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.compactedTable.InstanceBasedCompactedTableRecord;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.decisionNumber.ArrayDecisionNumber;
 import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.equivalenceClass.EquivalenceClassCompactedTableRecord;
 import featureSelection.repository.entity.alg.compactedDecisionTable.interf.DecisionNumber;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.CompactedDecisionTableCalculation;
 
 /**
@@ -69,6 +72,8 @@ public class CompactedDecisionTableHashAlgorithm {
 		 * 		if it is consistent.
 		 */
 		public static int checkConsistency(DecisionNumber decNum) {
+			if (decNum instanceof ArrayDecisionNumber)
+				return ((ArrayDecisionNumber) decNum).consistentNumber();
 			// nonZero = 0
 			boolean nonZero = false;
 			// dsize = 0
@@ -95,6 +100,9 @@ public class CompactedDecisionTableHashAlgorithm {
 		/**
 		 * Generate a compacted table of <code>instances</code> induced by the given
 		 * <code>attributes</code>.
+		 * <p>
+		 * For {@link ArrayDecisionNumber}, decision values are dictionary encoded once for all
+		 * records.
 		 * 
 		 * @param <DN>
 		 * 		Type of implemented {@link DecisionNumber} as Decision Number Info.
@@ -110,6 +118,7 @@ public class CompactedDecisionTableHashAlgorithm {
 		 * @throws InstantiationException if exceptions occur when creating instance of
 		 * 		{@link DecisionNumber}.
 		 */
+		@SuppressWarnings("unchecked")
 		public static <DN extends DecisionNumber> Collection<InstanceBasedCompactedTableRecord<DN>>
 			instance2CompactedTable(
 					Class<DN> decNumInfo, Collection<Instance> instances, int...attributes
@@ -123,6 +132,9 @@ public class CompactedDecisionTableHashAlgorithm {
 			DN decisionNumbers;
 			InstanceBasedCompactedTableRecord<DN> tableRecord;
 			IntegerArrayIterator attributesIterator = new IntegerArrayIterator((attributes));
+			ArrayDecisionNumber.Dictionary dictionary =
+					ArrayDecisionNumber.class.equals(decNumInfo)?
+						ArrayDecisionNumber.Dictionary.of(instances): null;
 			for (Instance ins : instances) {
 				// Generate key
 				value = Instance.attributeValuesOf(ins, attributesIterator);
@@ -132,7 +144,9 @@ public class CompactedDecisionTableHashAlgorithm {
 				dValue = ins.getAttributeValue(0);
 				if (tableRecord==null) {
 					// if compacted table doesn't contain key, create one
-					decisionNumbers = decNumInfo.newInstance();
+					decisionNumbers = dictionary!=null?
+										(DN) new ArrayDecisionNumber(dictionary):
+										decNumInfo.newInstance();
 					decisionNumbers.setDecisionNumber(dValue, 1);
 					compactedTable.put(key, new InstanceBasedCompactedTableRecord<>(ins, decisionNumbers));
 				}else {
@@ -189,6 +203,18 @@ public class CompactedDecisionTableHashAlgorithm {
 				EquivalenceClassCompactedTableRecord<DN> mainDecisionInfo,
 				InstanceBasedCompactedTableRecord<DN> toBeMergedRecord
 		){
+			if (mainDecisionInfo.getDecisionNumbers() instanceof ArrayDecisionNumber &&
+				toBeMergedRecord.getDecisionNumbers() instanceof ArrayDecisionNumber &&
+				((ArrayDecisionNumber) mainDecisionInfo.getDecisionNumbers()).getDictionary()==
+					((ArrayDecisionNumber) toBeMergedRecord.getDecisionNumbers()).getDictionary()
+			) {
+				// Merge numbers word by word.
+				((ArrayDecisionNumber) mainDecisionInfo.getDecisionNumbers())
+					.plus((ArrayDecisionNumber) toBeMergedRecord.getDecisionNumbers());
+				mainDecisionInfo.getEquivalenceRecords()
+								.add(toBeMergedRecord);
+				return;
+			}
 			Integer number, key;
 			// Loop over toBeMergedValues and merge into mainDecisionInfo.
 			IntegerIterator toBeMergedValues =
@@ -416,6 +442,115 @@ public class CompactedDecisionTableHashAlgorithm {
 		return new MostSignificantAttributeResult<Sig, DN>(maxSig, maxSigAttr, sigEquClassTable);
 	}
 
+	/**
+	 * Get the most significant attribute in {@link Instance} attributes beside red, with
+	 * significances of candidate attributes calculated in parallel by the given
+	 * {@link ParallelFitnessEvaluator}.
+	 * <p>
+	 * Significances are collected in the order of <code>attributes</code> and compared in the
+	 * calling thread the same way as
+	 * {@link #mostSignificantAttribute(Collection, int, CompactedDecisionTableCalculation, Number,
+	 * Collection, IntegerIterator)}, so the result is identical to the sequential one. Only the
+	 * compacted table of the selected attribute is kept, by inducing once more after the scan.
+	 * 
+	 * @param <Sig>
+	 * 		{@link Number} implemented type as the value of Significance.
+	 * @param <DN>
+	 * 		Type of implemented {@link DecisionNumber} as Decision Number Info.
+	 * @param tableRecords
+	 * 		An {@link InstanceBasedCompactedTableRecord} {@link Collection}.
+	 * @param insSize
+	 * 		The number of {@link Instance}s in the original decision table.
+	 * @param calculation
+	 * 		The main {@link CompactedDecisionTableCalculation} instance, into which calculation
+	 * 		counts of thread-confined copies are added.
+	 * @param evaluator
+	 * 		{@link ParallelFitnessEvaluator} with thread-confined
+	 * 		{@link CompactedDecisionTableCalculation}s.
+	 * @param deviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @param red
+	 * 		Current reduction.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}.
+	 * @return An int value as the most significant attribute.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Sig extends Number, DN extends DecisionNumber> MostSignificantAttributeResult<Sig, DN>
+		mostSignificantAttribute(
+				Collection<EquivalenceClassCompactedTableRecord<DN>> tableRecords, int insSize,
+				CompactedDecisionTableCalculation<Sig> calculation,
+				ParallelFitnessEvaluator<CompactedDecisionTableCalculation<Sig>> evaluator,
+				Sig deviation, Collection<Integer> red, IntegerIterator attributes
+	) {
+		// Loop over all attributes in C-red, i.e. attributes not in reduct.
+		int attr;
+		int[] candidates = new int[attributes.size()];
+		int candidateSize = 0;
+		attributes.reset();
+		while (attributes.hasNext()) {
+			attr = attributes.next();
+			if (!red.contains(attr))	candidates[candidateSize++] = attr;
+		}
+		if (candidateSize==0)	return new MostSignificantAttributeResult<Sig, DN>(null, -1, null);
+		int[] examAttributes = new int[red.size()+1];
+		int i=0;	for (int r: red)	examAttributes[i++] = r;
+		// Call sig() to calculate Sig(red U {a}) of candidates in parallel to get a.outerSig
+		Number[] sigs = evaluator.evaluate(calculation, new Number[candidateSize], (cal, c)->{
+			int[] examine = Arrays.copyOf(examAttributes, examAttributes.length);
+			examine[examine.length-1] = candidates[c];
+			Collection<EquivalenceClassCompactedTableRecord<DN>> equClassTable =
+					equivalenceClassTableOf(tableRecords, examine);
+			return cal.calculate(equClassTable, examine.length, insSize).getResult();
+		});
+		// sig=0; a*=0
+		Sig maxSig = null, sig;
+		int maxSigAttr = -1;
+		for (int c=0; c<candidateSize; c++) {
+			sig = (Sig) sigs[c];
+			// if a.outerSig > sig
+			//	update the most significant attribute.
+			if (maxSig==null || calculation.value1IsBetter(sig, maxSig, deviation)) {
+				maxSig = sig;
+				maxSigAttr = candidates[c];
+			}
+		}
+		// compactedTable(CT, red U {a*})
+		examAttributes[examAttributes.length-1] = maxSigAttr;
+		return new MostSignificantAttributeResult<Sig, DN>(
+				maxSig, maxSigAttr, equivalenceClassTableOf(tableRecords, examAttributes)
+			);
+	}
+	
+	/**
+	 * Use the given attributes to induce instances: compactedTable(CT, attributes).
+	 * 
+	 * @param <DN>
+	 * 		Type of implemented {@link DecisionNumber} as Decision Number Info.
+	 * @param tableRecords
+	 * 		An {@link EquivalenceClassCompactedTableRecord} {@link Collection}.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}.
+	 * @return An {@link EquivalenceClassCompactedTableRecord} {@link Collection}.
+	 */
+	private static <DN extends DecisionNumber> Collection<EquivalenceClassCompactedTableRecord<DN>>
+		equivalenceClassTableOf(
+				Collection<EquivalenceClassCompactedTableRecord<DN>> tableRecords, int[] attributes
+	) {
+		Collection<EquivalenceClassCompactedTableRecord<DN>> equClassTable = new HashSet<>();
+		IntegerArrayIterator examAttrIterator = new IntegerArrayIterator(attributes);
+		for (EquivalenceClassCompactedTableRecord<DN> equRecords: tableRecords) {
+			equClassTable.addAll(
+				Basic.equivalenceClassOfCompactedTable(
+						equRecords.getEquivalenceRecords(),
+						examAttrIterator.reset()
+				)
+			);
+		}
+		return equClassTable;
+	}
+
 	/**
 	 * Inspect the given reduct and remove redundant ones.
 	 * 
@@ -8,6 +8,7 @@ import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.alg.dependencyCalculation.DirectDependencyCalculationStrategy;
 import featureSelection.basic.support.searchStrategy.HashSearchStrategy;
 import featureSelection.basic.support.searchStrategy.SequentialSearchStrategy;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.directDependencyCalculation.FeatureImportance4DirectDependencyCalculation;
 import featureSelection.repository.support.calculation.positiveRegion.dependencyCalculation.directDependencyCalculation.PositiveRegion4DDCHash;
 import featureSelection.repository.support.calculation.positiveRegion.dependencyCalculation.directDependencyCalculation.PositiveRegion4DDCSequential;
@@ -128,6 +129,54 @@ public class DirectDependencyCalculationAlgorithm
 		return sigAttr;
 	}
 	
+	/**
+	 * Get the current most significant attribute based on U/red in a {@link RefinablePartition}.
+	 * <p>
+	 * dep(P ∪ {a}) is calculated on U/(P ∪ {a}) refined from <code>redPartition</code> by
+	 * {@link RefinablePartition#refine(int)}, instead of partitioning U on all attributes of
+	 * P ∪ {a}.
+	 * 
+	 * @param <Sig>
+	 * 		Type of feature (subset) importance.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance4DirectDependencyCalculation}.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct attributes: <strong>U/red</strong>
+	 * @param red
+	 * 		Reduct attributes.
+	 * @param globalSig
+	 * 		The global dependency value.
+	 * @param attributes
+	 * 		All attributes. (Starts from 1)
+	 * @return A integer value.
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			FeatureImportance4DirectDependencyCalculation<Sig> calculation, Sig sigDeviation,
+			RefinablePartition redPartition, Collection<Integer> red, Sig globalSig, int[] attributes
+	){
+		// Initiate
+		int sigAttr = -1;
+		Sig max = null, sig, subDependency;
+		// Loop over potential attributes
+		for (int attr : attributes) {
+			if (!red.contains(attr)) {
+				// Calculate dep(P ∪ {a})
+				subDependency = calculation.calculate(redPartition.refine(attr)).getResult();
+				// Sig(a) = dep(P ∪ {a}) - dep(core)
+				sig=calculation.difference(subDependency, globalSig);
+				// If Sig(a)>max, update max and the most significant attribute
+				if (max==null || calculation.value1IsBetter(sig, max, sigDeviation)) {
+					max = sig;
+					sigAttr = attr;
+				}
+			}
+		}
+		return sigAttr;
+	}
+	
 	/**
 	 * Get the current least significant current attribute.
 	 * 
@@ -8,6 +8,7 @@ import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.alg.dependencyCalculation.HeuristicDependencyCalculationStrategy;
 import featureSelection.basic.support.searchStrategy.HashSearchStrategy;
 import featureSelection.basic.support.searchStrategy.SequentialSearchStrategy;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.heuristicDependencyCalculation.FeatureImportance4HeuristicDependencyCalculation;
 import featureSelection.repository.support.calculation.dependency.dependencyCalculation.heuristicDependencyCalculation.DependencyCalculation4HDCHash;
 import featureSelection.repository.support.calculation.dependency.dependencyCalculation.heuristicDependencyCalculation.DependencyCalculation4HDCSequential;
@@ -214,6 +215,57 @@ public class HeuristicDependencyCalculationAlgorithm
 		return sigAttr;
 	}
 	
+	/**
+	 * Get the current most significant attribute based on U/red in a {@link RefinablePartition}.
+	 * <p>
+	 * dep(P ∪ {a}) is calculated on U/(P ∪ {a}) refined from <code>redPartition</code> by
+	 * {@link RefinablePartition#refine(int)}, instead of partitioning U on all attributes of
+	 * P ∪ {a}.
+	 * 
+	 * @param <Sig>
+	 * 		Type of feature (subset) importance.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance4HeuristicDependencyCalculation}.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct attributes: <strong>U/red</strong>
+	 * @param red
+	 * 		Reduct attributes. (Starts from 1)
+	 * @param globalSig
+	 * 		The current dependency value.
+	 * @param attributes
+	 * 		All attributes. (Starts from 1)
+	 * @param decisionValues
+	 * 		Decision values of {@link Instance}s.
+	 * @return An int value as attribute (Starts from 1).
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			FeatureImportance4HeuristicDependencyCalculation<Sig> calculation, Sig sigDeviation,
+			RefinablePartition redPartition, Collection<Integer> red, Sig globalSig,
+			int[] attributes, Collection<Integer> decisionValues
+	){
+		int sigAttr = -1;
+		Sig max = null, sig, subSig;
+		// Loop over potential attributes
+		for (int attr : attributes) {
+			if (!red.contains(attr)) {
+				//Get dep(P ∪ {a})
+				subSig = calculation.calculate(redPartition.refine(attr), decisionValues)
+									.getResult();
+				// Sig(a) = dep(P ∪ {a}) - dep(core)
+				sig = calculation.difference(subSig, globalSig);
+				// If Sig(a)>max, update max and the most significant attribute
+				if (max==null || calculation.value1IsBetter(sig, max, sigDeviation)) {
+					max = sig;
+					sigAttr = attr;
+				}
+			}
+		}
+		return sigAttr;
+	}
+	
 	
 	/**
 	 * Execute inspection for redundant attributes in reduct. This method will obtain decision
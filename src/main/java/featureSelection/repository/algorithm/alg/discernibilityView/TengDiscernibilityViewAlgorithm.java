@@ -7,8 +7,11 @@ import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArr
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4TengDiscernibilityView;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
@@ -172,4 +175,116 @@ public class TengDiscernibilityViewAlgorithm {
 		}
 		return sigAttr;
 	}
+	
+	/**
+	 * Select the most significant attribute bases on relative discernibility degree based outer 
+	 * significance calculation over U/red in a {@link RefinablePartition}: SIG<sup>outer</sup>
+	 * <sub>dis</sub>(a, red, D) is calculated on U/(red ∪ {a}) refined from
+	 * <code>redPartition</code> instead of partitioning equivalence classes of red by a.
+	 * <p>
+	 * The discernibility degree used to break ties in
+	 * {@link #mostSignificantAttribute(int, int[], Collection, Collection, Number,
+	 * FeatureImportance4TengDiscernibilityView)} is the one of U/red, which is the same for all
+	 * attributes, so it is calculated once here and the first attribute with the max. outer
+	 * significance is selected, as the same as the collection based one.
+	 * 
+	 * @param <Sig>
+	 * 		Type of attribute significance.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}
+	 * @param redundantAttributes
+	 * 		Redundant attributes.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct: <strong>U/red</strong>
+	 * @param redRelativeDisDegree
+	 * 		The relative discernibility degree of the reduct.
+	 * @param calculation
+	 * 		{@link FeatureImportance4TengDiscernibilityView} instance.
+	 * @return the selected most significant attribute.
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			int[] attributes, Collection<Integer> redundantAttributes,
+			RefinablePartition redPartition, Sig redRelativeDisDegree,
+			FeatureImportance4TengDiscernibilityView<Sig> calculation
+	) {
+		// Initiate.
+		int sigAttr = -1, sigValue = 0;
+		
+		int outerSigOfAttr;
+		for (int attr: attributes) {
+			// skip attribute in A'(i.e. attribute not in A[j])
+			if (redundantAttributes.contains(attr))	continue;
+			// Calculate SIG<sup>outer</sup><sub>dis</sub>(a[t], red, D).
+			outerSigOfAttr = calculation.calculateOuterSignificance(
+								// U/red
+								redPartition, 
+								// |DIS(D/red)|
+								redRelativeDisDegree, 
+								// a[t]
+								attr
+							).getResult().intValue();
+			// Update sig.
+			if (sigAttr==-1 || outerSigOfAttr>sigValue) {
+				sigAttr = attr;
+				sigValue = outerSigOfAttr;
+			}
+		}
+		return sigAttr;
+	}
+	
+	/**
+	 * Select the most significant attribute bases on relative discernibility degree based outer 
+	 * significance calculation over U/red in a {@link RefinablePartition}, with outer
+	 * significances of candidate attributes calculated in parallel by the given
+	 * {@link ParallelFitnessEvaluator}.
+	 * <p>
+	 * Outer significances are collected in the order of <code>attributes</code> and the first
+	 * attribute with the max. one is selected, identical to
+	 * {@link #mostSignificantAttribute(int[], Collection, RefinablePartition, Number,
+	 * FeatureImportance4TengDiscernibilityView)}.
+	 * 
+	 * @param <Sig>
+	 * 		Type of attribute significance.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}
+	 * @param redundantAttributes
+	 * 		Redundant attributes.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct: <strong>U/red</strong>
+	 * @param redRelativeDisDegree
+	 * 		The relative discernibility degree of the reduct.
+	 * @param calculation
+	 * 		The main {@link FeatureImportance4TengDiscernibilityView} instance, into which
+	 * 		calculation counts of thread-confined copies are added.
+	 * @param evaluator
+	 * 		{@link ParallelFitnessEvaluator} with thread-confined
+	 * 		{@link FeatureImportance4TengDiscernibilityView}s.
+	 * @return the selected most significant attribute.
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			int[] attributes, Collection<Integer> redundantAttributes,
+			RefinablePartition redPartition, Sig redRelativeDisDegree,
+			FeatureImportance4TengDiscernibilityView<Sig> calculation,
+			ParallelFitnessEvaluator<FeatureImportance4TengDiscernibilityView<Sig>> evaluator
+	) {
+		// skip attribute in A'(i.e. attribute not in A[j])
+		int[] candidates =
+				Arrays.stream(attributes).filter(attr->!redundantAttributes.contains(attr)).toArray();
+		if (candidates.length==0)	return -1;
+		// Calculate SIG<sup>outer</sup><sub>dis</sub>(a[t], red, D) in parallel.
+		Integer[] outerSigs = evaluator.evaluate(calculation, new Integer[candidates.length], (cal, c)->
+								cal.calculateOuterSignificance(
+									redPartition, redRelativeDisDegree, candidates[c]
+								).getResult().intValue()
+							);
+		// Update sig.
+		int sigAttr = -1, sigValue = 0;
+		for (int c=0; c<candidates.length; c++) {
+			if (sigAttr==-1 || outerSigs[c]>sigValue) {
+				sigAttr = candidates[c];
+				sigValue = outerSigs[c];
+			}
+		}
+		return sigAttr;
+	}
 }
\ No newline at end of file
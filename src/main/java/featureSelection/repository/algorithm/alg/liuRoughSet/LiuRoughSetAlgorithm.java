@@ -7,6 +7,7 @@ import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerCol
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.alg.liuRoughSet.InstanceComparator;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4LiuRoughSet;
 
 import java.util.ArrayList;
@@ -189,6 +190,53 @@ public class LiuRoughSetAlgorithm {
 		return index;
 	}
 	
+	/**
+	 * Get the most significant attribute based on U/red in a {@link RefinablePartition}.
+	 * <p>
+	 * Positive region of red ∪ {a} is calculated on U/(red ∪ {a}) refined from
+	 * <code>redPartition</code> by {@link RefinablePartition#refine(int)}, instead of
+	 * partitioning rough equivalence classes on all attributes of red ∪ {a}.
+	 * 
+	 * @param <Sig>
+	 * 		{@link Number} implemented type as the value of Significance.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance4LiuRoughSet} instance.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @param redPartition
+	 * 		{@link RefinablePartition} of reduct attributes: <strong>U/red</strong>
+	 * @param red
+	 * 		Reduct attributes.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1, 0 as the decision attribute)
+	 * @param redPos
+	 * 		The size of the reduct positive region.
+	 * @return An {@link int} value as the most significant attribute.
+	 */
+	public static <Sig extends Number> int mostSignificantAttribute(
+			FeatureImportance4LiuRoughSet<Sig> calculation, Sig sigDeviation, 
+			RefinablePartition redPartition, Collection<Integer> red, int[] attributes,
+			Sig redPos
+	) {
+		int index = -1;
+		Sig positive, significance, max = null;
+		// Loop over non-reduct attributes
+		for (int attr : attributes) {
+			if (red.contains(attr))	continue;
+			// Calculate Sig(red ∪ {a})
+			positive = calculation.calculate(redPartition.refine(attr)).getResult();
+			// Calculate the difference between the above significance and the one of reduct.
+			significance = calculation.difference(positive, redPos);
+			// Update max significance and attribute
+			if (index==-1 || calculation.value1IsBetter(significance, max, sigDeviation)) {
+				max = significance;
+				index = attr;
+			}
+		}
+		return index;
+	}
+	
 	/**
 	 * Execute inspection to remove redundant attributes in reduct.
 	 * 
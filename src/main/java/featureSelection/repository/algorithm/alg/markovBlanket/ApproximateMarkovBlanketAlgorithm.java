@@ -0,0 +1,149 @@
+package featureSelection.repository.algorithm.alg.markovBlanket;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.markovBlanket.cache.SymmetricalUncertaintyCache;
+import featureSelection.repository.support.calculation.entropy.EncodedColumn;
+import featureSelection.repository.support.calculation.entropy.JointEntropyCounter;
+import featureSelection.repository.support.calculation.markovBlanket.approximate.symmetricalUncertainty.mutualInformationEntropy.MutualInformationEntropyBasedSymmetricalUncertaintyCalculation;
+
+/**
+ * Algorithm repository of redundancy filtering by <strong>Approximate Markov Blanket</strong>,
+ * which bases on the paper <a href="https://www.jmlr.org/papers/v5/yu04a.html">"Efficient Feature
+ * Selection via Analysis of Relevance and Redundancy"</a> by Lei Yu, Huan Liu.
+ * <p>
+ * F<sub>i</sub> forms an approximate Markov blanket for F<sub>j</sub> if
+ * <strong>SU(F<sub>i</sub>, C) &gt;= SU(F<sub>j</sub>, C) &amp; SU(F<sub>i</sub>, F<sub>j</sub>)
+ * &gt;= SU(F<sub>j</sub>, C)</strong>, in which case F<sub>j</sub> is redundant and removed.
+ * <p>
+ * Feature-class SU values are calculated once. Feature-feature SU values are calculated lazily,
+ * only for pairs of a remaining predominant feature and a remaining feature ranked after it, and
+ * memorised in a {@link SymmetricalUncertaintyCache}. The cache is bound to the attributes it is
+ * created for: it can be shared by repeated filtering over the same {@link Instance}s and the same
+ * attributes in the same order only. Entropies are calculated over dictionary encoded
+ * {@link EncodedColumn}s, so features can be pre-pruned before any rough set reduction: features
+ * are encoded one at a time and only columns of relevant ones are kept for the redundancy
+ * analysis.
+ *
+ * @author Benjamin_L
+ */
+public class ApproximateMarkovBlanketAlgorithm {
+	/**
+	 * Filter redundant features by approximate Markov blankets, with feature-feature SU values
+	 * memorised for this call only.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attributes
+	 * 		Attributes of {@link Instance} to be filtered. (starts from 1, 0 as decision attribute)
+	 * @param threshold
+	 * 		Features with SU(F<sub>i</sub>, C) less than the threshold are removed as irrelevant.
+	 * @param suCalculation
+	 * 		{@link MutualInformationEntropyBasedSymmetricalUncertaintyCalculation} instance.
+	 * @return remaining attributes in descending order of SU(F<sub>i</sub>, C).
+	 */
+	public static int[] filter(
+			Collection<Instance> instances, int[] attributes, double threshold,
+			MutualInformationEntropyBasedSymmetricalUncertaintyCalculation suCalculation
+	) {
+		return filter(instances, attributes, threshold, suCalculation, null);
+	}
+
+	/**
+	 * Filter redundant features by approximate Markov blankets.
+	 * <p>
+	 * Values in <code>cache</code> are addressed by indexes in <code>attributes</code> and are only
+	 * valid for the same {@link Instance}s: callers sharing a cache among calls must keep
+	 * <code>instances</code> unchanged and pass the same <code>attributes</code> in the same order.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attributes
+	 * 		Attributes of {@link Instance} to be filtered. (starts from 1, 0 as decision attribute)
+	 * @param threshold
+	 * 		Features with SU(F<sub>i</sub>, C) less than the threshold are removed as irrelevant.
+	 * @param suCalculation
+	 * 		{@link MutualInformationEntropyBasedSymmetricalUncertaintyCalculation} instance.
+	 * @param cache
+	 * 		{@link SymmetricalUncertaintyCache} of feature-feature SU created for
+	 * 		<code>attributes</code>. <code>null</code> to memorise for this call only.
+	 * @return remaining attributes in descending order of SU(F<sub>i</sub>, C).
+	 * @throws IllegalArgumentException if <code>cache</code> is created for other attributes.
+	 */
+	public static int[] filter(
+			Collection<Instance> instances, int[] attributes, double threshold,
+			MutualInformationEntropyBasedSymmetricalUncertaintyCalculation suCalculation,
+			SymmetricalUncertaintyCache cache
+	) {
+		if (cache==null) {
+			cache = new SymmetricalUncertaintyCache(attributes);
+		}else if (!cache.isFor(attributes)) {
+			throw new IllegalArgumentException("Cache is created for other attributes.");
+		}
+
+		// Encode the decision column and calculate H(C).
+		EncodedColumn decisionColumn = EncodedColumn.of(instances, 0);
+		double decisionEntropy = decisionColumn.entropy();
+		JointEntropyCounter counter = new JointEntropyCounter(instances.size());
+
+		// Calculate SU(F<sub>i</sub>, C) and remove irrelevant features, feature by feature: only
+		//	columns of relevant features are kept, the buffer of an irrelevant one is reused.
+		EncodedColumn[] columns = new EncodedColumn[attributes.length];
+		double[] entropies = new double[attributes.length];
+		double[] classSUs = new double[attributes.length];
+		Integer[] ranked = new Integer[attributes.length];
+		int rankedSize = 0;
+		int[] codes = null;
+		double mutualInfo;
+		for (int i=0; i<attributes.length; i++) {
+			if (codes==null)	codes = new int[instances.size()];
+			EncodedColumn column = EncodedColumn.of(instances, attributes[i], codes);
+			entropies[i] = column.entropy();
+			// I(F<sub>i</sub>; C) = H(F<sub>i</sub>) + H(C) - H(F<sub>i</sub>, C)
+			mutualInfo = entropies[i] + decisionEntropy - counter.jointEntropy(column, decisionColumn);
+			classSUs[i] = suCalculation.calculate(mutualInfo, entropies[i], decisionEntropy)
+										.getResult().doubleValue();
+			if (classSUs[i]>=threshold) {
+				ranked[rankedSize++] = i;
+				columns[i] = column;
+				codes = null;
+			}
+		}
+		// Sort in descending order of SU(F<sub>i</sub>, C).
+		ranked = Arrays.copyOf(ranked, rankedSize);
+		Arrays.sort(ranked, (i1, i2)-> - Double.compare(classSUs[i1], classSUs[i2]));
+
+		// Remove F<sub>q</sub> if SU(F<sub>p</sub>, F<sub>q</sub>) >= SU(F<sub>q</sub>, C) for
+		//	predominant F<sub>p</sub> ranked before it.
+		boolean[] removed = new boolean[rankedSize];
+		int remainSize = rankedSize, p, q;
+		double su;
+		for (int pIndex=0; pIndex<rankedSize; pIndex++) {
+			if (removed[pIndex])	continue;
+			p = ranked[pIndex];
+			for (int qIndex=pIndex+1; qIndex<rankedSize; qIndex++) {
+				if (removed[qIndex])	continue;
+				q = ranked[qIndex];
+				if (cache.contains(p, q)) {
+					su = cache.get(p, q);
+				}else {
+					// I(F<sub>p</sub>; F<sub>q</sub>) = H(F<sub>p</sub>) + H(F<sub>q</sub>) - H(F<sub>p</sub>, F<sub>q</sub>)
+					mutualInfo = entropies[p] + entropies[q] - counter.jointEntropy(columns[p], columns[q]);
+					su = suCalculation.calculate(mutualInfo, entropies[p], entropies[q])
+										.getResult().doubleValue();
+					cache.put(p, q, su);
+				}
+				if (su>=classSUs[q]) {
+					removed[qIndex] = true;
+					remainSize--;
+				}
+			}
+		}
+
+		int[] remains = new int[remainSize];
+		for (int r=0, i=0; r<rankedSize; r++)	if (!removed[r])	remains[i++] = attributes[ranked[r]];
+		return remains;
+	}
+}
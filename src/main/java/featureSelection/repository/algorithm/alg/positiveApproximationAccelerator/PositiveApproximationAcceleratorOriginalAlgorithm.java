@@ -7,8 +7,10 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.alg.positiveApproximationAccelerator.EquivalenceClass;
 import featureSelection.repository.entity.alg.positiveApproximationAccelerator.MostSignificantAttributeResult;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.PositiveApproximationAcceleratorCalculation;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -191,6 +193,87 @@ public class PositiveApproximationAcceleratorOriginalAlgorithm {
 		return new MostSignificantAttributeResult<Sig>(sigAttr, maxSig, sigEquClasses);
 	}
 
+	/**
+	 * Obtain the current most significant attributes in attributes outside of reduct, with
+	 * significances of candidate attributes calculated in parallel by the given
+	 * {@link ParallelFitnessEvaluator}.
+	 * <p>
+	 * Significances are collected in the order of <code>attributes</code> and compared in the
+	 * calling thread the same way as
+	 * {@link #mostSignificantAttribute(Collection, Collection, int[], int,
+	 * PositiveApproximationAcceleratorCalculation, Number)}, so the result is identical to the
+	 * sequential one. Only U/(Red ∪ {a*}) of the selected attribute is kept, by partitioning
+	 * once more after the scan.
+	 * 
+	 * @param <Sig>
+	 * 		Type of feature (subset) significance.
+	 * @param equClasses
+	 * 		{@link EquivalenceClass} {@link Collection}.
+	 * @param red
+	 * 		Reduct {@link Collection}.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1, 0 as decision attribute)
+	 * @param insSize
+	 * 		The number of {@link Instance}s.
+	 * @param calculation
+	 * 		The main {@link PositiveApproximationAcceleratorCalculation} instance, into which
+	 * 		calculation counts of thread-confined copies are added.
+	 * @param evaluator
+	 * 		{@link ParallelFitnessEvaluator} with thread-confined
+	 * 		{@link PositiveApproximationAcceleratorCalculation}s.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes. Considering equal when
+	 * 		the difference between two sigs is less than the given deviation value.
+	 * @return An int value as the most significant attribute.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Sig extends Number> MostSignificantAttributeResult<Sig>
+		mostSignificantAttribute(
+			Collection<EquivalenceClass> equClasses, Collection<Integer> red, int[] attributes,
+			int insSize, PositiveApproximationAcceleratorCalculation<Sig> calculation,
+			ParallelFitnessEvaluator<PositiveApproximationAcceleratorCalculation<Sig>> evaluator,
+			Sig sigDeviation
+	) {
+		// Loop over C-reduct
+		int[] candidates = Arrays.stream(attributes).filter(attr->!red.contains(attr)).toArray();
+		if (candidates.length==0)	return new MostSignificantAttributeResult<Sig>(-1, null, null);
+		int[] examAttributes = new int[red.size()+1];
+		int i=0;	for (int attr: red)	examAttributes[i++] = attr;
+		// Calculate sig of candidates in parallel : a.outerSig
+		Number[] sigs = evaluator.evaluate(calculation, new Number[candidates.length], (cal, c)->{
+			// U/(Red ∪ {a}) = equivalenceClass(U/Red, Red U {a})
+			int[] examine = Arrays.copyOf(examAttributes, examAttributes.length);
+			examine[examine.length-1] = candidates[c];
+			Collection<EquivalenceClass> subEquClasses = new HashSet<>();
+			for (EquivalenceClass equ: equClasses) {
+				subEquClasses.addAll(
+						Basic.equivalenceClass(equ.getInstances(), new IntegerArrayIterator(examine))
+				);
+			}
+			return cal.calculate(subEquClasses, red.size(), insSize).getResult();
+		});
+		// sig = 0; a*=0
+		Sig maxSig=null, sig;
+		int sigAttr=-1;
+		for (int c=0; c<candidates.length; c++) {
+			sig = (Sig) sigs[c];
+			// if a.outerSig>sig
+			if (maxSig==null || calculation.value1IsBetter(sig, maxSig, sigDeviation)) {
+				sigAttr = candidates[c];
+				maxSig = sig;
+			}
+		}
+		// U/(Red ∪ {a*})
+		examAttributes[examAttributes.length-1] = sigAttr;
+		Collection<EquivalenceClass> sigEquClasses = new HashSet<>();
+		for (EquivalenceClass equ: equClasses) {
+			sigEquClasses.addAll(
+					Basic.equivalenceClass(equ.getInstances(), new IntegerArrayIterator(examAttributes))
+			);
+		}
+		return new MostSignificantAttributeResult<Sig>(sigAttr, maxSig, sigEquClasses);
+	}
+
 	/**
 	 * Inspect the given reduct and remove redundant attributes.
 	 * 
@@ -17,16 +17,23 @@ import featureSelection.repository.entity.alg.rec.extension.incrementalPartition
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.AttributeProcessStrategy;
 import featureSelection.repository.entity.alg.rec.nestedEC.MostSignificanceResult;
 import featureSelection.repository.entity.alg.rec.nestedEC.NestedEquivalenceClassesInfo;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.entity.universe.RowPartition;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedIncrementalPartitionCalculation;
 import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPNEC;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Algorithm repository of Nested Equivalent Class based algorithm, evolving from 
@@ -99,6 +106,88 @@ public class NestedEquivalenceClassBasedAlgorithm {
 			};
 			return equClasses;
 		}
+
+		/**
+		 * Obtain {@link EquivalenceClass}es of a columnar {@link DecisionTable} induced by
+		 * given <code>attributes</code>.
+		 * <p>
+		 * Rows are partitioned directly from columns, so only {@link EquivalenceClass}es and
+		 * their keys are created.
+		 * 
+		 * @param table
+		 * 		A {@link DecisionTable}.
+		 * @param attributes
+		 * 		Attributes of rows. (Starts from 1).
+		 * @return A {@link Map} of {@link EquivalenceClass}es with keys.
+		 */
+		public static Map<IntArrayKey, EquivalenceClass> equivalenceClass(
+			DecisionTable table, IntegerIterator attributes
+		){
+			int[] attributeArray = DecisionTable.toArray(attributes);
+			RowPartition partition = table.partition(attributeArray);
+			EquivalenceClass[] equClassArray =
+					RoughEquivalenceClassBasedUtils.equivalenceClassArrayOf(table, partition);
+			int[] representatives = partition.getRepresentatives();
+			Map<IntArrayKey, EquivalenceClass> equClasses = new HashMap<>(equClassArray.length);
+			for (int i=0; i<equClassArray.length; i++) {
+				equClasses.put(
+						new IntArrayKey(table.valuesOf(representatives[i], attributeArray)),
+						equClassArray[i]
+				);
+			}
+			return equClasses;
+		}
+
+		/**
+		 * Obtain {@link EquivalenceClass}es of {@link Instance}s induced by given
+		 * <code>attributes</code> in parallel: {@link Instance}s are split into shards of
+		 * <code>shardSize</code>, compressed separately in <code>pool</code> and then merged.
+		 * 
+		 * @see #equivalenceClass(Collection, IntegerIterator)
+		 * 
+		 * @param instances
+		 * 		A {@link List} of {@link Instance}s.
+		 * @param attributes
+		 * 		Attributes of {@link Instance}. (Starts from 1).
+		 * @param pool
+		 * 		{@link ForkJoinPool} to compress shards.
+		 * @param shardSize
+		 * 		The number of {@link Instance}s in a shard.
+		 * @return A {@link Map} of {@link EquivalenceClass}es with keys.
+		 */
+		public static Map<IntArrayKey, EquivalenceClass> equivalenceClass(
+			List<Instance> instances, int[] attributes, ForkJoinPool pool, int shardSize
+		){
+			if (shardSize<=0)	throw new IllegalArgumentException("Illegal shard size: "+shardSize);
+			if (instances.size()<=shardSize)
+				return equivalenceClass(instances, new IntegerArrayIterator(attributes));
+			if (!(instances instanceof RandomAccess))	instances = new ArrayList<>(instances);
+			// Compress shards in parallel.
+			List<ForkJoinTask<Map<IntArrayKey, EquivalenceClass>>> shards =
+					new ArrayList<>((instances.size()+shardSize-1)/shardSize);
+			for (int from=0; from<instances.size(); from+=shardSize) {
+				List<Instance> shard = instances.subList(from, Math.min(instances.size(), from+shardSize));
+				shards.add(pool.submit(()->equivalenceClass(shard, new IntegerArrayIterator(attributes))));
+			}
+			// Merge shards in order.
+			Map<IntArrayKey, EquivalenceClass> equClasses = shards.get(0).join();
+			EquivalenceClass equItem;
+			for (int i=1; i<shards.size(); i++) {
+				for (Map.Entry<IntArrayKey, EquivalenceClass> entry: shards.get(i).join().entrySet()) {
+					equItem = equClasses.putIfAbsent(entry.getKey(), entry.getValue());
+					if (equItem!=null) {
+						//	if the decision values are not equal, update the equivalence class.
+						if (!entry.getValue().sortable() ||
+							entry.getValue().getDecisionValue()!=equItem.getDecisionValue()
+						) {
+							equItem.setUnsortable();
+						}
+						equItem.setInstanceCount(equItem.getInstanceCount()+entry.getValue().getInstanceCount());
+					}
+				}
+			}
+			return equClasses;
+		}
 		
 		/**
 		 * Obtain {@link NestedEquivalenceClass}es induced by by the given <code>attributes</code>.
@@ -13,8 +13,12 @@ import featureSelection.repository.entity.alg.rec.SignificantAttributeClassPack;
 import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
 import featureSelection.repository.entity.alg.rec.classSet.impl.RoughEquivalenceClass;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.entity.universe.DelimitedRowReader;
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.Shrink4RECBoundaryClassSetStays;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -90,6 +94,71 @@ public class RoughEquivalenceClassBasedAlgorithm {
 			}
 			return equClasses.values();
 		}
+
+		/**
+		 * Obtain {@link EquivalenceClass}es of a columnar {@link DecisionTable} by given
+		 * <code>attributes</code>.
+		 * <p>
+		 * Rows are partitioned directly from columns, so {@link EquivalenceClass}es are the only
+		 * objects created.
+		 *
+		 * @param table
+		 * 		A {@link DecisionTable}.
+		 * @param attributes
+		 * 		Attributes of rows. (Starts from 1).
+		 * @return A {@link Collection} of {@link EquivalenceClass}.
+		 */
+		public static Collection<EquivalenceClass> equivalenceClass(
+				DecisionTable table, IntegerIterator attributes
+		) {
+			return RoughEquivalenceClassBasedUtils.equivalenceClassesOf(
+					table, table.partition(attributes)
+			);
+		}
+
+		/**
+		 * Obtain {@link EquivalenceClass}es of rows streamed from a data set file by given
+		 * <code>attributes</code>.
+		 * <p>
+		 * Rows are fed into the equivalence class map straight from the <code>reader</code>
+		 * without materialising {@link Instance}s, so that the peak memory is in proportion to
+		 * |U/C| instead of |U|. Results are the same as {@link #equivalenceClass(Collection,
+		 * IntegerIterator)} with {@link Instance}s of the same rows.
+		 *
+		 * @param reader
+		 * 		A {@link DelimitedRowReader} of the data set file. All remaining rows are read.
+		 * @param attributes
+		 * 		Attributes of rows. (Starts from 1).
+		 * @return A {@link Collection} of {@link EquivalenceClass}.
+		 * @throws IOException if fails to read rows.
+		 */
+		public static Collection<EquivalenceClass> equivalenceClass(
+				DelimitedRowReader reader, IntegerIterator attributes
+		) throws IOException {
+			int[] attributeArray = DecisionTable.toArray(attributes);
+			Map<IntArrayKey, EquivalenceClass> equClasses = new HashMap<>();
+			reader.forEachRow(row->{
+				// Obtain the attribute values of all (conditional) attributes as key.
+				int[] code = new int[attributeArray.length];
+				for (int i=0; i<code.length; i++)	code[i] = row[attributeArray[i]];
+				IntArrayKey key = new IntArrayKey(code);
+				EquivalenceClass equClass = equClasses.get(key);
+				// If already exists an equivalence class with the same key.
+				if (equClass!=null) {
+					equClass.setInstanceCount(equClass.getInstanceCount()+1);
+					//	if the decision values are not equal, update consistency
+					if (row[0]!=equClass.getDecisionValue())	equClass.setUnsortable();
+				}else {
+					// If no such key, create one, and initiate with a copy of the (reused) row.
+					equClass = new EquivalenceClass();
+					equClass.setDecValue(row[0]);
+					equClass.setAttrValue(Arrays.copyOfRange(row, 1, row.length));
+					equClass.setInstanceCount(1);
+					equClasses.put(key, equClass);
+				}
+			});
+			return equClasses.values();
+		}
 		
 		/**
 		 * Obtain {@link EquivalenceClass}es of {@link Instance}s induced by <code>decision
@@ -22,6 +22,8 @@ import featureSelection.repository.entity.alg.rec.extension.incrementalPartition
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.StatisticResult;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.core.attributeCombination.AttrProcessStrategy4Comb;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.AttributeProcessStrategy;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive.AdaptiveAttributeProcessStrategy;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedIncrementalDecisionExtensionCalculation;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation;
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.Shrink4RECBoundaryClassSetStays;
@@ -29,6 +31,7 @@ import featureSelection.repository.support.shrink.roughEquivalenceClassBased.ext
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.extension.incrementalDecision.ShrinkResult4RECIncrementalDecisionExtension;
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.extension.incrementalDecision.Shrink4RECBasedDecisionMapExt;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -37,7 +40,10 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 /**
@@ -427,7 +433,67 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 				}
 				return new Number[] {sigAttr, maxSig};
 			}
-		
+
+			/**
+			 * Obtain the current most significant attribute, with significances of candidate
+			 * attributes calculated in parallel by the given {@link ParallelFitnessEvaluator}.
+			 * <p>
+			 * Significances are collected in the order of <code>attributes</code> and compared in
+			 * the calling thread the same way as {@link #mostSignificantAttribute(
+			 * RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation, Number, int,
+			 * Collection, Collection, int...)}, so the attribute selected is the same.
+			 *
+			 * @param calculation
+			 * 		{@link RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation}
+			 * 		instance, used in the calling thread and for comparisons.
+			 * @param sigDeviation
+			 * 		Acceptable deviation when calculating significance of attributes. Consider equal
+			 * 		when the difference between two sig is less than the given deviation value.
+			 * @param insSize
+			 * 		The number of {@link Instance}s.
+			 * @param equClass
+			 * 		A {@link Collection} of {@link EquivalenceClass}es.
+			 * @param reduct
+			 * 		A reduct.(Starts from 1)
+			 * @param evaluator
+			 * 		{@link ParallelFitnessEvaluator} with thread-confined calculations.
+			 * @param attributes
+			 * 		Attributes of {@link Instance}. (Starts from 1)
+			 * @return the most significant attribute./ -1 if empty zero rough equivalence class.
+			 *         And the significance.
+			 */
+			@SuppressWarnings("unchecked")
+			public static <Sig extends Number> Number[] mostSignificantAttribute(
+					RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation<Sig> calculation,
+					Sig sigDeviation,
+					int insSize, Collection<EquivalenceClass> equClass, Collection<Integer> reduct,
+					ParallelFitnessEvaluator<RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation<Sig>> evaluator,
+					int...attributes
+			){
+				int[] redArray = new int[reduct.size()];
+				int r=0;	for (int v : reduct)	redArray[r++] = v;
+				// Candidates: attributes outside of reduct.
+				int[] candidates = new int[attributes.length];
+				int candidateSize = 0;
+				for (int attr: attributes)	if (!reduct.contains(attr))	candidates[candidateSize++] = attr;
+				// Calculate significances of reduct ∪ {a} in parallel.
+				Number[] sigs = evaluator.evaluate(calculation, new Number[candidateSize], (cal, c)->{
+					int[] examAttr = Arrays.copyOf(redArray, redArray.length+1);
+					examAttr[redArray.length] = candidates[c];
+					return cal.calculate(equClass, new IntegerArrayIterator(examAttr), insSize).getResult();
+				});
+				int sigAttr = -1;
+				Sig maxSig = null, subSig;
+				for (int c=0; c<candidateSize; c++) {
+					subSig = (Sig) sigs[c];
+					if (calculation.value1IsBetter(subSig, maxSig, sigDeviation) || sigAttr==-1) {
+						maxSig = subSig;
+						sigAttr = candidates[c];
+					}
+				}
+				return new Number[] {sigAttr, maxSig};
+			}
+
 			/**
 			 * Inspection for reduct to remove redundant attributes.
 			 * 
@@ -770,6 +836,39 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 				}
 				return new StatisticResult<>(pos, emptyBoundary, incRoughEquClasses);
 			}
+
+			/**
+			 * Count positive regions after the further partitioning of every given attribute
+			 * respectively by {@link #calculateRoughEquivalenceClassPosPartition(Collection, int)},
+			 * with one task for each attribute in <code>pool</code>.
+			 * <p>
+			 * <code>roughEquClasses</code> are only read, so attributes can be partitioned
+			 * concurrently.
+			 *
+			 * @param roughEquClasses
+			 * 		A {@link Collection} of {@link RoughEquivalenceClassDummy}s.
+			 * @param attributes
+			 * 	    Attributes to partition by respectively.
+			 * @param pool
+			 * 		{@link ForkJoinPool} to partition.
+			 * @return {@link StatisticResult}s at the indexes of <code>attributes</code>.
+			 */
+			@SuppressWarnings("unchecked")
+			public static StatisticResult<Collection<RoughEquivalenceClassDummy>>[]
+				calculateRoughEquivalenceClassPosPartitions(
+					Collection<RoughEquivalenceClassDummy> roughEquClasses, int[] attributes,
+					ForkJoinPool pool
+			) {
+				List<ForkJoinTask<StatisticResult<Collection<RoughEquivalenceClassDummy>>>> tasks =
+						new ArrayList<>(attributes.length);
+				for (int attribute: attributes) {
+					tasks.add(pool.submit(()->calculateRoughEquivalenceClassPosPartition(roughEquClasses, attribute)));
+				}
+				StatisticResult<Collection<RoughEquivalenceClassDummy>>[] statisticResults =
+						new StatisticResult[attributes.length];
+				for (int i=0; i<statisticResults.length; i++)	statisticResults[i] = tasks.get(i).join();
+				return statisticResults;
+			}
 			
 			
 			/**
@@ -931,6 +1030,9 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 			 * Partition the given {@link EquivalenceClass}es incrementally using partial attributes
 			 * at each partitioning(by applying {@link AttributeProcessStrategy}). Return immediately
 			 * if 0-REC is empty.
+			 * <p>
+			 * If <code>attributeProcessStrategy</code> is an {@link AdaptiveAttributeProcessStrategy},
+			 * each partitioning is fed back to it.
 			 *
 			 * @param attributeProcessStrategy
 			 * 		An {@link AttributeProcessStrategy} instance.
@@ -956,6 +1058,7 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 								equClasses, 
 								new IntegerArrayIterator(partitionAttribute)
 						);				
+				feedback(attributeProcessStrategy, equClasses.size(), statisticResult);
 				int pos = statisticResult.getPositiveRegion();
 				for (int attr: partitionAttribute)	usedAttributes.add(attr);
 
@@ -974,40 +1077,19 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 				}else {
 					// Keep performing incremental partitioning on rough equivalence classes
 					//  until the size of positive region is settle. i.e. |0-REC|=0.
-					Collection<RoughEquivalenceClassDummy> roughClasses;
-					Collection<RoughEquivalenceClassDummy> roughClassesInLine = statisticResult.getRecord();
+					//	(Rough classes in line always contain 0-RECs here.)
+					Collection<RoughEquivalenceClassDummy> roughClasses = statisticResult.getRecord();
 					do {
-						partitionAttribute = null; 
-						roughClasses = new LinkedList<>();
-						for (RoughEquivalenceClassDummy roughClass: roughClassesInLine) {
-							switch(roughClass.getType()) {
-								case BOUNDARY: 
-									// Initiate partition attributes.
-									if (partitionAttribute==null)
-										partitionAttribute=attributeProcessStrategy.next();
-									// Partition.
-									statisticResult = 
-										calculateEquivalenceClassPositiveRegionAfterPartition(
-											roughClass.getItems(),
-											new IntegerArrayIterator(partitionAttribute)
-										);
-									// Calculate positive region.
-									pos += statisticResult.getPositiveRegion();
-									// if 0-REC is not empty after partition.
-									if (!statisticResult.isEmptyBoundaryClassSet())
-										roughClasses.addAll(statisticResult.getRecord());
-									break;
-								default:
-									break;
-							}
-						}
+						// Initiate partition attributes.
+						partitionAttribute = attributeProcessStrategy.next();
+						// Partition 0-RECs.
+						statisticResult = calculateRoughEquivalenceClassPosPartition(roughClasses, partitionAttribute);
+						feedback(attributeProcessStrategy, roughClasses, statisticResult);
+						// Calculate positive region.
+						pos += statisticResult.getPositiveRegion();
 						// Collect used attributes.
-						if (partitionAttribute!=null) {	
-							for (int attr: partitionAttribute){
-								usedAttributes.add(attr);
-							}
-						}
-						roughClassesInLine = roughClasses;
+						for (int attr: partitionAttribute)	usedAttributes.add(attr);
+						roughClasses = statisticResult.getRecord();
 						// If no 0-REC left or no more attributes, partitioning is finished.
 					} while (!roughClasses.isEmpty() && usedAttributes.size()<attributesSize);
 					return new PartitionResult<>(
@@ -1018,6 +1100,348 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 						);
 				}
 			}
+
+			/**
+			 * Parallel version of {@link #dynamicIncrementalPartition(AttributeProcessStrategy,
+			 * Collection)}: {@link EquivalenceClass}es(and 0-RECs with more than
+			 * <code>shardSize</code> {@link EquivalenceClass}es in further partitionings) are split
+			 * into shards and partitioned with thread-local hash maps in <code>pool</code>, and
+			 * {@link RoughEquivalenceClassDummy}s of shards are merged in order with
+			 * {@link ClassSetType} conflicts resolved. Smaller 0-RECs are partitioned in groups of
+			 * about <code>shardSize</code> {@link EquivalenceClass}es.
+			 * <p>
+			 * <code>attributeProcessStrategy</code> is only called in the calling thread and
+			 * exactly as the sequential version, so positive region, used attributes and the
+			 * number of partitionings are the same.
+			 *
+			 * @see #dynamicIncrementalPartition(AttributeProcessStrategy, Collection)
+			 *
+			 * @param attributeProcessStrategy
+			 * 		An {@link AttributeProcessStrategy} instance.
+			 * @param equClasses
+			 * 		A {@link Collection} of {@link EquivalenceClass}es.
+			 * @param pool
+			 * 		{@link ForkJoinPool} to partition shards.
+			 * @param shardSize
+			 * 		The number of {@link EquivalenceClass}es in a shard.
+			 * @return {@link PartitionResult} instance, results includes:
+			 * 		<code>positive region number</code>,
+			 * 		<code>whether positive region has reached global one</code>,
+			 * 		<code>attributes used in actual partition</code>,
+			 * 		<code>partitioned {@link RoughEquivalenceClassDummy} {@link Collection}</code>
+			 */
+			public static PartitionResult<Collection<Integer>, Collection<RoughEquivalenceClassDummy>>
+				dynamicIncrementalPartition(
+					AttributeProcessStrategy attributeProcessStrategy,
+					Collection<EquivalenceClass> equClasses, ForkJoinPool pool, int shardSize
+			){
+				Collection<Integer> usedAttributes = new LinkedList<>();
+				int attributesSize = attributeProcessStrategy.attributeLength();
+				// Partition using partial attributes.
+				int[] partitionAttribute = attributeProcessStrategy.next();
+				StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult =
+						calculateEquivalenceClassPositiveRegionAfterPartition(
+								equClasses, partitionAttribute, pool, shardSize
+						);
+				feedback(attributeProcessStrategy, equClasses.size(), statisticResult);
+				int pos = statisticResult.getPositiveRegion();
+				for (int attr: partitionAttribute)	usedAttributes.add(attr);
+
+				// if |0-REC|=0, partitioning is "finished" for the positive regions are obtained.
+				if (statisticResult.isEmptyBoundaryClassSet() ||
+					usedAttributes.size()==attributesSize
+				) {
+					return new PartitionResult<>(
+							pos,
+							statisticResult.isEmptyBoundaryClassSet(),
+							usedAttributes,
+							statisticResult.getRecord()
+						);
+				}
+				// Keep performing incremental partitioning on 0-RECs until the size of positive
+				//	region is settle. i.e. |0-REC|=0. (Rough classes in line always contain 0-RECs
+				//	here, so the strategy is called once per partitioning as the sequential one.)
+				Collection<RoughEquivalenceClassDummy> roughClasses = statisticResult.getRecord();
+				do {
+					partitionAttribute = attributeProcessStrategy.next();
+					statisticResult = calculateRoughEquivalenceClassPosPartition(
+											roughClasses, partitionAttribute, pool, shardSize
+										);
+					feedback(attributeProcessStrategy, roughClasses, statisticResult);
+					pos += statisticResult.getPositiveRegion();
+					for (int attr: partitionAttribute)	usedAttributes.add(attr);
+					roughClasses = statisticResult.getRecord();
+				// If no 0-REC left or no more attributes, partitioning is finished.
+				} while (!roughClasses.isEmpty() && usedAttributes.size()<attributesSize);
+				return new PartitionResult<>(
+						pos,
+						roughClasses.isEmpty(),
+						usedAttributes,
+						roughClasses
+					);
+			}
+
+			/**
+			 * Parallel version of {@link #calculateEquivalenceClassPositiveRegionAfterPartition(
+			 * Collection, IntegerIterator)}: {@link EquivalenceClass}es are split into shards of
+			 * <code>shardSize</code>, partitioned separately in <code>pool</code> and then merged.
+			 *
+			 * @param equClasses
+			 * 		A {@link Collection} of {@link EquivalenceClass}es.
+			 * @param attributes
+			 * 	    Extra attributes for partitioning.
+			 * @param pool
+			 * 		{@link ForkJoinPool} to partition shards.
+			 * @param shardSize
+			 * 		The number of {@link EquivalenceClass}es in a shard.
+			 * @return {@link StatisticResult} instance.
+			 */
+			public static StatisticResult<Collection<RoughEquivalenceClassDummy>>
+				calculateEquivalenceClassPositiveRegionAfterPartition(
+					Collection<EquivalenceClass> equClasses, int[] attributes,
+					ForkJoinPool pool, int shardSize
+			) {
+				if (shardSize<=0)	throw new IllegalArgumentException("Illegal shard size: "+shardSize);
+				if (equClasses.size()<=shardSize) {
+					return calculateEquivalenceClassPositiveRegionAfterPartition(
+								equClasses, new IntegerArrayIterator(attributes)
+							);
+				}
+				List<EquivalenceClass> equClassList =
+						equClasses instanceof List && equClasses instanceof RandomAccess?
+							(List<EquivalenceClass>) equClasses: new ArrayList<>(equClasses);
+				// Partition shards in parallel with thread-local hash maps.
+				List<ForkJoinTask<Map<IntArrayKey, RoughEquivalenceClassDummy>>> shards =
+						new ArrayList<>((equClassList.size()+shardSize-1)/shardSize);
+				for (int from=0; from<equClassList.size(); from+=shardSize) {
+					List<EquivalenceClass> shard =
+							equClassList.subList(from, Math.min(equClassList.size(), from+shardSize));
+					shards.add(pool.submit(()->roughEquivalenceClassesOf(shard, attributes)));
+				}
+				// Merge shards in order.
+				Map<IntArrayKey, RoughEquivalenceClassDummy> roughEquClasses = shards.get(0).join();
+				RoughEquivalenceClassDummy roughEquClass;
+				for (int i=1; i<shards.size(); i++) {
+					for (Map.Entry<IntArrayKey, RoughEquivalenceClassDummy> entry: shards.get(i).join().entrySet()) {
+						roughEquClass = roughEquClasses.putIfAbsent(entry.getKey(), entry.getValue());
+						if (roughEquClass!=null) {
+							resolveClassSetType(roughEquClass, entry.getValue().getType(), entry.getValue().getDecision());
+							for (EquivalenceClass equClass: entry.getValue().getItems())
+								roughEquClass.addClassItem(equClass);
+						}
+					}
+				}
+				// Count positive region after merging.
+				int pos = 0;
+				boolean emptyBoundary = true;
+				for (RoughEquivalenceClassDummy roughClass: roughEquClasses.values()) {
+					switch (roughClass.getType()) {
+						case POSITIVE:	pos += roughClass.getInstanceSize();	break;
+						case BOUNDARY:	emptyBoundary = false;					break;
+						default:												break;
+					}
+				}
+				return new StatisticResult<>(pos, emptyBoundary, roughEquClasses.values());
+			}
+
+			/**
+			 * Parallel version of {@link #calculateRoughEquivalenceClassPosPartition(Collection,
+			 * int)} for partial attributes: 0-RECs with more than <code>shardSize</code>
+			 * {@link EquivalenceClass}es are partitioned by
+			 * {@link #calculateEquivalenceClassPositiveRegionAfterPartition(Collection, int[],
+			 * ForkJoinPool, int)} and smaller ones are partitioned in groups of about
+			 * <code>shardSize</code> {@link EquivalenceClass}es in <code>pool</code>.
+			 * <p>
+			 * Like {@link #dynamicIncrementalPartition(AttributeProcessStrategy, Collection)}, only
+			 * partitioned {@link RoughEquivalenceClassDummy}s of 0-RECs with 0-RECs left are
+			 * collected.
+			 *
+			 * @param roughEquClasses
+			 * 		A {@link Collection} of {@link RoughEquivalenceClassDummy}s.
+			 * @param attributes
+			 * 	    Attributes for further partitioning.
+			 * @param pool
+			 * 		{@link ForkJoinPool} to partition.
+			 * @param shardSize
+			 * 		The number of {@link EquivalenceClass}es in a shard/group.
+			 * @return {@link StatisticResult} instance.
+			 */
+			public static StatisticResult<Collection<RoughEquivalenceClassDummy>>
+				calculateRoughEquivalenceClassPosPartition(
+					Collection<RoughEquivalenceClassDummy> roughEquClasses, int[] attributes,
+					ForkJoinPool pool, int shardSize
+			) {
+				List<ForkJoinTask<StatisticResult<Collection<RoughEquivalenceClassDummy>>>> groups =
+						new LinkedList<>();
+				List<RoughEquivalenceClassDummy> large = new LinkedList<>();
+				List<RoughEquivalenceClassDummy> group = new ArrayList<>();
+				int groupSize = 0;
+				for (RoughEquivalenceClassDummy roughClass: roughEquClasses) {
+					if (!ClassSetType.BOUNDARY.equals(roughClass.getType()))	continue;
+					if (roughClass.getItemSize()>shardSize) {
+						large.add(roughClass);
+						continue;
+					}
+					group.add(roughClass);
+					groupSize += roughClass.getItemSize();
+					if (groupSize>=shardSize) {
+						List<RoughEquivalenceClassDummy> groupInLine = group;
+						groups.add(pool.submit(()->calculateRoughEquivalenceClassPosPartition(groupInLine, attributes)));
+						group = new ArrayList<>();
+						groupSize = 0;
+					}
+				}
+				if (!group.isEmpty()) {
+					List<RoughEquivalenceClassDummy> groupInLine = group;
+					groups.add(pool.submit(()->calculateRoughEquivalenceClassPosPartition(groupInLine, attributes)));
+				}
+
+				int pos = 0;
+				Collection<RoughEquivalenceClassDummy> incRoughEquClasses = new LinkedList<>();
+				StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult;
+				// Partition large 0-RECs in shards while groups are being partitioned.
+				for (RoughEquivalenceClassDummy roughClass: large) {
+					statisticResult = calculateEquivalenceClassPositiveRegionAfterPartition(
+											roughClass.getItems(), attributes, pool, shardSize
+										);
+					pos += statisticResult.getPositiveRegion();
+					if (!statisticResult.isEmptyBoundaryClassSet())
+						incRoughEquClasses.addAll(statisticResult.getRecord());
+				}
+				for (ForkJoinTask<StatisticResult<Collection<RoughEquivalenceClassDummy>>> task: groups) {
+					statisticResult = task.join();
+					pos += statisticResult.getPositiveRegion();
+					incRoughEquClasses.addAll(statisticResult.getRecord());
+				}
+				return new StatisticResult<>(pos, incRoughEquClasses.isEmpty(), incRoughEquClasses);
+			}
+
+			/**
+			 * Partition 0-RECs in <code>roughEquClasses</code> sequentially using partial
+			 * attributes, collecting partitioned {@link RoughEquivalenceClassDummy}s of 0-RECs with
+			 * 0-RECs left.
+			 */
+			private static StatisticResult<Collection<RoughEquivalenceClassDummy>>
+				calculateRoughEquivalenceClassPosPartition(
+					Collection<RoughEquivalenceClassDummy> roughEquClasses, int[] attributes
+			) {
+				int pos = 0;
+				Collection<RoughEquivalenceClassDummy> incRoughEquClasses = new LinkedList<>();
+				StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult;
+				for (RoughEquivalenceClassDummy roughClass: roughEquClasses) {
+					if (!ClassSetType.BOUNDARY.equals(roughClass.getType()))	continue;
+					statisticResult = calculateEquivalenceClassPositiveRegionAfterPartition(
+											roughClass.getItems(), new IntegerArrayIterator(attributes)
+										);
+					pos += statisticResult.getPositiveRegion();
+					if (!statisticResult.isEmptyBoundaryClassSet())
+						incRoughEquClasses.addAll(statisticResult.getRecord());
+				}
+				return new StatisticResult<>(pos, incRoughEquClasses.isEmpty(), incRoughEquClasses);
+			}
+
+			/**
+			 * Feed back a partitioning of 0-RECs in <code>roughEquClasses</code> to
+			 * <code>attributeProcessStrategy</code> if it is an {@link AdaptiveAttributeProcessStrategy}.
+			 *
+			 * @see #feedback(AttributeProcessStrategy, int, StatisticResult)
+			 */
+			private static void feedback(
+					AttributeProcessStrategy attributeProcessStrategy,
+					Collection<RoughEquivalenceClassDummy> roughEquClasses,
+					StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult
+			) {
+				if (!(attributeProcessStrategy instanceof AdaptiveAttributeProcessStrategy))	return;
+				int boundaryItems = 0;
+				for (RoughEquivalenceClassDummy roughClass: roughEquClasses)
+					if (ClassSetType.BOUNDARY.equals(roughClass.getType()))	boundaryItems += roughClass.getItemSize();
+				feedback(attributeProcessStrategy, boundaryItems, statisticResult);
+			}
+
+			/**
+			 * Feed back a partitioning to <code>attributeProcessStrategy</code> if it is an
+			 * {@link AdaptiveAttributeProcessStrategy}, and record the decision in
+			 * <code>statisticResult</code>.
+			 *
+			 * @param attributeProcessStrategy
+			 * 		An {@link AttributeProcessStrategy} instance.
+			 * @param boundaryItemsBefore
+			 * 		The number of {@link EquivalenceClass}es partitioned.
+			 * @param statisticResult
+			 * 		{@link StatisticResult} of the partitioning.
+			 */
+			private static void feedback(
+					AttributeProcessStrategy attributeProcessStrategy, int boundaryItemsBefore,
+					StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult
+			) {
+				if (!(attributeProcessStrategy instanceof AdaptiveAttributeProcessStrategy))	return;
+				int boundaryItemsAfter = 0;
+				for (RoughEquivalenceClassDummy roughClass: statisticResult.getRecord())
+					if (ClassSetType.BOUNDARY.equals(roughClass.getType()))	boundaryItemsAfter += roughClass.getItemSize();
+				statisticResult.setAttributeGroupDecision(
+					((AdaptiveAttributeProcessStrategy) attributeProcessStrategy)
+						.feedback(boundaryItemsBefore, boundaryItemsAfter)
+				);
+			}
+
+			/**
+			 * Partition a shard of {@link EquivalenceClass}es into {@link RoughEquivalenceClassDummy}s
+			 * with keys.
+			 */
+			private static Map<IntArrayKey, RoughEquivalenceClassDummy> roughEquivalenceClassesOf(
+					Collection<EquivalenceClass> equClasses, int[] attributes
+			){
+				Map<IntArrayKey, RoughEquivalenceClassDummy> roughEquClasses =
+						new HashMap<>(equClasses.size());
+				int[] code;
+				IntArrayKey key;
+				RoughEquivalenceClassDummy record;
+				for (EquivalenceClass equClass: equClasses) {
+					code = new int[attributes.length];
+					for (int i=0; i<attributes.length; i++)
+						code[i] = equClass.getAttributeValueAt(attributes[i]-1);
+					key = new IntArrayKey(code);
+					record = roughEquClasses.get(key);
+					if (record==null) {
+						roughEquClasses.put(key, new RoughEquivalenceClassDummy(equClass));
+					}else {
+						resolveClassSetType(record, equClass.getType(), equClass.getDecisionValue());
+						record.addClassItem(equClass);
+					}
+				}
+				return roughEquClasses;
+			}
+
+			/**
+			 * Update {@link ClassSetType} and decision value of <code>roughEquClass</code> when
+			 * merged with a class set of the given type and decision value:
+			 * <ul>
+			 * 	<li>1-REC & 1-REC with different decision values: 1-REC -> 0-REC</li>
+			 * 	<li>1-REC & -1-REC/0-REC: 1-REC -> 0-REC</li>
+			 * 	<li>-1-REC & 1-REC/0-REC: -1-REC -> 0-REC</li>
+			 * </ul>
+			 */
+			private static void resolveClassSetType(
+					RoughEquivalenceClassDummy roughEquClass, ClassSetType type, int decision
+			) {
+				switch (roughEquClass.getType()) {
+					// 1-REC
+					case POSITIVE:
+						if (!ClassSetType.POSITIVE.equals(type) || decision!=roughEquClass.getDecision()) {
+							roughEquClass.setType(ClassSetType.BOUNDARY);
+							roughEquClass.setDecision(-1);
+						}
+						break;
+					// -1-REC
+					case NEGATIVE:
+						if (!ClassSetType.NEGATIVE.equals(type))
+							roughEquClass.setType(ClassSetType.BOUNDARY);
+						break;
+					// 0-REC
+					default:
+						break;
+				}
+			}
 		}
 
 		/**
@@ -1504,6 +1928,48 @@ public class RoughEquivalenceClassBasedExtensionAlgorithm
 			}
 			return new SignificantAttributeClassPack<>(sigAttr, maxSigRoughClasses);
 		}
+
+		/**
+		 * Obtain the current most significant attribute using the original strategy of REC, with
+		 * candidate attributes partitioned in the given {@link ForkJoinPool} by
+		 * {@link Basic#calculateRoughEquivalenceClassPosPartitions(Collection, int[], ForkJoinPool)}.
+		 * <p>
+		 * Results are compared in the calling thread in the order of <code>attributes</code> the
+		 * same way as {@link #mostSignificantAttribute(Collection, Collection, int[])}, so the
+		 * attribute selected is the same.
+		 *
+		 * @param roughClasses
+		 * 		A {@link Collection} of {@link RoughEquivalenceClass}.
+		 * @param reduct
+		 * 		Reduct attributes.(Starts from 1)
+		 * @param attributes
+		 * 		Attributes of {@link Instance}.(Starts from 1)
+		 * @param pool
+		 * 		{@link ForkJoinPool} to partition, e.g. the one of a
+		 * 		{@link ParallelFitnessEvaluator}.
+		 * @return {@link SignificantAttributeClassPack}.
+		 */
+		public static SignificantAttributeClassPack<Integer>
+			mostSignificantAttribute(
+				Collection<RoughEquivalenceClassDummy> roughClasses, Collection<Integer> reduct,
+				int[] attributes, ForkJoinPool pool
+		) {
+			// Partition by attributes outside of reduct.
+			int[] candidates = Arrays.stream(attributes).filter(attr->!reduct.contains(attr)).toArray();
+			StatisticResult<Collection<RoughEquivalenceClassDummy>>[] statisticResults =
+					Basic.calculateRoughEquivalenceClassPosPartitions(roughClasses, candidates, pool);
+			int maxPos=0, sigAttr=-1;
+			Collection<RoughEquivalenceClassDummy> maxSigRoughClasses = null;
+			for (int c=0; c<candidates.length; c++) {
+				// Update if needed.
+				if (statisticResults[c].getPositiveRegion()>maxPos || sigAttr==-1) {
+					sigAttr = candidates[c];
+					maxSigRoughClasses = statisticResults[c].getRecord();
+					maxPos = statisticResults[c].getPositiveRegion();
+				}
+			}
+			return new SignificantAttributeClassPack<>(sigAttr, maxSigRoughClasses);
+		}
 		
 		/**
 		 * Inspection of reduct to remove redundant attributes.
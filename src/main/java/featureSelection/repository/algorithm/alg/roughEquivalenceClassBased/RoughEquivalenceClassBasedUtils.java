@@ -12,6 +12,8 @@ import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
 import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
 import featureSelection.repository.entity.alg.rec.classSet.impl.RoughEquivalenceClass;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.entity.universe.RowPartition;
 import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4RSCREC;
 
 import lombok.experimental.UtilityClass;
@@ -44,6 +46,59 @@ public class RoughEquivalenceClassBasedUtils {
 		return newEquClasses;
 	}
 	
+
+	/**
+	 * Create {@link EquivalenceClass}es based on the given {@link RowPartition} of a
+	 * {@link DecisionTable}.
+	 * 
+	 * @param table
+	 * 		A {@link DecisionTable}.
+	 * @param partition
+	 * 		{@link RowPartition} of the <code>table</code>.
+	 * @return {@link EquivalenceClass}es indexed by equivalence class index of the partition.
+	 */
+	public static EquivalenceClass[] equivalenceClassArrayOf(
+			DecisionTable table, RowPartition partition
+	) {
+		int[] representatives = partition.getRepresentatives();
+		int[] counts = partition.classCounts();
+		EquivalenceClass[] equClasses = new EquivalenceClass[partition.getClassSize()];
+		EquivalenceClass equClass;
+		for (int i=0; i<equClasses.length; i++) {
+			equClasses[i] = equClass = new EquivalenceClass();
+			equClass.setAttrValue(table.conditionValuesOf(representatives[i]));
+			equClass.setDecValue(table.getDecisionValue(representatives[i]));
+			equClass.setInstanceCount(counts[i]);
+		}
+		// Update consistency: if the decision values are not equal, set un-sortable.
+		int[] classIndexes = partition.getClassIndexes();
+		int[] decColumn = table.getDecisionColumn();
+		for (int row=0; row<classIndexes.length; row++) {
+			equClass = equClasses[classIndexes[row]];
+			if (equClass.sortable() && decColumn[row]!=equClass.getDecisionValue()) {
+				equClass.setUnsortable();
+			}
+		}
+		return equClasses;
+	}
+	
+	/**
+	 * Create {@link EquivalenceClass}es based on the given {@link RowPartition} of a
+	 * {@link DecisionTable}.
+	 * 
+	 * @see #equivalenceClassArrayOf(DecisionTable, RowPartition)
+	 * 
+	 * @param table
+	 * 		A {@link DecisionTable}.
+	 * @param partition
+	 * 		{@link RowPartition} of the <code>table</code>.
+	 * @return A {@link Collection} of {@link EquivalenceClass}.
+	 */
+	public static Collection<EquivalenceClass> equivalenceClassesOf(
+			DecisionTable table, RowPartition partition
+	) {
+		return new ArrayList<>(Arrays.asList(equivalenceClassArrayOf(table, partition)));
+	}
 	
 	public static <Equ extends EquivalenceClass, Rough extends RoughEquivalenceClass<Equ>> int
 		countUniverseSize(Collection<Rough> roughEquClasses)
@@ -4,11 +4,16 @@ import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache.PairwiseEntropyMatrix;
 import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraghWeightedEdge;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraphEdgeArray;
+import featureSelection.repository.support.calculation.relevance.semisupervisedRepresentative.FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBased;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -69,6 +74,125 @@ public class SemisupervisedRepresentativeAlgorithm {
 				).toArray(Integer[]::new);
 	}
 
+	/**
+	 * Calculate <strong>F2_Rel(F<sub>i</sub>, F<sub>j</sub>)</strong> of every pair of relevant
+	 * features(i&lt;j) from precomputed {@link PairwiseEntropyMatrix}s, instead of partitioning
+	 * {@link Instance}s pair by pair:
+	 * <pre>
+	 * F2_Rel(F<sub>i</sub>, F<sub>j</sub>) = &beta; * USU(F<sub>i</sub>, F<sub>j</sub>) + (1-&beta;) * SU(F<sub>i</sub>, F<sub>j</sub>)
+	 * USU(F<sub>i</sub>, F<sub>j</sub>) = 2 * [ UI(F<sub>i</sub>|F<sub>j</sub>) / ( H(F<sub>i</sub>) + H(F<sub>j</sub>) ) ]
+	 * UI(F<sub>i</sub>|F<sub>j</sub>) = UI(F<sub>i</sub>) / H(F<sub>i</sub>) * H(F<sub>i</sub> | F<sub>j</sub>)
+	 * UI(F<sub>i</sub>) = H(F<sub>i</sub>) - 1/(n-1) * &Sigma;<sub>j=1:n,j!=i</sub> H(F<sub>i</sub> | F<sub>j</sub>)
+	 * </pre>
+	 * where USU is based on U and SU is based on labeled U.
+	 * 
+	 * @see FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBased#calculateF2Rel(
+	 * 		featureSelection.repository.support.calculation.alg.semisupervisedRepresentative.featureRelevance.FeatureRelevance2Params4SemisupervisedRepresentative)
+	 * 
+	 * @param relevantFeatures
+	 * 		Relevant features.
+	 * @param tradeOff
+	 * 		Trade-off value: &beta;, ranging from 0 to 1. If &beta; = 0, supervised only case; If
+	 * 		&beta; = 1, un-supervised only case.
+	 * @param allUniverseMatrix
+	 * 		{@link PairwiseEntropyMatrix} of <strong>all</strong> attributes based on U. Ignored(could
+	 * 		be <code>null</code>) if &beta; = 0.
+	 * @param labeledUniverseMatrix
+	 * 		{@link PairwiseEntropyMatrix} of relevant features based on labeled U. Ignored(could be
+	 * 		<code>null</code>) if &beta; = 1.
+	 * @return F2_Rel values in <code>double[][]</code>: <code>[i][j]</code> for
+	 * 		<code>relevantFeatures[i]</code> and <code>relevantFeatures[j]</code> with i&lt;j.
+	 */
+	public static double[][] f2Relevances(
+			Integer[] relevantFeatures, double tradeOff,
+			PairwiseEntropyMatrix allUniverseMatrix, PairwiseEntropyMatrix labeledUniverseMatrix
+	) {
+		boolean unsupervised = Double.compare(0, tradeOff)!=0,
+				supervised = Double.compare(1, tradeOff)!=0;
+		int[] allIndexes = new int[relevantFeatures.length],
+				labeledIndexes = new int[relevantFeatures.length];
+		double[] uis = new double[relevantFeatures.length];
+		if (unsupervised) {
+			// UI(F<sub>i</sub>) = H(F<sub>i</sub>) - 1/(n-1) * &Sigma;H(F<sub>i</sub> | F<sub>j</sub>)
+			double[] condEntropySums = allUniverseMatrix.conditionalEntropySums();
+			for (int i=0; i<relevantFeatures.length; i++) {
+				allIndexes[i] = allUniverseMatrix.indexOf(relevantFeatures[i]);
+				uis[i] = allUniverseMatrix.entropy(allIndexes[i]) - 
+						1.0 / (allUniverseMatrix.size()-1) * condEntropySums[allIndexes[i]];
+			}
+		}
+		if (supervised) {
+			for (int i=0; i<relevantFeatures.length; i++)
+				labeledIndexes[i] = labeledUniverseMatrix.indexOf(relevantFeatures[i]);
+		}
+		
+		double[][] f2Rels = new double[relevantFeatures.length][relevantFeatures.length];
+		double usu, su, entropyI;
+		for (int i=0; i<relevantFeatures.length; i++) {
+			for (int j=i+1; j<relevantFeatures.length; j++) {
+				if (unsupervised) {
+					entropyI = allUniverseMatrix.entropy(allIndexes[i]);
+					// USU = 2 * [ UI(F<sub>i</sub>|F<sub>j</sub>) / ( H(F<sub>i</sub>) + H(F<sub>j</sub>) ) ]
+					usu = 2 * ( uis[i] / entropyI * 
+								allUniverseMatrix.conditionalEntropy(allIndexes[i], allIndexes[j]) /
+								(entropyI + allUniverseMatrix.entropy(allIndexes[j]))
+							);
+				}else {
+					usu = 0;
+				}
+				su = supervised?
+						labeledUniverseMatrix.symmetricalUncertainty(labeledIndexes[i], labeledIndexes[j]):
+						0;
+				f2Rels[i][j] = tradeOff * usu + (1-tradeOff) * su;
+			}
+		}
+		return f2Rels;
+	}
+	
+	/**
+	 * Construct the Directed Acyclic Graph of relevant features with precomputed F2_Rel values,
+	 * whose edges meet the criteria: <strong>F1_Rel(F<sub>i</sub>, C) >= F1_Rel(F<sub>j</sub>, C)
+	 * &amp; F2_Rel(F<sub>i</sub>, F<sub>j</sub>) >= F1_Rel(F<sub>j</sub>, C)</strong>, with
+	 * F2_Rel(F<sub>i</sub>, F<sub>j</sub>) as edge weight.
+	 * <p>
+	 * Edges are also appended into <code>edgeArray</code>(if not <code>null</code>) while being
+	 * created, for {@link #subGraphOf(DirectedAcyclicGraphEdgeArray)}.
+	 * 
+	 * @see #f2Relevances(Integer[], double, PairwiseEntropyMatrix, PairwiseEntropyMatrix)
+	 * 
+	 * @param relevantFeatures
+	 * 		Relevant features sorted by F1_Rel in descending order.
+	 * @param relevantFeatureF1Rels
+	 * 		A {@link Map} whose keys are relevant features and values are the corresponding
+	 * 		F1-Relevance values.
+	 * @param f2Rels
+	 * 		F2_Rel values of relevant feature pairs.
+	 * @param edgeArray
+	 * 		{@link DirectedAcyclicGraphEdgeArray} to collect edges. / <code>null</code> if not needed.
+	 * @return Edges of the <code>i</code>th node stored in the <code>i</code>th {@link Collection}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] directedAcyclicGraphOf(
+			Integer[] relevantFeatures, Map<Integer, Double> relevantFeatureF1Rels, double[][] f2Rels,
+			DirectedAcyclicGraphEdgeArray edgeArray
+	) {
+		Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges = 
+				new Collection[relevantFeatures.length];
+		double f1RelOfiNC, f1RelOfjNC;
+		for (int i=0; i<relevantFeatures.length; i++) {
+			dagEdges[i] = new LinkedList<>();
+			f1RelOfiNC = relevantFeatureF1Rels.get(relevantFeatures[i]);
+			for (int j=i+1; j<relevantFeatures.length; j++) {
+				f1RelOfjNC = relevantFeatureF1Rels.get(relevantFeatures[j]);
+				if (f1RelOfiNC >= f1RelOfjNC && f2Rels[i][j] >= f1RelOfjNC) {
+					dagEdges[i].add(new DirectedAcyclicGraghWeightedEdge<>(j, f2Rels[i][j]));
+					if (edgeArray!=null)	edgeArray.addEdge(i, j, f2Rels[i][j]);
+				}
+			}
+		}
+		return dagEdges;
+	}
+
 	/**
 	 * Obtain sub-graphs of the given graph.
 	 * <p>
@@ -76,7 +200,7 @@ public class SemisupervisedRepresentativeAlgorithm {
 	 * <p>
 	 * For nodes are not connected, they belong to different sub-graphs respectfully.
 	 * 
-	 * @see #searchGroupMembersByDFS(Collection[], Collection, Collection, boolean[], int)
+	 * @see #subGraphOf(DirectedAcyclicGraphEdgeArray)
 	 * 
 	 * @param dagEdges
 	 * 		Directed Acyclic Graph edges stored in {@link Collection}s. Edges of the
@@ -87,65 +211,59 @@ public class SemisupervisedRepresentativeAlgorithm {
 	public static Collection<Collection<Integer>> subGraphOf(
 			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges
 	) {
-		Collection<Collection<Integer>> groupCollector = new LinkedList<>();
-		boolean[] searched = new boolean[dagEdges.length];
-		for (int i=0; i<dagEdges.length; i++) {
-			if (!searched[i]) {
-				// group nodes and search for members.
-				searchGroupMembersByDFS(dagEdges, groupCollector, null, searched, i);
-			}else {
-				// already group and search the node, skip.
-				continue;
-			}
-		}
-		return groupCollector;
+		return subGraphOf(DirectedAcyclicGraphEdgeArray.of(dagEdges));
 	}
 	
 	/**
-	 * Search group members of <code>currentGroup</code> using <strong>Depth First Search</strong>.
+	 * Obtain sub-graphs of the given graph by <strong>Depth First Search</strong> with an explicit
+	 * <code>int[]</code> stack instead of recursion.
+	 * <p>
+	 * Nodes are searched in ascending order. A node not searched yet starts a new group, and nodes
+	 * being pointed at are added into the group of the one who points at them, unless they have
+	 * been grouped already. So a node pointing at nodes of an earlier group only starts a group of
+	 * its own.
+	 * <p>
+	 * For nodes are not connected, they belong to different sub-graphs respectfully. Sub-graphs are
+	 * in the order of their starting nodes, with nodes in ascending order.
 	 * 
 	 * @param dagEdges
-	 * 		Edges of a directed graph in {@link Map} array.
-	 * @param collector
-	 * 		A collector to collect groups in {@link Collection}.
-	 * @param currentGroup
-	 * 		Current group in {@link Collection} with indexes as elements and group members. / 
-	 * 		<code>null</code> to initiate a new group and the searching.
-	 * @param searched
-	 * 		<code>boolean[]</code> to mark nodes being searched already with a length of
-	 * 		|<code>dagEdges</code>|.
-	 * @param nodeIndex
-	 * 		Current node index.
+	 * 		Directed Acyclic Graph edges in {@link DirectedAcyclicGraphEdgeArray}.
+	 * @return Sub-graphs of the given graph whose elements are the node index ranging from 0 to
+	 * 		|node|-1.
 	 */
-	private static void searchGroupMembersByDFS(
-			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges, 
-			Collection<Collection<Integer>> collector, Collection<Integer> currentGroup, 
-			boolean[] searched, int nodeIndex
-	) {
-		// mark node grouped.
-		if (!searched[nodeIndex]){
-			searched[nodeIndex] = true;
-		}
-		// Initiate group if needed.
-		if (currentGroup==null) {
-			collector.add(currentGroup = new HashSet<>());
-			// The one who points at the others are at the same group with points being pointing at.
-			currentGroup.add(nodeIndex);
-		}
-		// nodes being pointed at is at the same group as the one who points at.
-		for (DirectedAcyclicGraghWeightedEdge<Integer, Double> edge: dagEdges[nodeIndex]) {
-			// if already group and search the node, skip.
-			if (searched[edge.getToNode()]) {
-				continue;
-			}else {
-				// add index(being pointed at) into group.
-				if (currentGroup.add(edge.getToNode())) {
-					// succeeded in adding index, continue to add points being pointed by it.
-					searchGroupMembersByDFS(
-							dagEdges, collector, currentGroup, searched, edge.getToNode()
-					);
+	public static Collection<Collection<Integer>> subGraphOf(DirectedAcyclicGraphEdgeArray dagEdges) {
+		int nodeSize = dagEdges.getNodeSize();
+		Collection<Collection<Integer>> groupCollector = new LinkedList<>();
+		boolean[] searched = new boolean[nodeSize];
+		// Every node is pushed at most once.
+		int[] stack = new int[nodeSize];
+		int top, node, toNode;
+		List<Integer> currentGroup;
+		for (int i=0; i<nodeSize; i++) {
+			// already group and search the node, skip.
+			if (searched[i])	continue;
+			// Initiate group: the one who points at the others are at the same group with points
+			//	being pointing at.
+			searched[i] = true;
+			currentGroup = new ArrayList<>();
+			currentGroup.add(i);
+			stack[0] = i;
+			top = 1;
+			while (top>0) {
+				node = stack[--top];
+				for (int e=dagEdges.edgeStart(node); e<dagEdges.edgeEnd(node); e++) {
+					toNode = dagEdges.toNode(e);
+					// if already group and search the node, skip.
+					if (searched[toNode])	continue;
+					// nodes being pointed at is at the same group as the one who points at.
+					searched[toNode] = true;
+					currentGroup.add(toNode);
+					stack[top++] = toNode;
 				}
 			}
+			Collections.sort(currentGroup);
+			groupCollector.add(currentGroup);
 		}
+		return groupCollector;
 	}
-}
\ No newline at end of file
+}
@@ -31,6 +31,15 @@ public class ClassicHashMapAttributeReductionFSA
 		return "FSA-Classic(HashMap)";
 	}
 
+	@Override
+	public void initDependencyCalculation(Collection<Instance> universes) {
+		if (decEquClass==null) {
+			decEquClass = ClassicAttributeReductionHashMapAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(universes);
+		}
+	}
+
 	@Override
 	public Double dependency(
 			ClassicHashMapCalculation<Double> calculation,
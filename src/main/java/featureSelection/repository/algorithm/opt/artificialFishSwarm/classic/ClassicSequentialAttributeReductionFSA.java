@@ -33,6 +33,15 @@ public class ClassicSequentialAttributeReductionFSA
 		return "FSA-Classic(Seq)";
 	}
 
+	@Override
+	public void initDependencyCalculation(Collection<Instance> universes) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(universes);
+		}
+	}
+
 	@Override
 	public Double dependency(
 			ClassicSequentialCalculation<Double> calculation, Collection<Instance> universes,
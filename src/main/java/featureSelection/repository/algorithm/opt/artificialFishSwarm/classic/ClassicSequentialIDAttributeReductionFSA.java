@@ -32,6 +32,15 @@ public class ClassicSequentialIDAttributeReductionFSA
 	public String shortName() {
 		return "FSA-Classic(Seq.ID)";
 	}
+
+	@Override
+	public void initDependencyCalculation(Collection<Instance> universes) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialIDAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(universes);
+		}
+	}
 	
 	@Override
 	public Double dependency(
@@ -33,6 +33,15 @@ public class HeuristicDependencyCalculationFSA<Cal extends FeatureImportance4Heu
 		return "FSA-HDC";
 	}
 
+	@Override
+	public void initDependencyCalculation(Collection<Instance> universes) {
+		if (decisionValues==null) {
+			decisionValues = HeuristicDependencyCalculationAlgorithm
+								.Basic
+								.decisionValues(universes);
+		}
+	}
+
 	@Override
 	public Double dependency(Cal calculation, Collection<Instance> universes, Position<?> position) {
 		return dependency(calculation, universes, position.getAttributes());
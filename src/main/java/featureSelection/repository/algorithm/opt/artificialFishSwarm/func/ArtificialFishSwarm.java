@@ -12,6 +12,7 @@ import common.utils.RandomUtils;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.procedure.ProcedureComponent;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.artificialFishSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.PositionFactory;
@@ -84,7 +85,6 @@ public class ArtificialFishSwarm {
 						attributesLength
 				);
 		// Fish swarm
-		int fishExitCount;
 		while (generRecord.getGeneration() < params.getIteration()) {
 			// iter++
 			generRecord.nextGeneration();
@@ -98,41 +98,92 @@ public class ArtificialFishSwarm {
 								random
 							);
 			// Loop and do update.
-			int loop = 0;
-			UpdateLoop:
-			while (true) {
-				update(
-					calculation,
-					sigDeviation,
-					collectionList,
-					fishGroup, 
-					params,
-					generRecord, 
-					attributesLength, 
-					random
-				);
-				loop++;
-				// Loop until all fishes exit or reach max update iteration.
-				if (params.getMaxFishUpdateIteration()>0 && 
-					params.getMaxFishUpdateIteration()<=loop
-				) {
-					break;
-				}else {
-					fishExitCount = 0;
-					for (int i=0; i<fishGroup.length; i++) {
-						if (params.getMaxFishExit()>0) {
-							if (fishGroup[i].isExited())	fishExitCount++;
-							if (params.getMaxFishExit()<=fishExitCount)	break;
-							else if (i==fishGroup.length-1)	continue UpdateLoop;
-						}else {
-							if (!fishGroup[i].isExited())	continue UpdateLoop;
-						}
+			swim(
+				calculation,
+				sigDeviation,
+				collectionList,
+				fishGroup, 
+				params,
+				generRecord, 
+				attributesLength, 
+				random
+			);
+		}
+		return fishGroup2Reducts(generRecord);
+	}
+	
+	/**
+	 * Update fishes in a generation by {@link #update(FeatureImportance, Number, Collection, Fish[],
+	 * ReductionParameters, GenerationRecord, int, Random)} until all fishes exit(or the max number of
+	 * fishes exit) or reach max update iteration.
+	 * 
+	 * @param <Cal>
+	 * 		Type of implemented {@link FeatureImportance}.
+	 * @param <Sig>
+	 * 		Type of Feature(subset) Significance.
+	 * @param <CollectionItem>
+	 * 		{@link Instance} or EquivalentClass.
+	 * @param <PosiValue>
+	 * 		Type of {@link Position} value.
+	 * @param <Posi>
+	 * 		Type of implemented {@link Position}.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / <code>EquivalenceClass</code>
+	 * @param fishGroup
+	 * 		An array of {@link Fish} as fish group.
+	 * @param params
+	 * 		{@link ReductionParameters} of Artificial Fish Swarm Algorithm.
+	 * @param generRecord
+	 * 		Artificial Fish Swarm Algorithm {@link GenerationRecord}.
+	 * @param attributesLength
+	 * 		The length of condition attributes.
+	 * @param random
+	 * 		{@link Random}.
+	 */
+	public static <Cal extends FeatureImportance<Sig>, Sig extends Number, CollectionItem, PosiValue,
+					Posi extends Position<PosiValue>>
+		void swim(
+			Cal calculation, Sig sigDeviation,
+			Collection<CollectionItem> collectionList, Fish<Posi>[] fishGroup, ReductionParameters params, 
+			GenerationRecord<Posi, Sig> generRecord, int attributesLength, Random random
+	) {
+		int fishExitCount, loop = 0;
+		UpdateLoop:
+		while (true) {
+			update(
+				calculation,
+				sigDeviation,
+				collectionList,
+				fishGroup, 
+				params,
+				generRecord, 
+				attributesLength, 
+				random
+			);
+			loop++;
+			// Loop until all fishes exit or reach max update iteration.
+			if (params.getMaxFishUpdateIteration()>0 && 
+				params.getMaxFishUpdateIteration()<=loop
+			) {
+				break;
+			}else {
+				fishExitCount = 0;
+				for (int i=0; i<fishGroup.length; i++) {
+					if (params.getMaxFishExit()>0) {
+						if (fishGroup[i].isExited())	fishExitCount++;
+						if (params.getMaxFishExit()<=fishExitCount)	break;
+						else if (i==fishGroup.length-1)	continue UpdateLoop;
+					}else {
+						if (!fishGroup[i].isExited())	continue UpdateLoop;
 					}
-					break;
 				}
+				break;
 			}
 		}
-		return fishGroup2Reducts(generRecord);
 	}
 	
 	/**
@@ -289,7 +340,8 @@ public class ArtificialFishSwarm {
 															.dependency(
 																calculation, 
 																collectionList, 
-																searchPos.getAttributes()
+																searchPos.getAttributes(),
+																params.getFitnessCache()
 													)
 												),
 										params.getFitnessAlgorthm()
@@ -300,7 +352,8 @@ public class ArtificialFishSwarm {
 															.dependency(
 																calculation, 
 																collectionList, 
-																swarmPos.getAttributes()
+																swarmPos.getAttributes(),
+																params.getFitnessCache()
 													)
 												),
 										params.getFitnessAlgorthm()
@@ -311,11 +364,13 @@ public class ArtificialFishSwarm {
 															.dependency(
 																calculation, 
 																collectionList, 
-																followPos.getAttributes()
+																followPos.getAttributes(),
+																params.getFitnessCache()
 													)
 												)
 									);
 				fishes[i].setPosition(bestFitness.getPosition());
+				fishes[i].setFitnessValue(bestFitness.getFitnessValue());
 				// currentFish.len = sum(the number of 1 in currentFish.pos)
 				// currentFish.fitness = fitnessCount(currentFish.pos)
 				// if (dep(currentFish.posi)==dep(C|D)
@@ -407,16 +462,8 @@ public class ArtificialFishSwarm {
 		for (int ext=0, p=1; p<=positionLength && ext<extraAttributes.length; p++)
 			if (!posi.containsAttribute(p))	extraAttributes[ext++] = p;
 		
-		Fitness<Posi, FV> currentFishFitness =
-				fitnessAlgorithm.calculateFitness(
-						redAlg, 
-						fish.getPosition().getAttributes(),
-						(Sig) redAlg.dependency(
-							calculation,
-							collectionList,
-							fish.getPosition()
-						)
-				);
+		FV currentFishFitness =
+				fitnessValue(calculation, collectionList, fish, fitnessAlgorithm, redAlg, null);
 		// Loop and add position value until fitnessCount(nextPos) > currentFish.fitness or i>= tryNumbers
 		int[] examAttributes = Arrays.copyOf(attributes, attributes.length+1);
 		RandomUtils.ShuffleArrayIterator shuffledAttrIterator = new RandomUtils.ShuffleArrayIterator(extraAttributes, random);
@@ -436,7 +483,7 @@ public class ArtificialFishSwarm {
 					);
 			if (fitnessAlgorithm.compareFitnessValue(
 					updatedFitness.getFitnessValue(), 
-					currentFishFitness.getFitnessValue()
+					currentFishFitness
 				)>0
 			)	break;
 		}
@@ -501,4 +548,88 @@ public class ArtificialFishSwarm {
 					}
 			}).collect(Collectors.toList());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Get the fitness value of the current position of the given {@link Fish}: the one cached in
+	 * the {@link Fish} if its position hasn't changed, otherwise calculate it(with dependency
+	 * memoized in <code>cache</code>) and cache it in the {@link Fish}.
+	 * 
+	 * @param <Cal>
+	 * 		The type of {@link FeatureImportance} for feature importance measure.
+	 * @param <Sig>
+	 * 		Implemented {@link Number} for feature importance measure value.
+	 * @param <CollectionItem>
+	 * 		{@link Instance} or Equivalence Class.
+	 * @param <FV>
+	 * 		The type of Fitness.
+	 * @param <Posi>
+	 * 		Class extends {@link Position}.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / EquivalenceClass.
+	 * @param fish
+	 * 		{@link Fish}.
+	 * @param fitnessAlgorithm
+	 * 		Implemented {@link FitnessAlgorithm}.
+	 * @param redAlg
+	 * 		{@link ReductionAlgorithm} for dependency calculation.
+	 * @param cache
+	 * 		{@link FitnessCache} of dependencies. <code>null</code> if not to be cached.
+	 * @return {@link FV}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Cal extends FeatureImportance<Sig>, Sig extends Number, CollectionItem, 
+					FV extends FitnessValue<? extends Number>, Posi extends Position<?>> FV
+		fitnessValue(
+			Cal calculation, Collection<CollectionItem> collectionList, Fish<Posi> fish,
+			FitnessAlgorithm<Cal, Sig, FV, Posi> fitnessAlgorithm,
+			ReductionAlgorithm<Cal, Sig, CollectionItem> redAlg, FitnessCache<Sig> cache
+	) {
+		FV fitnessValue = (FV) fish.getFitnessValue();
+		if (fitnessValue==null) {
+			int[] attributes = fish.getPosition().getAttributes();
+			fitnessValue = fitnessAlgorithm.calculateFitness(
+								redAlg,
+								attributes,
+								redAlg.dependency(calculation, collectionList, attributes, cache)
+							).getFitnessValue();
+			fish.setFitnessValue(fitnessValue);
+		}
+		return fitnessValue;
+	}
+
+	/**
+	 * Get the fitness value of the current position of the given {@link Fish} using
+	 * {@link ReductionParameters#getFitnessAlgorthm()}, {@link ReductionParameters#getReductionAlgorithm()}
+	 * and the swarm-wide {@link ReductionParameters#getFitnessCache()}.
+	 * 
+	 * @see #fitnessValue(FeatureImportance, Collection, Fish, FitnessAlgorithm, ReductionAlgorithm,
+	 * 		FitnessCache)
+	 * 
+	 * @param <Cal>
+	 * 		The type of {@link FeatureImportance} for feature importance measure.
+	 * @param <CollectionItem>
+	 * 		{@link Instance} or Equivalence Class.
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / EquivalenceClass.
+	 * @param fish
+	 * 		{@link Fish}.
+	 * @param params
+	 * 		{@link ReductionParameters} of Artificial Fish Swarm Algorithm.
+	 * @return {@link FitnessValue}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <Cal extends FeatureImportance<?>, CollectionItem> FitnessValue<? extends Number>
+		fitnessValue(
+			Cal calculation, Collection<CollectionItem> collectionList, Fish<?> fish,
+			ReductionParameters params
+	) {
+		return (FitnessValue<? extends Number>) fitnessValue(
+					(FeatureImportance<Number>) calculation, collectionList, (Fish<Position<?>>) fish,
+					params.getFitnessAlgorthm(), params.getReductionAlgorithm(), params.getFitnessCache()
+				);
+	}
+}
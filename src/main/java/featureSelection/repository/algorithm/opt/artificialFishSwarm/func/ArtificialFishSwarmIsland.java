@@ -0,0 +1,163 @@
+package featureSelection.repository.algorithm.opt.artificialFishSwarm.func;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Random;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.artificialFishSwarm.GenerationRecord;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.PositionFactory;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.island.Island;
+import featureSelection.repository.entity.opt.island.IslandModel;
+import featureSelection.repository.entity.opt.island.Migrant;
+import lombok.Getter;
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@link Island} of <strong>Artificial Fish Swarm Algorithm</strong>, evolving in the same way as
+ * {@link ArtificialFishSwarm#reduction(Collection, Class, Number, ReductionParameters, int, Random)}.
+ * <p>
+ * Emigrants are the best(i.e. shortest) positions in the {@link GenerationRecord}, and immigrants
+ * are set as the positions of the first fishes of the next generated fish group. Positions of
+ * {@link #recordOf(Collection)} are recorded only if their dependencies reach the global one, as
+ * fishes exit.
+ * 
+ * @author Benjamin_L
+ *
+ * @param <Cal>
+ * 		Type of implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Type of Feature(subset) Significance.
+ * @param <CollectionItem>
+ * 		{@link Instance} or EquivalentClass.
+ * @param <PosiValue>
+ * 		Type of {@link Position} value.
+ * @param <Posi>
+ * 		Type of implemented {@link Position}.
+ */
+public class ArtificialFishSwarmIsland<Cal extends FeatureImportance<Sig>, Sig extends Number, 
+										CollectionItem, PosiValue, Posi extends Position<PosiValue>>
+	implements Island<GenerationRecord<Posi, Sig>>
+{
+	private final Cal calculation;
+	private final Sig sigDeviation;
+	private final Collection<CollectionItem> collectionList;
+	private final ReductionParameters params;
+	private final int attributesLength;
+	private final Random random;
+	
+	@Getter private final GenerationRecord<Posi, Sig> generationRecord;
+	private final Collection<Migrant> immigrants;
+	
+	/**
+	 * Construct an island with an initiated {@link GenerationRecord}.
+	 * 
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / <code>EquivalenceClass</code>
+	 * @param params
+	 * 		{@link ReductionParameters} of Artificial Fish Swarm Algorithm.
+	 * @param attributesLength
+	 * 		The length of condition attributes.
+	 * @param random
+	 * 		{@link Random} of the island.
+	 */
+	public ArtificialFishSwarmIsland(
+			Cal calculation, Sig sigDeviation, Collection<CollectionItem> collectionList,
+			ReductionParameters params, int attributesLength, Random random
+	) {
+		this.calculation = calculation;
+		this.sigDeviation = sigDeviation;
+		this.collectionList = collectionList;
+		this.params = params;
+		this.attributesLength = attributesLength;
+		this.random = random;
+		generationRecord = ArtificialFishSwarm.initGenerationRecord(calculation, collectionList, params, attributesLength);
+		immigrants = new LinkedList<>();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean evolve(int generations) {
+		for (int g=0; g<generations && generationRecord.getGeneration()<params.getIteration(); g++) {
+			// iter++
+			generationRecord.nextGeneration();
+			// Generate |groupSize| fishes, with immigrants as the first ones.
+			Fish<Posi>[] fishGroup =
+					params.getFishGroupUpdateAlgorithm()
+							.generateFishGroup(
+								params.getGroupSize(), 
+								attributesLength, 
+								params, 
+								random
+							);
+			int f = 0;
+			for (Migrant migrant: immigrants) {
+				if (f>=fishGroup.length)	break;
+				fishGroup[f++].setPosition(
+					(Posi) PositionFactory.newPosition(
+						params.getPositionClass(), migrant.getAttributes(), attributesLength
+					)
+				);
+			}
+			immigrants.clear();
+			// Loop and do update.
+			ArtificialFishSwarm.swim(
+				calculation, sigDeviation, collectionList, fishGroup, params, 
+				generationRecord, attributesLength, random
+			);
+		}
+		return generationRecord.getGeneration()<params.getIteration();
+	}
+
+	/**
+	 * Get the best positions as {@link Migrant}s with the fitness of <code>-|position|</code>.
+	 * None before any fish exits.
+	 */
+	@Override
+	public Collection<Migrant> emigrants(int size) {
+		Collection<Migrant> emigrants = new ArrayList<>(size);
+		if (generationRecord.getBestFeatureSignificance()==null)	return emigrants;
+		for (Posi position: generationRecord.getBestFitnessPosition()) {
+			if (emigrants.size()>=size)	break;
+			int[] attributes = position.getAttributes().clone();
+			emigrants.add(new Migrant(attributes, -attributes.length));
+		}
+		return emigrants;
+	}
+
+	@Override
+	public void immigrate(Collection<Migrant> migrants) {
+		immigrants.addAll(IslandModel.best(migrants, params.getGroupSize()));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public GenerationRecord<Posi, Sig> recordOf(Collection<Migrant> migrants) {
+		GenerationRecord<Posi, Sig> record =
+				ArtificialFishSwarm.initGenerationRecord(calculation, collectionList, params, attributesLength);
+		for (Migrant migrant: migrants) {
+			Posi position = (Posi) PositionFactory.newPosition(
+								params.getPositionClass(), migrant.getAttributes(), attributesLength
+							);
+			Sig dependency = (Sig) params.getReductionAlgorithm()
+										.dependency(calculation, collectionList, position);
+			if (Double.compare(
+					FastMath.abs(record.getGlobalDependency() - dependency.doubleValue()),
+					sigDeviation.doubleValue()
+				)<=0
+			) {
+				record.updateBestFeatureSignificance(position, dependency);
+			}
+		}
+		return record;
+	}
+}
@@ -0,0 +1,199 @@
+package featureSelection.repository.algorithm.opt.genetic;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Random;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.genetic.GenerationRecord;
+import featureSelection.repository.entity.opt.genetic.ReductionParameters;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.ChromosomeFactory;
+import featureSelection.repository.entity.opt.genetic.interf.ReductionAlgorithm;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
+import featureSelection.repository.entity.opt.genetic.interf.fitness.Fitness;
+import featureSelection.repository.entity.opt.genetic.interf.fitness.fitnessValue.FitnessValue;
+import featureSelection.repository.entity.opt.island.Island;
+import featureSelection.repository.entity.opt.island.IslandModel;
+import featureSelection.repository.entity.opt.island.Migrant;
+import lombok.Getter;
+
+/**
+ * {@link Island} of <strong>Genetic Algorithm</strong>, evolving in the same way as the generation
+ * loop of the tester: calculate fitnesses of chromosomes, update the best fitnesses, check
+ * convergence, then cross over and mutate.
+ * <p>
+ * Emigrants are the chromosomes of the best fitnesses in the {@link GenerationRecord}, and
+ * immigrants are re-encoded by {@link ChromosomeFactory#encode(int[], int, Class)} to replace the
+ * last chromosomes of the next generation before fitnesses are calculated.
+ *
+ * @author Benjamin_L
+ *
+ * @param <Cal>
+ * 		Type of implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Type of feature significance that implements {@link Number}.
+ * @param <CollectionItem>
+ * 		{@link Instance} or Equivalence Class.
+ * @param <Chr>
+ * 		Type of Implemented {@link Chromosome}.
+ * @param <FValue>
+ * 		Type of fitness value.
+ */
+public class GeneticAlgorithmIsland<Cal extends FeatureImportance<Sig>, Sig extends Number,
+									CollectionItem, Chr extends Chromosome<?>,
+									FValue extends FitnessValue<?>>
+	implements Island<GenerationRecord<Chr, FValue>>
+{
+	private final Cal calculation;
+	private final Collection<CollectionItem> collectionList;
+	private final ReductionParameters<Cal, Sig, CollectionItem, Chr, FValue> params;
+	private final Random random;
+
+	@Getter private final GenerationRecord<Chr, FValue> generationRecord;
+	private final Collection<Migrant> immigrants;
+	private Chr[] chromosomes;
+	/**
+	 * Whether the population has converged or reached max fitness.
+	 */
+	private boolean exit;
+
+	/**
+	 * Construct an island with chromosomes initiated by
+	 * {@link ReductionParameters#getChromosomeInitAlgorithm()}.
+	 *
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / <code>EquivalenceClass</code>
+	 * @param params
+	 * 		{@link ReductionParameters} of Genetic Algorithm.
+	 * @param random
+	 * 		{@link Random} of the island.
+	 */
+	public GeneticAlgorithmIsland(
+			Cal calculation, Collection<CollectionItem> collectionList,
+			ReductionParameters<Cal, Sig, CollectionItem, Chr, FValue> params, Random random
+	) {
+		this.calculation = calculation;
+		this.collectionList = collectionList;
+		this.params = params;
+		this.random = random;
+		generationRecord = new GenerationRecord<>();
+		immigrants = new LinkedList<>();
+		chromosomes = params.getChromosomeInitAlgorithm().initChromosomes(random);
+	}
+
+	@Override
+	public boolean evolve(int generations) {
+		ReductionAlgorithm<Cal, Sig, CollectionItem, Chr, FValue> redAlg = params.getReductionAlgorithm();
+		for (int g=0; g<generations && !exit && generationRecord.getGeneration()<params.getIterateNum(); g++) {
+			// Mark the current generation.
+			generationRecord.nextGeneration();
+			// Replace the last chromosomes with immigrants.
+			int c = chromosomes.length;
+			for (Migrant migrant: immigrants) {
+				if (c==0)	break;
+				chromosomes[--c] = ChromosomeFactory.encode(
+										migrant.getAttributes(), params.getChromosomeLength(),
+										redAlg.getChromosomeClass()
+									);
+			}
+			immigrants.clear();
+			// Calculate fitnesses of chromosomes.
+			Fitness<Chr, FValue>[] fitness = redAlg.calculateFitness(calculation, collectionList, chromosomes);
+			// Update generation record best fitnesses.
+			boolean resetConvergenceCount = updateBestFitness(generationRecord, fitness);
+			// Check if break for reaching max convergence.
+			if (generationRecord.getConvergenceCount() >= params.getConvergenceLimit()) {
+				exit = true;
+				break;
+			}else if (!resetConvergenceCount) {
+				generationRecord.countConvergence();
+			}else {
+				generationRecord.resetConvergence();
+			}
+			// Crossing-overs.
+			chromosomes = params.getCrossAlgorithm().crossChromosomes(fitness, params, random);
+			// Mutations.
+			for (Chr chromosome: chromosomes) {
+				if (chromosome!=null)	params.getMutationAlgorithm().mutate(chromosome, random);
+			}
+			// Reaching max distinct best fitness value(if max fitness is satisfied).
+			exit = params.getMaxDistinctBestFitness()!=null &&
+					redAlg.compareMaxFitness(params.getMaxFitness(), generationRecord)>=0 &&
+					generationRecord.getDistinctBestFitnessCount()>=params.getMaxDistinctBestFitness();
+		}
+		return !exit && generationRecord.getGeneration()<params.getIterateNum();
+	}
+
+	/**
+	 * Get the chromosomes of the best fitnesses as {@link Migrant}s. None before any fitness is
+	 * calculated.
+	 */
+	@Override
+	public Collection<Migrant> emigrants(int size) {
+		Collection<Migrant> emigrants = new ArrayList<>(size);
+		if (generationRecord.getBestFitness()==null)	return emigrants;
+		for (Fitness<Chr, FValue> fitness: generationRecord.getFitness()) {
+			if (emigrants.size()>=size)	break;
+			emigrants.add(new Migrant(
+					fitness.getChromosome().getAttributes().clone(),
+					fitness.getFitnessValue().getValue().doubleValue()
+			));
+		}
+		return emigrants;
+	}
+
+	@Override
+	public void immigrate(Collection<Migrant> migrants) {
+		immigrants.addAll(IslandModel.best(migrants, params.getPopulation()));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public GenerationRecord<Chr, FValue> recordOf(Collection<Migrant> migrants) {
+		ReductionAlgorithm<Cal, Sig, CollectionItem, Chr, FValue> redAlg = params.getReductionAlgorithm();
+		Chr[] migrantChromosomes = (Chr[]) Array.newInstance(redAlg.getChromosomeClass(), migrants.size());
+		int c = 0;
+		for (Migrant migrant: migrants) {
+			migrantChromosomes[c++] = ChromosomeFactory.encode(
+											migrant.getAttributes(), params.getChromosomeLength(),
+											redAlg.getChromosomeClass()
+										);
+		}
+		GenerationRecord<Chr, FValue> record = new GenerationRecord<>();
+		updateBestFitness(record, redAlg.calculateFitness(calculation, collectionList, migrantChromosomes));
+		return record;
+	}
+
+	/**
+	 * Update the best fitnesses of the given {@link GenerationRecord} by the given fitnesses.
+	 *
+	 * @param record
+	 * 		{@link GenerationRecord} to be updated.
+	 * @param fitness
+	 * 		Fitnesses of chromosomes, <code>null</code> ones skipped.
+	 * @return <code>true</code> if a greater best fitness is found after the 1st one.
+	 */
+	private boolean updateBestFitness(GenerationRecord<Chr, FValue> record, Fitness<Chr, FValue>[] fitness) {
+		boolean resetConvergenceCount = false;
+		for (Fitness<Chr, FValue> f: fitness) {
+			if (f==null)	continue;
+			if (record.getBestFitness()==null) {
+				record.updateBestFitness(f);
+			}else {
+				int bestFitnessCmp = params.getReductionAlgorithm().compareBestFitness(f, record);
+				if (bestFitnessCmp>0) {
+					record.updateBestFitness(f);
+					resetConvergenceCount = true;
+				}else if (bestFitnessCmp==0) {
+					record.addBestFitness(f);
+				}
+			}
+		}
+		return resetConvergenceCount;
+	}
+}
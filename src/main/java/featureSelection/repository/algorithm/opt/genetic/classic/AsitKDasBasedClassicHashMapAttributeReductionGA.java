@@ -44,6 +44,15 @@ public class AsitKDasBasedClassicHashMapAttributeReductionGA<Chr extends Classic
 		return "GA-AsitKDas-Classic(HashMap)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEquClass==null) {
+			decEquClass = ClassicAttributeReductionHashMapAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public Fitness<Chr, FitnessValue4Double4AsitKDas<Double>>[] calculateFitness(
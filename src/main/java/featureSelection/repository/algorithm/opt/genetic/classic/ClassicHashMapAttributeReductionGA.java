@@ -36,6 +36,15 @@ public class ClassicHashMapAttributeReductionGA<Chr extends ClassicChromosome<?>
 		return "GA-Classic(HashMap)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEquClass==null) {
+			decEquClass = ClassicAttributeReductionHashMapAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public Fitness<Chr, FitnessValue<Double>>[] calculateFitness(
@@ -39,6 +39,15 @@ public class ClassicSequentialAttributeReductionGA<Chr extends ClassicChromosome
 	public String shortName() {
 		return "GA-Classic(Seq)";
 	}
+
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
 	
 	@Override
 	public FitnessValue<Double> calculateFitness(
@@ -40,6 +40,15 @@ public class ClassicSequentialIDAttributeReductionGA<Chr extends ClassicChromoso
 	public String shortName() {
 		return "GA-Classic(Seq.ID)";
 	}
+
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialIDAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
 	
 	@Override
 	public FitnessValue<Double> calculateFitness(
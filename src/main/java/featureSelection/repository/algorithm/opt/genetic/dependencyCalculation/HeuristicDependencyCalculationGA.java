@@ -42,6 +42,11 @@ public class HeuristicDependencyCalculationGA<Chr extends HDCChromosome<?>, Sig
 		return "GA-HDC";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		getDecisionValues(collection);
+	}
+
 	@Override
 	public FitnessValue<Double> calculateFitness(
 			FeatureImportance4HeuristicDependencyCalculation<Sig> calculation,
@@ -17,6 +17,7 @@ import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenc
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.core.attributeCombination.AttrProcessStrategy4Comb;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.core.attributeCombination.CapacityCalculator;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
 import featureSelection.repository.entity.opt.genetic.GenerationRecord;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.ChromosomeFactory;
 import featureSelection.repository.entity.opt.genetic.impl.fitness.DoubleFitness;
@@ -119,6 +120,18 @@ public abstract class AbstractIPNECBasedGA<Chr extends RECChromosome<?>,
 													gene, chromosomes[i].getClass()
 											)
 										);
+						}else if (long[].class.equals(chromosomes[i].encodedTypeClass())) {
+							long[] gene = new long[BitPackedEncoding.wordsOf(chromosomes[i].encodedValuesLength())];
+							for (int parAttr: calculation.getPartitionAttributes())
+								BitPackedEncoding.set(gene, parAttr);
+								
+							fitness[i] = new DoubleFitness<>(
+											fitnessValue, 
+											(Chr) ChromosomeFactory.getChromosome(
+													gene, chromosomes[i].encodedValuesLength(),
+													chromosomes[i].getClass()
+											)
+										);
 						}else {
 							byte[] gene = new byte[chromosomes[i].encodedValuesLength()];
 							for (int parAttr: calculation.getPartitionAttributes())
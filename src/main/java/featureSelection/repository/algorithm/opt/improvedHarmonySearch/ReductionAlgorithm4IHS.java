@@ -24,6 +24,11 @@ public abstract class ReductionAlgorithm4IHS<FI extends FeatureImportance<Sig>,
 {
 	protected Map<Integer, Integer> attributeIndexDictionary = null;
 
+	@Override
+	public void initFitnessCalculation(Collection<CollectionItem> collection, int[] attributes) {
+		if (attributeIndexDictionary==null)	initAttributeIndexDictionary(attributes);
+	}
+
 	@Override
 	public FValue fitnessValue(
 			FI calculation, Collection<CollectionItem> collection,
@@ -31,6 +31,16 @@ public class ClassicHashMapAttributeReductionIHS<Sig extends Number>
 		return "IHS-Classic(HashMap)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection, int[] attributes) {
+		super.initFitnessCalculation(collection, attributes);
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionHashMapAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 	@Override
 	public FitnessValue<Sig> fitnessValue(
 			ClassicHashMapCalculation<Sig> calculation, Collection<Instance> collection,
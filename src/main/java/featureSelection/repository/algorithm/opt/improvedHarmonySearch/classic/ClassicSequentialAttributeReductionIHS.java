@@ -31,6 +31,16 @@ public class ClassicSequentialAttributeReductionIHS<Sig extends Number>
 		return "IHS-Classic(Seq.)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection, int[] attributes) {
+		super.initFitnessCalculation(collection, attributes);
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 	@Override
 	public FitnessValue<Sig> fitnessValue(
 			ClassicSequentialCalculation<Sig> calculation, Collection<Instance> collection, int[] attributes
@@ -32,6 +32,16 @@ public class ClassicSequentialIDAttributeReductionIHS<Sig extends Number>
 		return "IHS-Classic(Seq.ID)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection, int[] attributes) {
+		super.initFitnessCalculation(collection, attributes);
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialIDAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 	@Override
 	public FitnessValue<Sig> fitnessValue(
 			ClassicSequentialIDCalculation<Sig> calculation, Collection<Instance> collection,
@@ -32,6 +32,16 @@ public class HeuristicDependencyCalculationIHS<Cal extends FeatureImportance4Heu
 		return "IHS-HDC";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection, int[] attributes) {
+		super.initFitnessCalculation(collection, attributes);
+		if (decisionValues==null) {
+			decisionValues = HeuristicDependencyCalculationAlgorithm
+								.Basic
+								.decisionValues(collection);
+		}
+	}
+
 	@Override
 	public FitnessValue<Sig> fitnessValue(
 			Cal calculation, Collection<Instance> collection, int[] attributes
@@ -0,0 +1,274 @@
+package featureSelection.repository.algorithm.opt.improvedHarmonySearch.func;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Random;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.HarmonyFactory;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.ReductionAlgorithm;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.fitness.Fitness;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.fitness.fitnessValue.FitnessValue;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.harmony.entity.Harmony;
+import featureSelection.repository.entity.opt.island.Island;
+import featureSelection.repository.entity.opt.island.IslandModel;
+import featureSelection.repository.entity.opt.island.Migrant;
+import lombok.Getter;
+
+/**
+ * {@link Island} of <strong>Improved Harmony Search</strong>, evolving in the same way as the
+ * generation loop of the tester: improvise every attribute of the harmony memory group, follow
+ * the global best harmony, then check convergence.
+ * <p>
+ * Harmonies are encoded by indexes of {@link ReductionParameters#getAttributes()}, so emigrants are
+ * the best harmonies mapped to attributes, and immigrants are mapped back to indexes as the last
+ * harmonies of the next generation, replacing the global best harmony if better. The pitch
+ * adjustment rate and bandwidth algorithms of the {@link ReductionParameters} are stateful, so
+ * parameters should not be shared by islands running as threads.
+ *
+ * @author Benjamin_L
+ *
+ * @param <Cal>
+ * 		Type of implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Type of feature significance that implements {@link Number}.
+ * @param <CollectionItem>
+ * 		{@link Instance} or Equivalence Class.
+ * @param <Hrmny>
+ * 		Type of implemented {@link Harmony}.
+ * @param <FValue>
+ * 		Type of implemented {@link FitnessValue}.
+ */
+public class ImprovedHarmonySearchIsland<Cal extends FeatureImportance<Sig>, Sig extends Number,
+										CollectionItem, Hrmny extends Harmony<?>,
+										FValue extends FitnessValue<Sig>>
+	implements Island<GenerationRecord<FValue>>
+{
+	private final Cal calculation;
+	private final Collection<CollectionItem> collectionList;
+	private final ReductionParameters<Sig, Hrmny, FValue> params;
+	private final ReductionAlgorithm<Cal, Sig, CollectionItem, FValue> redAlg;
+	private final Random random;
+
+	@Getter private final GenerationRecord<FValue> generationRecord;
+	private final Collection<Migrant> immigrants;
+	private final Hrmny[] harmonyMemoryGroup;
+	private Hrmny gBest;
+	private Fitness<Sig, FValue> bestFitness;
+	/**
+	 * Whether the harmony search has converged or reached max fitness.
+	 */
+	private boolean exit;
+
+	/**
+	 * Construct an island with harmonies initiated by
+	 * {@link ReductionParameters#getHarmonyInitializationAlg()} and the best of them as the global
+	 * best harmony.
+	 *
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / <code>EquivalenceClass</code>
+	 * @param params
+	 * 		{@link ReductionParameters} of Improved Harmony Search, owned by the island.
+	 * @param random
+	 * 		{@link Random} of the island.
+	 */
+	@SuppressWarnings("unchecked")
+	public ImprovedHarmonySearchIsland(
+			Cal calculation, Collection<CollectionItem> collectionList,
+			ReductionParameters<Sig, Hrmny, FValue> params, Random random
+	) {
+		this.calculation = calculation;
+		this.collectionList = collectionList;
+		this.params = params;
+		this.random = random;
+		redAlg = params.getRedAlg();
+		generationRecord = new GenerationRecord<>();
+		immigrants = new LinkedList<>();
+
+		harmonyMemoryGroup = params.getHarmonyInitializationAlg().init(params, random);
+		Fitness<Sig, FValue> fitness;
+		for (Hrmny harmony: harmonyMemoryGroup) {
+			fitness = redAlg.fitness(calculation, harmony, collectionList, params.getAttributes());
+			if (bestFitness==null || fitness.compareToFitness(bestFitness)>0) {
+				bestFitness = fitness;
+				gBest = (Hrmny) HarmonyFactory.copyHarmony(harmony);
+			}
+		}
+		generationRecord.updateBestFitness(bestFitness, gBest);
+		params.getBwAlg().reset();
+		params.getParAlg().reset();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public boolean evolve(int generations) {
+		int attributeLength = params.getAttributes().length;
+		boolean[] harmonyUpdated = new boolean[harmonyMemoryGroup.length];
+		double par, bw;
+		for (int g=0; g<generations && !exit && generationRecord.getGeneration()<params.getIteration(); g++) {
+			generationRecord.nextGeneration();
+			// Set immigrants as the last harmonies.
+			int i = harmonyMemoryGroup.length;
+			for (Migrant migrant: immigrants) {
+				if (i==0)	break;
+				Hrmny harmony = harmonyMemoryGroup[--i];
+				encode(harmony, migrant);
+				updateBestFitness(
+					harmony, redAlg.fitness(calculation, harmony, collectionList, params.getAttributes())
+				);
+			}
+			immigrants.clear();
+			// Improvise attributes.
+			params.getParAlg().preProcess();
+			params.getBwAlg().preProcess();
+			for (int j=0; j<attributeLength; j++) {
+				par = params.getParAlg().getPitchAdjustmentRate();
+				bw = params.getBwAlg().getBandwidth();
+				for (int h=0; h<harmonyMemoryGroup.length; h++)
+					harmonyUpdated[h] = improvise(harmonyMemoryGroup[h], j, par, bw);
+				for (int h=0; h<harmonyMemoryGroup.length; h++) {
+					if (harmonyUpdated[h] || j==0) {
+						updateBestFitness(
+							harmonyMemoryGroup[h],
+							redAlg.fitness(calculation, harmonyMemoryGroup[h], collectionList, params.getAttributes())
+						);
+					}
+				}
+			}
+			// Check if reaching max convergence.
+			if (Double.compare(
+					generationRecord.getBestFitness().getValue().doubleValue(),
+					bestFitness.getFitnessValue().getValue().doubleValue()
+				)==0
+			) {
+				generationRecord.countConvergence();
+				if (gBest.getAttributes().length!=0)	generationRecord.addBestFitness(gBest);
+			}else {
+				generationRecord.resetConvergence();
+				generationRecord.updateBestFitness(bestFitness, gBest);
+			}
+			if (generationRecord.getConvergence() >= params.getConvergence()) {
+				exit = true;
+				break;
+			}
+			// Reaching max distinct best fitness value(if max fitness is satisfied).
+			exit = params.getMaxDistinctBestFitness()!=null &&
+					redAlg.compareToMaxFitness(bestFitness, (ReductionParameters) params)>0 &&
+					generationRecord.getDistinctBestFitnessCount()>=params.getMaxDistinctBestFitness();
+		}
+		return !exit && generationRecord.getGeneration()<params.getIteration();
+	}
+
+	/**
+	 * Get the best harmonies as {@link Migrant}s of attributes.
+	 */
+	@Override
+	public Collection<Migrant> emigrants(int size) {
+		Collection<Migrant> emigrants = new ArrayList<>(size);
+		int[] attributesSrc = params.getAttributes();
+		double fitness = generationRecord.getBestFitness().getValue().doubleValue();
+		for (Harmony<?> harmony: generationRecord.getBestHarmonies()) {
+			if (emigrants.size()>=size)	break;
+			int[] indexes = harmony.getAttributes();
+			int[] attributes = new int[indexes.length];
+			for (int i=0; i<indexes.length; i++)	attributes[i] = attributesSrc[indexes[i]];
+			emigrants.add(new Migrant(attributes, fitness));
+		}
+		return emigrants;
+	}
+
+	@Override
+	public void immigrate(Collection<Migrant> migrants) {
+		immigrants.addAll(IslandModel.best(migrants, harmonyMemoryGroup.length));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public GenerationRecord<FValue> recordOf(Collection<Migrant> migrants) {
+		GenerationRecord<FValue> record = new GenerationRecord<>();
+		Fitness<Sig, FValue> best = null, fitness;
+		for (Migrant migrant: migrants) {
+			Hrmny harmony = (Hrmny) HarmonyFactory.copyHarmony(harmonyMemoryGroup[0]);
+			encode(harmony, migrant);
+			fitness = redAlg.fitness(calculation, harmony, collectionList, params.getAttributes());
+			int cmp = best==null? 1: fitness.compareToFitness(best);
+			if (cmp>0) {
+				record.updateBestFitness(best=fitness, harmony);
+			}else if (cmp==0) {
+				record.addBestFitness(harmony);
+			}
+		}
+		return record;
+	}
+
+	/**
+	 * Set the attributes of the given {@link Migrant} into the given {@link Harmony}.
+	 *
+	 * @param harmony
+	 * 		{@link Harmony} to be set.
+	 * @param migrant
+	 * 		{@link Migrant} to encode.
+	 */
+	private void encode(Hrmny harmony, Migrant migrant) {
+		for (int j=0; j<params.getAttributes().length; j++)	harmony.removeAttribute(j);
+		for (int index: migrant.attributeIndexesOf(params.getAttributes()))	harmony.addAttribute(index);
+	}
+
+	/**
+	 * Improvise attribute <code>j</code> of the given {@link Harmony}: follow the global best
+	 * harmony with pitch adjustment by <code>HMCR</code>, otherwise choose randomly in the possible
+	 * value bounds.
+	 *
+	 * @param harmony
+	 * 		{@link Harmony} to be improvised.
+	 * @param j
+	 * 		The attribute index.
+	 * @param par
+	 * 		The pitch adjustment rate.
+	 * @param bw
+	 * 		The bandwidth.
+	 * @return <code>true</code> if attribute <code>j</code> of the harmony is changed.
+	 */
+	private boolean improvise(Hrmny harmony, int j, double par, double bw) {
+		boolean contains = harmony.containsAttribute(j);
+		if (Double.compare(random.nextDouble(), params.getHarmonyMemoryConsiderationRate())<=0) {
+			if (gBest.containsAttribute(j))	harmony.addAttribute(j);
+			else							harmony.removeAttribute(j);
+			if (Double.compare(random.nextDouble(), par)<=0) {
+				double upsAndDown = random.nextBoolean()? 1 - bw: bw;
+				if (upsAndDown > 0.5)	harmony.addAttribute(j);
+				else					harmony.removeAttribute(j);
+			}
+		}else {
+			double min = params.getHarmonyInitializationAlg().getMinPossibleValueBoundOfHarmonyBit().doubleValue(),
+					max = params.getHarmonyInitializationAlg().getMaxPossibleValueBoundOfHarmonyBit().doubleValue();
+			if (min + random.nextDouble() * (max - min) > 0.5)	harmony.addAttribute(j);
+			else												harmony.removeAttribute(j);
+		}
+		return harmony.containsAttribute(j)!=contains;
+	}
+
+	/**
+	 * Replace the global best harmony by the given one if its {@link Fitness} is greater, or equal
+	 * with fewer attributes.
+	 *
+	 * @param harmony
+	 * 		The {@link Harmony} evaluated.
+	 * @param fitness
+	 * 		{@link Fitness} of <code>harmony</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	private void updateBestFitness(Hrmny harmony, Fitness<Sig, FValue> fitness) {
+		int cmp = fitness.compareToFitness(bestFitness);
+		if (cmp>0 || (cmp==0 && harmony.getAttributes().length<gBest.getAttributes().length)) {
+			bestFitness = fitness;
+			gBest = (Hrmny) HarmonyFactory.copyHarmony(harmony);
+		}
+	}
+}
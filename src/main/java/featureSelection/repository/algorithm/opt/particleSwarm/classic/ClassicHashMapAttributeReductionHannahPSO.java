@@ -87,4 +87,13 @@ public class ClassicHashMapAttributeReductionHannahPSO<Cal extends ClassicHashMa
 		return "PSO-Classic(HashMap)";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionHashMapAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
+
 }
\ No newline at end of file
@@ -98,4 +98,13 @@ public class ClassicSequentialAttributeReductionHannahPSO<Cal extends ClassicSeq
 	public String shortName() {
 		return "PSO-Classic(Seq.)";
 	}
+
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
 }
\ No newline at end of file
@@ -85,4 +85,13 @@ public class ClassicSequentialIDAttributeReductionHannahPSO<Cal extends ClassicS
 	public String shortName() {
 		return "PSO-Classic(Seq.ID)";
 	}
+
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decEClasses==null) {
+			decEClasses = ClassicAttributeReductionSequentialIDAlgorithm
+							.Basic
+							.equivalenceClassOfDecisionAttribute(collection);
+		}
+	}
 }
\ No newline at end of file
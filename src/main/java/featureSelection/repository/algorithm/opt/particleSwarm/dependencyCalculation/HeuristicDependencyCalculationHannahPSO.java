@@ -35,6 +35,15 @@ public class HeuristicDependencyCalculationHannahPSO<Cal extends FeatureImportan
 		return "PSO-HDC";
 	}
 
+	@Override
+	public void initFitnessCalculation(Collection<Instance> collection) {
+		if (decisionValues==null) {
+			decisionValues = HeuristicDependencyCalculationAlgorithm
+								.Basic
+								.decisionValues(collection);
+		}
+	}
+
 	@Override
 	public Collection<Integer> inspection(
 			Cal calculation, Sig sigDeviation, Collection<Instance> collection, int[] positionAttr
@@ -0,0 +1,236 @@
+package featureSelection.repository.algorithm.opt.particleSwarm.func;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Random;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.island.Island;
+import featureSelection.repository.entity.opt.island.IslandModel;
+import featureSelection.repository.entity.opt.island.Migrant;
+import featureSelection.repository.entity.opt.particleSwarm.GenerationRecord;
+import featureSelection.repository.entity.opt.particleSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.particleSwarm.interf.ReductionAlgorithm;
+import featureSelection.repository.entity.opt.particleSwarm.interf.fitness.Fitness;
+import featureSelection.repository.entity.opt.particleSwarm.interf.fitness.value.FitnessValue;
+import featureSelection.repository.entity.opt.particleSwarm.interf.particle.entity.Particle;
+import featureSelection.repository.entity.opt.particleSwarm.interf.particle.entity.Position;
+import lombok.Getter;
+
+/**
+ * {@link Island} of <strong>Particle Swarm Optimization</strong>, evolving in the same way as the
+ * generation loop of the tester(with greedy search skipped): calculate fitnesses of particles,
+ * update individual bests(inspected if {@link ReductionParameters#isInspectReductInGreedySearch()})
+ * and the global best, check convergence, then update velocities and positions.
+ * <p>
+ * Positions are encoded by indexes of {@link ReductionParameters#getAttributes()}, so emigrants
+ * are the global best positions mapped to attributes, and immigrants are mapped back to indexes as
+ * the positions of the last particles of the next generation.
+ *
+ * @author Benjamin_L
+ *
+ * @param <Cal>
+ * 		Type of implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Type of feature significance that implements {@link Number}.
+ * @param <CollectionItem>
+ * 		{@link Instance} or Equivalence Class.
+ * @param <Velocity>
+ * 		Type of velocity.
+ * @param <Posi>
+ * 		Type of implemented {@link Position}.
+ * @param <FValue>
+ * 		Type of implemented {@link FitnessValue}.
+ */
+public class ParticleSwarmIsland<Cal extends FeatureImportance<Sig>, Sig extends Number, CollectionItem,
+								Velocity, Posi extends Position<?>, FValue extends FitnessValue<?>>
+	implements Island<GenerationRecord<Velocity, Posi, FValue>>
+{
+	private final Cal calculation;
+	private final Sig sigDeviation;
+	private final Collection<CollectionItem> collectionList;
+	private final ReductionParameters<Velocity, Posi, FValue> params;
+	private final ReductionAlgorithm<CollectionItem, Velocity, Posi, FValue, Cal, Sig> redAlg;
+	private final Random random;
+
+	@Getter private final GenerationRecord<Velocity, Posi, FValue> generationRecord;
+	private final Collection<Migrant> immigrants;
+	private final Particle<Velocity, Posi, FValue>[] particles;
+	/**
+	 * Whether the swarm has converged or reached max fitness.
+	 */
+	private boolean exit;
+
+	/**
+	 * Construct an island with particles initiated by
+	 * {@link ReductionParameters#getParticleInitAlgorithm()}.
+	 *
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance}.
+	 * @param sigDeviation
+	 * 		Acceptable deviation when calculating significance of attributes.
+	 * @param collectionList
+	 * 		A {@link Collection} of {@link Instance} / <code>EquivalenceClass</code>
+	 * @param params
+	 * 		{@link ReductionParameters} of Particle Swarm Optimization.
+	 * @param random
+	 * 		{@link Random} of the island.
+	 */
+	@SuppressWarnings("unchecked")
+	public ParticleSwarmIsland(
+			Cal calculation, Sig sigDeviation, Collection<CollectionItem> collectionList,
+			ReductionParameters<Velocity, Posi, FValue> params, Random random
+	) {
+		this.calculation = calculation;
+		this.sigDeviation = sigDeviation;
+		this.collectionList = collectionList;
+		this.params = params;
+		this.random = random;
+		redAlg = params.getReductionAlgorithm();
+		generationRecord = new GenerationRecord<>();
+		immigrants = new LinkedList<>();
+		particles = params.getParticleInitAlgorithm()
+						.initParticles(params.getParticleInitAlgorithmParameters(), random);
+	}
+
+	@Override
+	public boolean evolve(int generations) {
+		int[] attributesSrc = params.getAttributes();
+		for (int g=0; g<generations && !exit && generationRecord.getGeneration()<params.getIteration(); g++) {
+			generationRecord.nextGeneration();
+			// Set immigrants as positions of the last particles.
+			int i = particles.length;
+			for (Migrant migrant: immigrants) {
+				if (i==0)	break;
+				particles[--i].setPosition(
+					redAlg.toPosition(migrant.attributeIndexesOf(attributesSrc), attributesSrc.length)
+				);
+			}
+			immigrants.clear();
+			// Calculate fitnesses of particles.
+			Fitness<Posi, FValue>[] fitness = redAlg.fitness(calculation, collectionList, attributesSrc, particles);
+			// Update individual best fitnesses of particles.
+			boolean[] individualUpdated =
+					ParticleSwarm4StaticData.updateParticleIndividualBestFitness(particles, redAlg, fitness);
+			// Inspect updated individual bests and update the global best.
+			boolean resetConvergenceCount = false;
+			for (int p=0; p<particles.length; p++) {
+				if (params.isInspectReductInGreedySearch() &&
+					individualUpdated[p] &&
+					redAlg.compareMaxFitness(params.getMaxFitness(), particles[p].getFitness().getFitnessValue())<=0
+				) {
+					inspect(particles[p]);
+				}
+				if (updateGlobalBestFitness(generationRecord, particles[p].getFitness()))
+					resetConvergenceCount = true;
+			}
+			// Check if reaching max convergence.
+			if (!resetConvergenceCount)	generationRecord.countConvergence();
+			else						generationRecord.resetConvergence();
+			exit = generationRecord.getConvergenceCount() >= params.getConvergence();
+			// Update particles' velocity & position.
+			for (int p=0; p<particles.length; p++) {
+				particles[p] = params.getParticleUpdateAlgorithm()
+									.updateVelocityNPosition(particles[p], generationRecord, params, random);
+			}
+			// Reaching max distinct best fitness value(if max fitness is satisfied).
+			if (!exit && params.getMaxDistinctBestFitness()!=null) {
+				exit = redAlg.compareMaxFitness(params.getMaxFitness(), generationRecord)<=0 &&
+						generationRecord.countDistinctBestFitness()>=params.getMaxDistinctBestFitness();
+			}
+		}
+		return !exit && generationRecord.getGeneration()<params.getIteration();
+	}
+
+	/**
+	 * Get the global best positions as {@link Migrant}s of attributes. None before any fitness is
+	 * calculated.
+	 */
+	@Override
+	public Collection<Migrant> emigrants(int size) {
+		Collection<Migrant> emigrants = new ArrayList<>(size);
+		if (generationRecord.getGlobalBestFitness()==null)	return emigrants;
+		int[] attributesSrc = params.getAttributes();
+		for (Fitness<Posi, FValue> fitness: generationRecord.getGlobalBestFitnessCollection()) {
+			if (emigrants.size()>=size)	break;
+			int[] indexes = fitness.getPosition().getAttributes();
+			int[] attributes = new int[indexes.length];
+			for (int i=0; i<indexes.length; i++)	attributes[i] = attributesSrc[indexes[i]];
+			emigrants.add(new Migrant(attributes, fitness.getFitnessValue().getValue().doubleValue()));
+		}
+		return emigrants;
+	}
+
+	@Override
+	public void immigrate(Collection<Migrant> migrants) {
+		immigrants.addAll(IslandModel.best(migrants, particles.length));
+	}
+
+	@Override
+	public GenerationRecord<Velocity, Posi, FValue> recordOf(Collection<Migrant> migrants) {
+		GenerationRecord<Velocity, Posi, FValue> record = new GenerationRecord<>();
+		int[] attributesSrc = params.getAttributes();
+		for (Migrant migrant: migrants) {
+			updateGlobalBestFitness(
+				record,
+				redAlg.fitness(calculation, collectionList, attributesSrc, migrant.attributeIndexesOf(attributesSrc))
+			);
+		}
+		return record;
+	}
+
+	/**
+	 * Update the global best fitness of the given {@link GenerationRecord} by the given
+	 * {@link Fitness}: replaced if better, added if equal and max fitness is reached.
+	 *
+	 * @param record
+	 * 		{@link GenerationRecord} to be updated.
+	 * @param fitness
+	 * 		{@link Fitness} to update.
+	 * @return <code>true</code> if the global best fitness is initiated or replaced.
+	 */
+	private boolean updateGlobalBestFitness(
+			GenerationRecord<Velocity, Posi, FValue> record, Fitness<Posi, FValue> fitness
+	) {
+		if (record.getGlobalBestAttributeLength()==null) {
+			record.updateGlobalBestFitness(fitness);
+			return true;
+		}
+		int fitnessCmp = redAlg.compareFitness(fitness, record.getGlobalBestFitness());
+		if (fitnessCmp>0) {
+			record.updateGlobalBestFitness(fitness);
+			return true;
+		}else if (fitnessCmp==0 && redAlg.compareMaxFitness(params.getMaxFitness(), record)<=0) {
+			record.addGlobalBestFitness(fitness);
+		}
+		return false;
+	}
+
+	/**
+	 * Remove redundant attributes of the individual best position of the given {@link Particle}
+	 * by {@link ReductionAlgorithm#inspection(FeatureImportance, Number, Collection, int[])}.
+	 *
+	 * @param particle
+	 * 		The {@link Particle} to be inspected.
+	 */
+	private void inspect(Particle<Velocity, Posi, FValue> particle) {
+		int[] attributesSrc = params.getAttributes();
+		int[] attributeIndexes = particle.getFitness().getPosition().getAttributes();
+		int[] actualAttributes = new int[attributeIndexes.length];
+		for (int i=0; i<actualAttributes.length; i++)
+			actualAttributes[i] = attributesSrc[attributeIndexes[i]];
+		Collection<Integer> inspectedAttrs =
+				redAlg.inspection(calculation, sigDeviation, collectionList, actualAttributes);
+		if (inspectedAttrs.size()==actualAttributes.length)	return;
+		// Transfer actual attributes back to indexes.
+		inspectedAttrs = new HashSet<>(inspectedAttrs);
+		int[] inspectedIndexes = new int[inspectedAttrs.size()];
+		for (int i=0, j=0; j<inspectedIndexes.length; i++) {
+			if (inspectedAttrs.contains(actualAttributes[i]))	inspectedIndexes[j++] = attributeIndexes[i];
+		}
+		particle.getFitness().setPosition(redAlg.toPosition(inspectedIndexes, attributesSrc.length));
+	}
+}
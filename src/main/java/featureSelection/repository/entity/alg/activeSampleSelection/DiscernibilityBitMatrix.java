@@ -0,0 +1,369 @@
+package featureSelection.repository.entity.alg.activeSampleSelection;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.SamplePair;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact discernibility matrix for <strong>Active Sample Selection</strong> at
+ * <strong>equivalence class pair</strong> level.
+ * <p>
+ * All the sample pairs (x<sub>i</sub>, x<sub>j</sub>) with x<sub>i</sub>&isin;X<sub>p</sub> and
+ * x<sub>j</sub>&isin;X<sub>q</sub> (X<sub>p</sub>, X<sub>q</sub>&isin;U/C) are discerned by the
+ * same attributes. As a result, only one <code>long[]</code> bitmask of attribute indexes is
+ * stored for every discerning pair of equivalence classes (p, q), instead of a
+ * {@link SamplePair} per instance pair per attribute. {@link SamplePair}s are only materialised
+ * on demand by {@link #samplePairsOf(int)} / {@link #representativeOf(int)}.
+ * <p>
+ * Bit <code>k</code> of a mask stands for the attribute <code>attributes[k]</code>, i.e.
+ * <code>DIS({a<sub>k</sub>})</code> contains all the sample pairs of the class pairs whose masks
+ * have bit <code>k</code> set, and the frequency of a sample pair equals to the bit count of its
+ * mask.
+ *
+ * @author Benjamin_L
+ */
+public class DiscernibilityBitMatrix {
+	/**
+	 * Attributes of {@link Instance} correspondent to mask bits.
+	 */
+	@Getter private final int[] attributes;
+	/**
+	 * Number of <code>long</code>s of a mask.
+	 */
+	@Getter private final int words;
+	/**
+	 * Equivalence classes: <strong>U/C</strong>.
+	 */
+	private final EquivalenceClass[] classes;
+	/**
+	 * The {@link Instance} with min. {@link Instance#getNum()} of every equivalence class.
+	 */
+	private final Instance[] firstInstances;
+
+	/**
+	 * Number of discerning equivalence class pairs.
+	 */
+	@Getter private int pairSize;
+	private int[] classIndexes1, classIndexes2;
+	/**
+	 * Masks of class pairs: mask of pair <code>k</code> at
+	 * [<code>k * words</code>, <code>(k+1) * words</code>).
+	 */
+	private long[] masks;
+	/**
+	 * Sum of |DIS({a})| of all attributes, i.e. the number of (sample pair, attribute) in the
+	 * original discernibility matrix.
+	 */
+	@Getter private long samplePairNumber;
+
+	private DiscernibilityBitMatrix(int[] attributes, EquivalenceClass[] classes) {
+		this.attributes = attributes;
+		this.words = wordsFor(attributes.length);
+		this.classes = classes;
+		this.firstInstances = new Instance[classes.length];
+		for (int c=0; c<classes.length; c++) {
+			for (Instance ins: classes[c].getUniverses()) {
+				if (firstInstances[c]==null || ins.getNum()<firstInstances[c].getNum())
+					firstInstances[c] = ins;
+			}
+		}
+		int capacity = Math.max(16, classes.length);
+		classIndexes1 = new int[capacity];
+		classIndexes2 = new int[capacity];
+		masks = new long[capacity * words];
+	}
+
+	/**
+	 * Build the discernibility matrix of the given {@link EquivalenceClass}es.
+	 * <p>
+	 * A pair of {@link EquivalenceClass}es is discerning if one of the following conditions is
+	 * met:
+	 * <ul>
+	 * 	<li>x<sub>1</sub>∈POS(C, D) && x<sub>2</sub>∉POS(C, D)</li>
+	 * 	<li>x<sub>1</sub>∉POS(C, D) && x<sub>2</sub>∈POS(C, D)</li>
+	 * 	<li>x<sub>1</sub>∈POS(C, D) && x<sub>2</sub>∈POS(C, D) &&
+	 * 		d(x<sub>1</sub>)!=d(x<sub>2</sub>)
+	 * 	</li>
+	 * </ul>
+	 *
+	 * @param equClasses
+	 * 		{@link EquivalenceClass}es: <strong>U/C</strong>
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. Attributes should be the exact one used in the
+	 * 		partitioning of {@link Instance}s with the same sequence and values.
+	 * @return {@link DiscernibilityBitMatrix}.
+	 */
+	public static DiscernibilityBitMatrix of(
+			Map<IntArrayKey, EquivalenceClass> equClasses, int[] attributes
+	) {
+		EquivalenceClass[] classes = new EquivalenceClass[equClasses.size()];
+		int[][] keys = new int[equClasses.size()][];
+		int c = 0;
+		for (Map.Entry<IntArrayKey, EquivalenceClass> entry: equClasses.entrySet()) {
+			keys[c] = entry.getKey().getKey();
+			classes[c++] = entry.getValue();
+		}
+
+		DiscernibilityBitMatrix matrix = new DiscernibilityBitMatrix(attributes, classes);
+		long[] mask = new long[matrix.words];
+		Integer dec1, dec2;
+		for (int i=0; i<classes.length; i++) {
+			dec1 = classes[i].getDecision();
+			for (int j=i+1; j<classes.length; j++) {
+				dec2 = classes[j].getDecision();
+				// Skip if both are in POS(C, D) with the same decision value or neither are.
+				if (dec1==null? dec2==null: (dec2!=null && dec1.intValue()==dec2.intValue()))
+					continue;
+				Arrays.fill(mask, 0);
+				for (int a=0; a<attributes.length; a++) {
+					if (keys[i][a]!=keys[j][a])	mask[a >>> 6] |= 1L << a;
+				}
+				matrix.add(i, j, mask);
+			}
+		}
+		return matrix;
+	}
+
+	private void add(int classIndex1, int classIndex2, long[] mask) {
+		if (pairSize==classIndexes1.length) {
+			classIndexes1 = Arrays.copyOf(classIndexes1, pairSize << 1);
+			classIndexes2 = Arrays.copyOf(classIndexes2, pairSize << 1);
+			masks = Arrays.copyOf(masks, (pairSize << 1) * words);
+		}
+		classIndexes1[pairSize] = classIndex1;
+		classIndexes2[pairSize] = classIndex2;
+		System.arraycopy(mask, 0, masks, pairSize * words, words);
+		samplePairNumber += (long) classes[classIndex1].getUniverses().size() *
+							classes[classIndex2].getUniverses().size() *
+							cardinality(mask);
+		pairSize++;
+	}
+
+	/**
+	 * Get a copy of the mask of the given class pair.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @return mask in <code>long[]</code>.
+	 */
+	public long[] maskOf(int pair) {
+		return Arrays.copyOfRange(masks, pair * words, (pair+1) * words);
+	}
+
+	/**
+	 * Get the frequency of sample pairs in the given class pair, i.e. the number of attributes
+	 * discerning them.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @return the frequency.
+	 */
+	public int frequencyOf(int pair) {
+		int count = 0;
+		for (int w=pair*words, end=w+words; w<end; w++)	count += Long.bitCount(masks[w]);
+		return count;
+	}
+
+	/**
+	 * Check if the mask of the given class pair contains all the bits of <code>mask</code>, i.e.
+	 * sample pairs of the class pair are in ∩{DIS({a}): a &isin; mask}.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @param mask
+	 * 		A mask.
+	 * @return true if contains.
+	 */
+	public boolean containsAll(int pair, long[] mask) {
+		for (int w=0, base=pair*words; w<words; w++) {
+			if ((masks[base+w] & mask[w])!=mask[w])	return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Get attributes discerning the sample pairs of the given class pair in the sequence of
+	 * {@link #attributes}.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @return attributes in <code>int[]</code>.
+	 */
+	public int[] attributesOf(int pair) {
+		int[] result = new int[frequencyOf(pair)];
+		int i = 0;
+		long word;
+		for (int w=0, base=pair*words; w<words; w++) {
+			word = masks[base+w];
+			while (word!=0) {
+				result[i++] = attributes[(w << 6) + Long.numberOfTrailingZeros(word)];
+				word &= word - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Get the minimal {@link SamplePair} of the given class pair, in the order of
+	 * {@link Instance#getNum()} of the 1st {@link Instance} and then the 2nd one.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @return {@link SamplePair}.
+	 */
+	public SamplePair representativeOf(int pair) {
+		return new SamplePair(firstInstances[classIndexes1[pair]], firstInstances[classIndexes2[pair]]);
+	}
+
+	/**
+	 * Materialise all the {@link SamplePair}s of the given class pair.
+	 *
+	 * @param pair
+	 * 		The index of the class pair.
+	 * @return {@link SamplePair} {@link Collection}.
+	 */
+	public Collection<SamplePair> samplePairsOf(int pair) {
+		Collection<Instance> universes1 = classes[classIndexes1[pair]].getUniverses(),
+							universes2 = classes[classIndexes2[pair]].getUniverses();
+		List<SamplePair> samplePairs = new ArrayList<>(universes1.size() * universes2.size());
+		for (Instance ins1: universes1) {
+			for (Instance ins2: universes2)	samplePairs.add(new SamplePair(ins1, ins2));
+		}
+		return samplePairs;
+	}
+
+	/**
+	 * Get indexes of class pairs sorted in an ascending order based on the frequency and then
+	 * {@link Instance#getNum()} of their representative {@link SamplePair}s, i.e. the order of
+	 * the first sample pairs of each class pair in <code>DIS(A)</code>.
+	 *
+	 * @see #representativeOf(int)
+	 *
+	 * @return indexes of class pairs.
+	 */
+	public Integer[] sortedPairs() {
+		int[] frequencies = new int[pairSize], nums1 = new int[pairSize], nums2 = new int[pairSize];
+		int num1, num2;
+		for (int k=0; k<pairSize; k++) {
+			frequencies[k] = frequencyOf(k);
+			num1 = firstInstances[classIndexes1[k]].getNum();
+			num2 = firstInstances[classIndexes2[k]].getNum();
+			nums1[k] = Math.min(num1, num2);
+			nums2[k] = Math.max(num1, num2);
+		}
+		Integer[] sorted = new Integer[pairSize];
+		for (int k=0; k<pairSize; k++)	sorted[k] = k;
+		Arrays.sort(sorted, (k1, k2) -> {
+			int cmp = Integer.compare(frequencies[k1], frequencies[k2]);
+			if (cmp!=0)	return cmp;
+			cmp = Integer.compare(nums1[k1], nums1[k2]);
+			if (cmp!=0)	return cmp;
+			return Integer.compare(nums2[k1], nums2[k2]);
+		});
+		return sorted;
+	}
+
+	/*-------------------------------------- Mask utilities --------------------------------------*/
+
+	/**
+	 * Get the number of <code>long</code>s to contain the given number of bits.
+	 *
+	 * @param bits
+	 * 		The number of bits.
+	 * @return the number of <code>long</code>s.
+	 */
+	public static int wordsFor(int bits) {
+		return Math.max(1, (bits + 63) >>> 6);
+	}
+
+	/**
+	 * Build a mask with the given bits set.
+	 *
+	 * @param bits
+	 * 		Bits to be set.
+	 * @param words
+	 * 		The number of <code>long</code>s of the mask.
+	 * @return mask in <code>long[]</code>.
+	 */
+	public static long[] maskOf(int[] bits, int words) {
+		long[] mask = new long[words];
+		for (int bit: bits)	mask[bit >>> 6] |= 1L << bit;
+		return mask;
+	}
+
+	/**
+	 * Build a mask with the given bits set.
+	 *
+	 * @param bits
+	 * 		Bits to be set.
+	 * @param words
+	 * 		The number of <code>long</code>s of the mask.
+	 * @return mask in <code>long[]</code>.
+	 */
+	public static long[] maskOf(Collection<Integer> bits, int words) {
+		long[] mask = new long[words];
+		for (Iterator<Integer> iterator=bits.iterator(); iterator.hasNext(); ) {
+			int bit = iterator.next();
+			mask[bit >>> 6] |= 1L << bit;
+		}
+		return mask;
+	}
+
+	/**
+	 * Get the set bits of the given mask in an ascending order.
+	 *
+	 * @param mask
+	 * 		A mask.
+	 * @return bits in <code>int[]</code>.
+	 */
+	public static int[] bitsOf(long[] mask) {
+		int[] bits = new int[cardinality(mask)];
+		int i = 0;
+		long word;
+		for (int w=0; w<mask.length; w++) {
+			word = mask[w];
+			while (word!=0) {
+				bits[i++] = (w << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Count the set bits of the given mask.
+	 *
+	 * @param mask
+	 * 		A mask.
+	 * @return the number of set bits.
+	 */
+	public static int cardinality(long[] mask) {
+		int count = 0;
+		for (long word: mask)	count += Long.bitCount(word);
+		return count;
+	}
+
+	/**
+	 * Check if <code>mask</code> contains all the bits of <code>subMask</code>.
+	 *
+	 * @param mask
+	 * 		A mask.
+	 * @param subMask
+	 * 		Another mask with the same length.
+	 * @return true if contains.
+	 */
+	public static boolean containsAll(long[] mask, long[] subMask) {
+		for (int w=0; w<mask.length; w++) {
+			if ((mask[w] & subMask[w])!=subMask[w])	return false;
+		}
+		return true;
+	}
+}
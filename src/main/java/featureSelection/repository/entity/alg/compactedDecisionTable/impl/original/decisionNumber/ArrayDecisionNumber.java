@@ -0,0 +1,214 @@
+package featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.decisionNumber;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import featureSelection.basic.annotation.thread.ThreadUnsafe;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.compactedDecisionTable.interf.DecisionNumber;
+import lombok.Getter;
+
+/**
+ * Implemented {@link DecisionNumber} using a dense <code>int[]</code>: the number of decision value
+ * <code>d</code> is <code>numbers[dictionary.codeOf(d)]</code>, with decision values
+ * dictionary encoded once per table by a {@link Dictionary} shared by all records.
+ * <p>
+ * Comparing to {@link HashMapDecisionNumber}, no boxed {@link Integer} is created, and merging
+ * ({@link #plus(ArrayDecisionNumber)}) and consistency checking({@link #consistentNumber()})
+ * are plain loops over <code>int[]</code>.
+ * <p>
+ * Only decision values with non-zero numbers are returned by {@link #decisionValues()} and
+ * {@link #numberValues()}.
+ *
+ * @author Benjamin_L
+ */
+@ThreadUnsafe
+public class ArrayDecisionNumber implements DecisionNumber {
+	@Getter private final Dictionary dictionary;
+	private int[] numbers;
+
+	/**
+	 * Construct with a {@link Dictionary} of its own, which grows as decision values are set.
+	 */
+	public ArrayDecisionNumber() {
+		this(new Dictionary());
+	}
+
+	/**
+	 * Construct with the given {@link Dictionary}, usually shared by all records of a table.
+	 *
+	 * @param dictionary
+	 * 		{@link Dictionary} of decision values.
+	 */
+	public ArrayDecisionNumber(Dictionary dictionary) {
+		this(dictionary, new int[dictionary.size()]);
+	}
+
+	private ArrayDecisionNumber(Dictionary dictionary, int[] numbers) {
+		this.dictionary = dictionary;
+		this.numbers = numbers;
+	}
+
+	@Override
+	public int getNumberOfDecision(int decision) {
+		int code = dictionary.codeOf(decision);
+		return code<0 || code>=numbers.length? 0: numbers[code];
+	}
+
+	@Override
+	public void setDecisionNumber(int decision, int number) {
+		int code = dictionary.encode(decision);
+		if (code>=numbers.length)	numbers = Arrays.copyOf(numbers, dictionary.size());
+		numbers[code] = number;
+	}
+
+	/**
+	 * Add numbers of the given {@link ArrayDecisionNumber} sharing the same {@link Dictionary}.
+	 *
+	 * @param other
+	 * 		{@link ArrayDecisionNumber} to be added.
+	 */
+	public void plus(ArrayDecisionNumber other) {
+		if (other.dictionary!=dictionary)
+			throw new IllegalArgumentException("Decision numbers of different dictionaries.");
+		if (numbers.length<other.numbers.length)	numbers = Arrays.copyOf(numbers, other.numbers.length);
+		int[] otherNumbers = other.numbers;
+		for (int i=0; i<otherNumbers.length; i++)	numbers[i] += otherNumbers[i];
+	}
+
+	/**
+	 * Check the consistency.
+	 *
+	 * @return -1 if more than one decision value has non-zero number. / The number of the only
+	 * 		decision value otherwise(0 if none).
+	 */
+	public int consistentNumber() {
+		int number = 0;
+		for (int num: numbers) {
+			if (num!=0) {
+				if (number!=0)	return -1;
+				number = num;
+			}
+		}
+		return number;
+	}
+
+	@Override
+	public IntegerIterator decisionValues() {
+		int[] decisions = new int[nonZeroSize()];
+		for (int code=0, i=0; code<numbers.length; code++)
+			if (numbers[code]!=0)	decisions[i++] = dictionary.decisionOf(code);
+		return new IntegerArrayIterator(decisions);
+	}
+
+	@Override
+	public IntegerIterator numberValues() {
+		int[] nonZeros = new int[nonZeroSize()];
+		for (int code=0, i=0; code<numbers.length; code++)
+			if (numbers[code]!=0)	nonZeros[i++] = numbers[code];
+		return new IntegerArrayIterator(nonZeros);
+	}
+
+	private int nonZeroSize() {
+		int size = 0;
+		for (int num: numbers)	if (num!=0)	size++;
+		return size;
+	}
+
+	@Override
+	public ArrayDecisionNumber clone() {
+		return new ArrayDecisionNumber(dictionary, numbers.clone());
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder().append('{');
+		for (int code=0; code<numbers.length; code++) {
+			if (numbers[code]==0)	continue;
+			if (builder.length()>1)	builder.append(", ");
+			builder.append(dictionary.decisionOf(code)).append('=').append(numbers[code]);
+		}
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * Dictionary encoding of decision values: codes are assigned from 0 in the order decision
+	 * values are encoded. Codes of decision values in [0, {@link #DIRECT_SIZE}) are looked up
+	 * directly in an <code>int[]</code> without boxing.
+	 *
+	 * @author Benjamin_L
+	 */
+	@ThreadUnsafe
+	public static class Dictionary {
+		public static final int DIRECT_SIZE = 256;
+		
+		private final int[] directCodes;
+		private final Map<Integer, Integer> codes;
+		private int[] decisions;
+		private int size;
+
+		public Dictionary() {
+			directCodes = new int[DIRECT_SIZE];
+			Arrays.fill(directCodes, -1);
+			codes = new HashMap<>();
+			decisions = new int[4];
+		}
+
+		/**
+		 * Create a {@link Dictionary} with decision values of the given {@link Instance}s.
+		 *
+		 * @param instances
+		 * 		An {@link Instance} {@link Collection}.
+		 * @return {@link Dictionary}.
+		 */
+		public static Dictionary of(Collection<Instance> instances) {
+			Dictionary dictionary = new Dictionary();
+			for (Instance ins: instances)	dictionary.encode(ins.getAttributeValue(0));
+			return dictionary;
+		}
+
+		/**
+		 * Get the code of the given decision value, encode if absent.
+		 *
+		 * @param decision
+		 * 		A decision value.
+		 * @return the code.
+		 */
+		public int encode(int decision) {
+			int code = codeOf(decision);
+			if (code==-1) {
+				if (size==decisions.length)	decisions = Arrays.copyOf(decisions, size << 1);
+				decisions[size] = decision;
+				code = size++;
+				if (decision>=0 && decision<DIRECT_SIZE)	directCodes[decision] = code;
+				else										codes.put(decision, code);
+			}
+			return code;
+		}
+
+		/**
+		 * Get the code of the given decision value.
+		 *
+		 * @param decision
+		 * 		A decision value.
+		 * @return the code or -1 if absent.
+		 */
+		public int codeOf(int decision) {
+			if (decision>=0 && decision<DIRECT_SIZE)	return directCodes[decision];
+			Integer code = codes.get(decision);
+			return code==null? -1: code;
+		}
+
+		public int decisionOf(int code) {
+			return decisions[code];
+		}
+
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package featureSelection.repository.entity.alg.markovBlanket.cache;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import featureSelection.basic.annotation.thread.ThreadUnsafe;
+import lombok.Getter;
+
+/**
+ * A symmetric cache of feature-feature <strong>Symmetrical Uncertainty(SU)</strong> values:
+ * SU(F<sub>i</sub>, F<sub>j</sub>) = SU(F<sub>j</sub>, F<sub>i</sub>), with features addressed
+ * by their indexes in the attribute array the cache is created for(see {@link #isFor(int[])}):
+ * <ul>
+ * 	<li>If all pairs fit in {@link #getMaxEntries()}, values are kept in a packed upper triangle
+ * 		<code>double[]</code>, allocated on the first {@link #put(int, int, double)} and never
+ * 		evicted.</li>
+ * 	<li>Otherwise(e.g. very wide data), values are kept in <code>double[]</code> rows of
+ * 		features, at most {@link #getMaxEntries()}/{@link #getFeatureSize()} rows, evicting the
+ * 		least recently used row.</li>
+ * </ul>
+ * Presence of values is recorded in bits apart from values, so any <code>double</code>,
+ * including {@link Double#NaN} of SU(F<sub>i</sub>, F<sub>j</sub>) = 0/0 for 2 features with 1
+ * value each, can be cached. Check by {@link #contains(int, int)} before {@link #get(int, int)}.
+ *
+ * @author Benjamin_L
+ */
+@ThreadUnsafe
+public class SymmetricalUncertaintyCache {
+	/**
+	 * Default max number of cached values: 16M, i.e. 128MB of <code>double</code>s.
+	 */
+	public static final int DEFAULT_MAX_ENTRIES = 1 << 24;
+
+	private final int[] attributes;
+	@Getter private final int featureSize;
+	@Getter private final int maxEntries;
+	@Getter private long hitTimes;
+	@Getter private long missTimes;
+	/**
+	 * Whether all pairs are kept in a packed upper triangle.
+	 */
+	private final boolean packed;
+	/**
+	 * Values in packed upper triangle. <code>null</code> before the first put or if rows are used.
+	 */
+	private Entries triangle;
+	/**
+	 * Rows of features in access order. <code>null</code> if {@link #triangle} is used.
+	 */
+	private final Map<Integer, Entries> rows;
+
+	/**
+	 * Construct a {@link SymmetricalUncertaintyCache} with {@link #DEFAULT_MAX_ENTRIES}.
+	 *
+	 * @param attributes
+	 * 		Attributes cached values are addressed by indexes in.
+	 */
+	public SymmetricalUncertaintyCache(int[] attributes) {
+		this(attributes, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Construct a {@link SymmetricalUncertaintyCache}.
+	 *
+	 * @param attributes
+	 * 		Attributes cached values are addressed by indexes in.
+	 * @param maxEntries
+	 * 		The max number of cached values.
+	 */
+	public SymmetricalUncertaintyCache(int[] attributes, int maxEntries) {
+		this.attributes = attributes.clone();
+		this.featureSize = attributes.length;
+		this.maxEntries = maxEntries;
+		packed = (long) featureSize * (featureSize-1) / 2<=maxEntries;
+		if (packed) {
+			rows = null;
+		}else {
+			int maxRows = Math.max(1, maxEntries / Math.max(1, featureSize));
+			rows = new LinkedHashMap<Integer, Entries>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, Entries> eldest) {
+					return size()>maxRows;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Whether all pairs are kept in a packed upper triangle without eviction.
+	 *
+	 * @return <code>true</code> if packed.
+	 */
+	public boolean isPacked() {
+		return packed;
+	}
+
+	/**
+	 * Whether the cache is created for the given attributes, i.e. the same attributes in the same
+	 * order, so that indexes in them address the same features.
+	 *
+	 * @param attributes
+	 * 		Attributes to be checked.
+	 * @return <code>true</code> if for the given attributes.
+	 */
+	public boolean isFor(int[] attributes) {
+		return Arrays.equals(this.attributes, attributes);
+	}
+
+	/**
+	 * Check whether SU(F<sub>i</sub>, F<sub>j</sub>) is cached, counted as a hit or a miss.
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return <code>true</code> if cached.
+	 */
+	public boolean contains(int i, int j) {
+		boolean contains;
+		if (i==j) {
+			contains = false;
+		}else if (packed) {
+			contains = triangle!=null && triangle.contains(pairIndex(Math.min(i, j), Math.max(i, j)));
+		}else {
+			Entries row = rows.get(i);
+			contains = row!=null && row.contains(j);
+			if (!contains) {
+				row = rows.get(j);
+				contains = row!=null && row.contains(i);
+			}
+		}
+		if (contains)	hitTimes++;
+		else			missTimes++;
+		return contains;
+	}
+
+	/**
+	 * Get SU(F<sub>i</sub>, F<sub>j</sub>), which is expected to be checked by
+	 * {@link #contains(int, int)} first.
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return the cached value.
+	 * @throws IllegalStateException if the value is absent.
+	 */
+	public double get(int i, int j) {
+		if (i!=j) {
+			if (packed) {
+				int index = pairIndex(Math.min(i, j), Math.max(i, j));
+				if (triangle!=null && triangle.contains(index))	return triangle.values[index];
+			}else {
+				Entries row = rows.get(i);
+				if (row!=null && row.contains(j))	return row.values[j];
+				row = rows.get(j);
+				if (row!=null && row.contains(i))	return row.values[i];
+			}
+		}
+		throw new IllegalStateException("SU of features at "+i+" and "+j+" is absent.");
+	}
+
+	/**
+	 * Put SU(F<sub>i</sub>, F<sub>j</sub>). If rows are used, the value is put into the row of
+	 * F<sub>i</sub>, so <code>i</code> is expected to be the one compared against many features.
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @param value
+	 * 		SU(F<sub>i</sub>, F<sub>j</sub>)
+	 */
+	public void put(int i, int j, double value) {
+		if (i==j)	return;
+		if (packed) {
+			if (triangle==null)	triangle = new Entries((int) ((long) featureSize * (featureSize-1) / 2));
+			triangle.put(pairIndex(Math.min(i, j), Math.max(i, j)), value);
+		}else {
+			Entries row = rows.get(i);
+			if (row==null)	rows.put(i, row = new Entries(featureSize));
+			row.put(j, value);
+		}
+	}
+
+	private int pairIndex(int i, int j) {
+		return (int) ((long) i * (2L*featureSize - i - 1) / 2 + (j - i - 1));
+	}
+
+	/**
+	 * Values with presence bits.
+	 *
+	 * @author Benjamin_L
+	 */
+	private static class Entries {
+		private final double[] values;
+		private final long[] present;
+
+		private Entries(int size) {
+			values = new double[size];
+			present = new long[(size+63) >>> 6];
+		}
+
+		private boolean contains(int index) {
+			return (present[index >>> 6] & (1L << index))!=0;
+		}
+
+		private void put(int index, double value) {
+			values[index] = value;
+			present[index >>> 6] |= 1L << index;
+		}
+	}
+}
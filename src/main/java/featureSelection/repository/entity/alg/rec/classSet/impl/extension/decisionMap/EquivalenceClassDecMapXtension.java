@@ -65,6 +65,30 @@ public class EquivalenceClassDecMapXtension<Sig extends Number>
 		decisionInfo.put(dValue, number+1);
 	}
 
+	/**
+	 * Merge the given {@link EquivalenceClass} with <code>this</code>, with {@link #decisionInfo}
+	 * of the given one counted if it is an {@link EquivalenceClassDecMapXtension}.
+	 *
+	 * @see EquivalenceClass#mergeClassItemsAndClassSetTypeHasChanged(EquivalenceClass)
+	 *
+	 * @param equClass
+	 * 		{@link EquivalenceClass} to be merged.
+	 * @return True if <code>this.decValue</code> change into <code>null</code>(i.e. cnst=false)
+	 */
+	@Override
+	public boolean mergeClassItemsAndClassSetTypeHasChanged(EquivalenceClass equClass) {
+		boolean changed = super.mergeClassItemsAndClassSetTypeHasChanged(equClass);
+		if (equClass instanceof EquivalenceClassDecMapXtension) {
+			if (decisionInfo==null)	decisionInfo = new HashMap<>();
+			for (Map.Entry<Integer, Integer> entry:
+					((EquivalenceClassDecMapXtension<?>) equClass).getDecisionInfo().entrySet()
+			) {
+				decisionInfo.merge(entry.getKey(), entry.getValue(), Integer::sum);
+			}
+		}
+		return changed;
+	}
+
 	@Override
 	public Collection<Integer> decisionValues() {
 		return decisionInfo.keySet();
@@ -0,0 +1,41 @@
+package featureSelection.repository.entity.alg.rec.extension.incrementalPartition;
+
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive.AdaptiveAttributeProcessStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * An entity of a decision made by {@link AdaptiveAttributeProcessStrategy} after an attribute group
+ * has been used in partitioning. With the following fields:
+ * <ul>
+ * 	<li><strong>{@link #round}</strong>: the index of the partitioning(starts from 0).</li>
+ * 	<li><strong>{@link #groupSize}</strong>: the number of attributes used in the partitioning.</li>
+ * 	<li><strong>{@link #boundaryItemsBefore}</strong>/<strong>{@link #boundaryItemsAfter}</strong>:
+ * 		the number of Equivalence Classes in 0-RECs before/after the partitioning.</li>
+ * 	<li><strong>{@link #nanos}</strong>: the time of the partitioning in nanoseconds.</li>
+ * 	<li><strong>{@link #shrinkRate}</strong>: the estimated shrink rate of Equivalence Classes
+ * 		in 0-RECs per attribute.</li>
+ * 	<li><strong>{@link #nextGroupSize}</strong>: the size of the next attribute group.</li>
+ * </ul>
+ * 
+ * @author Benjamin_L
+ */
+@Data
+@AllArgsConstructor
+public class AttributeGroupDecision {
+	private int round;
+	private int groupSize;
+	private int boundaryItemsBefore;
+	private int boundaryItemsAfter;
+	private long nanos;
+	private double shrinkRate;
+	private int nextGroupSize;
+	
+	@Override
+	public String toString() {
+		return String.format("#%d |G|=%d, 0-REC items: %d -> %d, %.3fms, shrink rate=%.4f, next |G|=%d",
+				round, groupSize, boundaryItemsBefore, boundaryItemsAfter, nanos/1e6, shrinkRate,
+				nextGroupSize
+		);
+	}
+}
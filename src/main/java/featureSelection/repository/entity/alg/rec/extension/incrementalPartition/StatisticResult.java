@@ -1,8 +1,9 @@
 package featureSelection.repository.entity.alg.rec.extension.incrementalPartition;
 
 import featureSelection.basic.annotation.common.ReturnWrapper;
-import lombok.AllArgsConstructor;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive.AdaptiveAttributeProcessStrategy;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * An entity to contain Info. of Rough Equivalence Class positive region calculation statistics result.
@@ -17,6 +18,10 @@ import lombok.Getter;
  * 	<li><strong>{@link #record}</strong>
  * 		<p>Records of the partition result.
  * 	</li>
+ * 	<li><strong>{@link #attributeGroupDecision}</strong>
+ * 		<p>{@link AttributeGroupDecision} made by {@link AdaptiveAttributeProcessStrategy} after
+ * 		the partitioning. <code>null</code> if not adaptive.
+ * 	</li>
  * </ul>
  * 
  * @author Benjamin_L
@@ -25,10 +30,16 @@ import lombok.Getter;
  * 		Type of record items like Equivalence Class or Rough Equivalence Class.
  */
 @Getter
-@AllArgsConstructor
 @ReturnWrapper
 public class StatisticResult<RecordItems> {
 	private int positiveRegion;
 	private boolean emptyBoundaryClassSet;
 	private RecordItems record;
+	@Setter private AttributeGroupDecision attributeGroupDecision;
+	
+	public StatisticResult(int positiveRegion, boolean emptyBoundaryClassSet, RecordItems record) {
+		this.positiveRegion = positiveRegion;
+		this.emptyBoundaryClassSet = emptyBoundaryClassSet;
+		this.record = record;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,238 @@
+package featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.adaptive;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.AttributeGroupDecision;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.partitionFactorBasedDynamicMultiAttribute.PartitionFactorBasedDynamicMultiAttrProcessStrategy;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive.AdaptiveAttributeProcessStrategy;
+import org.apache.commons.math3.util.FastMath;
+
+import lombok.Getter;
+
+/**
+ * Full name: AdaptiveAttributeProcessStrategy (Adaptive Attribute Process Strategy)
+ * <p>
+ * Attribute process strategy for multi-attributes whose attribute group size is adapted by the
+ * observed partitionings instead of a fixed factor(e.g.
+ * {@link PartitionFactorBasedDynamicMultiAttrProcessStrategy}):
+ * <ul>
+ * 	<li><strong>Shrink rate</strong> of Equivalence Classes in 0-RECs per attribute:
+ * 		<pre>r = (after/before)^(1/|G|)</pre>
+ * 		smoothed exponentially by {@link #smoothing}.
+ * 	</li>
+ * 	<li><strong>Partition time</strong> of an Equivalence Class with a group of |G| attributes,
+ * 		modeled as <code>t(|G|) = a + b*|G|</code>, where <code>a</code> is the cost of hashing
+ * 		and <code>b</code> the one of an attribute in keys, fitted by exponentially weighted least
+ * 		squares.
+ * 	</li>
+ * </ul>
+ * Supposing 0-RECs keep shrinking at the rate <code>r</code>, the total cost of partitioning
+ * <code>n</code> Equivalence Classes in 0-RECs with groups of <code>g</code> attributes is
+ * <pre>n * (a + b*g) / (1 - r^g)</pre>
+ * So, the next group size is the one minimising <code>(a + b*g) / (1 - r^g)</code>, changed by
+ * at most a factor of 2 each time: slowly shrinking 0-RECs lead to larger groups(less
+ * partitionings), fast shrinking ones to smaller groups(shorter keys).
+ * <p>
+ * The 1st group size is <code>ceil(sqrt(|C|))</code> unless {@link #PARAMETER_INITIAL_GROUP_SIZE}
+ * is set. Decisions made are recorded in {@link #decisions}.
+ * 
+ * @see AdaptiveAttributeProcessStrategy
+ * 
+ * @author Benjamin_L
+ */
+public class AdaptiveAttrProcessStrategy 
+	implements AdaptiveAttributeProcessStrategy
+{
+	public final static String PARAMETER_INITIAL_GROUP_SIZE = "initialGroupSize";
+	public final static String PARAMETER_MAX_GROUP_SIZE = "maxGroupSize";
+	public final static String PARAMETER_SMOOTHING = "smoothing";
+	
+	public final static double DEFAULT_SMOOTHING = 0.5;
+	
+	private Integer initialGroupSize, maxGroupSize;
+	/**
+	 * Weight of the latest observation in exponential smoothing. (0, 1]
+	 */
+	@Getter private double smoothing;
+	
+	private int attributesSize;
+	@Getter private IntegerIterator attributes;
+	/**
+	 * Size of the next attribute group.
+	 */
+	@Getter private int groupSize;
+	/**
+	 * Estimated shrink rate of Equivalence Classes in 0-RECs per attribute.
+	 */
+	@Getter private double shrinkRate;
+	/**
+	 * Exponentially weighted means of |G|, t, |G|^2, |G|*t for fitting <code>t(|G|) = a + b*|G|</code>.
+	 */
+	private double meanG, meanT, meanGG, meanGT;
+	/**
+	 * The size of the last attribute group and the start of its partitioning.
+	 */
+	private int lastGroupSize;
+	private long lastGroupStart;
+	@Getter private List<AttributeGroupDecision> decisions;
+	
+	/**
+	 * Construct with parameters {@link #PARAMETER_INITIAL_GROUP_SIZE},
+	 * {@link #PARAMETER_MAX_GROUP_SIZE} and {@link #PARAMETER_SMOOTHING}, all optional.
+	 * 
+	 * @param params
+	 * 		{@link AttrProcessStrategyParams} instance.
+	 * @throws IllegalArgumentException if a group size is less than 1 or smoothing is not in
+	 * 		(0, 1].
+	 */
+	public AdaptiveAttrProcessStrategy(AttrProcessStrategyParams params) {
+		initialGroupSize = params.get(PARAMETER_INITIAL_GROUP_SIZE);
+		if (initialGroupSize!=null && initialGroupSize<1)
+			throw new IllegalArgumentException("Illegal initial group size: "+initialGroupSize);
+		maxGroupSize = params.get(PARAMETER_MAX_GROUP_SIZE);
+		if (maxGroupSize!=null && maxGroupSize<1)
+			throw new IllegalArgumentException("Illegal max group size: "+maxGroupSize);
+		Double smoothing = params.get(PARAMETER_SMOOTHING);
+		this.smoothing = smoothing==null? DEFAULT_SMOOTHING: smoothing;
+		if (this.smoothing<=0 || this.smoothing>1)
+			throw new IllegalArgumentException("Illegal smoothing: "+this.smoothing);
+	}
+	
+	/**
+	 * Initiate with the given attributes and reset observations and {@link #decisions}.
+	 */
+	@Override
+	public AdaptiveAttrProcessStrategy initiate(IntegerIterator attributes) {
+		this.attributes = attributes.reset();
+		this.attributesSize = attributes.size();
+		groupSize = initialGroupSize!=null? initialGroupSize: (int) FastMath.ceil(FastMath.sqrt(attributesSize));
+		groupSize = FastMath.max(1, FastMath.min(groupSize, maxGroupSize()));
+		shrinkRate = 0;
+		meanG = meanT = meanGG = meanGT = 0;
+		lastGroupSize = 0;
+		decisions = new LinkedList<>();
+		return this;
+	}
+
+	/**
+	 * Get the next attribute group of {@link #groupSize} attributes(or the ones left).
+	 * 
+	 * @return attributes in <code>int[]</code>.
+	 */
+	@Override
+	public int[] next() {
+		int extractSize = FastMath.min(groupSize, left());
+		int[] extract = new int[extractSize];
+		for (int i=0; i<extractSize; i++)	extract[i] = attributes.next();
+		lastGroupSize = extractSize;
+		lastGroupStart = System.nanoTime();
+		return extract;
+	}
+	
+	/**
+	 * Update the shrink rate and partition time model by the partitioning using the last
+	 * attribute group(timed from the last {@link #next()}), and decide {@link #groupSize}.
+	 */
+	@Override
+	public AttributeGroupDecision feedback(int boundaryItemsBefore, int boundaryItemsAfter) {
+		long nanos = System.nanoTime()-lastGroupStart;
+		if (lastGroupSize==0 || boundaryItemsBefore<=0)	return null;
+		
+		double rate = FastMath.pow(boundaryItemsAfter/(double) boundaryItemsBefore, 1.0/lastGroupSize);
+		double time = nanos/(double) boundaryItemsBefore;
+		if (decisions.isEmpty()) {
+			shrinkRate = rate;
+			meanG = lastGroupSize;
+			meanT = time;
+			meanGG = lastGroupSize * (double) lastGroupSize;
+			meanGT = lastGroupSize * time;
+		}else {
+			shrinkRate = smooth(shrinkRate, rate);
+			meanG = smooth(meanG, lastGroupSize);
+			meanT = smooth(meanT, time);
+			meanGG = smooth(meanGG, lastGroupSize * (double) lastGroupSize);
+			meanGT = smooth(meanGT, lastGroupSize * time);
+		}
+		groupSize = optimalGroupSize();
+		
+		AttributeGroupDecision decision = new AttributeGroupDecision(
+				decisions.size(), lastGroupSize, boundaryItemsBefore, boundaryItemsAfter, nanos,
+				shrinkRate, groupSize
+			);
+		decisions.add(decision);
+		return decision;
+	}
+	
+	/**
+	 * Get the group size minimising <code>(a + b*g) / (1 - r^g)</code> within half to twice of
+	 * the current {@link #groupSize}.
+	 */
+	private int optimalGroupSize() {
+		// Fit t(g) = a + b*g. If group sizes observed are (almost) the same or the fitting is
+		//	meaningless, suppose the cost of hashing equals the one of an attribute.
+		double variance = meanGG - meanG*meanG, b, a;
+		b = variance>1e-9? (meanGT - meanG*meanT) / variance: 0;
+		a = meanT - b*meanG;
+		if (b<=0 || a<0) {
+			b = meanT / (meanG+1);
+			a = b;
+		}
+		double rate = FastMath.min(shrinkRate, 1-1e-9);
+		int min = FastMath.max(1, groupSize/2),
+			max = FastMath.min(maxGroupSize(), FastMath.max(1, groupSize*2));
+		int best = FastMath.min(groupSize, max);
+		double bestCost = Double.MAX_VALUE, cost;
+		for (int g=min; g<=max; g++) {
+			cost = (a + b*g) / (1 - FastMath.pow(rate, g));
+			if (cost<bestCost) {
+				bestCost = cost;
+				best = g;
+			}
+		}
+		return best;
+	}
+	
+	private double smooth(double previous, double latest) {
+		return smoothing*latest + (1-smoothing)*previous;
+	}
+	
+	private int maxGroupSize() {
+		return maxGroupSize==null? FastMath.max(1, attributesSize): maxGroupSize;
+	}
+
+	/**
+	 * Get how many attributes left
+	 */
+	@Override
+	public int left() {
+		return attributesSize-attributes.currentIndex();
+	}
+
+	/**
+	 * Get if has next attributes.
+	 */
+	@Override
+	public boolean hasNext() {
+		return attributes.hasNext();
+	}
+
+	@Override
+	public int attributeLength() {
+		return attributes.size();
+	}
+	
+	@Override
+	public String shortName() {
+		return "Adaptive";
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("AdaptiveAttributeProcessStrategy [groupSize=%d, shrinkRate=%.4f, decisions=%d]",
+					groupSize, shrinkRate, decisions==null? 0: decisions.size()
+				);
+	}
+}
@@ -0,0 +1,36 @@
+package featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive;
+
+import java.util.List;
+
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.AttributeGroupDecision;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.AttributeProcessStrategy;
+
+/**
+ * {@link AttributeProcessStrategy} adapting the size of attribute groups by the feedback of
+ * partitionings: after partitioning with the attribute group returned by {@link #next()},
+ * {@link #feedback(int, int)} is expected to be called with the numbers of Equivalence Classes in
+ * 0-RECs before and after the partitioning.
+ * 
+ * @author Benjamin_L
+ */
+public interface AdaptiveAttributeProcessStrategy extends AttributeProcessStrategy {
+	/**
+	 * Feed back the result of the partitioning using the last attribute group returned by
+	 * {@link #next()}.
+	 * 
+	 * @param boundaryItemsBefore
+	 * 		The number of Equivalence Classes in 0-RECs partitioned.
+	 * @param boundaryItemsAfter
+	 * 		The number of Equivalence Classes in 0-RECs after the partitioning.
+	 * @return {@link AttributeGroupDecision} made or <code>null</code> if the feedback is ignored.
+	 */
+	AttributeGroupDecision feedback(int boundaryItemsBefore, int boundaryItemsAfter);
+	
+	/**
+	 * Get {@link AttributeGroupDecision}s made since {@link #initiate(IntegerIterator)}.
+	 * 
+	 * @return {@link AttributeGroupDecision} {@link List}.
+	 */
+	List<AttributeGroupDecision> getDecisions();
+}
@@ -96,7 +96,7 @@ public class DefaultNestedEquivalentClassesMerger
 	 * @param nestedEquClass
 	 * 		{@link NestedEquivalenceClass} to be updated.
 	 */
-	private void updateConsistency(NestedEquivalenceClass<EquivalenceClass> nestedEquClass) {
+	public static void updateConsistency(NestedEquivalenceClass<EquivalenceClass> nestedEquClass) {
 		Iterator<EquivalenceClass> iterator = nestedEquClass.getEquClasses().values().iterator();
 		EquivalenceClass equClass = iterator.next();
 		
@@ -0,0 +1,303 @@
+package featureSelection.repository.entity.alg.rec.nestedEC.streaming;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import lombok.Getter;
+
+/**
+ * A 2-stage pipeline for arrived {@link Instance} batches of {@link NestedEquivalenceClass}
+ * based streaming data reduction:
+ * <ul>
+ * 	<li><strong>Stage 1</strong>(compression): a producer thread compresses batches into
+ * 		{@link EquivalenceClass}es in parallel shards(see
+ * 		{@link NestedEquivalenceClassBasedAlgorithm.Basic#equivalenceClass(List, int[],
+ * 		ForkJoinPool, int)}) and puts them into a bounded queue.</li>
+ * 	<li><strong>Stage 2</strong>(update): the calling thread takes compressed batches in
+ * 		arrival order and passes them to an {@link ArrivedBatchHandler}(e.g. updating
+ * 		{@link NestedEquivalenceClass}es and the reduct).</li>
+ * </ul>
+ * So, the compression of the following batches is overlapped with the update of the current
+ * one, and the producer is blocked when {@link #queueCapacity} batches are waiting(i.e. back
+ * pressure). Stage 2 is kept in a single thread because updates of {@link NestedEquivalenceClass}es
+ * and the reduct depend on the previous ones.
+ * <p>
+ * Timings of stages are recorded in {@link #statistics}.
+ *
+ * @author Benjamin_L
+ */
+public class ArrivalPipeline implements AutoCloseable {
+	/**
+	 * Default number of {@link Instance}s in a shard.
+	 */
+	public static final int DEFAULT_SHARD_SIZE = 8192;
+	/**
+	 * Default number of compressed batches waiting for updating.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 2;
+
+	private final int[] attributes;
+	@Getter private final ForkJoinPool pool;
+	private final boolean poolCreated;
+	@Getter private final int shardSize;
+	@Getter private final int queueCapacity;
+	@Getter private final Statistics statistics;
+
+	/**
+	 * Construct with a new {@link ForkJoinPool} of the given parallelism,
+	 * {@link #DEFAULT_SHARD_SIZE} and {@link #DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1).
+	 * @param parallelism
+	 * 		The parallelism of the {@link ForkJoinPool}.
+	 */
+	public ArrivalPipeline(int[] attributes, int parallelism) {
+		this(attributes, new ForkJoinPool(parallelism), true, DEFAULT_SHARD_SIZE, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Construct with the given {@link ForkJoinPool}. The pool is <strong>not</strong> shut down
+	 * by {@link #close()}.
+	 *
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1).
+	 * @param pool
+	 * 		{@link ForkJoinPool} to compress shards.
+	 * @param shardSize
+	 * 		The number of {@link Instance}s in a shard.
+	 * @param queueCapacity
+	 * 		The max number of compressed batches waiting for updating.
+	 */
+	public ArrivalPipeline(int[] attributes, ForkJoinPool pool, int shardSize, int queueCapacity) {
+		this(attributes, pool, false, shardSize, queueCapacity);
+	}
+
+	private ArrivalPipeline(
+			int[] attributes, ForkJoinPool pool, boolean poolCreated, int shardSize, int queueCapacity
+	) {
+		if (shardSize<=0)		throw new IllegalArgumentException("Illegal shard size: "+shardSize);
+		if (queueCapacity<=0)	throw new IllegalArgumentException("Illegal queue capacity: "+queueCapacity);
+		this.attributes = attributes;
+		this.pool = pool;
+		this.poolCreated = poolCreated;
+		this.shardSize = shardSize;
+		this.queueCapacity = queueCapacity;
+		this.statistics = new Statistics();
+	}
+
+	/**
+	 * Run the pipeline until all <code>batches</code> are handled.
+	 * <p>
+	 * <code>batches</code> is iterated in the producer thread, while <code>handler</code> is
+	 * called in the calling thread in the order of batches. If any stage fails, the pipeline
+	 * stops and the failure is thrown after the producer thread finishes: a {@link Throwable} of
+	 * stage 1(e.g. an {@link OutOfMemoryError} while compressing) is re-thrown in the calling
+	 * thread as it is, or wrapped in an {@link ExecutionException} if neither an
+	 * {@link Exception} nor an {@link Error}.
+	 *
+	 * @param batches
+	 * 		{@link Iterator} of arrived {@link Instance} batches.
+	 * @param handler
+	 * 		{@link ArrivedBatchHandler} to handle compressed batches.
+	 * @return the number of batches handled.
+	 * @throws Exception if any stage fails.
+	 */
+	public int run(Iterator<? extends List<Instance>> batches, ArrivedBatchHandler handler)
+			throws Exception
+	{
+		BlockingQueue<CompressedBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+		Thread producer = new Thread(()->produce(batches, queue), "arrival-pipeline-compression");
+		producer.setDaemon(true);
+		statistics.begin();
+		producer.start();
+
+		int index = 0;
+		long start;
+		CompressedBatch batch;
+		try {
+			while (true) {
+				start = System.nanoTime();
+				batch = queue.take();
+				statistics.waitNanos += System.nanoTime()-start;
+				if (batch.error instanceof Exception)	throw (Exception) batch.error;
+				if (batch.error instanceof Error)		throw (Error) batch.error;
+				if (batch.error!=null)					throw new ExecutionException(batch.error);
+				if (batch.instances==null)	break;
+
+				start = System.nanoTime();
+				handler.handle(index++, batch.instances, batch.equClasses);
+				statistics.update(batch.instances.size(), System.nanoTime()-start);
+			}
+		}finally {
+			// Unblock and stop the producer if stage 2 stops early.
+			producer.interrupt();
+			queue.clear();
+			producer.join();
+		}
+		return index;
+	}
+
+	/**
+	 * Stage 1: compress batches and put them into <code>queue</code>, ending with an empty
+	 * {@link CompressedBatch}.
+	 */
+	private void produce(Iterator<? extends List<Instance>> batches, BlockingQueue<CompressedBatch> queue) {
+		try {
+			List<Instance> instances;
+			Map<IntArrayKey, EquivalenceClass> equClasses;
+			long start;
+			while (batches.hasNext()) {
+				instances = batches.next();
+				start = System.nanoTime();
+				equClasses = NestedEquivalenceClassBasedAlgorithm
+								.Basic
+								.equivalenceClass(instances, attributes, pool, shardSize);
+				statistics.compress(System.nanoTime()-start);
+				queue.put(new CompressedBatch(instances, equClasses, null));
+			}
+			queue.put(new CompressedBatch(null, null, null));
+		}catch (InterruptedException e) {
+			// stopped by stage 2.
+		}catch (Throwable e) {
+			// Hand over any failure, or stage 2 would wait for an end forever.
+			try {
+				queue.put(new CompressedBatch(null, null, e));
+			}catch (InterruptedException e1) {
+				// stopped by stage 2.
+			}
+		}
+	}
+
+	/**
+	 * Shut down the {@link ForkJoinPool} if it was created by this pipeline.
+	 */
+	@Override
+	public void close() {
+		if (poolCreated)	pool.shutdown();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(parallelism=%d, shardSize=%d, queueCapacity=%d, %s)",
+				getClass().getSimpleName(), pool.getParallelism(), shardSize, queueCapacity, statistics
+		);
+	}
+
+	/**
+	 * Handler of compressed batches in stage 2.
+	 */
+	@FunctionalInterface
+	public interface ArrivedBatchHandler {
+		/**
+		 * Handle a compressed batch.
+		 *
+		 * @param index
+		 * 		The index of the batch(starts from 0).
+		 * @param instances
+		 * 		Arrived {@link Instance}s of the batch.
+		 * @param arrivedEquClasses
+		 * 		{@link EquivalenceClass}es of <code>instances</code>.
+		 * @throws Exception if fails to handle.
+		 */
+		void handle(int index, List<Instance> instances, Map<IntArrayKey, EquivalenceClass> arrivedEquClasses)
+				throws Exception;
+	}
+
+	/**
+	 * A compressed batch in the queue. An empty one marks the end of batches or an error in
+	 * stage 1.
+	 */
+	private static class CompressedBatch {
+		private final List<Instance> instances;
+		private final Map<IntArrayKey, EquivalenceClass> equClasses;
+		private final Throwable error;
+
+		public CompressedBatch(
+				List<Instance> instances, Map<IntArrayKey, EquivalenceClass> equClasses, Throwable error
+		) {
+			this.instances = instances;
+			this.equClasses = equClasses;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * Timings of pipeline stages in nanoseconds.
+	 */
+	public static class Statistics {
+		/**
+		 * Number of batches handled.
+		 */
+		@Getter private volatile int batches;
+		/**
+		 * Number of {@link Instance}s handled.
+		 */
+		@Getter private volatile long instances;
+		/**
+		 * Total/max time of stage 1(compression).
+		 */
+		@Getter private volatile long compressNanos, maxCompressNanos;
+		/**
+		 * Total/max time of stage 2(update).
+		 */
+		@Getter private volatile long updateNanos, maxUpdateNanos;
+		/**
+		 * Total time of stage 2 waiting for stage 1.
+		 */
+		@Getter private volatile long waitNanos;
+		/**
+		 * Start of the 1st run and end of the last update.
+		 */
+		private volatile long beginNanos = -1, lastNanos;
+
+		private void begin() {
+			if (beginNanos==-1)	beginNanos = System.nanoTime();
+		}
+
+		private void compress(long nanos) {
+			compressNanos += nanos;
+			if (nanos>maxCompressNanos)	maxCompressNanos = nanos;
+		}
+
+		private void update(int instanceSize, long nanos) {
+			lastNanos = System.nanoTime();
+			batches++;
+			instances += instanceSize;
+			updateNanos += nanos;
+			if (nanos>maxUpdateNanos)	maxUpdateNanos = nanos;
+		}
+
+		/**
+		 * Get the throughput of handled {@link Instance}s, from the start of the 1st run to the end
+		 * of the last update.
+		 *
+		 * @return {@link Instance}s per second.
+		 */
+		public double instancesPerSecond() {
+			return batches==0? 0: instances*1e9/Math.max(1, lastNanos-beginNanos);
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+					"batches=%d, instances=%d, compress=%.3fms(max %.3fms), update=%.3fms(max %.3fms), "
+					+ "wait=%.3fms, %.1f ins/s",
+					batches, instances,
+					compressNanos/1e6, maxCompressNanos/1e6,
+					updateNanos/1e6, maxUpdateNanos/1e6,
+					waitNanos/1e6, instancesPerSecond()
+			);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package featureSelection.repository.entity.alg.rec.nestedEC.streaming;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedStreamingDataCalculation;
+import lombok.Getter;
+
+/**
+ * A sliding window of streaming {@link Instance}s for {@link NestedEquivalenceClass} based
+ * streaming data reduction, bounded by the number of {@link Instance}s(count based) and/or the
+ * time span of {@link Instance}s(time based) in the window.
+ * <p>
+ * Decision value counts of every {@link EquivalenceClass} induced by all condition attributes
+ * in the window are maintained. So, when {@link Instance}s expire, the instance numbers and the
+ * consistencies of the {@link EquivalenceClass}es they belong to can be obtained directly
+ * without going through the window, as the <code>expiredEquivalenceClasses</code> for
+ * {@link NestedEquivalenceClassBasedStreamingDataCalculation#update4Expired(
+ * NestedEquivalenceClassBasedStreamingDataCalculation.Update4ExpiredInputs, Object...)}.
+ * <p>
+ * Arrived {@link Instance}s are never expired in the same {@link #slide(Collection, long)},
+ * i.e. the window always contains the latest arrived {@link Instance}s even if they exceed
+ * {@link #capacity}.
+ *
+ * @author Benjamin_L
+ */
+public class EquivalenceClassSlidingWindow {
+	/**
+	 * The maximum number of {@link Instance}s in the window, non-positive as unbounded.
+	 */
+	@Getter private final int capacity;
+	/**
+	 * The maximum time span of {@link Instance}s in the window, non-positive as unbounded:
+	 * {@link Instance}s arrived at <code>t</code> expire at <code>t+timeSpan</code>.
+	 */
+	@Getter private final long timeSpan;
+
+	private final ArrayDeque<Record> records;
+	/**
+	 * Decision value counts of {@link EquivalenceClass}es in the window: key -&gt; (dec -&gt;
+	 * count).
+	 */
+	private final Map<IntArrayKey, Map<Integer, int[]>> decisionCounts;
+	private long lastTimestamp = Long.MIN_VALUE;
+
+	/**
+	 * Construct a sliding window.
+	 *
+	 * @param capacity
+	 * 		The maximum number of {@link Instance}s in the window, non-positive as unbounded.
+	 * @param timeSpan
+	 * 		The maximum time span of {@link Instance}s in the window, non-positive as unbounded.
+	 */
+	public EquivalenceClassSlidingWindow(int capacity, long timeSpan) {
+		this.capacity = capacity;
+		this.timeSpan = timeSpan;
+		records = new ArrayDeque<>(capacity>0? capacity: 16);
+		decisionCounts = new HashMap<>();
+	}
+
+	/**
+	 * Construct a count based sliding window.
+	 *
+	 * @param capacity
+	 * 		The maximum number of {@link Instance}s in the window.
+	 * @return {@link EquivalenceClassSlidingWindow} instance.
+	 */
+	public static EquivalenceClassSlidingWindow countBased(int capacity) {
+		return new EquivalenceClassSlidingWindow(capacity, 0);
+	}
+
+	/**
+	 * Construct a time based sliding window.
+	 *
+	 * @param timeSpan
+	 * 		The maximum time span of {@link Instance}s in the window.
+	 * @return {@link EquivalenceClassSlidingWindow} instance.
+	 */
+	public static EquivalenceClassSlidingWindow timeBased(long timeSpan) {
+		return new EquivalenceClassSlidingWindow(0, timeSpan);
+	}
+
+	/**
+	 * Slide the window: expire {@link Instance}s beyond {@link #capacity} or {@link #timeSpan}
+	 * and add the arrived {@link Instance}s into the window.
+	 *
+	 * @param arrived
+	 * 		Arrived {@link Instance}s.
+	 * @param timestamp
+	 * 		The timestamp of the arrival, should not be less than the previous one.
+	 * @return {@link EquivalenceClass}es the expired {@link Instance}s belong to, with keys of
+	 * 		their condition attribute values. Instance numbers and decision values are the ones
+	 * 		<strong>after</strong> the expiration: 0 instance if no instance left and
+	 * 		<code>null</code> decision value if in-consistent.
+	 */
+	public Map<IntArrayKey, EquivalenceClass> slide(Collection<Instance> arrived, long timestamp) {
+		if (timestamp<lastTimestamp)
+			throw new IllegalArgumentException("Timestamp "+timestamp+" is earlier than "+lastTimestamp);
+		lastTimestamp = timestamp;
+
+		// Expire before adding arrived ones so that they are not expired in the same slide.
+		int expireCount = capacity>0? Math.max(0, records.size()+arrived.size()-capacity): 0;
+		Map<IntArrayKey, int[]> expiredKeys = new HashMap<>();
+		Record head;
+		while ((head=records.peekFirst())!=null) {
+			if (expireCount>0) {
+				expireCount--;
+			}else if (!(timeSpan>0 && timestamp-head.timestamp>=timeSpan)) {
+				break;
+			}
+			records.pollFirst();
+			decrease(head);
+			expiredKeys.put(head.key, head.attrValue);
+		}
+
+		Map<IntArrayKey, EquivalenceClass> expired = new HashMap<>(expiredKeys.size());
+		for (Map.Entry<IntArrayKey, int[]> entry: expiredKeys.entrySet())
+			expired.put(entry.getKey(), equivalenceClassOf(entry.getKey(), entry.getValue()));
+
+		Record record;
+		for (Instance ins: arrived) {
+			records.addLast(record=new Record(ins, timestamp));
+			decisionCounts.computeIfAbsent(record.key, k->new HashMap<>(4))
+							.computeIfAbsent(record.dec, k->new int[1])[0]++;
+		}
+		return expired;
+	}
+
+	/**
+	 * Get the number of {@link Instance}s in the window.
+	 *
+	 * @return the number of {@link Instance}s.
+	 */
+	public int size() {
+		return records.size();
+	}
+
+	private void decrease(Record record) {
+		Map<Integer, int[]> counts = decisionCounts.get(record.key);
+		int[] count = counts.get(record.dec);
+		if (--count[0]==0) {
+			counts.remove(record.dec);
+			if (counts.isEmpty())	decisionCounts.remove(record.key);
+		}
+	}
+
+	/**
+	 * Build an {@link EquivalenceClass} with the current decision value counts of the given key.
+	 */
+	private EquivalenceClass equivalenceClassOf(IntArrayKey key, int[] attrValue) {
+		EquivalenceClass equClass = new EquivalenceClass();
+		equClass.setAttrValue(attrValue);
+		Map<Integer, int[]> counts = decisionCounts.get(key);
+		if (counts==null) {
+			equClass.setInstanceCount(0);
+		}else {
+			int instanceCount = 0;
+			for (int[] count: counts.values())	instanceCount += count[0];
+			equClass.setInstanceCount(instanceCount);
+			equClass.setDecValue(counts.size()==1? counts.keySet().iterator().next(): null);
+		}
+		return equClass;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(size=%d, capacity=%d, timeSpan=%d, equClasses=%d)",
+				getClass().getSimpleName(), records.size(), capacity, timeSpan, decisionCounts.size()
+		);
+	}
+
+	/**
+	 * An {@link Instance} in the window.
+	 */
+	private static class Record {
+		private final int[] attrValue;
+		private final IntArrayKey key;
+		private final int dec;
+		private final long timestamp;
+
+		public Record(Instance ins, long timestamp) {
+			attrValue = ins.getConditionAttributeValues();
+			key = new IntArrayKey(attrValue);
+			dec = ins.getAttributeValue(0);
+			this.timestamp = timestamp;
+		}
+	}
+}
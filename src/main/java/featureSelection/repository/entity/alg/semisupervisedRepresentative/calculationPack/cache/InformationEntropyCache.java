@@ -125,7 +125,7 @@ public class InformationEntropyCache {
 					.equivalenceClass(instances, new IntegerArrayIterator(attribute))
 					.values();
 			// Calculate H(F[i]), bases on U/F[i]
-			infoEntropyByLabeledUniverses.put(
+			cache.put(
 				attribute,
 				cacheValue =
 						new InformationEntropyCacheResult(
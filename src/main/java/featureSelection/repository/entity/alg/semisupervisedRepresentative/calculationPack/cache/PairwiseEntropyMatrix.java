@@ -0,0 +1,251 @@
+package featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.support.calculation.entropy.EncodedColumn;
+import featureSelection.repository.support.calculation.entropy.JointEntropyCounter;
+import lombok.Getter;
+
+/**
+ * Pairwise entropies of features precomputed over a {@link Collection} of {@link Instance}s:
+ * <ul>
+ * 	<li><strong>H(F<sub>i</sub>)</strong> for every feature;</li>
+ * 	<li><strong>H(F<sub>i</sub>, F<sub>j</sub>)</strong> for every pair of features, stored in a
+ * 		packed upper triangle,</li>
+ * </ul>
+ * from which conditional entropy, mutual information and Symmetrical Uncertainty(SU) are
+ * obtained in O(1):
+ * <pre>
+ * H(F<sub>i</sub>|F<sub>j</sub>) = H(F<sub>i</sub>, F<sub>j</sub>) - H(F<sub>j</sub>)
+ * I(F<sub>i</sub>; F<sub>j</sub>) = H(F<sub>i</sub>) + H(F<sub>j</sub>) - H(F<sub>i</sub>, F<sub>j</sub>)
+ * SU(F<sub>i</sub>, F<sub>j</sub>) = 2 * [ I(F<sub>i</sub>; F<sub>j</sub>) / ( H(F<sub>i</sub>) + H(F<sub>j</sub>) ) ]
+ * </pre>
+ * <p>
+ * Values of every feature are dictionary encoded once into an {@link EncodedColumn}, so a
+ * joint entropy is a single pass over two columns counting codes in the reusable table of a
+ * {@link JointEntropyCounter}, instead of partitioning {@link Instance}s into
+ * {@link Collection}s by {@link featureSelection.basic.lang.dataStructure.IntArrayKey}s.
+ * Pairs are computed in blocks of {@link #getBlockSize()} x {@link #getBlockSize()} features,
+ * each block being a task of the given {@link ForkJoinPool}, so that columns of a block are
+ * reused while hot in cache.
+ * <p>
+ * Entropies are in natural logarithm, the same as
+ * {@link featureSelection.repository.support.calculation.entropy.mutualInformationEntropy.informationEntropy.semisupervisedRepresentative.InformationEntropyCalculation4SemisupervisedRepresentative}.
+ * Features are addressed by their indexes in {@link #getAttributes()}.
+ *
+ * @author Benjamin_L
+ */
+public class PairwiseEntropyMatrix {
+	/**
+	 * Default number of features of a block side.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 64;
+
+	@Getter private final int[] attributes;
+	@Getter private final int instanceSize;
+	@Getter private final int blockSize;
+	/**
+	 * Dictionary encoded values of features.
+	 */
+	private final EncodedColumn[] columns;
+	/**
+	 * H(F<sub>i</sub>)
+	 */
+	private final double[] entropies;
+	/**
+	 * H(F<sub>i</sub>, F<sub>j</sub>) with i&lt;j, at {@link #pairIndex(int, int)}.
+	 */
+	private final double[] jointEntropies;
+
+	/**
+	 * Construct and calculate entropies in parallel.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attributes
+	 * 		Attributes of {@link Instance} to be calculated.
+	 * @param pool
+	 * 		A {@link ForkJoinPool} to execute block tasks.
+	 * @param blockSize
+	 * 		The number of features of a block side.
+	 */
+	public PairwiseEntropyMatrix(
+			Collection<Instance> instances, int[] attributes, ForkJoinPool pool, int blockSize
+	) {
+		this.attributes = attributes.clone();
+		this.instanceSize = instances.size();
+		this.blockSize = Math.max(1, blockSize);
+
+		// Encode columns and calculate H(F<sub>i</sub>).
+		columns = new EncodedColumn[attributes.length];
+		entropies = new double[attributes.length];
+		for (int i=0; i<attributes.length; i++) {
+			columns[i] = EncodedColumn.of(instances, attributes[i]);
+			entropies[i] = columns[i].entropy();
+		}
+
+		// Calculate H(F<sub>i</sub>, F<sub>j</sub>) block by block.
+		jointEntropies = new double[attributes.length * (attributes.length-1) / 2];
+		int blocks = (attributes.length + this.blockSize - 1) / this.blockSize;
+		int[] blockPairs = new int[blocks * (blocks+1) / 2];
+		for (int bi=0, p=0; bi<blocks; bi++)
+			for (int bj=bi; bj<blocks; bj++)	blockPairs[p++] = bi * blocks + bj;
+		if (blockPairs.length>0)	pool.invoke(new BlockTask(blockPairs, blocks, 0, blockPairs.length));
+	}
+
+	/**
+	 * Construct with {@link ForkJoinPool#commonPool()} and {@link #DEFAULT_BLOCK_SIZE}.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attributes
+	 * 		Attributes of {@link Instance} to be calculated.
+	 */
+	public PairwiseEntropyMatrix(Collection<Instance> instances, int[] attributes) {
+		this(instances, attributes, ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+	}
+
+	public int size() {
+		return attributes.length;
+	}
+
+	/**
+	 * Get the index of the given attribute in {@link #getAttributes()}.
+	 *
+	 * @param attribute
+	 * 		An attribute of {@link Instance}.
+	 * @return the index or -1 if absent.
+	 */
+	public int indexOf(int attribute) {
+		for (int i=0; i<attributes.length; i++)	if (attributes[i]==attribute)	return i;
+		return -1;
+	}
+
+	/**
+	 * Get <strong>H(F<sub>i</sub>)</strong>.
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @return H(F<sub>i</sub>)
+	 */
+	public double entropy(int i) {
+		return entropies[i];
+	}
+
+	/**
+	 * Get <strong>H(F<sub>i</sub>, F<sub>j</sub>)</strong>.
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return H(F<sub>i</sub>, F<sub>j</sub>)
+	 */
+	public double jointEntropy(int i, int j) {
+		if (i==j)	return entropies[i];
+		return i<j? jointEntropies[pairIndex(i, j)]: jointEntropies[pairIndex(j, i)];
+	}
+
+	/**
+	 * Get <strong>H(F<sub>i</sub>|F<sub>j</sub>)</strong> = H(F<sub>i</sub>, F<sub>j</sub>) -
+	 * H(F<sub>j</sub>)
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return H(F<sub>i</sub>|F<sub>j</sub>)
+	 */
+	public double conditionalEntropy(int i, int j) {
+		return jointEntropy(i, j) - entropies[j];
+	}
+
+	/**
+	 * Get <strong>I(F<sub>i</sub>; F<sub>j</sub>)</strong> = H(F<sub>i</sub>) + H(F<sub>j</sub>) -
+	 * H(F<sub>i</sub>, F<sub>j</sub>)
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return I(F<sub>i</sub>; F<sub>j</sub>)
+	 */
+	public double mutualInformation(int i, int j) {
+		return entropies[i] + entropies[j] - jointEntropy(i, j);
+	}
+
+	/**
+	 * Get <strong>SU(F<sub>i</sub>, F<sub>j</sub>)</strong> =
+	 * 2 * [ I(F<sub>i</sub>; F<sub>j</sub>) / ( H(F<sub>i</sub>) + H(F<sub>j</sub>) ) ]
+	 *
+	 * @param i
+	 * 		The index of F<sub>i</sub>.
+	 * @param j
+	 * 		The index of F<sub>j</sub>.
+	 * @return SU(F<sub>i</sub>, F<sub>j</sub>)
+	 */
+	public double symmetricalUncertainty(int i, int j) {
+		return 2 * ( mutualInformation(i, j) / (entropies[i] + entropies[j]) );
+	}
+
+	/**
+	 * Get &Sigma;<sub>j=1:n,j!=i</sub> H(F<sub>i</sub> | F<sub>j</sub>) of every feature, where
+	 * n = {@link #size()}.
+	 *
+	 * @return sums of conditional entropies by feature index.
+	 */
+	public double[] conditionalEntropySums() {
+		double[] sums = new double[attributes.length];
+		for (int i=0; i<attributes.length; i++) {
+			for (int j=i+1; j<attributes.length; j++) {
+				sums[i] += conditionalEntropy(i, j);
+				sums[j] += conditionalEntropy(j, i);
+			}
+		}
+		return sums;
+	}
+
+	private int pairIndex(int i, int j) {
+		// offset of row i in the packed upper triangle(without diagonal) + column offset.
+		return i * (2*attributes.length - i - 1) / 2 + (j - i - 1);
+	}
+
+	/**
+	 * {@link RecursiveAction} over block pairs, each block pair(<code>bi</code>&lt;=<code>bj</code>)
+	 * encoded as <code>bi*blocks+bj</code>.
+	 */
+	private class BlockTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] blockPairs;
+		private final int blocks, from, to;
+
+		private BlockTask(int[] blockPairs, int blocks, int from, int to) {
+			this.blockPairs = blockPairs;
+			this.blocks = blocks;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to-from>1) {
+				int mid = (from+to) >>> 1;
+				invokeAll(new BlockTask(blockPairs, blocks, from, mid), new BlockTask(blockPairs, blocks, mid, to));
+				return;
+			}
+			int bi = blockPairs[from] / blocks, bj = blockPairs[from] % blocks;
+			int iEnd = Math.min(attributes.length, (bi+1) * blockSize),
+				jEnd = Math.min(attributes.length, (bj+1) * blockSize);
+			JointEntropyCounter counter = new JointEntropyCounter(instanceSize);
+			for (int i=bi*blockSize; i<iEnd; i++) {
+				for (int j=Math.max(i+1, bj*blockSize); j<jEnd; j++) {
+					jointEntropies[pairIndex(i, j)] = counter.jointEntropy(columns[i], columns[j]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package featureSelection.repository.entity.alg.semisupervisedRepresentative.graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import lombok.Getter;
+
+/**
+ * Weighted edges of a Directed Acyclic Graph in primitive arrays of <strong>Compressed Sparse
+ * Row(CSR)</strong> format: edges of node <code>n</code> are the ones at
+ * [{@link #edgeStart(int)}, {@link #edgeEnd(int)}) of {@link #toNode(int)} and
+ * {@link #weight(int)}.
+ * <p>
+ * Edges are appended by {@link #addEdge(int, int, double)} in non-descending order of their
+ * from-nodes, so the array can be built while edges are created node by node, without boxing
+ * or a {@link Collection} per node as {@link DirectedAcyclicGraghWeightedEdge}s.
+ *
+ * @author Benjamin_L
+ */
+public class DirectedAcyclicGraphEdgeArray {
+	@Getter private final int nodeSize;
+	@Getter private int edgeSize;
+	/**
+	 * Start of edges of node <code>n</code> for n &lt;= {@link #currentNode}.
+	 */
+	private final int[] offsets;
+	private int[] toNodes;
+	private double[] weights;
+	/**
+	 * The from-node of the last appended edge.
+	 */
+	private int currentNode;
+
+	public DirectedAcyclicGraphEdgeArray(int nodeSize) {
+		this(nodeSize, Math.max(16, nodeSize));
+	}
+
+	/**
+	 * Construct an empty edge array.
+	 *
+	 * @param nodeSize
+	 * 		The number of nodes.
+	 * @param edgeCapacity
+	 * 		The initial capacity of edges.
+	 */
+	public DirectedAcyclicGraphEdgeArray(int nodeSize, int edgeCapacity) {
+		this.nodeSize = nodeSize;
+		offsets = new int[Math.max(1, nodeSize)];
+		toNodes = new int[Math.max(1, edgeCapacity)];
+		weights = new double[toNodes.length];
+	}
+
+	/**
+	 * Append an edge: <code>fromNode --weight--&gt; toNode</code>.
+	 *
+	 * @param fromNode
+	 * 		The node pointing at, no less than the one of the last appended edge.
+	 * @param toNode
+	 * 		The node being pointed at.
+	 * @param weight
+	 * 		The weight of the edge.
+	 * @throws IllegalArgumentException if <code>fromNode</code> is less than the one of the last
+	 * 		appended edge.
+	 */
+	public void addEdge(int fromNode, int toNode, double weight) {
+		if (fromNode<currentNode) {
+			throw new IllegalArgumentException(
+					"Edges must be added in order of from-nodes: "+fromNode+" < "+currentNode
+				);
+		}
+		for (; currentNode<fromNode; currentNode++)	offsets[currentNode+1] = edgeSize;
+		if (edgeSize==toNodes.length) {
+			toNodes = Arrays.copyOf(toNodes, edgeSize << 1);
+			weights = Arrays.copyOf(weights, toNodes.length);
+		}
+		toNodes[edgeSize] = toNode;
+		weights[edgeSize++] = weight;
+	}
+
+	/**
+	 * Get the index of the first edge of the given node.
+	 *
+	 * @param node
+	 * 		The node.
+	 * @return the edge index.
+	 */
+	public int edgeStart(int node) {
+		return node<=currentNode? offsets[node]: edgeSize;
+	}
+
+	/**
+	 * Get the index after the last edge of the given node.
+	 *
+	 * @param node
+	 * 		The node.
+	 * @return the edge index(exclusive).
+	 */
+	public int edgeEnd(int node) {
+		return node<currentNode? offsets[node+1]: edgeSize;
+	}
+
+	public int toNode(int edge) {
+		return toNodes[edge];
+	}
+
+	public double weight(int edge) {
+		return weights[edge];
+	}
+
+	/**
+	 * Create an edge array of the given edges.
+	 *
+	 * @param dagEdges
+	 * 		Edges of the <code>i</code>th node stored in the <code>i</code>th {@link Collection}.
+	 * @return {@link DirectedAcyclicGraphEdgeArray}.
+	 */
+	public static DirectedAcyclicGraphEdgeArray of(
+			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges
+	) {
+		int edgeSize = 0;
+		for (Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>> edges: dagEdges)
+			edgeSize += edges.size();
+		DirectedAcyclicGraphEdgeArray edgeArray = new DirectedAcyclicGraphEdgeArray(dagEdges.length, edgeSize);
+		for (int i=0; i<dagEdges.length; i++) {
+			for (DirectedAcyclicGraghWeightedEdge<Integer, Double> edge: dagEdges[i])
+				edgeArray.addEdge(i, edge.getToNode(), edge.getWeight());
+		}
+		return edgeArray;
+	}
+}
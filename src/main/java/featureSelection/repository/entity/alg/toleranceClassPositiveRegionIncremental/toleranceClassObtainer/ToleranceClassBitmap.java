@@ -0,0 +1,251 @@
+package featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.toleranceClassObtainer;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+/**
+ * A tolerance class held as a compact bitset over indexed candidates({@link Candidates}): the
+ * <code>i</code>th candidate is tolerant if the bit <code>i%64</code> of the word
+ * <code>i/64</code> is set.
+ * <p>
+ * Tolerance classes of {@link Instance}s with the same attribute values share their words until
+ * modified(copy-on-write). {@link Instance}s out of the candidates(e.g. added when combining
+ * tolerance classes of in-variances and variances) are kept in a {@link HashSet} aside.
+ *
+ * @see ToleranceClassObtainerByBitmap
+ *
+ * @author Benjamin_L
+ */
+public class ToleranceClassBitmap extends AbstractCollection<Instance> {
+	/**
+	 * Indexed candidates shared by {@link ToleranceClassBitmap}s.
+	 */
+	@Getter private final Candidates candidates;
+	private long[] words;
+	private boolean shared;
+	private int bitSize;
+	private Collection<Instance> extras;
+
+	/**
+	 * Construct a {@link ToleranceClassBitmap}.
+	 *
+	 * @param candidates
+	 * 		Indexed {@link Candidates}.
+	 * @param words
+	 * 		Words of the bitset.
+	 * @param shared
+	 * 		Whether <code>words</code> is shared by other {@link ToleranceClassBitmap}s, in which case
+	 * 		it is copied before modified.
+	 */
+	public ToleranceClassBitmap(Candidates candidates, long[] words, boolean shared) {
+		this.candidates = candidates;
+		this.words = words;
+		this.shared = shared;
+		for (long word: words)	bitSize += Long.bitCount(word);
+	}
+
+	/**
+	 * Get the words of the bitset over {@link #candidates}. The returned array should not be
+	 * modified.
+	 *
+	 * @return words of the bitset.
+	 */
+	public long[] words() {
+		return words;
+	}
+
+	/**
+	 * Whether all {@link Instance}s in the tolerance class share the same decision value, checked
+	 * word by word against the decision bitmap of the first one.
+	 *
+	 * @return <code>true</code> if consistent(or empty).
+	 */
+	public boolean consistent() {
+		Iterator<Instance> iterator = iterator();
+		if (!iterator.hasNext())	return true;
+		int dec = iterator.next().getAttributeValue(0);
+		long[] decisionWords = candidates.decisionBitmap(dec);
+		for (int w=0; w<words.length; w++)
+			if ((words[w] & ~decisionWords[w])!=0)	return false;
+		if (extras!=null) {
+			for (Instance extra: extras)
+				if (extra.getAttributeValue(0)!=dec)	return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return bitSize + (extras==null? 0: extras.size());
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		Integer index = candidates.indexes.get(o);
+		if (index!=null)	return (words[index >>> 6] & (1L << index))!=0;
+		return extras!=null && extras.contains(o);
+	}
+
+	@Override
+	public boolean add(Instance ins) {
+		Integer index = candidates.indexes.get(ins);
+		if (index!=null) {
+			if ((words[index >>> 6] & (1L << index))!=0)	return false;
+			own();
+			words[index >>> 6] |= 1L << index;
+			bitSize++;
+			return true;
+		}
+		if (extras==null)	extras = new HashSet<>();
+		return extras.add(ins);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		Integer index = candidates.indexes.get(o);
+		if (index!=null) {
+			if ((words[index >>> 6] & (1L << index))==0)	return false;
+			clear(index);
+			return true;
+		}
+		return extras!=null && extras.remove(o);
+	}
+
+	private void clear(int index) {
+		own();
+		words[index >>> 6] &= ~(1L << index);
+		bitSize--;
+	}
+
+	/**
+	 * Copy {@link #words} if shared.
+	 */
+	private void own() {
+		if (shared) {
+			words = words.clone();
+			shared = false;
+		}
+	}
+
+	/**
+	 * Iterate candidates in the bitset in index order, then {@link Instance}s aside.
+	 */
+	@Override
+	public Iterator<Instance> iterator() {
+		return new Iterator<Instance>() {
+			private int next = nextSetBit(0), last = -1;
+			private Iterator<Instance> extraIterator;
+
+			@Override
+			public boolean hasNext() {
+				return next!=-1 || (extras!=null && extraIterator().hasNext());
+			}
+
+			@Override
+			public Instance next() {
+				if (next!=-1) {
+					last = next;
+					next = nextSetBit(next+1);
+					return candidates.instances[last];
+				}
+				if (extras==null)	throw new NoSuchElementException();
+				last = -1;
+				return extraIterator().next();
+			}
+
+			@Override
+			public void remove() {
+				if (last!=-1) {
+					clear(last);
+					last = -1;
+				}else if (extraIterator!=null) {
+					extraIterator.remove();
+				}else {
+					throw new IllegalStateException();
+				}
+			}
+
+			private Iterator<Instance> extraIterator() {
+				if (extraIterator==null)	extraIterator = extras.iterator();
+				return extraIterator;
+			}
+		};
+	}
+
+	private int nextSetBit(int from) {
+		int w = from >>> 6;
+		if (w>=words.length)	return -1;
+		long word = words[w] & (-1L << from);
+		while (true) {
+			if (word!=0)	return (w << 6) + Long.numberOfTrailingZeros(word);
+			if (++w==words.length)	return -1;
+			word = words[w];
+		}
+	}
+
+	/**
+	 * Candidates of tolerance classes indexed by their order, with decision bitmaps calculated
+	 * lazily.
+	 *
+	 * @author Benjamin_L
+	 */
+	public static class Candidates {
+		@Getter private final Instance[] instances;
+		private final Map<Instance, Integer> indexes;
+		private final Map<Integer, long[]> decisionBitmaps;
+
+		public Candidates(Collection<Instance> candidates) {
+			instances = candidates.toArray(new Instance[candidates.size()]);
+			indexes = new HashMap<>(instances.length);
+			for (int i=0; i<instances.length; i++)	indexes.put(instances[i], i);
+			decisionBitmaps = new HashMap<>();
+		}
+
+		/**
+		 * Get the number of words of bitsets over the candidates.
+		 *
+		 * @return the number of words.
+		 */
+		public int wordSize() {
+			return (instances.length + Long.SIZE - 1) >>> 6;
+		}
+
+		/**
+		 * Get the index of the given candidate.
+		 *
+		 * @param ins
+		 * 		An {@link Instance}.
+		 * @return the index or <code>-1</code> if not a candidate.
+		 */
+		public int indexOf(Instance ins) {
+			Integer index = indexes.get(ins);
+			return index==null? -1: index;
+		}
+
+		/**
+		 * Get the bitmap of candidates with the given decision value.
+		 *
+		 * @param dec
+		 * 		The decision value.
+		 * @return words of the bitmap.
+		 */
+		public long[] decisionBitmap(int dec) {
+			long[] bitmap = decisionBitmaps.get(dec);
+			if (bitmap==null) {
+				bitmap = new long[wordSize()];
+				for (int i=0; i<instances.length; i++)
+					if (instances[i].getAttributeValue(0)==dec)	bitmap[i >>> 6] |= 1L << i;
+				decisionBitmaps.put(dec, bitmap);
+			}
+			return bitmap;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.toleranceClassObtainer;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.instanceGroup.InstancesCollector;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ToleranceClassObtainer} by bitmap indexes over candidates:
+ * <ul>
+ * 	<li>a row bitmap for every (attribute, value): candidates with the value;</li>
+ * 	<li>a "missing" bitmap for every attribute: candidates with the value missing.</li>
+ * </ul>
+ * Then, the tolerance class of x is obtained by word operations:
+ * <pre>
+ * S<sub>B</sub>(x) = AND<sub>b∈B, b(x) not missing</sub> (bitmap[b][b(x)] OR missing[b])
+ * </pre>
+ * and returned as a {@link ToleranceClassBitmap}, shared by {@link Instance}s with the same
+ * attribute values(copy-on-write), instead of collecting the ones to be removed into a
+ * {@link java.util.HashSet} per {@link Instance} and filtering candidates.
+ * <p>
+ * Bitmaps take |B| * (|V<sub>b</sub>|+1) * |U|/64 words, which suits discrete attributes.
+ * No extra argument is required.
+ *
+ * @author Benjamin_L
+ */
+public class ToleranceClassObtainerByBitmap
+	implements ToleranceClassObtainer
+{
+	/**
+	 * Key value for missing values when caching tolerance classes.
+	 */
+	private static final int MISSING_KEY = Integer.MIN_VALUE;
+
+	@Override
+	public Map<Instance, Collection<Instance>> obtain(
+			Collection<Instance> instances, Collection<Instance> candidates,
+			IntegerIterator attributes, Object...args
+	) {
+		if (attributes.size()==0) {
+			return obtain4EmptyAttribute(instances, candidates);
+		}
+
+		int[] attributeArray = new int[attributes.size()];
+		attributes.reset();
+		for (int i=0; i<attributeArray.length; i++)	attributeArray[i] = attributes.next();
+
+		// Index candidates and build bitmaps for every attribute.
+		ToleranceClassBitmap.Candidates indexed = new ToleranceClassBitmap.Candidates(candidates);
+		int wordSize = indexed.wordSize();
+		Instance[] candidateArray = indexed.getInstances();
+		@SuppressWarnings("unchecked")
+		Map<Integer, long[]>[] valueBitmaps = new Map[attributeArray.length];
+		long[][] missingBitmaps = new long[attributeArray.length][wordSize];
+		for (int i=0; i<attributeArray.length; i++)	valueBitmaps[i] = new HashMap<>();
+		long[] bitmap;
+		for (int r=0; r<candidateArray.length; r++) {
+			for (int i=0; i<attributeArray.length; i++) {
+				if (isValueMissing(candidateArray[r], attributeArray[i])) {
+					missingBitmaps[i][r >>> 6] |= 1L << r;
+				}else {
+					bitmap = valueBitmaps[i].get(candidateArray[r].getAttributeValue(attributeArray[i]));
+					if (bitmap==null) {
+						valueBitmaps[i].put(
+							candidateArray[r].getAttributeValue(attributeArray[i]),
+							bitmap = new long[wordSize]
+						);
+					}
+					bitmap[r >>> 6] |= 1L << r;
+				}
+			}
+		}
+
+		// S<sub>B</sub>(x) = AND(bitmap[b][b(x)] OR missing[b]) for every x in U.
+		Map<Instance, Collection<Instance>> tolerances = new HashMap<>(instances.size());
+		Map<IntArrayKey, long[]> toleranceCache = new HashMap<>(instances.size());
+		long[] tolerance, missing;
+		int[] keyValues;
+		IntArrayKey key;
+		for (Instance ins: instances) {
+			keyValues = new int[attributeArray.length];
+			for (int i=0; i<attributeArray.length; i++) {
+				keyValues[i] = isValueMissing(ins, attributeArray[i])?
+								MISSING_KEY: ins.getAttributeValue(attributeArray[i]);
+			}
+			key = new IntArrayKey(keyValues);
+			tolerance = toleranceCache.get(key);
+			if (tolerance==null) {
+				tolerance = new long[wordSize];
+				Arrays.fill(tolerance, -1L);
+				if ((candidateArray.length & (Long.SIZE-1))!=0)
+					tolerance[wordSize-1] = (1L << candidateArray.length) - 1;
+				for (int i=0; i<attributeArray.length; i++) {
+					// skip missing value.
+					if (keyValues[i]==MISSING_KEY)	continue;
+					bitmap = valueBitmaps[i].get(keyValues[i]);
+					missing = missingBitmaps[i];
+					if (bitmap==null) {
+						for (int w=0; w<wordSize; w++)	tolerance[w] &= missing[w];
+					}else {
+						for (int w=0; w<wordSize; w++)	tolerance[w] &= bitmap[w] | missing[w];
+					}
+				}
+				toleranceCache.put(key, tolerance);
+			}
+			// "ins" has no tolerance class if empty.
+			if (!isEmpty(tolerance))
+				tolerances.put(ins, new ToleranceClassBitmap(indexed, tolerance, true));
+		}
+		return tolerances;
+	}
+
+	private static boolean isValueMissing(Instance ins, int attribute) {
+		return ins instanceof IncompleteInstance && ((IncompleteInstance) ins).isValueMissing(attribute);
+	}
+
+	private static boolean isEmpty(long[] words) {
+		for (long word: words)	if (word!=0)	return false;
+		return true;
+	}
+
+	@Override
+	public InstancesCollector getCacheInstanceGroups(Collection<Instance> instances) {
+		return null;
+	}
+
+	@Override
+	public InstancesCollector getCacheInstanceGroups(
+			Collection<Instance> instances, IntegerIterator attributes
+	) {
+		return null;
+	}
+
+	@Override
+	public String name() {
+		return "Bitmap";
+	}
+}
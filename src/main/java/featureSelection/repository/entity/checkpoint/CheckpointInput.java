@@ -0,0 +1,170 @@
+package featureSelection.repository.entity.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.IntFunction;
+
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+/**
+ * Input of a binary state checkpoint file written by {@link CheckpointOutput}.
+ * <p>
+ * {@link Instance}s in the instance table are restored as <strong>new</strong> {@link Instance}
+ * objects with their original {@link Instance#getNum()}.
+ *
+ * @see CheckpointOutput
+ *
+ * @author Benjamin_L
+ */
+public class CheckpointInput implements Closeable {
+	private final DataInputStream in;
+	@Getter private final CheckpointKind kind;
+	private Instance[] instances;
+
+	/**
+	 * Open the file and read the header.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @param expected
+	 * 		Expected {@link CheckpointKind}s of the file.
+	 * @throws IOException if fails to read or the file is not a checkpoint of the expected kinds.
+	 */
+	public CheckpointInput(Path file, CheckpointKind...expected) throws IOException {
+		in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+		try {
+			if (in.readInt()!=CheckpointOutput.MAGIC)
+				throw new IOException("Not a checkpoint file: "+file);
+			short version = in.readShort();
+			if (version!=CheckpointOutput.VERSION)
+				throw new IOException("Unsupported checkpoint version "+version+": "+file);
+			kind = CheckpointKind.of(in.readUnsignedByte());
+			boolean matched = false;
+			for (CheckpointKind each: expected)	if (each==kind)	matched = true;
+			if (!matched)	throw new IOException("Unexpected checkpoint kind "+kind+": "+file);
+		}catch (IOException e) {
+			in.close();
+			throw e;
+		}
+	}
+
+	public int readByte() throws IOException {
+		return in.readUnsignedByte();
+	}
+
+	public boolean readBoolean() throws IOException {
+		return in.readBoolean();
+	}
+
+	public long readLong() throws IOException {
+		return in.readLong();
+	}
+
+	/**
+	 * Read a variable length zigzag integer.
+	 *
+	 * @see CheckpointOutput#writeVarInt(int)
+	 *
+	 * @return the int value.
+	 * @throws IOException if fails to read.
+	 */
+	public int readVarInt() throws IOException {
+		int zigzag = 0, b;
+		for (int shift=0; ; shift+=7) {
+			if (shift>28)	throw new IOException("Malformed variable length integer.");
+			b = in.readUnsignedByte();
+			zigzag |= (b & 0x7F) << shift;
+			if ((b & 0x80)==0)	break;
+		}
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+
+	public int[] readIntArray() throws IOException {
+		int length = readVarInt();
+		if (length==-1)	return null;
+		int[] values = new int[length];
+		for (int i=0; i<length; i++)	values[i] = readVarInt();
+		return values;
+	}
+
+	/**
+	 * Read an {@link Integer} {@link Collection} into the one created by <code>collection</code>.
+	 *
+	 * @param collection
+	 * 		{@link IntFunction} to create a {@link Collection} with the size.
+	 * @return the {@link Collection} or <code>null</code>.
+	 * @throws IOException if fails to read.
+	 */
+	public Collection<Integer> readIntegers(IntFunction<Collection<Integer>> collection) throws IOException {
+		int size = readVarInt();
+		if (size==-1)	return null;
+		Collection<Integer> values = collection.apply(size);
+		for (int i=0; i<size; i++)	values.add(readVarInt());
+		return values;
+	}
+
+	public Number readNumber() throws IOException {
+		int type = in.readUnsignedByte();
+		switch (type) {
+			case 'I':	return readVarInt();
+			case 'D':	return in.readDouble();
+			default:	throw new IOException("Unknown number type: "+type);
+		}
+	}
+
+	/**
+	 * Read the instance table.
+	 *
+	 * @return {@link Instance}s in the table.
+	 * @throws IOException if fails to read.
+	 */
+	public Collection<Instance> readInstanceTable() throws IOException {
+		instances = new Instance[readVarInt()];
+		for (int i=0; i<instances.length; i++) {
+			boolean incomplete = in.readBoolean();
+			int num = readVarInt();
+			int[] values = readIntArray();
+			instances[i] = incomplete? new IncompleteInstance(values, num): new Instance(values, num);
+		}
+		Collection<Instance> table = new ArrayList<>(instances.length);
+		for (Instance ins: instances)	table.add(ins);
+		return table;
+	}
+
+	public Instance readInstance() throws IOException {
+		int index = readVarInt();
+		if (instances==null || index<0 || index>=instances.length)
+			throw new IOException("Illegal instance reference: "+index);
+		return instances[index];
+	}
+
+	/**
+	 * Read {@link Instance} references into the {@link Collection} created by
+	 * <code>collection</code>.
+	 *
+	 * @param collection
+	 * 		{@link IntFunction} to create a {@link Collection} with the size.
+	 * @return the {@link Collection} or <code>null</code>.
+	 * @throws IOException if fails to read.
+	 */
+	public Collection<Instance> readInstances(IntFunction<Collection<Instance>> collection) throws IOException {
+		int size = readVarInt();
+		if (size==-1)	return null;
+		Collection<Instance> values = collection.apply(size);
+		for (int i=0; i<size; i++)	values.add(readInstance());
+		return values;
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
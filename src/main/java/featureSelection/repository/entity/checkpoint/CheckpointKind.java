@@ -0,0 +1,48 @@
+package featureSelection.repository.entity.checkpoint;
+
+import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.family.SamplePairFamily;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.MixedEquivalenceClassSequentialList;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.xieDynamicIncompleteDSReduction.PreviousInfoPack;
+import lombok.Getter;
+
+/**
+ * Kinds of state checkpoint files.
+ *
+ * @author Benjamin_L
+ */
+public enum CheckpointKind {
+	/**
+	 * Full checkpoint of {@link NestedEquivalenceClass} based streaming reduction.
+	 */
+	NEC_STREAMING_FULL(1),
+	/**
+	 * Delta checkpoint of {@link NestedEquivalenceClass} based streaming reduction.
+	 */
+	NEC_STREAMING_DELTA(2),
+	/**
+	 * {@link MixedEquivalenceClassSequentialList} of Liang incremental algorithm.
+	 */
+	LIANG_MIXED_EQUIVALENCE_CLASSES(3),
+	/**
+	 * {@link PreviousInfoPack} of Xie dynamic incomplete data reduction.
+	 */
+	XIE_PREVIOUS_INFO(4),
+	/**
+	 * {@link SamplePairFamily} of active sample selection.
+	 */
+	SAMPLE_PAIR_FAMILY(5);
+
+	@Getter private final int code;
+
+	CheckpointKind(int code) {
+		this.code = code;
+	}
+
+	public static CheckpointKind of(int code) {
+		for (CheckpointKind kind: values()) {
+			if (kind.code==code)	return kind;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,234 @@
+package featureSelection.repository.entity.checkpoint;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+
+/**
+ * Output of a binary state checkpoint file.
+ * <p>
+ * File layout: <code>MAGIC(int) | VERSION(short) | kind(byte) | content</code>. Integers in
+ * content are written as variable length zigzag integers, so small values(e.g. attribute values,
+ * counts) take 1 or 2 bytes.
+ * <p>
+ * {@link Instance}s are written once in an instance table(see {@link #writeInstanceTable(Collection)})
+ * with their {@link Instance#getNum()} and referenced by their indexes in the table, so that
+ * shared {@link Instance}s are restored as shared ones with the same {@link Instance#getNum()}.
+ * <p>
+ * Content is written into a temporary file in the directory of the checkpoint file, which is
+ * moved onto the checkpoint file atomically by {@link #commit()}. Closing without
+ * {@link #commit()}(e.g. on failures) deletes the temporary file, so that a checkpoint file is
+ * either the previous one or a complete new one, never a partial one.
+ *
+ * @see CheckpointInput
+ *
+ * @author Benjamin_L
+ */
+public class CheckpointOutput implements Closeable {
+	/**
+	 * Magic number: "FSCK".
+	 */
+	public static final int MAGIC = 0x4653434B;
+	public static final short VERSION = 2;
+
+	private final Path file, temporary;
+	private final DataOutputStream out;
+	private Map<Instance, Integer> instanceIndexes;
+	private boolean committed;
+
+	/**
+	 * Create a temporary file for the checkpoint file(overwritten by {@link #commit()} if exists)
+	 * and write the header.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @param kind
+	 * 		{@link CheckpointKind} of the file.
+	 * @throws IOException if fails to write.
+	 */
+	public CheckpointOutput(Path file, CheckpointKind kind) throws IOException {
+		this.file = file.toAbsolutePath();
+		temporary = Files.createTempFile(
+						this.file.getParent(), "."+this.file.getFileName()+".", ".tmp"
+					);
+		try {
+			out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16));
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeByte(kind.getCode());
+		}catch (IOException e) {
+			Files.deleteIfExists(temporary);
+			throw e;
+		}
+	}
+
+	public void writeByte(int value) throws IOException {
+		out.writeByte(value);
+	}
+
+	public void writeBoolean(boolean value) throws IOException {
+		out.writeBoolean(value);
+	}
+
+	public void writeLong(long value) throws IOException {
+		out.writeLong(value);
+	}
+
+	/**
+	 * Write an int as a variable length zigzag integer.
+	 *
+	 * @param value
+	 * 		The value to be written.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeVarInt(int value) throws IOException {
+		int zigzag = (value << 1) ^ (value >> 31);
+		while ((zigzag & ~0x7F)!=0) {
+			out.writeByte((zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+		out.writeByte(zigzag);
+	}
+
+	/**
+	 * Write an int array with its length, <code>null</code> is written as length -1.
+	 *
+	 * @param values
+	 * 		An int array.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeIntArray(int[] values) throws IOException {
+		if (values==null) {
+			writeVarInt(-1);
+			return;
+		}
+		writeVarInt(values.length);
+		for (int value: values)	writeVarInt(value);
+	}
+
+	/**
+	 * Write an {@link Integer} {@link Collection} with its size.
+	 *
+	 * @param values
+	 * 		An {@link Integer} {@link Collection}.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeIntegers(Collection<Integer> values) throws IOException {
+		if (values==null) {
+			writeVarInt(-1);
+			return;
+		}
+		writeVarInt(values.size());
+		for (int value: values)	writeVarInt(value);
+	}
+
+	/**
+	 * Write a {@link Number} as an int if it is an {@link Integer}, otherwise a double.
+	 *
+	 * @param value
+	 * 		A {@link Number}.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeNumber(Number value) throws IOException {
+		if (value instanceof Integer) {
+			out.writeByte('I');
+			writeVarInt(value.intValue());
+		}else {
+			out.writeByte('D');
+			out.writeDouble(value.doubleValue());
+		}
+	}
+
+	/**
+	 * Write the instance table. Should be called once, before any
+	 * {@link #writeInstance(Instance)}.
+	 *
+	 * @param instances
+	 * 		All the {@link Instance}s to be referenced. Duplicates are ignored.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeInstanceTable(Collection<? extends Instance> instances) throws IOException {
+		if (instanceIndexes!=null)	throw new IllegalStateException("Instance table has been written.");
+		instanceIndexes = new IdentityHashMap<>(instances.size());
+		List<Instance> table = new ArrayList<>(instances.size());
+		for (Instance ins: instances) {
+			if (instanceIndexes.putIfAbsent(ins, -1)==null)	table.add(ins);
+		}
+		table.sort(Comparator.comparingInt(Instance::getNum));
+
+		writeVarInt(table.size());
+		for (int i=0; i<table.size(); i++) {
+			instanceIndexes.put(table.get(i), i);
+			out.writeBoolean(table.get(i) instanceof IncompleteInstance);
+			writeVarInt(table.get(i).getNum());
+			writeIntArray(table.get(i).getAttributeValues());
+		}
+	}
+
+	/**
+	 * Write the reference of an {@link Instance} in the instance table.
+	 *
+	 * @param ins
+	 * 		An {@link Instance} in the instance table.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeInstance(Instance ins) throws IOException {
+		Integer index = instanceIndexes==null? null: instanceIndexes.get(ins);
+		if (index==null)	throw new IllegalStateException("Instance not in the instance table: "+ins);
+		writeVarInt(index);
+	}
+
+	/**
+	 * Write references of {@link Instance}s with the size, <code>null</code> is written as size -1.
+	 *
+	 * @param instances
+	 * 		{@link Instance}s in the instance table.
+	 * @throws IOException if fails to write.
+	 */
+	public void writeInstances(Collection<Instance> instances) throws IOException {
+		if (instances==null) {
+			writeVarInt(-1);
+			return;
+		}
+		writeVarInt(instances.size());
+		for (Instance ins: instances)	writeInstance(ins);
+	}
+
+	/**
+	 * Flush and close the temporary file, and move it onto the checkpoint file atomically.
+	 *
+	 * @throws IOException if fails to write or move.
+	 */
+	public void commit() throws IOException {
+		if (committed)	return;
+		out.close();
+		Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+		committed = true;
+	}
+
+	/**
+	 * Close and delete the temporary file if not {@link #commit()}ed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (committed)	return;
+		try {
+			out.close();
+		}finally {
+			Files.deleteIfExists(temporary);
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package featureSelection.repository.entity.checkpoint;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.PlainNestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
+import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.result.ReductionResult;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Checkpoints of {@link NestedEquivalenceClass} based streaming reduction states(i.e. the
+ * {@link NestedEquivalenceClass} map induced by the reduct, the reduct and its significance) in a
+ * directory, as a full checkpoint followed by delta checkpoints:
+ * <pre>
+ * checkpoint-000000.full
+ * checkpoint-000001.delta
+ * checkpoint-000002.delta
+ * ...
+ * </pre>
+ * A delta checkpoint contains the reduct, the significance, keys of removed
+ * {@link NestedEquivalenceClass}es and the {@link NestedEquivalenceClass}es changed since the
+ * previous checkpoint, detected by comparing {@link Summary}s of {@link NestedEquivalenceClass}es
+ * recorded in the previous checkpoint: a 64-bit fingerprint with the sizes and instance counts by
+ * decision values, compared exactly. So, only the summaries are kept in memory between
+ * checkpoints.
+ * <p>
+ * A full checkpoint is written for the 1st checkpoint, every {@link #fullInterval} checkpoints, or
+ * when the delta is larger than half of the map(e.g. the reduct changes and all keys change),
+ * deleting older checkpoint files. Each file is written into a temporary file first and moved
+ * into place atomically(see {@link CheckpointOutput#commit()}), so an interrupted checkpoint
+ * leaves previous files intact.
+ * <p>
+ * Restore by {@link #restore(Path)}: the latest full checkpoint is read and the following delta
+ * checkpoints are applied in order.
+ *
+ * @author Benjamin_L
+ */
+public class NestedEquivalenceClassCheckpoints {
+	public static final String FILE_PREFIX = "checkpoint-";
+	public static final String FULL_SUFFIX = ".full", DELTA_SUFFIX = ".delta";
+	/**
+	 * Default number of checkpoints between full checkpoints.
+	 */
+	public static final int DEFAULT_FULL_INTERVAL = 64;
+
+	@Getter private final Path directory;
+	@Getter private final int fullInterval;
+	/**
+	 * {@link Summary}s of {@link NestedEquivalenceClass}es in the previous checkpoint.
+	 */
+	private Map<IntArrayKey, Summary> summaries;
+	/**
+	 * Sequence number of the next checkpoint.
+	 */
+	@Getter private int sequence;
+	private int sinceFull;
+
+	/**
+	 * Construct with {@link #DEFAULT_FULL_INTERVAL}.
+	 *
+	 * @param directory
+	 * 		The directory of checkpoint files, created if not exists.
+	 * @throws IOException if fails to create the directory.
+	 */
+	public NestedEquivalenceClassCheckpoints(Path directory) throws IOException {
+		this(directory, DEFAULT_FULL_INTERVAL);
+	}
+
+	/**
+	 * Construct.
+	 *
+	 * @param directory
+	 * 		The directory of checkpoint files, created if not exists.
+	 * @param fullInterval
+	 * 		The number of checkpoints between full checkpoints.
+	 * @throws IOException if fails to create the directory.
+	 */
+	public NestedEquivalenceClassCheckpoints(Path directory, int fullInterval) throws IOException {
+		if (fullInterval<=0)	throw new IllegalArgumentException("Illegal full interval: "+fullInterval);
+		this.directory = Files.createDirectories(directory);
+		this.fullInterval = fullInterval;
+		this.sequence = nextSequence(directory);
+	}
+
+	/**
+	 * Write a checkpoint of the given state.
+	 *
+	 * @param state
+	 * 		{@link ReductionResult} with the {@link NestedEquivalenceClass} map, the reduct and
+	 * 		its significance.
+	 * @return {@link Path} of the checkpoint file written.
+	 * @throws IOException if fails to write.
+	 */
+	public Path checkpoint(
+			ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>, Collection<Integer>, ? extends Number> state
+	) throws IOException {
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses = state.getWrappedInstances();
+		Map<IntArrayKey, Summary> latest = new HashMap<>(nestedEquClasses.size());
+		List<IntArrayKey> changed = new ArrayList<>();
+		for (Map.Entry<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> entry: nestedEquClasses.entrySet()) {
+			Summary summary = Summary.of(entry.getValue());
+			latest.put(entry.getKey(), summary);
+			Summary previous = summaries==null? null: summaries.get(entry.getKey());
+			if (!summary.equals(previous))	changed.add(entry.getKey());
+		}
+		List<IntArrayKey> removed = new ArrayList<>();
+		if (summaries!=null) {
+			for (IntArrayKey key: summaries.keySet())
+				if (!latest.containsKey(key))	removed.add(key);
+		}
+
+		boolean full = summaries==null || sinceFull+1>=fullInterval ||
+						(changed.size()+removed.size())*2>nestedEquClasses.size();
+		Path file = directory.resolve(fileName(sequence, full));
+		try (CheckpointOutput out = new CheckpointOutput(
+				file, full? CheckpointKind.NEC_STREAMING_FULL: CheckpointKind.NEC_STREAMING_DELTA
+		)) {
+			out.writeIntegers(state.getReduct());
+			out.writeNumber(state.getReductSig());
+			if (full) {
+				out.writeVarInt(0);
+				writeNestedEquivalenceClasses(out, nestedEquClasses, nestedEquClasses.keySet());
+			}else {
+				out.writeVarInt(removed.size());
+				for (IntArrayKey key: removed)	out.writeIntArray(key.key());
+				writeNestedEquivalenceClasses(out, nestedEquClasses, changed);
+			}
+			out.commit();
+		}
+		if (full) {
+			deleteBefore(sequence);
+			sinceFull = 0;
+		}else {
+			sinceFull++;
+		}
+		summaries = latest;
+		sequence++;
+		return file;
+	}
+
+	/**
+	 * Restore the latest state from checkpoints in <code>directory</code>.
+	 *
+	 * @param directory
+	 * 		The directory of checkpoint files.
+	 * @return {@link ReductionResult} with the {@link NestedEquivalenceClass} map, the reduct and
+	 * 		its significance, or <code>null</code> if no full checkpoint found.
+	 * @throws IOException if fails to read or files are malformed.
+	 */
+	public static ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>, Collection<Integer>, Number>
+		restore(Path directory) throws IOException
+	{
+		TreeMap<Integer, Path> files = listFiles(directory);
+		Integer fullSequence = null;
+		for (Map.Entry<Integer, Path> entry: files.descendingMap().entrySet()) {
+			if (entry.getValue().getFileName().toString().endsWith(FULL_SUFFIX)) {
+				fullSequence = entry.getKey();
+				break;
+			}
+		}
+		if (fullSequence==null)	return null;
+
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses = new HashMap<>();
+		Collection<Integer> reduct = null;
+		Number sig = null;
+		for (Path file: files.tailMap(fullSequence).values()) {
+			try (CheckpointInput in = new CheckpointInput(
+					file, CheckpointKind.NEC_STREAMING_FULL, CheckpointKind.NEC_STREAMING_DELTA
+			)) {
+				reduct = in.readIntegers(ArrayList::new);
+				sig = in.readNumber();
+				int removedSize = in.readVarInt();
+				for (int i=0; i<removedSize; i++)	nestedEquClasses.remove(new IntArrayKey(in.readIntArray()));
+				readNestedEquivalenceClasses(in, nestedEquClasses);
+			}
+		}
+		return new ReductionResult<>(nestedEquClasses, reduct, sig);
+	}
+
+	/*--------------------------------------------- Utils ---------------------------------------------*/
+
+	private static void writeNestedEquivalenceClasses(
+			CheckpointOutput out, Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses,
+			Collection<IntArrayKey> keys
+	) throws IOException {
+		out.writeVarInt(keys.size());
+		for (IntArrayKey key: keys) {
+			NestedEquivalenceClass<EquivalenceClass> nestedEquClass = nestedEquClasses.get(key);
+			out.writeIntArray(key.key());
+			out.writeByte(nestedEquClass.getType().ordinal());
+			out.writeVarInt(nestedEquClass.getDec());
+			out.writeVarInt(nestedEquClass.getEquClasses().size());
+			for (EquivalenceClass equClass: nestedEquClass.getEquClasses().values()) {
+				out.writeIntArray(equClass.getAttrValue());
+				out.writeVarInt(equClass.getInstanceCount());
+				out.writeBoolean(equClass.sortable());
+				if (equClass.sortable())	out.writeVarInt(equClass.getDecValue());
+			}
+		}
+	}
+
+	private static void readNestedEquivalenceClasses(
+			CheckpointInput in, Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses
+	) throws IOException {
+		int size = in.readVarInt();
+		for (int i=0; i<size; i++) {
+			IntArrayKey key = new IntArrayKey(in.readIntArray());
+			ClassSetType type = ClassSetType.values()[in.readByte()];
+			int dec = in.readVarInt();
+			int equClassSize = in.readVarInt();
+			NestedEquivalenceClass<EquivalenceClass> nestedEquClass = null;
+			for (int e=0; e<equClassSize; e++) {
+				EquivalenceClass equClass = new EquivalenceClass();
+				equClass.setAttrValue(in.readIntArray());
+				equClass.setInstanceCount(in.readVarInt());
+				equClass.setDecValue(in.readBoolean()? in.readVarInt(): null);
+				if (nestedEquClass==null)	nestedEquClass = new PlainNestedEquivalenceClass(equClass, equClassSize);
+				else						nestedEquClass.addClassItem(equClass);
+			}
+			if (nestedEquClass==null)	throw new IOException("Empty nested equivalence class: "+key);
+			nestedEquClass.setType(type);
+			nestedEquClass.setDec(dec);
+			nestedEquClasses.put(key, nestedEquClass);
+		}
+	}
+
+	/**
+	 * Fingerprint of the type, the decision value and {@link EquivalenceClass}es of a
+	 * {@link NestedEquivalenceClass}, independent of the iteration order of
+	 * {@link EquivalenceClass}es.
+	 */
+	private static long fingerprintOf(NestedEquivalenceClass<EquivalenceClass> nestedEquClass) {
+		long fingerprint = mix(nestedEquClass.getType().ordinal()*31L+nestedEquClass.getDec());
+		fingerprint = mix(fingerprint ^ nestedEquClass.getInstanceSize());
+		long equClasses = 0;
+		for (EquivalenceClass equClass: nestedEquClass.getEquClasses().values()) {
+			long hash = Arrays.hashCode(equClass.getAttrValue());
+			hash = mix(hash*31+equClass.getInstanceCount());
+			hash = mix(hash*31+(equClass.sortable()? equClass.getDecValue(): Integer.MIN_VALUE));
+			equClasses += hash;
+		}
+		return mix(fingerprint ^ equClasses ^ nestedEquClass.getEquClasses().size());
+	}
+
+	/**
+	 * Summary of a {@link NestedEquivalenceClass} to detect changes between checkpoints. Besides
+	 * the fingerprint, the instance size, the {@link EquivalenceClass} size and instance counts by
+	 * decision values are compared exactly: a fingerprint collision alone does not hide a change
+	 * of instances.
+	 */
+	@EqualsAndHashCode
+	static class Summary {
+		private final long fingerprint;
+		private final int instanceSize, equClassSize;
+		/**
+		 * Pairs of a decision value and its instance count, ordered by decision values. Instances of
+		 * un-sortable {@link EquivalenceClass}es are counted with {@link Integer#MIN_VALUE}.
+		 */
+		private final int[] decisionCounts;
+
+		Summary(long fingerprint, NestedEquivalenceClass<EquivalenceClass> nestedEquClass) {
+			this.fingerprint = fingerprint;
+			this.instanceSize = nestedEquClass.getInstanceSize();
+			this.equClassSize = nestedEquClass.getEquClasses().size();
+			TreeMap<Integer, Integer> counts = new TreeMap<>();
+			for (EquivalenceClass equClass: nestedEquClass.getEquClasses().values()) {
+				counts.merge(
+						equClass.sortable()? equClass.getDecValue(): Integer.MIN_VALUE,
+						equClass.getInstanceCount(), Integer::sum
+				);
+			}
+			decisionCounts = new int[counts.size()*2];
+			int i = 0;
+			for (Map.Entry<Integer, Integer> entry: counts.entrySet()) {
+				decisionCounts[i++] = entry.getKey();
+				decisionCounts[i++] = entry.getValue();
+			}
+		}
+
+		static Summary of(NestedEquivalenceClass<EquivalenceClass> nestedEquClass) {
+			return new Summary(fingerprintOf(nestedEquClass), nestedEquClass);
+		}
+	}
+
+	/**
+	 * 64-bit finalizer of MurmurHash3.
+	 */
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	private static String fileName(int sequence, boolean full) {
+		return String.format("%s%06d%s", FILE_PREFIX, sequence, full? FULL_SUFFIX: DELTA_SUFFIX);
+	}
+
+	/**
+	 * List checkpoint files in <code>directory</code> by sequence numbers.
+	 */
+	private static TreeMap<Integer, Path> listFiles(Path directory) throws IOException {
+		TreeMap<Integer, Path> files = new TreeMap<>();
+		if (!Files.isDirectory(directory))	return files;
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX+"*")) {
+			for (Path file: stream) {
+				String name = file.getFileName().toString();
+				int end = name.endsWith(FULL_SUFFIX)? name.length()-FULL_SUFFIX.length():
+							name.endsWith(DELTA_SUFFIX)? name.length()-DELTA_SUFFIX.length(): -1;
+				if (end==-1)	continue;
+				try {
+					files.put(Integer.parseInt(name.substring(FILE_PREFIX.length(), end)), file);
+				}catch (NumberFormatException e) {
+					// not a checkpoint file.
+				}
+			}
+		}
+		return files;
+	}
+
+	private static int nextSequence(Path directory) throws IOException {
+		TreeMap<Integer, Path> files = listFiles(directory);
+		return files.isEmpty()? 0: files.lastKey()+1;
+	}
+
+	private void deleteBefore(int sequence) throws IOException {
+		Iterator<Path> iterator = listFiles(directory).headMap(sequence).values().iterator();
+		while (iterator.hasNext())	Files.deleteIfExists(iterator.next());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(directory=%s, sequence=%d, sinceFull=%d)",
+				getClass().getSimpleName(), directory, sequence, sinceFull
+		);
+	}
+}
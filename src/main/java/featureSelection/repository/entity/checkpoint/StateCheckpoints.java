@@ -0,0 +1,260 @@
+package featureSelection.repository.entity.checkpoint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.SamplePair;
+import featureSelection.repository.entity.alg.activeSampleSelection.samplePair.family.SamplePairFamily;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.DefaultEquivalenceClass;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.EquivalenceClassInterf;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.MixedEquivalenceClass;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.MixedEquivalenceClassSequentialList;
+import featureSelection.repository.entity.alg.liangIncrementalAlgorithm.classSetType.ClassSetType;
+import featureSelection.repository.entity.alg.xieDynamicIncompleteDSReduction.PreviousInfoPack;
+
+/**
+ * Snapshot/restore of previous states of incremental algorithms in binary
+ * {@link CheckpointOutput checkpoint} files:
+ * <ul>
+ * 	<li>{@link MixedEquivalenceClassSequentialList} of Liang incremental algorithm.</li>
+ * 	<li>{@link PreviousInfoPack} of Xie dynamic incomplete data reduction.</li>
+ * 	<li>{@link SamplePairFamily} of active sample selection.</li>
+ * </ul>
+ * These states are re-built by the algorithms at every increment, so full snapshots are taken.
+ * For {@link featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass}
+ * based streaming reduction, whose states are updated in place, see
+ * {@link NestedEquivalenceClassCheckpoints} for delta checkpoints.
+ * <p>
+ * {@link Instance}s are restored as new {@link Instance}s, shared ones are restored as shared.
+ *
+ * @author Benjamin_L
+ */
+public class StateCheckpoints {
+
+	/*------------------------------ MixedEquivalenceClassSequentialList ------------------------------*/
+
+	private static final int MIXED_EQUIVALENCE_CLASS = 0, DEFAULT_EQUIVALENCE_CLASS = 1;
+
+	/**
+	 * Write a {@link MixedEquivalenceClassSequentialList} into <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @param list
+	 * 		{@link MixedEquivalenceClassSequentialList} to be written.
+	 * @throws IOException if fails to write.
+	 */
+	public static void write(Path file, MixedEquivalenceClassSequentialList list) throws IOException {
+		Collection<Instance> instances = new ArrayList<>();
+		for (EquivalenceClassInterf equClass: list.getEquClasses()) {
+			Collection<Instance> all = equClass.getInstances(ClassSetType.MIXED);
+			if (equClass instanceof DefaultEquivalenceClass)
+				all = ((DefaultEquivalenceClass) equClass).getUniverseInstances();
+			if (all!=null)	instances.addAll(all);
+		}
+		try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.LIANG_MIXED_EQUIVALENCE_CLASSES)) {
+			out.writeInstanceTable(instances);
+			out.writeVarInt(list.getMixed());
+			out.writeVarInt(list.getPreviousOnly());
+			out.writeVarInt(list.getNewOnly());
+			out.writeVarInt(list.getEquClasses().size());
+			for (EquivalenceClassInterf equClass: list.getEquClasses()) {
+				if (equClass instanceof MixedEquivalenceClass) {
+					out.writeByte(MIXED_EQUIVALENCE_CLASS);
+					out.writeInstances(((MixedEquivalenceClass) equClass).getPreviousInstances());
+					out.writeInstances(((MixedEquivalenceClass) equClass).getNewInstances());
+				}else if (equClass instanceof DefaultEquivalenceClass) {
+					out.writeByte(DEFAULT_EQUIVALENCE_CLASS);
+					out.writeByte(equClass.getClassSetType().ordinal());
+					out.writeInstances(((DefaultEquivalenceClass) equClass).getUniverseInstances());
+				}else {
+					throw new IllegalArgumentException(
+							"Unsupported equivalence class: "+equClass.getClass().getName()
+					);
+				}
+			}
+			out.commit();
+		}
+	}
+
+	/**
+	 * Read a {@link MixedEquivalenceClassSequentialList} from <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @return {@link MixedEquivalenceClassSequentialList}.
+	 * @throws IOException if fails to read or the file is malformed.
+	 */
+	public static MixedEquivalenceClassSequentialList readMixedEquivalenceClassSequentialList(Path file)
+			throws IOException
+	{
+		try (CheckpointInput in = new CheckpointInput(file, CheckpointKind.LIANG_MIXED_EQUIVALENCE_CLASSES)) {
+			in.readInstanceTable();
+			int mixed = in.readVarInt(), previousOnly = in.readVarInt(), newOnly = in.readVarInt();
+			int size = in.readVarInt();
+			Collection<EquivalenceClassInterf> equClasses = new ArrayList<>(size);
+			for (int i=0; i<size; i++) {
+				int type = in.readByte();
+				if (type==MIXED_EQUIVALENCE_CLASS) {
+					MixedEquivalenceClass equClass = new MixedEquivalenceClass();
+					equClass.setPreviousInstances(in.readInstances(ArrayList::new));
+					equClass.setNewInstances(in.readInstances(ArrayList::new));
+					equClasses.add(equClass);
+				}else if (type==DEFAULT_EQUIVALENCE_CLASS) {
+					ClassSetType classSetType = ClassSetType.values()[in.readByte()];
+					equClasses.add(new DefaultEquivalenceClass(classSetType, in.readInstances(ArrayList::new)));
+				}else {
+					throw new IOException("Unknown equivalence class type: "+type);
+				}
+			}
+			return new MixedEquivalenceClassSequentialList(equClasses, mixed, previousOnly, newOnly);
+		}
+	}
+
+	/*---------------------------------------- PreviousInfoPack ----------------------------------------*/
+
+	/**
+	 * Write a {@link PreviousInfoPack} into <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @param previousInfo
+	 * 		{@link PreviousInfoPack} to be written.
+	 * @throws IOException if fails to write.
+	 */
+	public static void write(Path file, PreviousInfoPack previousInfo) throws IOException {
+		Collection<Instance> instances = new ArrayList<>(previousInfo.getInstances());
+		collectInstances(previousInfo.getTolerancesOfCondAttrs(), instances);
+		collectInstances(previousInfo.getTolerancesOfCondAttrsNDecAttrs(), instances);
+		collectInstances(previousInfo.getTolerancesOfReduct(), instances);
+		collectInstances(previousInfo.getTolerancesOfReductNDecAttrs(), instances);
+		try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.XIE_PREVIOUS_INFO)) {
+			out.writeInstanceTable(instances);
+			out.writeInstances(previousInfo.getInstances());
+			writeTolerances(out, previousInfo.getTolerancesOfCondAttrs());
+			writeTolerances(out, previousInfo.getTolerancesOfCondAttrsNDecAttrs());
+			out.writeIntegers(previousInfo.getReduct());
+			writeTolerances(out, previousInfo.getTolerancesOfReduct());
+			writeTolerances(out, previousInfo.getTolerancesOfReductNDecAttrs());
+			out.commit();
+		}
+	}
+
+	/**
+	 * Read a {@link PreviousInfoPack} from <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @return {@link PreviousInfoPack}.
+	 * @throws IOException if fails to read or the file is malformed.
+	 */
+	public static PreviousInfoPack readPreviousInfoPack(Path file) throws IOException {
+		try (CheckpointInput in = new CheckpointInput(file, CheckpointKind.XIE_PREVIOUS_INFO)) {
+			in.readInstanceTable();
+			Collection<Instance> instances = in.readInstances(ArrayList::new);
+			Map<Instance, Collection<Instance>> tolerancesOfCondAttrs = readTolerances(in);
+			Map<Instance, Collection<Instance>> tolerancesOfCondAttrsNDecAttrs = readTolerances(in);
+			Collection<Integer> reduct = in.readIntegers(ArrayList::new);
+			Map<Instance, Collection<Instance>> tolerancesOfReduct = readTolerances(in);
+			Map<Instance, Collection<Instance>> tolerancesOfReductNDecAttrs = readTolerances(in);
+			return new PreviousInfoPack(
+					instances,
+					tolerancesOfCondAttrs, tolerancesOfCondAttrsNDecAttrs,
+					reduct,
+					tolerancesOfReduct, tolerancesOfReductNDecAttrs
+			);
+		}
+	}
+
+	private static void collectInstances(
+			Map<Instance, Collection<Instance>> tolerances, Collection<Instance> instances
+	) {
+		for (Map.Entry<Instance, Collection<Instance>> entry: tolerances.entrySet()) {
+			instances.add(entry.getKey());
+			instances.addAll(entry.getValue());
+		}
+	}
+
+	private static void writeTolerances(CheckpointOutput out, Map<Instance, Collection<Instance>> tolerances)
+			throws IOException
+	{
+		out.writeVarInt(tolerances.size());
+		for (Map.Entry<Instance, Collection<Instance>> entry: tolerances.entrySet()) {
+			out.writeInstance(entry.getKey());
+			out.writeInstances(entry.getValue());
+		}
+	}
+
+	private static Map<Instance, Collection<Instance>> readTolerances(CheckpointInput in) throws IOException {
+		int size = in.readVarInt();
+		Map<Instance, Collection<Instance>> tolerances = new HashMap<>(size);
+		for (int i=0; i<size; i++)	tolerances.put(in.readInstance(), in.readInstances(HashSet::new));
+		return tolerances;
+	}
+
+	/*---------------------------------------- SamplePairFamily ----------------------------------------*/
+
+	/**
+	 * Write a {@link SamplePairFamily} into <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @param family
+	 * 		{@link SamplePairFamily} to be written.
+	 * @throws IOException if fails to write.
+	 */
+	public static void write(Path file, SamplePairFamily family) throws IOException {
+		Collection<Instance> instances = new ArrayList<>();
+		for (Collection<SamplePair> samplePairs: family.getSamplePairFamilyMap().values()) {
+			for (SamplePair samplePair: samplePairs) {
+				for (Instance ins: samplePair.getPair())	instances.add(ins);
+			}
+		}
+		try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			out.writeInstanceTable(instances);
+			out.writeVarInt(family.getSamplePairFamilyMap().size());
+			for (Map.Entry<IntArrayKey, Collection<SamplePair>> entry: family.getSamplePairFamilyMap().entrySet()) {
+				out.writeIntArray(entry.getKey().key());
+				out.writeVarInt(entry.getValue().size());
+				for (SamplePair samplePair: entry.getValue()) {
+					out.writeInstance(samplePair.getPair()[0]);
+					out.writeInstance(samplePair.getPair()[1]);
+				}
+			}
+			out.commit();
+		}
+	}
+
+	/**
+	 * Read a {@link SamplePairFamily} from <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the checkpoint file.
+	 * @return {@link SamplePairFamily}.
+	 * @throws IOException if fails to read or the file is malformed.
+	 */
+	public static SamplePairFamily readSamplePairFamily(Path file) throws IOException {
+		try (CheckpointInput in = new CheckpointInput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			in.readInstanceTable();
+			int size = in.readVarInt();
+			Map<IntArrayKey, Collection<SamplePair>> familyMap = new HashMap<>(size);
+			for (int i=0; i<size; i++) {
+				IntArrayKey key = new IntArrayKey(in.readIntArray());
+				int pairSize = in.readVarInt();
+				Collection<SamplePair> samplePairs = new LinkedList<>();
+				for (int p=0; p<pairSize; p++)
+					samplePairs.add(new SamplePair(new Instance[] {	in.readInstance(), in.readInstance()	}));
+				familyMap.put(key, samplePairs);
+			}
+			return new SamplePairFamily(familyMap);
+		}
+	}
+}
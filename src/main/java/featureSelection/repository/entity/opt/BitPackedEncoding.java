@@ -0,0 +1,261 @@
+package featureSelection.repository.entity.opt;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Utilities of bit-packed attribute encodings for optimization algorithms(positions, chromosomes,
+ * etc.).
+ * <p>
+ * An attribute subset of <code>length</code> attributes is encoded as a <code>long[]</code> of
+ * <code>ceil(length/64)</code> words: attribute <code>attr</code>(starts from 1) is selected if
+ * the bit <code>(attr-1)%64</code> of the word <code>(attr-1)/64</code> is set. Bits beyond
+ * <code>length</code> are always 0, so word-wise operations(e.g. {@link Long#bitCount(long)})
+ * can be applied to whole words directly.
+ * <p>
+ * Comparing to <code>byte[]</code> encodings with one attribute per <code>byte</code>, codes are
+ * 8 times smaller and distances/cross-overs/mutations are calculated 64 attributes a time.
+ *
+ * @author Benjamin_L
+ */
+public class BitPackedEncoding {
+	/**
+	 * The number of attributes in a word.
+	 */
+	public static final int WORD_SIZE = Long.SIZE;
+
+	/**
+	 * Get the number of words to encode <code>length</code> attributes.
+	 *
+	 * @param length
+	 * 		The number of attributes.
+	 * @return the number of words.
+	 */
+	public static int wordsOf(int length) {
+		return (length + WORD_SIZE - 1) >>> 6;
+	}
+
+	/**
+	 * Encode the given attributes.
+	 *
+	 * @param attributes
+	 * 		Attributes to be encoded. (Starts from 1)
+	 * @param length
+	 * 		The number of all attributes.
+	 * @return the code.
+	 */
+	public static long[] encode(int[] attributes, int length) {
+		long[] code = new long[wordsOf(length)];
+		for (int attr: attributes)	set(code, attr);
+		return code;
+	}
+
+	/**
+	 * Encode a <code>byte[]</code> code with one attribute per <code>byte</code>(1 as selected).
+	 *
+	 * @param bytes
+	 * 		The <code>byte[]</code> code.
+	 * @return the code.
+	 */
+	public static long[] encode(byte[] bytes) {
+		long[] code = new long[wordsOf(bytes.length)];
+		for (int i=0; i<bytes.length; i++)
+			if (bytes[i]==(byte) 1)	code[i >>> 6] |= 1L << i;
+		return code;
+	}
+
+	/**
+	 * Get a code with all the <code>length</code> attributes selected.
+	 *
+	 * @param length
+	 * 		The number of all attributes.
+	 * @return the code.
+	 */
+	public static long[] full(int length) {
+		long[] code = new long[wordsOf(length)];
+		Arrays.fill(code, -1L);
+		if (code.length>0 && (length & (WORD_SIZE-1))!=0)
+			code[code.length-1] = (1L << length) - 1;
+		return code;
+	}
+
+	public static boolean contains(long[] code, int attribute) {
+		return (code[(attribute-1) >>> 6] & (1L << (attribute-1)))!=0;
+	}
+
+	public static void set(long[] code, int attribute) {
+		code[(attribute-1) >>> 6] |= 1L << (attribute-1);
+	}
+
+	public static void clear(long[] code, int attribute) {
+		code[(attribute-1) >>> 6] &= ~(1L << (attribute-1));
+	}
+
+	public static void flip(long[] code, int attribute) {
+		code[(attribute-1) >>> 6] ^= 1L << (attribute-1);
+	}
+
+	/**
+	 * Get the number of selected attributes.
+	 *
+	 * @param code
+	 * 		The code.
+	 * @return the number of selected attributes.
+	 */
+	public static int cardinality(long[] code) {
+		int count = 0;
+		for (long word: code)	count += Long.bitCount(word);
+		return count;
+	}
+
+	/**
+	 * Get the Hamming distance of 2 codes: the number of ones in <code>x XOR y</code>.
+	 *
+	 * @param x
+	 * 		A code.
+	 * @param y
+	 * 		Another code with the same length.
+	 * @return the Hamming distance.
+	 */
+	public static int hammingDistance(long[] x, long[] y) {
+		int distance = 0;
+		for (int i=0; i<x.length; i++)	distance += Long.bitCount(x[i] ^ y[i]);
+		return distance;
+	}
+
+	/**
+	 * Get the selected attributes in ascending order. Only the returned array is allocated.
+	 *
+	 * @param code
+	 * 		The code.
+	 * @return selected attributes. (Starts from 1)
+	 */
+	public static int[] attributes(long[] code) {
+		int[] attributes = new int[cardinality(code)];
+		long word;
+		for (int w=0, i=0; w<code.length; w++) {
+			word = code[w];
+			while (word!=0) {
+				attributes[i++] = (w << 6) + Long.numberOfTrailingZeros(word) + 1;
+				word &= word - 1;
+			}
+		}
+		return attributes;
+	}
+
+	/**
+	 * Perform the given action for each selected attribute in ascending order without allocation.
+	 *
+	 * @param code
+	 * 		The code.
+	 * @param action
+	 * 		{@link IntConsumer} to accept selected attributes. (Starts from 1)
+	 */
+	public static void forEachAttribute(long[] code, IntConsumer action) {
+		long word;
+		for (int w=0; w<code.length; w++) {
+			word = code[w];
+			while (word!=0) {
+				action.accept((w << 6) + Long.numberOfTrailingZeros(word) + 1);
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * Get the <code>n</code>-th(starts from 0) <strong>unselected</strong> attribute.
+	 *
+	 * @param code
+	 * 		The code.
+	 * @param length
+	 * 		The number of all attributes.
+	 * @param n
+	 * 		The order of the unselected attribute. (Starts from 0)
+	 * @return the attribute(starts from 1) or -1 if there are less than <code>n+1</code>
+	 * 		unselected attributes.
+	 */
+	public static int nthUnselected(long[] code, int length, int n) {
+		long word;
+		int free;
+		for (int w=0; w<code.length; w++) {
+			word = ~code[w];
+			if (w==code.length-1 && (length & (WORD_SIZE-1))!=0)	word &= (1L << length) - 1;
+			free = Long.bitCount(word);
+			if (n>=free) {
+				n -= free;
+				continue;
+			}
+			for (; n>0; n--)	word &= word - 1;
+			return (w << 6) + Long.numberOfTrailingZeros(word) + 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Get a mask of the given indexes.
+	 *
+	 * @param indexes
+	 * 		Indexes of attributes. (Starts from 0)
+	 * @param length
+	 * 		The number of all attributes.
+	 * @return the mask.
+	 */
+	public static long[] mask(Collection<Integer> indexes, int length) {
+		long[] mask = new long[wordsOf(length)];
+		for (int i: indexes)	mask[i >>> 6] |= 1L << i;
+		return mask;
+	}
+
+	/**
+	 * Swap bits of <code>x</code> and <code>y</code> masked by <code>mask</code> word by word,
+	 * i.e. a cross-over of the masked genes.
+	 *
+	 * @param x
+	 * 		A code.
+	 * @param y
+	 * 		Another code with the same length.
+	 * @param mask
+	 * 		The mask of bits to be swapped.
+	 */
+	public static void swap(long[] x, long[] y, long[] mask) {
+		long diff;
+		for (int w=0; w<x.length; w++) {
+			diff = (x[w] ^ y[w]) & mask[w];
+			x[w] ^= diff;
+			y[w] ^= diff;
+		}
+	}
+
+	/**
+	 * Flip bits of <code>code</code> masked by <code>mask</code> word by word, i.e. a mutation of the
+	 * masked genes.
+	 *
+	 * @param code
+	 * 		A code.
+	 * @param mask
+	 * 		The mask of bits to be flipped.
+	 */
+	public static void flip(long[] code, long[] mask) {
+		for (int w=0; w<code.length; w++)	code[w] ^= mask[w];
+	}
+
+	/**
+	 * Get the string of the code in the form of <code>byte[]</code> codes, e.g. [0, 1, 1, 0].
+	 *
+	 * @param code
+	 * 		The code.
+	 * @param length
+	 * 		The number of all attributes.
+	 * @return the string.
+	 */
+	public static String toString(long[] code, int length) {
+		if (code==null)	return "null";
+		StringBuilder builder = new StringBuilder(length * 3 + 2).append('[');
+		for (int attr=1; attr<=length; attr++) {
+			if (attr>1)	builder.append(", ");
+			builder.append(contains(code, attr)? '1': '0');
+		}
+		return builder.append(']').toString();
+	}
+}
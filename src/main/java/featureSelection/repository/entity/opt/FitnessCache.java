@@ -0,0 +1,182 @@
+package featureSelection.repository.entity.opt;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded memoization cache for fitness values of attribute subsets, shared across
+ * generations/iterations of an optimization algorithm(GA, PSO, IHS, AFSA, etc.).
+ * <p>
+ * Attribute subsets are keyed <strong>canonically</strong> by {@link IntArrayKey} of the sorted
+ * attributes, so that the same subset in different orders(e.g. different codings of chromosomes,
+ * positions or harmonies) hits the same entry. Entries are evicted in LRU order once
+ * {@link #capacity} is exceeded.
+ * <p>
+ * Values are computed <strong>outside</strong> the lock, so the cache is safe to be used with
+ * {@link ParallelFitnessEvaluator}: concurrent misses of the same subset may be computed more than
+ * once, with the same results.
+ * <p>
+ * Cached values are expected to be a pure function of the attribute subset, i.e. the collection
+ * of the optimization should be the same during the life of the cache.
+ *
+ * @author Benjamin_L
+ *
+ * @param <V>
+ * 		Type of cached fitness value.
+ */
+public class FitnessCache<V> {
+	/**
+	 * Default maximum number of cached attribute subsets.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 14;
+
+	@Getter private final int capacity;
+	private final Map<IntArrayKey, V> cache;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public FitnessCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct a {@link FitnessCache} with the given capacity.
+	 *
+	 * @param capacity
+	 * 		The maximum number of cached attribute subsets.
+	 */
+	@SuppressWarnings("serial")
+	public FitnessCache(int capacity) {
+		if (capacity<=0)	throw new IllegalArgumentException("Illegal capacity: "+capacity);
+		this.capacity = capacity;
+		this.cache = new LinkedHashMap<IntArrayKey, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<IntArrayKey, V> eldest) {
+				return size() > FitnessCache.this.capacity;
+			}
+		};
+	}
+
+	/**
+	 * Get the cached value of the given attributes. If absent, compute it by
+	 * <code>calculation</code> and cache the result.
+	 *
+	 * @param attributes
+	 * 		An attribute subset in any order.
+	 * @param calculation
+	 * 		{@link Function} to compute the fitness value of <code>attributes</code> when absent.
+	 * @return The cached or computed fitness value.
+	 */
+	public V computeIfAbsent(int[] attributes, Function<int[], V> calculation) {
+		IntArrayKey key = keyOf(attributes);
+		V value;
+		synchronized (cache) {
+			value = cache.get(key);
+		}
+		if (value!=null) {
+			hits.incrementAndGet();
+			return value;
+		}
+		misses.incrementAndGet();
+		value = calculation.apply(attributes);
+		if (value!=null) {
+			synchronized (cache) {
+				cache.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Get the cached value of the given attributes without computing.
+	 *
+	 * @param attributes
+	 * 		An attribute subset in any order.
+	 * @return The cached value or <code>null</code> if absent. Hits and misses are counted.
+	 */
+	public V get(int[] attributes) {
+		V value;
+		synchronized (cache) {
+			value = cache.get(keyOf(attributes));
+		}
+		(value==null? misses: hits).incrementAndGet();
+		return value;
+	}
+
+	/**
+	 * Cache the value of the given attributes.
+	 *
+	 * @param attributes
+	 * 		An attribute subset in any order.
+	 * @param value
+	 * 		The fitness value of <code>attributes</code>.
+	 */
+	public void put(int[] attributes, V value) {
+		IntArrayKey key = keyOf(attributes);
+		synchronized (cache) {
+			cache.put(key, value);
+		}
+	}
+
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Get the hit rate of the cache.
+	 *
+	 * @return hits / (hits + misses), 0 if no look up.
+	 */
+	public double hitRate() {
+		long h = hits.get(), total = h + misses.get();
+		return total==0? 0: h / (double) total;
+	}
+
+	/**
+	 * Clear cached values and counters, e.g. when the collection of the optimization changed.
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+		hits.set(0);
+		misses.set(0);
+	}
+
+	/**
+	 * Get the canonical key of the given attributes: {@link IntArrayKey} of the sorted attributes.
+	 *
+	 * @param attributes
+	 * 		An attribute subset in any order.
+	 * @return {@link IntArrayKey}.
+	 */
+	public static IntArrayKey keyOf(int[] attributes) {
+		int[] sorted = Arrays.copyOf(attributes, attributes.length);
+		Arrays.sort(sorted);
+		return new IntArrayKey(sorted);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(size=%d/%d, hit=%d, miss=%d)",
+				getClass().getSimpleName(), size(), capacity, hits.get(), misses.get()
+		);
+	}
+}
@@ -0,0 +1,284 @@
+package featureSelection.repository.entity.opt;
+
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.alg.rec.incrementalPartition.DynamicBasedIPRECBasedOptimization;
+import featureSelection.repository.support.calculation.CountableCalculation;
+import lombok.Getter;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Parallel fitness evaluation for optimization algorithms(GA, PSO, IHS, AFSA, etc.) backed by a
+ * {@link ForkJoinPool}.
+ * <p>
+ * {@link FeatureImportance} calculations are <strong>not</strong> thread safe, as a result, every
+ * worker thread evaluates with its own <strong>thread-confined</strong> copy of the calculation
+ * created by {@link #calculationSupplier}, which is expected to create a new independent instance
+ * sharing no mutable state with others on every call. Copies are created lazily and kept for the
+ * life of the worker thread.
+ * <p>
+ * Fields of the reduction algorithm lazily initialised by fitness calculations(e.g. decision
+ * equivalence classes) must be initiated before calling {@link #evaluate(Object, Object[],
+ * IndexedEvaluation)}: worker threads only read them, no matter which items are evaluated first
+ * or skipped by a {@link FitnessCache}.
+ * <p>
+ * The first item is evaluated in the calling thread with the given main calculation and the
+ * others by worker threads. After every evaluation, counts of calculations executed by copies are
+ * added into the main calculation if it is a {@link CountableCalculation}, so statistics read from
+ * the main calculation are the same as the sequential ones.
+ * <p>
+ * Only calculations are thread-confined, reduction algorithms are shared by worker threads.
+ * Algorithms sharing mutable state among fitness calculations(e.g.
+ * {@link DynamicBasedIPRECBasedOptimization} initiating a single attribute process strategy for
+ * every calculation) can not be evaluated in parallel, see {@link #isParallelizable(Object)}.
+ * <p>
+ * Results are placed at the index of their items, so evaluations are the same as the sequential
+ * ones in the same order.
+ *
+ * @author Benjamin_L
+ *
+ * @param <Cal>
+ * 		Type of feature (subset) importance calculation.
+ */
+public class ParallelFitnessEvaluator<Cal> implements AutoCloseable {
+	/**
+	 * Default number of items for a single task.
+	 */
+	public static final int DEFAULT_TASK_THRESHOLD = 1;
+
+	@Getter private final ForkJoinPool pool;
+	private final boolean poolCreated;
+	private final Supplier<Cal> calculationSupplier;
+	private final ThreadLocal<Cal> calculations;
+	/**
+	 * Thread-confined copies created, with counts of calculations(times and attribute length)
+	 * already added into main calculations.
+	 */
+	private final Map<Cal, long[]> copies;
+	@Getter private final int taskThreshold;
+
+	/**
+	 * Construct with a new {@link ForkJoinPool} of the given parallelism.
+	 *
+	 * @param calculationSupplier
+	 * 		{@link Supplier} to create thread-confined calculation instances.
+	 * @param parallelism
+	 * 		The parallelism of the {@link ForkJoinPool}.
+	 */
+	public ParallelFitnessEvaluator(Supplier<Cal> calculationSupplier, int parallelism) {
+		this(calculationSupplier, new ForkJoinPool(parallelism), true, DEFAULT_TASK_THRESHOLD);
+	}
+
+	/**
+	 * Construct with the given {@link ForkJoinPool}. The pool is <strong>not</strong> shut down
+	 * by {@link #close()}.
+	 *
+	 * @param calculationSupplier
+	 * 		{@link Supplier} to create thread-confined calculation instances.
+	 * @param pool
+	 * 		A {@link ForkJoinPool} to execute evaluations.
+	 * @param taskThreshold
+	 * 		The max number of items evaluated in a single task.
+	 */
+	public ParallelFitnessEvaluator(
+			Supplier<Cal> calculationSupplier, ForkJoinPool pool, int taskThreshold
+	) {
+		this(calculationSupplier, pool, false, taskThreshold);
+	}
+
+	private ParallelFitnessEvaluator(
+			Supplier<Cal> calculationSupplier, ForkJoinPool pool, boolean poolCreated,
+			int taskThreshold
+	) {
+		this.calculationSupplier = calculationSupplier;
+		this.pool = pool;
+		this.poolCreated = poolCreated;
+		this.taskThreshold = Math.max(1, taskThreshold);
+		this.copies = new IdentityHashMap<>();
+		this.calculations = ThreadLocal.withInitial(this::createCopy);
+	}
+
+	private Cal createCopy() {
+		Cal copy = calculationSupplier.get();
+		synchronized (copies) {
+			if (copies.containsKey(copy)) {
+				throw new IllegalStateException(
+						"Calculation supplier returns an instance already confined to another thread."
+				);
+			}
+			copies.put(copy, copy instanceof CountableCalculation? countsOf(copy): null);
+		}
+		return copy;
+	}
+
+	/**
+	 * Whether fitness of the given reduction algorithm can be evaluated in parallel, i.e. the
+	 * algorithm shares no mutable state among fitness calculations except for lazily initialised
+	 * fields.
+	 * <p>
+	 * {@link DynamicBasedIPRECBasedOptimization}s initiate a single shared attribute process
+	 * strategy for every calculation, so they are not.
+	 *
+	 * @param algorithm
+	 * 		The reduction algorithm.
+	 * @return <code>true</code> if can be evaluated in parallel.
+	 */
+	public static boolean isParallelizable(Object algorithm) {
+		return !(algorithm instanceof DynamicBasedIPRECBasedOptimization);
+	}
+
+	/**
+	 * Check if fitness of the given reduction algorithm can be evaluated in parallel.
+	 *
+	 * @see #isParallelizable(Object)
+	 *
+	 * @param algorithm
+	 * 		The reduction algorithm.
+	 * @throws IllegalArgumentException if <code>algorithm</code> can not be evaluated in parallel.
+	 */
+	public static void requireParallelizable(Object algorithm) {
+		if (!isParallelizable(algorithm)) {
+			throw new IllegalArgumentException(
+					"Fitness of "+algorithm.getClass().getSimpleName()+" can not be evaluated in "+
+					"parallel: its attribute process strategy is shared by all calculations."
+			);
+		}
+	}
+
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Evaluate items with index in [0, <code>results.length</code>) in parallel and put the
+	 * result of item <code>i</code> into <code>results[i]</code>.
+	 * <p>
+	 * The first item is evaluated in the calling thread with <code>calculation</code>(or a
+	 * thread-confined copy if <code>null</code>), the others with thread-confined copies. Counts of calculations executed by copies are added into
+	 * <code>calculation</code> before returning if it is a {@link CountableCalculation}.
+	 *
+	 * @param <R>
+	 * 		Type of evaluation result.
+	 * @param calculation
+	 * 		The main calculation instance, whose calculation counts are read for statistics.
+	 * 		<code>null</code> if there is none.
+	 * @param results
+	 * 		An array to contain results, whose length is the number of items.
+	 * @param evaluation
+	 * 		{@link IndexedEvaluation} to evaluate an item with a calculation.
+	 * @return <code>results</code>.
+	 * @throws IllegalArgumentException if <code>calculation</code> is a thread-confined copy.
+	 */
+	public <R> R[] evaluate(Cal calculation, R[] results, IndexedEvaluation<Cal, R> evaluation) {
+		synchronized (copies) {
+			if (copies.containsKey(calculation)) {
+				throw new IllegalArgumentException(
+						"Main calculation can not be a thread-confined copy of the evaluator."
+				);
+			}
+		}
+		if (results.length==0)	return results;
+		try {
+			// Evaluate the first one in the calling thread with the main calculation.
+			results[0] = evaluation.evaluate(calculation==null? calculations.get(): calculation, 0);
+			if (results.length>1)	pool.invoke(new EvaluationTask<>(results, evaluation, 1, results.length));
+		}finally {
+			if (calculation instanceof CountableCalculation)
+				mergeCounts((CountableCalculation) calculation);
+		}
+		return results;
+	}
+
+	/**
+	 * Add counts of calculations executed by copies since the last merge into the given main
+	 * calculation.
+	 *
+	 * @param calculation
+	 * 		The main calculation.
+	 */
+	private void mergeCounts(CountableCalculation calculation) {
+		long[] counts;
+		synchronized (copies) {
+			for (Map.Entry<Cal, long[]> entry: copies.entrySet()) {
+				if (entry.getValue()==null)	continue;
+				counts = countsOf(entry.getKey());
+				calculation.addCalculationCounts(
+						counts[0]-entry.getValue()[0], counts[1]-entry.getValue()[1]
+				);
+				entry.setValue(counts);
+			}
+		}
+	}
+
+	private static long[] countsOf(Object calculation) {
+		CountableCalculation countable = (CountableCalculation) calculation;
+		return new long[] {
+				countable.getCalculationTimes(), countable.getCalculationAttributeLength()
+		};
+	}
+
+	/**
+	 * Shut down the {@link ForkJoinPool} if it was created by this evaluator.
+	 */
+	@Override
+	public void close() {
+		if (poolCreated)	pool.shutdown();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(parallelism=%d, calculation=%s)",
+				getClass().getSimpleName(), getParallelism(), calculationSupplier
+		);
+	}
+
+	/**
+	 * Evaluation of an item by index with a thread-confined calculation.
+	 *
+	 * @param <Cal>
+	 * 		Type of feature (subset) importance calculation.
+	 * @param <R>
+	 * 		Type of evaluation result.
+	 */
+	@FunctionalInterface
+	public interface IndexedEvaluation<Cal, R> {
+		R evaluate(Cal calculation, int index);
+	}
+
+	/**
+	 * {@link RecursiveAction} splitting [from, to) until the range is no greater than
+	 * {@link #taskThreshold}.
+	 */
+	private class EvaluationTask<R> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final R[] results;
+		private final IndexedEvaluation<Cal, R> evaluation;
+		private final int from, to;
+
+		EvaluationTask(R[] results, IndexedEvaluation<Cal, R> evaluation, int from, int to) {
+			this.results = results;
+			this.evaluation = evaluation;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to-from<=taskThreshold) {
+				Cal calculation = calculations.get();
+				for (int i=from; i<to; i++)	results[i] = evaluation.evaluate(calculation, i);
+			}else {
+				int mid = (from+to) >>> 1;
+				invokeAll(
+					new EvaluationTask<>(results, evaluation, from, mid),
+					new EvaluationTask<>(results, evaluation, mid, to)
+				);
+			}
+		}
+	}
+}
@@ -68,4 +68,20 @@ public class GenerationRecord<Posi extends Position<?>, Sig> {
 			bestFitnessPosition.add(position);
 		}
 	}
+
+	/**
+	 * Merge the best positions of another record(e.g. of another island in
+	 * {@link featureSelection.repository.entity.opt.island.IslandModel}) into this one by
+	 * {@link #updateBestFeatureSignificance(Position, Object)}.
+	 * 
+	 * @param other
+	 * 		Another {@link GenerationRecord}.
+	 */
+	public void merge(GenerationRecord<Posi, Sig> other) {
+		generation = Math.max(generation, other.generation);
+		for (Posi position: other.bestFitnessPosition) {
+			if (!bestFitnessPosition.contains(position))
+				updateBestFeatureSignificance(position, other.bestFeatureSignificance);
+		}
+	}
 }
@@ -2,6 +2,7 @@ package featureSelection.repository.entity.opt.artificialFishSwarm;
 
 import featureSelection.basic.model.optimization.OptimizationAlgorithm;
 import featureSelection.basic.model.optimization.OptimizationParameters;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.ReductionAlgorithm;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.distance.DistanceAlgorithm;
@@ -106,6 +107,12 @@ public class ReductionParameters
 	 */
 	@SuppressWarnings("rawtypes")
 	private ReductionAlgorithm reductionAlgorithm;
+	/**
+	 * Swarm-wide {@link FitnessCache} of dependencies shared by fish actions. <code>null</code> if
+	 * not to be cached.
+	 */
+	@SuppressWarnings("rawtypes")
+	private FitnessCache fitnessCache;
 
 	@Override
 	public OptimizationAlgorithm getOptimizationAlgorithm() {
@@ -133,6 +140,7 @@ public class ReductionParameters
 		
 		clone.setPositionClass(positionClass);
 		clone.setReductionAlgorithm(reductionAlgorithm);
+		clone.setFitnessCache(fitnessCache);
 		
 		return clone;
 	}
@@ -0,0 +1,24 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.distance;
+
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.distance.HammingDistanceAlgorithm;
+
+/**
+ * <code>Hamming Distance</code> implementation for bit-packed <code>long[]</code> {@link Position}
+ * (i.e. {@link LongArrayPosition}).
+ * <p>
+ * Same as {@link HammingDistanceAlgorithm4ByteArray}, the distance is the number of ones in
+ * X XOR Y, but counted 64 bits a time by {@link Long#bitCount(long)}.
+ * 
+ * @author Benjamin_L
+ */
+public class HammingDistanceAlgorithm4LongArray 
+	implements HammingDistanceAlgorithm<Integer, long[]>
+{
+	@Override
+	public Integer distance(Position<long[]> x, Position<long[]> y) {
+		return BitPackedEncoding.hammingDistance(x.getPosition(), y.getPosition());
+	}
+}
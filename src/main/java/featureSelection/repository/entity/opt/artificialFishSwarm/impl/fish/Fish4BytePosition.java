@@ -1,21 +1,53 @@
 package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish;
 
+import java.util.Arrays;
+
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.ByteArrayPosition;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.ToString;
 
-@ToString
+@ToString(exclude={"fitnessValue", "fitnessPosition"})
 public class Fish4BytePosition 
 	implements Fish<ByteArrayPosition>
 {
-	@Getter @Setter private ByteArrayPosition position;
+	@Getter private ByteArrayPosition position;
 	@Getter private boolean exited;
 	
+	/**
+	 * Cached fitness value of {@link #fitnessPosition}.
+	 */
+	private FitnessValue<? extends Number> fitnessValue;
+	/**
+	 * A copy of the position value when {@link #fitnessValue} was cached, in case the
+	 * {@link ByteArrayPosition} is modified in place.
+	 */
+	private byte[] fitnessPosition;
+	
 	public Fish4BytePosition() {
 		exited = false;
 	}
+	
+	@Override
+	public void setPosition(ByteArrayPosition position) {
+		this.position = position;
+		fitnessValue = null;
+		fitnessPosition = null;
+	}
+	
+	@Override
+	public FitnessValue<? extends Number> getFitnessValue() {
+		return fitnessValue!=null && Arrays.equals(fitnessPosition, position.getPosition())?
+				fitnessValue: null;
+	}
+	
+	@Override
+	public void setFitnessValue(FitnessValue<? extends Number> fitnessValue) {
+		this.fitnessValue = fitnessValue;
+		fitnessPosition = fitnessValue==null? null: 
+							Arrays.copyOf(position.getPosition(), position.getPosition().length);
+	}
 
 	@Override
 	public Fish<ByteArrayPosition> exit() {
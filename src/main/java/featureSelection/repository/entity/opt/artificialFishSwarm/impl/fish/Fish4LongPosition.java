@@ -0,0 +1,63 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish;
+
+import java.util.Arrays;
+
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * {@link Fish} with a bit-packed {@link LongArrayPosition}, the counterpart of
+ * {@link Fish4BytePosition}.
+ * 
+ * @author Benjamin_L
+ */
+@ToString(exclude={"fitnessValue", "fitnessPosition"})
+public class Fish4LongPosition 
+	implements Fish<LongArrayPosition>
+{
+	@Getter private LongArrayPosition position;
+	@Getter private boolean exited;
+	
+	/**
+	 * Cached fitness value of {@link #fitnessPosition}.
+	 */
+	private FitnessValue<? extends Number> fitnessValue;
+	/**
+	 * A copy of the position value when {@link #fitnessValue} was cached, in case the
+	 * {@link LongArrayPosition} is modified in place.
+	 */
+	private long[] fitnessPosition;
+	
+	public Fish4LongPosition() {
+		exited = false;
+	}
+	
+	@Override
+	public void setPosition(LongArrayPosition position) {
+		this.position = position;
+		fitnessValue = null;
+		fitnessPosition = null;
+	}
+	
+	@Override
+	public FitnessValue<? extends Number> getFitnessValue() {
+		return fitnessValue!=null && Arrays.equals(fitnessPosition, position.getPosition())?
+				fitnessValue: null;
+	}
+	
+	@Override
+	public void setFitnessValue(FitnessValue<? extends Number> fitnessValue) {
+		this.fitnessValue = fitnessValue;
+		fitnessPosition = fitnessValue==null? null: 
+							Arrays.copyOf(position.getPosition(), position.getPosition().length);
+	}
+
+	@Override
+	public Fish<LongArrayPosition> exit() {
+		exited = true;
+		return this;
+	}
+}
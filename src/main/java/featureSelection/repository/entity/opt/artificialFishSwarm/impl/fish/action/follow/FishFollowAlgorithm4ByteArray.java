@@ -9,8 +9,6 @@ import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.ac
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Implementation of {@link FishFollowAlgorithm} for {@link ByteArrayPosition}.
@@ -45,7 +43,6 @@ public class FishFollowAlgorithm4ByteArray<FI extends FeatureImportance<Sig>,
 	 * 		{@link ReductionParameters}.
 	 * @return <code>null</code> if no fish within visual. / {@link ByteArrayPosition} to follow.
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public <CollectionItem> ByteArrayPosition follow(
 			FI calculation,
@@ -61,25 +58,15 @@ public class FishFollowAlgorithm4ByteArray<FI extends FeatureImportance<Sig>,
 						);
 		if (withinVisual.isEmpty())	return null;
 		// Calculate fitnesses of fishes within visual, and find the best one.
-		FitnessValue<? extends Number> fitnessCalResult;
+		// (Fitnesses are cached in fish, so they are reused in the following steps and actions.)
+		FitnessValue<? extends Number> fitnessCalResult, bestFitness = null;
 		Fish<ByteArrayPosition> bestFish = null;
-		Map<Fish<ByteArrayPosition>, FitnessValue<?>> fitnessBuffer = new HashMap<>(withinVisual.size());
 		for (Fish<ByteArrayPosition> f: withinVisual) {
-			fitnessCalResult = 
-					params.getFitnessAlgorthm()
-						.calculateFitness(
-							params.getReductionAlgorithm(),
-							f.getPosition().getAttributes(),
-							params.getReductionAlgorithm()
-								.dependency(
-									calculation, 
-									collectionItems, 
-									f.getPosition().getAttributes()
-								)
-						).getFitnessValue();
-			fitnessBuffer.put(f, fitnessCalResult);
-			if (bestFish==null || fitnessCalResult.compareTo(fitnessBuffer.get(bestFish))>0)
+			fitnessCalResult = ArtificialFishSwarm.fitnessValue(calculation, collectionItems, f, params);
+			if (bestFish==null || fitnessCalResult.compareTo(bestFitness)>0) {
 				bestFish = f;
+				bestFitness = fitnessCalResult;
+			}
 		}
 		// Clean JVM
 		withinVisual = null;
@@ -91,55 +78,16 @@ public class FishFollowAlgorithm4ByteArray<FI extends FeatureImportance<Sig>,
 						);
 		double sumFitness=0;
 		for (Fish<ByteArrayPosition> f: withinVisual) {
-			sumFitness += calculateFitnessWithBuffer(
-								calculation, 
-								collectionItems, 
-								fitnessBuffer,
-								f,
-								params
-						).getFitnessValue()
-						.doubleValue();
+			sumFitness += ArtificialFishSwarm.fitnessValue(calculation, collectionItems, f, params)
+												.getFitnessValue()
+												.doubleValue();
 		}
 		// Check and return.
 		double currentFitnessValue = 
-				params.getFitnessAlgorthm()
-					.calculateFitness(
-						params.getReductionAlgorithm(), 
-						fish.getPosition().getAttributes(),
-						params.getReductionAlgorithm()
-							.dependency(
-								calculation, 
-								collectionItems, 
-								fish.getPosition().getAttributes()
-							)
-					).getFitnessValue()
-					.getFitnessValue()
-					.doubleValue();
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItems, fish, params)
+									.getFitnessValue()
+									.doubleValue();
 		return (withinVisual.isEmpty()?0:sumFitness/withinVisual.size()) < params.getCFactor()*currentFitnessValue ?
 				bestFish.getPosition().clone(): null;
 	}
-	
-	@SuppressWarnings("unchecked")
-	protected <CollectionItem> FitnessValue<? extends Number> calculateFitnessWithBuffer(
-			FI calculation, Collection<CollectionItem> collectionItems, 
-			Map<Fish<ByteArrayPosition>, FitnessValue<? extends Number>> fitnessMap, 
-			Fish<ByteArrayPosition> fish, ReductionParameters params
-	) {
-		FitnessValue<? extends Number> fitness = fitnessMap.get(fish);
-		if (fitness==null) {
-			return params.getFitnessAlgorthm()
-						.calculateFitness(
-								params.getReductionAlgorithm(),
-								fish.getPosition().getAttributes(),
-								params.getReductionAlgorithm()
-									.dependency(
-										calculation,
-										collectionItems,
-										fish.getPosition().getAttributes()
-									)
-						).getFitnessValue();
-		}else {
-			return fitness;
-		}
-	}
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.follow;
+
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.artificialFishSwarm.func.ArtificialFishSwarm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.action.FishFollowAlgorithm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
+
+import java.util.Collection;
+
+/**
+ * Implementation of {@link FishFollowAlgorithm} for {@link LongArrayPosition}, the counterpart of
+ * {@link FishFollowAlgorithm4ByteArray}.
+ * 
+ * @author Benjamin_L
+ *
+ * @param <FI>
+ * 		Implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Implemented {@link Number}.
+ */
+public class FishFollowAlgorithm4LongArray<FI extends FeatureImportance<Sig>,
+											Sig extends Number>
+	implements FishFollowAlgorithm<FI, Sig, LongArrayPosition>
+{
+	/**
+	 * Follow action in {@link ArtificialFishSwarm} with the following steps:
+	 * <p> 1. Collect fish within visual for current fish in fish group.
+	 * <p> *. If no fish within visual, return null, else proceed.
+	 * <p> 2. Count fish within visual of the fish with best fitness, and sum their fitnesses..
+	 * <p> 3. Check and return.
+	 * 
+	 * @param calculation
+	 * 		Implemented {@link FeatureImportance} instance.
+	 * @param collectionItems
+	 * 		Universe or Equivalent Class {@link Collection}.
+	 * @param fish
+	 * 		The current {@link Fish} to follow others.
+	 * @param fishGroup
+	 * 		{@link Fish} Group to be followed.
+	 * @param params
+	 * 		{@link ReductionParameters}.
+	 * @return <code>null</code> if no fish within visual. / {@link LongArrayPosition} to follow.
+	 */
+	@Override
+	public <CollectionItem> LongArrayPosition follow(
+			FI calculation,
+			Collection<CollectionItem> collectionItems, Fish<LongArrayPosition> fish,
+			Fish<LongArrayPosition>[] fishGroup, ReductionParameters params
+	) {
+		Collection<Fish<LongArrayPosition>> withinVisual;
+		// Collect fishes within visual for current fish in fish group.
+		withinVisual = ArtificialFishSwarm.getFishWithinVisual(
+							fish, 
+							fishGroup, 
+							params
+						);
+		if (withinVisual.isEmpty())	return null;
+		// Calculate fitnesses of fishes within visual, and find the best one.
+		// (Fitnesses are cached in fish, so they are reused in the following steps and actions.)
+		FitnessValue<? extends Number> fitnessCalResult, bestFitness = null;
+		Fish<LongArrayPosition> bestFish = null;
+		for (Fish<LongArrayPosition> f: withinVisual) {
+			fitnessCalResult = ArtificialFishSwarm.fitnessValue(calculation, collectionItems, f, params);
+			if (bestFish==null || fitnessCalResult.compareTo(bestFitness)>0) {
+				bestFish = f;
+				bestFitness = fitnessCalResult;
+			}
+		}
+		// Clean JVM
+		withinVisual = null;
+		// Count fishes within visual of the fish with best fitness, and sum their fitnesses.
+		withinVisual = ArtificialFishSwarm.getFishWithinVisual(
+							bestFish, 
+							fishGroup, 
+							params
+						);
+		double sumFitness=0;
+		for (Fish<LongArrayPosition> f: withinVisual) {
+			sumFitness += ArtificialFishSwarm.fitnessValue(calculation, collectionItems, f, params)
+												.getFitnessValue()
+												.doubleValue();
+		}
+		// Check and return.
+		double currentFitnessValue = 
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItems, fish, params)
+									.getFitnessValue()
+									.doubleValue();
+		return (withinVisual.isEmpty()?0:sumFitness/withinVisual.size()) < params.getCFactor()*currentFitnessValue ?
+				bestFish.getPosition().clone(): null;
+	}
+}
\ No newline at end of file
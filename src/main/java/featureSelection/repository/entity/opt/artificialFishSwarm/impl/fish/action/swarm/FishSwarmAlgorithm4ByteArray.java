@@ -37,36 +37,17 @@ public class FishSwarmAlgorithm4ByteArray<FI extends FeatureImportance<Sig>,
 				ArtificialFishSwarm.getFishWithinVisual(currentFish, fishGroup, params);
 		if (withinVisual.isEmpty())	return null;
 		double fitnessValue = 0;
+		// Fitnesses cached in fish are reused unless their positions have changed.
 		for (Fish<ByteArrayPosition> fish: withinVisual) {
-
-			fitnessValue += params.getFitnessAlgorthm()
-									.calculateFitness(
-										params.getReductionAlgorithm(), 
-										fish.getPosition().getAttributes(), 
-										params.getReductionAlgorithm()
-											.dependency(
-												calculation, 
-												collectionList,
-												fish.getPosition().getAttributes()
-											)
-									).getFitnessValue()
-									.getFitnessValue()
-									.doubleValue();
+			fitnessValue += ArtificialFishSwarm.fitnessValue(calculation, collectionList, fish, params)
+												.getFitnessValue()
+												.doubleValue();
 		}
 		// 3 if ( (swarmFitness/ n ) < cFactor*fcurrentFish.fitness )
-		double currentFishFitness = params.getFitnessAlgorthm()
-										.calculateFitness(
-												params.getReductionAlgorithm(), 
-												currentFish.getPosition().getAttributes(),
-												params.getReductionAlgorithm()
-													.dependency(
-														calculation, 
-														collectionList, 
-														currentFish.getPosition().getAttributes()
-													)
-										).getFitnessValue()
-										.getFitnessValue()
-										.doubleValue();
+		double currentFishFitness = 
+				ArtificialFishSwarm.fitnessValue(calculation, collectionList, currentFish, params)
+									.getFitnessValue()
+									.doubleValue();
 		if (fitnessValue/withinVisual.size() < params.getCFactor()*currentFishFitness) {
 			// fishCenter = fishCenterCalculation(), return fishCenter.
 			return (ByteArrayPosition) params.getFishCenterCalculationAlgorithm()
@@ -0,0 +1,61 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm;
+
+import java.util.Collection;
+
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.artificialFishSwarm.func.ArtificialFishSwarm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.action.FishSwarmAlgorithm;
+
+/**
+ * Bit-packed <code>long[]</code> {@link Position}(i.e. {@link LongArrayPosition}) based
+ * <code>Fish Swarm Algorithm</code> <strong>SWARM</strong> action, the counterpart of
+ * {@link FishSwarmAlgorithm4ByteArray}.
+ * 
+ * @author Benjamin_L
+ *
+ * @param <FI>
+ * 		Implemented {@link FeatureImportance}.
+ * @param <Sig>
+ * 		Implemented {@link Number}. The type of feature importance.
+ */
+public class FishSwarmAlgorithm4LongArray<FI extends FeatureImportance<Sig>,
+										Sig extends Number>
+	implements FishSwarmAlgorithm<FI, Sig, LongArrayPosition>
+{
+	@SuppressWarnings("unchecked")
+	@Override
+	public <CollectionItem> LongArrayPosition swarm(
+			FI calculation,
+			Collection<CollectionItem> collectionList,
+			Fish<LongArrayPosition> currentFish, Fish<LongArrayPosition>[] fishGroup,
+			ReductionParameters params
+	) {
+		Collection<Fish<LongArrayPosition>> withinVisual = 
+				ArtificialFishSwarm.getFishWithinVisual(currentFish, fishGroup, params);
+		if (withinVisual.isEmpty())	return null;
+		double fitnessValue = 0;
+		// Fitnesses cached in fish are reused unless their positions have changed.
+		for (Fish<LongArrayPosition> fish: withinVisual) {
+			fitnessValue += ArtificialFishSwarm.fitnessValue(calculation, collectionList, fish, params)
+												.getFitnessValue()
+												.doubleValue();
+		}
+		// 3 if ( (swarmFitness/ n ) < cFactor*fcurrentFish.fitness )
+		double currentFishFitness = 
+				ArtificialFishSwarm.fitnessValue(calculation, collectionList, currentFish, params)
+									.getFitnessValue()
+									.doubleValue();
+		if (fitnessValue/withinVisual.size() < params.getCFactor()*currentFishFitness) {
+			// fishCenter = fishCenterCalculation(), return fishCenter.
+			return (LongArrayPosition) params.getFishCenterCalculationAlgorithm()
+											.compute(withinVisual);
+		// 4 else return null.
+		}else {
+			return null;
+		}
+	}
+}
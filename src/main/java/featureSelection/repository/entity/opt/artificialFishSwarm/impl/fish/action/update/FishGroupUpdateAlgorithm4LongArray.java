@@ -0,0 +1,36 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.update;
+
+import common.utils.RandomUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.Fish4LongPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.action.FishGroupUpdateAlgorithm;
+
+import java.util.Random;
+
+/**
+ * {@link FishGroupUpdateAlgorithm} for {@link LongArrayPosition}: same as
+ * {@link FishGroupUpdateAlgorithm4ByteArray}, each {@link Fish4LongPosition} starts with a
+ * random attribute selected.
+ * 
+ * @author Benjamin_L
+ */
+public class FishGroupUpdateAlgorithm4LongArray
+	implements FishGroupUpdateAlgorithm<LongArrayPosition, Fish4LongPosition>
+{
+	@Override
+	public Fish4LongPosition[] generateFishGroup(
+			int fishGroupNumber, int attributeLength, ReductionParameters params, Random random
+	) {
+		Fish4LongPosition[] fish = new Fish4LongPosition[fishGroupNumber];
+		long[] positionValue;
+		for (int i=0; i<fish.length; i++) {
+			fish[i] = new Fish4LongPosition();
+			positionValue = new long[BitPackedEncoding.wordsOf(attributeLength)];
+			BitPackedEncoding.set(positionValue, RandomUtils.randomUniqueInt(1, attributeLength, random));
+			fish[i].setPosition(new LongArrayPosition(positionValue, attributeLength));
+		}
+		return fish;
+	}
+}
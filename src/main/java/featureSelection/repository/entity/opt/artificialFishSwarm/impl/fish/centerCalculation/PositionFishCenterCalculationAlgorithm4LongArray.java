@@ -0,0 +1,53 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.centerCalculation;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.FishCenterCalculationAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Bit-packed <code>long[]</code> {@link Position}(i.e. {@link LongArrayPosition}) based Fish
+ * Center Calculation Algorithm, the counterpart of
+ * {@link PositionFishCenterCalculationAlgorithm4ByteArray}: an attribute is selected in the
+ * center if it is selected by more than half of the neighbours. Selections are counted by
+ * iterating set bits of positions only.
+ * <p>
+ * PS: Must call <code>setPositionLength()</code> to set the Particle length before any
+ * computation.
+ * 
+ * @author Benjamin_L
+ */
+public class PositionFishCenterCalculationAlgorithm4LongArray 
+	implements FishCenterCalculationAlgorithm<long[]>
+{
+	@Getter @Setter private int positionLength;
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public <Posi extends Position<long[]>> Posi compute(Fish<Posi>...fishNeighbours) {
+		return compute(Arrays.asList(fishNeighbours));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <Posi extends Position<long[]>> Posi compute(Collection<Fish<Posi>> fishNeighbours) {
+		if (positionLength<=0)	throw new RuntimeException("Unset value : positionLength="+positionLength);
+
+		// 1 count selections of attributes.
+		int[] counts = new int[positionLength];
+		for (Fish<Posi> fish: fishNeighbours)
+			BitPackedEncoding.forEachAttribute(fish.getPosition().getPosition(), attr->counts[attr-1]++);
+		// 2 for any attribute in center, if count/|fishNeighbours|>0.5, select.
+		double threadshold = fishNeighbours.size() * 0.5;
+		long[] posi = new long[BitPackedEncoding.wordsOf(positionLength)];
+		for (int i=0; i<positionLength; i++)
+			if (counts[i]>threadshold)	BitPackedEncoding.set(posi, i+1);
+		return (Posi) new LongArrayPosition(posi, positionLength);
+	}
+}
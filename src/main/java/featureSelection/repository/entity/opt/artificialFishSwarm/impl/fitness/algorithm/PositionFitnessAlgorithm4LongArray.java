@@ -0,0 +1,30 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fitness.algorithm;
+
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessAlgorithm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A {@link FitnessValue} calculation algorithm for {@link LongArrayPosition}, which is measure by 
+ * bit-packed long array, the counterpart of {@link PositionFitnessAlgorithm4ByteArray}.
+ * 
+ * @author Benjamin_L
+ *
+ * @param <FI>
+ *      Type of feature (subset) importance calculation.
+ * @param <Sig>
+ *      Type of feature (subset) importance.
+ * @param <FV>
+ * 		Class type of fitness's value.
+ */
+public abstract class PositionFitnessAlgorithm4LongArray<FI extends FeatureImportance<Sig>,
+														Sig extends Number, 
+														FV extends FitnessValue<?>>
+	implements FitnessAlgorithm<FI, Sig, FV, LongArrayPosition>
+{
+	@Getter @Setter private double a;
+	@Getter @Setter private int len;
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.fitness.fitness;
+
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.Fitness;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
+import lombok.Data;
+
+@Data
+public class PositionFitness4LongArray<FV extends FitnessValue<?>>
+	implements Fitness<LongArrayPosition, FV>
+{
+	private FV fitnessValue;
+	private LongArrayPosition position;
+	
+	public PositionFitness4LongArray(FV fitnessValue) {
+		this.fitnessValue = fitnessValue;
+	}
+
+}
\ No newline at end of file
@@ -1,10 +1,7 @@
 package featureSelection.repository.entity.opt.artificialFishSwarm.impl.position;
 
 import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
 
-import common.utils.ArrayCollectionUtils;
 import common.utils.ArrayUtils;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import lombok.Getter;
@@ -47,11 +44,12 @@ public class ByteArrayPosition implements Position<byte[]> {
 	@Override
 	public int[] getAttributes() {
 		if (attributes==null) {
-			List<Integer> attrSet = new LinkedList<>();
-			for (int i=0; i<position.length; i++) {
-				if (position[i]==(byte) 1)		attrSet.add(i+1);
+			int count = 0;
+			for (byte b: position)	if (b==(byte) 1)	count++;
+			attributes = new int[count];
+			for (int i=0, a=0; a<count; i++) {
+				if (position[i]==(byte) 1)		attributes[a++] = i+1;
 			}
-			attributes = ArrayCollectionUtils.getIntArrayByCollection(attrSet);
 		}
 		return attributes;
 	}
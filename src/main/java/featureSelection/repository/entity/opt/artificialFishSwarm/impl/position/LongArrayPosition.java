@@ -0,0 +1,111 @@
+package featureSelection.repository.entity.opt.artificialFishSwarm.impl.position;
+
+import java.util.Arrays;
+
+import common.utils.ArrayUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import lombok.Getter;
+
+/**
+ * A bit-packed implementation of the binary bit string fish position in {@link ByteArrayPosition}:
+ * 64 features per <code>long</code>(see {@link BitPackedEncoding}), so positions are 8 times
+ * smaller and distances can be calculated by popcount(see
+ * {@link featureSelection.repository.entity.opt.artificialFishSwarm.impl.distance.HammingDistanceAlgorithm4LongArray}).
+ * <p>
+ * {@link #encodedValuesLength()} is the number of features, not the number of words.
+ * <p>
+ * hashCode():	<code>Arrays.hashCode(position)</code>
+ * <p>
+ * equals():	<code>Arrays.equals(position, ((LongArrayPosition) obj).position())</code>
+ * 
+ * @author Benjamin_L
+ */
+public class LongArrayPosition implements Position<long[]> {
+	@Getter private long[] position;
+	private final int length;
+	private int[] attributes;
+	
+	public LongArrayPosition(long[] position, int positionLength) {
+		this.length = positionLength;
+		setPosition(position);
+	}
+	public LongArrayPosition(int[] attributes, int positionLength){
+		this.length = positionLength;
+		this.attributes = attributes;
+		position = BitPackedEncoding.encode(attributes, positionLength);
+	}
+
+	@Override
+	public void setPosition(long[] p) {
+		this.position = p;
+		attributes = null;
+	}
+
+	@Override
+	public int[] getAttributes() {
+		if (attributes==null)	attributes = BitPackedEncoding.attributes(position);
+		return attributes;
+	}
+	
+	@Override
+	public boolean containsAttribute(int attribute) {
+		return BitPackedEncoding.contains(position, attribute);
+	}
+	
+	@Override
+	public Position<long[]> addAttributeInPosition(int attribute) {
+		attributes = null;
+		BitPackedEncoding.set(position, attribute);
+		return this;
+	}
+	@Override
+	public Position<long[]> removeAttributeInPosition(int attribute) {
+		attributes = null;
+		BitPackedEncoding.clear(position, attribute);
+		return this;
+	}
+	
+	@Override
+	public long[] encodedValues() {
+		return position;
+	}
+	
+	@Override
+	public String encodedValuesToString() {
+		return BitPackedEncoding.toString(position, length);
+	}
+	
+	@Override
+	public int encodedValuesLength() {
+		return length;
+	}
+	
+	@Override
+	public Class<long[]> encodedTypeClass() {
+		return long[].class;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(position);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof LongArrayPosition && length==((LongArrayPosition) obj).length?
+					Arrays.equals(position, ((LongArrayPosition) obj).getPosition()) : 
+					false;
+	}
+	
+	@Override
+	public LongArrayPosition clone() {
+		return new LongArrayPosition(Arrays.copyOf(position, position.length), length);
+	}
+	
+	@Override
+	public String toString() {
+		return "LongArrayPosition [attributes=" + (attributes==null?null: ArrayUtils.intArrayToString(
+				attributes, 10)) + ", length="+length + "]";
+	}
+}
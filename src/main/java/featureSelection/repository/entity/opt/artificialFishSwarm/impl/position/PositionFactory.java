@@ -5,14 +5,18 @@ import java.util.Arrays;
 import java.util.Random;
 
 import common.utils.RandomUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class PositionFactory {
+	@SuppressWarnings("unchecked")
 	public static <Posi extends Position<?>> Posi fullPosition(
 			Class<Posi> positionClass, int positionLength
 	) {
+		if (LongArrayPosition.class.equals(positionClass))
+			return (Posi) new LongArrayPosition(BitPackedEncoding.full(positionLength), positionLength);
 		byte[] position = new byte[positionLength];
 		Arrays.fill(position, (byte) 1);
 		try {
@@ -70,6 +74,18 @@ public class PositionFactory {
 			}else {
 				return position;
 			}
+		// * Deal with {@link LongArrayPosition} growth.
+		}else if (position instanceof LongArrayPosition) {
+			int optionSize = positionLength-position.getAttributes().length;
+			if (optionSize!=0) {
+				int updateIndex = RandomUtils.randomUniqueInt(0, optionSize, random);
+				position.addAttributeInPosition(
+					BitPackedEncoding.nthUnselected(
+						(long[]) position.getPosition(), positionLength, updateIndex
+					)
+				);
+			}
+			return position;
 		}else {
 			return null;
 		}
@@ -81,6 +97,8 @@ public class PositionFactory {
 	) {
 		if (ByteArrayPosition.class.equals(positionClass)) {
 			return (Posi) randomByteArrayPosition(positionLength, random);
+		}else if (LongArrayPosition.class.equals(positionClass)) {
+			return (Posi) randomLongArrayPosition(positionLength, random);
 		}else {
 			return null;
 		}
@@ -93,4 +111,11 @@ public class PositionFactory {
 		ByteArrayPosition posi = new ByteArrayPosition(position);
 		return posi;
 	}
+	
+	public static Position<long[]> randomLongArrayPosition(int positionLength, Random random) {
+		long[] position = new long[BitPackedEncoding.wordsOf(positionLength)];
+		for (int i=0; i<positionLength; i++)
+			if (RandomUtils.probability(0.5, random))	position[i >>> 6] |= 1L << i;
+		return new LongArrayPosition(position, positionLength);
+	}
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package featureSelection.repository.entity.opt.artificialFishSwarm.interf;
 
 import featureSelection.basic.model.optimization.OptimizationAlgorithm;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 
 import java.util.Collection;
 
@@ -23,5 +25,39 @@ public interface ReductionAlgorithm<FI extends FeatureImportance<Sig>, Sig exten
 	Sig dependency(FI calculation, Collection<CollectionItem> collectionItems, Position<?> position);
 	Sig dependency(FI calculation, Collection<CollectionItem> collectionItems, int[] attributes);
 	
+	/**
+	 * Initiate fields lazily initialised by dependency calculations(e.g. decision equivalence
+	 * classes) over the given <code>collectionItems</code>. Called before dependencies are
+	 * calculated concurrently by a {@link ParallelFitnessEvaluator}, so that worker threads only
+	 * read them no matter which dependencies are hit in {@link FitnessCache}.
+	 * 
+	 * @param collectionItems
+	 *     {@link Collection} of data.
+	 */
+	default void initDependencyCalculation(Collection<CollectionItem> collectionItems) {}
+	
+	/**
+	 * Calculate the dependency of the given <code>attributes</code> with memoized dependencies.
+	 * Semantics are the same as {@link #dependency(FeatureImportance, Collection, int[])}.
+	 * 
+	 * @param calculation
+	 *     {@link FI} instance.
+	 * @param collectionItems
+	 *     {@link Collection} of data.
+	 * @param attributes
+	 *     Attributes to be evaluated.
+	 * @param cache
+	 *     {@link FitnessCache} of dependencies. <code>null</code> if not to be cached.
+	 * @return the dependency.
+	 */
+	default Sig dependency(
+			FI calculation, Collection<CollectionItem> collectionItems, int[] attributes,
+			FitnessCache<Sig> cache
+	) {
+		return cache==null?
+				dependency(calculation, collectionItems, attributes):
+				cache.computeIfAbsent(attributes, attr->dependency(calculation, collectionItems, attr));
+	}
+	
 	int[] inspection(FI calculation, Sig sigDeviation, Collection<CollectionItem> collectionItems, int[] attributes);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish;
 
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
 
 /**
  * Fish entity in Artificial Fish Swarm.
@@ -14,6 +15,22 @@ public interface Fish<Posi extends Position<?>> {
 	void setPosition(Posi posi);
 	Posi getPosition();
 	
+	/**
+	 * Get the cached {@link FitnessValue} of the current position.
+	 * 
+	 * @return {@link FitnessValue} or <code>null</code> if not cached or the position has changed
+	 * 		since it was cached.
+	 */
+	FitnessValue<? extends Number> getFitnessValue();
+	/**
+	 * Cache the {@link FitnessValue} of the current position, invalidated once the position
+	 * changes.
+	 * 
+	 * @param fitnessValue
+	 * 		{@link FitnessValue} of the current position.
+	 */
+	void setFitnessValue(FitnessValue<? extends Number> fitnessValue);
+	
 	Fish<Posi> exit();
 	boolean isExited();
-}
\ No newline at end of file
+}
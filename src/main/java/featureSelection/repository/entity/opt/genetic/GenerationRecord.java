@@ -121,4 +121,32 @@ public class GenerationRecord<Chr extends Chromosome, FValue extends FitnessValu
 	public int getDistinctBestFitnessCount() {
 		return distinctAttributes.size();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Merge the best fitnesses of another record(e.g. of another island in
+	 * {@link featureSelection.repository.entity.opt.island.IslandModel}) into this one: keep the
+	 * better best fitness, and collect chromosomes of both if equal.
+	 * 
+	 * @param other
+	 * 		Another {@link GenerationRecord}.
+	 */
+	public void merge(GenerationRecord<Chr, FValue> other) {
+		generation = Math.max(generation, other.generation);
+		if (other.bestFitness==null)	return;
+		int cmp = bestFitness==null? -1: 
+					Double.compare(
+						bestFitness.getValue().doubleValue(), 
+						other.bestFitness.getValue().doubleValue()
+					);
+		if (cmp>0)	return;
+		if (cmp<0) {
+			bestFitness = other.bestFitness;
+			fitness.clear();
+			distinctAttributes.clear();
+		}
+		for (Fitness<Chr, FValue> f: other.fitness) {
+			if (!distinctAttributes.contains(new IntArrayKey(f.getChromosome().getAttributes())))
+				addBestFitness(f);
+		}
+	}
+}
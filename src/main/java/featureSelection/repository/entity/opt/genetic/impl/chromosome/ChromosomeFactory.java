@@ -1,7 +1,12 @@
 package featureSelection.repository.entity.opt.genetic.impl.chromosome;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.binaryGeneChromosome.BinaryGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome.BitPackedGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.razaChromosome.RazaChromosome;
 import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,4 +59,68 @@ public class ChromosomeFactory {
 			return null;
 		}
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Generate Chromosome based on the given bit-packed <code>gene</code> and {@link Chromosome}
+	 * {@link Class}
+	 * 
+	 * @param <Chr>
+	 * 		Implemented {@link Chromosome}.
+	 * @param gene
+	 * 		The gene values packed in long array.
+	 * @param geneLength
+	 * 		The number of genes.
+	 * @param clazz
+	 * 		The {@link Class} of generated {@link Chromosome}.
+	 * @return A generated {@link Chromosome}.
+	 */
+	public static <Chr extends Chromosome<?>> Chr getChromosome(long[] gene, int geneLength, Class<Chr> clazz) {
+		try {
+			return clazz.getConstructor(long[].class, int.class)
+						.newInstance(gene, geneLength);
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | 
+				InvocationTargetException | NoSuchMethodException | SecurityException e
+		) {
+			log.error(e.getMessage(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * Encode an attribute subset into a {@link Chromosome} of the given {@link Class}, i.e. the
+	 * reverse of {@link Chromosome#getAttributes()}:
+	 * <ul>
+	 * 	<li>{@link RazaChromosome}: <code>gene[a-1]=a</code> for selected attribute a, -1 for
+	 * 		others.</li>
+	 * 	<li>{@link BinaryGeneChromosome}: <code>gene[a-1]=1</code> for selected attribute a.</li>
+	 * 	<li>{@link BitPackedGeneChromosome}: bit a-1 set for selected attribute a.</li>
+	 * </ul>
+	 * 
+	 * @param <Chr>
+	 * 		Implemented {@link Chromosome}.
+	 * @param attributes
+	 * 		Selected attributes. (Starts from 1)
+	 * @param chromosomeLength
+	 * 		The length of a {@link Chromosome}'s gene, i.e. the number of all attributes.
+	 * @param clazz
+	 * 		The {@link Class} of generated {@link Chromosome}.
+	 * @return A generated {@link Chromosome}.
+	 * @throws IllegalArgumentException if the encoding of <code>clazz</code> is not supported.
+	 */
+	public static <Chr extends Chromosome<?>> Chr encode(int[] attributes, int chromosomeLength, Class<Chr> clazz) {
+		if (RazaChromosome.class.isAssignableFrom(clazz)) {
+			int[] gene = new int[chromosomeLength];
+			Arrays.fill(gene, -1);
+			for (int attr: attributes)	gene[attr-1] = attr;
+			return getChromosome(gene, clazz);
+		}else if (BinaryGeneChromosome.class.isAssignableFrom(clazz)) {
+			byte[] gene = new byte[chromosomeLength];
+			for (int attr: attributes)	gene[attr-1] = (byte) 1;
+			return getChromosome(gene, clazz);
+		}else if (BitPackedGeneChromosome.class.isAssignableFrom(clazz)) {
+			return getChromosome(BitPackedEncoding.encode(attributes, chromosomeLength), chromosomeLength, clazz);
+		}else {
+			throw new IllegalArgumentException("Unsupported chromosome: "+clazz.getName());
+		}
+	}
+}
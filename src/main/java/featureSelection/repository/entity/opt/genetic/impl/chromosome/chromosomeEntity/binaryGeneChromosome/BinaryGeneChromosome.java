@@ -4,8 +4,6 @@ import common.utils.ArrayUtils;
 import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Binary gene based {@link Chromosome}. Using <code>byte[]</code> encoding for genes. (gene
@@ -30,10 +28,9 @@ public abstract class BinaryGeneChromosome
 	}
 	
 	public static int[] getFilteredGene(byte[] gene) {
-		Collection<Integer> list = new LinkedList<>();	
-		for (int b=0; b<gene.length; b++)	if (gene[b]==(byte) 1)	list.add(b+1);
-		int[] attributes = new int[list.size()];
-		int i=0;	for (int each: list)	attributes[i++] = each;
+		int count = 0;	for (byte g: gene)	if (g==(byte) 1)	count++;
+		int[] attributes = new int[count];
+		for (int b=0, i=0; i<count; b++)	if (gene[b]==(byte) 1)	attributes[i++] = b+1;
 		return attributes;
 	}
 	
@@ -0,0 +1,88 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome;
+
+import common.utils.ArrayUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.binaryGeneChromosome.BinaryGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
+
+import java.util.Arrays;
+
+/**
+ * Bit-packed binary gene based {@link Chromosome}. Same as {@link BinaryGeneChromosome}, but genes
+ * are packed 64 a <code>long</code>(see {@link BitPackedEncoding}).
+ * <p>
+ * {@link #encodedValuesLength()} is the number of genes, not the number of words.
+ * 
+ * @author Benjamin_L
+ */
+public abstract class BitPackedGeneChromosome 
+	implements Chromosome<long[]>
+{
+	private long[] gene;
+	private final int geneLength;
+	private int[] attributes;
+	
+	public BitPackedGeneChromosome(long[] gene, int geneLength) {
+		this.gene = gene;
+		this.geneLength = geneLength;
+		this.attributes = null;
+	}
+	
+	public BitPackedGeneChromosome(long[] gene, int geneLength, int[] attributes) {
+		this.gene = gene;
+		this.geneLength = geneLength;
+		this.attributes = attributes;
+	}
+	
+	@Override
+	public int[] getAttributes() {
+		if (attributes==null)	attributes = BitPackedEncoding.attributes(gene);
+		return attributes;
+	}
+
+	@Override
+	public long[] encodedValues() {
+		return gene;
+	}
+
+	@Override
+	public String encodedValuesToString() {
+		return BitPackedEncoding.toString(gene, geneLength);
+	}
+
+	@Override
+	public int encodedValuesLength() {
+		return geneLength;
+	}
+
+	@Override
+	public Class<long[]> encodedTypeClass() {
+		return long[].class;
+	}
+	
+	@Override
+	public void update(long[] gene) {
+		this.gene = gene;
+		attributes = null;
+	}
+	
+	@Override
+	public boolean equals(Object k) {
+		if (k instanceof long[])						return Arrays.equals((long[])k, gene);
+		else if (k instanceof BitPackedGeneChromosome)	return Arrays.equals(((BitPackedGeneChromosome)k).gene, gene);
+		else 											return false;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(gene);
+	}
+	
+	@Override
+	public String toString() {
+		return "BitPackedGeneChromosome [gene=" + encodedValuesToString() + ",	" + 
+				ArrayUtils.intArrayToString(getAttributes(), 100) + "]";
+	}
+	
+	public abstract BitPackedGeneChromosome clone() throws CloneNotSupportedException;
+}
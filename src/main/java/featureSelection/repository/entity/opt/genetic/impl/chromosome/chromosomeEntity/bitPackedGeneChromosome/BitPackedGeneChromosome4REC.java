@@ -0,0 +1,24 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome;
+
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.RECChromosome;
+
+import java.util.Arrays;
+
+public class BitPackedGeneChromosome4REC
+	extends BitPackedGeneChromosome 
+	implements RECChromosome<long[]>
+{
+
+	public BitPackedGeneChromosome4REC(long[] gene, int geneLength) {
+		super(gene, geneLength);
+	}
+	public BitPackedGeneChromosome4REC(long[] gene, int geneLength, int[] attributes) {
+		super(gene, geneLength, attributes);
+	}
+
+	@Override
+	public BitPackedGeneChromosome clone() throws CloneNotSupportedException {
+		long[] gene = Arrays.copyOf(this.encodedValues(), this.encodedValues().length);
+		return new BitPackedGeneChromosome4REC(gene, this.encodedValuesLength());
+	}
+}
@@ -0,0 +1,53 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.bitPackedGene;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+
+import common.utils.RandomUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.ChromosomeFactory;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.binaryGene.DefaultBinaryGeneChromosomeInitialization;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.code.initlization.ChromosomeInitialization;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Bit-packed gene {@link Chromosome} initialization. Same as
+ * {@link DefaultBinaryGeneChromosomeInitialization}, with genes packed in <code>long[]</code>(see
+ * {@link BitPackedEncoding}).
+ * 
+ * @author Benjamin_L
+ *
+ * @param <Chr>
+ * 		Type of implemented {@link Chromosome}.
+ */
+@Data
+@AllArgsConstructor
+public class BitPackedGeneChromosomeInitialization<Chr extends Chromosome<long[]>>
+	implements ChromosomeInitialization<Chr, BitPackedGeneChromosomeInitializationParameters<Chr>>
+{
+	private BitPackedGeneChromosomeInitializationParameters<Chr> parameters;
+	
+	@Override
+	public Chr[] initChromosomes(Random random) {
+		long[] gene;
+		int[] attributes = parameters.getAttributes();
+		@SuppressWarnings("unchecked")
+		Chr[] chromosome = (Chr[]) Array.newInstance(
+										parameters.getChromosomeClass(), 
+										parameters.getPopulation()
+							);
+		for (int c=0; c<parameters.getPopulation(); c++) {
+			gene = new long[BitPackedEncoding.wordsOf(parameters.getGeneSize())];
+			for (int g=0; g<parameters.getGeneSize(); g++) {
+				if (RandomUtils.probability(parameters.getGeneRate(), random))
+					BitPackedEncoding.set(gene, attributes[g]);
+			}
+			chromosome[c] = ChromosomeFactory.getChromosome(
+								gene, parameters.getGeneSize(), parameters.getChromosomeClass()
+							);
+		}
+		return chromosome;
+	}
+}
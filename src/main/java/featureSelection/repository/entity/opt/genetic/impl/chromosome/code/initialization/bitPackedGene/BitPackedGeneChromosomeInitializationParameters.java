@@ -0,0 +1,32 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.bitPackedGene;
+
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.code.initlization.ChromosomeInitializationParameters;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Parameters for {@link BitPackedGeneChromosomeInitialization}:
+ * <ul>
+ * 	<li>population: <code>int</code></li>
+ * 	<li>geneSize: <code>int</code></li>
+ * 	<li>attributes: <code>int[]</code></li>
+ * 	<li>geneRate: <code>double</code></li>
+ * 	<li>chromosomeClass: <code>Class</code></li>
+ * </ul>
+ * 
+ * @author Benjamin_L
+ *
+ * @param <Chr> implemented {@link Chromosome} with <code>long[]</code> gene.
+ */
+@Data
+@AllArgsConstructor
+public class BitPackedGeneChromosomeInitializationParameters<Chr extends Chromosome<long[]>>
+	implements ChromosomeInitializationParameters<Chr>
+{
+	private int population;
+	private int geneSize;
+	private int[] attributes;
+	private double geneRate;
+	private Class<Chr> chromosomeClass;
+}
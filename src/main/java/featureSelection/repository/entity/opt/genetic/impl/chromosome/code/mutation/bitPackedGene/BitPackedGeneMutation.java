@@ -0,0 +1,51 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.bitPackedGene;
+
+import java.util.Random;
+import java.util.Set;
+
+import common.utils.RandomUtils;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome.BitPackedGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.binaryGene.DefaultBinaryGeneMutation;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.code.mutation.ChromosomeMutation;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Mutation of {@link BitPackedGeneChromosome}s. Same as {@link DefaultBinaryGeneMutation}: each of
+ * <code>mutateSize</code> random genes is flipped by the probability of <code>mutateRate</code>,
+ * but genes to be flipped are collected in a mask and flipped word by word.
+ * 
+ * @author Benjamin_L
+ *
+ * @param <Chr>
+ * 		Type of implemented {@link BitPackedGeneChromosome}.
+ */
+@Data
+@AllArgsConstructor
+public class BitPackedGeneMutation<Chr extends BitPackedGeneChromosome>
+	implements ChromosomeMutation<Chr, BitPackedGeneMutationParameters<Chr>>
+{
+	private BitPackedGeneMutationParameters<Chr> parameters;
+	
+	@Override
+	public void mutate(Chr chromosome, Random random) {
+		long[] gene = chromosome.encodedValues();
+		long[] mask = new long[gene.length];
+		boolean update = false;
+		Set<Integer> mutateIndex = RandomUtils.randomUniqueInts(
+										0, chromosome.encodedValuesLength(), 
+										parameters.getMutateSize(), random
+									);
+		for (int i : mutateIndex) {
+			if (RandomUtils.probability(parameters.getMutateRate(), random)) {
+				mask[i >>> 6] |= 1L << i;
+				update = true;
+			}
+		}
+		if (update) {
+			BitPackedEncoding.flip(gene, mask);
+			chromosome.update(gene);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.bitPackedGene;
+
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome.BitPackedGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.interf.chromosome.code.mutation.ChromosomeMutationParameters;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Parameters for {@link BitPackedGeneMutation}:
+ * <ul>
+ * 	<li>chromosomeClass: <code>Class</code></li>
+ * 	<li>mutateSize: <code>int</code></li>
+ * 	<li>mutateRate: <code>double</code></li>
+ * </ul>
+ * 
+ * @author Benjamin_L
+ *
+ * @param <Chr> implemented {@link BitPackedGeneChromosome}.
+ */
+@Data
+@AllArgsConstructor
+public class BitPackedGeneMutationParameters<Chr extends BitPackedGeneChromosome>
+	implements ChromosomeMutationParameters<Chr>
+{
+	private Class<Chr> chromosomeClass;
+	private int mutateSize;
+	private double mutateRate;
+}
@@ -2,6 +2,7 @@ package featureSelection.repository.entity.opt.genetic.impl.chromosome.cross;
 
 import common.utils.RandomUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.BitPackedEncoding;
 import featureSelection.repository.entity.opt.genetic.ReductionParameters;
 import featureSelection.repository.entity.opt.genetic.ReverseFitnessComparator;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.ChromosomeFactory;
@@ -128,6 +129,23 @@ public class ReverseSequenceChromosomeCross<Chr extends Chromosome<?>,
 						(Chr) ChromosomeFactory.getChromosome(g1, c1.getClass()),
 						(Chr) ChromosomeFactory.getChromosome(g2, c2.getClass())
 					};
+		}else if (long[].class.equals(c1.encodedTypeClass()) || long[].class.equals(c2.encodedTypeClass())) {
+			// Bit-packed genes: swap genes at crossIndex word by word.
+			int length = c1!=null? c1.encodedValuesLength(): c2.encodedValuesLength();
+			long[] g1, g2;
+			
+			if (c1!=null)	g1 = ((long[]) c1.encodedValues()).clone();
+			else			g1 = new long[BitPackedEncoding.wordsOf(length)];
+			
+			if (c2!=null)	g2 = ((long[]) c2.encodedValues()).clone();
+			else			g2 = new long[BitPackedEncoding.wordsOf(length)];
+			
+			BitPackedEncoding.swap(g1, g2, BitPackedEncoding.mask(crossIndex, length));
+			
+			return (Chr[]) new Chromosome[] {
+						(Chr) ChromosomeFactory.getChromosome(g1, length, c1.getClass()),
+						(Chr) ChromosomeFactory.getChromosome(g2, length, c2.getClass())
+					};
 		}else {
 			throw new UnsupportedOperationException("unimplemented Chromosome Cross for Gene Class : "+c1.encodedTypeClass());
 		}
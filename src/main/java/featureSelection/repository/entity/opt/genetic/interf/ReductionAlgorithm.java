@@ -4,11 +4,16 @@ import featureSelection.basic.model.optimization.OptimizationAlgorithm;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator.IndexedEvaluation;
 import featureSelection.repository.entity.opt.genetic.GenerationRecord;
+import featureSelection.repository.entity.opt.genetic.impl.fitness.DoubleFitness;
 import featureSelection.repository.entity.opt.genetic.interf.chromosome.entity.Chromosome;
 import featureSelection.repository.entity.opt.genetic.interf.fitness.Fitness;
 import featureSelection.repository.entity.opt.genetic.interf.fitness.fitnessValue.FitnessValue;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -61,6 +66,76 @@ public interface ReductionAlgorithm<Cal extends FeatureImportance<?>,
 	 */
 	Fitness<Chr, FValue>[] calculateFitness(Cal calculation, Collection<Item> collection,
 											@SuppressWarnings("unchecked") Chr...chromosomes);
+
+	/**
+	 * Initiate fields lazily initialised by fitness calculations(e.g. decision equivalence classes)
+	 * over the given <code>collection</code>. Called before fitnesses are calculated concurrently
+	 * by a {@link ParallelFitnessEvaluator}, so that worker threads only read them no matter which
+	 * fitnesses are hit in {@link FitnessCache}.
+	 * 
+	 * @param collection
+	 * 		{@link Instance} / {@link EquivalenceClass} {@link Collection}.
+	 */
+	default void initFitnessCalculation(Collection<Item> collection) {}
+	
+	/**
+	 * Calculate fitnesses of given {@link Chromosome}s with memoized fitness values and/or
+	 * parallel evaluation. Semantics are the same as
+	 * {@link #calculateFitness(FeatureImportance, Collection, Chromosome...)}:
+	 * <ul>
+	 * 	<li>Cached fitness values are keyed by {@link Chromosome#getAttributes()} and re-bound to
+	 * 		the given {@link Chromosome}s as {@link DoubleFitness}.</li>
+	 * 	<li>Missed ones are calculated by
+	 * 		{@link #calculateFitness(FeatureImportance, Collection, Chromosome...)} one by one.</li>
+	 * </ul>
+	 * 
+	 * @param calculation
+	 * 		Implemented {@link Cal} instance.
+	 * @param collection
+	 * 		{@link Instance} / {@link EquivalenceClass} {@link Collection}.
+	 * @param chromosomes
+	 *		{@link Chromosome}s to be evaluated. 
+	 * @param cache
+	 * 		{@link FitnessCache} of fitness values. <code>null</code> if not to be cached.
+	 * @param evaluator
+	 * 		{@link ParallelFitnessEvaluator} to evaluate chromosomes in parallel. <code>null</code>
+	 * 		to evaluate in the current thread.
+	 * @return {@link Fitness} array correspondent to <code>chromosomes</code>.
+	 * @throws IllegalArgumentException if <code>evaluator</code> is set but fitness of
+	 * 		<code>this</code> can not be evaluated in parallel.
+	 * @see ParallelFitnessEvaluator#isParallelizable(Object)
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	default Fitness<Chr, FValue>[] calculateFitness(
+			Cal calculation, Collection<Item> collection, Chr[] chromosomes,
+			FitnessCache<FValue> cache, ParallelFitnessEvaluator<Cal> evaluator
+	) {
+		if (cache==null && evaluator==null)	return calculateFitness(calculation, collection, chromosomes);
+		
+		IndexedEvaluation<Cal, Fitness<Chr, FValue>> evaluation = (cal, i) -> {
+			// Chromosomes are copied by range to keep the runtime array type.
+			if (cache==null || chromosomes[i]==null) {
+				return calculateFitness(cal, collection, Arrays.copyOfRange(chromosomes, i, i+1))[0];
+			}
+			int[] attributes = chromosomes[i].getAttributes();
+			FValue value = cache.get(attributes);
+			if (value!=null)	return new DoubleFitness(value, chromosomes[i]);
+			
+			Fitness<Chr, FValue> fitness =
+					calculateFitness(cal, collection, Arrays.copyOfRange(chromosomes, i, i+1))[0];
+			cache.put(attributes, fitness.getFitnessValue());
+			return fitness;
+		};
+		Fitness<Chr, FValue>[] fitness = new Fitness[chromosomes.length];
+		if (evaluator==null) {
+			for (int i=0; i<fitness.length; i++)	fitness[i] = evaluation.evaluate(calculation, i);
+			return fitness;
+		}else {
+			ParallelFitnessEvaluator.requireParallelizable(this);
+			initFitnessCalculation(collection);
+			return evaluator.evaluate(calculation, fitness, evaluation);
+		}
+	}
 	
 	/**
 	 * Get the {@link Chromosome} Class used in algorithm.
@@ -88,4 +88,32 @@ public class GenerationRecord<FValue extends FitnessValue<?>> {
 		return "GenerationRecord [generation=" + generation + ", convergenceCount=" + convergence
 				+ ", bestFitness=" + bestFitness + ", |harmonies|=" + bestHarmonies.size() + "]";
 	}
+
+	/**
+	 * Merge the best harmonies of another record(e.g. of another island in
+	 * {@link featureSelection.repository.entity.opt.island.IslandModel}) into this one: keep the
+	 * better best fitness, and collect harmonies of both if equal.
+	 * 
+	 * @param other
+	 * 		Another {@link GenerationRecord}.
+	 */
+	public void merge(GenerationRecord<FValue> other) {
+		generation = Math.max(generation, other.generation);
+		if (other.bestFitness==null)	return;
+		int cmp = bestFitness==null? -1: 
+					Double.compare(
+						bestFitness.getValue().doubleValue(), 
+						other.bestFitness.getValue().doubleValue()
+					);
+		if (cmp>0)	return;
+		if (cmp<0) {
+			bestFitness = other.bestFitness;
+			bestHarmonies.clear();
+			distinctAttributes.clear();
+		}
+		for (Harmony<?> harmony: other.bestHarmonies) {
+			if (!distinctAttributes.contains(new IntArrayKey(harmony.getAttributes())))
+				addBestFitness(harmony);
+		}
+	}
 }
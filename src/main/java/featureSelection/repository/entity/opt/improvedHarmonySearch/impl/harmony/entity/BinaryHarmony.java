@@ -1,13 +1,10 @@
 package featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.entity;
 
-import common.utils.ArrayCollectionUtils;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.harmony.entity.Harmony;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * An implementation of {@link Harmony}, using binary bits as values (0 or 1), Based on the
@@ -60,9 +57,10 @@ public class BinaryHarmony implements Harmony<byte[]> {
 	 */
 	public int[] getAttributes() {
 		if (attributeIndexes==null) {
-			Collection<Integer> binaryList = new LinkedList<>();
-			for (int i=0; i<binaries.length; i++)	if (binaries[i] == (byte) 1) binaryList.add(i);
-			attributeIndexes = ArrayCollectionUtils.getIntArrayByCollection(binaryList);
+			int count = 0;
+			for (byte binary: binaries)	if (binary == (byte) 1) count++;
+			attributeIndexes = new int[count];
+			for (int i=0, a=0; a<count; i++)	if (binaries[i] == (byte) 1) attributeIndexes[a++] = i;
 		}
 		return attributeIndexes;
 	}
@@ -4,8 +4,11 @@ import featureSelection.basic.model.optimization.OptimizationAlgorithm;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
+import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.fitness.DefaultFitness;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.fitness.Fitness;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.fitness.fitnessValue.FitnessValue;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.interf.harmony.entity.Harmony;
@@ -43,6 +46,53 @@ public interface ReductionAlgorithm<FI extends FeatureImportance<Sig>, Sig exten
 	 */
 	FValue fitnessValue(FI calculation, Collection<CollectionItem> collection, int[] attributes, int[] attributeIndexes);
 	Fitness<Sig, FValue> fitness(FI calculation, Harmony<?> harmony, Collection<CollectionItem> collection, int[] attributes);
+	/**
+	 * Initiate fields lazily initialised by fitness calculations(e.g. decision equivalence classes,
+	 * attribute index dictionaries) over the given <code>collection</code> and
+	 * <code>attributes</code>. Called before fitnesses are calculated concurrently by a
+	 * {@link ParallelFitnessEvaluator}, so that worker threads only read them no matter which
+	 * fitnesses are hit in {@link FitnessCache}.
+	 * 
+	 * @param collection
+	 * 		{@link Instance} / {@link EquivalenceClass} {@link Collection}.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1)
+	 */
+	default void initFitnessCalculation(Collection<CollectionItem> collection, int[] attributes) {}
+	
+	/**
+	 * Calculate the fitness of the given <code>harmony</code> with memoized fitness values.
+	 * Semantics are the same as
+	 * {@link #fitness(FeatureImportance, Harmony, Collection, int[])}: fitness values are keyed by
+	 * the attribute indexes of the <code>harmony</code> and cached fitness values are returned as
+	 * {@link DefaultFitness}.
+	 * 
+	 * @param calculation
+	 * 		{@link FI} instance.
+	 * @param harmony
+	 * 		The {@link Harmony} to be evaluated.
+	 * @param collection
+	 * 		{@link Instance} / {@link EquivalenceClass} {@link Collection}.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1)
+	 * @param cache
+	 * 		{@link FitnessCache} of fitness values. <code>null</code> if not to be cached.
+	 * @return {@link Fitness}.
+	 */
+	default Fitness<Sig, FValue> fitness(
+			FI calculation, Harmony<?> harmony, Collection<CollectionItem> collection,
+			int[] attributes, FitnessCache<FValue> cache
+	) {
+		if (cache==null)	return fitness(calculation, harmony, collection, attributes);
+		
+		int[] attributeIndexes = harmony.getAttributes();
+		FValue value = cache.get(attributeIndexes);
+		if (value!=null)	return new DefaultFitness<>(value);
+		
+		Fitness<Sig, FValue> fitness = fitness(calculation, harmony, collection, attributes);
+		cache.put(attributeIndexes, fitness.getFitnessValue());
+		return fitness;
+	}
 	
 	/**
 	 * Inspect redundancy of the given <code>harmony</code>.
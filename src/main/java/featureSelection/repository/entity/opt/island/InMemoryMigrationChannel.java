@@ -0,0 +1,43 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link MigrationChannel} for islands running as threads in the same JVM.
+ *
+ * @author Benjamin_L
+ */
+public class InMemoryMigrationChannel implements MigrationChannel {
+	private final Queue<Migrant>[] inboxes;
+
+	/**
+	 * Construct a channel for <code>islandCount</code> islands.
+	 *
+	 * @param islandCount
+	 * 		The number of islands.
+	 */
+	@SuppressWarnings("unchecked")
+	public InMemoryMigrationChannel(int islandCount) {
+		inboxes = new Queue[islandCount];
+		for (int i=0; i<islandCount; i++)	inboxes[i] = new ConcurrentLinkedQueue<>();
+	}
+
+	@Override
+	public void send(int from, int to, Collection<Migrant> migrants) {
+		inboxes[to].addAll(migrants);
+	}
+
+	@Override
+	public Collection<Migrant> receive(int island) {
+		Collection<Migrant> migrants = new ArrayList<>();
+		Migrant migrant;
+		while ((migrant=inboxes[island].poll())!=null)	migrants.add(migrant);
+		return migrants;
+	}
+
+	@Override
+	public void close() {}
+}
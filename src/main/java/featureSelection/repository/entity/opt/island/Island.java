@@ -0,0 +1,59 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.util.Collection;
+
+/**
+ * An island in the island model: a population evolving independently and exchanging
+ * {@link Migrant}s with other islands every few generations.
+ *
+ * @see IslandModel
+ *
+ * @author Benjamin_L
+ *
+ * @param <Record>
+ * 		Type of generation record of the optimization(e.g. <code>GenerationRecord</code>).
+ */
+public interface Island<Record> {
+	/**
+	 * Evolve the population for at most <code>generations</code> generations.
+	 *
+	 * @param generations
+	 * 		The number of generations to evolve.
+	 * @return <code>true</code> if the population can evolve further, <code>false</code> if it
+	 * 		has converged or reached its max generation.
+	 * @throws Exception if exceptions occur in evolution.
+	 */
+	boolean evolve(int generations) throws Exception;
+
+	/**
+	 * Get the elites to migrate.
+	 *
+	 * @param size
+	 * 		The max number of elites.
+	 * @return {@link Migrant}s of elites.
+	 */
+	Collection<Migrant> emigrants(int size);
+
+	/**
+	 * Accept {@link Migrant}s from other islands, e.g. replace the worst individuals.
+	 *
+	 * @param migrants
+	 * 		{@link Migrant}s from other islands.
+	 */
+	void immigrate(Collection<Migrant> migrants);
+
+	/**
+	 * Build a new generation record of the given {@link Migrant}s by re-evaluating them with the
+	 * calculation and data of this island, e.g. to merge final elites reported by island workers(see
+	 * {@link IslandWorkers#collect(java.util.function.Function, java.util.function.BinaryOperator, long,
+	 * java.util.concurrent.TimeUnit)}).
+	 * The record of this island is not changed.
+	 *
+	 * @param migrants
+	 * 		{@link Migrant}s to be recorded.
+	 * @return a generation record with the best of <code>migrants</code>.
+	 */
+	Record recordOf(Collection<Migrant> migrants);
+
+	Record getGenerationRecord();
+}
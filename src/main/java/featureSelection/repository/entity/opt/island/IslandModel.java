@@ -0,0 +1,186 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BinaryOperator;
+
+import lombok.Getter;
+
+/**
+ * Island model execution of optimizations: <code>N</code> {@link Island}s evolve independently,
+ * and every {@link #migrationInterval} generations each island sends its
+ * {@link #migrantSize} elites to the next island in a ring(i.e. island <code>i</code> to
+ * island <code>(i+1)%N</code>).
+ * <ul>
+ * 	<li>{@link #run(List, int, ExecutorService, BinaryOperator)}: islands as threads in this JVM,
+ * 		migrated synchronously after each epoch through an {@link InMemoryMigrationChannel}, with
+ * 		generation records merged at the end.</li>
+ * 	<li>{@link #runIsland(Island, int, int, MigrationChannel, int)}: one island in a worker
+ * 		process(see {@link IslandWorkers}), migrated asynchronously through a
+ * 		{@link SocketMigrationChannel}. Final elites are reported to the coordinator(index
+ * 		<code>N</code>) to be merged.</li>
+ * </ul>
+ *
+ * @author Benjamin_L
+ */
+public class IslandModel {
+	/**
+	 * Default number of generations between migrations.
+	 */
+	public static final int DEFAULT_MIGRATION_INTERVAL = 5;
+	/**
+	 * Default number of elites sent in a migration.
+	 */
+	public static final int DEFAULT_MIGRANT_SIZE = 2;
+
+	@Getter private final int migrationInterval;
+	@Getter private final int migrantSize;
+	/**
+	 * The number of migrations performed.
+	 */
+	@Getter private int migrations;
+
+	public IslandModel() {
+		this(DEFAULT_MIGRATION_INTERVAL, DEFAULT_MIGRANT_SIZE);
+	}
+
+	/**
+	 * Construct an island model.
+	 *
+	 * @param migrationInterval
+	 * 		The number of generations between migrations.
+	 * @param migrantSize
+	 * 		The number of elites sent in a migration.
+	 */
+	public IslandModel(int migrationInterval, int migrantSize) {
+		if (migrationInterval<=0)	throw new IllegalArgumentException("Illegal migration interval: "+migrationInterval);
+		if (migrantSize<0)			throw new IllegalArgumentException("Illegal migrant size: "+migrantSize);
+		this.migrationInterval = migrationInterval;
+		this.migrantSize = migrantSize;
+	}
+
+	/**
+	 * Run islands as threads until <code>maxGeneration</code> or all islands stop evolving.
+	 *
+	 * @param <Record>
+	 * 		Type of generation record.
+	 * @param islands
+	 * 		{@link Island}s.
+	 * @param maxGeneration
+	 * 		The max number of generations of each island.
+	 * @param executor
+	 * 		{@link ExecutorService} to run islands.
+	 * @param merger
+	 * 		{@link BinaryOperator} to merge 2 generation records into one, e.g.
+	 * 		<code>(r1, r2) -&gt; { r1.merge(r2); return r1; }</code>
+	 * @return the merged generation record.
+	 * @throws Exception if any island fails.
+	 */
+	public <Record> Record run(
+			List<? extends Island<Record>> islands, int maxGeneration, ExecutorService executor,
+			BinaryOperator<Record> merger
+	) throws Exception {
+		boolean[] evolving = new boolean[islands.size()];
+		for (int i=0; i<evolving.length; i++)	evolving[i] = true;
+
+		try (MigrationChannel channel = new InMemoryMigrationChannel(islands.size())) {
+			List<Integer> running = new ArrayList<>(islands.size());
+			List<Callable<Boolean>> tasks = new ArrayList<>(islands.size());
+			for (int generation=0; generation<maxGeneration; generation+=migrationInterval) {
+				int epoch = Math.min(migrationInterval, maxGeneration-generation);
+				running.clear();
+				tasks.clear();
+				for (int i=0; i<islands.size(); i++) {
+					if (!evolving[i])	continue;
+					Island<Record> island = islands.get(i);
+					running.add(i);
+					tasks.add(()->island.evolve(epoch));
+				}
+				if (tasks.isEmpty())	break;
+
+				List<Future<Boolean>> futures = executor.invokeAll(tasks);
+				for (int t=0; t<futures.size(); t++) {
+					try {
+						evolving[running.get(t)] = futures.get(t).get();
+					}catch (ExecutionException e) {
+						throw e.getCause() instanceof Exception? (Exception) e.getCause(): e;
+					}
+				}
+				// Ring migration: island i => island (i+1)%N.
+				if (islands.size()>1 && migrantSize>0) {
+					for (int i=0; i<islands.size(); i++)
+						channel.send(i, (i+1) % islands.size(), islands.get(i).emigrants(migrantSize));
+					for (int i=0; i<islands.size(); i++)
+						islands.get(i).immigrate(channel.receive(i));
+					migrations++;
+				}
+			}
+		}
+		Record merged = islands.get(0).getGenerationRecord();
+		for (int i=1; i<islands.size(); i++)
+			merged = merger.apply(merged, islands.get(i).getGenerationRecord());
+		return merged;
+	}
+
+	/**
+	 * Run one island(e.g. in a worker process) until <code>maxGeneration</code> or it stops
+	 * evolving, sending elites to the next island every {@link #migrationInterval} generations and
+	 * accepting the arrived ones. Final elites are sent to the coordinator at index
+	 * <code>islandCount</code>.
+	 * <p>
+	 * <code>channel</code> should keep listening after return until all islands finish, since
+	 * other islands may still send to this one(see
+	 * {@link IslandWorkers#work(Island, IslandModel, int, long, java.util.concurrent.TimeUnit)}).
+	 *
+	 * @param <Record>
+	 * 		Type of generation record.
+	 * @param island
+	 * 		The {@link Island}.
+	 * @param index
+	 * 		The index of the island.
+	 * @param islandCount
+	 * 		The number of islands.
+	 * @param channel
+	 * 		{@link MigrationChannel} of the island.
+	 * @param maxGeneration
+	 * 		The max number of generations.
+	 * @return the generation record of the island.
+	 * @throws Exception if the island fails or fails to migrate.
+	 */
+	public <Record> Record runIsland(
+			Island<Record> island, int index, int islandCount, MigrationChannel channel,
+			int maxGeneration
+	) throws Exception {
+		boolean evolving = true;
+		for (int generation=0; evolving && generation<maxGeneration; generation+=migrationInterval) {
+			evolving = island.evolve(Math.min(migrationInterval, maxGeneration-generation));
+			if (islandCount>1 && migrantSize>0) {
+				channel.send(index, (index+1) % islandCount, island.emigrants(migrantSize));
+				island.immigrate(channel.receive(index));
+				migrations++;
+			}
+		}
+		channel.send(index, islandCount, island.emigrants(Math.max(1, migrantSize)));
+		return island.getGenerationRecord();
+	}
+
+	/**
+	 * Get the best {@link Migrant}s.
+	 *
+	 * @param migrants
+	 * 		{@link Migrant}s.
+	 * @param size
+	 * 		The max number of {@link Migrant}s returned.
+	 * @return {@link Migrant}s with the greatest fitnesses, in descending order.
+	 */
+	public static List<Migrant> best(Collection<Migrant> migrants, int size) {
+		List<Migrant> sorted = new ArrayList<>(migrants);
+		sorted.sort((m1, m2)->Double.compare(m2.getFitness(), m1.getFitness()));
+		return sorted.size()>size? new ArrayList<>(sorted.subList(0, size)): sorted;
+	}
+}
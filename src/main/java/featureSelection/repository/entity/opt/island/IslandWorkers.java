@@ -0,0 +1,236 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import lombok.Getter;
+
+/**
+ * Worker processes of the island model on the local machine, each running one {@link Island} by
+ * {@link IslandModel#runIsland(Island, int, int, MigrationChannel, int)}.
+ * <p>
+ * Workers are launched with the same <code>java</code> and class path as the current JVM, and
+ * system properties {@link #PROPERTY_ISLAND_INDEX}, {@link #PROPERTY_ISLAND_COUNT} and
+ * {@link #PROPERTY_ISLAND_PORT}, so that a worker can build its channel by {@link #channel()}, or
+ * simply run its island by {@link #work(Island, IslandModel, int, long, TimeUnit)}. A
+ * command prefix per island can be set to bind workers, e.g.
+ * <code>i -&gt; Arrays.asList("numactl", "--cpunodebind="+(i % nodes), "--membind="+(i % nodes))</code>
+ * to spread islands over NUMA nodes.
+ * <p>
+ * The coordinator(this) listens as island <code>islandCount</code> to collect final elites of
+ * workers, which are turned into generation records(e.g. by {@link Island#recordOf(Collection)} of
+ * an island over the same data in this JVM) and merged the same way as
+ * {@link IslandModel#run(List, int, java.util.concurrent.ExecutorService, BinaryOperator)}. Workers keep listening after their islands finish, until the coordinator has collected
+ * final elites of all islands and shuts them down, so that islands still evolving never send to a
+ * closed port.
+ *
+ * @author Benjamin_L
+ */
+public class IslandWorkers implements AutoCloseable {
+	public static final String PROPERTY_ISLAND_INDEX = "island.index";
+	public static final String PROPERTY_ISLAND_COUNT = "island.count";
+	public static final String PROPERTY_ISLAND_PORT = "island.port";
+	/**
+	 * Default port of island 0.
+	 */
+	public static final int DEFAULT_BASE_PORT = 47100;
+	/**
+	 * Nanoseconds between checks of workers while collecting.
+	 */
+	private static final long POLL_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+	@Getter private final int islandCount;
+	@Getter private final int basePort;
+	private final List<Process> processes;
+	private final SocketMigrationChannel coordinator;
+
+	/**
+	 * Launch worker processes.
+	 *
+	 * @param mainClass
+	 * 		Main class of workers.
+	 * @param islandCount
+	 * 		The number of islands(i.e. workers).
+	 * @param basePort
+	 * 		The port of island 0.
+	 * @param commandPrefix
+	 * 		{@link IntFunction} to get the command prefix of a worker by island index.
+	 * 		<code>null</code> if none.
+	 * @param args
+	 * 		Arguments of the main class.
+	 * @throws IOException if fails to listen or launch workers.
+	 */
+	public IslandWorkers(
+			Class<?> mainClass, int islandCount, int basePort, IntFunction<List<String>> commandPrefix,
+			String...args
+	) throws IOException {
+		this.islandCount = islandCount;
+		this.basePort = basePort;
+		coordinator = new SocketMigrationChannel(islandCount, basePort);
+		processes = new ArrayList<>(islandCount);
+
+		String java = System.getProperty("java.home")+File.separator+"bin"+File.separator+"java";
+		try {
+			for (int i=0; i<islandCount; i++) {
+				List<String> command = new ArrayList<>();
+				if (commandPrefix!=null)	command.addAll(commandPrefix.apply(i));
+				command.addAll(Arrays.asList(
+					java, "-cp", System.getProperty("java.class.path"),
+					"-D"+PROPERTY_ISLAND_INDEX+"="+i,
+					"-D"+PROPERTY_ISLAND_COUNT+"="+islandCount,
+					"-D"+PROPERTY_ISLAND_PORT+"="+basePort,
+					mainClass.getName()
+				));
+				command.addAll(Arrays.asList(args));
+				processes.add(new ProcessBuilder(command).inheritIO().start());
+			}
+		}catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Wait for the final elites of all workers, then shut workers down and wait for them to exit.
+	 * Final elites of each island are recorded by <code>recorder</code> and merged by
+	 * <code>merger</code> in the order of islands.
+	 *
+	 * @param <Record>
+	 * 		Type of generation record.
+	 * @param recorder
+	 * 		{@link Function} to build the generation record of an island from its final elites, e.g.
+	 * 		{@link Island#recordOf(Collection)} of an island over the same data.
+	 * @param merger
+	 * 		{@link BinaryOperator} to merge 2 generation records into one, e.g.
+	 * 		<code>(r1, r2) -&gt; { r1.merge(r2); return r1; }</code>
+	 * @param timeout
+	 * 		The max time to wait.
+	 * @param unit
+	 * 		{@link TimeUnit} of <code>timeout</code>.
+	 * @return the merged generation record.
+	 * @throws IOException if fails to receive, final elites of any island are missing in time or
+	 * 		any worker exits abnormally.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public <Record> Record collect(
+			Function<Collection<Migrant>, Record> recorder, BinaryOperator<Record> merger,
+			long timeout, TimeUnit unit
+	) throws IOException, InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		List<Integer> missing = new ArrayList<>(islandCount);
+		for (int i=0; i<islandCount; i++)	missing.add(i);
+		while (!(missing=coordinator.awaitBatches(
+					missing, Math.min(POLL_INTERVAL, Math.max(0, deadline-System.nanoTime())),
+					TimeUnit.NANOSECONDS
+				)).isEmpty()
+		) {
+			for (int i: missing) {
+				if (!processes.get(i).isAlive()) {
+					throw new IOException("Island worker "+i+" exited with "+processes.get(i).exitValue()+
+											" before reporting final elites.");
+				}
+			}
+			if (System.nanoTime()>=deadline)
+				throw new IOException("Final elites of island workers "+missing+" timed out.");
+		}
+		Map<Integer, Collection<Migrant>> elites = coordinator.receiveBySource(islandCount);
+
+		// All islands are finished: release workers.
+		for (int i=0; i<islandCount; i++)	coordinator.shutdown(islandCount, i);
+		for (int i=0; i<processes.size(); i++) {
+			if (!processes.get(i).waitFor(Math.max(0, deadline-System.nanoTime()), TimeUnit.NANOSECONDS))
+				throw new IOException("Island worker "+i+" timed out.");
+			if (processes.get(i).exitValue()!=0)
+				throw new IOException("Island worker "+i+" exited with "+processes.get(i).exitValue());
+		}
+
+		Record merged = null, record;
+		for (int i=0; i<islandCount; i++) {
+			record = recorder.apply(elites.get(i));
+			merged = merged==null? record: merger.apply(merged, record);
+		}
+		return merged;
+	}
+
+	public List<Process> getProcesses() {
+		return Collections.unmodifiableList(processes);
+	}
+
+	/**
+	 * Kill running workers and stop listening.
+	 */
+	@Override
+	public void close() throws IOException {
+		for (Process process: processes)	if (process.isAlive())	process.destroyForcibly();
+		coordinator.close();
+	}
+
+	/**
+	 * Whether the current JVM is an island worker.
+	 *
+	 * @return <code>true</code> if {@link #PROPERTY_ISLAND_INDEX} is set.
+	 */
+	public static boolean isWorker() {
+		return System.getProperty(PROPERTY_ISLAND_INDEX)!=null;
+	}
+
+	public static int islandIndex() {
+		return Integer.getInteger(PROPERTY_ISLAND_INDEX, -1);
+	}
+
+	public static int islandCount() {
+		return Integer.getInteger(PROPERTY_ISLAND_COUNT, 1);
+	}
+
+	/**
+	 * Get the {@link SocketMigrationChannel} of the current worker.
+	 *
+	 * @return {@link SocketMigrationChannel}.
+	 * @throws IOException if fails to listen.
+	 */
+	public static SocketMigrationChannel channel() throws IOException {
+		if (!isWorker())	throw new IllegalStateException("Not an island worker.");
+		return new SocketMigrationChannel(islandIndex(), Integer.getInteger(PROPERTY_ISLAND_PORT, DEFAULT_BASE_PORT));
+	}
+
+	/**
+	 * Run the island of the current worker by
+	 * {@link IslandModel#runIsland(Island, int, int, MigrationChannel, int)} and keep listening
+	 * until the coordinator shuts it down, i.e. the body of a worker main.
+	 *
+	 * @param <Record>
+	 * 		Type of generation record.
+	 * @param island
+	 * 		The {@link Island}.
+	 * @param model
+	 * 		The {@link IslandModel}.
+	 * @param maxGeneration
+	 * 		The max number of generations.
+	 * @param timeout
+	 * 		The max time to wait for shutdown after the island finishes.
+	 * @param unit
+	 * 		{@link TimeUnit} of <code>timeout</code>.
+	 * @return the generation record of the island.
+	 * @throws Exception if the island fails, fails to migrate or isn't shut down in time.
+	 */
+	public static <Record> Record work(
+			Island<Record> island, IslandModel model, int maxGeneration, long timeout, TimeUnit unit
+	) throws Exception {
+		try (SocketMigrationChannel channel = channel()) {
+			Record record = model.runIsland(island, islandIndex(), islandCount(), channel, maxGeneration);
+			if (!channel.awaitShutdown(timeout, unit))
+				throw new IOException("Island "+islandIndex()+" is not shut down in time.");
+			return record;
+		}
+	}
+}
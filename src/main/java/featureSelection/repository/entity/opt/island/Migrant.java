@@ -0,0 +1,55 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An elite individual(<code>Chromosome</code>/<code>Particle</code>/<code>Harmony</code>/fish
+ * position) migrating between islands, in the form of its attribute subset and fitness, so that
+ * it can be re-encoded in the encoding of the target island.
+ *
+ * @author Benjamin_L
+ */
+@Getter
+@AllArgsConstructor
+public class Migrant {
+	/**
+	 * Selected attributes. (Starts from 1)
+	 */
+	private final int[] attributes;
+	/**
+	 * Fitness value in the source island, greater is better.
+	 */
+	private final double fitness;
+
+	/**
+	 * Get the indexes of {@link #attributes} in the given attributes, for encodings by attribute
+	 * indexes(e.g. particle positions, harmonies). Attributes not in <code>attributesSrc</code> are
+	 * skipped.
+	 *
+	 * @param attributesSrc
+	 * 		Attributes of the target island. (Starts from 1)
+	 * @return indexes of <code>attributesSrc</code>. (Starts from 0)
+	 */
+	public int[] attributeIndexesOf(int[] attributesSrc) {
+		Map<Integer, Integer> indexes = new HashMap<>(attributesSrc.length);
+		for (int i=0; i<attributesSrc.length; i++)	indexes.put(attributesSrc[i], i);
+		int[] attributeIndexes = new int[attributes.length];
+		int size = 0;
+		Integer index;
+		for (int attr: attributes) {
+			index = indexes.get(attr);
+			if (index!=null)	attributeIndexes[size++] = index;
+		}
+		return size==attributeIndexes.length? attributeIndexes: Arrays.copyOf(attributeIndexes, size);
+	}
+
+	@Override
+	public String toString() {
+		return "Migrant [fitness=" + fitness + ", attributes=" + Arrays.toString(attributes) + "]";
+	}
+}
@@ -0,0 +1,38 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Channel to exchange {@link Migrant}s between islands, identified by their indexes.
+ *
+ * @see InMemoryMigrationChannel
+ * @see SocketMigrationChannel
+ *
+ * @author Benjamin_L
+ */
+public interface MigrationChannel extends Closeable {
+	/**
+	 * Send {@link Migrant}s to an island.
+	 *
+	 * @param from
+	 * 		The index of the source island.
+	 * @param to
+	 * 		The index of the target island.
+	 * @param migrants
+	 * 		{@link Migrant}s to be sent.
+	 * @throws IOException if fails to send.
+	 */
+	void send(int from, int to, Collection<Migrant> migrants) throws IOException;
+
+	/**
+	 * Take all the {@link Migrant}s arrived at an island so far without blocking.
+	 *
+	 * @param island
+	 * 		The index of the island.
+	 * @return arrived {@link Migrant}s, empty if none.
+	 * @throws IOException if fails to receive.
+	 */
+	Collection<Migrant> receive(int island) throws IOException;
+}
@@ -0,0 +1,293 @@
+package featureSelection.repository.entity.opt.island;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+
+/**
+ * {@link MigrationChannel} for islands running in separate processes on the same machine, over
+ * loopback TCP sockets: island <code>i</code> listens on port <code>basePort+i</code>.
+ * <p>
+ * An instance serves <strong>one</strong> island(i.e. {@link #island}) by accepting connections
+ * in a daemon thread and buffering arrived {@link Migrant}s, so {@link #receive(int)} never
+ * blocks. {@link #send(int, int, Collection)} connects to the target island for each batch,
+ * retrying until {@link #connectTimeout} in case the target process hasn't started listening.
+ * <p>
+ * Sources of arrived batches are recorded, so that {@link #awaitBatches(Collection, long, TimeUnit)}
+ * can block until every source has reported. A finished island should keep listening until
+ * {@link #shutdown(int, int)} arrives(see {@link #awaitShutdown(long, TimeUnit)}), otherwise
+ * islands still sending to it fail to connect.
+ * <p>
+ * Batch layout: <code>from(int) | size(int) | size * [fitness(double) | length(int) |
+ * attributes(int * length)]</code>, with a size of {@link #SHUTDOWN} for shutdown.
+ *
+ * @author Benjamin_L
+ */
+public class SocketMigrationChannel implements MigrationChannel {
+	/**
+	 * Default milliseconds to wait for a target island to listen.
+	 */
+	public static final long DEFAULT_CONNECT_TIMEOUT = 30000;
+	/**
+	 * Batch size of shutdown.
+	 */
+	public static final int SHUTDOWN = -1;
+
+	@Getter private final int island;
+	@Getter private final int basePort;
+	@Getter private final long connectTimeout;
+	private final ServerSocket server;
+	/**
+	 * Arrived batches, each as an entry of its source and {@link Migrant}s.
+	 */
+	private final Queue<Map.Entry<Integer, List<Migrant>>> inbox;
+	private final Thread acceptor;
+	private volatile IOException error;
+	/**
+	 * Sources of arrived batches, guarded by itself.
+	 */
+	private final Set<Integer> senders;
+	private boolean shutdown;
+
+	/**
+	 * Construct with {@link #DEFAULT_CONNECT_TIMEOUT} and start listening on
+	 * <code>basePort+island</code>.
+	 *
+	 * @param island
+	 * 		The index of the island served.
+	 * @param basePort
+	 * 		The port of island 0.
+	 * @throws IOException if fails to listen.
+	 */
+	public SocketMigrationChannel(int island, int basePort) throws IOException {
+		this(island, basePort, DEFAULT_CONNECT_TIMEOUT);
+	}
+
+	/**
+	 * Construct and start listening on <code>basePort+island</code>.
+	 *
+	 * @param island
+	 * 		The index of the island served.
+	 * @param basePort
+	 * 		The port of island 0.
+	 * @param connectTimeout
+	 * 		Milliseconds to wait for a target island to listen.
+	 * @throws IOException if fails to listen.
+	 */
+	public SocketMigrationChannel(int island, int basePort, long connectTimeout) throws IOException {
+		this.island = island;
+		this.basePort = basePort;
+		this.connectTimeout = connectTimeout;
+		inbox = new ConcurrentLinkedQueue<>();
+		senders = new HashSet<>();
+		server = new ServerSocket();
+		server.setReuseAddress(true);
+		server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), basePort+island));
+		acceptor = new Thread(this::accept, "island-"+island+"-migration");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	private void accept() {
+		while (!server.isClosed()) {
+			try (Socket socket = server.accept();
+				DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))
+			) {
+				int from = in.readInt();
+				int size = in.readInt();
+				if (size==SHUTDOWN) {
+					synchronized (senders) {
+						shutdown = true;
+						senders.notifyAll();
+					}
+					continue;
+				}
+				List<Migrant> batch = new ArrayList<>(size);
+				for (int i=0; i<size; i++) {
+					double fitness = in.readDouble();
+					int[] attributes = new int[in.readInt()];
+					for (int a=0; a<attributes.length; a++)	attributes[a] = in.readInt();
+					batch.add(new Migrant(attributes, fitness));
+				}
+				inbox.add(new AbstractMap.SimpleImmutableEntry<>(from, batch));
+				synchronized (senders) {
+					senders.add(from);
+					senders.notifyAll();
+				}
+			}catch (IOException e) {
+				if (!server.isClosed()) {
+					synchronized (senders) {
+						error = e;
+						senders.notifyAll();
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void send(int from, int to, Collection<Migrant> migrants) throws IOException {
+		try (Socket socket = connect(to);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))
+		) {
+			out.writeInt(from);
+			out.writeInt(migrants.size());
+			for (Migrant migrant: migrants) {
+				out.writeDouble(migrant.getFitness());
+				out.writeInt(migrant.getAttributes().length);
+				for (int attr: migrant.getAttributes())	out.writeInt(attr);
+			}
+		}
+	}
+
+	/**
+	 * Tell an island to stop listening.
+	 *
+	 * @param from
+	 * 		The index of the source island.
+	 * @param to
+	 * 		The index of the island to be shut down.
+	 * @throws IOException if fails to send.
+	 */
+	public void shutdown(int from, int to) throws IOException {
+		try (Socket socket = connect(to);
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))
+		) {
+			out.writeInt(from);
+			out.writeInt(SHUTDOWN);
+		}
+	}
+
+	/**
+	 * Wait until a batch from each of the given islands has arrived.
+	 *
+	 * @param sources
+	 * 		Indexes of source islands.
+	 * @param timeout
+	 * 		The max time to wait.
+	 * @param unit
+	 * 		{@link TimeUnit} of <code>timeout</code>.
+	 * @return indexes of sources without any arrived batch, empty if all arrived.
+	 * @throws IOException if failed to receive earlier batches.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public List<Integer> awaitBatches(Collection<Integer> sources, long timeout, TimeUnit unit)
+			throws IOException, InterruptedException
+	{
+		long deadline = System.nanoTime() + unit.toNanos(timeout), remaining;
+		List<Integer> missing = new ArrayList<>(sources.size());
+		synchronized (senders) {
+			while (true) {
+				if (error!=null)	throw error;
+				missing.clear();
+				for (int source: sources)	if (!senders.contains(source))	missing.add(source);
+				remaining = deadline - System.nanoTime();
+				if (missing.isEmpty() || remaining<=0)	return missing;
+				TimeUnit.NANOSECONDS.timedWait(senders, remaining);
+			}
+		}
+	}
+
+	/**
+	 * Wait until {@link #shutdown(int, int)} arrives.
+	 *
+	 * @param timeout
+	 * 		The max time to wait.
+	 * @param unit
+	 * 		{@link TimeUnit} of <code>timeout</code>.
+	 * @return <code>true</code> if shutdown arrived, <code>false</code> if timed out.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public boolean awaitShutdown(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout), remaining;
+		synchronized (senders) {
+			while (!shutdown) {
+				remaining = deadline - System.nanoTime();
+				if (remaining<=0)	return false;
+				TimeUnit.NANOSECONDS.timedWait(senders, remaining);
+			}
+			return true;
+		}
+	}
+
+	private Socket connect(int to) throws IOException {
+		long deadline = System.currentTimeMillis() + connectTimeout;
+		while (true) {
+			try {
+				return new Socket(InetAddress.getLoopbackAddress(), basePort+to);
+			}catch (ConnectException e) {
+				if (System.currentTimeMillis()>=deadline)	throw e;
+				try {
+					Thread.sleep(50);
+				}catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Take all the {@link Migrant}s arrived so far.
+	 *
+	 * @param island
+	 * 		The index of the island, must be {@link #island}.
+	 * @throws IOException if failed to receive earlier batches.
+	 */
+	@Override
+	public Collection<Migrant> receive(int island) throws IOException {
+		Collection<Migrant> migrants = new ArrayList<>();
+		for (Collection<Migrant> batch: receiveBySource(island).values())	migrants.addAll(batch);
+		return migrants;
+	}
+
+	/**
+	 * Take all the {@link Migrant}s arrived so far, grouped by their source islands, e.g. to tell
+	 * final elites of islands apart in the coordinator.
+	 *
+	 * @param island
+	 * 		The index of the island, must be {@link #island}.
+	 * @return arrived {@link Migrant}s by the indexes of source islands, in the order of arrival.
+	 * @throws IOException if failed to receive earlier batches.
+	 */
+	public Map<Integer, Collection<Migrant>> receiveBySource(int island) throws IOException {
+		if (island!=this.island)
+			throw new IllegalArgumentException("Channel of island "+this.island+" can not receive for "+island);
+		if (error!=null)	throw error;
+		Map<Integer, Collection<Migrant>> migrants = new LinkedHashMap<>();
+		Map.Entry<Integer, List<Migrant>> batch;
+		while ((batch=inbox.poll())!=null)
+			migrants.computeIfAbsent(batch.getKey(), from->new ArrayList<>()).addAll(batch.getValue());
+		return migrants;
+	}
+
+	@Override
+	public void close() throws IOException {
+		server.close();
+		try {
+			acceptor.join(1000);
+		}catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
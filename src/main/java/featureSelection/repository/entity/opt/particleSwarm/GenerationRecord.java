@@ -140,4 +140,32 @@ public class GenerationRecord<Velocity, Posi extends Position<?>, FValue extends
 	public int countDistinctBestFitness() {
 		return distinctAttributes.size();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Merge the global best fitnesses of another record(e.g. of another island in
+	 * {@link featureSelection.repository.entity.opt.island.IslandModel}) into this one: keep the
+	 * better global best fitness value, and collect fitnesses of both if equal.
+	 * 
+	 * @param other
+	 * 		Another {@link GenerationRecord}.
+	 */
+	public void merge(GenerationRecord<Velocity, Posi, FValue> other) {
+		generation = Math.max(generation, other.generation);
+		if (other.globalBestFitness==null)	return;
+		int cmp = globalBestFitness==null? -1: 
+					Double.compare(
+						globalBestFitnessValue().doubleValue(), 
+						other.globalBestFitnessValue().doubleValue()
+					);
+		if (cmp>0)	return;
+		if (cmp<0) {
+			globalBestFitness = null;
+			globalBestFitnessCollection.clear();
+			distinctAttributes.clear();
+		}
+		for (Fitness<Posi, FValue> fitness: other.globalBestFitnessCollection) {
+			if (!distinctAttributes.contains(new IntArrayKey(fitness.getPosition().getAttributes())))
+				addGlobalBestFitness(fitness);
+		}
+	}
+}
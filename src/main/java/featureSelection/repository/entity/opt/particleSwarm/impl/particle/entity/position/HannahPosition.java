@@ -1,12 +1,9 @@
 package featureSelection.repository.entity.opt.particleSwarm.impl.particle.entity.position;
 
-import common.utils.ArrayCollectionUtils;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.opt.particleSwarm.interf.particle.entity.Position;
 
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.LinkedList;
 
 /**
  * Implementation of {@link Position} based on the paper
@@ -63,9 +60,10 @@ public class HannahPosition implements Position<byte[]> {
 	@Override
 	public int[] getAttributes() {
 		if (attributeIndexes==null) {
-			Collection<Integer> set = new LinkedList<>();
-			for (int i=0; i<position.length; i++)	if (position[i]==(byte)1)	set.add(i);
-			attributeIndexes = ArrayCollectionUtils.getIntArrayByCollection(set);
+			int count = 0;
+			for (byte b: position)	if (b==(byte)1)	count++;
+			attributeIndexes = new int[count];
+			for (int i=0, a=0; a<count; i++)	if (position[i]==(byte)1)	attributeIndexes[a++] = i;
 		}
 		return attributeIndexes;
 	}
@@ -3,12 +3,16 @@ package featureSelection.repository.entity.opt.particleSwarm.interf;
 import featureSelection.basic.model.optimization.OptimizationAlgorithm;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator.IndexedEvaluation;
 import featureSelection.repository.entity.opt.particleSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.particleSwarm.interf.fitness.Fitness;
 import featureSelection.repository.entity.opt.particleSwarm.interf.fitness.value.FitnessValue;
 import featureSelection.repository.entity.opt.particleSwarm.interf.particle.entity.Particle;
 import featureSelection.repository.entity.opt.particleSwarm.interf.particle.entity.Position;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 public interface ReductionAlgorithm<Item, Velocity, Posi extends Position<?>, FValue extends FitnessValue<?>,
@@ -64,6 +68,77 @@ public interface ReductionAlgorithm<Item, Velocity, Posi extends Position<?>, FV
 			Cal calculation, Collection<Item> collection, int[] attributesSrc,
 			@SuppressWarnings("unchecked") Particle<Velocity, Posi, FValue>...particle
 	);
+	/**
+	 * Initiate fields lazily initialised by fitness calculations(e.g. decision equivalence classes)
+	 * over the given <code>collection</code>. Called before fitnesses are calculated concurrently
+	 * by a {@link ParallelFitnessEvaluator}, so that worker threads only read them no matter which
+	 * fitnesses are hit in {@link FitnessCache}.
+	 * 
+	 * @param collection
+	 * 		{@link Instance} / <code>EquivalenceClass</code> {@link Collection}.
+	 */
+	default void initFitnessCalculation(Collection<Item> collection) {}
+	
+	/**
+	 * Calculate the fitness of given <code>particles</code> with memoized fitnesses and/or
+	 * parallel evaluation. Semantics are the same as
+	 * {@link #fitness(FeatureImportance, Collection, int[], Particle...)}:
+	 * <ul>
+	 * 	<li>Fitnesses are keyed by {@link Position#getAttributes()} of particles, cached and
+	 * 		returned as clones.</li>
+	 * 	<li>Missed ones are calculated by
+	 * 		{@link #fitness(FeatureImportance, Collection, int[], Particle...)} one by one.</li>
+	 * </ul>
+	 * 
+	 * @param calculation
+	 * 		{@link Cal} instance.
+	 * @param collection
+	 * 		{@link Instance} / <code>EquivalenceClass</code> {@link Collection}.
+	 * @param attributesSrc
+	 * 		Attributes of {@link Instance}. (Starts from 1)
+	 * @param particle
+	 * 		{@link Particle}s.
+	 * @param cache
+	 * 		{@link FitnessCache} of fitnesses. <code>null</code> if not to be cached.
+	 * @param evaluator
+	 * 		{@link ParallelFitnessEvaluator} to evaluate particles in parallel. <code>null</code>
+	 * 		to evaluate in the current thread.
+	 * @return {@link Fitness[]}.
+	 * @throws IllegalArgumentException if <code>evaluator</code> is set but fitness of
+	 * 		<code>this</code> can not be evaluated in parallel.
+	 * @see ParallelFitnessEvaluator#isParallelizable(Object)
+	 */
+	@SuppressWarnings("unchecked")
+	default Fitness<Posi, FValue>[] fitness(
+			Cal calculation, Collection<Item> collection, int[] attributesSrc,
+			Particle<Velocity, Posi, FValue>[] particle,
+			FitnessCache<Fitness<Posi, FValue>> cache, ParallelFitnessEvaluator<Cal> evaluator
+	) {
+		if (cache==null && evaluator==null)	return fitness(calculation, collection, attributesSrc, particle);
+		
+		IndexedEvaluation<Cal, Fitness<Posi, FValue>> evaluation = (cal, i) -> {
+			// Particles are copied by range to keep the runtime array type.
+			if (cache==null) {
+				return fitness(cal, collection, attributesSrc, Arrays.copyOfRange(particle, i, i+1))[0];
+			}
+			int[] attributeIndexes = particle[i].getPosition().getAttributes();
+			Fitness<Posi, FValue> fitness = cache.get(attributeIndexes);
+			if (fitness!=null)	return fitness.clone();
+			
+			fitness = fitness(cal, collection, attributesSrc, Arrays.copyOfRange(particle, i, i+1))[0];
+			cache.put(attributeIndexes, fitness.clone());
+			return fitness;
+		};
+		Fitness<Posi, FValue>[] fitness = new Fitness[particle.length];
+		if (evaluator==null) {
+			for (int i=0; i<fitness.length; i++)	fitness[i] = evaluation.evaluate(calculation, i);
+			return fitness;
+		}else {
+			ParallelFitnessEvaluator.requireParallelizable(this);
+			initFitnessCalculation(collection);
+			return evaluator.evaluate(calculation, fitness, evaluation);
+		}
+	}
 	
 	/**
 	 * Compare the given max fitness value with another fitness.
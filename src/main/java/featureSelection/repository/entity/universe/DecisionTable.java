@@ -0,0 +1,274 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A columnar Decision Table: one <code>int[]</code> column per attribute and the decision
+ * attribute as column 0, with instances addressed by <strong>row index</strong> instead of
+ * {@link Instance} objects.
+ * <p>
+ * Column indexes are the same as attribute indexes of {@link Instance}, i.e. <code>column[0]</code>
+ * is the decision attribute and <code>column[a]</code> is the conditional attribute <code>a</code>
+ * (starts from 1).
+ * <p>
+ * Partitioning by {@link #partition(IntegerIterator)} is done with an open addressing hash table
+ * over row indexes, so no key or attribute value array is allocated per row.
+ *
+ * @see RowPartition
+ *
+ * @author Benjamin_L
+ */
+public class DecisionTable {
+	/**
+	 * Max size of the open addressing table of {@link #partition(int...)}.
+	 */
+	private static final int MAX_TABLE_SIZE = 1 << 30;
+
+	/**
+	 * Attribute values in columns. <code>columns[0]</code> is the decision attribute.
+	 */
+	private final int[][] columns;
+	/**
+	 * Number of rows(i.e. |U|).
+	 */
+	@Getter private final int rowSize;
+
+	/**
+	 * Construct a {@link DecisionTable} with the given columns.
+	 *
+	 * @param columns
+	 * 		Attribute values in columns, <code>columns[0]</code> is the decision attribute. All
+	 * 		columns should share the same length.
+	 */
+	public DecisionTable(int[][] columns) {
+		if (columns.length==0)	throw new IllegalArgumentException("No column is given.");
+		for (int[] column: columns) {
+			if (column.length!=columns[0].length) {
+				throw new IllegalArgumentException(
+						"Columns with different lengths: "+column.length+" vs. "+columns[0].length
+				);
+			}
+		}
+		this.columns = columns;
+		this.rowSize = columns[0].length;
+	}
+
+	/**
+	 * Transform the given {@link Instance}s into a {@link DecisionTable}. Rows are indexed by
+	 * the iteration order of <code>instances</code>.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}.
+	 * @return A {@link DecisionTable}.
+	 */
+	public static DecisionTable of(Collection<Instance> instances) {
+		if (instances.isEmpty())	return new DecisionTable(new int[1][0]);
+		int columnSize = instances.iterator().next().getAttributeValues().length;
+		int[][] columns = new int[columnSize][instances.size()];
+		int row = 0;
+		for (Instance ins: instances) {
+			for (int c=0; c<columnSize; c++)	columns[c][row] = ins.getAttributeValue(c);
+			row++;
+		}
+		return new DecisionTable(columns);
+	}
+
+	/**
+	 * Get the number of conditional attributes(i.e. |C|).
+	 *
+	 * @return the number of conditional attributes.
+	 */
+	public int getAttributeSize() {
+		return columns.length-1;
+	}
+
+	/**
+	 * Get the column of the given attribute. The returned array is the internal storage and
+	 * should not be modified.
+	 *
+	 * @param attribute
+	 * 		The attribute index. (Starts from 1, 0 as the decision attribute)
+	 * @return Values of the attribute in rows.
+	 */
+	public int[] getColumn(int attribute) {
+		return columns[attribute];
+	}
+
+	/**
+	 * Get the decision column. The returned array is the internal storage and should not be
+	 * modified.
+	 *
+	 * @return Decision values in rows.
+	 */
+	public int[] getDecisionColumn() {
+		return columns[0];
+	}
+
+	/**
+	 * Get the value of the given attribute at the given row.
+	 *
+	 * @param row
+	 * 		The row index. (Starts from 0)
+	 * @param attribute
+	 * 		The attribute index. (Starts from 1, 0 as the decision attribute)
+	 * @return The attribute value.
+	 */
+	public int getValue(int row, int attribute) {
+		return columns[attribute][row];
+	}
+
+	/**
+	 * Get the decision value of the given row.
+	 *
+	 * @param row
+	 * 		The row index. (Starts from 0)
+	 * @return The decision value.
+	 */
+	public int getDecisionValue(int row) {
+		return columns[0][row];
+	}
+
+	/**
+	 * Get the values of the given attributes at the given row.
+	 *
+	 * @param row
+	 * 		The row index. (Starts from 0)
+	 * @param attributes
+	 * 		Attributes of the row. (Starts from 1, 0 as the decision attribute)
+	 * @return Attribute values in an <code>int[]</code>.
+	 */
+	public int[] valuesOf(int row, int...attributes) {
+		int[] values = new int[attributes.length];
+		for (int i=0; i<values.length; i++)	values[i] = columns[attributes[i]][row];
+		return values;
+	}
+
+	/**
+	 * Get all the conditional attribute values at the given row, in the same order as
+	 * {@link Instance#getConditionAttributeValues()}.
+	 *
+	 * @param row
+	 * 		The row index. (Starts from 0)
+	 * @return Conditional attribute values in an <code>int[]</code>.
+	 */
+	public int[] conditionValuesOf(int row) {
+		int[] values = new int[columns.length-1];
+		for (int i=0; i<values.length; i++)	values[i] = columns[i+1][row];
+		return values;
+	}
+
+	/**
+	 * Partition rows by the given attributes: U/B.
+	 *
+	 * @param attributes
+	 * 		Attributes to partition rows. (Starts from 1)
+	 * @return {@link RowPartition} with the equivalence class index of every row.
+	 */
+	public RowPartition partition(IntegerIterator attributes) {
+		return partition(toArray(attributes));
+	}
+
+	/**
+	 * Partition rows by the given attributes: U/B.
+	 * <p>
+	 * Rows are hashed directly from the columns into an open addressing table whose slots
+	 * hold equivalence class indexes. Collisions are resolved by comparing the row with the
+	 * representative row of the class in the slot.
+	 *
+	 * @param attributes
+	 * 		Attributes to partition rows. (Starts from 1)
+	 * @return {@link RowPartition} with the equivalence class index of every row.
+	 * @throws IllegalStateException if there are more than 2<sup>30</sup> rows, which may not
+	 * 		fit in the table.
+	 */
+	public RowPartition partition(int...attributes) {
+		if (rowSize>MAX_TABLE_SIZE)
+			throw new IllegalStateException("Too many rows to partition: "+rowSize);
+		int[] classIndexes = new int[rowSize];
+		int[] representatives = new int[Math.max(16, Math.min(rowSize, 1024))];
+		int classSize = 0;
+
+		int mask = tableSizeFor((long) rowSize * 2) - 1;
+		int[] slots = new int[mask+1];
+		Arrays.fill(slots, -1);
+
+		int pos;
+		for (int row=0; row<rowSize; row++) {
+			pos = hashOf(row, attributes) & mask;
+			while (slots[pos]!=-1 && !sameValues(representatives[slots[pos]], row, attributes)) {
+				pos = (pos+1) & mask;
+			}
+			// new equivalence class.
+			if (slots[pos]==-1) {
+				if (classSize==representatives.length) {
+					representatives = Arrays.copyOf(representatives, representatives.length << 1);
+				}
+				representatives[classSize] = row;
+				slots[pos] = classSize++;
+			}
+			classIndexes[row] = slots[pos];
+		}
+		return new RowPartition(classSize, classIndexes, Arrays.copyOf(representatives, classSize));
+	}
+
+	/**
+	 * Check whether the 2 given rows share the same values of the given attributes.
+	 *
+	 * @param row1
+	 * 		A row index.
+	 * @param row2
+	 * 		Another row index.
+	 * @param attributes
+	 * 		Attributes to be compared. (Starts from 1)
+	 * @return true if rows are equal.
+	 */
+	public boolean sameValues(int row1, int row2, int...attributes) {
+		int[] column;
+		for (int attr: attributes) {
+			column = columns[attr];
+			if (column[row1]!=column[row2])	return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Calculate the hash code of the given row based on the given attributes, consistent with
+	 * {@link #sameValues(int, int, int...)}.
+	 *
+	 * @param row
+	 * 		The row index.
+	 * @param attributes
+	 * 		Attributes to be hashed. (Starts from 1)
+	 * @return hash code.
+	 */
+	public int hashOf(int row, int...attributes) {
+		int h = 1;
+		for (int attr: attributes)	h = 31 * h + columns[attr][row];
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Transform the given {@link IntegerIterator} into an <code>int[]</code>.
+	 *
+	 * @param attributes
+	 * 		An {@link IntegerIterator}.
+	 * @return An <code>int[]</code>.
+	 */
+	public static int[] toArray(IntegerIterator attributes) {
+		int[] array = new int[attributes.size()];
+		attributes.reset();
+		for (int i=0; i<array.length; i++)	array[i] = attributes.next();
+		return array;
+	}
+
+	static int tableSizeFor(long capacity) {
+		int size = 16;
+		while (size < capacity && size < MAX_TABLE_SIZE)	size <<= 1;
+		return size;
+	}
+}
@@ -0,0 +1,405 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A versioned binary on-disk format of {@link DecisionTable}s, for reloading large data sets
+ * without re-parsing text. Loaded by memory mapping column blocks.
+ * <p>
+ * Layout(big-endian):
+ * <pre>
+ * int    magic: "FSDT"
+ * short  version
+ * short  flags: {@link #FLAG_MISSING_MASKS} | {@link #FLAG_DICTIONARIES}
+ * int    row size: |U|
+ * int    column size: |C|+1
+ * long   offset of column blocks
+ * for every column: int cardinality, int min, int max, byte width(1/2/4 bytes)
+ * [dictionaries] for every column: int size(0 for none), size * (int length, UTF-8 bytes)
+ * [missing masks] for every column: int word size(0 for none), word size * long
+ * column blocks: for every column, row size * width bytes
+ * </pre>
+ * Column 0 is the decision attribute and column <code>a</code> is the conditional attribute
+ * <code>a</code>, the same as {@link DecisionTable}. Missing values({@link
+ * IncompleteInstance#MISSING_VALUE}) are marked in masks and restored when loaded.
+ * Dictionaries map value codes(starts from 1) back to the original values.
+ *
+ * @see DecisionTable
+ * @see DelimitedRowReader
+ *
+ * @author Benjamin_L
+ */
+public class DecisionTableFile {
+	public static final int MAGIC = 0x46534454;
+	public static final short VERSION = 1;
+
+	public static final short FLAG_MISSING_MASKS = 1;
+	public static final short FLAG_DICTIONARIES = 1 << 1;
+
+	/**
+	 * Size of the fixed part of the header in bytes.
+	 */
+	private static final int FIXED_HEADER_SIZE = 4 + 2 + 2 + 4 + 4 + 8;
+	/**
+	 * Max size of a mapped window, aligned to all widths.
+	 */
+	private static final long MAX_WINDOW = Integer.MAX_VALUE & ~7L;
+
+	@Getter private final DecisionTable table;
+	private final int[] cardinalities;
+	private final List<String>[] dictionaries;
+	/**
+	 * Whether there are missing values in the table.
+	 */
+	@Getter private final boolean missingValues;
+
+	private DecisionTableFile(
+			DecisionTable table, int[] cardinalities, List<String>[] dictionaries,
+			boolean missingValues
+	) {
+		this.table = table;
+		this.cardinalities = cardinalities;
+		this.dictionaries = dictionaries;
+		this.missingValues = missingValues;
+	}
+
+	/**
+	 * Get the number of distinct (non-missing) values of the given attribute.
+	 *
+	 * @param attribute
+	 * 		The attribute index. (Starts from 1, 0 as the decision attribute)
+	 * @return the cardinality.
+	 */
+	public int getCardinality(int attribute) {
+		return cardinalities[attribute];
+	}
+
+	/**
+	 * Get the dictionary of the given attribute: the original value of code <code>v</code> is
+	 * at <code>v-1</code>.
+	 *
+	 * @param attribute
+	 * 		The attribute index. (Starts from 1, 0 as the decision attribute)
+	 * @return {@link List} of original values or <code>null</code> if not dictionary encoded.
+	 */
+	public List<String> getDictionary(int attribute) {
+		return dictionaries==null? null: dictionaries[attribute];
+	}
+
+	/**
+	 * Transform the loaded table into {@link Instance}s in row order, rows with missing values
+	 * are transformed into {@link IncompleteInstance}s.
+	 *
+	 * @return {@link Instance} {@link List}.
+	 */
+	public List<Instance> toInstances() {
+		int columnSize = table.getAttributeSize()+1;
+		List<Instance> instances = new ArrayList<>(table.getRowSize());
+		for (int row=0; row<table.getRowSize(); row++) {
+			int[] values = new int[columnSize];
+			boolean missing = false;
+			for (int c=0; c<columnSize; c++) {
+				values[c] = table.getValue(row, c);
+				if (c!=0 && values[c]==IncompleteInstance.MISSING_VALUE)	missing = true;
+			}
+			instances.add(missing? new IncompleteInstance(values): new Instance(values));
+		}
+		return instances;
+	}
+
+	/*---------------------------------------- Write ----------------------------------------*/
+
+	/**
+	 * Write the given {@link Instance}s into <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the file.
+	 * @param instances
+	 * 		{@link Instance}s to be written.
+	 * @throws IOException if fails to write.
+	 */
+	public static void write(Path file, Collection<Instance> instances) throws IOException {
+		write(file, DecisionTable.of(instances), null);
+	}
+
+	/**
+	 * Write the rows of the given {@link DelimitedRowReader} with its dictionaries into
+	 * <code>file</code>. Missing values of the reader({@link DelimitedRowReader#getMissingValue()})
+	 * are written in masks.
+	 *
+	 * @param file
+	 * 		{@link Path} of the file.
+	 * @param reader
+	 * 		{@link DelimitedRowReader} whose remaining rows are written.
+	 * @throws IOException if fails to read or write.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void write(Path file, DelimitedRowReader reader) throws IOException {
+		DecisionTable table = reader.readDecisionTable();
+		List<String>[] dictionaries = null;
+		if (!reader.isNumeric()) {
+			dictionaries = new List[table.getAttributeSize()+1];
+			for (int c=0; c<dictionaries.length; c++)	dictionaries[c] = reader.dictionaryOf(c);
+		}
+		write(file, table, dictionaries);
+	}
+
+	/**
+	 * Write the given {@link DecisionTable} into <code>file</code>.
+	 *
+	 * @param file
+	 * 		{@link Path} of the file.
+	 * @param table
+	 * 		{@link DecisionTable} to be written.
+	 * @param dictionaries
+	 * 		Dictionaries of columns(the original value of code <code>v</code> at <code>v-1</code>)
+	 * 		or <code>null</code> if not dictionary encoded.
+	 * @throws IOException if fails to write.
+	 */
+	public static void write(Path file, DecisionTable table, List<String>[] dictionaries)
+			throws IOException
+	{
+		int rowSize = table.getRowSize(), columnSize = table.getAttributeSize()+1;
+		if (dictionaries!=null && dictionaries.length!=columnSize) {
+			throw new IllegalArgumentException(
+					"Dictionaries of "+dictionaries.length+" columns while expecting "+columnSize
+			);
+		}
+
+		int[] cardinalities = new int[columnSize], mins = new int[columnSize], maxs = new int[columnSize];
+		byte[] widths = new byte[columnSize];
+		long[][] masks = new long[columnSize][];
+		boolean missing = false;
+		for (int c=0; c<columnSize; c++) {
+			int[] column = table.getColumn(c);
+			masks[c] = c==0? null: missingMask(column);
+			if (masks[c]!=null)	missing = true;
+			int[] sorted = c==0?
+							Arrays.stream(column).sorted().toArray():
+							Arrays.stream(column).filter(v->v!=IncompleteInstance.MISSING_VALUE).sorted().toArray();
+			mins[c] = sorted.length==0? 0: sorted[0];
+			maxs[c] = sorted.length==0? 0: sorted[sorted.length-1];
+			cardinalities[c] = distinctOfSorted(sorted);
+			widths[c] = widthOf(mins[c], maxs[c]);
+		}
+
+		short flags = 0;
+		if (missing)				flags |= FLAG_MISSING_MASKS;
+		if (dictionaries!=null)		flags |= FLAG_DICTIONARIES;
+
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+		)) {
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16)
+			);
+			// Header
+			out.writeInt(MAGIC);
+			out.writeShort(VERSION);
+			out.writeShort(flags);
+			out.writeInt(rowSize);
+			out.writeInt(columnSize);
+			out.writeLong(0);	// offset of column blocks, updated later.
+			for (int c=0; c<columnSize; c++) {
+				out.writeInt(cardinalities[c]);
+				out.writeInt(mins[c]);
+				out.writeInt(maxs[c]);
+				out.writeByte(widths[c]);
+			}
+			if (dictionaries!=null) {
+				for (List<String> dictionary: dictionaries) {
+					out.writeInt(dictionary==null? 0: dictionary.size());
+					if (dictionary==null)	continue;
+					for (String value: dictionary) {
+						byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+						out.writeInt(bytes.length);
+						out.write(bytes);
+					}
+				}
+			}
+			if (missing) {
+				for (long[] mask: masks) {
+					out.writeInt(mask==null? 0: mask.length);
+					if (mask==null)	continue;
+					for (long word: mask)	out.writeLong(word);
+				}
+			}
+			out.flush();
+			long dataOffset = channel.position();
+			// Column blocks
+			for (int c=0; c<columnSize; c++) {
+				int[] column = table.getColumn(c);
+				for (int value: column) {
+					if (value==IncompleteInstance.MISSING_VALUE && c!=0)	value = 0;
+					switch (widths[c]) {
+						case 1:	out.writeByte(value);	break;
+						case 2:	out.writeShort(value);	break;
+						default:	out.writeInt(value);	break;
+					}
+				}
+			}
+			out.flush();
+			// Update the offset of column blocks.
+			ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+			offset.putLong(dataOffset).flip();
+			channel.write(offset, FIXED_HEADER_SIZE - Long.BYTES);
+		}
+	}
+
+	private static long[] missingMask(int[] column) {
+		long[] mask = null;
+		for (int row=0; row<column.length; row++) {
+			if (column[row]==IncompleteInstance.MISSING_VALUE) {
+				if (mask==null)	mask = new long[(column.length + 63) >>> 6];
+				mask[row >>> 6] |= 1L << row;
+			}
+		}
+		return mask;
+	}
+
+	private static int distinctOfSorted(int[] sorted) {
+		int distinct = sorted.length==0? 0: 1;
+		for (int i=1; i<sorted.length; i++) {
+			if (sorted[i]!=sorted[i-1])	distinct++;
+		}
+		return distinct;
+	}
+
+	private static byte widthOf(int min, int max) {
+		if (min>=0 && max<=0xFF)	return 1;
+		if (min>=0 && max<=0xFFFF)	return 2;
+		return 4;
+	}
+
+	/*---------------------------------------- Read ----------------------------------------*/
+
+	/**
+	 * Load a {@link DecisionTableFile} from <code>file</code>. Column blocks are memory mapped
+	 * and decoded into the columns of a {@link DecisionTable}.
+	 *
+	 * @param file
+	 * 		{@link Path} of the file.
+	 * @return {@link DecisionTableFile}.
+	 * @throws IOException if fails to read or the file is not in this format.
+	 */
+	@SuppressWarnings("unchecked")
+	public static DecisionTableFile read(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			DataInputStream in = new DataInputStream(
+					new BufferedInputStream(Channels.newInputStream(channel), 1 << 16)
+			);
+			// Header
+			if (in.readInt()!=MAGIC)	throw new IOException("Not a decision table file: "+file);
+			short version = in.readShort();
+			if (version!=VERSION)		throw new IOException("Unsupported version: "+version);
+			short flags = in.readShort();
+			int rowSize = in.readInt(), columnSize = in.readInt();
+			long dataOffset = in.readLong();
+
+			int[] cardinalities = new int[columnSize];
+			byte[] widths = new byte[columnSize];
+			for (int c=0; c<columnSize; c++) {
+				cardinalities[c] = in.readInt();
+				in.readInt();	// min
+				in.readInt();	// max
+				widths[c] = in.readByte();
+			}
+			List<String>[] dictionaries = null;
+			if ((flags & FLAG_DICTIONARIES)!=0) {
+				dictionaries = new List[columnSize];
+				for (int c=0; c<columnSize; c++) {
+					int size = in.readInt();
+					if (size==0)	continue;
+					dictionaries[c] = new ArrayList<>(size);
+					for (int i=0; i<size; i++) {
+						byte[] bytes = new byte[in.readInt()];
+						in.readFully(bytes);
+						dictionaries[c].add(new String(bytes, StandardCharsets.UTF_8));
+					}
+				}
+			}
+			long[][] masks = new long[columnSize][];
+			boolean missing = (flags & FLAG_MISSING_MASKS)!=0;
+			if (missing) {
+				for (int c=0; c<columnSize; c++) {
+					int words = in.readInt();
+					if (words==0)	continue;
+					masks[c] = new long[words];
+					for (int i=0; i<words; i++)	masks[c][i] = in.readLong();
+				}
+			}
+			// Column blocks
+			int[][] columns = new int[columnSize][];
+			long position = dataOffset;
+			for (int c=0; c<columnSize; c++) {
+				columns[c] = readColumn(channel, position, rowSize, widths[c]);
+				position += (long) rowSize * widths[c];
+				if (masks[c]!=null)	restoreMissingValues(columns[c], masks[c]);
+			}
+			return new DecisionTableFile(new DecisionTable(columns), cardinalities, dictionaries, missing);
+		}
+	}
+
+	/**
+	 * Read a column block by mapping windows of at most {@link #MAX_WINDOW} bytes.
+	 */
+	private static int[] readColumn(FileChannel channel, long position, int rowSize, byte width)
+			throws IOException
+	{
+		int[] column = new int[rowSize];
+		long windowRows = MAX_WINDOW / width;
+		for (int from=0; from<rowSize; ) {
+			int rows = (int) Math.min(windowRows, rowSize-from);
+			MappedByteBuffer window =
+					channel.map(FileChannel.MapMode.READ_ONLY, position + (long) from * width, (long) rows * width);
+			switch (width) {
+				case 1:
+					for (int i=0; i<rows; i++)	column[from+i] = window.get() & 0xFF;
+					break;
+				case 2:
+					for (int i=0; i<rows; i++)	column[from+i] = window.getShort() & 0xFFFF;
+					break;
+				default:
+					window.asIntBuffer().get(column, from, rows);
+					break;
+			}
+			from += rows;
+		}
+		return column;
+	}
+
+	private static void restoreMissingValues(int[] column, long[] mask) {
+		for (int w=0; w<mask.length; w++) {
+			for (long word=mask[w]; word!=0; word&=word-1) {
+				column[(w << 6) + Long.numberOfTrailingZeros(word)] = IncompleteInstance.MISSING_VALUE;
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(rows=%d, attributes=%d, missing=%b, dictionaries=%b)",
+				getClass().getSimpleName(), table.getRowSize(), table.getAttributeSize(),
+				missingValues, dictionaries!=null
+		);
+	}
+}
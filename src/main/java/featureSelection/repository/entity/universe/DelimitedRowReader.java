@@ -0,0 +1,362 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A streaming reader of delimited(e.g. CSV) data set files, reading the file in chunks through a
+ * {@link FileChannel} and emitting every row as an <code>int[]</code> in the same format as
+ * {@link Instance#getAttributeValues()}: <code>[decision, a1, a2, ..., an]</code>.
+ * <p>
+ * No {@link Instance} or line {@link String} is created, and the row array is <strong>reused
+ * </strong> between rows, so that callers can compress rows(e.g. into equivalence classes) with
+ * memory in proportion to the compressed result instead of |U|.
+ * <p>
+ * Values are encoded by column:
+ * <ul>
+ * 	<li>{@link #numeric}: values are parsed as integers directly from bytes.</li>
+ * 	<li>otherwise: values are encoded as integers starting from 1 in the order of their first
+ * 		appearance in the column.</li>
+ * </ul>
+ * Conditional values equal to {@link #missingValue}(if set) are read as
+ * {@link IncompleteInstance#MISSING_VALUE} and excluded from dictionaries. A missing decision
+ * value is malformed.
+ * <p>
+ * Empty lines are skipped, spaces/tabs around values are trimmed.
+ *
+ * @author Benjamin_L
+ */
+public class DelimitedRowReader implements Closeable {
+	/**
+	 * Default size of a chunk in bytes.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+	/**
+	 * Default token of missing values.
+	 */
+	public static final String DEFAULT_MISSING_VALUE = "?";
+
+	private final FileChannel channel;
+	private final ByteBuffer chunk;
+	private final byte delimiter;
+	/**
+	 * Index of the decision column in file, negative as counting from the last one, i.e. -1 is
+	 * the last column.
+	 */
+	private final int decisionColumn;
+	@Getter private final boolean numeric;
+	/**
+	 * Token of missing values, <code>null</code> if no missing value.
+	 */
+	@Getter private final String missingValue;
+	private final byte[] missingValueBytes;
+
+	/**
+	 * Value dictionaries of columns(in file order) when not {@link #numeric}.
+	 */
+	private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+	/**
+	 * Number of columns(decision included), determined by the first row.
+	 */
+	@Getter private int columnSize = -1;
+	/**
+	 * Number of rows read.
+	 */
+	@Getter private int rowSize = 0;
+
+	/**
+	 * Construct a reader with {@link #DEFAULT_CHUNK_SIZE}.
+	 *
+	 * @param file
+	 * 		{@link Path} of the data set file.
+	 * @param delimiter
+	 * 		The delimiter of values, e.g. <code>','</code>.
+	 * @param decisionColumn
+	 * 		The index of the decision column(starts from 0), negative as counting from the last,
+	 * 		i.e. -1 for the last column.
+	 * @param numeric
+	 * 		Whether values are integers to be parsed directly.
+	 * @throws IOException if fails to open the file.
+	 */
+	public DelimitedRowReader(Path file, char delimiter, int decisionColumn, boolean numeric)
+			throws IOException
+	{
+		this(file, delimiter, decisionColumn, numeric, null, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Construct a reader with {@link #DEFAULT_CHUNK_SIZE} for data set files with missing values.
+	 *
+	 * @param file
+	 * 		{@link Path} of the data set file.
+	 * @param delimiter
+	 * 		The delimiter of values, e.g. <code>','</code>.
+	 * @param decisionColumn
+	 * 		The index of the decision column(starts from 0), negative as counting from the last,
+	 * 		i.e. -1 for the last column.
+	 * @param numeric
+	 * 		Whether values are integers to be parsed directly.
+	 * @param missingValue
+	 * 		Token of missing values, e.g. {@link #DEFAULT_MISSING_VALUE}. <code>null</code> if no
+	 * 		missing value.
+	 * @throws IOException if fails to open the file.
+	 */
+	public DelimitedRowReader(
+			Path file, char delimiter, int decisionColumn, boolean numeric, String missingValue
+	) throws IOException {
+		this(file, delimiter, decisionColumn, numeric, missingValue, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Construct a reader.
+	 *
+	 * @param file
+	 * 		{@link Path} of the data set file.
+	 * @param delimiter
+	 * 		The delimiter of values, e.g. <code>','</code>. Should be a single byte character.
+	 * @param decisionColumn
+	 * 		The index of the decision column(starts from 0), negative as counting from the last,
+	 * 		i.e. -1 for the last column.
+	 * @param numeric
+	 * 		Whether values are integers to be parsed directly.
+	 * @param missingValue
+	 * 		Token of missing values, e.g. {@link #DEFAULT_MISSING_VALUE}. <code>null</code> if no
+	 * 		missing value.
+	 * @param chunkSize
+	 * 		The size of a chunk read from the file in bytes.
+	 * @throws IOException if fails to open the file.
+	 */
+	public DelimitedRowReader(
+			Path file, char delimiter, int decisionColumn, boolean numeric, String missingValue,
+			int chunkSize
+	) throws IOException {
+		if (delimiter>0x7F)	throw new IllegalArgumentException("Illegal delimiter: "+delimiter);
+		if (chunkSize<=0)	throw new IllegalArgumentException("Illegal chunk size: "+chunkSize);
+		if (missingValue!=null && (missingValue.isEmpty() || missingValue.indexOf(delimiter)>=0)) {
+			throw new IllegalArgumentException("Illegal missing value token: \""+missingValue+"\"");
+		}
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.chunk = ByteBuffer.allocateDirect(chunkSize);
+		this.delimiter = (byte) delimiter;
+		this.decisionColumn = decisionColumn;
+		this.numeric = numeric;
+		this.missingValue = missingValue;
+		this.missingValueBytes = missingValue==null? null: missingValue.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read all the (remaining) rows and pass them to <code>consumer</code> in file order.
+	 * <p>
+	 * <strong>Notice</strong>: the array passed to <code>consumer</code> is reused for every
+	 * row, copy it if it needs to be kept.
+	 *
+	 * @param consumer
+	 * 		{@link Consumer} of rows in the format of <code>[decision, a1, a2, ..., an]</code>.
+	 * @return the number of rows read.
+	 * @throws IOException if fails to read the file or the file is malformed.
+	 */
+	public int forEachRow(Consumer<int[]> consumer) throws IOException {
+		int[] values = new int[columnSize==-1? 16: columnSize], row = null;
+		byte[] token = new byte[64];
+		int tokenLength = 0, column = 0, line = 1, count = 0;
+		boolean emptyLine = true, endOfFile = false;
+
+		chunk.clear().flip();
+		while (true) {
+			byte b;
+			if (chunk.hasRemaining()) {
+				b = chunk.get();
+			}else if (!endOfFile) {
+				// Read the next chunk.
+				chunk.clear();
+				endOfFile = channel.read(chunk)==-1;
+				chunk.flip();
+				continue;
+			}else if (!emptyLine || column>0) {
+				// The last line without line break.
+				b = '\n';
+			}else {
+				break;
+			}
+
+			if (b=='\n' && emptyLine && column==0) {
+				// Skip empty lines.
+				line++;
+			}else if (b=='\n' || b==delimiter) {
+				// Trim trailing spaces.
+				while (tokenLength>0 && isSpace(token[tokenLength-1]))	tokenLength--;
+				if (column==values.length) {
+					if (columnSize!=-1)	throw malformed(line, "more than "+columnSize+" columns");
+					values = Arrays.copyOf(values, values.length << 1);
+				}
+				values[column] = encode(column, token, tokenLength, line);
+				tokenLength = 0;
+				column++;
+				if (b=='\n') {
+					if (columnSize==-1) {
+						columnSize = column;
+					}else if (column!=columnSize) {
+						throw malformed(line, column+" columns while expecting "+columnSize);
+					}
+					if (row==null)	row = new int[columnSize];
+					toRow(values, row);
+					if (missingValue!=null && row[0]==IncompleteInstance.MISSING_VALUE)
+						throw malformed(line, "missing decision value");
+					consumer.accept(row);
+					rowSize++;
+					count++;
+					column = 0;
+					emptyLine = true;
+					line++;
+				}
+			}else if (b!='\r' && !(tokenLength==0 && isSpace(b))) {
+				if (tokenLength==token.length)	token = Arrays.copyOf(token, token.length << 1);
+				token[tokenLength++] = b;
+				emptyLine = false;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Read all the (remaining) rows into a columnar {@link DecisionTable}.
+	 *
+	 * @return {@link DecisionTable}.
+	 * @throws IOException if fails to read the file or the file is malformed.
+	 */
+	public DecisionTable readDecisionTable() throws IOException {
+		int[][][] columns = new int[1][][];
+		int[] size = new int[1];
+		forEachRow(row->{
+			if (columns[0]==null)	columns[0] = new int[row.length][1024];
+			if (size[0]==columns[0][0].length) {
+				for (int c=0; c<row.length; c++)
+					columns[0][c] = Arrays.copyOf(columns[0][c], columns[0][c].length << 1);
+			}
+			for (int c=0; c<row.length; c++)	columns[0][c][size[0]] = row[c];
+			size[0]++;
+		});
+		if (columns[0]==null)	return new DecisionTable(new int[Math.max(1, columnSize)][0]);
+		for (int c=0; c<columns[0].length; c++)	columns[0][c] = Arrays.copyOf(columns[0][c], size[0]);
+		return new DecisionTable(columns[0]);
+	}
+
+	/**
+	 * Get the dictionary of the given attribute: the original value of code <code>v</code> is
+	 * at <code>v-1</code>.
+	 *
+	 * @param attribute
+	 * 		The attribute index in rows. (Starts from 1, 0 as the decision attribute)
+	 * @return {@link List} of original values or <code>null</code> if {@link #numeric} or no
+	 * 		row has been read. An empty {@link List} if no value of the attribute has been read,
+	 * 		e.g. all values read are missing.
+	 */
+	public List<String> dictionaryOf(int attribute) {
+		if (numeric || columnSize==-1)	return null;
+		int decision = decisionColumnIndex();
+		int column = attribute==0? decision: (attribute-1<decision? attribute-1: attribute);
+		// Dictionaries grow with the 1st non-missing value of columns only.
+		if (column>=dictionaries.size())	return new ArrayList<>();
+		List<String> dictionary = new ArrayList<>(Collections.nCopies(dictionaries.get(column).size(), null));
+		for (Map.Entry<String, Integer> entry: dictionaries.get(column).entrySet()) {
+			dictionary.set(entry.getValue()-1, entry.getKey());
+		}
+		return dictionary;
+	}
+
+	private static boolean isSpace(byte b) {
+		return b==' ' || b=='\t';
+	}
+
+	/**
+	 * Encode a value of the given column(in file order).
+	 */
+	private int encode(int column, byte[] token, int length, int line) throws IOException {
+		if (isMissingValue(token, length))	return IncompleteInstance.MISSING_VALUE;
+		if (numeric)	return parseInt(token, length, line);
+		// Dictionaries of the first row are created along with columns.
+		while (dictionaries.size()<=column)	dictionaries.add(new HashMap<>());
+		Map<String, Integer> dictionary = dictionaries.get(column);
+		String value = new String(token, 0, length, StandardCharsets.UTF_8);
+		Integer code = dictionary.get(value);
+		if (code==null)	dictionary.put(value, code=dictionary.size()+1);
+		return code;
+	}
+
+	private boolean isMissingValue(byte[] token, int length) {
+		if (missingValueBytes==null || missingValueBytes.length!=length)	return false;
+		for (int i=0; i<length; i++) {
+			if (token[i]!=missingValueBytes[i])	return false;
+		}
+		return true;
+	}
+
+	private static int parseInt(byte[] token, int length, int line) throws IOException {
+		int i = 0;
+		boolean negative = length>0 && token[0]=='-';
+		if (length>0 && (negative || token[0]=='+'))	i++;
+		if (i==length)	throw illegalInteger(token, length, line);
+		long value = 0;
+		for (; i<length; i++) {
+			if (token[i]<'0' || token[i]>'9')	throw illegalInteger(token, length, line);
+			value = value*10 + (token[i]-'0');
+			if (value>Integer.MAX_VALUE+1L)		throw illegalInteger(token, length, line);
+		}
+		if (!negative && value>Integer.MAX_VALUE)	throw illegalInteger(token, length, line);
+		return (int) (negative? -value: value);
+	}
+
+	private static IOException illegalInteger(byte[] token, int length, int line) {
+		return malformed(line, "illegal integer \""+new String(token, 0, length, StandardCharsets.UTF_8)+"\"");
+	}
+
+	/**
+	 * Re-arrange values in file order into <code>row</code>: [decision, a1, a2, ..., an].
+	 */
+	private void toRow(int[] values, int[] row) {
+		int decision = decisionColumnIndex();
+		row[0] = values[decision];
+		for (int c=0, a=1; c<columnSize; c++) {
+			if (c!=decision)	row[a++] = values[c];
+		}
+	}
+
+	private int decisionColumnIndex() {
+		int index = decisionColumn<0? columnSize+decisionColumn: decisionColumn;
+		if (index<0 || index>=columnSize)
+			throw new IllegalArgumentException("Illegal decision column: "+decisionColumn);
+		return index;
+	}
+
+	private static IOException malformed(int line, String message) {
+		return new IOException("Malformed row at line "+line+": "+message);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(columns=%d, rows=%d, numeric=%b, missingValue=%s)",
+				getClass().getSimpleName(), columnSize, rowSize, numeric, missingValue
+		);
+	}
+}
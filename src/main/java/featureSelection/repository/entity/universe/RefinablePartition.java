@@ -0,0 +1,453 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A refinable partition of {@link Instance}s: <strong>U/B</strong> held as blocks of primitive
+ * row indexes, which can be refined by one more attribute into <strong>U/(B ∪ {a})</strong>
+ * in O(|U|) without rebuilding keys of <strong>B ∪ {a}</strong>.
+ * <p>
+ * Rows of the same equivalence class are stored contiguously in {@link #rows}, with the
+ * <code>i</code>th block in [<code>blockStarts[i]</code>, <code>blockStarts[i+1]</code>).
+ * Refinement splits every block by a counting sort over the dictionary encoded values of the
+ * attribute, blocks of a single row are copied directly.
+ * <p>
+ * Refinements of the same {@link Instance}s share a {@link Columns} cache, so that each column is
+ * dictionary encoded only once. As a result, a heuristic QR loop keeps U/red as a
+ * {@link RefinablePartition} and refines it by every candidate attribute instead of re-hashing
+ * U on |red|+1 attributes, then replaces U/red by its refinement of the selected attribute.
+ * <p>
+ * Measures based on U/B(e.g. positive region) are memorised in the partition.
+ * <p>
+ * The column cache is safe to be shared by threads refining the same partition by different
+ * attributes(e.g. a parallel scan of candidate attributes): columns are encoded outside the lock,
+ * concurrent misses of the same column may be encoded more than once, with the same codes.
+ * Memorised measures are not guarded, each {@link RefinablePartition} is expected to be
+ * measured by one thread.
+ *
+ * @author Benjamin_L
+ */
+public class RefinablePartition {
+	/**
+	 * Shared column cache of {@link Instance}s.
+	 */
+	private final Columns columns;
+	/**
+	 * Attributes of the partition: <strong>B</strong>
+	 */
+	@Getter private final int[] attributes;
+	/**
+	 * Row indexes grouped by equivalence classes.
+	 */
+	private final int[] rows;
+	/**
+	 * Start of blocks in {@link #rows}, with <code>blockStarts[blockSize]=|U|</code>.
+	 */
+	private final int[] blockStarts;
+	/**
+	 * The number of equivalence classes: |U/B|
+	 */
+	@Getter private final int blockSize;
+
+	private int positiveRegionSize = -1;
+
+	private RefinablePartition(
+			Columns columns, int[] attributes, int[] rows, int[] blockStarts, int blockSize
+	) {
+		this.columns = columns;
+		this.attributes = attributes;
+		this.rows = rows;
+		this.blockStarts = blockStarts;
+		this.blockSize = blockSize;
+	}
+
+	/**
+	 * Create a partition of the given {@link Instance}s with no attribute, i.e. U/∅ = {U}.
+	 *
+	 * @param instances
+	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
+	 * @return {@link RefinablePartition}.
+	 */
+	public static RefinablePartition of(Collection<Instance> instances) {
+		Columns columns = new Columns(instances.toArray(new Instance[instances.size()]));
+		int rowSize = columns.instances.length;
+		int[] rows = new int[rowSize];
+		for (int i=0; i<rowSize; i++)	rows[i] = i;
+		return rowSize==0?
+				new RefinablePartition(columns, new int[0], rows, new int[] {0}, 0):
+				new RefinablePartition(columns, new int[0], rows, new int[] {0, rowSize}, 1);
+	}
+
+	/**
+	 * Create a partition of the given {@link Instance}s by the given attributes: U/B.
+	 *
+	 * @param instances
+	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
+	 * @param attributes
+	 * 		Attributes of {@link Instance}. (Starts from 1): <strong>B</strong>
+	 * @return {@link RefinablePartition}.
+	 */
+	public static RefinablePartition of(Collection<Instance> instances, IntegerIterator attributes) {
+		RefinablePartition partition = of(instances);
+		attributes.reset();
+		for (int i=0; i<attributes.size(); i++)	partition = partition.refine(attributes.next());
+		return partition;
+	}
+
+	/**
+	 * Create a partition from equivalence classes already partitioned by the given attributes,
+	 * e.g. U/red of a streamlined universe, without re-partitioning.
+	 *
+	 * @param equClasses
+	 * 		{@link Instance} {@link Collection}s as equivalence classes: <strong>U/B</strong>
+	 * @param attributes
+	 * 		Attributes of <code>equClasses</code>. (Starts from 1): <strong>B</strong>
+	 * @return {@link RefinablePartition}.
+	 */
+	public static RefinablePartition ofEquivalenceClasses(
+			Collection<? extends Collection<Instance>> equClasses, int[] attributes
+	) {
+		int rowSize = 0;
+		for (Collection<Instance> equClass: equClasses)	rowSize += equClass.size();
+		Instance[] instances = new Instance[rowSize];
+		int[] rows = new int[rowSize];
+		int[] blockStarts = new int[equClasses.size()+1];
+		int row = 0, blockSize = 0;
+		for (Collection<Instance> equClass: equClasses) {
+			if (equClass.isEmpty())	continue;
+			blockStarts[blockSize++] = row;
+			for (Instance ins: equClass) {
+				instances[row] = ins;
+				rows[row] = row;
+				row++;
+			}
+		}
+		blockStarts[blockSize] = rowSize;
+		return new RefinablePartition(
+				new Columns(instances), Arrays.copyOf(attributes, attributes.length), rows,
+				blockSize+1==blockStarts.length? blockStarts: Arrays.copyOf(blockStarts, blockSize+1),
+				blockSize
+		);
+	}
+
+	/**
+	 * Refine the partition by the given attribute: U/(B ∪ {a}). Blocks are split in the order of
+	 * the first appearance of attribute values, so the refinement is deterministic.
+	 *
+	 * @param attribute
+	 * 		The attribute to refine by. (Starts from 1): <strong>a</strong>
+	 * @return A new {@link RefinablePartition} sharing the column cache of this one.
+	 */
+	public RefinablePartition refine(int attribute) {
+		int[] codes = columns.codesOf(attribute);
+		int[] counts = new int[columns.cardinalityOf(attribute)];
+		int[] touched = new int[counts.length];
+
+		int[] refinedRows = new int[rows.length];
+		int[] refinedStarts = new int[(int) Math.min(rows.length, (long) blockSize * counts.length) + 1];
+		int refinedSize = 0;
+
+		int start, end, code, touchedSize, offset, count;
+		for (int b=0; b<blockSize; b++) {
+			start = blockStarts[b];
+			end = blockStarts[b+1];
+			// Block of a single row: no need to split.
+			if (end-start==1) {
+				refinedRows[start] = rows[start];
+				refinedStarts[refinedSize++] = start;
+				continue;
+			}
+			// Count values in the block.
+			touchedSize = 0;
+			for (int i=start; i<end; i++) {
+				code = codes[rows[i]];
+				if (counts[code]++==0)	touched[touchedSize++] = code;
+			}
+			// Allocate sub-blocks, counts[code] as the cursor of the sub-block.
+			offset = start;
+			for (int t=0; t<touchedSize; t++) {
+				code = touched[t];
+				count = counts[code];
+				counts[code] = offset;
+				refinedStarts[refinedSize++] = offset;
+				offset += count;
+			}
+			// Distribute rows into sub-blocks.
+			for (int i=start; i<end; i++)	refinedRows[counts[codes[rows[i]]]++] = rows[i];
+			// Reset counter.
+			for (int t=0; t<touchedSize; t++)	counts[touched[t]] = 0;
+		}
+		refinedStarts[refinedSize] = rows.length;
+
+		int[] refinedAttributes = Arrays.copyOf(attributes, attributes.length+1);
+		refinedAttributes[attributes.length] = attribute;
+		return new RefinablePartition(
+				columns, refinedAttributes, refinedRows,
+				refinedSize+1==refinedStarts.length?
+					refinedStarts: Arrays.copyOf(refinedStarts, refinedSize+1),
+				refinedSize
+		);
+	}
+
+	/**
+	 * Get the number of {@link Instance}s: |U|
+	 *
+	 * @return the number of rows.
+	 */
+	public int getRowSize() {
+		return rows.length;
+	}
+
+	/**
+	 * Get the {@link Instance}s of the partition in the original order.
+	 *
+	 * @return An unmodifiable {@link Instance} {@link Collection}: <strong>U</strong>
+	 */
+	public Collection<Instance> getInstances() {
+		return Collections.unmodifiableList(Arrays.asList(columns.instances));
+	}
+
+	/**
+	 * Get the size of the given block.
+	 *
+	 * @param block
+	 * 		The index of the block.
+	 * @return |X<sub>i</sub>|
+	 */
+	public int blockSizeOf(int block) {
+		return blockStarts[block+1] - blockStarts[block];
+	}
+
+	/**
+	 * Get the row indexes of the given block.
+	 *
+	 * @param block
+	 * 		The index of the block.
+	 * @return row indexes in <code>int[]</code>.
+	 */
+	public int[] rowsOf(int block) {
+		return Arrays.copyOfRange(rows, blockStarts[block], blockStarts[block+1]);
+	}
+
+	/**
+	 * Materialise equivalence classes: <strong>U/B</strong>.
+	 *
+	 * @return {@link Instance} {@link Collection}s as equivalence classes.
+	 */
+	public Collection<Collection<Instance>> equivalenceClasses() {
+		Collection<Collection<Instance>> equClasses = new ArrayList<>(blockSize);
+		for (int b=0; b<blockSize; b++) {
+			List<Instance> equClass = new ArrayList<>(blockSizeOf(b));
+			for (int i=blockStarts[b]; i<blockStarts[b+1]; i++)	equClass.add(columns.instances[rows[i]]);
+			equClasses.add(equClass);
+		}
+		return equClasses;
+	}
+
+	/**
+	 * Get the size of the positive region: |POS<sub>B</sub>(D)|, i.e. the number of
+	 * {@link Instance}s in equivalence classes with a single decision value.
+	 *
+	 * @return |POS<sub>B</sub>(D)|
+	 */
+	public int positiveRegionSize() {
+		if (positiveRegionSize==-1) {
+			int[] decisions = columns.decisionCodes();
+			int pos = 0, start, end, decision;
+			boolean consistent;
+			for (int b=0; b<blockSize; b++) {
+				start = blockStarts[b];
+				end = blockStarts[b+1];
+				decision = decisions[rows[start]];
+				consistent = true;
+				for (int i=start+1; i<end; i++) {
+					if (decisions[rows[i]]!=decision) {
+						consistent = false;
+						break;
+					}
+				}
+				if (consistent)	pos += end-start;
+			}
+			positiveRegionSize = pos;
+		}
+		return positiveRegionSize;
+	}
+
+	/**
+	 * Get the size of the positive region: |POS<sub>B</sub>(D)|, abandoned as soon as it can no
+	 * longer reach the given <code>bound</code>.
+	 * <p>
+	 * Rows of inconsistent blocks(i.e. boundary rows) are counted block by block, and the
+	 * calculation stops once <code>|U| - boundary &lt; bound</code>. Only completed calculations
+	 * are memorised.
+	 *
+	 * @param bound
+	 * 		The lower bound of |POS<sub>B</sub>(D)| to be reached, e.g. the best so far.
+	 * @return |POS<sub>B</sub>(D)| if it reaches <code>bound</code>, otherwise
+	 * 		<code>-(upper+1)</code>(always negative) where <code>upper &lt; bound</code> is the
+	 * 		upper bound of |POS<sub>B</sub>(D)| when abandoned.
+	 */
+	public int positiveRegionSize(int bound) {
+		if (positiveRegionSize!=-1)
+			return positiveRegionSize>=bound? positiveRegionSize: -(positiveRegionSize+1);
+		int[] decisions = columns.decisionCodes();
+		int rowSize = getRowSize(), boundary = 0, start, end, decision;
+		if (rowSize<bound)	return -(rowSize+1);
+		for (int b=0; b<blockSize; b++) {
+			start = blockStarts[b];
+			end = blockStarts[b+1];
+			decision = decisions[rows[start]];
+			for (int i=start+1; i<end; i++) {
+				if (decisions[rows[i]]!=decision) {
+					boundary += end-start;
+					if (rowSize-boundary<bound)	return -(rowSize-boundary+1);
+					break;
+				}
+			}
+		}
+		return positiveRegionSize = rowSize-boundary;
+	}
+
+	/**
+	 * Get the <strong>Discernibility Degree</strong>: |DIS(B)| = |U|<sup>2</sup> -
+	 * &Sigma;<sub>t=1:m</sub>|X<sub>t</sub>|<sup>2</sup>, where U/B = {X<sub>1</sub>, ...,
+	 * X<sub>m</sub>}.
+	 *
+	 * @return |DIS(B)|
+	 */
+	public long discernibility() {
+		long sum = 0, size;
+		for (int b=0; b<blockSize; b++) {
+			size = blockSizeOf(b);
+			sum += size * size;
+		}
+		return (long) rows.length * rows.length - sum;
+	}
+
+	/**
+	 * Get the <strong>Relative Discernibility Degree</strong> of the decision attribute: |DIS(D/B)|
+	 * = &Sigma;<sub>i=1:m</sub>|X<sub>i</sub>|<sup>2</sup> - &Sigma;<sub>k=1:n</sub>
+	 * |M<sub>k</sub>|<sup>2</sup>, where U/(B &cup; D) = {M<sub>1</sub>, ..., M<sub>n</sub>}.
+	 *
+	 * @return |DIS(D/B)|
+	 */
+	public long relativeDiscernibility() {
+		int[] decisions = columns.decisionCodes();
+		int[] counts = new int[columns.decisionSize()];
+		int[] touched = new int[counts.length];
+		long dis = 0, size;
+		int touchedSize, decision;
+		for (int b=0; b<blockSize; b++) {
+			size = blockSizeOf(b);
+			dis += size * size;
+			touchedSize = 0;
+			for (int i=blockStarts[b]; i<blockStarts[b+1]; i++) {
+				decision = decisions[rows[i]];
+				if (counts[decision]++==0)	touched[touchedSize++] = decision;
+			}
+			for (int t=0; t<touchedSize; t++) {
+				size = counts[touched[t]];
+				dis -= size * size;
+				counts[touched[t]] = 0;
+			}
+		}
+		return dis;
+	}
+
+	/**
+	 * Get the number of decision values: |U/D|
+	 *
+	 * @return the number of distinct decision values.
+	 */
+	public int decisionSize() {
+		return columns.decisionSize();
+	}
+
+	/**
+	 * Count decision values of every block: |X<sub>i</sub> ∩ Y<sub>j</sub>| at
+	 * <code>counts[i * decisionSize + j]</code>, where decision values are indexed in the order of
+	 * their first appearance in U.
+	 *
+	 * @return counts in <code>int[]</code> of |U/B| &times; |U/D|.
+	 */
+	public int[] decisionCounts() {
+		int[] decisions = columns.decisionCodes();
+		int decisionSize = columns.decisionSize();
+		int[] counts = new int[blockSize * decisionSize];
+		for (int b=0, base=0; b<blockSize; b++, base+=decisionSize) {
+			for (int i=blockStarts[b]; i<blockStarts[b+1]; i++)	counts[base + decisions[rows[i]]]++;
+		}
+		return counts;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(B=%s, |U|=%d, |U/B|=%d)",
+				getClass().getSimpleName(), Arrays.toString(attributes), rows.length, blockSize
+		);
+	}
+
+	/**
+	 * Column cache of {@link Instance}s shared by refinements: attribute values dictionary encoded
+	 * into [0, cardinality) once per attribute.
+	 */
+	private static class Columns {
+		private final Instance[] instances;
+		private final Map<Integer, int[]> codes;
+		private final Map<Integer, Integer> cardinalities;
+
+		Columns(Instance[] instances) {
+			this.instances = instances;
+			this.codes = new HashMap<>();
+			this.cardinalities = new HashMap<>();
+		}
+
+		int[] codesOf(int attribute) {
+			int[] encoded;
+			synchronized (this) {
+				encoded = codes.get(attribute);
+			}
+			if (encoded==null) {
+				Map<Integer, Integer> dictionary = new HashMap<>();
+				encoded = new int[instances.length];
+				Integer code;
+				for (int row=0; row<instances.length; row++) {
+					int value = instances[row].getAttributeValue(attribute);
+					code = dictionary.get(value);
+					if (code==null)	dictionary.put(value, code=dictionary.size());
+					encoded[row] = code;
+				}
+				synchronized (this) {
+					codes.put(attribute, encoded);
+					cardinalities.put(attribute, dictionary.size());
+				}
+			}
+			return encoded;
+		}
+
+		int cardinalityOf(int attribute) {
+			codesOf(attribute);
+			synchronized (this) {
+				return cardinalities.get(attribute);
+			}
+		}
+
+		int[] decisionCodes() {
+			return codesOf(0);
+		}
+
+		int decisionSize() {
+			return cardinalityOf(0);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.annotation.common.ReturnWrapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An entity for the partition result of {@link DecisionTable}: U/B in row indexes. With the
+ * following fields:
+ * <ul>
+ * 	<li><strong>{@link #classSize}</strong>
+ * 		<p>The number of equivalence classes: |U/B|.
+ * 	</li>
+ * 	<li><strong>{@link #classIndexes}</strong>
+ * 		<p>The equivalence class index of every row, in [0, {@link #classSize}).
+ * 	</li>
+ * 	<li><strong>{@link #representatives}</strong>
+ * 		<p>The first row of every equivalence class.
+ * 	</li>
+ * </ul>
+ *
+ * @author Benjamin_L
+ */
+@Getter
+@AllArgsConstructor
+@ReturnWrapper
+public class RowPartition {
+	private int classSize;
+	private int[] classIndexes;
+	private int[] representatives;
+
+	/**
+	 * Count rows of every equivalence class.
+	 *
+	 * @return row numbers in an <code>int[]</code> indexed by equivalence class index.
+	 */
+	public int[] classCounts() {
+		int[] counts = new int[classSize];
+		for (int index: classIndexes)	counts[index]++;
+		return counts;
+	}
+
+	/**
+	 * Collect rows of every equivalence class into blocks.
+	 *
+	 * @return row indexes in <code>int[][]</code> indexed by equivalence class index.
+	 */
+	public int[][] blocks() {
+		int[] counts = classCounts();
+		int[][] blocks = new int[classSize][];
+		for (int i=0; i<classSize; i++)	blocks[i] = new int[counts[i]];
+		int[] cursors = new int[classSize];
+		for (int row=0; row<classIndexes.length; row++) {
+			blocks[classIndexes[row]][cursors[classIndexes[row]]++] = row;
+		}
+		return blocks;
+	}
+}
@@ -0,0 +1,37 @@
+package featureSelection.repository.support.calculation;
+
+/**
+ * Calculation which counts the number of calculations and the total length of attributes
+ * calculated.
+ * <p>
+ * Counts of calculations executed by other instances(e.g. thread-confined copies in parallel
+ * evaluations) can be added by {@link #addCalculationCounts(long, long)} so that statistics read
+ * from a single instance are complete.
+ *
+ * @author Benjamin_L
+ */
+public interface CountableCalculation {
+	/**
+	 * Get the number of calculations.
+	 *
+	 * @return the number of calculations.
+	 */
+	long getCalculationTimes();
+
+	/**
+	 * Get the total length of attributes calculated.
+	 *
+	 * @return the total length of attributes.
+	 */
+	long getCalculationAttributeLength();
+
+	/**
+	 * Add counts of calculations executed by another instance.
+	 *
+	 * @param calculationTimes
+	 * 		The number of calculations.
+	 * @param calculationAttributeLength
+	 * 		The total length of attributes calculated.
+	 */
+	void addCalculationCounts(long calculationTimes, long calculationAttributeLength);
+}
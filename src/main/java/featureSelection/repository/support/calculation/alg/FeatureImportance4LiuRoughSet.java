@@ -1,9 +1,11 @@
 package featureSelection.repository.support.calculation.alg;
 
 import featureSelection.basic.annotation.theory.RoughSet;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.universe.RefinablePartition;
 
 import java.util.Collection;
 
@@ -17,6 +19,28 @@ public interface FeatureImportance4LiuRoughSet<V extends Number>
 	public FeatureImportance4LiuRoughSet<V> calculate4Incremental(
 			Collection<Collection<Instance>> roughClasses, IntegerIterator attributes, Object...args);
 
+	/**
+	 * Calculate based on a {@link RefinablePartition}: <strong>U/B</strong>, e.g. U/(red ∪ {a})
+	 * refined from U/red.
+	 * <p>
+	 * By default, the partition is ignored and the calculation is performed by
+	 * {@link #calculate(Collection, IntegerIterator, Object...)} with its {@link Instance}s and
+	 * attributes. Implementations are expected to calculate directly based on the partition.
+	 * 
+	 * @param partition
+	 * 		A {@link RefinablePartition}: <strong>U/B</strong>
+	 * @param args
+	 * 		Extra arguments.
+	 * @return <code>this</code>.
+	 */
+	public default FeatureImportance4LiuRoughSet<V> calculate(
+			RefinablePartition partition, Object...args
+	) {
+		return calculate(
+				partition.getInstances(), new IntegerArrayIterator(partition.getAttributes()), args
+		);
+	}
+
 	/**
 	 * Difference between <code>v1</code> and <code>v2</code>. Usually calculated by v1-v2.
 	 * 
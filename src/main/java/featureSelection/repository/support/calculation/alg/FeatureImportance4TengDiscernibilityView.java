@@ -1,8 +1,10 @@
 package featureSelection.repository.support.calculation.alg;
 
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.universe.RefinablePartition;
 
 import java.util.Collection;
 
@@ -116,4 +118,33 @@ public interface FeatureImportance4TengDiscernibilityView<V>
 			IntegerIterator outerAttributes, IntegerIterator gainedAttributes, 
 			Object... args
 	);
+	
+	/**
+	 * Calculate the outer Significance by <i>Relative Discernibility Degree</i> with the decision
+	 * attribute as the gained attributes(i.e. Q = D):
+	 * <strong>SIG<sub>dis</sub><sup>outer</sup>(a, P, D)</strong> = |DIS(D/P)| - |DIS(D/P∪{a})|
+	 * <p>
+	 * By default, equivalence classes of the partition are materialised and the calculation is
+	 * performed by {@link #calculateOuterSignificance(Collection, Object, IntegerIterator,
+	 * IntegerIterator, Object...)}. Implementations are expected to calculate directly based on
+	 * {@link RefinablePartition#refine(int)}.
+	 * 
+	 * @param condPartition
+	 * 		{@link RefinablePartition} of conditional attributes: <strong>U/P</strong>
+	 * @param disB4Gain
+	 * 		The value of Relative Discernibility Degree of U/P gaining D: <strong>|DIS(D/P)|</strong>.
+	 * @param outerAttribute
+	 * 		Outer attribute: <strong>a</strong>.
+	 * @param args
+	 * 		Extra arguments.
+	 * @return <code>this</code> instance.
+	 */
+	public default FeatureImportance4TengDiscernibilityView<V> calculateOuterSignificance(
+			RefinablePartition condPartition, V disB4Gain, int outerAttribute, Object...args
+	) {
+		return calculateOuterSignificance(
+				condPartition.equivalenceClasses(), disB4Gain,
+				new IntegerArrayIterator(outerAttribute), new IntegerArrayIterator(0), args
+		);
+	}
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package featureSelection.repository.support.calculation.alg.classic.hash;
 
 import featureSelection.basic.annotation.theory.RoughSet;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.ClassicReductionCalculation;
 
 import java.util.Collection;
@@ -39,4 +41,90 @@ public interface ClassicHashMapCalculation<V extends Number>
 			Collection<Instance> instances, IntegerIterator attributes,
 			Map<Integer, Collection<Instance>> decEClasses,
 			Object...args);
+	
+	/**
+	 * Calculate attribute significance based on a {@link RefinablePartition}:
+	 * <strong>U/B</strong>, e.g. U/(red ∪ {a}) refined from U/red.
+	 * <p>
+	 * By default, the partition is ignored and the calculation is performed by
+	 * {@link #calculate(Collection, IntegerIterator, Map, Object...)} with its {@link Instance}s
+	 * and attributes. Implementations are expected to calculate directly based on the partition.
+	 * 
+	 * @param partition
+	 * 		A {@link RefinablePartition}: <strong>U/B</strong>
+	 * @param decEClasses
+	 * 		Equivalence Classes induced by Decision attribute.
+	 * @param args
+	 * 		Extra arguments.
+	 * @return <code>this</code>.
+	 */
+	default ClassicHashMapCalculation<V> calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object...args
+	) {
+		return calculate(
+				partition.getInstances(), new IntegerArrayIterator(partition.getAttributes()),
+				decEClasses, args
+		);
+	}
+
+	/**
+	 * Calculate attribute significance in the bounded mode: the calculation may be abandoned as
+	 * soon as the significance can no longer reach <code>bound</code>(e.g. the best so far), in
+	 * which case {@link #isBelowBound()} returns <code>true</code> and {@link #getResult()} is
+	 * only an upper bound of the significance(less than <code>bound</code>).
+	 * <p>
+	 * By default, the calculation is performed completely by
+	 * {@link #calculate(Collection, IntegerIterator, Map, Object...)}.
+	 * 
+	 * @param instances
+	 * 		An {@link Instance} {@link Collection}.
+	 * @param attributes
+	 * 		Attributes of {@link Instance}.
+	 * @param decEClasses
+	 * 		Equivalence Classes induced by Decision attribute.
+	 * @param bound
+	 * 		The significance to be reached.
+	 * @return <code>this</code>.
+	 */
+	default ClassicHashMapCalculation<V> calculateBounded(
+			Collection<Instance> instances, IntegerIterator attributes,
+			Map<Integer, Collection<Instance>> decEClasses, V bound
+	) {
+		return calculate(instances, attributes, decEClasses);
+	}
+	
+	/**
+	 * Calculate attribute significance based on a {@link RefinablePartition} in the bounded mode.
+	 * <p>
+	 * By default, the calculation is performed completely by
+	 * {@link #calculate(RefinablePartition, Map, Object...)}.
+	 * 
+	 * @see #calculateBounded(Collection, IntegerIterator, Map, Number)
+	 * 
+	 * @param partition
+	 * 		A {@link RefinablePartition}: <strong>U/B</strong>
+	 * @param decEClasses
+	 * 		Equivalence Classes induced by Decision attribute.
+	 * @param bound
+	 * 		The significance to be reached.
+	 * @return <code>this</code>.
+	 */
+	default ClassicHashMapCalculation<V> calculateBounded(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			V bound
+	) {
+		return calculate(partition, decEClasses);
+	}
+	
+	/**
+	 * Whether the last calculation was abandoned below its bound.
+	 * 
+	 * @return <code>true</code> if abandoned by
+	 * 		{@link #calculateBounded(Collection, IntegerIterator, Map, Number)} or
+	 * 		{@link #calculateBounded(RefinablePartition, Map, Number)}.
+	 */
+	default boolean isBelowBound() {
+		return false;
+	}
 }
\ No newline at end of file
@@ -35,6 +35,20 @@ public interface NestedEquivalenceClassBasedStreamingDataCalculation<V extends N
 			Update4ArrivedInputs<V, MergeParams> inputs, Object...args
 	);
 	
+	/**
+	 * Update {@link NestedEquivalenceClass}es for expired data by decreasing the
+	 * {@link EquivalenceClass}es the expired data belong to.
+	 * 
+	 * @param inputs
+	 * 		{@link Update4ExpiredInputs}.
+	 * @param args
+	 * 		Extra arguments.
+	 * @return <code>this</code> {@link FeatureImportance4NestedEquivalenceClassBased} instance.
+	 */
+	FeatureImportance4NestedEquivalenceClassBased<V> update4Expired(
+			Update4ExpiredInputs<V> inputs, Object...args
+	);
+	
 	/**
 	 * Parameters for {@link NestedEquivalenceClassBasedStreamingDataCalculation#update4Arrived(
 	 * Update4ArrivedInputs, Object...)}
@@ -86,4 +100,44 @@ public interface NestedEquivalenceClassBasedStreamingDataCalculation<V extends N
 		
 		private NestedEquivalenceClassesMerger<MergeParams, NestedEquivalenceClass<EquivalenceClass>> necMerger;
 	}
+	
+	/**
+	 * Parameters for {@link NestedEquivalenceClassBasedStreamingDataCalculation#update4Expired(
+	 * Update4ExpiredInputs, Object...)}
+	 * <p>
+	 * Parameters: 
+	 * <ul>
+	 * 	<li><strong>previousReductNestedEquClasses</strong>:
+	 * 			Previous {@link NestedEquivalenceClass}es induced by previous reduct.
+	 * 	</li>
+	 * 	<li><strong>previousReduct</strong>:
+	 * 			Previous redust.
+	 * 	</li>
+	 * 	<li><strong>previousSig</strong>:
+	 * 			The significance of previous redust.
+	 * 	</li>
+	 * 	<li><strong>expiredEquivalenceClasses</strong>:
+	 * 			{@link EquivalenceClass}es(induced by all condition attributes) the expired data
+	 * 			belong to, with instance number and decision value <strong>after</strong> the
+	 * 			expiration, i.e. 0 instance for ones to be removed and <code>null</code> decision
+	 * 			value for ones remain in-consistent.
+	 * 	</li>
+	 * </ul>
+	 * 
+	 * @see NestedEquivalenceClassBasedStreamingDataCalculation#update4Expired(Update4ExpiredInputs, Object...)
+	 * 
+	 * @author Benjamin_L
+	 *
+	 * @param <Sig>
+	 * 		Type of feature significance that implements {@link Number}.
+	 */
+	@Data
+	@AllArgsConstructor
+	public static class Update4ExpiredInputs<Sig extends Number> {
+		private Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previousReductNestedEquClasses;
+		private IntegerIterator previousReduct;
+		private Sig previousSig;
+		
+		private Map<IntArrayKey, EquivalenceClass> expiredEquivalenceClasses;
+	}
 }
\ No newline at end of file
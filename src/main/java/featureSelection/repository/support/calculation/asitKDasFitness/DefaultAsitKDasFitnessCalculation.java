@@ -6,6 +6,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.entity.alg.dynamics.instance.asitKDasIncremental.fitness.FitnessEvaluationParameters;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import org.apache.commons.math3.util.FastMath;
 
 import lombok.Getter;
@@ -21,7 +22,7 @@ import lombok.Getter;
  * @author Benjamin_L
  */
 public abstract class DefaultAsitKDasFitnessCalculation<FI extends FeatureImportance<Sig>, Sig extends Number>
-	implements FeatureImportance<Double>
+	implements FeatureImportance<Double>, CountableCalculation
 {
 	public static final String CALCULATION_NAME = "Asit.K.Das Fitness Cal.";
 	
@@ -49,6 +50,11 @@ public abstract class DefaultAsitKDasFitnessCalculation<FI extends FeatureImport
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 	
 	@Override
 	public Double plus(Double v1, Double v2) {
@@ -4,9 +4,11 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.entity.alg.dynamics.instance.asitKDasIncremental.fitness.FitnessEvaluationParameters;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
 import featureSelection.repository.support.calculation.asitKDasFitness.DefaultAsitKDasFitnessCalculation;
 import lombok.Getter;
@@ -61,6 +63,31 @@ public class AsitKDasFitnessCalculation4ClassicHashMap<FI extends ClassicHashMap
 		return this;
 	}
 
+	/**
+	 * Calculate with the feature importance based on the given {@link RefinablePartition}, so that
+	 * its partition based calculation is used if implemented.
+	 */
+	@Override
+	public AsitKDasFitnessCalculation4ClassicHashMap<FI> calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object...args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		featureImportanceValue = getFeatureImportance().calculate(partition, decEClasses, args)
+													.getResult();
+		result = evaluateFitness(
+					getAttributeLength(), 
+					getReductB4DataArrived(), 
+					getFitnessEvalParams(), 
+					partition.getRowSize(),
+					featureImportanceValue, 
+					new IntegerArrayIterator(partition.getAttributes())
+				);
+		return this;
+	}
+
 	@Override
 	public <Item> boolean calculateAble(Item item) {
 		return item instanceof Collection;
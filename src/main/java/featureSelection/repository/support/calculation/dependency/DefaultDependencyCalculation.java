@@ -1,10 +1,11 @@
 package featureSelection.repository.support.calculation.dependency;
 
 import featureSelection.basic.support.calculation.featureImportance.DependencyCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 public abstract class DefaultDependencyCalculation 
-	implements DependencyCalculation
+	implements DependencyCalculation, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -12,6 +13,11 @@ public abstract class DefaultDependencyCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 
 	
 	@Override
@@ -8,6 +8,7 @@ import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
 import featureSelection.repository.support.calculation.dependency.DefaultDependencyCalculation;
 import lombok.Getter;
@@ -17,6 +18,7 @@ public class DependencyCalculation4ClassicHashMap
 	implements ClassicHashMapCalculation<Double>
 {
 	@Getter private Double positive;
+	@Getter private boolean belowBound;
 	@Override
 	public Double getResult() {
 		return positive;
@@ -29,12 +31,94 @@ public class DependencyCalculation4ClassicHashMap
 		// Count the current calculation
 		countCalculate(attributes.size());
 		// Calculate
+		belowBound = false;
 		int universeSize = universes.size();
 		positive = (Double) new Double(universes==null || universes.isEmpty()? 
 							0: positiveRegion(universes, attributes, decEClasses) / (double) universeSize
 					);
 		return this;
 	}
+
+	@Override
+	public DependencyCalculation4ClassicHashMap calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		belowBound = false;
+		positive = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: partition.positiveRegionSize() / (double) partition.getRowSize();
+		return this;
+	}
+
+	/**
+	 * Calculate the dependency, abandoned as soon as it can no longer reach
+	 * <code>bound</code> by counting boundary {@link Instance}s in one pass.
+	 * 
+	 * @see ClassicAttributeReductionHashMapAlgorithm.Basic#positiveRegion(Collection,
+	 * 		IntegerIterator, int)
+	 */
+	@Override
+	public DependencyCalculation4ClassicHashMap calculateBounded(
+			Collection<Instance> universes, IntegerIterator attributes,
+			Map<Integer, Collection<Instance>> decEClasses, Double bound
+	) {
+		if (bound==null)	return calculate(universes, attributes, decEClasses);
+		// Count the current calculation
+		countCalculate(attributes.size());
+		// Calculate
+		int pos = universes==null || universes.isEmpty()? 0:
+					ClassicAttributeReductionHashMapAlgorithm
+						.Basic
+						.positiveRegion(universes, attributes, positiveBound(bound, universes.size()));
+		return bounded(pos, universes==null? 0: universes.size());
+	}
+
+	@Override
+	public DependencyCalculation4ClassicHashMap calculateBounded(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Double bound
+	) {
+		if (bound==null)	return calculate(partition, decEClasses);
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		int pos = partition.getRowSize()==0 || partition.getAttributes().length==0? 0:
+					partition.positiveRegionSize(positiveBound(bound, partition.getRowSize()));
+		return bounded(pos, partition.getRowSize());
+	}
+	
+	/**
+	 * Get the bound of |POS| by the bound of dependency. 1 row is left as margin for rounding
+	 * errors so that dependencies equal to the bound are never abandoned.
+	 * 
+	 * @param bound
+	 * 		The bound of dependency.
+	 * @param universeSize
+	 * 		|U|
+	 * @return the bound of |POS|.
+	 */
+	private static int positiveBound(double bound, int universeSize) {
+		return (int) Math.ceil(bound * universeSize) - 1;
+	}
+	
+	/**
+	 * Set the result of a bounded calculation.
+	 * 
+	 * @param pos
+	 * 		|POS| or <code>-(upper+1)</code> if abandoned.
+	 * @param universeSize
+	 * 		|U|
+	 * @return <code>this</code>.
+	 */
+	private DependencyCalculation4ClassicHashMap bounded(int pos, int universeSize) {
+		belowBound = pos<0;
+		if (belowBound)	pos = -(pos+1);
+		positive = universeSize==0? 0: pos / (double) universeSize;
+		return this;
+	}
 	
 	private static int positiveRegion(
 			Collection<Instance> universes, IntegerIterator attributes,
@@ -4,6 +4,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.searchStrategy.SequentialSearchStrategy;
 import featureSelection.repository.entity.alg.directDependencyCalculation.GridRecord;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.directDependencyCalculation.FeatureImportance4DirectDependencyCalculation;
 import featureSelection.repository.support.calculation.dependency.DefaultDependencyCalculation;
 
@@ -34,6 +35,18 @@ public class DependencyCalculation4DDCSequential
 						0: dependency(instances, attribute);
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4DirectDependencyCalculation<Double> calculate(
+			RefinablePartition partition, Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		dependency = partition.getRowSize()==0?
+						0: partition.positiveRegionSize() / (double) partition.getRowSize();
+		return this;
+	}
 	
 	private double dependency(Collection<Instance> instances, IntegerIterator attributes) {
 		Collection<GridRecord> grid = Support.updateGrid(instances, attributes);
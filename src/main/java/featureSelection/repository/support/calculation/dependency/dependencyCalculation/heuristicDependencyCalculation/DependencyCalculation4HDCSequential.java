@@ -4,6 +4,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.searchStrategy.SequentialSearchStrategy;
 import featureSelection.repository.entity.alg.heuristicDependencyCalculation.GridRecord;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.heuristicDependencyCalculation.FeatureImportance4HeuristicDependencyCalculation;
 import featureSelection.repository.support.calculation.dependency.DefaultDependencyCalculation;
 
@@ -34,6 +35,19 @@ public class DependencyCalculation4HDCSequential
 						0: dependency(instances, decisionValues, attribute);
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4HeuristicDependencyCalculation<Double> calculate(
+			RefinablePartition partition, Collection<Integer> decisionValues,
+			Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		dependency = partition.getRowSize()==0?
+						0: partition.positiveRegionSize() / (double) partition.getRowSize();
+		return this;
+	}
 	
 	private double dependency(
 			Collection<Instance> instances, Collection<Integer> decisionValues,
@@ -4,6 +4,7 @@ import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArr
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.liuRoughSet.LiuRoughSetAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4LiuRoughSet;
 import featureSelection.repository.support.calculation.dependency.DefaultDependencyCalculation;
 
@@ -44,6 +45,18 @@ public class DependencyCalculation4LiuRoughSet
 					0: positiveRegion(instances, attributes).size() / (double) instances.size();
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4LiuRoughSet<Double> calculate(
+			RefinablePartition partition, Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		positive = partition.getRowSize()==0?
+					0: partition.positiveRegionSize() / (double) partition.getRowSize();
+		return this;
+	}
 	
 	public FeatureImportance4LiuRoughSet<Double> calculate4Incremental(
 			Collection<Collection<Instance>> roughClasses, IntegerIterator attributes,
@@ -6,6 +6,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.alg.TengDiscernibilityViewStrategy;
 import featureSelection.repository.algorithm.alg.discernibilityView.TengDiscernibilityViewAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4TengDiscernibilityView;
 import org.apache.commons.math3.util.FastMath;
 
@@ -103,6 +104,18 @@ public class DiscernibilityCalculation4TengDiscernibilityView
 		return this;
 	}
 
+	@Override
+	public DiscernibilityCalculation4TengDiscernibilityView calculateOuterSignificance(
+			RefinablePartition condPartition, Integer disB4Gain, int outerAttribute,
+			Object... args
+	) {
+		//	DIS(D/P∪{a}), based on U/P
+		int dis4Gained = (int) condPartition.refine(outerAttribute).relativeDiscernibility();
+		//	SIG<sub>dis</sub><sup>outer</sup>(a, P, D) = |DIS(D/P)| - |DIS(D/P∪{a})|
+		result = disB4Gain - dis4Gained;
+		return this;
+	}
+
 	
 	@Override
 	public boolean value1IsBetter(Integer v1, Integer v2, Integer deviation) {
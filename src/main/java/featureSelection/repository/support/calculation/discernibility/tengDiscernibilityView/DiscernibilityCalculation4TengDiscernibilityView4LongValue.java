@@ -6,6 +6,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.alg.TengDiscernibilityViewStrategy;
 import featureSelection.repository.algorithm.alg.discernibilityView.TengDiscernibilityViewAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4TengDiscernibilityView;
 import org.apache.commons.math3.util.FastMath;
 
@@ -102,6 +103,18 @@ public class DiscernibilityCalculation4TengDiscernibilityView4LongValue
 		return this;
 	}
 
+	@Override
+	public DiscernibilityCalculation4TengDiscernibilityView4LongValue calculateOuterSignificance(
+			RefinablePartition condPartition, Long disB4Gain, int outerAttribute,
+			Object... args
+	) {
+		//	DIS(D/P∪{a}), based on U/P
+		long dis4Gained = condPartition.refine(outerAttribute).relativeDiscernibility();
+		//	SIG<sub>dis</sub><sup>outer</sup>(a, P, D) = |DIS(D/P)| - |DIS(D/P∪{a})|
+		result = disB4Gain - dis4Gained;
+		return this;
+	}
+
 	
 	@Override
 	public boolean value1IsBetter(Long v1, Long v2, Long deviation) {
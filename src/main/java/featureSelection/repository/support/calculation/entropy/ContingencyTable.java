@@ -0,0 +1,251 @@
+package featureSelection.repository.support.calculation.entropy;
+
+import common.utils.MathUtils;
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.entity.universe.RefinablePartition;
+import featureSelection.repository.entity.universe.RowPartition;
+import lombok.Getter;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contingency table of <strong>U/B</strong> &times; <strong>U/D</strong>: the number of
+ * {@link Instance}s of every decision value in every equivalence class, i.e.
+ * |X<sub>i</sub> ∩ Y<sub>j</sub>|, counted in a single pass over U into a primitive count matrix.
+ * <p>
+ * Shannon, Liang and combination conditional entropies are all derived from the matrix, so no
+ * intersection of equivalence classes and decision classes is materialised. As the classic
+ * calculations, entropies returned are the ones <strong>without</strong> denominators.
+ *
+ * @author Benjamin_L
+ */
+public class ContingencyTable {
+	/**
+	 * The number of equivalence classes: |U/B|
+	 */
+	@Getter private final int classSize;
+	/**
+	 * The number of decision values: |U/D|
+	 */
+	@Getter private final int decisionSize;
+	/**
+	 * |X<sub>i</sub> ∩ Y<sub>j</sub>| at <code>counts[i * decisionSize + j]</code>.
+	 */
+	private final int[] counts;
+	/**
+	 * |X<sub>i</sub>| at <code>classCounts[i]</code>.
+	 */
+	private final int[] classCounts;
+
+	private ContingencyTable(int classSize, int decisionSize, int[] counts) {
+		this.classSize = classSize;
+		this.decisionSize = decisionSize;
+		this.counts = counts;
+		this.classCounts = new int[classSize];
+		for (int i=0, base=0; i<classSize; i++, base+=decisionSize) {
+			for (int j=0; j<decisionSize; j++)	classCounts[i] += counts[base+j];
+		}
+	}
+
+	/**
+	 * Count the contingency table of the given {@link Instance}s.
+	 *
+	 * @param instances
+	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
+	 * @param attributes
+	 * 		Attributes used to partition the <code>instances</code>: <strong>B</strong>
+	 * @param decisionValues
+	 * 		Decision values: <strong>U/D</strong> keys, e.g. keys of the decision equivalence
+	 * 		classes.
+	 * @return {@link ContingencyTable}.
+	 */
+	public static ContingencyTable of(
+			Collection<Instance> instances, IntegerIterator attributes,
+			Collection<Integer> decisionValues
+	) {
+		// Dictionary encode decision values.
+		Map<Integer, Integer> decIndexes = new HashMap<>(decisionValues.size());
+		for (int dec: decisionValues)	decIndexes.put(dec, decIndexes.size());
+		int decisionSize = decIndexes.size();
+
+		// Loop over instances, count decision values into rows of the equivalence classes.
+		Map<IntArrayKey, Integer> classIndexes = new HashMap<>(instances.size());
+		int[] counts = new int[Math.max(16, decisionSize) * decisionSize];
+		int classSize = 0;
+		Integer classIndex, decIndex;
+		IntArrayKey key;
+		for (Instance ins: instances) {
+			key = new IntArrayKey(Instance.attributeValuesOf(ins, attributes));
+			classIndex = classIndexes.get(key);
+			if (classIndex==null) {
+				classIndexes.put(key, classIndex=classSize++);
+				if (classSize * decisionSize > counts.length) {
+					counts = Arrays.copyOf(counts, counts.length << 1);
+				}
+			}
+			decIndex = decIndexes.get(ins.getAttributeValue(0));
+			if (decIndex==null) {
+				throw new IllegalArgumentException(
+						"Decision value "+ins.getAttributeValue(0)+" of "+ins+" is not given."
+				);
+			}
+			counts[classIndex * decisionSize + decIndex]++;
+		}
+		return new ContingencyTable(classSize, decisionSize, counts);
+	}
+
+	/**
+	 * Count the contingency table of a columnar {@link DecisionTable}.
+	 *
+	 * @param table
+	 * 		A {@link DecisionTable}: <strong>U</strong>
+	 * @param attributes
+	 * 		Attributes used to partition the rows: <strong>B</strong>
+	 * @return {@link ContingencyTable}.
+	 */
+	public static ContingencyTable of(DecisionTable table, IntegerIterator attributes) {
+		RowPartition partition = table.partition(attributes);
+		RowPartition decPartition = table.partition(0);
+
+		int decisionSize = decPartition.getClassSize();
+		int[] counts = new int[partition.getClassSize() * decisionSize];
+		int[] classIndexes = partition.getClassIndexes(),
+				decIndexes = decPartition.getClassIndexes();
+		for (int row=0; row<classIndexes.length; row++) {
+			counts[classIndexes[row] * decisionSize + decIndexes[row]]++;
+		}
+		return new ContingencyTable(partition.getClassSize(), decisionSize, counts);
+	}
+
+	/**
+	 * Count the contingency table of a {@link RefinablePartition} from its blocks, without
+	 * re-hashing {@link Instance}s by attribute values.
+	 *
+	 * @param partition
+	 * 		A {@link RefinablePartition}: <strong>U/B</strong>
+	 * @return {@link ContingencyTable}.
+	 */
+	public static ContingencyTable of(RefinablePartition partition) {
+		return new ContingencyTable(
+				partition.getBlockSize(), partition.decisionSize(), partition.decisionCounts()
+		);
+	}
+
+	/**
+	 * Get |X<sub>i</sub> ∩ Y<sub>j</sub>|.
+	 *
+	 * @param classIndex
+	 * 		The index of the equivalence class: i
+	 * @param decisionIndex
+	 * 		The index of the decision value: j
+	 * @return the count.
+	 */
+	public int countOf(int classIndex, int decisionIndex) {
+		return counts[classIndex * decisionSize + decisionIndex];
+	}
+
+	/**
+	 * Get |X<sub>i</sub>|.
+	 *
+	 * @param classIndex
+	 * 		The index of the equivalence class: i
+	 * @return the size of the equivalence class.
+	 */
+	public int classCountOf(int classIndex) {
+		return classCounts[classIndex];
+	}
+
+	/**
+	 * Shannon conditional entropy <strong>without</strong> denominator part(|U|):
+	 * <p>
+	 * <strong>H(D|B)</strong> =
+	 * 			- &sum;<sub>i=1</sub><sup>|U/B|</sup> (
+	 * 				|X<sub>i</sub>| *
+	 * 				&sum;<sub>j=1</sub><sup>|U/D|</sup> (
+	 * 					|X<sub>i</sub> ∩ Y<sub>j</sub>|/|X<sub>i</sub>| *
+	 * 					log(|X<sub>i</sub> ∩ Y<sub>j</sub>|/|X<sub>i</sub>|)
+	 * 				)
+	 *			)
+	 * <p>
+	 * Empty intersections are skipped as 0 * log(0) = 0.
+	 *
+	 * @return calculated shannon conditional entropy value.
+	 */
+	public double shannonConditionalEntropy() {
+		double entropy = 0, sub, tmp;
+		int count;
+		for (int i=0, base=0; i<classSize; i++, base+=decisionSize) {
+			sub = 0;
+			for (int j=0; j<decisionSize; j++) {
+				count = counts[base+j];
+				if (count==0)	continue;
+				tmp = count / (double) classCounts[i];
+				sub += tmp * FastMath.log(tmp);
+			}
+			entropy -= classCounts[i] * sub;
+		}
+		return entropy;
+	}
+
+	/**
+	 * Liang conditional entropy <strong>without</strong> denominator part(|U|<sup>2</sup>):
+	 * <p>
+	 * <strong>E(D|B)</strong> =
+	 * 			&sum;<sub>i=1</sub><sup>|U/B|</sup> (
+	 * 				&sum;<sub>j=1</sub><sup>|U/D|</sup> (
+	 * 					|X<sub>i</sub> ∩ Y<sub>j</sub>| *
+	 * 					|X<sub>i</sub> - X<sub>i</sub> ∩ Y<sub>j</sub>|
+	 * 				)
+	 *			)
+	 *
+	 * @return calculated liang conditional entropy value.
+	 */
+	public double liangConditionalEntropy() {
+		double entropy = 0;
+		int count;
+		for (int i=0, base=0; i<classSize; i++, base+=decisionSize) {
+			for (int j=0; j<decisionSize; j++) {
+				count = counts[base+j];
+				entropy += (double) count * (classCounts[i] - count);
+			}
+		}
+		return entropy;
+	}
+
+	/**
+	 * Combination conditional entropy <strong>without</strong> denominator
+	 * part(|U|<sup>2</sup> * C<sub>|U|</sub><sup>2</sup>):
+	 * <p>
+	 * <strong>CE(D|B)</strong> =
+	 * 			&sum;<sub>i=1</sub><sup>|U/B|</sup> (
+	 * 				|X<sub>i</sub>| *
+	 * 				C<sub>|X<sub>i</sub>|</sub><sup>2</sup> -
+	 * 				&sum;<sub>j=1</sub><sup>|U/D|</sup> (
+	 * 					|X<sub>i</sub> ∩ Y<sub>j</sub>| *
+	 * 					C<sub>|X<sub>i</sub> ∩ Y<sub>j</sub>|</sub><sup>2</sup>
+	 * 				)
+	 *			)
+	 *
+	 * @return calculated combination conditional entropy value.
+	 */
+	public double combinationConditionalEntropy() {
+		double entropy = 0, sub;
+		int count;
+		for (int i=0, base=0; i<classSize; i++, base+=decisionSize) {
+			sub = 0;
+			for (int j=0; j<decisionSize; j++) {
+				count = counts[base+j];
+				sub += (double) count * MathUtils.combinatorialNumOf2(count);
+			}
+			entropy += (double) classCounts[i] * MathUtils.combinatorialNumOf2(classCounts[i]) - sub;
+		}
+		return entropy;
+	}
+}
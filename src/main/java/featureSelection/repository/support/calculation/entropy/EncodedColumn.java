@@ -0,0 +1,104 @@
+package featureSelection.repository.support.calculation.entropy;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import lombok.Getter;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoded values of an attribute over a {@link Collection} of {@link Instance}s: the
+ * i-th distinct value met is encoded as i, so codes are in [0, {@link #getValueSize()}).
+ * <p>
+ * Entropies of encoded columns are counted in <code>int[]</code> tables indexed by codes, see
+ * {@link #entropy()} and {@link JointEntropyCounter}. As other entropy calculations of the
+ * repository, entropies are in natural logarithm.
+ *
+ * @author Benjamin_L
+ */
+public class EncodedColumn {
+	/**
+	 * Codes of values in the order of {@link Instance}s.
+	 */
+	@Getter private final int[] codes;
+	/**
+	 * The number of distinct values.
+	 */
+	@Getter private final int valueSize;
+
+	private EncodedColumn(int[] codes, int valueSize) {
+		this.codes = codes;
+		this.valueSize = valueSize;
+	}
+
+	/**
+	 * Encode values of the given attribute.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attribute
+	 * 		The attribute. (0 as decision attribute)
+	 * @return {@link EncodedColumn}.
+	 */
+	public static EncodedColumn of(Collection<Instance> instances, int attribute) {
+		return of(instances, attribute, new int[instances.size()]);
+	}
+
+	/**
+	 * Encode values of the given attribute into the given array, e.g. a buffer reused until the
+	 * column is kept.
+	 *
+	 * @param instances
+	 * 		A {@link Collection} of {@link Instance}s.
+	 * @param attribute
+	 * 		The attribute. (0 as decision attribute)
+	 * @param codes
+	 * 		An array of |U| to be filled with codes, held by the returned column.
+	 * @return {@link EncodedColumn}.
+	 * @throws IllegalArgumentException if the length of <code>codes</code> is not |U|.
+	 */
+	public static EncodedColumn of(Collection<Instance> instances, int attribute, int[] codes) {
+		if (codes.length!=instances.size()) {
+			throw new IllegalArgumentException(
+					"Length of codes "+codes.length+" does not equal to |U| "+instances.size()
+			);
+		}
+		Map<Integer, Integer> dictionary = new HashMap<>();
+		Integer code;
+		int row = 0;
+		for (Instance ins: instances) {
+			code = dictionary.get(ins.getAttributeValue(attribute));
+			if (code==null)	dictionary.put(ins.getAttributeValue(attribute), code = dictionary.size());
+			codes[row++] = code;
+		}
+		return new EncodedColumn(codes, dictionary.size());
+	}
+
+	/**
+	 * Get |U|.
+	 *
+	 * @return the number of codes.
+	 */
+	public int size() {
+		return codes.length;
+	}
+
+	/**
+	 * Calculate the entropy: H = - &Sigma;p*log(p), where p is the frequency of a code.
+	 *
+	 * @return the entropy.
+	 */
+	public double entropy() {
+		int[] counts = new int[valueSize];
+		for (int code: codes)	counts[code]++;
+		double entropy = 0, p;
+		for (int count: counts) {
+			if (count==0)	continue;
+			p = count / (double) codes.length;
+			entropy -= p * FastMath.log(p);
+		}
+		return entropy;
+	}
+}
@@ -0,0 +1,85 @@
+package featureSelection.repository.support.calculation.entropy;
+
+import featureSelection.basic.annotation.thread.ThreadSafetyNotSecured;
+import org.apache.commons.math3.util.FastMath;
+
+import java.util.Arrays;
+
+/**
+ * Joint entropy of 2 {@link EncodedColumn}s by counting code pairs in a reusable count table,
+ * which is left zero-filled by resetting only the touched cells. Pairs with more value
+ * combinations than {@link #MAX_COUNT_TABLE_SIZE} are counted by sorting pair codes instead.
+ * <p>
+ * Buffers are reused by every calculation, so a counter is expected to be confined to a thread.
+ *
+ * @author Benjamin_L
+ */
+@ThreadSafetyNotSecured
+public class JointEntropyCounter {
+	/**
+	 * Max size of the joint count table: pairs with more value combinations are counted by
+	 * sorting.
+	 */
+	public static final int MAX_COUNT_TABLE_SIZE = 1 << 20;
+
+	private int[] counts = new int[0];
+	/**
+	 * Touched cells of {@link #counts}.
+	 */
+	private final int[] touched;
+	/**
+	 * Pair codes, initiated when the count table is too large.
+	 */
+	private long[] pairs;
+
+	/**
+	 * Construct a counter for columns of the given size.
+	 *
+	 * @param instanceSize
+	 * 		|U|, i.e. the size of columns.
+	 */
+	public JointEntropyCounter(int instanceSize) {
+		touched = new int[instanceSize];
+	}
+
+	/**
+	 * Calculate the joint entropy of 2 encoded columns: H = log|U| - 1/|U| * &Sigma;c*log(c),
+	 * where c is the count of a pair of codes.
+	 *
+	 * @param column1
+	 * 		{@link EncodedColumn} of the 1st attribute.
+	 * @param column2
+	 * 		{@link EncodedColumn} of the 2nd attribute, of the same size.
+	 * @return the joint entropy.
+	 */
+	public double jointEntropy(EncodedColumn column1, EncodedColumn column2) {
+		int[] codes1 = column1.getCodes(), codes2 = column2.getCodes();
+		int instanceSize = codes1.length, valueSize2 = column2.getValueSize();
+		long tableSize = (long) column1.getValueSize() * valueSize2;
+		double sum = 0;
+		if (tableSize<=MAX_COUNT_TABLE_SIZE) {
+			if (counts.length<tableSize)	counts = new int[(int) tableSize];
+			int touchedSize = 0, cell;
+			for (int row=0; row<instanceSize; row++) {
+				cell = codes1[row] * valueSize2 + codes2[row];
+				if (counts[cell]++==0)	touched[touchedSize++] = cell;
+			}
+			for (int t=0; t<touchedSize; t++) {
+				cell = touched[t];
+				sum += counts[cell] * FastMath.log(counts[cell]);
+				counts[cell] = 0;
+			}
+		}else {
+			// Too many value combinations, count runs of sorted pair codes.
+			if (pairs==null)	pairs = new long[touched.length];
+			for (int row=0; row<instanceSize; row++)
+				pairs[row] = (long) codes1[row] * valueSize2 + codes2[row];
+			Arrays.sort(pairs, 0, instanceSize);
+			for (int start=0, end; start<instanceSize; start=end) {
+				for (end=start+1; end<instanceSize && pairs[end]==pairs[start]; end++);
+				sum += (end-start) * FastMath.log(end-start);
+			}
+		}
+		return FastMath.log(instanceSize) - sum / instanceSize;
+	}
+}
@@ -3,12 +3,11 @@ package featureSelection.repository.support.calculation.entropy.combinationCondi
 import java.util.Collection;
 import java.util.Map;
 
-import common.utils.MathUtils;
-import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
-import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
+import featureSelection.repository.support.calculation.entropy.ContingencyTable;
 import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.DefaultShannonConditionEnpropyCalculation;
 import lombok.Getter;
 
@@ -43,6 +42,25 @@ public class CCECalculation4ClassicHashMap
 					0: combinationConditionalEntropy(universes, attributes, decEClasses);
 		return this;
 	}
+
+	/**
+	 * U/B is already refined: the contingency table is counted block by block, the result is
+	 * still the numerator of CCE only.
+	 *
+	 * @see ContingencyTable#of(RefinablePartition)
+	 */
+	@Override
+	public CCECalculation4ClassicHashMap calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object...args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		entropy = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: ContingencyTable.of(partition).combinationConditionalEntropy();
+		return this;
+	}
 	
 	/**
 	 * Calculated entropy result is the one <strong>without</strong> denominator
@@ -76,6 +94,9 @@ public class CCECalculation4ClassicHashMap
 	 * 					C<sub>|X<sub>i</sub> ∩ Y<sub>j</sub>|</sub><sup>2</sup>
 	 * 				)
 	 *			)
+	 * <p>
+	 * |X<sub>i</sub> ∩ Y<sub>j</sub>| are counted into a {@link ContingencyTable} in a single
+	 * pass over U instead of intersecting every pair of equivalence class and decision class.
 	 * 
 	 * @param Instances
 	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
@@ -90,41 +111,9 @@ public class CCECalculation4ClassicHashMap
 			Map<Integer, Collection<Instance>> decEClasses
 	) {
 		if (attributes.size()!=0) {
-			// U/P
-			Map<IntArrayKey, Collection<Instance>> equClasses =
-				ClassicAttributeReductionHashMapAlgorithm
-					.Basic
-					.equivalenceClass(Instances, attributes);
-			// Loop U/P and calculate entropy
-			double entropy = 0;
-			for (Collection<Instance> equClass: equClasses.values()) {
-				double sub = 0;
-				for (Collection<Instance> decEquClass: decEClasses.values()) {
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>|
-					/*Collection<Instance> intersection =
-						ClassicAttributeReductionHashMapAlgorithm
-							.Basic
-							.intersectionOf(equClass, decEquClass);
-					// |X<sub>i</sub> - X<sub>i</sub> ∩ Y<sub>j</sub>|
-					Collection<Instance> rest =
-							equClass.stream()
-									.filter(e->!intersection.contains(e))
-									.collect(Collectors.toList());
-					entropy += intersection.size() * rest.size();//*/
-
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>|
-					int intersection = 
-						ClassicAttributeReductionHashMapAlgorithm
-							.Basic
-							.intersectionOf(equClass, decEquClass)
-							.size();
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>| * C<sub>|X<sub>i</sub> ∩ Y<sub>j</sub>|</sub><sup>2</sup>
-					sub += intersection * MathUtils.combinatorialNumOf2(intersection);
-				}
-				// |X<sub>i</sub>| * C<sub>|X<sub>i</sub>|</sub><sup>2</sup>
-				entropy += (equClass.size() * MathUtils.combinatorialNumOf2(equClass.size()) - sub);
-			}
-			return entropy;
+			// |X<sub>i</sub> ∩ Y<sub>j</sub>| of U/P and U/D in one pass.
+			return ContingencyTable.of(Instances, attributes, decEClasses.keySet())
+									.combinationConditionalEntropy();
 		}else {
 			return 0;
 		}
@@ -1,10 +1,11 @@
 package featureSelection.repository.support.calculation.entropy.liangConditionEntropy;
 
 import featureSelection.basic.support.calculation.featureImportance.entropy.LiangConditionEntropyCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 public abstract class DefaultLiangConditionEntropyCalculation 
-	implements LiangConditionEntropyCalculation
+	implements LiangConditionEntropyCalculation, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -12,6 +13,11 @@ public abstract class DefaultLiangConditionEntropyCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 	
 	@Override
 	public boolean value1IsBetter(Double v1, Double v2, Double deviation) {
@@ -3,11 +3,11 @@ package featureSelection.repository.support.calculation.entropy.liangConditionEn
 import java.util.Collection;
 import java.util.Map;
 
-import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
-import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
+import featureSelection.repository.support.calculation.entropy.ContingencyTable;
 import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.DefaultShannonConditionEnpropyCalculation;
 import lombok.Getter;
 
@@ -36,6 +36,25 @@ public class LCECalculation4ClassicHashMap
 					0: liangConditionalEntropy(instances, attributes, decEClasses);
 		return this;
 	}
+
+	/**
+	 * Same as {@link #calculate(Collection, IntegerIterator, Map, Object...)}, but
+	 * |X<sub>i</sub> ∩ Y<sub>j</sub>| are counted from the refined blocks of U/B.
+	 *
+	 * @see ContingencyTable#of(RefinablePartition)
+	 */
+	@Override
+	public LCECalculation4ClassicHashMap calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object...args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		entropy = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: ContingencyTable.of(partition).liangConditionalEntropy();
+		return this;
+	}
 	
 	/**
 	 * Calculated entropy result is the one <strong>without</strong> denominator
@@ -59,6 +78,9 @@ public class LCECalculation4ClassicHashMap
 	 * 					|X<sub>i</sub> - X<sub>i</sub> ∩ Y<sub>j</sub>|<del><strong>/|U|</strong></del>
 	 * 				)
 	 *			)
+	 * <p>
+	 * |X<sub>i</sub> ∩ Y<sub>j</sub>| are counted into a {@link ContingencyTable} in a single
+	 * pass over U instead of intersecting every pair of equivalence class and decision class.
 	 * 
 	 * @param Instances
 	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
@@ -73,38 +95,9 @@ public class LCECalculation4ClassicHashMap
 			Map<Integer, Collection<Instance>> decEClasses
 	) {
 		if (attributes.size()!=0) {
-			// U/P
-			Map<IntArrayKey, Collection<Instance>> equClasses =
-				ClassicAttributeReductionHashMapAlgorithm
-					.Basic
-					.equivalenceClass(Instances, attributes);
-			// Loop U/P and calculate entropy
-			double entropy = 0;
-			for (Collection<Instance> equClass: equClasses.values()) {
-				for (Collection<Instance> decEquClass: decEClasses.values()) {
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>|
-					/*Collection<Instance> intersection =
-						ClassicAttributeReductionHashMapAlgorithm
-							.Basic
-							.intersectionOf(equClass, decEquClass);
-					// |X<sub>i</sub> - X<sub>i</sub> ∩ Y<sub>j</sub>|
-					Collection<Instance> rest =
-							equClass.stream()
-									.filter(e->!intersection.contains(e))
-									.collect(Collectors.toList());
-					entropy += intersection.size() * rest.size();//*/
-
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>|
-					int intersection = 
-						ClassicAttributeReductionHashMapAlgorithm
-							.Basic
-							.intersectionOf(equClass, decEquClass)
-							.size();
-					// |X<sub>i</sub> ∩ Y<sub>j</sub>|*|X<sub>i</sub> - X<sub>i</sub> ∩ Y<sub>j</sub>|
-					entropy += intersection * (equClass.size() - intersection);
-				}
-			}
-			return entropy;
+			// |X<sub>i</sub> ∩ Y<sub>j</sub>| of U/P and U/D in one pass.
+			return ContingencyTable.of(Instances, attributes, decEClasses.keySet())
+									.liangConditionalEntropy();
 		}else {
 			return 0;
 		}
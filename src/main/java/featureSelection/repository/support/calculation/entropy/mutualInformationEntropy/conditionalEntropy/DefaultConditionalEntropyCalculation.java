@@ -1,6 +1,7 @@
 package featureSelection.repository.support.calculation.entropy.mutualInformationEntropy.conditionalEntropy;
 
 import featureSelection.basic.support.calculation.featureImportance.entropy.mutualInformation.ConditionalEntropyCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 /**
@@ -12,7 +13,7 @@ import lombok.Getter;
  * @author Benjamin_L
  */
 public abstract class DefaultConditionalEntropyCalculation 
-	implements ConditionalEntropyCalculation
+	implements ConditionalEntropyCalculation, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -20,6 +21,11 @@ public abstract class DefaultConditionalEntropyCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 
 	@Override
 	public boolean value1IsBetter(Double v1, Double v2, Double deviation) {
@@ -1,10 +1,11 @@
 package featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy;
 
 import featureSelection.basic.support.calculation.featureImportance.entropy.ShannonConditionEnpropyCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 public abstract class DefaultShannonConditionEnpropyCalculation 
-	implements ShannonConditionEnpropyCalculation
+	implements ShannonConditionEnpropyCalculation, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -12,6 +13,11 @@ public abstract class DefaultShannonConditionEnpropyCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 	
 	@Override
 	public boolean value1IsBetter(Double v1, Double v2, Double deviation) {
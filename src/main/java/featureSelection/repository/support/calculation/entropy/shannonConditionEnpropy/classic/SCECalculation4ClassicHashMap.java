@@ -3,13 +3,12 @@ package featureSelection.repository.support.calculation.entropy.shannonCondition
 import java.util.Collection;
 import java.util.Map;
 
-import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
-import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
+import featureSelection.repository.support.calculation.entropy.ContingencyTable;
 import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.DefaultShannonConditionEnpropyCalculation;
-import org.apache.commons.math3.util.FastMath;
 
 import lombok.Getter;
 
@@ -38,6 +37,25 @@ public class SCECalculation4ClassicHashMap
 					0: shannonConditionalEntropy(universes, attributes, decEClasses);
 		return this;
 	}
+
+	/**
+	 * Calculated based on blocks of the partition instead of re-hashing its {@link Instance}s,
+	 * <strong>without</strong> denominator part(|U|) either.
+	 *
+	 * @see ContingencyTable#of(RefinablePartition)
+	 */
+	@Override
+	public SCECalculation4ClassicHashMap calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object...args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		entropy = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: ContingencyTable.of(partition).shannonConditionalEntropy();
+		return this;
+	}
 	
 	/**
 	 * Calculated entropy result is the one <strong>without</strong> denominator part(|U|): 
@@ -51,6 +69,9 @@ public class SCECalculation4ClassicHashMap
 	 * 					log(|X<sub>i</sub> ∩ Y<sub>j</sub>|/|X<sub>i</sub>|) 
 	 * 				)
 	 *			)
+	 * <p>
+	 * |X<sub>i</sub> ∩ Y<sub>j</sub>| are counted into a {@link ContingencyTable} in a single
+	 * pass over U instead of intersecting every pair of equivalence class and decision class.
 	 * 
 	 * @param Instances
 	 * 		An {@link Instance} {@link Collection}: <strong>U</strong>
@@ -65,28 +86,9 @@ public class SCECalculation4ClassicHashMap
 			Map<Integer, Collection<Instance>> decEClasses
 	) {
 		if (attributes.size()!=0) {
-			// U/P
-			Map<IntArrayKey, Collection<Instance>> equClasses =
-				ClassicAttributeReductionHashMapAlgorithm
-					.Basic
-					.equivalenceClass(Instances, attributes);
-			// Loop U/P and calculate entropy
-			double entropy = 0;
-			for (Collection<Instance> equClass: equClasses.values()) {
-				double sub = 0;
-				for (Collection<Instance> decEquClass: decEClasses.values()) {
-					// |X<xub>i</sub> ∩ Y<sub>j</sub>|
-					double intersection = ClassicAttributeReductionHashMapAlgorithm
-											.Basic
-											.intersectionOf(equClass, decEquClass)
-											.size();
-					// |X<xub>i</sub> ∩ Y<sub>j</sub>| / |X<xub>i</sub>|
-					double tmp = intersection / equClass.size();
-					sub += tmp * FastMath.log(tmp);
-				}
-				entropy -= equClass.size() * sub;
-			}
-			return entropy;
+			// |X<sub>i</sub> ∩ Y<sub>j</sub>| of U/P and U/D in one pass.
+			return ContingencyTable.of(Instances, attributes, decEClasses.keySet())
+									.shannonConditionalEntropy();
 		}else {
 			return 0;
 		}
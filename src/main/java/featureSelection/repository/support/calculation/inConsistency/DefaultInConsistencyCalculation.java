@@ -1,10 +1,11 @@
 package featureSelection.repository.support.calculation.inConsistency;
 
 import featureSelection.basic.support.calculation.featureImportance.InConsistencyCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 public abstract class DefaultInConsistencyCalculation 
-	implements InConsistencyCalculation
+	implements InConsistencyCalculation, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -12,6 +13,11 @@ public abstract class DefaultInConsistencyCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 	
 	@Override
 	public Integer plus(Integer v1, Integer v2) {
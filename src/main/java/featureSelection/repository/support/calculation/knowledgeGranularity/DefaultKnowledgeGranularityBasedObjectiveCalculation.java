@@ -2,8 +2,8 @@ package featureSelection.repository.support.calculation.knowledgeGranularity;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -14,6 +14,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.calculation.featureImportance.knowledgeGranularity.KnowledgeGranularityBasedObjectiveCalculation;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.support.calculation.knowledgeGranularity.roughEquivalenceClassBased.IncrementalKnowledgeGranularity4NEC;
 import org.apache.commons.math3.util.FastMath;
 
 import lombok.Getter;
@@ -171,6 +172,7 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 	
 	public void clearCaches() {
 		caches.clearEquivalenceClassesCache();
+		caches.clearGranularityCache();
 		caches.clearKnowledgeGraunlarityCache();
 		caches.clearDecAttrRelativeCache();
 	}
@@ -181,6 +183,10 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 	 * 	<li><strong>{@link #equClassesCache}</strong>
 	 * 			<p>For Equivalence Classes induced by a single attribute: <strong>U/{a}</strong>
 	 * 	</li>
+	 * 	<li><strong>{@link #granularityCache}</strong>
+	 * 			<p>For {@link IncrementalKnowledgeGranularity4NEC} of <strong>U/{a}</strong> with
+	 * 			decisions tracked, providing GP(<i>a</i>) and GP(<i>a</i> ∪ <i>Y</i>).
+	 * 	</li>
 	 * 	<li><strong>{@link #decAttrRelativeCache}</strong>
 	 * 			<p>For <strong>GP(<i>a</i>|<i>Y</i>)</strong> where <i>a</i> is an attribute in
 	 * 			{@link Instance}.
@@ -195,10 +201,12 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 	 */
 	private class Caches {
 		private Map<Integer, Collection<List<Instance>>> equClassesCache = new HashMap<>();
+		private Map<Integer, IncrementalKnowledgeGranularity4NEC> granularityCache = new HashMap<>();
 		private Map<Integer, Double> decAttrRelativeCache = new HashMap<>();
 		private Map<IntArrayKey, Double> knowledgeGraunlarityCache = new HashMap<>();
 		
 		public void clearEquivalenceClassesCache() {	equClassesCache.clear();			}
+		public void clearGranularityCache() {			granularityCache.clear();			}
 		public void clearKnowledgeGraunlarityCache() {	knowledgeGraunlarityCache.clear();	}
 		public void clearDecAttrRelativeCache() {		decAttrRelativeCache.clear();		}
 		
@@ -226,6 +234,29 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 			}
 			return cache;
 		}
+		/**
+		 * Get {@link IncrementalKnowledgeGranularity4NEC} of U/attribute, with decisions tracked.
+		 * <p>
+		 * Cache if needed.
+		 * 
+		 * @param attribute
+		 * 		An attribute of {@link Instance}. (Starts from 1)
+		 * @param instances
+		 * 		An {@link Instance} {@link Collection}.
+		 * @return {@link IncrementalKnowledgeGranularity4NEC} of U/attribute.
+		 */
+		private IncrementalKnowledgeGranularity4NEC cacheGranularity(
+				int attribute, Collection<Instance> instances
+		) {
+			IncrementalKnowledgeGranularity4NEC cache = granularityCache.get(attribute);
+			if (cache==null) {
+				cache = new IncrementalKnowledgeGranularity4NEC();
+				for (List<Instance> equClass: cacheEquivalenceClasses(attribute, instances))
+					cache.add(equClass.size(), decisionCountsOf(equClass));
+				granularityCache.put(attribute, cache);
+			}
+			return cache;
+		}
 		/**
 		 * Get GP(attribute).  
 		 * <p>
@@ -243,15 +274,12 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 				int attribute, Collection<Instance> instances,
 				DefaultKnowledgeGranularityCalculation gpCalculation
 		) {
-			// U/attribute
-			Collection<List<Instance>> equClasses = cacheEquivalenceClasses(attribute, instances);
 			// Lazy GP(attribute) calculation.
 			IntArrayKey key = new IntArrayKey(new int[] {attribute});
 			Double cache = knowledgeGraunlarityCache.get(key);
 			if (cache==null) {
 				cache = gpCalculation.calculate(
-							equClasses.stream().mapToInt(Collection::size).toArray(), 
-							instances.size()
+							cacheGranularity(attribute, instances).getSquareSum(), instances.size()
 						).getResult();
 				knowledgeGraunlarityCache.put(key, cache);
 			}
@@ -279,38 +307,33 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 			IntArrayKey key = new IntArrayKey(attributes);
 			Double cache = knowledgeGraunlarityCache.get(key);
 			if (cache==null) {
-				// U/attributes
-				Collection<List<Instance>> equClasses = null;
-				Collection<Collection<Instance>> targetEquClasses;
+				// U/attr, one with equivalence classes cached if any.
+				int attribute = attributes[0];
 				for (int attr: attributes) {
-					equClasses = equClassesCache.get(attr);
-					if (equClasses!=null)	break;
+					if (equClassesCache.containsKey(attr)) {
+						attribute = attr;
+						break;
+					}
 				}
-				// If no equivalence classes induced by any of the given attributes
-				if (equClasses==null) {
-					targetEquClasses = 
+				// Split equivalence classes in U/attr by the given attributes: U/attributes.
+				IncrementalKnowledgeGranularity4NEC granularity =
+						new IncrementalKnowledgeGranularity4NEC(cacheGranularity(attribute, instances), false);
+				Collection<Collection<Instance>> subEquClasses;
+				for (Collection<Instance> equClass: cacheEquivalenceClasses(attribute, instances)) {
+					if (equClass.size()==1)	continue;
+					subEquClasses = 
 						ClassicAttributeReductionHashMapAlgorithm
 							.Basic
-							.equivalenceClass(instances, new IntegerArrayIterator(attributes))
+							.equivalenceClass(equClass, new IntegerArrayIterator(attributes))
 							.values();
-				// Otherwise there exists equivalence classes induced by any of the given attributes
-				//	do further partitioning based on the equivalence classes.
-				}else {
-					targetEquClasses = new LinkedList<>();
-					for (Collection<Instance> equClass: equClasses) {
-						targetEquClasses.addAll(
-							ClassicAttributeReductionHashMapAlgorithm
-								.Basic
-								.equivalenceClass(equClass, new IntegerArrayIterator(attributes))
-								.values()	
-						);
-					}
+					if (subEquClasses.size()==1)	continue;
+					granularity.remove(equClass.size(), Collections.emptyList());
+					for (Collection<Instance> subEquClass: subEquClasses)
+						granularity.add(subEquClass.size(), Collections.emptyList());
 				}
 				// Calculate GP(attributes)
-				cache = gpCalculation.calculate(
-							targetEquClasses.stream().mapToInt(Collection::size).toArray(), 
-							instances.size()
-						).getResult();
+				cache = gpCalculation.calculate(granularity.getSquareSum(), instances.size())
+									.getResult();
 				knowledgeGraunlarityCache.put(key, cache);
 			}
 			return cache;
@@ -332,8 +355,6 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 				int attribute, Collection<Instance> instances,
 				DefaultKnowledgeGranularityCalculation gpCalculation
 		) {
-			// U/D
-			Collection<List<Instance>> decEquClasses = cacheEquivalenceClasses(0, instances);
 			// GP(D)
 			Double decKnowledgeGranularity = cacheKnowledgeGranularity(0, instances, gpCalculation);
 			// Calculate GP(attribute, D)
@@ -343,14 +364,7 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 				// Calculate GP(Si ∪ D)
 				double gpPD = 
 					gpCalculation.calculate(
-						// (U/D)/P
-						decEquClasses.stream().map(equClass->
-							equClass.stream()
-									.collect(Collectors.groupingBy(ins->ins.getAttributeValue(attribute)))
-									.values()
-						).flatMapToInt(equClass->equClass.stream().mapToInt(Collection::size))
-						.toArray(), 
-						instances.size()
+						cacheGranularity(attribute, instances).getDecisionSquareSum(), instances.size()
 					).getResult();
 				// Calculate GP(Si|Y)
 				cache = gpCalculation.calculateRelative(decKnowledgeGranularity, gpPD)
@@ -360,5 +374,18 @@ public class DefaultKnowledgeGranularityBasedObjectiveCalculation
 			}
 			return cache;
 		}
+		/**
+		 * Get the number of {@link Instance}s of each decision value in the given equivalence
+		 * class.
+		 * 
+		 * @param equClass
+		 * 		An equivalence class.
+		 * @return the number of {@link Instance}s of each decision value.
+		 */
+		private Collection<Integer> decisionCountsOf(Collection<Instance> equClass) {
+			Map<Integer, Integer> decisionCounts = new HashMap<>();
+			for (Instance ins: equClass)	decisionCounts.merge(ins.getAttributeValue(0), 1, Integer::sum);
+			return decisionCounts.values();
+		}
 	}
 }
\ No newline at end of file
@@ -92,6 +92,24 @@ public abstract class DefaultKnowledgeGranularityCalculation
 		return this;
 	}
 	
+	/**
+	 * Calculate the <strong>knowledge granularity</strong> of A by the sum of squared cardinal
+	 * numbers directly:
+	 * <p>
+	 * GP<sub>U</sub>(A) = (&Sigma;<sub>i=1</sub><sup>v</sup>|X<sub>i</sub>|<sup>2</sup>) / |U|<sup>2</sup>.
+	 * 
+	 * @param squareSum
+	 * 		&Sigma;<sub>i=1</sub><sup>v</sup>|X<sub>i</sub>|<sup>2</sup> of the equivalence classes
+	 * 		induced by <i>A</i>.
+	 * @param insSize
+	 * 		<strong>|U|</strong>.
+	 * @return this.
+	 */
+	public DefaultKnowledgeGranularityCalculation calculate(long squareSum, int insSize) {
+		result = insSize==0? 0: squareSum / FastMath.pow(insSize, 2);
+		return this;
+	}
+	
 	/**
 	 * Calculate the <strong>knowledge granularity</strong> of A relative to B:
 	 * <p>
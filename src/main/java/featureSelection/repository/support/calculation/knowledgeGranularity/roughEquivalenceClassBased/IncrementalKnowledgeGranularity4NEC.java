@@ -0,0 +1,329 @@
+package featureSelection.repository.support.calculation.knowledgeGranularity.roughEquivalenceClassBased;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import featureSelection.basic.annotation.theory.RoughSet;
+import featureSelection.basic.annotation.thread.ThreadUnsafe;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.EquivalenceClassDecMapXtension;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.NestedEquivalenceClassDecMapXtension;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
+import featureSelection.repository.support.calculation.knowledgeGranularity.DefaultKnowledgeGranularityCalculation;
+import lombok.Getter;
+
+/**
+ * Incremental <strong>knowledge granularity</strong> of NEC blocks: <strong>U/B</strong>,
+ * maintaining
+ * <ul>
+ * 	<li>{@link #squareSum}: &Sigma;<sub>X<sub>i</sub>&isin;U/B</sub>|X<sub>i</sub>|<sup>2</sup></li>
+ * 	<li>{@link #decisionSquareSum}: &Sigma;<sub>X<sub>i</sub>&isin;U/B</sub>
+ * 		&Sigma;<sub>D<sub>j</sub>&isin;U/D</sub>|X<sub>i</sub>∩D<sub>j</sub>|<sup>2</sup>, i.e. the
+ * 		per-decision sub-sums of U/(B ∪ D)</li>
+ * 	<li>{@link #instanceSize}: |U|</li>
+ * </ul>
+ * so that GP(B), GP(B ∪ D) and GP(D|B) are available in O(1), and are updated in O(changed
+ * blocks) when a block is split by a new attribute({@link #split(NestedEquivalenceClass, Collection)})
+ * or merged with arrived {@link Instance}s of streaming data({@link #merge(NestedEquivalenceClass,
+ * NestedEquivalenceClass)}), instead of O(|U/B|) by re-collecting the sizes of all blocks.
+ * <p>
+ * Decision counts of a block are obtained by {@link #decisionCountsOf(NestedEquivalenceClass)}, which
+ * requires decision info of in-consistent {@link EquivalenceClass}es. For plain
+ * {@link EquivalenceClass}es, construct with <code>decisionTracked</code> as <code>false</code> to
+ * maintain {@link #squareSum} and {@link #instanceSize} only.
+ *
+ * @see DefaultKnowledgeGranularityCalculation
+ * @see KnowledgeGranularityCalculation4NEC
+ *
+ * @author Benjamin_L
+ */
+@RoughSet
+@ThreadUnsafe
+public class IncrementalKnowledgeGranularity4NEC {
+	/**
+	 * &Sigma;<sub>X<sub>i</sub>&isin;U/B</sub>|X<sub>i</sub>|<sup>2</sup>
+	 */
+	@Getter private long squareSum;
+	/**
+	 * &Sigma;<sub>X<sub>i</sub>&isin;U/B</sub>&Sigma;<sub>D<sub>j</sub>&isin;U/D</sub>
+	 * |X<sub>i</sub>∩D<sub>j</sub>|<sup>2</sup>
+	 */
+	@Getter private long decisionSquareSum;
+	/**
+	 * |U|, i.e. the sum of block sizes.
+	 */
+	@Getter private int instanceSize;
+	/**
+	 * The number of block updates performed.
+	 */
+	@Getter private long updateTimes;
+	/**
+	 * Whether {@link #decisionSquareSum} is maintained.
+	 */
+	@Getter private final boolean decisionTracked;
+
+	public IncrementalKnowledgeGranularity4NEC() {
+		this(true);
+	}
+
+	/**
+	 * Construct an empty one.
+	 *
+	 * @param decisionTracked
+	 * 		Whether to maintain {@link #decisionSquareSum}.
+	 */
+	public IncrementalKnowledgeGranularity4NEC(boolean decisionTracked) {
+		this.decisionTracked = decisionTracked;
+	}
+
+	/**
+	 * Construct with the given NEC blocks: <strong>U/B</strong>.
+	 *
+	 * @param necs
+	 * 		{@link NestedEquivalenceClass} {@link Collection}: <strong>U/B</strong>
+	 */
+	public IncrementalKnowledgeGranularity4NEC(Collection<? extends NestedEquivalenceClass<?>> necs) {
+		this(necs, true);
+	}
+
+	/**
+	 * Construct with the given NEC blocks: <strong>U/B</strong>.
+	 *
+	 * @param necs
+	 * 		{@link NestedEquivalenceClass} {@link Collection}: <strong>U/B</strong>
+	 * @param decisionTracked
+	 * 		Whether to maintain {@link #decisionSquareSum}.
+	 */
+	public IncrementalKnowledgeGranularity4NEC(
+			Collection<? extends NestedEquivalenceClass<?>> necs, boolean decisionTracked
+	) {
+		this(decisionTracked);
+		for (NestedEquivalenceClass<?> nec: necs)	add(nec);
+	}
+
+	/**
+	 * Construct as a copy of the given one, e.g. to be refined by more attributes while keeping
+	 * the original one.
+	 *
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} to copy.
+	 * @param decisionTracked
+	 * 		Whether to maintain {@link #decisionSquareSum}. Only if <code>granularity</code> tracks
+	 * 		decisions too.
+	 */
+	public IncrementalKnowledgeGranularity4NEC(
+			IncrementalKnowledgeGranularity4NEC granularity, boolean decisionTracked
+	) {
+		this(decisionTracked && granularity.decisionTracked);
+		add(granularity);
+	}
+
+	/**
+	 * Add a block.
+	 *
+	 * @param size
+	 * 		The size of the block: |X|
+	 * @param decisionCounts
+	 * 		The number of {@link Instance}s of each decision value in the block. Ignored if
+	 * 		decisions are not tracked.
+	 */
+	public void add(int size, Collection<Integer> decisionCounts) {
+		updateTimes++;
+		instanceSize += size;
+		squareSum += (long) size * size;
+		if (decisionTracked)	for (int count: decisionCounts)	decisionSquareSum += (long) count * count;
+	}
+
+	/**
+	 * Remove a block.
+	 *
+	 * @param size
+	 * 		The size of the block: |X|
+	 * @param decisionCounts
+	 * 		The number of {@link Instance}s of each decision value in the block. Ignored if
+	 * 		decisions are not tracked.
+	 */
+	public void remove(int size, Collection<Integer> decisionCounts) {
+		updateTimes++;
+		instanceSize -= size;
+		squareSum -= (long) size * size;
+		if (decisionTracked)	for (int count: decisionCounts)	decisionSquareSum -= (long) count * count;
+	}
+
+	public void add(NestedEquivalenceClass<?> nec) {
+		add(nec.getInstanceSize(), decisionTracked? decisionCountsOf(nec).values(): Collections.emptyList());
+	}
+
+	public void remove(NestedEquivalenceClass<?> nec) {
+		remove(nec.getInstanceSize(), decisionTracked? decisionCountsOf(nec).values(): Collections.emptyList());
+	}
+
+	/**
+	 * Add updates recorded by another {@link IncrementalKnowledgeGranularity4NEC}, e.g. one
+	 * starting from empty and updated by splits of a part of blocks in another thread.
+	 *
+	 * @param updates
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} with updates to be added.
+	 */
+	public void add(IncrementalKnowledgeGranularity4NEC updates) {
+		updateTimes += updates.updateTimes;
+		instanceSize += updates.instanceSize;
+		squareSum += updates.squareSum;
+		if (decisionTracked)	decisionSquareSum += updates.decisionSquareSum;
+	}
+
+	/**
+	 * Split a block into sub-blocks, e.g. refined by a new attribute: X ∈ U/B into X/{a}.
+	 *
+	 * @param nec
+	 * 		The {@link NestedEquivalenceClass} to be split.
+	 * @param subNECs
+	 * 		{@link NestedEquivalenceClass}es split from <code>nec</code>.
+	 */
+	public void split(
+			NestedEquivalenceClass<?> nec, Collection<? extends NestedEquivalenceClass<?>> subNECs
+	) {
+		remove(nec);
+		for (NestedEquivalenceClass<?> sub: subNECs)	add(sub);
+	}
+
+	/**
+	 * Merge {@link Instance}s arrived(e.g. in streaming data) into an existing block, updating in
+	 * O(|decision values of arrived|):
+	 * <pre>
+	 * Σ|X|<sup>2</sup> += (|X|+|X'|)<sup>2</sup> - |X|<sup>2</sup>
+	 * Σ|X∩D<sub>j</sub>|<sup>2</sup> += (|X∩D<sub>j</sub>|+|X'∩D<sub>j</sub>|)<sup>2</sup> - |X∩D<sub>j</sub>|<sup>2</sup>
+	 * </pre>
+	 * A new block(i.e. nothing to merge into) is added by {@link #add(NestedEquivalenceClass)}.
+	 *
+	 * @param size
+	 * 		The size of the existing block: |X|
+	 * @param decisionCounts
+	 * 		The number of {@link Instance}s of each decision value in the existing block,
+	 * 		<strong>before</strong> merging. Ignored if decisions are not tracked.
+	 * @param arrivedSize
+	 * 		The number of arrived {@link Instance}s: |X'|
+	 * @param arrivedDecisionCounts
+	 * 		The number of arrived {@link Instance}s of each decision value. Ignored if decisions
+	 * 		are not tracked.
+	 */
+	public void merge(
+			int size, Map<Integer, Integer> decisionCounts,
+			int arrivedSize, Map<Integer, Integer> arrivedDecisionCounts
+	) {
+		updateTimes++;
+		instanceSize += arrivedSize;
+		squareSum += (long) arrivedSize * (2L * size + arrivedSize);
+		if (!decisionTracked)	return;
+		Integer count;
+		for (Map.Entry<Integer, Integer> arrived: arrivedDecisionCounts.entrySet()) {
+			count = decisionCounts.get(arrived.getKey());
+			decisionSquareSum += (long) arrived.getValue() * (2L * (count==null? 0: count) + arrived.getValue());
+		}
+	}
+
+	/**
+	 * Merge an arrived {@link NestedEquivalenceClass} into an existing one.
+	 * <p>
+	 * Should be called <strong>before</strong> items of <code>arrived</code> are merged into
+	 * <code>nec</code>.
+	 *
+	 * @see #merge(int, Map, int, Map)
+	 *
+	 * @param nec
+	 * 		The existing {@link NestedEquivalenceClass}.
+	 * @param arrived
+	 * 		The arrived {@link NestedEquivalenceClass} with the same attribute values under B.
+	 */
+	public void merge(NestedEquivalenceClass<?> nec, NestedEquivalenceClass<?> arrived) {
+		if (decisionTracked) {
+			merge(nec.getInstanceSize(), decisionCountsOf(nec), arrived.getInstanceSize(), decisionCountsOf(arrived));
+		}else {
+			merge(nec.getInstanceSize(), Collections.emptyMap(), arrived.getInstanceSize(), Collections.emptyMap());
+		}
+	}
+
+	/**
+	 * Get the <strong>knowledge granularity</strong> of B:
+	 * GP<sub>U</sub>(B) = &Sigma;|X<sub>i</sub>|<sup>2</sup> / |U|<sup>2</sup>
+	 *
+	 * @return GP<sub>U</sub>(B)
+	 */
+	public double knowledgeGranularity() {
+		return instanceSize==0? 0: squareSum / ((double) instanceSize * instanceSize);
+	}
+
+	/**
+	 * Get the <strong>knowledge granularity</strong> of B ∪ D:
+	 * GP<sub>U</sub>(B ∪ D) = &Sigma;&Sigma;|X<sub>i</sub>∩D<sub>j</sub>|<sup>2</sup> / |U|<sup>2</sup>
+	 *
+	 * @return GP<sub>U</sub>(B ∪ D)
+	 * @throws IllegalStateException if decisions are not tracked.
+	 */
+	public double knowledgeGranularityWithDecision() {
+		checkDecisionTracked();
+		return instanceSize==0? 0: decisionSquareSum / ((double) instanceSize * instanceSize);
+	}
+
+	/**
+	 * Get the <strong>knowledge granularity</strong> of D relative to B:
+	 * GP<sub>U</sub>(D|B) = GP<sub>U</sub>(B) - GP<sub>U</sub>(B ∪ D)
+	 *
+	 * @return GP<sub>U</sub>(D|B)
+	 * @throws IllegalStateException if decisions are not tracked.
+	 */
+	public double relativeKnowledgeGranularity() {
+		checkDecisionTracked();
+		return instanceSize==0? 0: (squareSum - decisionSquareSum) / ((double) instanceSize * instanceSize);
+	}
+
+	private void checkDecisionTracked() {
+		if (!decisionTracked)	throw new IllegalStateException("Decisions are not tracked.");
+	}
+
+	/**
+	 * Get the number of {@link Instance}s of each decision value in the given
+	 * {@link NestedEquivalenceClass}:
+	 * <ul>
+	 * 	<li>{@link NestedEquivalenceClassDecMapXtension}: its decision info.</li>
+	 * 	<li>{@link ClassSetType#POSITIVE}: {dec: instanceSize}</li>
+	 * 	<li>Otherwise, collected from its {@link EquivalenceClass}es: decision info of
+	 * 		{@link EquivalenceClassDecMapXtension}s or decision values of sortable ones.</li>
+	 * </ul>
+	 *
+	 * @param nec
+	 * 		A {@link NestedEquivalenceClass}.
+	 * @return decision values with the number of {@link Instance}s.
+	 * @throws IllegalArgumentException if an in-consistent {@link EquivalenceClass} without decision
+	 * 		info is contained.
+	 */
+	public static Map<Integer, Integer> decisionCountsOf(NestedEquivalenceClass<?> nec) {
+		if (nec instanceof NestedEquivalenceClassDecMapXtension) {
+			return ((NestedEquivalenceClassDecMapXtension<?, ?>) nec).getDecisionInfo();
+		}else if (ClassSetType.POSITIVE.equals(nec.getType())) {
+			return Collections.singletonMap(nec.getDec(), nec.getInstanceSize());
+		}else {
+			Map<Integer, Integer> decisionCounts = new HashMap<>();
+			for (EquivalenceClass equClass: nec.getEquClasses().values()) {
+				if (equClass instanceof EquivalenceClassDecMapXtension) {
+					for (Map.Entry<Integer, Integer> entry:
+							((EquivalenceClassDecMapXtension<?>) equClass).getDecisionInfo().entrySet()
+					) {
+						decisionCounts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+					}
+				}else if (equClass.sortable()) {
+					decisionCounts.merge(equClass.getDecisionValue(), equClass.getInstanceSize(), Integer::sum);
+				}else {
+					throw new IllegalArgumentException(
+							"Decision counts of in-consistent equivalence class unavailable: "+equClass
+						);
+				}
+			}
+			return decisionCounts;
+		}
+	}
+}
@@ -48,6 +48,46 @@ public class KnowledgeGranularityCalculation4NEC
 		return this;
 	}
 	
+	/**
+	 * Calculate the <strong>knowledge granularity</strong> of A based on the sums maintained
+	 * incrementally by {@link IncrementalKnowledgeGranularity4NEC}, in O(1) instead of collecting
+	 * sizes of all equivalence classes.
+	 * 
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} of <strong>U/A</strong>.
+	 * @return this {@link KnowledgeGranularityCalculation4NEC} instance.
+	 */
+	public KnowledgeGranularityCalculation4NEC calculate4ConditionalAttributes(
+			IncrementalKnowledgeGranularity4NEC granularity
+	) {
+		// count calculate
+		calculationTimes++;
+		// calculate
+		calculate(granularity.getSquareSum(), granularity.getInstanceSize());
+		return this;
+	}
+	
+	/**
+	 * Calculate the <strong>knowledge granularity</strong> of D relative to A: GP(D|A) = GP(A) -
+	 * GP(A ∪ D), based on the sums maintained incrementally by
+	 * {@link IncrementalKnowledgeGranularity4NEC}.
+	 * 
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} of <strong>U/A</strong>.
+	 * @return this {@link KnowledgeGranularityCalculation4NEC} instance.
+	 */
+	public KnowledgeGranularityCalculation4NEC calculateRelative4DecisionAttribute(
+			IncrementalKnowledgeGranularity4NEC granularity
+	) {
+		// count calculate
+		calculationTimes++;
+		// calculate
+		calculateRelative(
+			granularity.knowledgeGranularity(), granularity.knowledgeGranularityWithDecision()
+		);
+		return this;
+	}
+	
 	/**
 	 * Calculate the <strong>knowledge granularity</strong> of A based on the given
 	 * equivalence classes(U/A).
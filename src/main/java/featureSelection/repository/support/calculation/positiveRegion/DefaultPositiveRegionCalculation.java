@@ -1,10 +1,11 @@
 package featureSelection.repository.support.calculation.positiveRegion;
 
 import featureSelection.basic.support.calculation.featureImportance.PositiveRegionCalculation;
+import featureSelection.repository.support.calculation.CountableCalculation;
 import lombok.Getter;
 
 public abstract class DefaultPositiveRegionCalculation
-	implements PositiveRegionCalculation<Integer>
+	implements PositiveRegionCalculation<Integer>, CountableCalculation
 {
 	@Getter protected long calculationTimes = 0;
 	@Getter protected long calculationAttributeLength = 0;
@@ -12,6 +13,11 @@ public abstract class DefaultPositiveRegionCalculation
 		calculationTimes++;
 		calculationAttributeLength += attrLen;
 	}
+	@Override
+	public void addCalculationCounts(long calculationTimes, long calculationAttributeLength) {
+		this.calculationTimes += calculationTimes;
+		this.calculationAttributeLength += calculationAttributeLength;
+	}
 	
 	@Override
 	public Integer plus(Integer v1, Integer v2) {
@@ -8,6 +8,7 @@ import featureSelection.basic.lang.dataStructure.IntArrayKey;
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
 import featureSelection.repository.support.calculation.positiveRegion.DefaultPositiveRegionCalculation;
 import lombok.Getter;
@@ -17,6 +18,7 @@ public class PositiveRegionCalculation4ClassicHashMap
 	implements ClassicHashMapCalculation<Integer>
 {
 	@Getter private Integer positive;
+	@Getter private boolean belowBound;
 	@Override
 	public Integer getResult() {
 		return positive;
@@ -29,10 +31,75 @@ public class PositiveRegionCalculation4ClassicHashMap
 		// Count the current calculation
 		countCalculate(attributes.size());
 		// Calculate
+		belowBound = false;
 		positive = universes==null || universes.isEmpty()? 
 					0: positiveRegion(universes, attributes, decEClasses);
 		return this;
 	}
+
+	/**
+	 * Calculate the positive region, abandoned as soon as it can no longer reach
+	 * <code>bound</code> by counting boundary {@link Instance}s in one pass.
+	 * 
+	 * @see ClassicAttributeReductionHashMapAlgorithm.Basic#positiveRegion(Collection,
+	 * 		IntegerIterator, int)
+	 */
+	@Override
+	public PositiveRegionCalculation4ClassicHashMap calculateBounded(
+			Collection<Instance> universes, IntegerIterator attributes,
+			Map<Integer, Collection<Instance>> decEClasses, Integer bound
+	) {
+		if (bound==null)	return calculate(universes, attributes, decEClasses);
+		// Count the current calculation
+		countCalculate(attributes.size());
+		// Calculate
+		int pos = universes==null || universes.isEmpty()? 0:
+					ClassicAttributeReductionHashMapAlgorithm
+						.Basic
+						.positiveRegion(universes, attributes, bound.intValue());
+		return bounded(pos);
+	}
+
+	@Override
+	public PositiveRegionCalculation4ClassicHashMap calculate(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		belowBound = false;
+		positive = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: partition.positiveRegionSize();
+		return this;
+	}
+
+	@Override
+	public PositiveRegionCalculation4ClassicHashMap calculateBounded(
+			RefinablePartition partition, Map<Integer, Collection<Instance>> decEClasses,
+			Integer bound
+	) {
+		if (bound==null)	return calculate(partition, decEClasses);
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		int pos = partition.getRowSize()==0 || partition.getAttributes().length==0?
+					0: partition.positiveRegionSize(bound.intValue());
+		return bounded(pos);
+	}
+	
+	/**
+	 * Set the result of a bounded calculation.
+	 * 
+	 * @param pos
+	 * 		|POS| or <code>-(upper+1)</code> if abandoned.
+	 * @return <code>this</code>.
+	 */
+	private PositiveRegionCalculation4ClassicHashMap bounded(int pos) {
+		belowBound = pos<0;
+		positive = belowBound? -(pos+1): pos;
+		return this;
+	}
 	
 	private static int positiveRegion(
 			Collection<Instance> universes, IntegerIterator attributes,
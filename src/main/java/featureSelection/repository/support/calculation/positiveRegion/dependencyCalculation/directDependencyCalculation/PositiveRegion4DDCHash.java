@@ -5,6 +5,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.searchStrategy.HashSearchStrategy;
 import featureSelection.repository.entity.alg.directDependencyCalculation.GridRecord;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.directDependencyCalculation.FeatureImportance4DirectDependencyCalculation;
 import featureSelection.repository.support.calculation.positiveRegion.dependencyCalculation.DefaultDependencyCalculation;
 
@@ -36,6 +37,17 @@ public class PositiveRegion4DDCHash
 						0: dependency(instances, attribute);
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4DirectDependencyCalculation<Integer> calculate(
+			RefinablePartition partition, Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		dependency = partition.getRowSize()==0? 0: partition.positiveRegionSize();
+		return this;
+	}
 	
 	private int dependency(Collection<Instance> instances, IntegerIterator attributes) {
 		Collection<GridRecord> grid = Support.updateGrid(instances, attributes)
@@ -9,6 +9,7 @@ import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.basic.support.searchStrategy.HashSearchStrategy;
 import featureSelection.repository.entity.alg.heuristicDependencyCalculation.HashMapValue;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.heuristicDependencyCalculation.FeatureImportance4HeuristicDependencyCalculation;
 import featureSelection.repository.support.calculation.positiveRegion.dependencyCalculation.DefaultDependencyCalculation;
 
@@ -35,6 +36,18 @@ public class PositiveRegion4HDCHash
 						0: dependency(instances, desisionValues, attribute);
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4HeuristicDependencyCalculation<Integer> calculate(
+			RefinablePartition partition, Collection<Integer> decisionValues,
+			Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		dependency = partition.getRowSize()==0? 0: partition.positiveRegionSize();
+		return this;
+	}
 	
 	private int dependency(
 			Collection<Instance> instances, Collection<Integer> desisionValues,
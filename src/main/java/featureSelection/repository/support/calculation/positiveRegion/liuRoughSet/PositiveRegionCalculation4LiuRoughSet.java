@@ -4,6 +4,7 @@ import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArr
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
 import featureSelection.repository.algorithm.alg.liuRoughSet.LiuRoughSetAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4LiuRoughSet;
 import featureSelection.repository.support.calculation.positiveRegion.DefaultPositiveRegionCalculation;
 
@@ -45,6 +46,17 @@ public class PositiveRegionCalculation4LiuRoughSet
 					0: positiveRegion(instances, attributes).size();
 		return this;
 	}
+
+	@Override
+	public FeatureImportance4LiuRoughSet<Integer> calculate(
+			RefinablePartition partition, Object... args
+	) {
+		// Count the current calculation
+		countCalculate(partition.getAttributes().length);
+		// Calculate
+		positive = partition.getRowSize()==0? 0: partition.positiveRegionSize();
+		return this;
+	}
 	
 	public FeatureImportance4LiuRoughSet<Integer> calculate4Incremental(
 			Collection<Collection<Instance>> roughClasses, IntegerIterator attributes,
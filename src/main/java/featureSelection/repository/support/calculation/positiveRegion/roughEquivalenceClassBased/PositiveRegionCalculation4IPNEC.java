@@ -7,8 +7,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import featureSelection.basic.annotation.theory.RoughSet;
 import featureSelection.basic.annotation.thread.ThreadUnsafe;
@@ -26,16 +29,20 @@ import featureSelection.repository.entity.alg.rec.classSet.impl.extension.increm
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.PartitionResult;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.StatisticResult;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.AttributeProcessStrategy;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.adaptive.AdaptiveAttributeProcessStrategy;
 import featureSelection.repository.entity.alg.rec.nestedEC.NestedEquivalenceClassesInfo;
+import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.merger.DefaultNestedEquivalentClassesMerger;
 import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.params.DefaultNestedEquivalenceClassesMergerParams;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.FeatureImportance4NestedEquivalenceClassBased;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedIncrementalPartitionCalculation;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedStreamingDataCalculation;
+import featureSelection.repository.support.calculation.knowledgeGranularity.roughEquivalenceClassBased.IncrementalKnowledgeGranularity4NEC;
 import featureSelection.repository.support.calculation.positiveRegion.DefaultPositiveRegionCalculation;
 
 import org.apache.commons.math3.util.FastMath;
 
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * Positive Region Calculation for Incremental Partition NEC.
@@ -60,6 +67,17 @@ public class PositiveRegionCalculation4IPNEC
 	
 	@Getter private NestedEquivalenceClassesInfo<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>> necInfoWithMap;
 	@Getter private Integer result;
+	/**
+	 * {@link IncrementalKnowledgeGranularity4NEC} of the {@link NestedEquivalenceClass}es
+	 * maintained by this calculation, updated by splits of 0-NECs in
+	 * {@link #incrementalCalculate(AttributeProcessStrategy, Collection, Object...)} and by
+	 * merges/expirations in {@link #update4Arrived(Update4ArrivedInputs, Object...)} and
+	 * {@link #update4Expired(Update4ExpiredInputs, Object...)}. Not updated if <code>null</code>
+	 * (default).
+	 * <p>
+	 * Should be constructed with the {@link NestedEquivalenceClass}es before the calculations.
+	 */
+	@Setter @Getter private IncrementalKnowledgeGranularity4NEC granularity;
 
 	/* -------------------------------------------------------------------------------------------------- */
 	
@@ -120,6 +138,7 @@ public class PositiveRegionCalculation4IPNEC
 			// If key doesn't exist in S.
 			previousNestedEquClass = inputs.getPreviousReductNestedEquClasses().get(newData.getKey());
 			if (previousNestedEquClass==null) {
+				if (granularity!=null)	granularity.add(newData.getValue());
 				// Check ClassSetType.
 				switch(newData.getValue().getType()) {
 					// if E[x].cnst=0
@@ -142,6 +161,8 @@ public class PositiveRegionCalculation4IPNEC
 			// else key exists in H.
 			}else {
 				// Get s in S
+				// Update granularity before items of E[x] are merged into s.
+				if (granularity!=null)	granularity.merge(previousNestedEquClass, newData.getValue());
 				// newS, flag, sig = merge(s, E[x], sig)
 				NestedEquivalenceClass<EquivalenceClass> mergedNestedEquClass =
 						inputs.getNecMerger()
@@ -190,11 +211,133 @@ public class PositiveRegionCalculation4IPNEC
 		return this;
 	}
 	
+	/**
+	 * Update {@link NestedEquivalenceClass}es as well as the global positive region for
+	 * expired data.
+	 * <p>
+	 * {@link EquivalenceClass}es in {@link NestedEquivalenceClass}es are updated with the
+	 * instance numbers and decision values in
+	 * {@link Update4ExpiredInputs#getExpiredEquivalenceClasses()}(removed if no instance
+	 * left) and the consistencies of the {@link NestedEquivalenceClass}es involved are
+	 * re-calculated. {@link NestedEquivalenceClass}es without any {@link EquivalenceClass}
+	 * left are removed.
+	 * <p>
+	 * <strong>Notice</strong>:
+	 * <p>
+	 * Like {@link #update4Arrived(Update4ArrivedInputs, Object...)}, {@link ClassSetType#BOUNDARY}
+	 * {@link NestedEquivalenceClass}es are removed from
+	 * {@link Update4ExpiredInputs#getPreviousReductNestedEquClasses()}, please call
+	 * {@link #getNecInfoWithMap()} to access them and <code>getResult()</code> to get the
+	 * updated positive region.
+	 *
+	 * @see NestedEquivalenceClassBasedStreamingDataCalculation#update4Expired(Update4ExpiredInputs, Object...)
+	 */
+	@Override
+	public FeatureImportance4NestedEquivalenceClassBased<Integer> update4Expired(
+			Update4ExpiredInputs<Integer> inputs, Object... args
+	) {
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previousNestedEquClasses =
+				inputs.getPreviousReductNestedEquClasses();
+		int[] reduct = new int[inputs.getPreviousReduct().size()];
+		inputs.getPreviousReduct().reset();
+		for (int i=0; i<reduct.length; i++)	reduct[i] = inputs.getPreviousReduct().next();
+		
+		int pos = inputs.getPreviousSig().intValue();
+		// Nested equivalent classes involved.
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> involved =
+				new HashMap<>(inputs.getExpiredEquivalenceClasses().size());
+		
+		int[] keyValue;
+		IntArrayKey key, equKey;
+		EquivalenceClass equClass;
+		NestedEquivalenceClass<EquivalenceClass> nestedEquClass;
+		for (EquivalenceClass expired: inputs.getExpiredEquivalenceClasses().values()) {
+			// key = red(E[x])
+			keyValue = new int[reduct.length];
+			for (int i=0; i<reduct.length; i++)	keyValue[i] = expired.getAttributeValueAt(reduct[i]-1);
+			key = new IntArrayKey(keyValue);
+			nestedEquClass = involved.get(key);
+			if (nestedEquClass==null) {
+				nestedEquClass = previousNestedEquClasses.get(key);
+				if (nestedEquClass==null)	continue;
+				// sig = sig - count(s) if s.cnst==1, added back after updating if still 1.
+				if (ClassSetType.POSITIVE.equals(nestedEquClass.getType()))
+					pos -= nestedEquClass.getInstanceSize();
+				// s is removed from granularity, added back after updating if not empty.
+				if (granularity!=null)	granularity.remove(nestedEquClass);
+				involved.put(key, nestedEquClass);
+			}
+			// Update E[x] in s.
+			equKey = new IntArrayKey(expired.getAttrValue());
+			equClass = nestedEquClass.getEquClasses().get(equKey);
+			if (equClass==null)	continue;
+			nestedEquClass.setInstanceSize(
+				nestedEquClass.getInstanceSize()-equClass.getInstanceSize()+expired.getInstanceSize()
+			);
+			if (expired.getInstanceSize()==0) {
+				nestedEquClass.getEquClasses().remove(equKey);
+			}else {
+				equClass.setInstanceCount(expired.getInstanceCount());
+				equClass.setDecValue(expired.getDecValue());
+			}
+		}
+		
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> boundaries = new HashMap<>();
+		for (Entry<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> entry: involved.entrySet()) {
+			nestedEquClass = entry.getValue();
+			// if s is empty, remove s from S.
+			if (nestedEquClass.getEquClasses().isEmpty()) {
+				previousNestedEquClasses.remove(entry.getKey());
+				continue;
+			}
+			// s.cnst = updateConsistency(s)
+			DefaultNestedEquivalentClassesMerger.updateConsistency(nestedEquClass);
+			if (granularity!=null)	granularity.add(nestedEquClass);
+			switch (nestedEquClass.getType()) {
+				case POSITIVE:
+					// sig = sig + count(s)
+					pos += nestedEquClass.getInstanceSize();
+					break;
+				case BOUNDARY:
+					// move s into boundaries.
+					boundaries.put(entry.getKey(), nestedEquClass);
+					previousNestedEquClasses.remove(entry.getKey());
+					break;
+				default:
+					break;
+			}
+		}
+		
+		necInfoWithMap = new NestedEquivalenceClassesInfo<>(
+					boundaries,
+					boundaries.isEmpty()
+				);
+		result = pos;
+		return this;
+	}
+	
 	/* -------------------------------------------------------------------------------------------------- */
 	
 	@Getter private Collection<Integer> partitionAttributes;
 	@Getter private NestedEquivalenceClassesInfo<Collection<NestedEquivalenceClass<EquivalenceClass>>> necInfoWithCollection;
 	
+	/**
+	 * Default number of {@link EquivalenceClass}es in a shard for parallel partitioning.
+	 */
+	public static final int DEFAULT_PARTITION_SHARD_SIZE = 4096;
+	/**
+	 * {@link ForkJoinPool} for parallel partitioning in dynamic attribute group process
+	 * strategy based calculations. Partition in the calling thread if <code>null</code>(default).
+	 * 
+	 * @see #calculate(AttributeProcessStrategy, Collection, Object...)
+	 * @see #incrementalCalculate(AttributeProcessStrategy, Collection, Object...)
+	 */
+	@Setter @Getter private ForkJoinPool partitionPool;
+	/**
+	 * The number of {@link EquivalenceClass}es in a shard for parallel partitioning.
+	 */
+	@Setter @Getter private int partitionShardSize = DEFAULT_PARTITION_SHARD_SIZE;
+	
 	/**
 	 * Compute and calculate the positive region using dynamic group number in
 	 * <code>IP-NEC</code>.
@@ -204,6 +347,7 @@ public class PositiveRegionCalculation4IPNEC
 	 * <ul>
 	 *     <li><strong>{@link #partitionAttributes}</strong></li>
 	 * </ul>
+	 * Partition in parallel if {@link #partitionPool} is set.
 	 *
 	 * @see NestedEquivalenceClassBasedAlgorithm.IncrementalPartition
 	 * @see PositiveRegionCalculation4IPREC
@@ -223,10 +367,17 @@ public class PositiveRegionCalculation4IPNEC
 	) {
 		@SuppressWarnings("deprecation")
 		PartitionResult<Collection<Integer>, Collection<RoughEquivalenceClassDummy>> partitionResult =
-				RoughEquivalenceClassBasedExtensionAlgorithm
-					.IncrementalPartition
-					.Basic
-					.dynamicIncrementalPartition(attributeProcessStrategy, equClasses);
+				partitionPool==null?
+					RoughEquivalenceClassBasedExtensionAlgorithm
+						.IncrementalPartition
+						.Basic
+						.dynamicIncrementalPartition(attributeProcessStrategy, equClasses):
+					RoughEquivalenceClassBasedExtensionAlgorithm
+						.IncrementalPartition
+						.Basic
+						.dynamicIncrementalPartition(
+							attributeProcessStrategy, equClasses, partitionPool, partitionShardSize
+						);
 		
 		countCalculate(partitionResult.getAttributes().size());
 		
@@ -243,6 +394,9 @@ public class PositiveRegionCalculation4IPNEC
 	 * for calculation result/feedback besides {@link #result}:
 	 * <li><strong>{@link #partitionAttributes}</strong></li>
 	 * <li><strong>{@link #necInfoWithCollection}</strong></li>
+	 * <p>
+	 * Partition in parallel if {@link #partitionPool} is set. {@link #granularity} is updated by
+	 * splits of 0-NECs if set.
 	 * 
 	 * @see NestedEquivalenceClassBasedAlgorithm.IncrementalPartition
 	 * @see PositiveRegionCalculation4IPREC#calculate(AttributeProcessStrategy, Collection, Object...)
@@ -260,7 +414,12 @@ public class PositiveRegionCalculation4IPNEC
 			Object...args
 	) {
 		PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>> partitionResult =
-				incrementalDynamicIncrementalPartition(attributeProcessStrategy, nestedEquClasses);
+				partitionPool==null?
+					incrementalDynamicIncrementalPartition(attributeProcessStrategy, nestedEquClasses, granularity):
+					incrementalDynamicIncrementalPartition(
+						attributeProcessStrategy, nestedEquClasses, partitionPool, partitionShardSize,
+						granularity
+					);
 		
 		countCalculate(partitionResult.getAttributes().size());
 		
@@ -276,6 +435,9 @@ public class PositiveRegionCalculation4IPNEC
 	/**
 	 * Using the given {@link AttributeProcessStrategy} to extract partial attributes to 
 	 * further partition the given <code>roughClasses</code> incrementally.
+	 * <p>
+	 * If <code>attributeProcessStrategy</code> is an {@link AdaptiveAttributeProcessStrategy},
+	 * each partitioning is fed back to it.
 	 * 
 	 * @param attributeProcessStrategy
 	 * 		Implemented {@link AttributeProcessStrategy} instance.
@@ -293,6 +455,30 @@ public class PositiveRegionCalculation4IPNEC
 		incrementalDynamicIncrementalPartition(
 			AttributeProcessStrategy attributeProcessStrategy, 
 			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses
+	){
+		return incrementalDynamicIncrementalPartition(
+				attributeProcessStrategy, nestEquClasses, (IncrementalKnowledgeGranularity4NEC) null
+			);
+	}
+	
+	/**
+	 * {@link #incrementalDynamicIncrementalPartition(AttributeProcessStrategy, Collection)} with
+	 * each split of a 0-NEC updated into <code>granularity</code>.
+	 * 
+	 * @param attributeProcessStrategy
+	 * 		Implemented {@link AttributeProcessStrategy} instance.
+	 * @param nestEquClasses
+	 * 		{@link NestedEquivalenceClass} {@link Collection}.
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} to be updated. Not updated if
+	 * 		<code>null</code>.
+	 * @return {@link PartitionResult} instance.
+	 */
+	public static PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>>
+		incrementalDynamicIncrementalPartition(
+			AttributeProcessStrategy attributeProcessStrategy, 
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses,
+			IncrementalKnowledgeGranularity4NEC granularity
 	){
 		// Record used attributes.
 		int attributesSize = attributeProcessStrategy.attributeLength();
@@ -301,40 +487,367 @@ public class PositiveRegionCalculation4IPNEC
 		int pos = 0;
 		int[] partitionAttribute;
 		StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> statisticResult;
-		Collection<NestedEquivalenceClass<EquivalenceClass>> boundaries, result;
+		Collection<? extends NestedEquivalenceClass<EquivalenceClass>> result = nestEquClasses;
 		do {
 			// Initiate partition attributes.
 			partitionAttribute = attributeProcessStrategy.next();
-			boundaries = new LinkedList<>();
-			for (NestedEquivalenceClass<EquivalenceClass> nectedEquClass: nestEquClasses) {
-				// if 0-NEC
-				if (ClassSetType.BOUNDARY.equals(nectedEquClass.getType())) {
-					// Partition.
-					statisticResult = 
-						calculateEquivalenceClassPosPartition(
-							nectedEquClass.getEquClasses().values(), 
-							new IntegerArrayIterator(partitionAttribute)
-						);
-					// Calculate positive region.
-					pos += statisticResult.getPositiveRegion();
-					// if 0-REC is not empty after partition.
-					if (!statisticResult.isEmptyBoundaryClassSet())
-						boundaries.addAll(statisticResult.getRecord());
-				}
-			};
+			// Partition 0-NECs.
+			statisticResult = calculateBoundaryPosPartition(result, partitionAttribute, granularity);
+			feedback(attributeProcessStrategy, result, statisticResult);
+			// Calculate positive region.
+			pos += statisticResult.getPositiveRegion();
+			// Record used attributes.
+			if (partitionAttribute!=null)	for (int a: partitionAttribute)	usedAttributes.add(a);
+			
+			result = statisticResult.getRecord();
+		// If no 0-REC left, partition finish.
+		}while (!result.isEmpty() && usedAttributes.size()<attributesSize);
+		return new PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>>(
+				pos, 
+				statisticResult.isEmptyBoundaryClassSet(),
+				usedAttributes,
+				statisticResult.getRecord()
+			);
+	}
+
+	/**
+	 * Parallel version of {@link #incrementalDynamicIncrementalPartition(AttributeProcessStrategy,
+	 * Collection)}: in each partitioning, 0-NECs with more than <code>shardSize</code>
+	 * {@link EquivalenceClass}es are split into shards and partitioned with thread-local hash maps
+	 * in <code>pool</code>, and {@link NestedEquivalenceClass}es of shards are merged in order with
+	 * {@link ClassSetType} conflicts resolved. Smaller 0-NECs are partitioned in groups of about
+	 * <code>shardSize</code> {@link EquivalenceClass}es.
+	 * <p>
+	 * <code>attributeProcessStrategy</code> is only called in the calling thread and exactly as
+	 * the sequential version.
+	 * 
+	 * @param attributeProcessStrategy
+	 * 		Implemented {@link AttributeProcessStrategy} instance.
+	 * @param nestEquClasses
+	 * 		{@link NestedEquivalenceClass} {@link Collection}.
+	 * @param pool
+	 * 		{@link ForkJoinPool} to partition.
+	 * @param shardSize
+	 * 		The number of {@link EquivalenceClass}es in a shard/group.
+	 * @return {@link PartitionResult} instance, results includes:
+	 * 		<ul>
+	 * 			<li><code>positive region number</code>, </li>
+	 * 			<li><code>whether positive region has reached global one</code>, </li>
+	 * 			<li><code>attributes used in actual partition</code>, </li>
+	 * 			<li><code>partitioned {@link NestedEquivalenceClass} {@link Collection}</code></li>
+	 * 		</ul>
+	 */
+	public static PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>>
+		incrementalDynamicIncrementalPartition(
+			AttributeProcessStrategy attributeProcessStrategy, 
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses,
+			ForkJoinPool pool, int shardSize
+	){
+		return incrementalDynamicIncrementalPartition(
+				attributeProcessStrategy, nestEquClasses, pool, shardSize, null
+			);
+	}
+	
+	/**
+	 * {@link #incrementalDynamicIncrementalPartition(AttributeProcessStrategy, Collection,
+	 * ForkJoinPool, int)} with each split of a 0-NEC updated into <code>granularity</code>.
+	 * Splits partitioned in <code>pool</code> are recorded separately and added into
+	 * <code>granularity</code> in the calling thread.
+	 * 
+	 * @param attributeProcessStrategy
+	 * 		Implemented {@link AttributeProcessStrategy} instance.
+	 * @param nestEquClasses
+	 * 		{@link NestedEquivalenceClass} {@link Collection}.
+	 * @param pool
+	 * 		{@link ForkJoinPool} to partition.
+	 * @param shardSize
+	 * 		The number of {@link EquivalenceClass}es in a shard/group.
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} to be updated. Not updated if
+	 * 		<code>null</code>.
+	 * @return {@link PartitionResult} instance.
+	 */
+	public static PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>>
+		incrementalDynamicIncrementalPartition(
+			AttributeProcessStrategy attributeProcessStrategy, 
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses,
+			ForkJoinPool pool, int shardSize, IncrementalKnowledgeGranularity4NEC granularity
+	){
+		if (shardSize<=0)	throw new IllegalArgumentException("Illegal shard size: "+shardSize);
+		// Record used attributes.
+		int attributesSize = attributeProcessStrategy.attributeLength();
+		Collection<Integer> usedAttributes = new HashSet<>(attributesSize);
+
+		int pos = 0;
+		int[] partitionAttribute;
+		StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> statisticResult;
+		Collection<? extends NestedEquivalenceClass<EquivalenceClass>> result = nestEquClasses;
+		do {
+			// Initiate partition attributes.
+			partitionAttribute = attributeProcessStrategy.next();
+			// Partition 0-NECs.
+			statisticResult = calculateBoundaryPosPartition(
+									result, partitionAttribute, pool, shardSize, granularity
+								);
+			feedback(attributeProcessStrategy, result, statisticResult);
+			pos += statisticResult.getPositiveRegion();
 			// Record used attributes.
 			if (partitionAttribute!=null)	for (int a: partitionAttribute)	usedAttributes.add(a);
 			
-			result = boundaries;
+			result = statisticResult.getRecord();
 		// If no 0-REC left, partition finish.
 		}while (!result.isEmpty() && usedAttributes.size()<attributesSize);
 		return new PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>>(
 				pos, 
-				result.isEmpty(),
+				statisticResult.isEmptyBoundaryClassSet(),
 				usedAttributes,
-				result
+				statisticResult.getRecord()
 			);
 	}
+	
+	/**
+	 * Partition 0-NECs in <code>nestEquClasses</code> in parallel, collecting partitioned
+	 * {@link NestedEquivalenceClass}es of 0-NECs with 0-NECs left.
+	 * 
+	 * @see #incrementalDynamicIncrementalPartition(AttributeProcessStrategy, Collection, ForkJoinPool, int,
+	 * 		IncrementalKnowledgeGranularity4NEC)
+	 */
+	private static StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>>
+		calculateBoundaryPosPartition(
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses,
+			int[] attributes, ForkJoinPool pool, int shardSize,
+			IncrementalKnowledgeGranularity4NEC granularity
+	){
+		List<ForkJoinTask<StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>>>> groups =
+				new LinkedList<>();
+		// Splits of groups, added into granularity after joined.
+		List<IncrementalKnowledgeGranularity4NEC> groupGranularities = new LinkedList<>();
+		List<NestedEquivalenceClass<EquivalenceClass>> large = new LinkedList<>();
+		List<NestedEquivalenceClass<EquivalenceClass>> group = new ArrayList<>();
+		int groupSize = 0;
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: nestEquClasses) {
+			if (!ClassSetType.BOUNDARY.equals(nestedEquClass.getType()))	continue;
+			if (nestedEquClass.getItemSize()>shardSize) {
+				large.add(nestedEquClass);
+				continue;
+			}
+			group.add(nestedEquClass);
+			groupSize += nestedEquClass.getItemSize();
+			if (groupSize>=shardSize) {
+				List<NestedEquivalenceClass<EquivalenceClass>> groupInLine = group;
+				IncrementalKnowledgeGranularity4NEC groupGranularity = granularityOfGroup(granularity);
+				if (groupGranularity!=null)	groupGranularities.add(groupGranularity);
+				groups.add(pool.submit(()->calculateBoundaryPosPartition(groupInLine, attributes, groupGranularity)));
+				group = new ArrayList<>();
+				groupSize = 0;
+			}
+		}
+		if (!group.isEmpty()) {
+			List<NestedEquivalenceClass<EquivalenceClass>> groupInLine = group;
+			IncrementalKnowledgeGranularity4NEC groupGranularity = granularityOfGroup(granularity);
+			if (groupGranularity!=null)	groupGranularities.add(groupGranularity);
+			groups.add(pool.submit(()->calculateBoundaryPosPartition(groupInLine, attributes, groupGranularity)));
+		}
+		
+		int pos = 0;
+		Collection<NestedEquivalenceClass<EquivalenceClass>> boundaries = new LinkedList<>();
+		StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> statisticResult;
+		// Partition large 0-NECs in shards while groups are being partitioned.
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: large) {
+			statisticResult = calculateEquivalenceClassPosPartition(
+									nestedEquClass.getEquClasses().values(), attributes, pool, shardSize
+								);
+			if (granularity!=null)	granularity.split(nestedEquClass, statisticResult.getRecord());
+			pos += statisticResult.getPositiveRegion();
+			if (!statisticResult.isEmptyBoundaryClassSet())
+				boundaries.addAll(statisticResult.getRecord());
+		}
+		for (ForkJoinTask<StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>>> task: groups) {
+			statisticResult = task.join();
+			pos += statisticResult.getPositiveRegion();
+			boundaries.addAll(statisticResult.getRecord());
+		}
+		for (IncrementalKnowledgeGranularity4NEC groupGranularity: groupGranularities)
+			granularity.add(groupGranularity);
+		return new StatisticResult<>(pos, boundaries.isEmpty(), boundaries);
+	}
+	
+	/**
+	 * Get an empty {@link IncrementalKnowledgeGranularity4NEC} to record splits of a group
+	 * partitioned in another thread.
+	 * 
+	 * @param granularity
+	 * 		{@link IncrementalKnowledgeGranularity4NEC} the splits are added into.
+	 * @return <code>null</code> if <code>granularity</code> is <code>null</code>.
+	 */
+	private static IncrementalKnowledgeGranularity4NEC granularityOfGroup(
+			IncrementalKnowledgeGranularity4NEC granularity
+	) {
+		return granularity==null? null: new IncrementalKnowledgeGranularity4NEC(granularity.isDecisionTracked());
+	}
+	
+	/**
+	 * Partition 0-NECs in <code>nestEquClasses</code> sequentially, collecting partitioned
+	 * {@link NestedEquivalenceClass}es of 0-NECs with 0-NECs left, and updating the splits into
+	 * <code>granularity</code> if not <code>null</code>.
+	 */
+	private static StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>>
+		calculateBoundaryPosPartition(
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses, int[] attributes,
+			IncrementalKnowledgeGranularity4NEC granularity
+	){
+		int pos = 0;
+		Collection<NestedEquivalenceClass<EquivalenceClass>> boundaries = new LinkedList<>();
+		StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> statisticResult;
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: nestEquClasses) {
+			// if 0-NEC
+			if (!ClassSetType.BOUNDARY.equals(nestedEquClass.getType()))	continue;
+			statisticResult = 
+				calculateEquivalenceClassPosPartition(
+					nestedEquClass.getEquClasses().values(), 
+					new IntegerArrayIterator(attributes)
+				);
+			if (granularity!=null)	granularity.split(nestedEquClass, statisticResult.getRecord());
+			pos += statisticResult.getPositiveRegion();
+			if (!statisticResult.isEmptyBoundaryClassSet())
+				boundaries.addAll(statisticResult.getRecord());
+		}
+		return new StatisticResult<>(pos, boundaries.isEmpty(), boundaries);
+	}
+	
+	/**
+	 * Feed back a partitioning of 0-NECs in <code>nestEquClasses</code> to
+	 * <code>attributeProcessStrategy</code> if it is an {@link AdaptiveAttributeProcessStrategy},
+	 * and record the decision in <code>statisticResult</code>.
+	 * 
+	 * @param attributeProcessStrategy
+	 * 		Implemented {@link AttributeProcessStrategy} instance.
+	 * @param nestEquClasses
+	 * 		{@link NestedEquivalenceClass}es partitioned.
+	 * @param statisticResult
+	 * 		{@link StatisticResult} of the partitioning.
+	 */
+	private static void feedback(
+			AttributeProcessStrategy attributeProcessStrategy,
+			Collection<? extends NestedEquivalenceClass<EquivalenceClass>> nestEquClasses,
+			StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> statisticResult
+	) {
+		if (!(attributeProcessStrategy instanceof AdaptiveAttributeProcessStrategy))	return;
+		int boundaryItemsBefore = 0, boundaryItemsAfter = 0;
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: nestEquClasses)
+			if (ClassSetType.BOUNDARY.equals(nestedEquClass.getType()))	boundaryItemsBefore += nestedEquClass.getItemSize();
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: statisticResult.getRecord())
+			if (ClassSetType.BOUNDARY.equals(nestedEquClass.getType()))	boundaryItemsAfter += nestedEquClass.getItemSize();
+		statisticResult.setAttributeGroupDecision(
+			((AdaptiveAttributeProcessStrategy) attributeProcessStrategy)
+				.feedback(boundaryItemsBefore, boundaryItemsAfter)
+		);
+	}
+	
+	/**
+	 * Parallel version of {@link #calculateEquivalenceClassPosPartition(Collection, IntegerIterator)}:
+	 * {@link EquivalenceClass}es are split into shards of <code>shardSize</code>, partitioned
+	 * separately in <code>pool</code> and then merged.
+	 * 
+	 * @param equClasses
+	 * 		A {@link Collection} of {@link EquivalenceClass}es of a Nested Equivalence Class.
+	 * @param attributes
+	 * 		Extra attributes involved in the partition.
+	 * @param pool
+	 * 		{@link ForkJoinPool} to partition shards.
+	 * @param shardSize
+	 * 		The number of {@link EquivalenceClass}es in a shard.
+	 * @return {@link StatisticResult} instance with current positive region number and 
+	 * 		statistic record Collection as nested Equivalent Classes.
+	 */
+	public static StatisticResult<Collection<NestedEquivalenceClass<EquivalenceClass>>> calculateEquivalenceClassPosPartition(
+			Collection<EquivalenceClass> equClasses, int[] attributes, ForkJoinPool pool, int shardSize
+	) {
+		if (equClasses.size()<=shardSize)
+			return calculateEquivalenceClassPosPartition(equClasses, new IntegerArrayIterator(attributes));
+		List<EquivalenceClass> equClassList = new ArrayList<>(equClasses);
+		// Partition shards in parallel with thread-local hash maps.
+		List<ForkJoinTask<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>>> shards =
+				new ArrayList<>((equClassList.size()+shardSize-1)/shardSize);
+		for (int from=0; from<equClassList.size(); from+=shardSize) {
+			List<EquivalenceClass> shard =
+					equClassList.subList(from, FastMath.min(equClassList.size(), from+shardSize));
+			shards.add(pool.submit(()->nestedEquivalenceClassesOf(shard, attributes)));
+		}
+		// Merge shards in order.
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses = shards.get(0).join();
+		NestedEquivalenceClass<EquivalenceClass> record;
+		for (int i=1; i<shards.size(); i++) {
+			for (Entry<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> entry: shards.get(i).join().entrySet()) {
+				record = nestedEquClasses.putIfAbsent(entry.getKey(), entry.getValue());
+				if (record!=null) {
+					resolveClassSetType(record, entry.getValue().getType(), entry.getValue().getDec());
+					for (EquivalenceClass eClass: entry.getValue().getEquClasses().values())
+						record.addClassItem(eClass);
+				}
+			}
+		}
+		// Count positive region after merging.
+		int pos = 0;
+		boolean emptyBoundary = true;
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: nestedEquClasses.values()) {
+			switch (nestedEquClass.getType()) {
+				case POSITIVE:	pos += nestedEquClass.getInstanceSize();	break;
+				case BOUNDARY:	emptyBoundary = false;						break;
+				default:													break;
+			}
+		}
+		return new StatisticResult<>(pos, emptyBoundary, nestedEquClasses.values());
+	}
+	
+	/**
+	 * Partition a shard of {@link EquivalenceClass}es into {@link NestedEquivalenceClass}es with
+	 * keys.
+	 */
+	private static Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquivalenceClassesOf(
+			Collection<EquivalenceClass> equClasses, int[] attributes
+	) {
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses = new HashMap<>(equClasses.size());
+		int[] code;
+		IntArrayKey key;
+		NestedEquivalenceClass<EquivalenceClass> record;
+		for (EquivalenceClass eClass: equClasses) {
+			// key = attrValues(e[i])
+			key = new IntArrayKey(code=new int[attributes.length]);
+			for (int i=0; i<attributes.length; i++)	code[i] = eClass.getAttributeValueAt(attributes[i]-1);
+			record = nestedEquClasses.get(key);
+			if (record==null) {
+				nestedEquClasses.put(key, new PlainNestedEquivalenceClass(eClass));
+			}else {
+				resolveClassSetType(record, eClass.getType(), eClass.getDecisionValue());
+				record.addClassItem(eClass);
+			}
+		}
+		return nestedEquClasses;
+	}
+	
+	/**
+	 * Update {@link ClassSetType} and decision value of <code>nestedEquClass</code> when merged
+	 * with a class set of the given type and decision value: 1-NEC & 1-NEC with different
+	 * decision values -> 0-NEC, 1-NEC & -1-NEC/0-NEC -> 0-NEC, -1-NEC & 1-NEC/0-NEC -> 0-NEC.
+	 */
+	private static void resolveClassSetType(
+			NestedEquivalenceClass<EquivalenceClass> nestedEquClass, ClassSetType type, int dec
+	) {
+		switch (nestedEquClass.getType()) {
+			case POSITIVE:	// 1-NEC
+				if (!ClassSetType.POSITIVE.equals(type) || dec!=nestedEquClass.getDec()) {
+					nestedEquClass.setType(ClassSetType.BOUNDARY);
+					nestedEquClass.setDec(-1);
+				}
+				break;
+			case NEGATIVE:	// -1-NEC
+				if (!ClassSetType.NEGATIVE.equals(type))	nestedEquClass.setType(ClassSetType.BOUNDARY);
+				break;
+			default: 		// 0-NEC
+				break;
+		}
+	}
 
 	/**
 	 * Calculate positive region of {@link EquivalenceClass} {@link Collection} for extra
@@ -7,6 +7,7 @@ import java.util.Map.Entry;
 
 import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
 import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.toleranceClassObtainer.ToleranceClassBitmap;
 import featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.toleranceClassObtainer.ToleranceClassObtainer;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4ToleranceClassPositiveRegionIncremental;
 import featureSelection.repository.support.calculation.positiveRegion.DefaultPositiveRegionCalculation;
@@ -50,6 +51,12 @@ public class PositiveCalculation4TCPR
 		// ======================================================================================
 		ToleranceClassLoop:
 		for (Entry<Instance, Collection<Instance>> toleranceClass: toleranceClasses) {
+			// Check by words for bitmaps.
+			if (toleranceClass.getValue() instanceof ToleranceClassBitmap) {
+				if (((ToleranceClassBitmap) toleranceClass.getValue()).consistent())
+					pos.add(toleranceClass.getKey());
+				continue;
+			}
 			Iterator<Instance> insIterator = toleranceClass.getValue().iterator();
 			int dec = insIterator.next().getAttributeValue(0);
 			while (insIterator.hasNext()) {
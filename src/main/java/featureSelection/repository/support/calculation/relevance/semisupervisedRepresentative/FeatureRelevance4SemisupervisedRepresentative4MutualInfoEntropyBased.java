@@ -843,7 +843,7 @@ public class FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBase
 						infoEntropyCache.calculateByAllUniverses(
 							condAttributes.reset().next(), 
 							calculation.getInfoEntropyCalculation(), 
-							labeledUniverses
+							allUniverses
 						).getEntropyValue();
 				}else {
 					// Obtain U/F[j]
@@ -20,6 +20,7 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -268,6 +269,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 									getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 									getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 									getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
+									getParameters().get("redPartition"),
 							});
 					},
 					false,
@@ -286,18 +288,25 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(ClassicHashMapCalculation<Sig>) parameters[p++];
 						Sig sigDeviation =
 								(Sig) parameters[p++];
+						RefinablePartition redPartition =
+								(RefinablePartition) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return ClassicAttributeReductionHashMapAlgorithm
-								.mostSignificantAttribute(
-										calculation, 
-										sigDeviation, 
-										instances,
-										decClasses, 
-										red, 
-										attributes
-								);
+						if (redPartition==null || redPartition.getAttributes().length!=red.size())
+							redPartition = RefinablePartition.of(instances, new IntegerCollectionIterator(red));
+						int sig = ClassicAttributeReductionHashMapAlgorithm
+									.mostSignificantAttribute(
+											calculation, 
+											sigDeviation, 
+											redPartition,
+											decClasses, 
+											red, 
+											attributes
+									);
+						// Keep U/(red ∪ {sig}) for the next round.
+						if (sig!=-1)	getParameters().setNonRoot("redPartition", redPartition.refine(sig));
+						return sig;
 					}, 
 					(component, sigAttr) -> {
 						/* ------------------------------------------------------------------------------ */
@@ -25,6 +25,7 @@ import featureSelection.repository.entity.alg.compactedDecisionTable.impl.origin
 import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.compactedTable.InstanceBasedCompactedTableRecord;
 import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.equivalenceClass.EquivalenceClassCompactedTableRecord;
 import featureSelection.repository.entity.alg.compactedDecisionTable.interf.DecisionNumber;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.CompactedDecisionTableCalculation;
 import featureSelection.repository.support.shrink.compactedDecisionTable.original.Shrink4CompactedDecisionTable;
 import featureSelection.repository.support.shrink.compactedDecisionTable.original.ShrinkInput4CompactedDecisionTable;
@@ -324,6 +325,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST),
 								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 								getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES),
+								getParameters().get(ParameterConstants.PARAMETER_SIG_ATTRIBUTE_EVALUATOR),
 						});
 						localParameters.put("currentEquClassSize", ((Collection<?>) getParameters().get("equClasses")).size());
 					}, 
@@ -345,19 +347,34 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(int[]) parameters[p++];
 						Collection<Instance> instances =
 								(Collection<Instance>) parameters[p++];
+						ParallelFitnessEvaluator<CompactedDecisionTableCalculation<Sig>> evaluator =
+								(ParallelFitnessEvaluator<CompactedDecisionTableCalculation<Sig>>)
+								parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
 						MostSignificantAttributeResult<Sig, DN> sigResult = 
-								CompactedDecisionTableHashAlgorithm
-									.mostSignificantAttribute(
-											equClasses,
-											instances.size(),
-											calculation, 
-											sigDeviation,
-											red, 
-											new IntegerArrayIterator(attributes)
-									);
+								evaluator==null?
+									CompactedDecisionTableHashAlgorithm
+										.mostSignificantAttribute(
+												equClasses,
+												instances.size(),
+												calculation, 
+												sigDeviation,
+												red, 
+												new IntegerArrayIterator(attributes)
+										):
+									// Scan candidate attributes with thread-confined calculations.
+									CompactedDecisionTableHashAlgorithm
+										.mostSignificantAttribute(
+												equClasses,
+												instances.size(),
+												calculation,
+												evaluator, 
+												sigDeviation,
+												red, 
+												new IntegerArrayIterator(attributes)
+										);
 						if (sigResult.getAttribute()<0)
 							throw new IllegalStateException("abnormal sig attribute : "+sigResult.getAttribute());
 						return sigResult;
@@ -19,6 +19,7 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.repository.algorithm.alg.dependencyCalculation.DirectDependencyCalculationAlgorithm;
 import featureSelection.repository.algorithm.alg.dependencyCalculation.IncrementalDependencyCalculationAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.directDependencyCalculation.FeatureImportance4DirectDependencyCalculation;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -232,6 +233,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer4DDC<Sig extends N
 								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
+								localParameters.get("redPartition"),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -250,20 +252,26 @@ public class SignificantAttributeSeekingLoopProcedureContainer4DDC<Sig extends N
 								parameters[p++];
 						Sig sigDeviation =
 								(Sig) parameters[p++];
+						RefinablePartition redPartition =
+								(RefinablePartition) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						if (redPartition==null || redPartition.getAttributes().length!=red.size())
+							redPartition = RefinablePartition.of(instances, new IntegerCollectionIterator(red));
 						int sig = DirectDependencyCalculationAlgorithm
 									.mostSignificantAttribute(
 											calculation,
 											sigDeviation,
-											instances,
+											redPartition,
 											red,
 											redDependency,
 											attributes
 									);
 						if (sig==-1)
 							throw new IllegalStateException("abnormal most significant attribute result : "+sig);
+						// Keep U/(red ∪ {sig}) for the next round.
+						localParameters.put("redPartition", redPartition.refine(sig));
 						return sig;
 					}, 
 					(component, sig)->{
@@ -19,6 +19,7 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.repository.algorithm.alg.dependencyCalculation.HeuristicDependencyCalculationAlgorithm;
 import featureSelection.repository.algorithm.alg.dependencyCalculation.IncrementalDependencyCalculationAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.dependencyCalculation.heuristicDependencyCalculation.FeatureImportance4HeuristicDependencyCalculation;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -259,6 +260,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer4HDC<Sig extends N
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
 								getParameters().get("decisionValues"),
+								localParameters.get("redPartition"),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -279,14 +281,18 @@ public class SignificantAttributeSeekingLoopProcedureContainer4HDC<Sig extends N
 								(Sig) parameters[p++];
 						Collection<Integer> decisionValues =
 								(Collection<Integer>) parameters[p++];
+						RefinablePartition redPartition =
+								(RefinablePartition) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						if (redPartition==null || redPartition.getAttributes().length!=reduct.size())
+							redPartition = RefinablePartition.of(instances, new IntegerCollectionIterator(reduct));
 						int sig = HeuristicDependencyCalculationAlgorithm
 									.mostSignificantAttribute(
 											calculation,
 											sigDeviation,
-											instances,
+											redPartition,
 											reduct,
 											redDependency,
 											attributes,
@@ -295,6 +301,8 @@ public class SignificantAttributeSeekingLoopProcedureContainer4HDC<Sig extends N
 						if (sig==-1) {
 							throw new IllegalStateException("abnormal most significant attribute result : "+sig);
 						}
+						// Keep U/(red ∪ {sig}) for the next round.
+						localParameters.put("redPartition", redPartition.refine(sig));
 						return sig;
 					}, 
 					(component, sig)->{
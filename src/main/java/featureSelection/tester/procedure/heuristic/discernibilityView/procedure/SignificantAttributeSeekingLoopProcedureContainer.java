@@ -21,6 +21,8 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.repository.algorithm.alg.discernibilityView.TengDiscernibilityViewAlgorithm;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4TengDiscernibilityView;
 import featureSelection.repository.support.shrink.discernibilityView.Shrink4TengDiscernibilityView;
 import featureSelection.repository.support.shrink.discernibilityView.ShrinkInput4TengDiscernibilityView;
@@ -482,12 +484,12 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 						}
 						component.setLocalParameters(new Object[] {
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
-								localParameters.get("insSize"),
 								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 								getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST),
 								getParameters().get("removedAttributes"),
 								getParameters().get("redEquClasses"),
 								localParameters.get("relativeDisDegreeOfDec2Red"),
+								getParameters().get(ParameterConstants.PARAMETER_SIG_ATTRIBUTE_EVALUATOR),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -496,8 +498,6 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 						FeatureImportance4TengDiscernibilityView<Sig> calculation = 
 								(FeatureImportance4TengDiscernibilityView<Sig>)
 								parameters[p++];
-						int insSize =
-								(int) parameters[p++];
 						int[] attributes =
 								(int[]) parameters[p++];
 						Collection<Integer> reduct =
@@ -508,23 +508,40 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(Collection<Collection<Instance>>) parameters[p++];
 						Sig relativeDisDegreeOfDec2Red =
 								(Sig) parameters[p++];
+						ParallelFitnessEvaluator<FeatureImportance4TengDiscernibilityView<Sig>> evaluator =
+								(ParallelFitnessEvaluator<FeatureImportance4TengDiscernibilityView<Sig>>)
+								parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						int sigAttribute =
+						// U[j]/red, refined by every candidate attribute instead of re-partitioning.
+						RefinablePartition redPartition =
+								RefinablePartition.ofEquivalenceClasses(
+										redEquClasses,
+										reduct.stream().mapToInt(v->v).toArray()
+								);
+						int sigAttribute = evaluator==null?
 								TengDiscernibilityViewAlgorithm
 										.mostSignificantAttribute(
-												// U[j]
-												insSize,
 												// A
 												attributes,
 												// A'
 												removedAttributes,
 												// U[j]/red
-												redEquClasses,
+												redPartition,
 												// Dis(D|red)
 												relativeDisDegreeOfDec2Red,
 												calculation
+										):
+								// Scan candidate attributes with thread-confined calculations.
+								TengDiscernibilityViewAlgorithm
+										.mostSignificantAttribute(
+												attributes,
+												removedAttributes,
+												redPartition,
+												relativeDisDegreeOfDec2Red,
+												calculation,
+												evaluator
 										);
 						// A' = A' U a[k].
 						reduct.add(sigAttribute);
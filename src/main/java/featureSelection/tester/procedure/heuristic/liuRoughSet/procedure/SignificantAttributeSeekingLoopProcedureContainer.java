@@ -20,6 +20,7 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.algorithm.alg.liuRoughSet.LiuRoughSetAlgorithm;
+import featureSelection.repository.entity.universe.RefinablePartition;
 import featureSelection.repository.support.calculation.alg.FeatureImportance4LiuRoughSet;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -191,7 +192,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
 								getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES),
-								getParameters().get("roughClass"),
+								getParameters().get("redPartition"),
 								getParameters().get("redSig"),
 							});
 					}, 
@@ -209,21 +210,24 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(Sig) parameters[p++];
 						Collection<Instance> instances =
 								(Collection<Instance>) parameters[p++];
-						Collection<Collection<Instance>> roughClass =
-								(Collection<Collection<Instance>>) parameters[p++];
+						RefinablePartition redPartition =
+								(RefinablePartition) parameters[p++];
 						Sig redSig =
 								(Sig) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						if (redPartition==null || redPartition.getAttributes().length!=red.size()) {
+							redPartition = RefinablePartition.of(instances, new IntegerCollectionIterator(red));
+							getParameters().setNonRoot("redPartition", redPartition);
+						}
 						return LiuRoughSetAlgorithm
 									.mostSignificantAttribute(
 											calculation,
 											sigDeviation,
-											roughClass, 
+											redPartition, 
 											red, 
 											attributes, 
-											instances.size(),
 											redSig 
 								);
 					}, 
@@ -338,6 +342,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST),
 								getParameters().get("sig"),
+								getParameters().get("redPartition"),
 							});
 					},
 					false,
@@ -350,30 +355,32 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(FeatureImportance4LiuRoughSet<Sig>) parameters[p++];
 						Collection<Integer> red =
 								(Collection<Integer>) parameters[p++];
+						int sig =
+								(int) parameters[p++];
+						RefinablePartition redPartition =
+								(RefinablePartition) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						Collection<Collection<Instance>> roughClasses =
-								LiuRoughSetAlgorithm
-									.Basic
-									.equivalenceClass(
-											instances,
-											new IntegerCollectionIterator(red)
-									);
-						Sig redSig = calculation.calculate(instances, new IntegerCollectionIterator(red), instances.size())
-												.getResult();
+						// Refine U/red by the new attribute instead of re-partitioning U.
+						if (redPartition!=null && redPartition.getAttributes().length+1==red.size()) {
+							redPartition = redPartition.refine(sig);
+						}else {
+							redPartition = RefinablePartition.of(instances, new IntegerCollectionIterator(red));
+						}
+						Sig redSig = calculation.calculate(redPartition).getResult();
 						return new Object[] {
-								roughClasses,
+								redPartition,
 								redSig,
 						};
 					}, 
 					(component, result) -> {
 						/* ------------------------------------------------------------------------------ */
 						int r=0;
-						Collection<Collection<Instance>> roughClass = (Collection<Collection<Instance>>) result[r++];
+						RefinablePartition redPartition = (RefinablePartition) result[r++];
 						Sig redSig = (Sig) result[r++];
 						/* ------------------------------------------------------------------------------ */
-						getParameters().setNonRoot("roughClass", roughClass);
+						getParameters().setNonRoot("redPartition", redPartition);
 						getParameters().setNonRoot("redSig", redSig);
 						/* ------------------------------------------------------------------------------ */
 						// Statistics
@@ -22,6 +22,7 @@ import featureSelection.repository.algorithm.alg.positiveApproximationAccelerato
 import featureSelection.repository.algorithm.alg.positiveApproximationAccelerator.PositiveApproximationAcceleratorOriginalUtils;
 import featureSelection.repository.entity.alg.positiveApproximationAccelerator.EquivalenceClass;
 import featureSelection.repository.entity.alg.positiveApproximationAccelerator.MostSignificantAttributeResult;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.PositiveApproximationAcceleratorCalculation;
 import featureSelection.repository.support.shrink.positiveApproximationAccelerator.original.Shrink4PositiveApproximationAccelerator;
 import featureSelection.tester.procedure.ComponentTags;
@@ -302,6 +303,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
 								getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES),
+								getParameters().get(ParameterConstants.PARAMETER_SIG_ATTRIBUTE_EVALUATOR),
 							});
 					}, 
 					false,
@@ -321,18 +323,35 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								(Sig) parameters[p++];
 						Collection<Instance> instances =
 								(Collection<Instance>) parameters[p++];
+						ParallelFitnessEvaluator<PositiveApproximationAcceleratorCalculation<Sig>> evaluator =
+								(ParallelFitnessEvaluator<PositiveApproximationAcceleratorCalculation<Sig>>)
+								parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return PositiveApproximationAcceleratorOriginalAlgorithm
-									.mostSignificantAttribute(
-											equClasses, 
-											red, 
-											attributes, 
-											instances.size(),
-											calculation, 
-											sigDeviation
-									);
+						if (evaluator==null) {
+							return PositiveApproximationAcceleratorOriginalAlgorithm
+										.mostSignificantAttribute(
+												equClasses, 
+												red, 
+												attributes, 
+												instances.size(),
+												calculation, 
+												sigDeviation
+										);
+						}else {
+							// Scan candidate attributes with thread-confined calculations.
+							return PositiveApproximationAcceleratorOriginalAlgorithm
+										.mostSignificantAttribute(
+												equClasses, 
+												red, 
+												attributes, 
+												instances.size(),
+												calculation,
+												evaluator, 
+												sigDeviation
+										);
+						}
 					}, 
 					(component, result) -> {
 						/* ------------------------------------------------------------------------------ */
@@ -33,6 +33,7 @@ import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.Nest
 import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedUtils;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
 import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
 import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.result.ReductionResult;
 import featureSelection.repository.entity.alg.rec.nestedEC.interf.nestedEquivalenceClassesMerge.NestedEquivalenceClassesMerger;
 import featureSelection.repository.entity.alg.rec.nestedEC.interf.nestedEquivalenceClassesMerge.NestedEquivalenceClassesMergerParameters;
@@ -226,23 +227,28 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 						if (logOn)	log.info("2. "+component.getDescription());
 						component.setLocalParameters(new Object[] {
 								getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES),
-								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES)
+								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
+								getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES),
 						});
 					}, 
 					false, (component, parameters) -> {
 						/* ------------------------------------------------------------------------------ */
 						Collection<Instance> instances = (Collection<Instance>) parameters[0];
 						int[] attributes = (int[]) parameters[1];
+						Map<IntArrayKey, EquivalenceClass> arrivedEquivalenceClasses =
+								(Map<IntArrayKey, EquivalenceClass>) parameters[2];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						// Equivalence Classes compressed in advance(e.g. by ArrivalPipeline).
+						if (arrivedEquivalenceClasses!=null)	return arrivedEquivalenceClasses;
 						return NestedEquivalenceClassBasedAlgorithm
 								.Basic
 								.equivalenceClass(instances, new IntegerArrayIterator(attributes));
 					}, 
 					(component, result) -> {
 						/* ------------------------------------------------------------------------------ */
-						getParameters().setNonRoot("arrivedEquivalenceClasses", result);
+						getParameters().setNonRoot(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES, result);
 						/* ------------------------------------------------------------------------------ */
 						// Statistics
 						//	[STATISTIC_BASIC_UNIVERSE_INFO_BUILDER]
@@ -285,7 +291,8 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 								getParameters().get(ParameterConstants.PARAMETER_PREVIOUS_REDUCT),
 								getParameters().get(ParameterConstants.PARAMETER_PREVIOUS_REDUCT_SIG),
 								getParameters().get(ParameterConstants.PARAMETER_IP_NEC_DYNAMIC_DATA_EQUIVALENCE_CLASS_MERGER),
-								getParameters().get("arrivedEquivalenceClasses"),
+								getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES),
+								getParameters().get(ParameterConstants.PARAMETER_EXPIRED_EQUIVALENCE_CLASSES),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -304,11 +311,30 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 								parameters[p++];
 						Map<IntArrayKey, EquivalenceClass> arrivedEquivalenceClasses =
 								(Map<IntArrayKey, EquivalenceClass>) parameters[p++];
+						Map<IntArrayKey, EquivalenceClass> expiredEquivalenceClasses =
+								(Map<IntArrayKey, EquivalenceClass>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
 						NestedEquivalenceClassBasedStreamingDataCalculation<Sig, MergeParams> calculation =
 								calculationClass.newInstance();
+						// Update Nested Equivalence Classes for expired data(sliding window).
+						Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> expiredBoundaries = null;
+						if (expiredEquivalenceClasses!=null && !expiredEquivalenceClasses.isEmpty()) {
+							calculation.update4Expired(
+									new NestedEquivalenceClassBasedStreamingDataCalculation
+											.Update4ExpiredInputs<Sig>(
+												previousReductNestedEquClasses,
+												new IntegerCollectionIterator(previousReduct),
+												previousReductSig,
+												expiredEquivalenceClasses
+											)
+							);
+							previousReductSig = calculation.getResult();
+							// Put 0-NECs back for arrived data to be merged into.
+							expiredBoundaries = calculation.getNecInfoWithMap().getNestedEquClasses();
+							previousReductNestedEquClasses.putAll(expiredBoundaries);
+						}
 						// Update Nested Equivalence Classes for arrived data.
 						calculation.update4Arrived(
 								new NestedEquivalenceClassBasedStreamingDataCalculation
@@ -322,6 +348,20 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 										)
 						);
 						Sig newSig = calculation.getResult();
+						if (expiredBoundaries!=null) {
+							// Collect 0-NECs of expired data which arrived data are not merged into.
+							Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> boundaries =
+									calculation.getNecInfoWithMap().getNestedEquClasses();
+							NestedEquivalenceClass<EquivalenceClass> nestedEquClass;
+							for (IntArrayKey key: expiredBoundaries.keySet()) {
+								nestedEquClass = previousReductNestedEquClasses.get(key);
+								if (nestedEquClass!=null && ClassSetType.BOUNDARY.equals(nestedEquClass.getType())) {
+									boundaries.put(key, nestedEquClass);
+									previousReductNestedEquClasses.remove(key);
+								}
+							}
+							calculation.getNecInfoWithMap().setEmptyBoundaryClass(boundaries.isEmpty());
+						}
 						return new Object[] {
 								newSig, calculation, 
 								calculation.getNecInfoWithMap().getNestedEquClasses()
@@ -356,7 +396,7 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 						ProcedureUtils.Report.DatasetRealTimeInfo.save(
 								report, component.getDescription(), 
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES)).size(), 
-								((Map<?, ?>) getParameters().get("arrivedEquivalenceClasses")).size(),
+								((Map<?, ?>) getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES)).size(),
 								0
 						);
 						//	[REPORT_EXECUTION_TIME]
@@ -440,7 +480,7 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 						ProcedureUtils.Report.DatasetRealTimeInfo.save(
 								report, component.getDescription(), 
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES)).size(), 
-								((Map<?, ?>) getParameters().get("arrivedEquivalenceClasses")).size(),
+								((Map<?, ?>) getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES)).size(),
 								0
 						);
 						/* ------------------------------------------------------------------------------ */
@@ -573,7 +613,7 @@ public class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQR
 						ProcedureUtils.Report.DatasetRealTimeInfo.save(
 								report, component.getDescription(), 
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES)).size(), 
-								((Map<?, ?>) getParameters().get("arrivedEquivalenceClasses")).size(),
+								((Map<?, ?>) getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES)).size(),
 								0
 						);
 						/* ------------------------------------------------------------------------------ */
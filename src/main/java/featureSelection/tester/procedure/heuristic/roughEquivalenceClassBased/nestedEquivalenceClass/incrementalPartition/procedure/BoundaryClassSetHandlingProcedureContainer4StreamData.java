@@ -279,7 +279,7 @@ public class BoundaryClassSetHandlingProcedureContainer4StreamData<Sig extends N
 						ProcedureUtils.Report.DatasetRealTimeInfo.save(
 								report, reportMark, 
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES)).size(), 
-								((Map<?, ?>) getParameters().get("arrivedEquivalenceClasses")).size(),
+								((Map<?, ?>) getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES)).size(),
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST)).size()
 						);
 						//	[REPORT_EXECUTION_TIME]
@@ -368,7 +368,7 @@ public class BoundaryClassSetHandlingProcedureContainer4StreamData<Sig extends N
 						ProcedureUtils.Report.DatasetRealTimeInfo.save(
 								report, reportMark, 
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES)).size(), 
-								((Map<?, ?>) getParameters().get("arrivedEquivalenceClasses")).size(),
+								((Map<?, ?>) getParameters().get(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES)).size(),
 								((Collection<?>) getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST)).size()
 						);
 						//	[REPORT_EXECUTION_TIME]
@@ -1,5 +1,6 @@
 package featureSelection.tester.procedure.heuristic.roughEquivalenceClassBased.original.extension.incrementalPartition.procedure;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -22,6 +23,7 @@ import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass
 import featureSelection.repository.entity.alg.rec.classSet.impl.extension.incrementalPartition.RoughEquivalenceClassDummy;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.SignificantAttributeClassPack;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.StatisticResult;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.extension.incrementalPartition.Shrink4RECBoundaryClassSetStays;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -59,6 +61,8 @@ import lombok.extern.slf4j.Slf4j;
  * <ul>
  * 	<li>[preset] {@link ParameterConstants#PARAMETER_ATTRIBUTES}</li>
  * 	<li>[preset] {@link ParameterConstants#PARAMETER_SHRINK_INSTANCE_INSTANCE}</li>
+ * 	<li>[optional] {@link ParameterConstants#PARAMETER_SIG_ATTRIBUTE_EVALUATOR}: candidate attributes
+ * 		are partitioned in its {@link java.util.concurrent.ForkJoinPool} if set.</li>
  * 	<li>{@link ParameterConstants#PARAMETER_REDUCT_LIST}</li>
  * 	<li>equClasses</li>
  * 	<li>roughClasses</li>
@@ -172,6 +176,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer
 								getParameters().get(ParameterConstants.PARAMETER_REDUCT_LIST),
 								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 								getParameters().get(ParameterConstants.PARAMETER_SHRINK_INSTANCE_INSTANCE),
+								getParameters().get(ParameterConstants.PARAMETER_SIG_ATTRIBUTE_EVALUATOR),
 						});
 
 						if (localParameters.get("lastUniverseSize")==null || 
@@ -201,26 +206,37 @@ public class SignificantAttributeSeekingLoopProcedureContainer
 						Shrink4RECBoundaryClassSetStays shrinkInstance =
 								(Shrink4RECBoundaryClassSetStays)
 								parameters[p++];
+						ParallelFitnessEvaluator<?> evaluator =
+								(ParallelFitnessEvaluator<?>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
 						int maxPos=0, sigAttr=-1;
 						// Loop over attributes outside of reduct.
+						int[] candidates = Arrays.stream(attributes).filter(attr->!reduct.contains(attr)).toArray();
+						// Partition by candidates in the pool of the evaluator in advance if there is one.
+						StatisticResult<Collection<RoughEquivalenceClassDummy>>[] statisticResults =
+								evaluator==null? null:
+								RoughEquivalenceClassBasedExtensionAlgorithm
+										.IncrementalPartition
+										.Basic
+										.calculateRoughEquivalenceClassPosPartitions(
+												roughClasses, candidates, evaluator.getPool()
+										);
 						StatisticResult<Collection<RoughEquivalenceClassDummy>> statisticResult;
 						Collection<RoughEquivalenceClassDummy> maxSigRoughClasses = null;
-						for (int i=0; i<attributes.length; i++) {
-							if (reduct.contains(attributes[i]))	continue;
+						for (int c=0; c<candidates.length; c++) {
 							// Calculate the significance of reduct ∪ {a}
-							statisticResult =
+							statisticResult = statisticResults!=null? statisticResults[c]:
 									RoughEquivalenceClassBasedExtensionAlgorithm
 											.IncrementalPartition
 											.Basic
 											.calculateRoughEquivalenceClassPosPartition(
-													roughClasses, attributes[i]
+													roughClasses, candidates[c]
 											);
 							// Update if needed.
 							if (sigAttr==-1 || statisticResult.getPositiveRegion()>maxPos) {
-								sigAttr = attributes[i];
+								sigAttr = candidates[c];
 								maxSigRoughClasses = statisticResult.getRecord();
 								maxPos = statisticResult.getPositiveRegion();
 							}
@@ -19,7 +19,9 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedExtensionAlgorithm;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation;
 import featureSelection.tester.procedure.ComponentTags;
 import featureSelection.tester.procedure.param.ParameterConstants;
@@ -203,6 +205,7 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_DEVIATION),
+								getParameters().get(ParameterConstants.PARAMETER_SIG_ATTRIBUTE_EVALUATOR),
 							});
 					}, 
 					false,
@@ -222,9 +225,23 @@ public class SignificantAttributeSeekingLoopProcedureContainer<Sig extends Numbe
 								parameters[p++];
 						Sig sigDeviation =
 								(Sig) parameters[p++];
+						ParallelFitnessEvaluator<RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation<Sig>> evaluator =
+								(ParallelFitnessEvaluator<RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation<Sig>>)
+								parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						if (evaluator!=null) {
+							// Scan candidate attributes with thread-confined calculations.
+							return RoughEquivalenceClassBasedExtensionAlgorithm
+										.SimpleCounting
+										.RealTimeCounting
+										.mostSignificantAttribute(
+												calculation, sigDeviation,
+												instances.size(), equClasses, red,
+												evaluator, attributes
+										);
+						}
 						// Initiate
 						int sigAttr = -1;
 						Sig maxSig = null, subSig;
@@ -1,9 +1,11 @@
 package featureSelection.tester.procedure.heuristic.semisupervisedRepresentative.procedure;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
 import featureSelection.basic.model.universe.instance.Instance;
@@ -16,9 +18,12 @@ import featureSelection.basic.procedure.statistics.Statistics;
 import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
+import featureSelection.repository.algorithm.alg.semisupervisedRepresentative.SemisupervisedRepresentativeAlgorithm;
 import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.SemisupervisedRepresentativeCalculations4EntropyBased;
 import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache.InformationEntropyCache;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache.PairwiseEntropyMatrix;
 import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraghWeightedEdge;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraphEdgeArray;
 import featureSelection.repository.support.calculation.alg.semisupervisedRepresentative.featureRelevance.FeatureRelevance2Params4SemisupervisedRepresentative;
 import featureSelection.repository.support.calculation.entropy.mutualInformationEntropy.conditionalEntropy.semisupervisedRepresentative.ConditionalEntropyCalculation4SemisupervisedRepresentative;
 import featureSelection.repository.support.calculation.entropy.mutualInformationEntropy.mutualInformationEntropy.semisupervisedRepresentative.MutualInformationEntropyCalculation4SemisupervisedRepresentative;
@@ -49,6 +54,14 @@ import lombok.Getter;
  * 			F<sub>j</sub> are attributes/ features of relevant features.
  * 	</li>
  * </ul>
+ * If {@link ParameterConstants#PARAMETER_PAIRWISE_ENTROPY_POOL} is set, F2-Rel values of all
+ * pairs are precomputed by {@link PairwiseEntropyMatrix}s in the given {@link ForkJoinPool}
+ * instead, and the DAG is constructed by
+ * {@link SemisupervisedRepresentativeAlgorithm#directedAcyclicGraphOf(Integer[], Map, double[][],
+ * DirectedAcyclicGraphEdgeArray)}.
+ * <p>
+ * Edges are also collected into a {@link DirectedAcyclicGraphEdgeArray} while being created, set
+ * as parameter "dagEdgeArray" for sub-graph grouping.
  * 
  * @author Benjamin_L
  */
@@ -103,6 +116,11 @@ public class DirectedAcyclicGraphConstruction
 						component.setLocalParameters(new Object[] {
 								getParameters().get("relevantFeatures"),
 								getParameters().get("relevantFeatureF1Rels"),
+								getParameters().get(ParameterConstants.PARAMETER_UNIVERSE_INSTANCES),
+								getParameters().get(ParameterConstants.PARAMETER_LABELED_UNIVERSE_INSTANCES),
+								getParameters().get(ParameterConstants.PARAMETER_ATTRIBUTES),
+								getParameters().get("tradeOff"),
+								getParameters().get(ParameterConstants.PARAMETER_PAIRWISE_ENTROPY_POOL),
 						});
 					}, 
 					false,
@@ -113,11 +131,49 @@ public class DirectedAcyclicGraphConstruction
 								(Integer[]) parameters[p++];
 						Map<Integer, Double> relevantFeatureF1Rels =
 								(Map<Integer, Double>) parameters[p++];
+						Collection<Instance> allInstances =
+								(Collection<Instance>) parameters[p++];
+						Collection<Instance> labeledInstances =
+								(Collection<Instance>) parameters[p++];
+						int[] attributes =
+								(int[]) parameters[p++];
+						double tradeOff =
+								(double) parameters[p++];
+						ForkJoinPool pairwiseEntropyPool =
+								(ForkJoinPool) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						ProcedureComponent<?> comp1 = getComponents().get(1);
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						DirectedAcyclicGraphEdgeArray dagEdgeArray =
+								new DirectedAcyclicGraphEdgeArray(relevantFeatures.length);
+						localParameters.put("dagEdgeArray", dagEdgeArray);
+						// Construct DAG with F2_Rel of all pairs precomputed in parallel if pool is set.
+						if (pairwiseEntropyPool!=null) {
+							// Entropies of all attributes based on U for USU(F<sub>i</sub>, F<sub>j</sub>)
+							PairwiseEntropyMatrix allUniverseMatrix =
+								Double.compare(0, tradeOff)!=0?
+									new PairwiseEntropyMatrix(
+										allInstances, attributes, pairwiseEntropyPool,
+										PairwiseEntropyMatrix.DEFAULT_BLOCK_SIZE
+									): null;
+							// Entropies of relevant features based on labeled U for SU(F<sub>i</sub>, F<sub>j</sub>)
+							PairwiseEntropyMatrix labeledUniverseMatrix =
+								Double.compare(1, tradeOff)!=0?
+									new PairwiseEntropyMatrix(
+										labeledInstances,
+										Arrays.stream(relevantFeatures).mapToInt(Integer::intValue).toArray(),
+										pairwiseEntropyPool, PairwiseEntropyMatrix.DEFAULT_BLOCK_SIZE
+									): null;
+							return SemisupervisedRepresentativeAlgorithm.directedAcyclicGraphOf(
+									relevantFeatures, relevantFeatureF1Rels,
+									SemisupervisedRepresentativeAlgorithm.f2Relevances(
+										relevantFeatures, tradeOff, allUniverseMatrix, labeledUniverseMatrix
+									),
+									dagEdgeArray
+								);
+						}
 						// 10: DAG = NULL;
 						Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges = 
 								new Collection[relevantFeatures.length];
@@ -151,6 +207,7 @@ public class DirectedAcyclicGraphConstruction
 									//	(with F2_Rel(F<sub>i</sub>, F<sub>j</sub>) as edge weight)
 									//	i --f2RelOfiNj--> j
 									dagEdges[i].add(new DirectedAcyclicGraghWeightedEdge<>(j, f2RelOfiNj));
+									dagEdgeArray.addEdge(i, j, f2RelOfiNj);
 								}
 							}
 						}
@@ -159,6 +216,7 @@ public class DirectedAcyclicGraphConstruction
 					(component, dagEdges) -> {
 						/* ------------------------------------------------------------------------------ */
 						getParameters().setNonRoot("dagEdges", dagEdges);
+						getParameters().setNonRoot("dagEdgeArray", localParameters.get("dagEdgeArray"));
 						/* ------------------------------------------------------------------------------ */
 						// Statistics
 						/* ------------------------------------------------------------------------------ */
@@ -17,6 +17,7 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.repository.algorithm.alg.semisupervisedRepresentative.SemisupervisedRepresentativeAlgorithm;
 import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraghWeightedEdge;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraphEdgeArray;
 import featureSelection.tester.procedure.ComponentTags;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -157,6 +158,7 @@ public class RepresentativeFeatureSelection
 //						if (logOn)	log.info("2. "+component.getDescription());
 						component.setLocalParameters(new Object[] {
 								getParameters().get("dagEdges"),
+								getParameters().get("dagEdgeArray"),
 						});
 					}, 
 					false,
@@ -166,10 +168,15 @@ public class RepresentativeFeatureSelection
 						Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges =
 								(Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[])
 								parameters[p++];
+						DirectedAcyclicGraphEdgeArray dagEdgeArray =
+								(DirectedAcyclicGraphEdgeArray) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return SemisupervisedRepresentativeAlgorithm.subGraphOf(dagEdges);
+						// Group by edge array collected in DAG construction if available.
+						return dagEdgeArray!=null?
+								SemisupervisedRepresentativeAlgorithm.subGraphOf(dagEdgeArray):
+								SemisupervisedRepresentativeAlgorithm.subGraphOf(dagEdges);
 					}, 
 					(component, subGraphs) -> {
 						/* ------------------------------------------------------------------------------ */
@@ -19,6 +19,9 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.artificialFishSwarm.func.ArtificialFishSwarm;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.artificialFishSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
@@ -159,6 +162,8 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 						ReductionParameters params = getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS);
 						
 						if (logOn)	log.info(LoggerUtil.spaceFormat(1, "1. "+component.getDescription()));
+						// Share the fitness cache with fish actions.
+						params.setFitnessCache(getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE));
 						component.setLocalParameters(new Object[] {
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_GENERATION_RECORD),
@@ -201,6 +206,11 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_CONVERGENCE]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -584,6 +594,8 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_GENERATION_RECORD),
 								localParameters.get("fishIndex"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -603,6 +615,10 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								(GenerationRecord<Posi, Sig>) parameters[p++];
 						int fishIndex =
 								(int) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<Sig> cache =
+								(FitnessCache<Sig>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						ProcedureComponent<Object[]> comp5 = (ProcedureComponent<Object[]>) getComponents().get(5);
 						/* ------------------------------------------------------------------------------ */
@@ -660,43 +676,57 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 							TimerUtils.timeContinue((TimeCounted) component);
 						}
 						//	currentFish.pos = maxFitness(searchPos, swarmPos, followPos)
+						Position<?>[] candidates = new Position<?>[] { searchPos, swarmPos, followPos };
+						Number[] dependencies = new Number[candidates.length];
+						if (evaluator==null) {
+							for (int i=0; i<candidates.length; i++) {
+								dependencies[i] = params.getReductionAlgorithm()
+																.dependency(
+																	calculation, 
+																	collectionList, 
+																	candidates[i].getAttributes(),
+																	cache
+																);
+							}
+						}else {
+							// Calculate dependencies of candidate positions in parallel.
+							ParallelFitnessEvaluator.requireParallelizable(params.getReductionAlgorithm());
+							params.getReductionAlgorithm().initDependencyCalculation(collectionList);
+							evaluator.evaluate(
+								calculation,
+								dependencies,
+								(cal, i) -> (Number) params.getReductionAlgorithm()
+																.dependency(
+																	cal, 
+																	collectionList, 
+																	candidates[i].getAttributes(),
+																	cache
+																)
+							);
+						}
 						bestFitness = params.getFitnessAlgorthm()
 											.findBestFitness(
 												params.getFitnessAlgorthm()
 													.calculateFitness(
 														params.getReductionAlgorithm(),
 														searchPos.getAttributes(),
-														params.getReductionAlgorithm()
-																.dependency(
-																	calculation, 
-																	collectionList, 
-																	searchPos.getAttributes()
-														)
+														dependencies[0]
 													),
 												params.getFitnessAlgorthm()
 													.calculateFitness(
 														params.getReductionAlgorithm(),
 														swarmPos.getAttributes(),
-														params.getReductionAlgorithm()
-																.dependency(
-																	calculation, 
-																	collectionList, 
-																	swarmPos.getAttributes()
-														)
+														dependencies[1]
 													),
 												params.getFitnessAlgorthm()
 													.calculateFitness(
 														params.getReductionAlgorithm(),
 														followPos.getAttributes(),
-														params.getReductionAlgorithm()
-																.dependency(
-																	calculation, 
-																	collectionList, 
-																	followPos.getAttributes()
-														)
+														dependencies[2]
 													)
 											);
 						fishGroup[fishIndex].setPosition(bestFitness.getPosition());
+						fishGroup[fishIndex].setFitnessValue(bestFitness.getFitnessValue());
 						
 						return new Object[] {
 								Double.compare(
@@ -798,21 +828,17 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 						for (int ext=0, p=1; p<=positionLength && ext<extraAttributes.length; p++)
 							if (!posi.containsAttribute(p))	extraAttributes[ext++] = p;
 						
-						Fitness<Posi, FV> currentFishFitness =
-								fitnessAlgorithm.calculateFitness(
-										redAlg, 
-										fish.getPosition().getAttributes(),
-										redAlg.dependency(
-											calculation, 
-											collectionList, 
-											fish.getPosition().getAttributes()
-										)
+						// Fitness cached in the fish is reused if it hasn't moved.
+						if (fish.getFitnessValue()==null) {
+							TimerUtils.timePause((TimeCounted) component);
+							calculationCount++;
+							TimerUtils.timeContinue((TimeCounted) component);
+						}
+						FV currentFishFitness =
+								ArtificialFishSwarm.fitnessValue(
+										calculation, collectionList, fish, fitnessAlgorithm, redAlg, null
 								);
 						
-						TimerUtils.timePause((TimeCounted) component);
-						calculationCount++;
-						TimerUtils.timeContinue((TimeCounted) component);
-						
 						// Loop and add position value until fitnessCount(nextPos) > currentFish.fitness or i>= tryNumbers
 						int[] examAttributes = Arrays.copyOf(attributes, attributes.length+1);
 						RandomUtils.ShuffleArrayIterator shuffledAttrIterator =
@@ -839,7 +865,7 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 							
 							if (fitnessAlgorithm.compareFitnessValue(
 									updatedFitness.getFitnessValue(), 
-									currentFishFitness.getFitnessValue()
+									currentFishFitness
 								)>0
 							) {
 								break;
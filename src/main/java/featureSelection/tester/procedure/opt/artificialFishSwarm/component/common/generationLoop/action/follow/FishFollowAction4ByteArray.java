@@ -1,8 +1,6 @@
 package featureSelection.tester.procedure.opt.artificialFishSwarm.component.common.generationLoop.action.follow;
 
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
 
 import featureSelection.basic.procedure.ProcedureComponent;
 import featureSelection.basic.procedure.component.action.ComponentExecution;
@@ -56,30 +54,16 @@ public class FishFollowAction4ByteArray<FI extends FeatureImportance<Sig>,
 		withinVisual = ArtificialFishSwarm.getFishWithinVisual(fish, fishGroup, params);
 		if (withinVisual.isEmpty())	return null;
 		// Calculate fitnesses of fishes within visual, and find the best one.
-		FV fitnessCalResult;
+		// (Fitnesses are cached in fish, so they are reused in the following steps and actions.)
+		FV fitnessCalResult, bestFitness = null;
 		Fish<ByteArrayPosition> bestFish = null;
-		Map<Fish<ByteArrayPosition>, FV> fitnessBuffer = new HashMap<>(withinVisual.size());
 		for (Fish<ByteArrayPosition> f: withinVisual) {
-			fitnessCalResult =
-					(FV) params.getFitnessAlgorthm()
-								.calculateFitness(
-									params.getReductionAlgorithm(),
-									f.getPosition().getAttributes(),
-									params.getReductionAlgorithm()
-										.dependency(
-											calculation,
-											collectionItems,
-											f.getPosition().getAttributes()
-										)
-								).getFitnessValue();
-			fitnessBuffer.put(f, fitnessCalResult);
-			if (bestFish==null || fitnessCalResult.compareTo(fitnessBuffer.get(bestFish))>0) {
+			fitnessCalResult = calculateFitnessWithBuffer(component, calculation, collectionItems, f, params);
+			if (bestFish==null || fitnessCalResult.compareTo(bestFitness)>0) {
 				bestFish = f;
+				bestFitness = fitnessCalResult;
 			}
 		}
-		TimerUtils.timePause((TimeCounted) component);
-		calculationCount += withinVisual.size();
-		TimerUtils.timeContinue((TimeCounted) component);
 		// Clean JVM
 		withinVisual = null;
 		// Count fishes within visual of the fish with best fitness, and sum their fitnesses.
@@ -94,54 +78,37 @@ public class FishFollowAction4ByteArray<FI extends FeatureImportance<Sig>,
 								component, 
 								calculation, 
 								collectionItems, 
-								fitnessBuffer,
 								f,
 								params
 						).getFitnessValue()
 						.doubleValue();
 		}
 		// Check and return.
-		TimerUtils.timePause((TimeCounted) component);
-		calculationCount++;
-		TimerUtils.timeContinue((TimeCounted) component);
 		double currentFitnessValue = 
-				(double) params.getFitnessAlgorthm()
-								.calculateFitness(
-									params.getReductionAlgorithm(), 
-									fish.getPosition().getAttributes(),
-									params.getReductionAlgorithm().dependency(calculation, collectionItems, fish.getPosition().getAttributes())
-								).getFitnessValue()
-								.getFitnessValue();
+				calculateFitnessWithBuffer(component, calculation, collectionItems, fish, params)
+					.getFitnessValue()
+					.doubleValue();
 		return (withinVisual.isEmpty()?0:(sumFitness/withinVisual.size())) < params.getCFactor()*currentFitnessValue ?
 				bestFish.getPosition().clone(): null;
 	}
 	
+	/**
+	 * Get the fitness value cached in the {@link Fish}, or calculate(and count) it if the
+	 * {@link Fish} has moved since it was cached.
+	 * 
+	 * @see ArtificialFishSwarm#fitnessValue(FeatureImportance, Collection, Fish, ReductionParameters)
+	 */
 	@SuppressWarnings("unchecked")
 	protected FV calculateFitnessWithBuffer(
 			ProcedureComponent<?> component,
 			FI calculation, Collection<CollectionItem> collectionItems, 
-			Map<Fish<ByteArrayPosition>, FV> fitnessMap, Fish<ByteArrayPosition> fish,
-			ReductionParameters params
+			Fish<ByteArrayPosition> fish, ReductionParameters params
 	) {
-		FV fitness = fitnessMap.get(fish);
-		if (fitness==null) {
+		if (fish.getFitnessValue()==null) {
 			TimerUtils.timePause((TimeCounted) component);
 			calculationCount++;
 			TimerUtils.timeContinue((TimeCounted) component);
-			
-			return (FV) params.getFitnessAlgorthm()
-							.calculateFitness(
-									params.getReductionAlgorithm(),
-									fish.getPosition().getAttributes(),
-									params.getReductionAlgorithm()
-										.dependency(
-											calculation, 
-											collectionItems, 
-											fish.getPosition().getAttributes()
-										)
-							).getFitnessValue();
-		}else {
-			return fitness;
 		}
+		return (FV) ArtificialFishSwarm.fitnessValue(calculation, collectionItems, fish, params);
 	}
 }
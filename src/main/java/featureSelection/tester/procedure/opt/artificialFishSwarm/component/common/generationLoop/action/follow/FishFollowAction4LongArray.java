@@ -0,0 +1,114 @@
+package featureSelection.tester.procedure.opt.artificialFishSwarm.component.common.generationLoop.action.follow;
+
+import java.util.Collection;
+
+import featureSelection.basic.procedure.ProcedureComponent;
+import featureSelection.basic.procedure.component.action.ComponentExecution;
+import featureSelection.basic.procedure.timer.TimeCounted;
+import featureSelection.basic.procedure.timer.TimerUtils;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.artificialFishSwarm.func.ArtificialFishSwarm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
+import lombok.Getter;
+
+public class FishFollowAction4LongArray<FI extends FeatureImportance<Sig>,
+										Sig extends Number, 
+										CollectionItem,
+										FV extends FitnessValue<? extends Number>>
+	implements ComponentExecution<LongArrayPosition>,
+				FishFollowActionInterf<LongArrayPosition>
+{
+
+	private FI calculation;
+	private Collection<CollectionItem> collectionItems;
+	private Fish<LongArrayPosition> fish;
+	private Fish<LongArrayPosition>[] fishGroup;
+	private ReductionParameters params;
+	
+	@Getter private int calculationCount;
+	
+	public FishFollowAction4LongArray(
+			FI calculation, Collection<CollectionItem> collectionItems,
+			Fish<LongArrayPosition> fish, Fish<LongArrayPosition>[] fishGroup,
+			ReductionParameters params
+	) {
+		this.calculation = calculation;
+		this.collectionItems = collectionItems;
+		this.fish = fish;
+		this.fishGroup = fishGroup;
+		this.params = params;
+		
+		calculationCount = 0;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public LongArrayPosition exec(
+			ProcedureComponent<?> component, Object... parameters
+	) throws Exception {
+		Collection<Fish<LongArrayPosition>> withinVisual;
+		// Collect fishes within visual for current fish in fish group.
+		withinVisual = ArtificialFishSwarm.getFishWithinVisual(fish, fishGroup, params);
+		if (withinVisual.isEmpty())	return null;
+		// Calculate fitnesses of fishes within visual, and find the best one.
+		// (Fitnesses are cached in fish, so they are reused in the following steps and actions.)
+		FV fitnessCalResult, bestFitness = null;
+		Fish<LongArrayPosition> bestFish = null;
+		for (Fish<LongArrayPosition> f: withinVisual) {
+			fitnessCalResult = calculateFitnessWithBuffer(component, calculation, collectionItems, f, params);
+			if (bestFish==null || fitnessCalResult.compareTo(bestFitness)>0) {
+				bestFish = f;
+				bestFitness = fitnessCalResult;
+			}
+		}
+		// Clean JVM
+		withinVisual = null;
+		// Count fishes within visual of the fish with best fitness, and sum their fitnesses.
+		withinVisual = ArtificialFishSwarm.getFishWithinVisual(
+							bestFish, 
+							fishGroup, 
+							params
+						);
+		double sumFitness=0;
+		for (Fish<LongArrayPosition> f: withinVisual) {
+			sumFitness += calculateFitnessWithBuffer(
+								component, 
+								calculation, 
+								collectionItems, 
+								f,
+								params
+						).getFitnessValue()
+						.doubleValue();
+		}
+		// Check and return.
+		double currentFitnessValue = 
+				calculateFitnessWithBuffer(component, calculation, collectionItems, fish, params)
+					.getFitnessValue()
+					.doubleValue();
+		return (withinVisual.isEmpty()?0:(sumFitness/withinVisual.size())) < params.getCFactor()*currentFitnessValue ?
+				bestFish.getPosition().clone(): null;
+	}
+	
+	/**
+	 * Get the fitness value cached in the {@link Fish}, or calculate(and count) it if the
+	 * {@link Fish} has moved since it was cached.
+	 * 
+	 * @see ArtificialFishSwarm#fitnessValue(FeatureImportance, Collection, Fish, ReductionParameters)
+	 */
+	@SuppressWarnings("unchecked")
+	protected FV calculateFitnessWithBuffer(
+			ProcedureComponent<?> component,
+			FI calculation, Collection<CollectionItem> collectionItems, 
+			Fish<LongArrayPosition> fish, ReductionParameters params
+	) {
+		if (fish.getFitnessValue()==null) {
+			TimerUtils.timePause((TimeCounted) component);
+			calculationCount++;
+			TimerUtils.timeContinue((TimeCounted) component);
+		}
+		return (FV) ArtificialFishSwarm.fitnessValue(calculation, collectionItems, fish, params);
+	}
+}
@@ -3,7 +3,9 @@ package featureSelection.tester.procedure.opt.artificialFishSwarm.component.comm
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.follow.FishFollowAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.follow.FishFollowAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.ByteArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fitness.FitnessValue;
@@ -29,6 +31,15 @@ public class FishFollowActionFactory {
 						(Fish<ByteArrayPosition>[]) fishGroup,
 						params
 					);
+		}else if (params.getFishFollowAlgorithm() instanceof FishFollowAlgorithm4LongArray) {
+			return (FishFollowActionInterf<Posi>) 
+					new FishFollowAction4LongArray<FI, Sig, CollectionItem, FV>(
+						calculation,
+						collectionItem,
+						(Fish<LongArrayPosition>) currentFish,
+						(Fish<LongArrayPosition>[]) fishGroup,
+						params
+					);
 		}else {
 			return null;
 		}
@@ -59,40 +59,25 @@ public class FishSwarmAction4ByteArray<FI extends FeatureImportance<Sig>,
 		Collection<Fish<ByteArrayPosition>> withinVisual = 
 				ArtificialFishSwarm.getFishWithinVisual(currentFish, fishGroup, params);
 		if (withinVisual.isEmpty())	return null;
+		// Fitnesses cached in fish are reused unless their positions have changed, only the
+		// calculated ones are counted.
+		int calculated = 0;
 		for (Fish<ByteArrayPosition> fish: withinVisual) {
+			if (fish.getFitnessValue()==null)	calculated++;
 			fitnessValue +=	
-				params.getFitnessAlgorthm()
-					.calculateFitness(
-						params.getReductionAlgorithm(), 
-						fish.getPosition().getAttributes(), 
-						params.getReductionAlgorithm()
-							.dependency(
-								calculation,
-								collectionItem, 
-								fish.getPosition().getAttributes()
-							)
-					).getFitnessValue()
-					.getFitnessValue()
-					.doubleValue();
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItem, fish, params)
+									.getFitnessValue()
+									.doubleValue();
 		}
 		// if ( (swarmFitness/ n ) < cFactor*fcurrentFish.fitness )
+		if (currentFish.getFitnessValue()==null)	calculated++;
 		double currentFishFitness = 
-				params.getFitnessAlgorthm()
-					.calculateFitness(
-						params.getReductionAlgorithm(), 
-						currentFish.getPosition().getAttributes(), 
-						params.getReductionAlgorithm()
-							.dependency(
-								calculation, 
-								collectionItem, 
-								currentFish.getPosition().getAttributes()
-							)
-					).getFitnessValue()
-					.getFitnessValue()
-					.doubleValue();
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItem, currentFish, params)
+									.getFitnessValue()
+									.doubleValue();
 		
 		TimerUtils.timePause((TimeCounted) component);
-		calculationCount+=(withinVisual.size()+1);
+		calculationCount+=calculated;
 		TimerUtils.timeContinue((TimeCounted) component);
 
 		if (fitnessValue/withinVisual.size() < params.getCFactor()*currentFishFitness) {
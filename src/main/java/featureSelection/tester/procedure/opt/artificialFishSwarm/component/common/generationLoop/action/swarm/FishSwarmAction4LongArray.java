@@ -0,0 +1,92 @@
+package featureSelection.tester.procedure.opt.artificialFishSwarm.component.common.generationLoop.action.swarm;
+
+import java.util.Collection;
+
+import featureSelection.basic.procedure.ProcedureComponent;
+import featureSelection.basic.procedure.component.action.ComponentExecution;
+import featureSelection.basic.procedure.timer.TimeCounted;
+import featureSelection.basic.procedure.timer.TimerUtils;
+import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.algorithm.opt.artificialFishSwarm.func.ArtificialFishSwarm;
+import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm.FishSwarmAlgorithm4LongArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
+import lombok.Getter;
+
+/**
+ * A {@link ComponentExecution} for {@link FishSwarmAlgorithm4LongArray} <strong>SWARM</strong> action.
+ *
+ * @author Benjamin_L
+ * 
+ * @see FishSwarmAlgorithm4LongArray
+ * 
+ */
+public class FishSwarmAction4LongArray<FI extends FeatureImportance<Sig>,
+										Sig extends Number, 
+										CollectionItem>
+	implements ComponentExecution<LongArrayPosition>,
+				FishSwarmActionInterf<LongArrayPosition>
+{
+	private FI calculation;
+	private Collection<CollectionItem> collectionItem;
+	private Fish<LongArrayPosition> currentFish;
+	private Fish<LongArrayPosition>[] fishGroup;
+	private ReductionParameters params;
+
+	@Getter private int calculationCount;
+	
+	public FishSwarmAction4LongArray(
+			FI calculation, Collection<CollectionItem> collectionItem, 
+			Fish<LongArrayPosition> currentFish, Fish<LongArrayPosition>[] fishGroup,
+			ReductionParameters params
+	) {
+		this.calculation = calculation;
+		this.collectionItem = collectionItem;
+		this.currentFish = currentFish;
+		this.fishGroup = fishGroup;
+		this.params = params;
+		
+		calculationCount = 0;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public LongArrayPosition exec(ProcedureComponent<?> component, Object...parameters) throws Exception {
+		// n=0, nextPos, swarmFitness=0, swarm=null
+		double fitnessValue = 0;
+		// For any fish in fishGroup, loop.
+		Collection<Fish<LongArrayPosition>> withinVisual = 
+				ArtificialFishSwarm.getFishWithinVisual(currentFish, fishGroup, params);
+		if (withinVisual.isEmpty())	return null;
+		// Fitnesses cached in fish are reused unless their positions have changed, only the
+		// calculated ones are counted.
+		int calculated = 0;
+		for (Fish<LongArrayPosition> fish: withinVisual) {
+			if (fish.getFitnessValue()==null)	calculated++;
+			fitnessValue +=	
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItem, fish, params)
+									.getFitnessValue()
+									.doubleValue();
+		}
+		// if ( (swarmFitness/ n ) < cFactor*fcurrentFish.fitness )
+		if (currentFish.getFitnessValue()==null)	calculated++;
+		double currentFishFitness = 
+				ArtificialFishSwarm.fitnessValue(calculation, collectionItem, currentFish, params)
+									.getFitnessValue()
+									.doubleValue();
+		
+		TimerUtils.timePause((TimeCounted) component);
+		calculationCount+=calculated;
+		TimerUtils.timeContinue((TimeCounted) component);
+
+		if (fitnessValue/withinVisual.size() < params.getCFactor()*currentFishFitness) {
+			// fishCenter = fishCenterCalculation(), return fishCenter.
+			return (LongArrayPosition) params.getFishCenterCalculationAlgorithm()
+											.compute(withinVisual);
+		// else return null.
+		}else {
+			return null;
+		}
+	}
+}
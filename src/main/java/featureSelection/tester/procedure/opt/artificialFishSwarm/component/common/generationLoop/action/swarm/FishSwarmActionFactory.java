@@ -3,7 +3,9 @@ package featureSelection.tester.procedure.opt.artificialFishSwarm.component.comm
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm.FishSwarmAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm.FishSwarmAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.ByteArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.Position;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.fish.Fish;
 
@@ -28,6 +30,15 @@ public class FishSwarmActionFactory {
 						(Fish<ByteArrayPosition>[]) fishGroup,
 						params
 					);
+		}else if (params.getFishSwarmAlgorithm() instanceof FishSwarmAlgorithm4LongArray) {
+			return (FishSwarmActionInterf<Posi>) 
+					new FishSwarmAction4LongArray<FI, Sig, CollectionItem>(
+						calculation,
+						collectionItem,
+						(Fish<LongArrayPosition>) currentFish,
+						(Fish<LongArrayPosition>[]) fishGroup,
+						params
+					);
 		}else {
 			return null;
 		}
@@ -21,6 +21,8 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.genetic.GenerationRecord;
 import featureSelection.repository.entity.opt.genetic.ReductionParameters;
 import featureSelection.repository.entity.opt.genetic.impl.fitness.fitnessValue.FitnessValue4Double4AsitKDas;
@@ -240,6 +242,11 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 								geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_FITNESS]
 						statistics.put(
 								StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -272,6 +279,8 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("chromosome"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -286,10 +295,14 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								(Collection<CollectionItem>) parameters[p++];
 						Chr[] chromosome =
 								(Chr[]) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<FValue> cache =
+								(FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return redAlg.calculateFitness(calculation, collectionList, chromosome);
+						return redAlg.calculateFitness(calculation, collectionList, chromosome, cache, evaluator);
 					}, 
 					(component, chromosomeFitness) -> {
 						/* ------------------------------------------------------------------------------ */
@@ -10,6 +10,8 @@ import featureSelection.basic.procedure.parameter.ProcedureParameters;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.genetic.GenerationRecord;
 import featureSelection.repository.entity.opt.genetic.ReductionParameters;
 import featureSelection.repository.entity.opt.genetic.interf.ReductionAlgorithm;
@@ -191,6 +193,11 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_FITNESS]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -223,6 +230,8 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("chromosome"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -237,10 +246,14 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								(Collection<CollectionItem>) parameters[p++];
 						Chr[] chromosome =
 								(Chr[]) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<FValue> cache =
+								(FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return redAlg.calculateFitness(calculation, collectionList, chromosome);
+						return redAlg.calculateFitness(calculation, collectionList, chromosome, cache, evaluator);
 					}, 
 					(component, chromosomeFitness) -> {
 						/* ------------------------------------------------------------------------------ */
@@ -19,6 +19,7 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.HarmonyFactory;
@@ -223,6 +224,11 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_ITERATION]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -525,6 +531,7 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("harmonyMemoryGroup"),
 								localParameters.get("h"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -535,6 +542,7 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 						Collection<CollectionItem> collection = (Collection<CollectionItem>) parameters[p++];
 						Hrmny[] harmonyMemoryGroup = (Hrmny[]) parameters[p++];
 						int h = (int) parameters[p++];
+						FitnessCache<FValue> cache = (FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
@@ -543,7 +551,8 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 											calculation, 
 											harmonyMemoryGroup[h],
 											collection,
-											params.getAttributes()
+											params.getAttributes(),
+											cache
 										);
 					}, 
 					(component, fitness) -> {
@@ -12,6 +12,7 @@ import featureSelection.basic.procedure.parameter.ProcedureParameters;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.HarmonyFactory;
@@ -184,6 +185,11 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_ITERATION]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -485,6 +491,7 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("harmonyMemoryGroup"),
 								localParameters.get("h"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -500,6 +507,8 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								(Hrmny[]) parameters[p++];
 						int h =
 								(int) parameters[p++];
+						FitnessCache<FValue> cache =
+								(FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
@@ -508,7 +517,8 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 											calculation, 
 											harmonyMemoryGroup[h],
 											collection,
-											params.getAttributes()
+											params.getAttributes(),
+											cache
 										);
 					}, 
 					(component, fitness) -> {
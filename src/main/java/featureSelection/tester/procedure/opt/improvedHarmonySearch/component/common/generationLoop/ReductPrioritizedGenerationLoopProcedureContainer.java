@@ -12,6 +12,7 @@ import featureSelection.basic.procedure.parameter.ProcedureParameters;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.HarmonyFactory;
@@ -174,6 +175,11 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_ITERATION]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -476,6 +482,7 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("harmonyMemoryGroup"),
 								localParameters.get("h"),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -491,6 +498,8 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 								(Hrmny[]) parameters[p++];
 						int h =
 								(int) parameters[p++];
+						FitnessCache<FValue> cache =
+								(FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
@@ -499,7 +508,8 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 											calculation, 
 											harmonyMemoryGroup[h],
 											collection,
-											params.getAttributes()
+											params.getAttributes(),
+											cache
 										);
 					}, 
 					(component, fitness) -> {
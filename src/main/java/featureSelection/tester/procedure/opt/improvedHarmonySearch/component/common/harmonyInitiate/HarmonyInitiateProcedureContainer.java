@@ -19,6 +19,8 @@ import featureSelection.basic.procedure.statistics.StatisticsCalculated;
 import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.GenerationRecord;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.ReductionParameters;
 import featureSelection.repository.entity.opt.improvedHarmonySearch.impl.harmony.HarmonyFactory;
@@ -162,6 +164,8 @@ public class HarmonyInitiateProcedureContainer<Cal extends FeatureImportance<Sig
 								getParameters().get("harmonyMemoryGroup"),
 								getParameters().get(ParameterConstants.PARAMETER_SIG_CALCULATION_INSTANCE),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_GENERATION_RECORD),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -177,11 +181,30 @@ public class HarmonyInitiateProcedureContainer<Cal extends FeatureImportance<Sig
 								(Cal) parameters[p++];
 						GenerationRecord<FValue> generRecord =
 								(GenerationRecord<FValue>) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<FValue> cache =
+								(FitnessCache<FValue>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						Fitness<Sig, FValue>[] fitnessArray = new Fitness[harmonyMemoryGroup.length];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
+						// Calculate fitnesses of harmonies in parallel if evaluator is set.
+						if (evaluator!=null) {
+							ParallelFitnessEvaluator.requireParallelizable(params.getRedAlg());
+							params.getRedAlg().initFitnessCalculation(collectionList, params.getAttributes());
+							evaluator.evaluate(
+								calculation,
+								fitnessArray,
+								(cal, h) -> params.getRedAlg()
+												.fitness(
+													cal,
+													harmonyMemoryGroup[h], collectionList, params.getAttributes(),
+													cache
+												)
+							);
+						}
 						// gBest = hGroup[0];  oldX= hGroup[0] ; gBest.fitness=0; iter = 0
 						Harmony<?> gBest = null;
 						Fitness<Sig, FValue> bestFitness = null;
@@ -189,11 +212,15 @@ public class HarmonyInitiateProcedureContainer<Cal extends FeatureImportance<Sig
 						Fitness<Sig, FValue> fitness;
 						for (int h=0; h<harmonyMemoryGroup.length; h++) {
 							// Calculate vector's fitness.
-							fitnessArray[h] = fitness = 
-								params.getRedAlg()
-										.fitness(
-											calculation,
-											harmonyMemoryGroup[h], collectionList, params.getAttributes()
+							fitness = evaluator!=null?
+										fitnessArray[h]:
+										(fitnessArray[h] =
+											params.getRedAlg()
+													.fitness(
+														calculation,
+														harmonyMemoryGroup[h], collectionList, params.getAttributes(),
+														cache
+													)
 										);
 							// if Xi > gBest.fitness, oldX = Xi; 
 							if (bestFitness==null || fitness.compareToFitness(bestFitness)>0) {
@@ -22,6 +22,8 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.algorithm.opt.particleSwarm.func.ParticleSwarm4StaticData;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.particleSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.particleSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.particleSwarm.interf.ReductionAlgorithm;
@@ -241,6 +243,11 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_FITNESS]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -274,6 +281,8 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("particle"),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -290,10 +299,17 @@ public class DefaultGenerationLoopProcedureContainer<Cal extends FeatureImportan
 								(Particle<Velocity, Posi, FValue>[]) parameters[p++];
 						ReductionParameters<?, ?, FValue> params =
 								(ReductionParameters<?, ?, FValue>) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<Fitness<Posi, FValue>> cache =
+								(FitnessCache<Fitness<Posi, FValue>>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return redAlg.fitness(calculation, collectionList, params.getAttributes(), particle);
+						return redAlg.fitness(
+								calculation, collectionList, params.getAttributes(), particle,
+								cache, evaluator
+							);
 					}, 
 					(component, particleFitness) -> {
 						/* ------------------------------------------------------------------------------ */
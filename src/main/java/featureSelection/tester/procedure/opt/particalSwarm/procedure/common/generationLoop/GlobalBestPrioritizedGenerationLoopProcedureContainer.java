@@ -14,6 +14,8 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.algorithm.opt.particleSwarm.func.ParticleSwarm4StaticData;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.particleSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.particleSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.particleSwarm.interf.ReductionAlgorithm;
@@ -187,6 +189,11 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_ITERATION]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -220,6 +227,8 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("particle"),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -236,10 +245,17 @@ public class GlobalBestPrioritizedGenerationLoopProcedureContainer<Cal extends F
 								(Particle<Velocity, Posi, FValue>[]) parameters[p++];
 						ReductionParameters<?, ?, FValue> params =
 								(ReductionParameters<?, ?, FValue>) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<Fitness<Posi, FValue>> cache =
+								(FitnessCache<Fitness<Posi, FValue>>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return redAlg.fitness(calculation, collectionList, params.getAttributes(), particle);
+						return redAlg.fitness(
+								calculation, collectionList, params.getAttributes(), particle,
+								cache, evaluator
+							);
 					}, 
 					(component, particleFitness) -> {
 						/* ------------------------------------------------------------------------------ */
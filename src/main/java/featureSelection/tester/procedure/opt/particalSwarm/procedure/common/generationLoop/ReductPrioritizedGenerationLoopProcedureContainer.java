@@ -14,6 +14,8 @@ import featureSelection.basic.procedure.timer.TimeCounted;
 import featureSelection.basic.procedure.timer.TimerUtils;
 import featureSelection.basic.support.calculation.FeatureImportance;
 import featureSelection.repository.algorithm.opt.particleSwarm.func.ParticleSwarm4StaticData;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
 import featureSelection.repository.entity.opt.particleSwarm.GenerationRecord;
 import featureSelection.repository.entity.opt.particleSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.particleSwarm.interf.ReductionAlgorithm;
@@ -191,6 +193,11 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_ITERATION,
 							geneRecord.getGeneration()
 						);
+						//	[STATISTIC_OPTIMIZATION_FITNESS_CACHE]
+						ProcedureUtils.Statistics.fitnessCache(
+								statistics.getData(),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE)
+						);
 						//	[STATISTIC_OPTIMIZATION_EXIT_FITNESS]
 						statistics.put(
 							StatisticsConstants.OptimizationInfo.Exit.STATISTIC_OPTIMIZATION_EXIT_FITNESS,
@@ -224,6 +231,8 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_COLLECTION_ITEMS),
 								getParameters().get("particle"),
 								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR),
+								getParameters().get(ParameterConstants.PARAMETER_OPTIMIZATION_FITNESS_CACHE),
 						});
 					}, 
 					false, (component, parameters) -> {
@@ -240,10 +249,17 @@ public class ReductPrioritizedGenerationLoopProcedureContainer<Cal extends Featu
 								(Particle<Velocity, Posi, FValue>[]) parameters[p++];
 						ReductionParameters<?, ?, FValue> params =
 								(ReductionParameters<?, ?, FValue>) parameters[p++];
+						ParallelFitnessEvaluator<Cal> evaluator =
+								(ParallelFitnessEvaluator<Cal>) parameters[p++];
+						FitnessCache<Fitness<Posi, FValue>> cache =
+								(FitnessCache<Fitness<Posi, FValue>>) parameters[p++];
 						/* ------------------------------------------------------------------------------ */
 						TimerUtils.timeStart((TimeCounted) component);
 						/* ------------------------------------------------------------------------------ */
-						return redAlg.fitness(calculation, collectionList, params.getAttributes(), particle);
+						return redAlg.fitness(
+								calculation, collectionList, params.getAttributes(), particle,
+								cache, evaluator
+							);
 					}, 
 					(component, particleFitness) -> {
 						/* ------------------------------------------------------------------------------ */
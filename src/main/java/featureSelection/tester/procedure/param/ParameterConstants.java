@@ -25,7 +25,9 @@ public class ParameterConstants {
     public final static String PARAMETER_SIG_CALCULATION_INSTANCE = "calculation";
     public final static String PARAMETER_SIG_CALCULATION_CLASS = "calculationClass";
     public final static String PARAMETER_SIG_DEVIATION = "sigDeviation";
+    public final static String PARAMETER_SIG_ATTRIBUTE_EVALUATOR = "sigAttributeEvaluator";
     public final static String PARAMETER_DECISION_NUMBER_CLASS = "decisionNumberClass";
+    public final static String PARAMETER_PAIRWISE_ENTROPY_POOL = "pairwiseEntropyPool";
 
     public final static String PARAMETER_SHRINK_INSTANCE_INSTANCE = "shrinkInstanceInstance";
     public final static String PARAMETER_SHRINK_INSTANCE_CLASS = "shrinkInstanceClass";
@@ -37,6 +39,8 @@ public class ParameterConstants {
     public final static String PARAMETER_OPTIMIZATION_COLLECTION_COMPRESSED = "optimizationCollectionCompressed";
     public final static String PARAMETER_OPTIMIZATION_COLLECTION_ITEMS = "optimizationCollectionItems";
     public final static String PARAMETER_OPTIMIZATION_GENERATION_RECORD = "optimizationGenerationRecord";
+    public final static String PARAMETER_OPTIMIZATION_FITNESS_EVALUATOR = "optimizationFitnessEvaluator";
+    public final static String PARAMETER_OPTIMIZATION_FITNESS_CACHE = "optimizationFitnessCache";
 
     public final static String PARAMETER_OPTIMIZATION_MULTI_SOLUTION_THRESHOLD = "optimizationMultiSolutionThreshold";
     public final static String PARAMETER_OPTIMIZATION_SINGLE_SOLUTION_ONLY = "optimizationSingleSolutionOnly";
@@ -48,6 +52,8 @@ public class ParameterConstants {
     public final static String PARAMETER_PREVIOUS_COLLECTION_ITEM = "previousCollectionItem";
     public final static String PARAMETER_ASIT_K_DAS_FITNESS_EVALUATION_PARAMETERS = "fitnessEvaluationParameters";
     public final static String PARAMETER_IP_NEC_DYNAMIC_DATA_EQUIVALENCE_CLASS_MERGER = "ipnecEquivalentClassMerger";
+    public final static String PARAMETER_ARRIVED_EQUIVALENCE_CLASSES = "arrivedEquivalenceClasses";
+    public final static String PARAMETER_EXPIRED_EQUIVALENCE_CLASSES = "expiredEquivalenceClasses";
 
     public final static String PARAMETER_ASE_SAMPLE_PAIR_SELECTION = "samplePairSelectionResult";
 
@@ -186,6 +186,13 @@ public class StatisticsConstants {
 			public final static String STATISTIC_OPTIMIZATION_EXIT_REASON = "Exit.reason";
 		}
 
+		public final static class FitnessCache {
+			public final static String STATISTIC_FITNESS_CACHE_HIT = "FitnessCache.hit";
+			public final static String STATISTIC_FITNESS_CACHE_MISS = "FitnessCache.miss";
+			public final static String STATISTIC_FITNESS_CACHE_SIZE = "FitnessCache.size";
+			public final static String STATISTIC_FITNESS_CACHE_HIT_RATE = "FitnessCache.hitRate";
+		}
+
 		public final static class Genetic {
 			public final static String PARAM_POPULATION = "[Param] population.size()";
 			public final static String PARAM_GENE_LENGTH = "[Param] gene.length";
@@ -36,6 +36,7 @@ import featureSelection.basic.support.calculation.featureImportance.entropy.Comb
 import featureSelection.basic.support.calculation.featureImportance.entropy.LiangConditionEntropyCalculation;
 import featureSelection.basic.support.calculation.featureImportance.entropy.ShannonConditionEnpropyCalculation;
 import featureSelection.basic.support.calculation.featureImportance.entropy.mutualInformation.MutualInformationEntropyCalculation;
+import featureSelection.repository.entity.opt.FitnessCache;
 import featureSelection.repository.entity.opt.OptimizationReduct;
 import featureSelection.tester.procedure.param.ParameterConstants;
 import featureSelection.tester.report.ReportConstants;
@@ -351,6 +352,28 @@ public class ProcedureUtils {
 			return statistics;
 		}
 
+		/**
+		 * Record hit/miss counters of the given {@link FitnessCache}.
+		 *
+		 * @param statistics
+		 *      A {@link Map} to contain statistics data.
+		 * @param cache
+		 *      {@link FitnessCache} of the optimization. Skipped if <code>null</code>.
+		 * @return <code>statistics</code>
+		 */
+		public static Map<String, Object> fitnessCache(
+				Map<String, Object> statistics, FitnessCache<?> cache
+		) {
+			if (cache == null) {
+				return statistics;
+			}
+			statistics.put(StatisticsConstants.OptimizationInfo.FitnessCache.STATISTIC_FITNESS_CACHE_HIT, cache.getHitCount());
+			statistics.put(StatisticsConstants.OptimizationInfo.FitnessCache.STATISTIC_FITNESS_CACHE_MISS, cache.getMissCount());
+			statistics.put(StatisticsConstants.OptimizationInfo.FitnessCache.STATISTIC_FITNESS_CACHE_SIZE, cache.size());
+			statistics.put(StatisticsConstants.OptimizationInfo.FitnessCache.STATISTIC_FITNESS_CACHE_HIT_RATE, cache.hitRate());
+			return statistics;
+		}
+
 		/**
 		 * Utilities for recording iteration info.s for {@link ProcedureComponent}.
 		 *
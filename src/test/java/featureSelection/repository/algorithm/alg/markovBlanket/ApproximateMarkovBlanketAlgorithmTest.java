@@ -0,0 +1,121 @@
+package featureSelection.repository.algorithm.alg.markovBlanket;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.markovBlanket.cache.SymmetricalUncertaintyCache;
+import featureSelection.repository.support.calculation.markovBlanket.approximate.symmetricalUncertainty.mutualInformationEntropy.MutualInformationEntropyBasedSymmetricalUncertaintyCalculation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ApproximateMarkovBlanketAlgorithm Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Approximate Markov Blanket Algorithm Test")
+class ApproximateMarkovBlanketAlgorithmTest {
+	private static final int[] ATTRIBUTES = {1, 2, 3, 4, 5, 6, 7, 8};
+
+	@Test
+	@DisplayName("Redundant and irrelevant features are removed")
+	public void testFilter() {
+		List<Instance> instances = instances(new Random(25), 200);
+		// Keep F1 and F5, which determine C together.
+		int[] expected = {1, 5};
+		for (int maxEntries: new int[] {SymmetricalUncertaintyCache.DEFAULT_MAX_ENTRIES, 1}) {
+			SymmetricalUncertaintyCache cache = new SymmetricalUncertaintyCache(ATTRIBUTES, maxEntries);
+			Assertions.assertEquals(maxEntries!=1, cache.isPacked());
+			int[] remains = ApproximateMarkovBlanketAlgorithm.filter(
+					instances, ATTRIBUTES, 0.1,
+					new MutualInformationEntropyBasedSymmetricalUncertaintyCalculation(), cache
+				);
+			Arrays.sort(remains);
+			Assertions.assertArrayEquals(expected, remains);
+		}
+		int[] remains = ApproximateMarkovBlanketAlgorithm.filter(
+				instances, ATTRIBUTES, 0.1, new MutualInformationEntropyBasedSymmetricalUncertaintyCalculation()
+			);
+		Arrays.sort(remains);
+		Assertions.assertArrayEquals(expected, remains);
+	}
+
+	@Test
+	@DisplayName("Cached SU values, including 0/0 ones, are reused by repeated filtering")
+	public void testCacheReused() {
+		List<Instance> instances = instances(new Random(25), 200);
+		MutualInformationEntropyBasedSymmetricalUncertaintyCalculation suCalculation =
+				new MutualInformationEntropyBasedSymmetricalUncertaintyCalculation();
+		// SU(F7, F8) of the constant F7 and F8 is 0/0.
+		for (int[] attributes: new int[][] {ATTRIBUTES, {7, 8}}) {
+			for (int maxEntries: new int[] {SymmetricalUncertaintyCache.DEFAULT_MAX_ENTRIES, 1}) {
+				SymmetricalUncertaintyCache cache = new SymmetricalUncertaintyCache(attributes, maxEntries);
+				int[] remains = ApproximateMarkovBlanketAlgorithm.filter(
+						instances, attributes, 0, suCalculation, cache
+					);
+
+				// Only SU(F<sub>i</sub>, C) are calculated again, unless rows are evicted.
+				long calculationTimes = suCalculation.getCalculationTimes(), hitTimes = cache.getHitTimes();
+				Assertions.assertArrayEquals(
+						remains,
+						ApproximateMarkovBlanketAlgorithm.filter(instances, attributes, 0, suCalculation, cache)
+				);
+				if (cache.isPacked()) {
+					Assertions.assertEquals(calculationTimes+attributes.length, suCalculation.getCalculationTimes());
+					Assertions.assertTrue(cache.getHitTimes()>hitTimes);
+				}
+			}
+		}
+		for (int maxEntries: new int[] {SymmetricalUncertaintyCache.DEFAULT_MAX_ENTRIES, 0}) {
+			SymmetricalUncertaintyCache cache = new SymmetricalUncertaintyCache(new int[] {7, 8}, maxEntries);
+			for (int t=0; t<2; t++) {
+				Assertions.assertArrayEquals(
+						new int[] {7, 8},
+						ApproximateMarkovBlanketAlgorithm.filter(instances, new int[] {7, 8}, 0, suCalculation, cache)
+				);
+			}
+			Assertions.assertEquals(1, cache.getHitTimes());
+			Assertions.assertTrue(cache.contains(0, 1));
+			Assertions.assertTrue(Double.isNaN(cache.get(1, 0)));
+		}
+	}
+
+	@Test
+	@DisplayName("A cache is bound to the attributes in the order it is created for")
+	public void testCacheOfOtherAttributes() {
+		List<Instance> instances = instances(new Random(25), 50);
+		SymmetricalUncertaintyCache cache = new SymmetricalUncertaintyCache(ATTRIBUTES);
+		int[] reversed = new int[ATTRIBUTES.length];
+		for (int i=0; i<reversed.length; i++)	reversed[i] = ATTRIBUTES[ATTRIBUTES.length-1-i];
+		Assertions.assertThrows(
+				IllegalArgumentException.class,
+				()->ApproximateMarkovBlanketAlgorithm.filter(
+						instances, reversed, 0.1,
+						new MutualInformationEntropyBasedSymmetricalUncertaintyCalculation(), cache
+					)
+		);
+		Assertions.assertFalse(cache.contains(0, 1));
+		Assertions.assertThrows(IllegalStateException.class, ()->cache.get(0, 1));
+	}
+
+	/**
+	 * Generate {@link Instance}s with C = 2*F1 + F5, in which F2 and F3 are copies of F1, F4 is
+	 * noise, F6 is F1 with 10% flipped and F7, F8 are constant.
+	 */
+	private static List<Instance> instances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int r=0; r<size; r++) {
+			int f1 = r % 2, f5 = (r / 2) % 2;
+			int[] values = {
+				2*f1 + f5,
+				f1, f1, 1-f1, random.nextInt(4), f5, r % 10==0? 1-f1: f1, 0, 0
+			};
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
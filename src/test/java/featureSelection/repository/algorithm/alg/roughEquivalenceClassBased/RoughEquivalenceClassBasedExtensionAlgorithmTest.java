@@ -0,0 +1,136 @@
+package featureSelection.repository.algorithm.alg.roughEquivalenceClassBased;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.incrementalPartition.RoughEquivalenceClassDummy;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.SignificantAttributeClassPack;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4RSCREC;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * RoughEquivalenceClassBasedExtensionAlgorithm Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Rough Equivalence Class Based Extension Algorithm Test")
+class RoughEquivalenceClassBasedExtensionAlgorithmTest {
+	private static final int ATTRIBUTE_SIZE = 8;
+	private static final int PARALLELISM = 4;
+
+	@Test
+	@DisplayName("IP-REC selects the same attributes with candidates partitioned in parallel")
+	public void testIncrementalPartitionParallelSameAsSequential() {
+		Random random = new Random(7);
+		int[] attributes = allAttributes();
+		ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+		try {
+			for (int t=0; t<10; t++) {
+				Collection<RoughEquivalenceClassDummy> roughClasses =
+						RoughEquivalenceClassBasedExtensionAlgorithm
+								.IncrementalPartition
+								.Basic
+								.wrapEquivalenceClasses(equivalenceClasses(random, 1+random.nextInt(300)));
+				Collection<Integer> reduct = new LinkedList<>();
+				while (!roughClasses.isEmpty() && reduct.size()<attributes.length) {
+					SignificantAttributeClassPack<Integer> sequential =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+									.IncrementalPartition
+									.mostSignificantAttribute(roughClasses, reduct, attributes);
+					SignificantAttributeClassPack<Integer> parallel =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+									.IncrementalPartition
+									.mostSignificantAttribute(roughClasses, reduct, attributes, pool);
+					Assertions.assertEquals(sequential.getSigAttribute(), parallel.getSigAttribute());
+					Assertions.assertEquals(
+							sequential.getRoughClasses().size(), parallel.getRoughClasses().size()
+					);
+					// Continue with 0-RECs as the shrinking of the QR loop does.
+					reduct.add(sequential.getSigAttribute());
+					roughClasses = sequential.getRoughClasses().stream()
+										.filter(r->ClassSetType.BOUNDARY.equals(r.getType()))
+										.collect(Collectors.toList());
+				}
+			}
+		}finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("RSC-REC selects the same attributes with significances calculated in parallel")
+	public void testRealTimeCountingParallelSameAsSequential() {
+		Random random = new Random(8);
+		int[] attributes = allAttributes();
+		PositiveRegionCalculation4RSCREC sequentialCalculation = new PositiveRegionCalculation4RSCREC(),
+										mainCalculation = new PositiveRegionCalculation4RSCREC();
+		try (ParallelFitnessEvaluator<RoughEquivalenceClassBasedRealtimeSimpleCountingExtensionCalculation<Integer>> evaluator =
+				new ParallelFitnessEvaluator<>(PositiveRegionCalculation4RSCREC::new, PARALLELISM)
+		) {
+			for (int t=0; t<10; t++) {
+				int insSize = 1+random.nextInt(300);
+				Collection<EquivalenceClass> equClasses = equivalenceClasses(random, insSize);
+				Collection<Integer> reduct = new LinkedList<>();
+				while (reduct.size()<attributes.length) {
+					Number[] sequential =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+									.SimpleCounting
+									.RealTimeCounting
+									.mostSignificantAttribute(
+											sequentialCalculation, 0, insSize, equClasses, reduct,
+											attributes
+									);
+					Number[] parallel =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+									.SimpleCounting
+									.RealTimeCounting
+									.mostSignificantAttribute(
+											mainCalculation, 0, insSize, equClasses, reduct,
+											evaluator, attributes
+									);
+					Assertions.assertArrayEquals(sequential, parallel);
+					reduct.add(sequential[0].intValue());
+				}
+			}
+		}
+		Assertions.assertEquals(
+				sequentialCalculation.getCalculationTimes(), mainCalculation.getCalculationTimes()
+		);
+	}
+
+	private static int[] allAttributes() {
+		int[] attributes = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+		return attributes;
+	}
+
+	/**
+	 * Generate {@link EquivalenceClass}es of random {@link Instance}s whose decision values depend
+	 * on the 1st 2 attributes mostly.
+	 */
+	private static Collection<EquivalenceClass> equivalenceClasses(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			values[0] = random.nextInt(10)!=0? (values[1]+values[2])%3: random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		return RoughEquivalenceClassBasedAlgorithm
+				.Basic
+				.equivalenceClass(instances, new IntegerArrayIterator(allAttributes()));
+	}
+}
@@ -0,0 +1,205 @@
+package featureSelection.repository.algorithm.alg.semisupervisedRepresentative;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.SemisupervisedRepresentativeCalculations4EntropyBased;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache.InformationEntropyCache;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.calculationPack.cache.PairwiseEntropyMatrix;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraghWeightedEdge;
+import featureSelection.repository.entity.alg.semisupervisedRepresentative.graph.DirectedAcyclicGraphEdgeArray;
+import featureSelection.repository.support.calculation.relevance.semisupervisedRepresentative.FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBased;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * SemisupervisedRepresentativeAlgorithm Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Semi-supervised Representative Algorithm Test")
+class SemisupervisedRepresentativeAlgorithmTest {
+	private static final int ATTRIBUTE_SIZE = 7;
+
+	@Test
+	@DisplayName("F2_Rel of pairwise entropy matrices equals the per-pair calculations")
+	public void testF2RelevancesSameAsPerPair() {
+		Random random = new Random(23);
+		List<Instance> allInstances = randomInstances(random, 150);
+		// Labeled instances have a different value distribution from the unlabeled ones.
+		List<Instance> labeledInstances = new ArrayList<>(allInstances.subList(0, 50));
+		int[] attributes = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+		Integer[] relevantFeatures = {3, 1, 6, 2, 7};
+		int[] relevantAttributes = Arrays.stream(relevantFeatures).mapToInt(Integer::intValue).toArray();
+
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			for (double tradeOff: new double[] {0, 0.4, 1}) {
+				// Small blocks to split pairs into several tiles.
+				double[][] actual = SemisupervisedRepresentativeAlgorithm.f2Relevances(
+						relevantFeatures, tradeOff,
+						new PairwiseEntropyMatrix(allInstances, attributes, pool, 2),
+						new PairwiseEntropyMatrix(labeledInstances, relevantAttributes, pool, 2)
+					);
+				for (boolean f1RelsLoaded: new boolean[] {false, true}) {
+					double[][] expected = perPairF2Relevances(
+							tradeOff, allInstances, labeledInstances, attributes, relevantFeatures,
+							f1RelsLoaded
+						);
+					for (int i=0; i<relevantFeatures.length; i++) {
+						for (int j=i+1; j<relevantFeatures.length; j++) {
+							Assertions.assertEquals(
+								expected[i][j], actual[i][j], 1e-9,
+								"β="+tradeOff+", F"+relevantFeatures[i]+", F"+relevantFeatures[j]+
+								(f1RelsLoaded? ", cache filled by F1_Rel": "")
+							);
+						}
+					}
+				}
+			}
+		}finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("A node pointing into an earlier sub-graph starts a sub-graph of its own")
+	public void testSubGraphsOfDFS() {
+		// 0->2, 1->2, 1->3, 3->4, 5
+		DirectedAcyclicGraphEdgeArray edges = new DirectedAcyclicGraphEdgeArray(6);
+		edges.addEdge(0, 2, 1);
+		edges.addEdge(1, 2, 1);
+		edges.addEdge(1, 3, 1);
+		edges.addEdge(3, 4, 1);
+		Assertions.assertEquals(
+				Arrays.asList(Arrays.asList(0, 2), Arrays.asList(1, 3, 4), Arrays.asList(5)),
+				new ArrayList<>(SemisupervisedRepresentativeAlgorithm.subGraphOf(edges))
+		);
+	}
+
+	@Test
+	@DisplayName("Sub-graphs equal the ones of recursive DFS")
+	public void testSubGraphsSameAsRecursiveDFS() {
+		Random random = new Random(24);
+		for (int t=0; t<50; t++) {
+			int nodeSize = 1+random.nextInt(40);
+			double density = random.nextDouble() * 0.2;
+			@SuppressWarnings("unchecked")
+			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges = new Collection[nodeSize];
+			for (int i=0; i<nodeSize; i++) {
+				dagEdges[i] = new LinkedList<>();
+				for (int j=i+1; j<nodeSize; j++)
+					if (random.nextDouble()<density)	dagEdges[i].add(new DirectedAcyclicGraghWeightedEdge<>(j, 1.0));
+			}
+			Assertions.assertEquals(
+					recursiveSubGraphsOf(dagEdges),
+					new ArrayList<>(SemisupervisedRepresentativeAlgorithm.subGraphOf(dagEdges))
+			);
+		}
+
+		// A chain deep enough to overflow the stack of recursive DFS.
+		int nodeSize = 200000;
+		DirectedAcyclicGraphEdgeArray chain = new DirectedAcyclicGraphEdgeArray(nodeSize);
+		for (int i=0; i<nodeSize-1; i++)	chain.addEdge(i, i+1, 1);
+		Collection<Collection<Integer>> subGraphs = SemisupervisedRepresentativeAlgorithm.subGraphOf(chain);
+		Assertions.assertEquals(1, subGraphs.size());
+		Assertions.assertEquals(nodeSize, subGraphs.iterator().next().size());
+	}
+
+	/**
+	 * Group nodes by the recursive DFS sub-graphs were obtained with, for reference.
+	 */
+	private static List<List<Integer>> recursiveSubGraphsOf(
+			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges
+	) {
+		List<List<Integer>> groups = new ArrayList<>();
+		boolean[] searched = new boolean[dagEdges.length];
+		for (int i=0; i<dagEdges.length; i++) {
+			if (searched[i])	continue;
+			Collection<Integer> group = new HashSet<>();
+			group.add(i);
+			searchByDFS(dagEdges, group, searched, i);
+			List<Integer> sorted = new ArrayList<>(group);
+			sorted.sort(null);
+			groups.add(sorted);
+		}
+		return groups;
+	}
+
+	private static void searchByDFS(
+			Collection<DirectedAcyclicGraghWeightedEdge<Integer, Double>>[] dagEdges,
+			Collection<Integer> group, boolean[] searched, int node
+	) {
+		searched[node] = true;
+		for (DirectedAcyclicGraghWeightedEdge<Integer, Double> edge: dagEdges[node]) {
+			if (!searched[edge.getToNode()] && group.add(edge.getToNode()))
+				searchByDFS(dagEdges, group, searched, edge.getToNode());
+		}
+	}
+
+	/**
+	 * Calculate F2_Rel pair by pair the way the DAG construction procedure does, sharing an
+	 * {@link InformationEntropyCache}, filled by F1_Rel parameters loading first if
+	 * <code>f1RelsLoaded</code>.
+	 */
+	private static double[][] perPairF2Relevances(
+			double tradeOff, List<Instance> allInstances, List<Instance> labeledInstances,
+			int[] attributes, Integer[] relevantFeatures, boolean f1RelsLoaded
+	) {
+		SemisupervisedRepresentativeCalculations4EntropyBased calculation =
+				new SemisupervisedRepresentativeCalculations4EntropyBased();
+		InformationEntropyCache infoEntropyCache = new InformationEntropyCache(attributes.length);
+		for (int i=0; f1RelsLoaded && i<attributes.length; i++) {
+			FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBased
+				.ParameterLoader
+				.loadFeature1RelevanceCalculationParamters(
+					tradeOff, labeledInstances, allInstances, attributes, i, 0, calculation, infoEntropyCache
+				);
+		}
+		double[][] f2Rels = new double[relevantFeatures.length][relevantFeatures.length];
+		for (int i=0; i<relevantFeatures.length; i++) {
+			for (int j=i+1; j<relevantFeatures.length; j++) {
+				f2Rels[i][j] = calculation.getRelevanceCalculation()
+									.calculateF2Rel(
+										FeatureRelevance4SemisupervisedRepresentative4MutualInfoEntropyBased
+											.ParameterLoader
+											.loadFeature2RelevanceCalculationParamters(
+												tradeOff, labeledInstances, allInstances, attributes,
+												relevantFeatures[i], new IntegerArrayIterator(relevantFeatures[j]),
+												calculation, infoEntropyCache
+											)
+									).getResult().doubleValue();
+			}
+		}
+		return f2Rels;
+	}
+
+	/**
+	 * Generate random {@link Instance}s with correlated attributes, and the first 1/3 of them with
+	 * fewer values.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			int valueSize = i<size/3? 2: 4;
+			for (int a=1; a<values.length; a++) {
+				values[a] = a>1 && random.nextInt(3)==0?
+								values[a-1]: random.nextInt(valueSize);
+			}
+			values[0] = (values[1]+values[2]) % 2;
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,122 @@
+package featureSelection.repository.algorithm.opt.genetic.classic;
+
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.opt.FitnessCache;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.razaChromosome.RazaClassicChromosome;
+import featureSelection.repository.entity.opt.genetic.interf.fitness.Fitness;
+import featureSelection.repository.entity.opt.genetic.interf.fitness.fitnessValue.FitnessValue;
+import featureSelection.repository.support.calculation.alg.classic.hash.ClassicHashMapCalculation;
+import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * ClassicHashMapAttributeReductionGA Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Classic HashMap Attribute Reduction GA Test")
+class ClassicHashMapAttributeReductionGATest {
+	private static final int ATTRIBUTE_SIZE = 8;
+	private static final int PARALLELISM = 4;
+
+	@Test
+	@DisplayName("Cached parallel fitnesses equal the sequential ones when the 1st one is a hit")
+	public void testCachedParallelFitness() {
+		Random random = new Random(1);
+		List<Instance> instances = randomInstances(random, 300);
+		RazaClassicChromosome[] chromosomes = distinctChromosomes(40);
+
+		Fitness<RazaClassicChromosome, FitnessValue<Double>>[] expected =
+				new ClassicHashMapAttributeReductionGA<RazaClassicChromosome, Double>(RazaClassicChromosome.class)
+					.calculateFitness(new DependencyCalculation4ClassicHashMap(), instances, chromosomes);
+
+		InitiationCheckedGA ga = new InitiationCheckedGA();
+		FitnessCache<FitnessValue<Double>> cache = new FitnessCache<>();
+		// Hit the 1st chromosome so that no fitness is calculated in the calling thread first.
+		cache.put(chromosomes[0].getAttributes(), expected[0].getFitnessValue());
+		DependencyCalculation4ClassicHashMap calculation = new DependencyCalculation4ClassicHashMap();
+		try (ParallelFitnessEvaluator<ClassicHashMapCalculation<Double>> evaluator =
+				new ParallelFitnessEvaluator<>(DependencyCalculation4ClassicHashMap::new, PARALLELISM)
+		) {
+			for (int round=0; round<2; round++) {
+				Fitness<RazaClassicChromosome, FitnessValue<Double>>[] fitness =
+						ga.calculateFitness(calculation, instances, chromosomes, cache, evaluator);
+				Assertions.assertEquals(expected.length, fitness.length);
+				for (int i=0; i<fitness.length; i++) {
+					Assertions.assertSame(chromosomes[i], fitness[i].getChromosome());
+					Assertions.assertEquals(
+							expected[i].getFitnessValue().getValue(),
+							fitness[i].getFitnessValue().getValue()
+					);
+				}
+			}
+		}
+		// 1st round: the 1st one hit, others missed and calculated. 2nd round: all hit.
+		Assertions.assertEquals(1 + chromosomes.length, cache.getHitCount());
+		Assertions.assertEquals(chromosomes.length - 1, cache.getMissCount());
+		Assertions.assertEquals(chromosomes.length, cache.size());
+		Assertions.assertEquals(chromosomes.length - 1, calculation.getCalculationTimes());
+	}
+
+	/**
+	 * {@link ClassicHashMapAttributeReductionGA} failing fitness calculations in worker threads
+	 * before lazily initialised fields are initiated.
+	 */
+	private static class InitiationCheckedGA
+		extends ClassicHashMapAttributeReductionGA<RazaClassicChromosome, Double>
+	{
+		private volatile boolean initiated = false;
+
+		InitiationCheckedGA() {
+			super(RazaClassicChromosome.class);
+		}
+
+		@Override
+		public void initFitnessCalculation(Collection<Instance> collection) {
+			super.initFitnessCalculation(collection);
+			initiated = true;
+		}
+
+		@Override
+		public Fitness<RazaClassicChromosome, FitnessValue<Double>>[] calculateFitness(
+				ClassicHashMapCalculation<Double> calculation, Collection<Instance> collection,
+				RazaClassicChromosome... chromosomes
+		) {
+			if (Thread.currentThread() instanceof ForkJoinWorkerThread && !initiated)
+				throw new IllegalStateException("Fitness calculated before initiation.");
+			return super.calculateFitness(calculation, collection, chromosomes);
+		}
+	}
+
+	private static RazaClassicChromosome[] distinctChromosomes(int size) {
+		RazaClassicChromosome[] chromosomes = new RazaClassicChromosome[size];
+		for (int c=0; c<size; c++) {
+			// Non-empty distinct subsets by the bits of c+1.
+			List<Integer> attributes = new ArrayList<>();
+			for (int a=1; a<=ATTRIBUTE_SIZE; a++)	if (((c+1) >>> (a-1) & 1)==1)	attributes.add(a);
+			int[] gene = attributes.stream().mapToInt(v->v).toArray();
+			chromosomes[c] = new RazaClassicChromosome(gene, gene.clone());
+		}
+		return chromosomes;
+	}
+
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			values[0] = random.nextInt(3);
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,196 @@
+package featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.decisionNumber;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.lang.dataStructure.interf.IntegerIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.compactedDecisionTable.original.CompactedDecisionTableHashAlgorithm;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.compactedTable.InstanceBasedCompactedTableRecord;
+import featureSelection.repository.entity.alg.compactedDecisionTable.impl.original.equivalenceClass.EquivalenceClassCompactedTableRecord;
+import featureSelection.repository.entity.alg.compactedDecisionTable.interf.DecisionNumber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * ArrayDecisionNumber Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Array Decision Number Test")
+class ArrayDecisionNumberTest {
+	private static final int ATTRIBUTE_SIZE = 4;
+	/**
+	 * Decision values in and out of the direct range of {@link ArrayDecisionNumber.Dictionary}.
+	 */
+	private static final int[] DECISIONS = {0, 1, 2, 255, 256, 1000, -1};
+
+	@Test
+	@DisplayName("Sets, removals and clones equal the ones of HashMapDecisionNumber")
+	public void testSameAsHashMap() {
+		Random random = new Random(22);
+		for (int t=0; t<50; t++) {
+			ArrayDecisionNumber array = new ArrayDecisionNumber();
+			HashMapDecisionNumber hashMap = new HashMapDecisionNumber();
+			for (int op=0; op<30; op++) {
+				int decision = DECISIONS[random.nextInt(DECISIONS.length)];
+				// Remove(set to 0) a decision value 1/3 of the time, increase its number otherwise.
+				int number = random.nextInt(3)==0? 0: 1+hashMap.getNumberOfDecision(decision);
+				array.setDecisionNumber(decision, number);
+				hashMap.setDecisionNumber(decision, number);
+				assertSameNumbers(hashMap, array);
+			}
+
+			ArrayDecisionNumber clone = array.clone();
+			assertSameNumbers(hashMap, clone);
+			clone.setDecisionNumber(DECISIONS[0], 1+clone.getNumberOfDecision(DECISIONS[0]));
+			assertSameNumbers(hashMap, array);
+		}
+	}
+
+	@Test
+	@DisplayName("Merges of records sharing a dictionary are element-wise sums")
+	public void testPlus() {
+		ArrayDecisionNumber.Dictionary dictionary = new ArrayDecisionNumber.Dictionary();
+		ArrayDecisionNumber x = new ArrayDecisionNumber(dictionary), y = new ArrayDecisionNumber(dictionary);
+		x.setDecisionNumber(1, 2);
+		y.setDecisionNumber(1000, 3);
+		// Encoded after x is created: x has a shorter array than y.
+		y.setDecisionNumber(1, 1);
+		Assertions.assertEquals(2, x.consistentNumber());
+		Assertions.assertEquals(-1, y.consistentNumber());
+
+		x.plus(y);
+		Assertions.assertEquals(3, x.getNumberOfDecision(1));
+		Assertions.assertEquals(3, x.getNumberOfDecision(1000));
+		Assertions.assertEquals(-1, x.consistentNumber());
+		// y is untouched.
+		Assertions.assertEquals(1, y.getNumberOfDecision(1));
+
+		// Removed decision values are skipped.
+		x.setDecisionNumber(1, 0);
+		Assertions.assertEquals(3, x.consistentNumber());
+		Assertions.assertEquals("{1000=3}", x.toString());
+		Assertions.assertEquals(0, new ArrayDecisionNumber().consistentNumber());
+
+		Assertions.assertThrows(IllegalArgumentException.class, ()->x.plus(new ArrayDecisionNumber()));
+	}
+
+	@Test
+	@DisplayName("Compacted tables and merged equivalence classes equal the ones of HashMapDecisionNumber")
+	public void testCompactedTables() throws Exception {
+		Random random = new Random(23);
+		List<Instance> instances = new ArrayList<>();
+		for (int i=0; i<300; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			values[0] = DECISIONS[random.nextInt(DECISIONS.length)];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		int[] all = {1, 2, 3, 4};
+		Collection<InstanceBasedCompactedTableRecord<HashMapDecisionNumber>> hashMapTable =
+				CompactedDecisionTableHashAlgorithm.Basic.instance2CompactedTable(
+					HashMapDecisionNumber.class, instances, all
+				);
+		Collection<InstanceBasedCompactedTableRecord<ArrayDecisionNumber>> arrayTable =
+				CompactedDecisionTableHashAlgorithm.Basic.instance2CompactedTable(
+					ArrayDecisionNumber.class, instances, all
+				);
+		Assertions.assertEquals(hashMapTable.size(), arrayTable.size());
+		assertSameRecords(
+				recordsByKey(hashMapTable, all), recordsByKey(arrayTable, all)
+		);
+
+		for (int[] attributes: new int[][] {{}, {1}, {2, 3}, all}) {
+			Map<IntArrayKey, DecisionNumber> expected = new HashMap<>(), actual = new HashMap<>();
+			for (EquivalenceClassCompactedTableRecord<HashMapDecisionNumber> equClass:
+					CompactedDecisionTableHashAlgorithm.Basic.equivalenceClassOfCompactedTable(
+						hashMapTable, new IntegerArrayIterator(attributes)
+					)
+			) {
+				expected.put(keyOf(equClass, attributes), equClass.getDecisionNumbers());
+			}
+			int recordSize = 0;
+			for (EquivalenceClassCompactedTableRecord<ArrayDecisionNumber> equClass:
+					CompactedDecisionTableHashAlgorithm.Basic.equivalenceClassOfCompactedTable(
+						arrayTable, new IntegerArrayIterator(attributes)
+					)
+			) {
+				actual.put(keyOf(equClass, attributes), equClass.getDecisionNumbers());
+				recordSize += equClass.getEquivalenceRecords().size();
+			}
+			Assertions.assertEquals(arrayTable.size(), recordSize);
+			assertSameRecords(expected, actual);
+		}
+		// Records of the compacted table are not changed by merging.
+		assertSameRecords(recordsByKey(hashMapTable, all), recordsByKey(arrayTable, all));
+	}
+
+	private static void assertSameRecords(
+			Map<IntArrayKey, ? extends DecisionNumber> expected, Map<IntArrayKey, ? extends DecisionNumber> actual
+	) {
+		Assertions.assertEquals(expected.keySet(), actual.keySet());
+		for (Map.Entry<IntArrayKey, ? extends DecisionNumber> entry: expected.entrySet())
+			assertSameNumbers(entry.getValue(), actual.get(entry.getKey()));
+	}
+
+	/**
+	 * Assert <code>actual</code> has the same non-zero numbers and consistency as
+	 * <code>expected</code>.
+	 */
+	private static void assertSameNumbers(DecisionNumber expected, DecisionNumber actual) {
+		for (int decision: DECISIONS)
+			Assertions.assertEquals(expected.getNumberOfDecision(decision), actual.getNumberOfDecision(decision));
+		Assertions.assertEquals(nonZeroNumbers(expected), nonZeroNumbers(actual));
+		Assertions.assertEquals(
+				CompactedDecisionTableHashAlgorithm.Basic.checkConsistency(expected),
+				CompactedDecisionTableHashAlgorithm.Basic.checkConsistency(actual)
+		);
+		// Only non-zero numbers are returned.
+		IntegerIterator numbers = actual.numberValues().reset();
+		while (numbers.hasNext())	Assertions.assertNotEquals(0, numbers.next());
+	}
+
+	/**
+	 * Collect non-zero numbers by zipping {@link DecisionNumber#decisionValues()} and
+	 * {@link DecisionNumber#numberValues()}.
+	 */
+	private static Map<Integer, Integer> nonZeroNumbers(DecisionNumber decisionNumber) {
+		Map<Integer, Integer> numbers = new HashMap<>();
+		IntegerIterator decisions = decisionNumber.decisionValues().reset(),
+						values = decisionNumber.numberValues().reset();
+		Assertions.assertEquals(decisions.size(), values.size());
+		while (decisions.hasNext()) {
+			int decision = decisions.next(), number = values.next();
+			Assertions.assertEquals(decisionNumber.getNumberOfDecision(decision), number);
+			if (number!=0)	numbers.put(decision, number);
+		}
+		return numbers;
+	}
+
+	private static <DN extends DecisionNumber> Map<IntArrayKey, DN> recordsByKey(
+			Collection<InstanceBasedCompactedTableRecord<DN>> records, int[] attributes
+	) {
+		Map<IntArrayKey, DN> map = new HashMap<>();
+		for (InstanceBasedCompactedTableRecord<DN> record: records)
+			map.put(keyOf(record.getInsRepresentitive(), attributes), record.getDecisionNumbers());
+		return map;
+	}
+
+	private static IntArrayKey keyOf(EquivalenceClassCompactedTableRecord<?> equClass, int[] attributes) {
+		return keyOf(equClass.getEquivalenceRecords().iterator().next().getInsRepresentitive(), attributes);
+	}
+
+	private static IntArrayKey keyOf(Instance ins, int[] attributes) {
+		int[] key = new int[attributes.length];
+		for (int i=0; i<key.length; i++)	key[i] = ins.getAttributeValue(attributes[i]);
+		return new IntArrayKey(key);
+	}
+}
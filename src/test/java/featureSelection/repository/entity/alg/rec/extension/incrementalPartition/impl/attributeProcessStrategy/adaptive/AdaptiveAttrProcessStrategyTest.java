@@ -0,0 +1,168 @@
+package featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.adaptive;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.partitionFactorBasedDynamicMultiAttribute.PartitionFactorBasedDynamicMultiAttrProcessStrategy;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.partitionFactorBasedDynamicMultiAttribute.groupNumberCalculator.DefaultPartitionFactorBasedGroupNumberCalculator;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.partitionFactorBasedDynamicMultiAttribute.partitionFactorStrategy.PartitionFactorStrategy4FixedFactor;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.interf.attributeProcessStrategy.AttributeProcessStrategy;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPNEC;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * AdaptiveAttrProcessStrategy Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Adaptive Attribute Process Strategy Test")
+class AdaptiveAttrProcessStrategyTest {
+	private static final int ATTRIBUTE_SIZE = 12;
+
+	@Test
+	@DisplayName("Adaptive grouping selects the same reduct as the fixed factor one")
+	public void testSameReductAsFixedFactor() {
+		Random random = new Random(3);
+		List<Instance> instances = randomInstances(random, 2000);
+		Collection<NestedEquivalenceClass<EquivalenceClass>> universe = universeOf(instances);
+
+		AttributeProcessStrategy fixed = new PartitionFactorBasedDynamicMultiAttrProcessStrategy(
+				new AttrProcessStrategyParams()
+					.set(PartitionFactorBasedDynamicMultiAttrProcessStrategy.PARAMETER_PARTITION_FACTOR_STRATEGY,
+							new PartitionFactorStrategy4FixedFactor(3))
+					.set(PartitionFactorBasedDynamicMultiAttrProcessStrategy.PARAMETER_GROUP_NUMBER_CALCULATOR,
+							new DefaultPartitionFactorBasedGroupNumberCalculator())
+			);
+		AdaptiveAttrProcessStrategy adaptive = new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams()
+					.set(AdaptiveAttrProcessStrategy.PARAMETER_INITIAL_GROUP_SIZE, 1)
+			);
+
+		// Positive regions of random attribute subsets(i.e. fitness of optimization algorithms).
+		for (int i=0; i<50; i++) {
+			int[] attributes = randomAttributes(random);
+			Assertions.assertEquals(
+					positiveRegionOf(fixed, universe, attributes),
+					positiveRegionOf(adaptive, universe, attributes)
+			);
+		}
+		int[] fixedReduct = reductOf(fixed, universe), adaptiveReduct = reductOf(adaptive, universe);
+		Assertions.assertTrue(fixedReduct.length>1);
+		Assertions.assertArrayEquals(fixedReduct, adaptiveReduct);
+		Assertions.assertFalse(adaptive.getDecisions().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Group sizes less than 1 are illegal")
+	public void testIllegalGroupSizes() {
+		Assertions.assertThrows(IllegalArgumentException.class, ()->new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams().set(AdaptiveAttrProcessStrategy.PARAMETER_MAX_GROUP_SIZE, 0)
+		));
+		Assertions.assertThrows(IllegalArgumentException.class, ()->new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams().set(AdaptiveAttrProcessStrategy.PARAMETER_INITIAL_GROUP_SIZE, -1)
+		));
+		AdaptiveAttrProcessStrategy strategy = new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams().set(AdaptiveAttrProcessStrategy.PARAMETER_MAX_GROUP_SIZE, 1)
+		);
+		strategy.initiate(new IntegerArrayIterator(1, 2, 3));
+		Assertions.assertEquals(1, strategy.next().length);
+		strategy.feedback(100, 99);
+		Assertions.assertEquals(1, strategy.getGroupSize());
+	}
+
+	/**
+	 * Select attributes with the max positive region in turn(the smallest attribute in ties)
+	 * until the positive region of C is reached.
+	 */
+	private static int[] reductOf(
+			AttributeProcessStrategy strategy, Collection<NestedEquivalenceClass<EquivalenceClass>> universe
+	) {
+		int[] all = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<all.length; i++)	all[i] = i+1;
+		int globalPos = positiveRegionOf(strategy, universe, all);
+
+		List<Integer> reduct = new ArrayList<>();
+		int pos = 0;
+		while (pos<globalPos) {
+			int bestAttribute = -1, bestPos = -1, candidatePos;
+			for (int attribute: all) {
+				if (reduct.contains(attribute))	continue;
+				candidatePos = positiveRegionOf(strategy, universe, append(reduct, attribute));
+				if (candidatePos>bestPos) {
+					bestPos = candidatePos;
+					bestAttribute = attribute;
+				}
+			}
+			reduct.add(bestAttribute);
+			pos = bestPos;
+		}
+		return reduct.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static int positiveRegionOf(
+			AttributeProcessStrategy strategy, Collection<NestedEquivalenceClass<EquivalenceClass>> universe,
+			int[] attributes
+	) {
+		return PositiveRegionCalculation4IPNEC
+				.incrementalDynamicIncrementalPartition(
+					strategy.initiate(new IntegerArrayIterator(attributes)), universe
+				).getPositive();
+	}
+
+	/**
+	 * Wrap all {@link EquivalenceClass}es of C in a single {@link NestedEquivalenceClass}.
+	 */
+	private static Collection<NestedEquivalenceClass<EquivalenceClass>> universeOf(List<Instance> instances) {
+		int[] attributes = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+		return NestedEquivalenceClassBasedAlgorithm
+				.Basic
+				.nestedEquivalenceClass(
+						NestedEquivalenceClassBasedAlgorithm
+								.Basic
+								.equivalenceClass(instances, new IntegerArrayIterator(attributes))
+								.values(),
+						new IntegerArrayIterator(new int[0])
+				).getNestedEquClasses()
+				.values();
+	}
+
+	private static int[] append(List<Integer> attributes, int attribute) {
+		int[] appended = new int[attributes.size()+1];
+		for (int i=0; i<attributes.size(); i++)	appended[i] = attributes.get(i);
+		appended[attributes.size()] = attribute;
+		return appended;
+	}
+
+	private static int[] randomAttributes(Random random) {
+		int[] attributes = new int[1+random.nextInt(ATTRIBUTE_SIZE)];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = 1+random.nextInt(ATTRIBUTE_SIZE);
+		return Arrays.stream(attributes).distinct().toArray();
+	}
+
+	/**
+	 * Generate random {@link Instance}s whose decision values depend on the first 3 attributes
+	 * mostly, so that reducts take more than one attribute.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(a<=3? 4: 3);
+			values[0] = random.nextInt(10)==0? random.nextInt(2): (values[1]+values[2]*values[3]) % 3;
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,127 @@
+package featureSelection.repository.entity.alg.rec.nestedEC.streaming;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ArrivalPipeline Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Arrival Pipeline Test")
+class ArrivalPipelineTest {
+	private static final int[] ATTRIBUTES = {1, 2, 3, 4};
+
+	@Test
+	@DisplayName("Pipelined compression equals the sequential one")
+	public void testSameAsSequential() throws Exception {
+		List<List<Instance>> batches = randomBatches(new Random(7), 3000, 17, 1200, 64, 2500);
+		List<Integer> handled = new ArrayList<>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try (ArrivalPipeline pipeline = new ArrivalPipeline(ATTRIBUTES, pool, 64, 1)) {
+			int batchSize = pipeline.run(batches.iterator(), (index, instances, arrivedEquClasses)->{
+				Assertions.assertSame(batches.get(index), instances);
+				assertSameEquivalenceClasses(
+						NestedEquivalenceClassBasedAlgorithm
+							.Basic
+							.equivalenceClass(instances, new IntegerArrayIterator(ATTRIBUTES)),
+						arrivedEquClasses
+				);
+				handled.add(index);
+			});
+			Assertions.assertEquals(batches.size(), batchSize);
+			Assertions.assertEquals(batches.size(), pipeline.getStatistics().getBatches());
+		}finally {
+			pool.shutdown();
+		}
+		Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4), handled);
+	}
+
+	@Test
+	@DisplayName("Errors of compression are re-thrown in the calling thread")
+	public void testProducerError() throws Exception {
+		List<List<Instance>> batches = randomBatches(new Random(11), 100, 100);
+		Iterator<List<Instance>> failing = new Iterator<List<Instance>>() {
+			private int next = 0;
+			@Override public boolean hasNext() {
+				return true;
+			}
+			@Override public List<Instance> next() {
+				if (next==batches.size())	throw new OutOfMemoryError("simulated");
+				return batches.get(next++);
+			}
+		};
+		List<Integer> handled = new ArrayList<>();
+		try (ArrivalPipeline pipeline = new ArrivalPipeline(ATTRIBUTES, 2)) {
+			OutOfMemoryError error = Assertions.assertThrows(
+					OutOfMemoryError.class,
+					()->pipeline.run(failing, (index, instances, arrivedEquClasses)->handled.add(index))
+			);
+			Assertions.assertEquals("simulated", error.getMessage());
+		}
+		Assertions.assertEquals(Arrays.asList(0, 1), handled);
+	}
+
+	@Test
+	@DisplayName("Failures of updates stop the pipeline")
+	public void testHandlerFailure() throws Exception {
+		List<List<Instance>> batches = randomBatches(new Random(13), 100, 100, 100, 100, 100);
+		try (ArrivalPipeline pipeline = new ArrivalPipeline(ATTRIBUTES, 2)) {
+			Assertions.assertThrows(
+					IllegalStateException.class,
+					()->pipeline.run(batches.iterator(), (index, instances, arrivedEquClasses)->{
+						if (index==1)	throw new IllegalStateException();
+					})
+			);
+			Assertions.assertEquals(1, pipeline.getStatistics().getBatches());
+		}
+	}
+
+	private static void assertSameEquivalenceClasses(
+			Map<IntArrayKey, EquivalenceClass> expected, Map<IntArrayKey, EquivalenceClass> actual
+	) {
+		Assertions.assertEquals(expected.keySet(), actual.keySet());
+		EquivalenceClass actualEquClass;
+		for (Map.Entry<IntArrayKey, EquivalenceClass> entry: expected.entrySet()) {
+			actualEquClass = actual.get(entry.getKey());
+			Assertions.assertEquals(entry.getValue().getInstanceSize(), actualEquClass.getInstanceSize());
+			Assertions.assertEquals(entry.getValue().getType(), actualEquClass.getType());
+			if (entry.getValue().sortable())
+				Assertions.assertEquals(entry.getValue().getDecisionValue(), actualEquClass.getDecisionValue());
+		}
+	}
+
+	/**
+	 * Generate batches of random {@link Instance}s with few values, so that equivalence classes
+	 * spread over shards and some of them are in-consistent. Decision values exceed the
+	 * {@link Integer} cache.
+	 */
+	private static List<List<Instance>> randomBatches(Random random, int...batchSizes) {
+		List<List<Instance>> batches = new ArrayList<>(batchSizes.length);
+		for (int batchSize: batchSizes) {
+			List<Instance> batch = new ArrayList<>(batchSize);
+			for (int i=0; i<batchSize; i++) {
+				int[] values = new int[ATTRIBUTES.length+1];
+				values[0] = 1000 + random.nextInt(3);
+				for (int a=1; a<values.length; a++)	values[a] = random.nextInt(a==1? 2: 4);
+				batch.add(new Instance(values));
+			}
+			batches.add(batch);
+		}
+		return batches;
+	}
+}
@@ -0,0 +1,128 @@
+package featureSelection.repository.entity.alg.toleranceClassPositiveRegionIncremental.toleranceClassObtainer;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * ToleranceClassObtainerByBitmap Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Tolerance Class Obtainer By Bitmap Test")
+class ToleranceClassObtainerByBitmapTest {
+	private static final int ATTRIBUTE_SIZE = 5;
+
+	@Test
+	@DisplayName("Tolerance classes equal the ones collected directly on incomplete data")
+	public void testSameAsDirectCollect() {
+		Random random = new Random(21);
+		ToleranceClassObtainer bitmap = new ToleranceClassObtainerByBitmap(),
+								direct = new ToleranceClassObtainerByDirectCollect();
+		// Sizes around word boundaries.
+		for (int size: new int[] {1, 63, 64, 65, 200}) {
+			for (int t=0; t<10; t++) {
+				List<Instance> instances = randomInstances(random, size);
+				// Candidates: all or a part of the instances.
+				List<Instance> candidates = t%2==0? instances: instances.subList(0, (size+1)/2);
+				int[] attributes = randomAttributes(random);
+
+				Map<Instance, Collection<Instance>> expected =
+						direct.obtain(instances, candidates, new IntegerArrayIterator(attributes));
+				Map<Instance, Collection<Instance>> actual =
+						bitmap.obtain(instances, candidates, new IntegerArrayIterator(attributes));
+				Assertions.assertEquals(expected.keySet(), actual.keySet());
+				for (Map.Entry<Instance, Collection<Instance>> entry: expected.entrySet()) {
+					Collection<Instance> tolerance = actual.get(entry.getKey());
+					Assertions.assertTrue(tolerance instanceof ToleranceClassBitmap);
+					Assertions.assertEquals(entry.getValue().size(), tolerance.size());
+					Assertions.assertEquals(new HashSet<>(entry.getValue()), new HashSet<>(tolerance));
+					Assertions.assertEquals(
+							consistent(entry.getValue()), ((ToleranceClassBitmap) tolerance).consistent()
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Tolerance classes shared by the same values are copied on write")
+	public void testCopyOnWrite() {
+		List<Instance> instances = new ArrayList<>();
+		instances.add(new Instance(new int[] {0, 1, 2}));
+		instances.add(new Instance(new int[] {1, 1, 2}));
+		instances.add(new IncompleteInstance(new int[] {0, IncompleteInstance.MISSING_VALUE, 2}));
+		instances.add(new Instance(new int[] {0, 2, 2}));
+		Map<Instance, Collection<Instance>> tolerances = new ToleranceClassObtainerByBitmap().obtain(
+				instances, instances, new IntegerArrayIterator(1, 2)
+		);
+		Collection<Instance> tolerance0 = tolerances.get(instances.get(0)),
+							tolerance1 = tolerances.get(instances.get(1));
+		Assertions.assertEquals(new HashSet<>(instances.subList(0, 3)), new HashSet<>(tolerance0));
+		Assertions.assertFalse(((ToleranceClassBitmap) tolerance0).consistent());
+		Assertions.assertEquals(
+				new HashSet<>(instances.subList(2, 4)), new HashSet<>(tolerances.get(instances.get(3)))
+		);
+
+		// Remove x1 from S(x0) and add an instance out of the candidates.
+		Instance extra = new Instance(new int[] {0, 1, 2});
+		Assertions.assertTrue(tolerance0.remove(instances.get(1)));
+		Assertions.assertTrue(tolerance0.add(extra));
+		Assertions.assertTrue(((ToleranceClassBitmap) tolerance0).consistent());
+		Assertions.assertEquals(3, tolerance0.size());
+		Assertions.assertTrue(tolerance0.contains(extra));
+		// S(x1) is untouched.
+		Assertions.assertEquals(new HashSet<>(instances.subList(0, 3)), new HashSet<>(tolerance1));
+		Assertions.assertFalse(tolerance1.contains(extra));
+
+		Iterator<Instance> iterator = tolerance1.iterator();
+		iterator.next();
+		iterator.remove();
+		Assertions.assertEquals(2, tolerance1.size());
+		Assertions.assertEquals(3, tolerance0.size());
+	}
+
+	private static boolean consistent(Collection<Instance> tolerance) {
+		return tolerance.stream().mapToInt(ins->ins.getAttributeValue(0)).distinct().count()<=1;
+	}
+
+	private static int[] randomAttributes(Random random) {
+		int[] attributes = new int[1+random.nextInt(ATTRIBUTE_SIZE)];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = 1+random.nextInt(ATTRIBUTE_SIZE);
+		return Arrays.stream(attributes).distinct().toArray();
+	}
+
+	/**
+	 * Generate random {@link Instance}s with about 1/5 condition values missing.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			boolean missing = false;
+			values[0] = random.nextInt(2);
+			for (int a=1; a<values.length; a++) {
+				if (random.nextInt(5)==0) {
+					values[a] = IncompleteInstance.MISSING_VALUE;
+					missing = true;
+				}else {
+					values[a] = random.nextInt(3);
+				}
+			}
+			instances.add(missing? new IncompleteInstance(values): new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,206 @@
+package featureSelection.repository.entity.checkpoint;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.result.ReductionResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * NestedEquivalenceClassCheckpoints Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Nested Equivalence Class Checkpoints Test")
+class NestedEquivalenceClassCheckpointsTest {
+	private static final int[] ATTRIBUTES = {1, 2, 3, 4};
+	private static final int[] REDUCT = {1, 2};
+
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("Full checkpoint -> delta checkpoint -> restore equals the from-scratch state")
+	public void testRestoreAfterDelta() throws IOException {
+		Random random = new Random(5);
+		List<Instance> instances = randomInstances(random, 400, 4);
+		NestedEquivalenceClassCheckpoints checkpoints = new NestedEquivalenceClassCheckpoints(directory);
+		Path full = checkpoints.checkpoint(new ReductionResult<>(nestedEquivalenceClassesOf(instances), reduct(), 11));
+		Assertions.assertTrue(full.getFileName().toString().endsWith(NestedEquivalenceClassCheckpoints.FULL_SUFFIX));
+
+		// Arrivals in a single NEC only, so that the next checkpoint is a delta one.
+		for (Instance ins: randomInstances(random, 30, 1))	instances.add(ins);
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> expected = nestedEquivalenceClassesOf(instances);
+		Path delta = checkpoints.checkpoint(new ReductionResult<>(expected, reduct(), 13));
+		Assertions.assertTrue(delta.getFileName().toString().endsWith(NestedEquivalenceClassCheckpoints.DELTA_SUFFIX));
+
+		ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>, Collection<Integer>, Number>
+			restored = NestedEquivalenceClassCheckpoints.restore(directory);
+		Assertions.assertEquals(reduct(), restored.getReduct());
+		Assertions.assertEquals(13, restored.getReductSig());
+		assertSameNestedEquivalenceClasses(expected, restored.getWrappedInstances());
+		Assertions.assertEquals(2, listFiles().size());
+	}
+
+	@Test
+	@DisplayName("Changes of NECs are detected despite colliding fingerprints")
+	public void testSummaryWithCollidingFingerprints() {
+		List<Instance> instances = new ArrayList<>(Arrays.asList(
+				new Instance(new int[] {0, 0, 0, 0, 0}),
+				new Instance(new int[] {0, 0, 0, 1, 0}),
+				new Instance(new int[] {1, 0, 0, 1, 0})
+		));
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previous = nestedEquivalenceClassesOf(instances);
+		IntArrayKey key = new IntArrayKey(new int[] {0, 0});
+		Assertions.assertEquals(
+				NestedEquivalenceClassCheckpoints.Summary.of(previous.get(key)),
+				NestedEquivalenceClassCheckpoints.Summary.of(nestedEquivalenceClassesOf(instances).get(key))
+		);
+
+		// Flip the decision value of the consistent equivalence class: sizes are kept.
+		instances.set(0, new Instance(new int[] {1, 0, 0, 0, 0}));
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> latest = nestedEquivalenceClassesOf(instances);
+		Assertions.assertEquals(previous.get(key).getInstanceSize(), latest.get(key).getInstanceSize());
+		Assertions.assertEquals(previous.get(key).getEquClasses().size(), latest.get(key).getEquClasses().size());
+		// The same fingerprint for both, as if colliding.
+		Assertions.assertNotEquals(
+				new NestedEquivalenceClassCheckpoints.Summary(0, previous.get(key)),
+				new NestedEquivalenceClassCheckpoints.Summary(0, latest.get(key))
+		);
+	}
+
+	@Test
+	@DisplayName("Instances are restored with their nums")
+	public void testInstanceNums() throws IOException {
+		Path file = directory.resolve("instances");
+		Instance complete = new Instance(new int[] {1, 2, 3}, 17),
+				incomplete = new IncompleteInstance(new int[] {0, IncompleteInstance.MISSING_VALUE, 3}, 3);
+		try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			out.writeInstanceTable(Arrays.asList(complete, incomplete, complete));
+			out.writeInstance(complete);
+			out.writeInstance(incomplete);
+			out.commit();
+		}
+		try (CheckpointInput in = new CheckpointInput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			Assertions.assertEquals(2, in.readInstanceTable().size());
+			Instance restoredComplete = in.readInstance(), restoredIncomplete = in.readInstance();
+			Assertions.assertEquals(17, restoredComplete.getNum());
+			Assertions.assertFalse(restoredComplete instanceof IncompleteInstance);
+			Assertions.assertArrayEquals(complete.getAttributeValues(), restoredComplete.getAttributeValues());
+			Assertions.assertEquals(3, restoredIncomplete.getNum());
+			Assertions.assertTrue(restoredIncomplete instanceof IncompleteInstance);
+			Assertions.assertArrayEquals(incomplete.getAttributeValues(), restoredIncomplete.getAttributeValues());
+		}
+	}
+
+	@Test
+	@DisplayName("Uncommitted writes leave the previous file intact")
+	public void testUncommittedWrite() throws IOException {
+		Path file = directory.resolve("numbers");
+		try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			out.writeVarInt(1);
+			out.commit();
+		}
+		Assertions.assertThrows(IllegalStateException.class, ()->{
+			try (CheckpointOutput out = new CheckpointOutput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+				out.writeVarInt(2);
+				throw new IllegalStateException("simulated");
+			}
+		});
+		try (CheckpointInput in = new CheckpointInput(file, CheckpointKind.SAMPLE_PAIR_FAMILY)) {
+			Assertions.assertEquals(1, in.readVarInt());
+		}
+		Assertions.assertEquals(1, listFiles().size());
+	}
+
+	private static Collection<Integer> reduct() {
+		return Arrays.stream(REDUCT).boxed().collect(Collectors.toList());
+	}
+
+	private static Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> nestedEquivalenceClassesOf(
+			Collection<Instance> instances
+	) {
+		return NestedEquivalenceClassBasedAlgorithm
+				.Basic
+				.nestedEquivalenceClass(
+						NestedEquivalenceClassBasedAlgorithm
+								.Basic
+								.equivalenceClass(instances, new IntegerArrayIterator(ATTRIBUTES))
+								.values(),
+						new IntegerArrayIterator(REDUCT)
+				).getNestedEquClasses();
+	}
+
+	private static void assertSameNestedEquivalenceClasses(
+			Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> expected,
+			Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> actual
+	) {
+		Assertions.assertEquals(expected.keySet(), actual.keySet());
+		NestedEquivalenceClass<EquivalenceClass> actualNestedEquClass;
+		for (Map.Entry<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> entry: expected.entrySet()) {
+			actualNestedEquClass = actual.get(entry.getKey());
+			Assertions.assertEquals(entry.getValue().getType(), actualNestedEquClass.getType());
+			Assertions.assertEquals(entry.getValue().getDec(), actualNestedEquClass.getDec());
+			Assertions.assertEquals(entry.getValue().getInstanceSize(), actualNestedEquClass.getInstanceSize());
+			Assertions.assertEquals(equivalenceClassesOf(entry.getValue()), equivalenceClassesOf(actualNestedEquClass));
+		}
+	}
+
+	/**
+	 * Map {@link EquivalenceClass}es of a {@link NestedEquivalenceClass} by attribute values into
+	 * [instance count, decision value or <code>null</code> if unsortable].
+	 */
+	private static Map<IntArrayKey, List<Integer>> equivalenceClassesOf(
+			NestedEquivalenceClass<EquivalenceClass> nestedEquClass
+	) {
+		Map<IntArrayKey, List<Integer>> equClasses = new HashMap<>();
+		for (EquivalenceClass equClass: nestedEquClass.getEquClasses().values()) {
+			equClasses.put(
+					new IntArrayKey(equClass.getAttrValue()),
+					Arrays.asList(equClass.getInstanceCount(), equClass.sortable()? equClass.getDecValue(): null)
+			);
+		}
+		return equClasses;
+	}
+
+	/**
+	 * Generate random {@link Instance}s with values of reduct attributes in [0, reductValueSize).
+	 */
+	private static List<Instance> randomInstances(Random random, int size, int reductValueSize) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTES.length+1];
+			values[0] = random.nextInt(2);
+			for (int a=1; a<values.length; a++)
+				values[a] = random.nextInt(a<=REDUCT.length? reductValueSize: 3);
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+
+	private List<Path> listFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package featureSelection.repository.entity.opt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BitPackedEncoding Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Bit Packed Encoding Test")
+class BitPackedEncodingTest {
+
+	@Test
+	@DisplayName("Attribute a is the bit (a-1)%64 of the word (a-1)/64")
+	public void testBitOrder() {
+		long[] code = BitPackedEncoding.encode(new int[] {1, 2, 64, 65, 130}, 130);
+		Assertions.assertEquals(3, code.length);
+		Assertions.assertEquals(0b11L | (1L << 63), code[0]);
+		Assertions.assertEquals(1L, code[1]);
+		Assertions.assertEquals(1L << 1, code[2]);
+		Assertions.assertArrayEquals(code, BitPackedEncoding.encode(bytesOf(new int[] {1, 2, 64, 65, 130}, 130)));
+		Assertions.assertArrayEquals(new int[] {1, 2, 64, 65, 130}, BitPackedEncoding.attributes(code));
+		Assertions.assertTrue(BitPackedEncoding.contains(code, 64));
+		Assertions.assertFalse(BitPackedEncoding.contains(code, 63));
+
+		BitPackedEncoding.flip(code, 64);
+		BitPackedEncoding.clear(code, 1);
+		BitPackedEncoding.set(code, 66);
+		Assertions.assertArrayEquals(new int[] {2, 65, 66, 130}, BitPackedEncoding.attributes(code));
+		Assertions.assertEquals(
+				"[0, 1, 0, 1]",
+				BitPackedEncoding.toString(BitPackedEncoding.encode(new int[] {2, 4}, 4), 4)
+		);
+	}
+
+	@Test
+	@DisplayName("Codes of 63, 64 and 65 attributes")
+	public void testWordBoundaries() {
+		for (int length: new int[] {63, 64, 65}) {
+			int[] all = new int[length];
+			for (int i=0; i<length; i++)	all[i] = i+1;
+
+			long[] full = BitPackedEncoding.full(length);
+			Assertions.assertEquals(length<=64? 1: 2, full.length);
+			Assertions.assertEquals(BitPackedEncoding.wordsOf(length), full.length);
+			Assertions.assertArrayEquals(full, BitPackedEncoding.encode(all, length));
+			Assertions.assertEquals(length, BitPackedEncoding.cardinality(full));
+			Assertions.assertArrayEquals(all, BitPackedEncoding.attributes(full));
+			Assertions.assertEquals(-1, BitPackedEncoding.nthUnselected(full, length, 0));
+
+			long[] last = BitPackedEncoding.encode(new int[] {length}, length);
+			Assertions.assertEquals(1, BitPackedEncoding.cardinality(last));
+			Assertions.assertArrayEquals(new int[] {length}, BitPackedEncoding.attributes(last));
+			Assertions.assertEquals(length-1, BitPackedEncoding.hammingDistance(full, last));
+			// Unselected attributes are counted within length only.
+			Assertions.assertEquals(length-1, BitPackedEncoding.nthUnselected(last, length, length-2));
+			Assertions.assertEquals(-1, BitPackedEncoding.nthUnselected(last, length, length-1));
+
+			List<Integer> visited = new ArrayList<>();
+			BitPackedEncoding.forEachAttribute(full, visited::add);
+			Assertions.assertEquals(length, visited.size());
+			Assertions.assertEquals(length, visited.get(length-1).intValue());
+		}
+	}
+
+	@Test
+	@DisplayName("Popcounts equal the ones of byte[] codes")
+	public void testPopcount() {
+		Random random = new Random(17);
+		for (int length: new int[] {1, 63, 64, 65, 200}) {
+			for (int t=0; t<20; t++) {
+				byte[] x = randomBytes(random, length), y = randomBytes(random, length);
+				long[] packedX = BitPackedEncoding.encode(x), packedY = BitPackedEncoding.encode(y);
+
+				int cardinality = 0, distance = 0;
+				for (int i=0; i<length; i++) {
+					cardinality += x[i];
+					if (x[i]!=y[i])	distance++;
+				}
+				Assertions.assertEquals(cardinality, BitPackedEncoding.cardinality(packedX));
+				Assertions.assertEquals(distance, BitPackedEncoding.hammingDistance(packedX, packedY));
+
+				// Swap/flip by masks equal gene by gene cross-overs/mutations.
+				List<Integer> indexes = new ArrayList<>();
+				for (int i=0; i<length; i++)	if (random.nextBoolean())	indexes.add(i);
+				long[] mask = BitPackedEncoding.mask(indexes, length);
+				byte[] crossedX = x.clone(), crossedY = y.clone();
+				for (int i: indexes) {
+					crossedX[i] = y[i];
+					crossedY[i] = x[i];
+				}
+				BitPackedEncoding.swap(packedX, packedY, mask);
+				Assertions.assertArrayEquals(BitPackedEncoding.encode(crossedX), packedX);
+				Assertions.assertArrayEquals(BitPackedEncoding.encode(crossedY), packedY);
+
+				BitPackedEncoding.flip(packedX, mask);
+				for (int i: indexes)	crossedX[i] ^= 1;
+				Assertions.assertArrayEquals(BitPackedEncoding.encode(crossedX), packedX);
+			}
+		}
+	}
+
+	private static byte[] bytesOf(int[] attributes, int length) {
+		byte[] bytes = new byte[length];
+		for (int attr: attributes)	bytes[attr-1] = 1;
+		return bytes;
+	}
+
+	private static byte[] randomBytes(Random random, int length) {
+		byte[] bytes = new byte[length];
+		for (int i=0; i<length; i++)	bytes[i] = (byte) (random.nextBoolean()? 1: 0);
+		return bytes;
+	}
+}
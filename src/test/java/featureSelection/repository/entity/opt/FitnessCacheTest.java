@@ -0,0 +1,83 @@
+package featureSelection.repository.entity.opt;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FitnessCache Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Fitness Cache Test")
+class FitnessCacheTest {
+
+	@Test
+	@DisplayName("Look ups are keyed by attribute subsets in any order and counted")
+	public void testHitAndMiss() {
+		FitnessCache<Double> cache = new FitnessCache<>();
+		Assertions.assertNull(cache.get(new int[] {3, 1, 2}));
+		Assertions.assertEquals(0, cache.getHitCount());
+		Assertions.assertEquals(1, cache.getMissCount());
+		Assertions.assertEquals(0, cache.size());
+
+		cache.put(new int[] {3, 1, 2}, 0.5);
+		Assertions.assertEquals(Double.valueOf(0.5), cache.get(new int[] {1, 2, 3}));
+		Assertions.assertEquals(Double.valueOf(0.5), cache.get(new int[] {2, 3, 1}));
+		Assertions.assertNull(cache.get(new int[] {1, 2}));
+		Assertions.assertEquals(2, cache.getHitCount());
+		Assertions.assertEquals(2, cache.getMissCount());
+		Assertions.assertEquals(0.5, cache.hitRate());
+
+		cache.clear();
+		Assertions.assertEquals(0, cache.size());
+		Assertions.assertEquals(0, cache.getHitCount());
+		Assertions.assertEquals(0, cache.getMissCount());
+		Assertions.assertEquals(0, cache.hitRate());
+		Assertions.assertNull(cache.get(new int[] {1, 2, 3}));
+	}
+
+	@Test
+	@DisplayName("Values are computed once for every subset and nulls are not cached")
+	public void testComputeIfAbsent() {
+		FitnessCache<Integer> cache = new FitnessCache<>();
+		AtomicInteger calculated = new AtomicInteger();
+		int[][] subsets = {{5, 7, 9}, {9, 7, 5}, {7, 5, 9}};
+		for (int[] subset: subsets) {
+			Assertions.assertEquals(
+					Integer.valueOf(3),
+					cache.computeIfAbsent(subset, attributes -> {
+						calculated.incrementAndGet();
+						return attributes.length;
+					})
+			);
+		}
+		Assertions.assertEquals(1, calculated.get());
+		Assertions.assertEquals(2, cache.getHitCount());
+		Assertions.assertEquals(1, cache.getMissCount());
+
+		for (int round=0; round<2; round++)
+			Assertions.assertNull(cache.computeIfAbsent(new int[] {1}, attributes -> null));
+		Assertions.assertEquals(3, cache.getMissCount());
+		Assertions.assertEquals(1, cache.size());
+	}
+
+	@Test
+	@DisplayName("Least recently used subsets are evicted beyond the capacity")
+	public void testEviction() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new FitnessCache<>(0));
+
+		FitnessCache<Integer> cache = new FitnessCache<>(2);
+		cache.put(new int[] {1}, 1);
+		cache.put(new int[] {2}, 2);
+		// Access {1} so that {2} is the least recently used one.
+		Assertions.assertEquals(Integer.valueOf(1), cache.get(new int[] {1}));
+		cache.put(new int[] {3}, 3);
+		Assertions.assertEquals(2, cache.size());
+		Assertions.assertNull(cache.get(new int[] {2}));
+		Assertions.assertEquals(Integer.valueOf(1), cache.get(new int[] {1}));
+		Assertions.assertEquals(Integer.valueOf(3), cache.get(new int[] {3}));
+	}
+}
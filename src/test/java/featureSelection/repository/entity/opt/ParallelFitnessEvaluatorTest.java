@@ -0,0 +1,125 @@
+package featureSelection.repository.entity.opt;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.opt.ParallelFitnessEvaluator.IndexedEvaluation;
+import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.positiveRegion.classic.PositiveRegionCalculation4ClassicHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * ParallelFitnessEvaluator Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Parallel Fitness Evaluator Test")
+class ParallelFitnessEvaluatorTest {
+	private static final int ATTRIBUTE_SIZE = 8;
+	private static final int PARALLELISM = 4;
+
+	@Test
+	@DisplayName("Parallel evaluations equal the sequential ones with calculation counts merged")
+	public void testSameAsSequential() {
+		Random random = new Random(1);
+		List<Instance> instances = randomInstances(random, 400);
+		int[][] subsets = randomSubsets(random, 50);
+		Map<Integer, Collection<Instance>> decEClasses =
+				ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+
+		PositiveRegionCalculation4ClassicHashMap sequential = new PositiveRegionCalculation4ClassicHashMap();
+		Integer[] expected = new Integer[subsets.length];
+		IndexedEvaluation<PositiveRegionCalculation4ClassicHashMap, Integer> evaluation =
+				(calculation, i) -> calculation.calculate(
+										instances, new IntegerArrayIterator(subsets[i]), decEClasses
+									).getResult();
+		for (int i=0; i<subsets.length; i++)	expected[i] = evaluation.evaluate(sequential, i);
+
+		PositiveRegionCalculation4ClassicHashMap main = new PositiveRegionCalculation4ClassicHashMap();
+		try (ParallelFitnessEvaluator<PositiveRegionCalculation4ClassicHashMap> evaluator =
+				new ParallelFitnessEvaluator<>(PositiveRegionCalculation4ClassicHashMap::new, PARALLELISM)
+		) {
+			// Evaluate repeatedly: counts are merged once for every evaluation.
+			for (int round=1; round<=3; round++) {
+				Integer[] results = evaluator.evaluate(main, new Integer[subsets.length], evaluation);
+				Assertions.assertArrayEquals(expected, results);
+				Assertions.assertEquals(
+						round*sequential.getCalculationTimes(), main.getCalculationTimes()
+				);
+				Assertions.assertEquals(
+						round*sequential.getCalculationAttributeLength(),
+						main.getCalculationAttributeLength()
+				);
+			}
+		}
+
+		DependencyCalculation4ClassicHashMap sequentialDep = new DependencyCalculation4ClassicHashMap();
+		Double[] expectedDep = new Double[subsets.length];
+		IndexedEvaluation<DependencyCalculation4ClassicHashMap, Double> depEvaluation =
+				(calculation, i) -> calculation.calculate(
+										instances, new IntegerArrayIterator(subsets[i]), decEClasses
+									).getResult();
+		for (int i=0; i<subsets.length; i++)	expectedDep[i] = depEvaluation.evaluate(sequentialDep, i);
+
+		DependencyCalculation4ClassicHashMap mainDep = new DependencyCalculation4ClassicHashMap();
+		try (ParallelFitnessEvaluator<DependencyCalculation4ClassicHashMap> evaluator =
+				new ParallelFitnessEvaluator<>(DependencyCalculation4ClassicHashMap::new, PARALLELISM)
+		) {
+			Double[] results = evaluator.evaluate(mainDep, new Double[subsets.length], depEvaluation);
+			Assertions.assertArrayEquals(expectedDep, results);
+			Assertions.assertEquals(sequentialDep.getCalculationTimes(), mainDep.getCalculationTimes());
+			Assertions.assertEquals(
+					sequentialDep.getCalculationAttributeLength(), mainDep.getCalculationAttributeLength()
+			);
+		}
+	}
+
+	@Test
+	@DisplayName("Thread-confined copies can not be main calculations")
+	public void testCopyAsMainCalculationRejected() {
+		PositiveRegionCalculation4ClassicHashMap copy = new PositiveRegionCalculation4ClassicHashMap();
+		try (ParallelFitnessEvaluator<PositiveRegionCalculation4ClassicHashMap> evaluator =
+				new ParallelFitnessEvaluator<>(() -> copy, PARALLELISM)
+		) {
+			// The 2nd item is evaluated by a worker thread with the supplied copy.
+			Integer[] results = evaluator.evaluate(
+					new PositiveRegionCalculation4ClassicHashMap(), new Integer[2],
+					(calculation, i) -> calculation==copy? 1: 0
+			);
+			Assertions.assertArrayEquals(new Integer[] {0, 1}, results);
+			Assertions.assertThrows(
+					IllegalArgumentException.class,
+					() -> evaluator.evaluate(copy, new Integer[1], (calculation, i) -> i)
+			);
+		}
+	}
+
+	private static int[][] randomSubsets(Random random, int size) {
+		int[][] subsets = new int[size][];
+		for (int s=0; s<size; s++) {
+			List<Integer> attributes = new ArrayList<>();
+			for (int a=1; a<=ATTRIBUTE_SIZE; a++)	if (random.nextBoolean())	attributes.add(a);
+			subsets[s] = attributes.stream().mapToInt(v->v).toArray();
+		}
+		return subsets;
+	}
+
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			values[0] = random.nextInt(3);
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
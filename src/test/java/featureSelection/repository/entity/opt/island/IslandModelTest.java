@@ -0,0 +1,167 @@
+package featureSelection.repository.entity.opt.island;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IslandModel Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Island Model Test")
+class IslandModelTest {
+	private static final int ISLAND_COUNT = 3;
+
+	@Test
+	@DisplayName("Thread islands migrate in a ring and merge records")
+	public void testThreadIslands() throws Exception {
+		List<StubIsland> islands = new ArrayList<>(ISLAND_COUNT);
+		for (int i=0; i<ISLAND_COUNT; i++)	islands.add(new StubIsland(i, 20));
+		IslandModel model = new IslandModel(5, 1);
+		ExecutorService executor = Executors.newFixedThreadPool(ISLAND_COUNT);
+		try {
+			List<Integer> merged = model.run(islands, 20, executor, StubIsland::merge);
+			Assertions.assertEquals(4, model.getMigrations());
+			// Each island received 1 migrant from its predecessor per migration.
+			Assertions.assertEquals(4*ISLAND_COUNT, merged.size());
+			for (StubIsland island: islands) {
+				int predecessor = (island.index+ISLAND_COUNT-1) % ISLAND_COUNT;
+				for (int source: island.getGenerationRecord())	Assertions.assertEquals(predecessor+1, source);
+			}
+		}finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Worker islands finished early still accept migrants until shutdown")
+	public void testWorkerIslands() throws Exception {
+		int basePort = freeBasePort(ISLAND_COUNT+1);
+		// Island 1 finishes after the 1st epoch while island 0 keeps sending to it.
+		try (IslandWorkers workers = new IslandWorkers(
+				Worker.class, ISLAND_COUNT, basePort, null, "20", "5", "20"
+		)) {
+			// Final elites are recorded per island and merged in the order of islands.
+			List<Integer> merged = workers.collect(new StubIsland(0, 0)::recordOf, StubIsland::merge, 60, TimeUnit.SECONDS);
+			Assertions.assertEquals(Arrays.asList(1, 2, 3), merged);
+			for (Process process: workers.getProcesses())	Assertions.assertEquals(0, process.exitValue());
+		}
+	}
+
+	@Test
+	@DisplayName("Missing final elites are errors")
+	public void testMissingFinalElites() throws Exception {
+		int basePort = freeBasePort(ISLAND_COUNT+1);
+		// Island 2 exits without reporting.
+		try (IslandWorkers workers = new IslandWorkers(
+				Worker.class, ISLAND_COUNT, basePort, null, "5", "5", "exit"
+		)) {
+			IOException e = Assertions.assertThrows(
+					IOException.class,
+					()->workers.collect(new StubIsland(0, 0)::recordOf, StubIsland::merge, 60, TimeUnit.SECONDS)
+			);
+			Assertions.assertTrue(e.getMessage().contains("Island worker 2"), e.getMessage());
+		}
+	}
+
+	/**
+	 * Find <code>count</code> free consecutive ports on the loopback address.
+	 */
+	private static int freeBasePort(int count) {
+		Random random = new Random();
+		base:
+		for (int t=0; t<100; t++) {
+			int basePort = 20000 + random.nextInt(30000);
+			for (int p=basePort; p<basePort+count; p++) {
+				try (ServerSocket socket = new ServerSocket()) {
+					socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), p));
+				}catch (IOException e) {
+					continue base;
+				}
+			}
+			return basePort;
+		}
+		throw new IllegalStateException("No free ports.");
+	}
+
+	/**
+	 * Worker main of {@link StubIsland}s, with the max generation of each island as arguments, or
+	 * "exit" to exit without running.
+	 */
+	static class Worker {
+		public static void main(String[] args) throws Exception {
+			String arg = args[IslandWorkers.islandIndex()];
+			if ("exit".equals(arg))	return;
+			int maxGeneration = Integer.parseInt(arg);
+			IslandWorkers.work(
+				new StubIsland(IslandWorkers.islandIndex(), maxGeneration), new IslandModel(5, 1),
+				20, 30, TimeUnit.SECONDS
+			);
+		}
+	}
+
+	/**
+	 * {@link Island} emitting its own index(starts from 1) as the attribute, with sources of
+	 * immigrants as the generation record. Records of {@link Migrant}s are their sources.
+	 */
+	static class StubIsland implements Island<List<Integer>> {
+		private final int index;
+		private final int maxGeneration;
+		private final List<Integer> immigrantSources;
+		private int generation;
+
+		StubIsland(int index, int maxGeneration) {
+			this.index = index;
+			this.maxGeneration = maxGeneration;
+			immigrantSources = new ArrayList<>();
+		}
+
+		@Override
+		public boolean evolve(int generations) {
+			generation = Math.min(maxGeneration, generation+generations);
+			return generation<maxGeneration;
+		}
+
+		@Override
+		public Collection<Migrant> emigrants(int size) {
+			return Arrays.asList(new Migrant(new int[] {index+1}, generation));
+		}
+
+		@Override
+		public void immigrate(Collection<Migrant> migrants) {
+			for (Migrant migrant: migrants)	immigrantSources.add(migrant.getAttributes()[0]);
+		}
+
+		@Override
+		public List<Integer> recordOf(Collection<Migrant> migrants) {
+			List<Integer> sources = new ArrayList<>(migrants.size());
+			for (Migrant migrant: migrants)	sources.add(migrant.getAttributes()[0]);
+			return sources;
+		}
+
+		@Override
+		public List<Integer> getGenerationRecord() {
+			return immigrantSources;
+		}
+
+		static List<Integer> merge(List<Integer> record1, List<Integer> record2) {
+			List<Integer> merged = new ArrayList<>(record1);
+			merged.addAll(record2);
+			return merged;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.model.universe.instance.IncompleteInstance;
+import featureSelection.basic.model.universe.instance.Instance;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * DecisionTableFile Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Decision Table File Test")
+class DecisionTableFileTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	@DisplayName("Text -> binary -> read with missing values in dictionary encoded columns")
+	public void testRoundTripWithMissingValues() throws IOException {
+		Path text = directory.resolve("data.csv"), binary = directory.resolve("data.fsdt");
+		Files.write(text, Arrays.asList(
+				"sunny, hot, high, no",
+				"sunny, ?, high, no",
+				"",
+				"overcast, hot, ?, yes",
+				"rain, mild, high, yes",
+				"?, cool, normal, yes"
+			), StandardCharsets.UTF_8);
+
+		List<int[]> rows = new ArrayList<>();
+		try (DelimitedRowReader reader = new DelimitedRowReader(
+				text, ',', -1, false, DelimitedRowReader.DEFAULT_MISSING_VALUE
+		)) {
+			reader.forEachRow(row->rows.add(row.clone()));
+		}
+		Assertions.assertEquals(5, rows.size());
+		Assertions.assertArrayEquals(new int[] {1, 1, 1, 1}, rows.get(0));
+		Assertions.assertArrayEquals(new int[] {1, 1, IncompleteInstance.MISSING_VALUE, 1}, rows.get(1));
+		Assertions.assertArrayEquals(new int[] {2, 2, 1, IncompleteInstance.MISSING_VALUE}, rows.get(2));
+		Assertions.assertArrayEquals(new int[] {2, IncompleteInstance.MISSING_VALUE, 3, 2}, rows.get(4));
+
+		try (DelimitedRowReader reader = new DelimitedRowReader(
+				text, ',', -1, false, DelimitedRowReader.DEFAULT_MISSING_VALUE
+		)) {
+			DecisionTableFile.write(binary, reader);
+		}
+		DecisionTableFile file = DecisionTableFile.read(binary);
+		Assertions.assertTrue(file.isMissingValues());
+		Assertions.assertEquals(5, file.getTable().getRowSize());
+		for (int row=0; row<rows.size(); row++) {
+			for (int c=0; c<rows.get(row).length; c++)
+				Assertions.assertEquals(rows.get(row)[c], file.getTable().getValue(row, c));
+		}
+		// Missing values are not encoded into dictionaries.
+		Assertions.assertEquals(Arrays.asList("sunny", "overcast", "rain"), file.getDictionary(1));
+		Assertions.assertEquals(Arrays.asList("hot", "mild", "cool"), file.getDictionary(2));
+		Assertions.assertEquals(Arrays.asList("high", "normal"), file.getDictionary(3));
+		Assertions.assertEquals(Arrays.asList("no", "yes"), file.getDictionary(0));
+		Assertions.assertEquals(3, file.getCardinality(1));
+
+		List<Instance> instances = file.toInstances();
+		Assertions.assertFalse(instances.get(0) instanceof IncompleteInstance);
+		Assertions.assertTrue(instances.get(1) instanceof IncompleteInstance);
+		Assertions.assertTrue(instances.get(4) instanceof IncompleteInstance);
+	}
+
+	@Test
+	@DisplayName("Text -> binary -> read with missing values in numeric columns")
+	public void testNumericRoundTripWithMissingValues() throws IOException {
+		Path text = directory.resolve("numeric.csv"), binary = directory.resolve("numeric.fsdt");
+		Files.write(text, Arrays.asList(
+				"0\t3\t70000\t1",
+				"NA\t4\t-2\t0",
+				"2\tNA\tNA\t1"
+			), StandardCharsets.UTF_8);
+
+		try (DelimitedRowReader reader = new DelimitedRowReader(text, '\t', -1, true, "NA")) {
+			DecisionTableFile.write(binary, reader);
+		}
+		DecisionTableFile file = DecisionTableFile.read(binary);
+		int[][] expected = {
+				{1, 0, 3, 70000},
+				{0, IncompleteInstance.MISSING_VALUE, 4, -2},
+				{1, 2, IncompleteInstance.MISSING_VALUE, IncompleteInstance.MISSING_VALUE},
+		};
+		for (int row=0; row<expected.length; row++) {
+			for (int c=0; c<expected[row].length; c++)
+				Assertions.assertEquals(expected[row][c], file.getTable().getValue(row, c));
+		}
+		Assertions.assertNull(file.getDictionary(1));
+	}
+
+	@Test
+	@DisplayName("Text -> binary -> read with a trailing column of missing values only")
+	public void testEntirelyMissingTrailingColumn() throws IOException {
+		Path text = directory.resolve("trailing.csv"), binary = directory.resolve("trailing.fsdt");
+		Files.write(text, Arrays.asList("yes,a,?", "no,b,?", "yes,a,?"), StandardCharsets.UTF_8);
+
+		try (DelimitedRowReader reader = new DelimitedRowReader(text, ',', 0, false, "?")) {
+			Assertions.assertNull(reader.dictionaryOf(2));
+			reader.forEachRow(row->{});
+			Assertions.assertEquals(Arrays.asList("yes", "no"), reader.dictionaryOf(0));
+			Assertions.assertEquals(Arrays.asList("a", "b"), reader.dictionaryOf(1));
+			Assertions.assertTrue(reader.dictionaryOf(2).isEmpty());
+		}
+
+		try (DelimitedRowReader reader = new DelimitedRowReader(text, ',', 0, false, "?")) {
+			DecisionTableFile.write(binary, reader);
+		}
+		DecisionTableFile file = DecisionTableFile.read(binary);
+		Assertions.assertTrue(file.isMissingValues());
+		Assertions.assertEquals(0, file.getCardinality(2));
+		// Empty dictionaries are stored as size 0, i.e. none.
+		Assertions.assertNull(file.getDictionary(2));
+		Assertions.assertEquals(Arrays.asList("a", "b"), file.getDictionary(1));
+		for (int row=0; row<3; row++)
+			Assertions.assertEquals(IncompleteInstance.MISSING_VALUE, file.getTable().getValue(row, 2));
+	}
+
+	@Test
+	@DisplayName("Missing decision values are malformed")
+	public void testMissingDecisionValue() throws IOException {
+		Path text = directory.resolve("decision.csv");
+		Files.write(text, Arrays.asList("a,b,yes", "a,b,?"), StandardCharsets.UTF_8);
+		try (DelimitedRowReader reader = new DelimitedRowReader(text, ',', -1, false, "?")) {
+			Assertions.assertThrows(IOException.class, ()->reader.forEachRow(row->{}));
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package featureSelection.repository.entity.universe;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * DecisionTable Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Decision Table Test")
+class DecisionTableTest {
+	private static final int ATTRIBUTE_SIZE = 5;
+
+	@Test
+	@DisplayName("Row partitions equal the equivalence classes of instances")
+	public void testPartitionSameAsEquivalenceClass() {
+		Random random = new Random(1);
+		for (int size: new int[] {0, 1, 15, 16, 17, 500, 3000}) {
+			List<Instance> instances = randomInstances(random, size);
+			DecisionTable table = DecisionTable.of(instances);
+			Assertions.assertEquals(size, table.getRowSize());
+			for (int[] attributes: new int[][] {{}, {1}, {2, 4}, {5, 3, 1}, {1, 2, 3, 4, 5}}) {
+				Map<IntArrayKey, Collection<Instance>> expected =
+						ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClass(
+							instances, new IntegerArrayIterator(attributes)
+						);
+
+				RowPartition partition = table.partition(attributes);
+				Assertions.assertEquals(expected.size(), partition.getClassSize());
+				Set<Set<Instance>> blocks = new HashSet<>();
+				for (int[] block: partition.blocks()) {
+					Set<Instance> equClass = new HashSet<>();
+					for (int row: block) {
+						Assertions.assertEquals(
+								partition.getClassIndexes()[block[0]], partition.getClassIndexes()[row]
+						);
+						equClass.add(instances.get(row));
+					}
+					blocks.add(equClass);
+				}
+				Assertions.assertEquals(setsOf(expected.values()), blocks);
+
+				Map<IntArrayKey, int[]> rowClasses =
+						ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClass(
+							table, new IntegerArrayIterator(attributes)
+						);
+				Assertions.assertEquals(expected.keySet(), rowClasses.keySet());
+				for (Map.Entry<IntArrayKey, int[]> entry: rowClasses.entrySet()) {
+					Set<Instance> equClass = new HashSet<>();
+					for (int row: entry.getValue())	equClass.add(instances.get(row));
+					Assertions.assertEquals(new HashSet<>(expected.get(entry.getKey())), equClass);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Hash table sizes are capped instead of overflowing")
+	public void testTableSize() {
+		Assertions.assertEquals(16, DecisionTable.tableSizeFor(0));
+		Assertions.assertEquals(64, DecisionTable.tableSizeFor(2 * 20));
+		Assertions.assertEquals(1 << 30, DecisionTable.tableSizeFor(2L * (1 << 30)));
+		Assertions.assertEquals(1 << 30, DecisionTable.tableSizeFor(2L * Integer.MAX_VALUE));
+	}
+
+	private static Set<Set<Instance>> setsOf(Collection<Collection<Instance>> equClasses) {
+		Set<Set<Instance>> sets = new HashSet<>();
+		for (Collection<Instance> equClass: equClasses)	sets.add(new HashSet<>(equClass));
+		return sets;
+	}
+
+	/**
+	 * Generate random {@link Instance}s with values of various cardinalities, negative ones
+	 * included.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			values[0] = random.nextInt(2);
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(2*a+1) - a;
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,312 @@
+package featureSelection.repository.support.calculation.alg.classic.hash;
+
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.alg.dynamics.instance.asitKDasIncremental.fitness.FitnessEvaluationParameters;
+import featureSelection.repository.entity.universe.RefinablePartition;
+import featureSelection.repository.support.calculation.CountableCalculation;
+import featureSelection.repository.support.calculation.asitKDasFitness.classic.AsitKDasFitnessCalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.classic.CCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.classic.LCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.classic.SCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.positiveRegion.classic.PositiveRegionCalculation4ClassicHashMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * ClassicHashMapCalculation Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Classic HashMap Calculation Test")
+class ClassicHashMapCalculationTest {
+	private static final int ATTRIBUTE_SIZE = 5;
+
+	@Test
+	@DisplayName("Results based on refinable partitions equal the ones based on instances")
+	public void testPartitionSameAsDirect() {
+		Map<String, Supplier<ClassicHashMapCalculation<?>>> measures = new LinkedHashMap<>();
+		measures.put("PR", PositiveRegionCalculation4ClassicHashMap::new);
+		measures.put("Dependency", DependencyCalculation4ClassicHashMap::new);
+		measures.put("SCE", SCECalculation4ClassicHashMap::new);
+		measures.put("LCE", LCECalculation4ClassicHashMap::new);
+		measures.put("CCE", CCECalculation4ClassicHashMap::new);
+		measures.put("AsitKDas(SCE)", ()->
+				new AsitKDasFitnessCalculation4ClassicHashMap<>(
+					ATTRIBUTE_SIZE, Arrays.asList(1, 3), new FitnessEvaluationParameters(2, 1, 0.6),
+					new SCECalculation4ClassicHashMap()
+				)
+		);
+
+		Random random = new Random(6);
+		for (int t=0; t<20; t++) {
+			List<Instance> instances = randomInstances(random, 1+random.nextInt(200), t%2==0);
+			Map<Integer, Collection<Instance>> decEClasses =
+					ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+			for (Map.Entry<String, Supplier<ClassicHashMapCalculation<?>>> measure: measures.entrySet()) {
+				ClassicHashMapCalculation<?> direct = measure.getValue().get(),
+											byPartition = measure.getValue().get();
+				for (int[] attributes: new int[][] {{}, {1}, {2, 4}, {5, 3, 1}, {1, 2, 3, 4, 5}}) {
+					// Refine U/red by one attribute at a time as the QR loop does.
+					RefinablePartition partition = RefinablePartition.of(instances);
+					for (int attribute: attributes)	partition = partition.refine(attribute);
+
+					Number expected = direct.calculate(
+											instances, new IntegerArrayIterator(attributes), decEClasses
+										).getResult();
+					Number actual = byPartition.calculate(partition, decEClasses).getResult();
+					Assertions.assertEquals(
+							expected.doubleValue(), actual.doubleValue(), 1e-9,
+							measure.getKey()+" of "+Arrays.toString(attributes)
+					);
+				}
+				Assertions.assertEquals(
+						((CountableCalculation) direct).getCalculationTimes(),
+						((CountableCalculation) byPartition).getCalculationTimes()
+				);
+				Assertions.assertEquals(
+						((CountableCalculation) direct).getCalculationAttributeLength(),
+						((CountableCalculation) byPartition).getCalculationAttributeLength()
+				);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Bounded PR and dependency equal unbounded ones unless abandoned below the bound")
+	public void testBoundedSameAsUnbounded() {
+		Random random = new Random(19);
+		for (int t=0; t<30; t++) {
+			List<Instance> instances = randomInstances(random, 1+random.nextInt(200), t%2==0);
+			int size = instances.size();
+			Map<Integer, Collection<Instance>> decEClasses =
+					ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+			for (int[] attributes: new int[][] {{}, {1}, {2, 4}, {5, 3, 1}, {1, 2, 3, 4, 5}}) {
+				int pos = new PositiveRegionCalculation4ClassicHashMap()
+								.calculate(instances, new IntegerArrayIterator(attributes), decEClasses)
+								.getResult();
+				// Bounds around |POS|, ties included, and beyond |U|.
+				for (int bound: new int[] {0, pos-1, pos, pos+1, size, size+1}) {
+					String message = "|POS| of "+Arrays.toString(attributes)+" with bound "+bound;
+					// Abandoned passes encode the upper bound as -(upper+1).
+					int direct = ClassicAttributeReductionHashMapAlgorithm.Basic.positiveRegion(
+										instances, new IntegerArrayIterator(attributes), bound
+									);
+					if (pos>=bound) {
+						Assertions.assertEquals(pos, direct, message);
+					}else {
+						Assertions.assertTrue(direct<0, message);
+						Assertions.assertTrue(-(direct+1)>=pos && -(direct+1)<bound, message);
+					}
+					// Only completed passes are memorised, so abandon first, then calculate again.
+					//	(U/&empty; is a single block, not the empty positive region of the calculations)
+					int partitionPos = partitionOf(instances, attributes).positiveRegionSize(),
+						expected = partitionPos>=bound? partitionPos: -(partitionPos+1);
+					if (attributes.length!=0)	Assertions.assertEquals(pos, partitionPos, message);
+					RefinablePartition partition = partitionOf(instances, attributes);
+					Assertions.assertEquals(-(size+1), partition.positiveRegionSize(size+1), message);
+					int bounded = partition.positiveRegionSize(bound);
+					if (partitionPos>=bound) {
+						Assertions.assertEquals(partitionPos, bounded, message);
+					}else {
+						Assertions.assertTrue(bounded<0, message);
+						Assertions.assertTrue(-(bounded+1)>=partitionPos && -(bounded+1)<bound, message);
+					}
+					Assertions.assertEquals(partitionPos, partition.positiveRegionSize(), message);
+					// Memorised: abandoned with the exact upper bound.
+					Assertions.assertEquals(expected, partition.positiveRegionSize(bound), message);
+					Assertions.assertEquals(-(partitionPos+1), partition.positiveRegionSize(size+1), message);
+
+					assertBounded(
+						new PositiveRegionCalculation4ClassicHashMap(), instances, attributes,
+						decEClasses, pos, bound
+					);
+					assertBounded(
+						new PositiveRegionCalculation4ClassicHashMap(), partitionOf(instances, attributes),
+						decEClasses, pos, bound
+					);
+				}
+				double dependency = new DependencyCalculation4ClassicHashMap()
+										.calculate(instances, new IntegerArrayIterator(attributes), decEClasses)
+										.getResult();
+				for (double bound: new double[] {0, pos/(double) size, (pos+1)/(double) size, 1}) {
+					assertBounded(
+						new DependencyCalculation4ClassicHashMap(), instances, attributes, decEClasses,
+						dependency, bound
+					);
+					assertBounded(
+						new DependencyCalculation4ClassicHashMap(), partitionOf(instances, attributes),
+						decEClasses, dependency, bound
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Dependencies equal to a bound rounded up are never abandoned")
+	public void testBoundedDependencyRoundingMargin() {
+		// 7 of 25 instances are in the positive region: 7/25.0*25 = 7.000000000000001 > 7
+		List<Instance> instances = new ArrayList<>(25);
+		for (int i=0; i<25; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			values[1] = i<7? i: 7;
+			values[0] = i<7? 0: i%2;
+			instances.add(new Instance(values));
+		}
+		Map<Integer, Collection<Instance>> decEClasses =
+				ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+		double bound = 7 / (double) instances.size();
+		Assertions.assertTrue(Math.ceil(bound * instances.size())>7);
+		int[] attributes = {1};
+		for (DependencyCalculation4ClassicHashMap calculation: new DependencyCalculation4ClassicHashMap[] {
+				new DependencyCalculation4ClassicHashMap()
+						.calculateBounded(instances, new IntegerArrayIterator(attributes), decEClasses, bound),
+				new DependencyCalculation4ClassicHashMap()
+						.calculateBounded(partitionOf(instances, attributes), decEClasses, bound),
+		}) {
+			Assertions.assertFalse(calculation.isBelowBound());
+			Assertions.assertEquals(bound, calculation.getResult(), 1e-9);
+		}
+	}
+
+	@Test
+	@DisplayName("QR selects the same attributes with bounded calculations")
+	public void testBoundedSelectionSameAsUnbounded() {
+		int[] attributes = {1, 2, 3, 4, 5};
+		Random random = new Random(20);
+		for (int t=0; t<30; t++) {
+			// Few instances and values so that significances tie often.
+			List<Instance> instances = randomInstances(random, 1+random.nextInt(t%3==0? 12: 200), t%2==0);
+			Map<Integer, Collection<Instance>> decEClasses =
+					ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+			assertSameSelection(
+				PositiveRegionCalculation4ClassicHashMap::new, 0, instances, decEClasses, attributes
+			);
+			assertSameSelection(
+				DependencyCalculation4ClassicHashMap::new, 0.0, instances, decEClasses, attributes
+			);
+		}
+	}
+
+	/**
+	 * Assert a bounded calculation over {@link Instance}s equals the unbounded <code>expected</code>
+	 * if it reaches <code>bound</code>, otherwise is abandoned with a result in
+	 * [<code>expected</code>, <code>bound</code>) or completed.
+	 */
+	private static <Sig extends Number> void assertBounded(
+			ClassicHashMapCalculation<Sig> calculation, List<Instance> instances, int[] attributes,
+			Map<Integer, Collection<Instance>> decEClasses, Sig expected, Sig bound
+	) {
+		calculation.calculateBounded(instances, new IntegerArrayIterator(attributes), decEClasses, bound);
+		assertBounded(calculation, Arrays.toString(attributes), expected, bound);
+	}
+
+	/**
+	 * Assert a bounded calculation over a {@link RefinablePartition} as
+	 * {@link #assertBounded(ClassicHashMapCalculation, List, int[], Map, Number, Number)} does.
+	 */
+	private static <Sig extends Number> void assertBounded(
+			ClassicHashMapCalculation<Sig> calculation, RefinablePartition partition,
+			Map<Integer, Collection<Instance>> decEClasses, Sig expected, Sig bound
+	) {
+		calculation.calculateBounded(partition, decEClasses, bound);
+		assertBounded(calculation, Arrays.toString(partition.getAttributes()), expected, bound);
+	}
+
+	private static <Sig extends Number> void assertBounded(
+			ClassicHashMapCalculation<Sig> calculation, String attributes, Sig expected, Sig bound
+	) {
+		String message = calculation.getClass().getSimpleName()+" of "+attributes+" with bound "+bound;
+		double result = calculation.getResult().doubleValue();
+		if (expected.doubleValue()>=bound.doubleValue()) {
+			Assertions.assertFalse(calculation.isBelowBound(), message);
+		}
+		if (calculation.isBelowBound()) {
+			Assertions.assertTrue(result>=expected.doubleValue()-1e-9, message);
+			Assertions.assertTrue(result<bound.doubleValue(), message);
+		}else {
+			Assertions.assertEquals(expected.doubleValue(), result, 1e-9, message);
+		}
+	}
+
+	/**
+	 * Assert the QR loop selects the same attributes by
+	 * {@link ClassicAttributeReductionHashMapAlgorithm#mostSignificantAttribute(ClassicHashMapCalculation,
+	 * Number, Collection, Map, Collection, int[])}, its {@link RefinablePartition} version and
+	 * unbounded calculations.
+	 */
+	private static <Sig extends Number> void assertSameSelection(
+			Supplier<ClassicHashMapCalculation<Sig>> measure, Sig sigDeviation,
+			List<Instance> instances, Map<Integer, Collection<Instance>> decEClasses, int[] attributes
+	) {
+		ClassicHashMapCalculation<Sig> unbounded = measure.get(), bounded = measure.get(),
+										byPartition = measure.get();
+		Collection<Integer> red = new ArrayList<>(attributes.length);
+		RefinablePartition redPartition = RefinablePartition.of(instances);
+		while (red.size()<attributes.length) {
+			int expected = -1;
+			Sig max = null, sig;
+			for (int attr: attributes) {
+				if (red.contains(attr))	continue;
+				int[] candidate = new int[red.size()+1];
+				int i = 0;
+				for (int r: red)	candidate[i++] = r;
+				candidate[i] = attr;
+				sig = unbounded.calculate(instances, new IntegerArrayIterator(candidate), decEClasses)
+								.getResult();
+				if (expected==-1 || unbounded.value1IsBetter(sig, max, sigDeviation)) {
+					max = sig;
+					expected = attr;
+				}
+			}
+			Assertions.assertEquals(
+					expected,
+					ClassicAttributeReductionHashMapAlgorithm.mostSignificantAttribute(
+						bounded, sigDeviation, instances, decEClasses, red, attributes
+					)
+			);
+			Assertions.assertEquals(
+					expected,
+					ClassicAttributeReductionHashMapAlgorithm.mostSignificantAttribute(
+						byPartition, sigDeviation, redPartition, decEClasses, red, attributes
+					)
+			);
+			red.add(expected);
+			redPartition = redPartition.refine(expected);
+		}
+	}
+
+	private static RefinablePartition partitionOf(List<Instance> instances, int[] attributes) {
+		RefinablePartition partition = RefinablePartition.of(instances);
+		for (int attribute: attributes)	partition = partition.refine(attribute);
+		return partition;
+	}
+
+	/**
+	 * Generate random {@link Instance}s whose decision values depend on the 1st attribute
+	 * mostly if <code>dependent</code>, otherwise at random.
+	 */
+	private static List<Instance> randomInstances(Random random, int size, boolean dependent) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			values[0] = dependent && random.nextInt(10)!=0? values[1]: random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,163 @@
+package featureSelection.repository.support.calculation.entropy;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.classic.ClassicAttributeReductionHashMapAlgorithm;
+import featureSelection.repository.entity.universe.DecisionTable;
+import featureSelection.repository.support.calculation.entropy.combinationConditionEntropy.classic.CCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.liangConditionEntropy.classic.LCECalculation4ClassicHashMap;
+import featureSelection.repository.support.calculation.entropy.shannonConditionEnpropy.classic.SCECalculation4ClassicHashMap;
+import org.apache.commons.math3.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * ContingencyTable Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Contingency Table Test")
+class ContingencyTableTest {
+	private static final int ATTRIBUTE_SIZE = 4;
+
+	@Test
+	@DisplayName("Entropies equal the ones of intersecting equivalence classes and decision classes")
+	public void testSameAsIntersections() {
+		Random random = new Random(2);
+		int emptyCellTables = 0, fullTables = 0;
+		for (int t=0; t<40; t++) {
+			// Decision values mostly determined by the first attribute: many empty cells.
+			List<Instance> instances = randomInstances(random, 1+random.nextInt(300), t%2==0);
+			Map<Integer, Collection<Instance>> decEClasses =
+					ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClassOfDecisionAttribute(instances);
+			for (int[] attributes: new int[][] {{1}, {2, 3}, {1, 2, 3, 4}}) {
+				double[] old = intersectionEntropies(instances, attributes, decEClasses, false);
+				double[] expected = intersectionEntropies(instances, attributes, decEClasses, true);
+				if (Double.isNaN(old[0])) {
+					// 0 * log(0) of empty cells.
+					emptyCellTables++;
+				}else {
+					fullTables++;
+					Assertions.assertArrayEquals(old, expected, 1e-9);
+				}
+
+				double[] actual = {
+					SCECalculation4ClassicHashMap.shannonConditionalEntropy(
+						instances, new IntegerArrayIterator(attributes), decEClasses
+					),
+					LCECalculation4ClassicHashMap.liangConditionalEntropy(
+						instances, new IntegerArrayIterator(attributes), decEClasses
+					),
+					CCECalculation4ClassicHashMap.combinationConditionalEntropy(
+						instances, new IntegerArrayIterator(attributes), decEClasses
+					),
+				};
+				Assertions.assertFalse(Double.isNaN(actual[0]));
+				Assertions.assertArrayEquals(expected, actual, 1e-9);
+
+				ContingencyTable table = ContingencyTable.of(
+						DecisionTable.of(instances), new IntegerArrayIterator(attributes)
+					);
+				Assertions.assertArrayEquals(
+						expected,
+						new double[] {
+							table.shannonConditionalEntropy(),
+							table.liangConditionalEntropy(),
+							table.combinationConditionalEntropy(),
+						},
+						1e-9
+				);
+			}
+		}
+		Assertions.assertTrue(emptyCellTables>0);
+		Assertions.assertTrue(fullTables>0);
+	}
+
+	@Test
+	@DisplayName("Counts of a table with empty cells")
+	public void testCounts() {
+		List<Instance> instances = new ArrayList<>();
+		instances.add(new Instance(new int[] {0, 1}));
+		instances.add(new Instance(new int[] {1, 1}));
+		instances.add(new Instance(new int[] {1, 2}));
+		instances.add(new Instance(new int[] {1, 2}));
+		List<Integer> decisionValues = new ArrayList<>();
+		decisionValues.add(0);
+		decisionValues.add(1);
+		ContingencyTable table = ContingencyTable.of(instances, new IntegerArrayIterator(1), decisionValues);
+		Assertions.assertEquals(2, table.getClassSize());
+		Assertions.assertEquals(2, table.getDecisionSize());
+		Assertions.assertEquals(1, table.countOf(0, 0));
+		Assertions.assertEquals(1, table.countOf(0, 1));
+		Assertions.assertEquals(0, table.countOf(1, 0));
+		Assertions.assertEquals(2, table.countOf(1, 1));
+		Assertions.assertEquals(2, table.classCountOf(1));
+		// H(D|B)*|U| = -2 * 2 * (1/2 * log(1/2)), 0 * log(0) of {x3, x4} ∩ Y0 skipped.
+		Assertions.assertEquals(2 * FastMath.log(2), table.shannonConditionalEntropy(), 1e-12);
+		Assertions.assertEquals(2, table.liangConditionalEntropy(), 1e-12);
+		Assertions.assertEquals(2, table.combinationConditionalEntropy(), 1e-12);
+
+		decisionValues.remove(1);
+		Assertions.assertThrows(
+				IllegalArgumentException.class,
+				()->ContingencyTable.of(instances, new IntegerArrayIterator(1), decisionValues)
+		);
+	}
+
+	/**
+	 * Calculate Shannon, Liang and combination conditional entropies the way the classic
+	 * calculations did before {@link ContingencyTable}: by intersecting every pair of equivalence
+	 * class and decision class, with empty intersections skipped in Shannon one only if
+	 * <code>skipEmpty</code>.
+	 */
+	private static double[] intersectionEntropies(
+			Collection<Instance> instances, int[] attributes,
+			Map<Integer, Collection<Instance>> decEClasses, boolean skipEmpty
+	) {
+		Map<IntArrayKey, Collection<Instance>> equClasses =
+				ClassicAttributeReductionHashMapAlgorithm.Basic.equivalenceClass(
+					instances, new IntegerArrayIterator(attributes)
+				);
+		double shannon = 0, liang = 0, combination = 0, shannonSub, combinationSub, tmp;
+		for (Collection<Instance> equClass: equClasses.values()) {
+			shannonSub = 0;
+			combinationSub = 0;
+			for (Collection<Instance> decEquClass: decEClasses.values()) {
+				Collection<Instance> intersection = new HashSet<>(equClass);
+				intersection.retainAll(decEquClass);
+				int size = intersection.size();
+				tmp = size / (double) equClass.size();
+				if (size!=0 || !skipEmpty)	shannonSub += tmp * FastMath.log(tmp);
+				liang += (double) size * (equClass.size() - size);
+				combinationSub += (double) size * size * (size-1) / 2;
+			}
+			shannon -= equClass.size() * shannonSub;
+			combination += (double) equClass.size() * equClass.size() * (equClass.size()-1) / 2 - combinationSub;
+		}
+		return new double[] {shannon, liang, combination};
+	}
+
+	/**
+	 * Generate random {@link Instance}s whose decision values depend on the 1st attribute
+	 * mostly if <code>dependent</code>, otherwise at random.
+	 */
+	private static List<Instance> randomInstances(Random random, int size, boolean dependent) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			values[0] = dependent && random.nextInt(10)!=0? values[1]: random.nextInt(3);
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,216 @@
+package featureSelection.repository.support.calculation.knowledgeGranularity.roughEquivalenceClassBased;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.EquivalenceClassDecMapXtension;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.adaptive.AdaptiveAttrProcessStrategy;
+import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.merger.DefaultNestedEquivalentClassesMerger;
+import featureSelection.repository.support.calculation.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedStreamingDataCalculation.Update4ArrivedInputs;
+import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPNEC;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * IncrementalKnowledgeGranularity4NEC Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Incremental Knowledge Granularity 4 NEC Test")
+class IncrementalKnowledgeGranularity4NECTest {
+	private static final int ATTRIBUTE_SIZE = 6;
+
+	@Test
+	@DisplayName("Splits and stream merges equal full re-calculations")
+	public void testSplitsAndMerges() {
+		Random random = new Random(7);
+		List<Instance> instances = randomInstances(random, 500);
+		Collection<NestedEquivalenceClass<EquivalenceClass>> blocks = universeOf(instances);
+		IncrementalKnowledgeGranularity4NEC granularity = new IncrementalKnowledgeGranularity4NEC(blocks);
+		assertEqualsRecalculation(granularity, instances, new int[0]);
+
+		// Split blocks by attributes in turn: U/{a1}, U/{a1, a2}, U/{a1, a2, a3}.
+		int[] reduct = new int[0];
+		for (int attribute: new int[] {2, 4, 1}) {
+			reduct = append(reduct, attribute);
+			Collection<NestedEquivalenceClass<EquivalenceClass>> subBlocks = new ArrayList<>();
+			for (NestedEquivalenceClass<EquivalenceClass> block: blocks) {
+				Collection<NestedEquivalenceClass<EquivalenceClass>> split =
+						PositiveRegionCalculation4IPNEC.calculateEquivalenceClassPosPartition(
+							block.getEquClasses().values(), new IntegerArrayIterator(reduct)
+						).getRecord();
+				granularity.split(block, split);
+				subBlocks.addAll(split);
+			}
+			blocks = subBlocks;
+			assertEqualsRecalculation(granularity, instances, reduct);
+		}
+
+		// Merge arrived instances of streaming data into blocks, twice.
+		PositiveRegionCalculation4IPNEC calculation = new PositiveRegionCalculation4IPNEC();
+		calculation.setGranularity(granularity);
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previous = new HashMap<>();
+		for (NestedEquivalenceClass<EquivalenceClass> block: blocks)	previous.put(keyOf(block, reduct), block);
+		for (int t=0; t<2; t++) {
+			List<Instance> arrived = randomInstances(random, 100);
+			calculation.update4Arrived(
+				new Update4ArrivedInputs<>(
+					new int[ATTRIBUTE_SIZE], previous, new IntegerArrayIterator(reduct), 0,
+					equivalenceClassesOf(arrived), new DefaultNestedEquivalentClassesMerger()
+				)
+			);
+			// Boundaries are moved out of previous ones.
+			previous.putAll(calculation.getNecInfoWithMap().getNestedEquClasses());
+			instances.addAll(arrived);
+			assertEqualsRecalculation(granularity, instances, reduct);
+		}
+		long squareSum = 0;
+		for (NestedEquivalenceClass<EquivalenceClass> block: previous.values())
+			squareSum += (long) block.getInstanceSize() * block.getInstanceSize();
+		Assertions.assertEquals(squareSum, granularity.getSquareSum());
+	}
+
+	@Test
+	@DisplayName("Splits of parallel partitions equal sequential ones")
+	public void testParallelSplits() {
+		Random random = new Random(11);
+		List<Instance> instances = randomInstances(random, 2000);
+		int[] attributes = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+
+		IncrementalKnowledgeGranularity4NEC sequential =
+				new IncrementalKnowledgeGranularity4NEC(universeOf(instances), false);
+		PositiveRegionCalculation4IPNEC.incrementalDynamicIncrementalPartition(
+				strategy(attributes), universeOf(instances), sequential
+		);
+		IncrementalKnowledgeGranularity4NEC parallel =
+				new IncrementalKnowledgeGranularity4NEC(universeOf(instances), false);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PositiveRegionCalculation4IPNEC.incrementalDynamicIncrementalPartition(
+					strategy(attributes), universeOf(instances), pool, 16, parallel
+			);
+		}finally {
+			pool.shutdown();
+		}
+		Assertions.assertEquals(instances.size(), sequential.getInstanceSize());
+		Assertions.assertTrue(sequential.getSquareSum()<(long) instances.size() * instances.size());
+		Assertions.assertEquals(sequential.getSquareSum(), parallel.getSquareSum());
+		Assertions.assertEquals(sequential.getInstanceSize(), parallel.getInstanceSize());
+		Assertions.assertThrows(IllegalStateException.class, parallel::relativeKnowledgeGranularity);
+	}
+
+	/**
+	 * Assert sums of <code>granularity</code> equal the ones re-calculated with U/B.
+	 */
+	private static void assertEqualsRecalculation(
+			IncrementalKnowledgeGranularity4NEC granularity, Collection<Instance> instances, int[] attributes
+	) {
+		Map<IntArrayKey, Map<Integer, Integer>> blocks = new HashMap<>();
+		for (Instance ins: instances) {
+			int[] key = new int[attributes.length];
+			for (int i=0; i<key.length; i++)	key[i] = ins.getAttributeValue(attributes[i]);
+			blocks.computeIfAbsent(new IntArrayKey(key), k->new HashMap<>())
+					.merge(ins.getAttributeValue(0), 1, Integer::sum);
+		}
+		long squareSum = 0, decisionSquareSum = 0;
+		for (Map<Integer, Integer> decisionCounts: blocks.values()) {
+			int size = 0;
+			for (int count: decisionCounts.values()) {
+				size += count;
+				decisionSquareSum += (long) count * count;
+			}
+			squareSum += (long) size * size;
+		}
+		Assertions.assertEquals(instances.size(), granularity.getInstanceSize());
+		Assertions.assertEquals(squareSum, granularity.getSquareSum());
+		Assertions.assertEquals(decisionSquareSum, granularity.getDecisionSquareSum());
+		double n2 = (double) instances.size() * instances.size();
+		Assertions.assertEquals((squareSum-decisionSquareSum) / n2, granularity.relativeKnowledgeGranularity(), 1e-12);
+	}
+
+	private static AdaptiveAttrProcessStrategy strategy(int[] attributes) {
+		AdaptiveAttrProcessStrategy strategy = new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams()
+					.set(AdaptiveAttrProcessStrategy.PARAMETER_INITIAL_GROUP_SIZE, 1)
+			);
+		strategy.initiate(new IntegerArrayIterator(attributes));
+		return strategy;
+	}
+
+	/**
+	 * Wrap all {@link EquivalenceClass}es of C in a single {@link NestedEquivalenceClass}.
+	 */
+	private static Collection<NestedEquivalenceClass<EquivalenceClass>> universeOf(List<Instance> instances) {
+		return new ArrayList<>(
+				NestedEquivalenceClassBasedAlgorithm
+					.Basic
+					.nestedEquivalenceClass(
+						equivalenceClassesOf(instances).values(), new IntegerArrayIterator(new int[0])
+					).getNestedEquClasses()
+					.values()
+			);
+	}
+
+	/**
+	 * {@link EquivalenceClassDecMapXtension}s of C, with decision values of in-consistent ones
+	 * counted.
+	 */
+	private static Map<IntArrayKey, EquivalenceClass> equivalenceClassesOf(Collection<Instance> instances) {
+		Map<IntArrayKey, EquivalenceClass> equClasses = new HashMap<>();
+		for (Instance ins: instances) {
+			IntArrayKey key = new IntArrayKey(ins.getConditionAttributeValues());
+			EquivalenceClass equClass = equClasses.get(key);
+			if (equClass==null) {
+				equClasses.put(key, new EquivalenceClassDecMapXtension<Integer>(ins));
+			}else {
+				if (equClass.sortable() && equClass.getDecisionValue()!=ins.getAttributeValue(0))
+					equClass.setUnsortable();
+				equClass.addClassItem(ins);
+			}
+		}
+		return equClasses;
+	}
+
+	private static IntArrayKey keyOf(NestedEquivalenceClass<EquivalenceClass> block, int[] attributes) {
+		EquivalenceClass equClass = block.getEquClasses().values().iterator().next();
+		int[] key = new int[attributes.length];
+		for (int i=0; i<key.length; i++)	key[i] = equClass.getAttributeValueAt(attributes[i]-1);
+		return new IntArrayKey(key);
+	}
+
+	private static int[] append(int[] attributes, int attribute) {
+		int[] appended = new int[attributes.length+1];
+		System.arraycopy(attributes, 0, appended, 0, attributes.length);
+		appended[attributes.length] = attribute;
+		return appended;
+	}
+
+	/**
+	 * Generate random {@link Instance}s with in-consistent ones, whose decision values depend on
+	 * the first 2 attributes mostly.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			values[0] = random.nextInt(8)==0? random.nextInt(2): (values[1]+values[2]) % 2;
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
@@ -0,0 +1,280 @@
+package featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased;
+
+import featureSelection.basic.lang.dataStructure.IntArrayKey;
+import featureSelection.basic.lang.dataStructure.impl.integerIterator.IntegerArrayIterator;
+import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
+import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.RoughEquivalenceClassBasedExtensionAlgorithm;
+import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.decisionMap.EquivalenceClassDecMapXtension;
+import featureSelection.repository.entity.alg.rec.classSet.impl.extension.incrementalPartition.RoughEquivalenceClassDummy;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.PartitionResult;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
+import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.adaptive.AdaptiveAttrProcessStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * PositiveRegionCalculation4IPNEC Tester.
+ *
+ * @author Benjamin_L
+ */
+@DisplayName("Positive Region Calculation 4 IP-NEC Test")
+class PositiveRegionCalculation4IPNECTest {
+	private static final int ATTRIBUTE_SIZE = 6;
+	private static final int SHARD_SIZE = 8;
+
+	@Test
+	@DisplayName("Parallel partitions equal sequential ones")
+	public void testParallelPartitionSameAsSequential() {
+		Random random = new Random(14);
+		int[] attributes = allAttributes();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int t=0; t<10; t++) {
+				List<Instance> instances = randomInstances(random, 1+random.nextInt(2000));
+				for (int groupSize: new int[] {1, 2, ATTRIBUTE_SIZE}) {
+					// Rough equivalence classes of IP-REC.
+					PartitionResult<Collection<Integer>, Collection<RoughEquivalenceClassDummy>> sequentialREC =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+								.IncrementalPartition
+								.Basic
+								.dynamicIncrementalPartition(
+									strategy(attributes, groupSize), equivalenceClassesOf(instances)
+								);
+					PartitionResult<Collection<Integer>, Collection<RoughEquivalenceClassDummy>> parallelREC =
+							RoughEquivalenceClassBasedExtensionAlgorithm
+								.IncrementalPartition
+								.Basic
+								.dynamicIncrementalPartition(
+									strategy(attributes, groupSize), equivalenceClassesOf(instances),
+									pool, SHARD_SIZE
+								);
+					assertSamePartition(sequentialREC, parallelREC);
+					Assertions.assertEquals(
+							roughClassesOf(sequentialREC.getRoughClasses()),
+							roughClassesOf(parallelREC.getRoughClasses())
+					);
+
+					// Nested equivalence classes of IP-NEC.
+					PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>> sequentialNEC =
+							PositiveRegionCalculation4IPNEC.incrementalDynamicIncrementalPartition(
+								strategy(attributes, groupSize), universeOf(instances)
+							);
+					PartitionResult<Collection<Integer>, Collection<NestedEquivalenceClass<EquivalenceClass>>> parallelNEC =
+							PositiveRegionCalculation4IPNEC.incrementalDynamicIncrementalPartition(
+								strategy(attributes, groupSize), universeOf(instances), pool, SHARD_SIZE
+							);
+					assertSamePartition(sequentialNEC, parallelNEC);
+					Assertions.assertEquals(
+							nestedClassesOf(sequentialNEC.getRoughClasses()),
+							nestedClassesOf(parallelNEC.getRoughClasses())
+					);
+				}
+			}
+		}finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("Reducts with parallel partitions equal sequential ones")
+	public void testParallelReductSameAsSequential() {
+		Random random = new Random(15);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			for (int t=0; t<10; t++) {
+				List<Instance> instances = randomInstances(random, 1+random.nextInt(2000));
+				PositiveRegionCalculation4IPNEC sequential = new PositiveRegionCalculation4IPNEC(),
+												parallel = new PositiveRegionCalculation4IPNEC();
+				parallel.setPartitionPool(pool);
+				parallel.setPartitionShardSize(SHARD_SIZE);
+				Assertions.assertEquals(reductOf(sequential, instances), reductOf(parallel, instances));
+				Assertions.assertEquals(sequential.getCalculationTimes(), parallel.getCalculationTimes());
+			}
+		}finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Search a reduct by the attribute process strategy based calculations of
+	 * <code>calculation</code>: add the attribute partitioning 0-NECs of U/red into the most
+	 * positive {@link Instance}s until reaching the global positive region, then remove
+	 * attributes in reverse order whose removal keeps the global positive region. NECs of the
+	 * selected attributes are recorded in every round.
+	 *
+	 * @return the reduct followed by descriptions of NECs in every round.
+	 */
+	private static List<Object> reductOf(PositiveRegionCalculation4IPNEC calculation, List<Instance> instances) {
+		int[] attributes = allAttributes();
+		calculation.calculate(strategy(attributes, 2), equivalenceClassesOf(instances));
+		int global = calculation.getResult();
+
+		List<Object> records = new LinkedList<>();
+		List<Integer> reduct = new ArrayList<>(attributes.length);
+		Collection<NestedEquivalenceClass<EquivalenceClass>> boundaries = universeOf(instances);
+		int pos = 0;
+		while (pos<global) {
+			int sigAttr = -1, maxSig = -1;
+			Collection<NestedEquivalenceClass<EquivalenceClass>> sigBoundaries = null;
+			for (int attr: attributes) {
+				if (reduct.contains(attr))	continue;
+				calculation.incrementalCalculate(strategy(new int[] {attr}, 1), boundaries);
+				if (calculation.getResult()>maxSig) {
+					sigAttr = attr;
+					maxSig = calculation.getResult();
+					sigBoundaries = calculation.getNecInfoWithCollection().getNestedEquClasses();
+				}
+			}
+			reduct.add(sigAttr);
+			pos += maxSig;
+			boundaries = sigBoundaries;
+			records.add(nestedClassesOf(boundaries));
+		}
+		for (int r=reduct.size()-1; r>=0 && reduct.size()>1; r--) {
+			int[] remains = new int[reduct.size()-1];
+			for (int i=0, j=0; i<reduct.size(); i++)	if (i!=r)	remains[j++] = reduct.get(i);
+			calculation.calculate(strategy(remains, 1), equivalenceClassesOf(instances));
+			if (calculation.getResult()==global)	reduct.remove(r);
+		}
+		records.add(0, reduct);
+		return records;
+	}
+
+	private static void assertSamePartition(
+			PartitionResult<Collection<Integer>, ?> expected, PartitionResult<Collection<Integer>, ?> actual
+	) {
+		Assertions.assertEquals(expected.getPositive(), actual.getPositive());
+		Assertions.assertEquals(new HashSet<>(expected.getAttributes()), new HashSet<>(actual.getAttributes()));
+		Assertions.assertEquals(
+				expected.isEmptyBoundaryClassSetTypeClass(), actual.isEmptyBoundaryClassSetTypeClass()
+		);
+	}
+
+	/**
+	 * Describe rough equivalence classes by their {@link EquivalenceClass}es, type and decision
+	 * value.
+	 */
+	private static Map<Set<IntArrayKey>, String> roughClassesOf(
+			Collection<RoughEquivalenceClassDummy> roughClasses
+	) {
+		Map<Set<IntArrayKey>, String> descriptions = new HashMap<>(roughClasses.size());
+		for (RoughEquivalenceClassDummy roughClass: roughClasses) {
+			Set<IntArrayKey> equClasses = new HashSet<>();
+			for (EquivalenceClass equClass: roughClass.getItems())
+				equClasses.add(new IntArrayKey(equClass.getAttributeValues()));
+			Assertions.assertNull(
+				descriptions.put(
+					equClasses,
+					describe(roughClass.getType(), roughClass.getDecision(), roughClass.getInstanceSize())
+				)
+			);
+		}
+		return descriptions;
+	}
+
+	/**
+	 * Describe {@link NestedEquivalenceClass}es by their {@link EquivalenceClass}es, type and
+	 * decision value.
+	 */
+	private static Map<Set<IntArrayKey>, String> nestedClassesOf(
+			Collection<NestedEquivalenceClass<EquivalenceClass>> nestedEquClasses
+	) {
+		Map<Set<IntArrayKey>, String> descriptions = new HashMap<>(nestedEquClasses.size());
+		for (NestedEquivalenceClass<EquivalenceClass> nestedEquClass: nestedEquClasses) {
+			Set<IntArrayKey> equClasses = new HashSet<>();
+			for (EquivalenceClass equClass: nestedEquClass.getEquClasses().values())
+				equClasses.add(new IntArrayKey(equClass.getAttributeValues()));
+			Assertions.assertNull(
+				descriptions.put(
+					equClasses,
+					describe(nestedEquClass.getType(), nestedEquClass.getDec(), nestedEquClass.getInstanceSize())
+				)
+			);
+		}
+		return descriptions;
+	}
+
+	private static String describe(ClassSetType type, int decision, int instanceSize) {
+		return type+(ClassSetType.POSITIVE.equals(type)? " d="+decision: "")+" |U|="+instanceSize;
+	}
+
+	private static AdaptiveAttrProcessStrategy strategy(int[] attributes, int initialGroupSize) {
+		AdaptiveAttrProcessStrategy strategy = new AdaptiveAttrProcessStrategy(
+				new AttrProcessStrategyParams()
+					.set(AdaptiveAttrProcessStrategy.PARAMETER_INITIAL_GROUP_SIZE, initialGroupSize)
+			);
+		strategy.initiate(new IntegerArrayIterator(attributes));
+		return strategy;
+	}
+
+	private static int[] allAttributes() {
+		int[] attributes = new int[ATTRIBUTE_SIZE];
+		for (int i=0; i<attributes.length; i++)	attributes[i] = i+1;
+		return attributes;
+	}
+
+	/**
+	 * Wrap all {@link EquivalenceClass}es of C in a single {@link NestedEquivalenceClass}.
+	 */
+	private static Collection<NestedEquivalenceClass<EquivalenceClass>> universeOf(List<Instance> instances) {
+		return new ArrayList<>(
+				NestedEquivalenceClassBasedAlgorithm
+					.Basic
+					.nestedEquivalenceClass(
+						equivalenceClassesOf(instances), new IntegerArrayIterator(new int[0])
+					).getNestedEquClasses()
+					.values()
+			);
+	}
+
+	/**
+	 * {@link EquivalenceClassDecMapXtension}s of C, with decision values of in-consistent ones
+	 * counted.
+	 */
+	private static Collection<EquivalenceClass> equivalenceClassesOf(Collection<Instance> instances) {
+		Map<IntArrayKey, EquivalenceClass> equClasses = new HashMap<>();
+		for (Instance ins: instances) {
+			IntArrayKey key = new IntArrayKey(ins.getConditionAttributeValues());
+			EquivalenceClass equClass = equClasses.get(key);
+			if (equClass==null) {
+				equClasses.put(key, new EquivalenceClassDecMapXtension<Integer>(ins));
+			}else {
+				if (equClass.sortable() && equClass.getDecisionValue()!=ins.getAttributeValue(0))
+					equClass.setUnsortable();
+				equClass.addClassItem(ins);
+			}
+		}
+		return new ArrayList<>(equClasses.values());
+	}
+
+	/**
+	 * Generate random {@link Instance}s with in-consistent ones, whose decision values depend on
+	 * the first 2 attributes mostly.
+	 */
+	private static List<Instance> randomInstances(Random random, int size) {
+		List<Instance> instances = new ArrayList<>(size);
+		for (int i=0; i<size; i++) {
+			int[] values = new int[ATTRIBUTE_SIZE+1];
+			for (int a=1; a<values.length; a++)	values[a] = random.nextInt(3);
+			values[0] = random.nextInt(8)==0? random.nextInt(2): (values[1]+values[2]) % 2;
+			instances.add(new Instance(values));
+		}
+		return instances;
+	}
+}
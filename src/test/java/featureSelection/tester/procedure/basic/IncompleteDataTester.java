@@ -4,9 +4,11 @@ import common.utils.ArrayUtils;
 import featureSelection.basic.model.universe.generator.UniverseGeneratorImp;
 import featureSelection.basic.model.universe.instance.IncompleteInstance;
 import featureSelection.basic.model.universe.instance.Instance;
+import featureSelection.repository.entity.universe.DecisionTableFile;
 import org.junit.jupiter.api.BeforeAll;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -16,9 +18,19 @@ public class IncompleteDataTester {
 	private static boolean stringSource = true;
 	private static File fromFile = SimpleDataset4Test.FromFile.audiology();
 
+	// Binary decision table file(see DecisionTableFile), loaded in priority if not null.
+	private static File fromBinaryFile = null;
+
 	@BeforeAll
 	public static void initiateUniverse(){
-		if (!stringSource) {
+		if (fromBinaryFile!=null) {
+			Instance.resetID();
+			try {
+				instances = DecisionTableFile.read(fromBinaryFile.toPath()).toInstances();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}else if (!stringSource) {
 			UniverseGeneratorImp generator = new UniverseGeneratorImp();
 			try {
 				generator.setDataSetWithFileByLines(fromFile, ",", -1, "?");
@@ -11,6 +11,7 @@ import featureSelection.basic.procedure.parameter.ProcedureParameters;
 import featureSelection.repository.algorithm.alg.roughEquivalenceClassBased.NestedEquivalenceClassBasedAlgorithm;
 import featureSelection.repository.entity.alg.rec.classSet.impl.EquivalenceClass;
 import featureSelection.repository.entity.alg.rec.classSet.impl.NestedEquivalenceClass;
+import featureSelection.repository.entity.alg.rec.classSet.type.ClassSetType;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.AttrProcessStrategyParams;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.core.attributeCombination.AttrProcessStrategy4Comb;
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.core.attributeCombination.capacityCalculator.CapacityCal4SqrtAttrSize;
@@ -21,16 +22,20 @@ import featureSelection.repository.entity.alg.rec.extension.incrementalPartition
 import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.merger.DefaultNestedEquivalentClassesMerger;
 import featureSelection.repository.entity.alg.rec.nestedEC.impl.nestedEquivalenceClassesMerge.result.ReductionResult;
 import featureSelection.repository.entity.alg.rec.nestedEC.reductionResult.ReductionResult4Static;
+import featureSelection.repository.entity.alg.rec.nestedEC.streaming.ArrivalPipeline;
+import featureSelection.repository.entity.alg.rec.nestedEC.streaming.EquivalenceClassSlidingWindow;
 import featureSelection.repository.support.calculation.positiveRegion.roughEquivalenceClassBased.PositiveRegionCalculation4IPNEC;
 import featureSelection.repository.support.shrink.roughEquivalenceClassBased.extension.incrementalPartition.Shrink4RECBoundaryClassSetStays;
 import featureSelection.tester.procedure.basic.SegmentalDataTester;
 import featureSelection.tester.procedure.param.ParameterConstants;
 import featureSelection.tester.utils.ProcedureUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQRTester4StreamData Tester.
@@ -91,7 +96,7 @@ class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQRTester4
 				results = execIncrementalData(
 							part, execInstances, attributes,
 							previousReduct, previousSig,
-							previousNestedEquClasses
+							previousNestedEquClasses, null, null
 				);
 
 			previousReduct = results.getReduct();
@@ -99,11 +104,190 @@ class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQRTester4
 			previousNestedEquClasses = results.getWrappedInstances();
 
 			allInstances.addAll(execInstances);
+			assertSameAsRecomputation(allInstances, attributes, results);
 		}
 
 
 	}
 
+	@Test
+	public void testExecSlidingWindow() throws Exception {
+		// |C|
+		int attrLength = CollectionUtils.firstOf(sampleParts[0]).getAttributeValues().length-1;
+		// C
+		int[] attributes = ArrayUtils.initIncrementalValueIntArray(attrLength, 1, 1);
+		// Keep the latest |part 1| instances only.
+		EquivalenceClassSlidingWindow window = EquivalenceClassSlidingWindow.countBased(sampleParts[0].size());
+
+		/* ====================================== PART 1 ====================================== */
+
+		List<Instance> execInstances = sampleParts[0];
+		window.slide(execInstances, 0);
+		// Instances in the window.
+		LinkedList<Instance> windowInstances = new LinkedList<>(execInstances);
+
+		ReductionResult4Static<Collection<Integer>, Integer> result =
+				execStaticData(execInstances);
+
+		LoggerUtil.printLine(log, "-", 50);
+
+		/* ====================================== PART X ====================================== */
+
+		Collection<Integer> previousReduct = result.getReduct();
+		int previousSig = result.getReductSig();
+
+		// Obtain previous NEC.
+		Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previousNestedEquClasses =
+				NestedEquivalenceClassBasedAlgorithm
+						.Basic
+						.nestedEquivalenceClass(
+								NestedEquivalenceClassBasedAlgorithm
+										.Basic
+										.equivalenceClass(execInstances, new IntegerArrayIterator(attributes))
+										.values(),
+								new IntegerCollectionIterator(previousReduct)
+						).getNestedEquClasses();
+
+		for (int part=1; part<sampleParts.length; part++) {
+			execInstances = sampleParts[part];
+			// Slide the window and obtain equivalence classes of expired instances.
+			Map<IntArrayKey, EquivalenceClass> expiredEquClasses = window.slide(execInstances, part);
+
+			ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>,
+							Collection<Integer>, Integer>
+				results = execIncrementalData(
+							part, execInstances, attributes,
+							previousReduct, previousSig,
+							previousNestedEquClasses, null, expiredEquClasses
+				);
+
+			previousReduct = results.getReduct();
+			previousSig = results.getReductSig();
+			previousNestedEquClasses = results.getWrappedInstances();
+
+			for (int expired=windowInstances.size()+execInstances.size()-window.getCapacity(); expired>0; expired--)
+				windowInstances.removeFirst();
+			windowInstances.addAll(execInstances);
+			Assertions.assertEquals(windowInstances.size(), window.size());
+			assertSameAsRecomputation(windowInstances, attributes, results);
+
+			log.info(LoggerUtil.spaceFormat(1, "window: {}, |U| in NEC: {}"), window,
+					previousNestedEquClasses.values().stream()
+						.mapToInt(NestedEquivalenceClass::getInstanceSize)
+						.sum()
+			);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExecPipelined() throws Exception {
+		// |C|
+		int attrLength = CollectionUtils.firstOf(sampleParts[0]).getAttributeValues().length-1;
+		// C
+		int[] attributes = ArrayUtils.initIncrementalValueIntArray(attrLength, 1, 1);
+
+		/* ====================================== PART 1 ====================================== */
+
+		List<Instance> execInstances = sampleParts[0];
+		Collection<Instance> allInstances = new LinkedList<>(execInstances);
+
+		ReductionResult4Static<Collection<Integer>, Integer> result =
+				execStaticData(execInstances);
+
+		LoggerUtil.printLine(log, "-", 50);
+
+		/* ====================================== PART X ====================================== */
+
+		Object[] previous = new Object[] {
+				result.getReduct(),
+				result.getReductSig(),
+				NestedEquivalenceClassBasedAlgorithm
+						.Basic
+						.nestedEquivalenceClass(
+								NestedEquivalenceClassBasedAlgorithm
+										.Basic
+										.equivalenceClass(execInstances, new IntegerArrayIterator(attributes))
+										.values(),
+								new IntegerCollectionIterator(result.getReduct())
+						).getNestedEquClasses(),
+		};
+
+		// Compress the following parts in parallel while updating the current one.
+		try (ArrivalPipeline pipeline = new ArrivalPipeline(attributes, Runtime.getRuntime().availableProcessors())) {
+			pipeline.run(
+				Arrays.asList(sampleParts).subList(1, sampleParts.length).iterator(),
+				(index, instances, arrivedEquClasses) -> {
+					ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>,
+									Collection<Integer>, Integer>
+						results = execIncrementalData(
+									index+1, instances, attributes,
+									(Collection<Integer>) previous[0], (int) previous[1],
+									(Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>) previous[2],
+									arrivedEquClasses, null
+						);
+					previous[0] = results.getReduct();
+					previous[1] = results.getReductSig();
+					previous[2] = results.getWrappedInstances();
+
+					allInstances.addAll(instances);
+					assertSameAsRecomputation(allInstances, attributes, results);
+				}
+			);
+			log.info(LoggerUtil.spaceFormat(1, "pipeline: {}"), pipeline);
+		}
+	}
+
+	/**
+	 * Assert the incrementally updated result against the one recomputed from scratch over
+	 * <code>universe</code>:
+	 * <ul>
+	 * 	<li>Nested equivalence classes cover |U| instances;</li>
+	 * 	<li>the reduct significance equals the recomputed positive region of the reduct;</li>
+	 * 	<li>the dependency of the reduct equals the one of C.</li>
+	 * </ul>
+	 */
+	private static void assertSameAsRecomputation(
+			Collection<Instance> universe, int[] attributes,
+			ReductionResult<Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>>,
+							Collection<Integer>, Integer> result
+	) {
+		Assertions.assertEquals(
+				universe.size(),
+				result.getWrappedInstances().values().stream()
+					.mapToInt(NestedEquivalenceClass::getInstanceSize)
+					.sum(),
+				"|U| in nested equivalence classes"
+		);
+		Collection<EquivalenceClass> equClasses =
+				NestedEquivalenceClassBasedAlgorithm
+						.Basic
+						.equivalenceClass(universe, new IntegerArrayIterator(attributes))
+						.values();
+		int reductPositiveRegion = positiveRegionOf(equClasses, result.getReduct());
+		Assertions.assertEquals(reductPositiveRegion, result.getReductSig().intValue(),
+				"positive region of reduct "+result.getReduct()
+		);
+		Assertions.assertEquals(
+				positiveRegionOf(equClasses, Arrays.stream(attributes).boxed().collect(Collectors.toList()))
+					/ (double) universe.size(),
+				reductPositiveRegion / (double) universe.size(),
+				0,
+				"dependency of reduct "+result.getReduct()
+		);
+	}
+
+	private static int positiveRegionOf(Collection<EquivalenceClass> equClasses, Collection<Integer> attributes) {
+		return NestedEquivalenceClassBasedAlgorithm
+					.Basic
+					.nestedEquivalenceClass(equClasses, new IntegerCollectionIterator(attributes))
+					.getNestedEquClasses()
+					.values().stream()
+					.filter(nestedEquClass->ClassSetType.POSITIVE.equals(nestedEquClass.getType()))
+					.mapToInt(NestedEquivalenceClass::getInstanceSize)
+					.sum();
+	}
+
 	private ReductionResult4Static<Collection<Integer>, Integer> execStaticData(
 			Collection<Instance> dataset
 	) throws Exception {
@@ -187,7 +371,9 @@ class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQRTester4
 		execIncrementalData(
 			int part, Collection<Instance> incrementalInstances, int[] attributes,
 			Collection<Integer> previousReduct, int previousSig,
-			Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previousNestedEquClasses
+			Map<IntArrayKey, NestedEquivalenceClass<EquivalenceClass>> previousNestedEquClasses,
+			Map<IntArrayKey, EquivalenceClass> arrivedEquClasses,
+			Map<IntArrayKey, EquivalenceClass> expiredEquClasses
 	) throws Exception {
 
 		// Obtain attributes not in the previous reduct
@@ -259,7 +445,11 @@ class NestedEquivalenceClassBasedAlgorithmIncrementalPartitionHeuristicQRTester4
 				// previous info.: reduct significance
 				.setNonRoot(ParameterConstants.PARAMETER_PREVIOUS_REDUCT_SIG, previousSig)
 				// set parameter for IP-NEC incremental data NEC merging
-				.setNonRoot(ParameterConstants.PARAMETER_IP_NEC_DYNAMIC_DATA_EQUIVALENCE_CLASS_MERGER, new DefaultNestedEquivalentClassesMerger());
+				.setNonRoot(ParameterConstants.PARAMETER_IP_NEC_DYNAMIC_DATA_EQUIVALENCE_CLASS_MERGER, new DefaultNestedEquivalentClassesMerger())
+				// equivalence classes of arrived data compressed in advance, null to compress in procedure
+				.setNonRoot(ParameterConstants.PARAMETER_ARRIVED_EQUIVALENCE_CLASSES, arrivedEquClasses)
+				// (sliding window) equivalence classes of expired data, null if none
+				.setNonRoot(ParameterConstants.PARAMETER_EXPIRED_EQUIVALENCE_CLASSES, expiredEquClasses);
 
 		log.info("Part {}", part+1);
 		log.info(LoggerUtil.spaceFormat(1, "previous reduct: {}"), previousReduct);
@@ -21,12 +21,19 @@ import featureSelection.repository.entity.alg.rec.extension.incrementalPartition
 import featureSelection.repository.entity.opt.OptimizationReduct;
 import featureSelection.repository.entity.opt.artificialFishSwarm.ReductionParameters;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.distance.HammingDistanceAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.distance.HammingDistanceAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.follow.FishFollowAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.follow.FishFollowAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm.FishSwarmAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.swarm.FishSwarmAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.update.FishGroupUpdateAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.action.update.FishGroupUpdateAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.centerCalculation.PositionFishCenterCalculationAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fish.centerCalculation.PositionFishCenterCalculationAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fitness.algorithm.FitnessAlgorithm4ByteArray;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.fitness.algorithm.FitnessAlgorithm4LongArray;
 import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.ByteArrayPosition;
+import featureSelection.repository.entity.opt.artificialFishSwarm.impl.position.LongArrayPosition;
 import featureSelection.repository.entity.opt.artificialFishSwarm.interf.ReductionAlgorithm;
 import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicHashMap;
 import featureSelection.repository.support.calculation.dependency.classic.DependencyCalculation4ClassicSequential;
@@ -84,6 +91,18 @@ class ArtificialFishSwarmFeatureSelectionTesterTest
 		commonExec(parameters);
 	}
 
+	@Test
+	void testClassicHashMap4LongArray() throws Exception {
+		// get loaded parameters with bit-packed positions
+		ProcedureParameters parameters = getProcedureParameters(
+				new ClassicHashMapAttributeReductionFSA(),
+				DependencyCalculation4ClassicHashMap.class,
+				true
+		);
+
+		commonExec(parameters);
+	}
+
 	@Test
 	void testClassicSequential() throws Exception {
 		// get loaded parameters
@@ -277,35 +296,62 @@ class ArtificialFishSwarmFeatureSelectionTesterTest
 	<Sig extends Number> ProcedureParameters getProcedureParameters(
 			ReductionAlgorithm reductionAlgorithm,
 			Class<? extends FeatureImportance<Sig>> calculationClass
+	){
+		return getProcedureParameters(reductionAlgorithm, calculationClass, false);
+	}
+
+	<Sig extends Number> ProcedureParameters getProcedureParameters(
+			ReductionAlgorithm reductionAlgorithm,
+			Class<? extends FeatureImportance<Sig>> calculationClass,
+			boolean bitPacked
 	){
 		int attrLength = getAttributeLength();
 		int[] attributes = getAllConditionalAttributes();
 
 		int visual =  (int) FastMath.max(1, FastMath.ceil(attrLength * 0.5));
 
-		FitnessAlgorithm4ByteArray<DependencyCalculation4ClassicHashMap, Double> fitnessAlg =
-				new FitnessAlgorithm4ByteArray<>();
-		fitnessAlg.setA(fitnessDependencyProportion);
-		fitnessAlg.setLen(attrLength);
-
-		PositionFishCenterCalculationAlgorithm4ByteArray centerAlg =
-				new PositionFishCenterCalculationAlgorithm4ByteArray();
-		centerAlg.setPositionLength(attrLength);
-
 		ReductionParameters params = new ReductionParameters();
+		if (bitPacked) {
+			FitnessAlgorithm4LongArray<DependencyCalculation4ClassicHashMap, Double> fitnessAlg =
+					new FitnessAlgorithm4LongArray<>();
+			fitnessAlg.setA(fitnessDependencyProportion);
+			fitnessAlg.setLen(attrLength);
+
+			PositionFishCenterCalculationAlgorithm4LongArray centerAlg =
+					new PositionFishCenterCalculationAlgorithm4LongArray();
+			centerAlg.setPositionLength(attrLength);
+
+			params.setDistanceCount(new HammingDistanceAlgorithm4LongArray());
+			params.setFitnessAlgorthm(fitnessAlg);
+			params.setFishGroupUpdateAlgorithm(new FishGroupUpdateAlgorithm4LongArray());
+			params.setFishSwarmAlgorithm(new FishSwarmAlgorithm4LongArray<>());
+			params.setFishFollowAlgorithm(new FishFollowAlgorithm4LongArray<>());
+			params.setFishCenterCalculationAlgorithm(centerAlg);
+			params.setPositionClass(LongArrayPosition.class);
+		}else {
+			FitnessAlgorithm4ByteArray<DependencyCalculation4ClassicHashMap, Double> fitnessAlg =
+					new FitnessAlgorithm4ByteArray<>();
+			fitnessAlg.setA(fitnessDependencyProportion);
+			fitnessAlg.setLen(attrLength);
+
+			PositionFishCenterCalculationAlgorithm4ByteArray centerAlg =
+					new PositionFishCenterCalculationAlgorithm4ByteArray();
+			centerAlg.setPositionLength(attrLength);
+
+			params.setDistanceCount(new HammingDistanceAlgorithm4ByteArray());
+			params.setFitnessAlgorthm(fitnessAlg);
+			params.setFishGroupUpdateAlgorithm(new FishGroupUpdateAlgorithm4ByteArray());
+			params.setFishSwarmAlgorithm(new FishSwarmAlgorithm4ByteArray<>());
+			params.setFishFollowAlgorithm(new FishFollowAlgorithm4ByteArray<>());
+			params.setFishCenterCalculationAlgorithm(centerAlg);
+			params.setPositionClass(ByteArrayPosition.class);
+		}
 		params.setGroupSize(groupSize);
 		params.setVisual(visual);
 		params.setCFactor(cFactor);
 		params.setTryNumbers(tryNumber);
 		params.setIteration(iteration);
 		params.setMaxFishExit(-1);
-		params.setDistanceCount(new HammingDistanceAlgorithm4ByteArray());
-		params.setFitnessAlgorthm(fitnessAlg);
-		params.setFishGroupUpdateAlgorithm(new FishGroupUpdateAlgorithm4ByteArray());
-		params.setFishSwarmAlgorithm(new FishSwarmAlgorithm4ByteArray<>());
-		params.setFishFollowAlgorithm(new FishFollowAlgorithm4ByteArray<>());
-		params.setFishCenterCalculationAlgorithm(centerAlg);
-		params.setPositionClass(ByteArrayPosition.class);
 		params.setReductionAlgorithm(reductionAlgorithm);
 
 		ProcedureParameters parameters =
@@ -326,7 +372,7 @@ class ArtificialFishSwarmFeatureSelectionTesterTest
 
 	void commonExec(ProcedureParameters parameters) throws Exception {
 		// Create a procedure.
-		ArtificialFishSwarmFeatureSelectionTester<Double, byte[], ByteArrayPosition>
+		ArtificialFishSwarmFeatureSelectionTester<Double, ?, ?>
 				tester = new ArtificialFishSwarmFeatureSelectionTester<>(parameters, logOn);
 
 		// Execute
@@ -22,9 +22,15 @@ import featureSelection.repository.entity.alg.rec.extension.incrementalPartition
 import featureSelection.repository.entity.alg.rec.extension.incrementalPartition.impl.attributeProcessStrategy.partitionFactorBasedDynamicMultiAttribute.partitionFactorStrategy.PartitionFactorStrategy4SqrtAttrNumber;
 import featureSelection.repository.entity.opt.OptimizationReduct;
 import featureSelection.repository.entity.opt.genetic.ReductionParameters;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome.BitPackedGeneChromosome;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.bitPackedGeneChromosome.BitPackedGeneChromosome4REC;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.chromosomeEntity.razaChromosome.*;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.bitPackedGene.BitPackedGeneChromosomeInitialization;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.bitPackedGene.BitPackedGeneChromosomeInitializationParameters;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.razaGene.NumericGeneChromosomeInitialization;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.initialization.razaGene.NumericGeneChromosomeInitializationParameters;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.bitPackedGene.BitPackedGeneMutation;
+import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.bitPackedGene.BitPackedGeneMutationParameters;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.razaGene.NumericChromosomeRandomMutation;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.code.mutation.razaGene.RazaRandomMutationParameters;
 import featureSelection.repository.entity.opt.genetic.impl.chromosome.cross.ReverseSequenceChromosomeCross;
@@ -371,6 +377,55 @@ class GeneticAlgorithmFeatureSelectionTesterTest
 		System.out.println("statistics : "+ ProcedureUtils.Statistics.combineProcedureStatics(tester));
 	}
 
+	@Test
+	void testRSCREC4BitPackedGene() throws Exception {
+		// obtain attributes = {1, 2, ..., C}
+		int[] attributes = getAllConditionalAttributes();
+		// |C|
+		int attrLength = getAttributeLength();
+
+		// set & check mutateSize
+		mutateSize = attrLength / 5;
+		if (mutateSize<=0){
+			mutateSize=1;
+		}
+
+		// get loaded parameters with bit-packed genes
+		ProcedureParameters parameters =
+				getBitPackedGeneProcedureParameters(
+						attrLength, attributes,
+						BitPackedGeneChromosome4REC.class,
+						new RealtimeSimpleCountingRECBasedGA<>(BitPackedGeneChromosome4REC.class, instances.size()),
+						PositiveRegionCalculation4RSCREC.class
+				);
+
+		// Create a procedure.
+		GeneticAlgorithmFeatureSelectionTester<BitPackedGeneChromosome4REC, FitnessValue<Double>>
+				tester = new GeneticAlgorithmFeatureSelectionTester<>(parameters, logOn);
+
+		// set initiate procedure for S-REC
+		tester.getComponent("Initiate")
+				.setSubProcedureContainer(
+						"GeneticAlgorithmInitiateProcedureContainer",
+						new GeneticAlgorithmInitiateProcedureContainer4REC<>(tester.getParameters(), logOn)
+				);
+
+		// Execute
+		Map<IntArrayKey, Collection<OptimizationReduct>> reducts = tester.exec();
+		// print results.
+		int i=1;
+		System.out.println("distinct reduct list: ");
+		for (IntArrayKey distinctReduct: reducts.keySet()){
+			System.out.println((i++)+": "+ Arrays.toString(distinctReduct.getKey()));
+			if (i>20){
+				break;
+			}
+		}
+		System.out.println("total time : "+tester.getTime());
+		System.out.println("tag time : "+tester.getTimeDetailByTags());
+		System.out.println("statistics : "+ ProcedureUtils.Statistics.combineProcedureStatics(tester));
+	}
+
 	@Test
 	void testIPREC() throws Exception {
 		// obtain attributes = {1, 2, ..., C}
@@ -624,6 +679,58 @@ class GeneticAlgorithmFeatureSelectionTesterTest
 		return parameters;
 	}
 
+	private <FI extends FeatureImportance<Sig>, Sig extends Number, CollectionItem,
+			 Chr extends BitPackedGeneChromosome> ProcedureParameters
+		getBitPackedGeneProcedureParameters(
+			int attrLength, int[] attributes,
+			Class<Chr> chromosomeClass, ReductionAlgorithm reductionAlgorithm,
+			Class<FI> calculationClass
+	){
+		// Set parameters for GA
+		BitPackedGeneChromosomeInitialization<Chr> chromosomeInitAlg =
+				new BitPackedGeneChromosomeInitialization<>(
+						new BitPackedGeneChromosomeInitializationParameters<>(
+								population, attrLength, attributes, initGeneRate,
+								chromosomeClass
+						)
+				);
+		BitPackedGeneMutation<Chr> mutationAlg =
+				new BitPackedGeneMutation<>(
+						new BitPackedGeneMutationParameters<>(
+								chromosomeClass,
+								mutateSize, mutateRate
+						)
+				);
+
+		// Load GA parameters
+		ReductionParameters<FI, Sig, CollectionItem, Chr, FitnessValue<Sig>> params =
+				new ReductionParameters<>();
+		params.setPopulation(population);
+		params.setChromosomeLength(attrLength);
+		params.setChromosomeSwitchNum(attrLength/2);
+		params.setReserveNum(reserveNum);
+		params.setIterateNum(iteration);
+		params.setConvergenceLimit(convergence);
+		params.setMaxFitness(null);
+		params.setChromosomeInitAlgorithm(chromosomeInitAlg);
+		params.setMutationAlgorithm(mutationAlg);
+		params.setCrossAlgorithm(new ReverseSequenceChromosomeCross<>());
+		params.setReductionAlgorithm(reductionAlgorithm);
+
+		// Load parameters for procedure.
+		return new ProcedureParameters()
+				// U
+				.set(true, ParameterConstants.PARAMETER_UNIVERSE_INSTANCES, instances)
+				// C
+				.set(true, ParameterConstants.PARAMETER_ATTRIBUTES, attributes)
+
+				.set(true, ParameterConstants.PARAMETER_SIG_CALCULATION_CLASS, calculationClass)
+				.set(true, ParameterConstants.PARAMETER_SIG_DEVIATION, sigDeviation)
+
+				.set(true, ParameterConstants.PARAMETER_OPTIMIZATION_PARAMETERS, params)
+				.set(true, ParameterConstants.PARAMETER_RANDOM_INSTANCE, new Random(randomSeed));
+	}
+
 	private <Chr extends RazaChromosome, Sig extends Number> void commonExec(
 			ProcedureParameters parameters
 	) throws Exception {